@@ -0,0 +1,102 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.coinbasemanager.exchangepro.analytics.BookAnalytics;
+import com.tecknobit.coinbasemanager.exchangepro.books.L2OrderBook;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.PRODUCT_ID;
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.book;
+
+/**
+ * The {@code AnalyticsBenchmark} class is useful to measure the analytics of the books, on a {@link CompactBook} and
+ * on a live {@link L2OrderBook}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see BookAnalytics
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnalyticsBenchmark {
+
+    /**
+     * {@code levels} is instance that memorizes the number of levels of each side of the book
+     */
+    @Param({"50", "1000"})
+    public int levels;
+
+    /**
+     * {@code compactBook} is instance that memorizes the book as {@link CompactBook}
+     */
+    private CompactBook compactBook;
+
+    /**
+     * {@code liveBook} is instance that memorizes the book as {@link L2OrderBook}
+     */
+    private L2OrderBook liveBook;
+
+    /**
+     * {@code size} is instance that memorizes the size bought, about a half of the asks side
+     */
+    private double size;
+
+    /**
+     * Method to prepare the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        compactBook = CompactBook.parse(PRODUCT_ID, book(levels).toString());
+        liveBook = new L2OrderBook(PRODUCT_ID);
+        liveBook.load(compactBook);
+        size = compactBook.getAsks().getTotalSize() / 2;
+    }
+
+    /**
+     * Method to compute the volume weighted average price to buy the {@link #size} on the {@link CompactBook} <br>
+     * No-any params required
+     *
+     * @return average price as double
+     */
+    @Benchmark
+    public double vwap() {
+        return BookAnalytics.getVwap(compactBook, true, size);
+    }
+
+    /**
+     * Method to compute the volume weighted average price to buy the {@link #size} on the {@link L2OrderBook} <br>
+     * No-any params required
+     *
+     * @return average price as double
+     */
+    @Benchmark
+    public double liveVwap() {
+        return BookAnalytics.getVwap(liveBook, true, size);
+    }
+
+    /**
+     * Method to compute the slippage to buy the {@link #size} on the {@link L2OrderBook} <br>
+     * No-any params required
+     *
+     * @return slippage in basis points as double
+     */
+    @Benchmark
+    public double liveSlippage() {
+        return BookAnalytics.getSlippageBps(liveBook, true, size);
+    }
+
+    /**
+     * Method to compute the imbalance within 10 basis points of the mid price on the {@link L2OrderBook} <br>
+     * No-any params required
+     *
+     * @return imbalance as double
+     */
+    @Benchmark
+    public double liveImbalance() {
+        return BookAnalytics.getImbalance(liveBook, 10);
+    }
+
+}
@@ -0,0 +1,322 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.recording.ReplayTransport;
+import com.tecknobit.coinbasemanager.exchangepro.recording.TrafficRecord;
+import com.tecknobit.coinbasemanager.exchangepro.recording.TrafficRecording;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+
+/**
+ * The {@code BenchmarkData} class is useful to generate the deterministic data used by the benchmarks, with the same
+ * shape of the {@code "Coinbase"} responses
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public final class BenchmarkData {
+
+    /**
+     * {@code API_KEY} is constant for the api key used by the benchmarks
+     */
+    public static final String API_KEY = "benchmark-key";
+
+    /**
+     * {@code API_SECRET} is constant for the api secret used by the benchmarks
+     */
+    public static final String API_SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-of-thirty-two-b".getBytes(StandardCharsets.UTF_8));
+
+    /**
+     * {@code PASSPHRASE} is constant for the passphrase used by the benchmarks
+     */
+    public static final String PASSPHRASE = "benchmark-passphrase";
+
+    /**
+     * {@code PRODUCT_ID} is constant for the product used by the benchmarks
+     */
+    public static final String PRODUCT_ID = "BTC-USD";
+
+    /**
+     * {@code ACCOUNT_ID} is constant for the account used by the benchmarks
+     */
+    public static final String ACCOUNT_ID = "71452118-efc7-4cc4-8780-a5e22d4baa53";
+
+    /**
+     * {@code SEED} is constant for the seed of the random values, so each run uses the same data
+     */
+    private static final long SEED = 0xC01BA5EL;
+
+    /**
+     * {@code TIME} is constant for the time of the records generated
+     */
+    private static final String TIME = "2023-03-14T15:09:26.535Z";
+
+    /**
+     * Constructor to init a {@link BenchmarkData} <br>
+     * No-any params required
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Method to generate a level 2 book
+     *
+     * @param levels: number of levels of each side
+     * @return book as {@link JSONObject}
+     */
+    public static JSONObject book(int levels) {
+        Random random = new Random(SEED);
+        JSONArray bids = new JSONArray();
+        JSONArray asks = new JSONArray();
+        for (int j = 0; j < levels; j++) {
+            bids.put(new JSONArray().put(decimal(29_999.99 - j * 0.01)).put(decimal(random.nextInt(200_000) / 1e5))
+                    .put(1 + random.nextInt(12)));
+            asks.put(new JSONArray().put(decimal(30_000.01 + j * 0.01)).put(decimal(random.nextInt(200_000) / 1e5))
+                    .put(1 + random.nextInt(12)));
+        }
+        return new JSONObject()
+                .put("bids", bids)
+                .put("asks", asks)
+                .put("sequence", 61_837_921_011L)
+                .put("auction_mode", false)
+                .put("auction", JSONObject.NULL)
+                .put("time", TIME);
+    }
+
+    /**
+     * Method to generate a list of orders
+     *
+     * @param size: number of orders
+     * @return orders as {@link JSONArray}
+     */
+    public static JSONArray orders(int size) {
+        Random random = new Random(SEED);
+        JSONArray orders = new JSONArray();
+        for (int j = 0; j < size; j++) {
+            boolean filled = random.nextBoolean();
+            orders.put(new JSONObject()
+                    .put("id", uuid(random))
+                    .put("price", decimal(29_000 + random.nextInt(200_000) / 100.0))
+                    .put("size", decimal(random.nextInt(100_000) / 1e5 + 0.001))
+                    .put("product_id", PRODUCT_ID)
+                    .put("profile_id", uuid(random))
+                    .put("side", random.nextBoolean() ? "buy" : "sell")
+                    .put("type", "limit")
+                    .put("time_in_force", "GTC")
+                    .put("post_only", random.nextBoolean())
+                    .put("created_at", TIME)
+                    .put("fill_fees", decimal(filled ? random.nextInt(10_000) / 100.0 : 0))
+                    .put("filled_size", decimal(filled ? random.nextInt(100_000) / 1e5 : 0))
+                    .put("executed_value", decimal(filled ? random.nextInt(3_000_000) / 100.0 : 0))
+                    .put("status", filled ? "done" : "open")
+                    .put("settled", filled));
+        }
+        return orders;
+    }
+
+    /**
+     * Method to generate a list of fills
+     *
+     * @param size: number of fills
+     * @return fills as {@link JSONArray}
+     */
+    public static JSONArray fills(int size) {
+        Random random = new Random(SEED);
+        JSONArray fills = new JSONArray();
+        for (int j = 0; j < size; j++) {
+            double price = 29_000 + random.nextInt(200_000) / 100.0;
+            double fillSize = random.nextInt(100_000) / 1e5 + 0.001;
+            fills.put(new JSONObject()
+                    .put("trade_id", 74_000_000L + j)
+                    .put("product_id", PRODUCT_ID)
+                    .put("order_id", uuid(random))
+                    .put("user_id", "5cf6e115aaf44503db300f1e")
+                    .put("profile_id", uuid(random))
+                    .put("liquidity", random.nextBoolean() ? "T" : "M")
+                    .put("price", decimal(price))
+                    .put("size", decimal(fillSize))
+                    .put("fee", decimal(price * fillSize * 0.006))
+                    .put("created_at", TIME)
+                    .put("side", random.nextBoolean() ? "buy" : "sell")
+                    .put("settled", true)
+                    .put("usd_volume", decimal(price * fillSize)));
+        }
+        return fills;
+    }
+
+    /**
+     * Method to generate a list of ledgers
+     *
+     * @param size: number of ledgers
+     * @return ledgers as {@link JSONArray}
+     */
+    public static JSONArray ledgers(int size) {
+        Random random = new Random(SEED);
+        JSONArray ledgers = new JSONArray();
+        double balance = 0;
+        for (int j = 0; j < size; j++) {
+            double amount = random.nextInt(1_000_000) / 100.0;
+            balance += amount;
+            ledgers.put(new JSONObject()
+                    .put("id", String.valueOf(4_000_000_000L + j))
+                    .put("amount", decimal(amount))
+                    .put("created_at", TIME)
+                    .put("balance", decimal(balance))
+                    .put("type", "transfer")
+                    // Ledger reads its details from the top level of each entry
+                    .put("to", uuid(random))
+                    .put("from", uuid(random))
+                    .put("profile_transfer_id", uuid(random))
+                    .put("details", new JSONObject()
+                            .put("to", uuid(random))
+                            .put("from", uuid(random))
+                            .put("profile_transfer_id", uuid(random))));
+        }
+        return ledgers;
+    }
+
+    /**
+     * Method to create a recording with the responses of the endpoints used by the benchmarks
+     *
+     * @param size: number of items of the lists and of levels of the book
+     * @return recording as {@link TrafficRecording}
+     */
+    public static TrafficRecording recording(int size) {
+        List<TrafficRecord> records = new ArrayList<>();
+        records.add(record("/products/" + PRODUCT_ID + "/book", book(size).toString()));
+        records.add(record("/orders", orders(size).toString()));
+        records.add(record("/fills", fills(size).toString()));
+        records.add(record("/accounts/" + ACCOUNT_ID + "/ledger", ledgers(size).toString()));
+        return new TrafficRecording(records);
+    }
+
+    /**
+     * Method to prepare a manager for the benchmarks, serving the responses of {@link #recording(int)} without any
+     * request and without pacing the requests
+     *
+     * @param manager:   manager to prepare
+     * @param recording: recording to serve
+     * @return manager prepared
+     */
+    public static <T extends CoinbaseManager> T prepare(T manager, TrafficRecording recording) {
+        manager.setTransport(new ReplayTransport(recording, ReplayTransport.NO_DELAY));
+        manager.setRateLimiter(CoinbaseRateLimiter.unlimited());
+        return manager;
+    }
+
+    /**
+     * Method to generate the messages of the feed, as received from the {@code "ticker"}, {@code "matches"} and
+     * {@code "level2"} channels
+     *
+     * @param size: number of the messages
+     * @return messages as array of {@link String}
+     */
+    public static String[] feedMessages(int size) {
+        Random random = new Random(SEED);
+        String[] messages = new String[size];
+        long sequence = 61_837_921_011L;
+        for (int j = 0; j < size; j++) {
+            double price = 29_900 + random.nextInt(20_000) / 100.0;
+            JSONObject message;
+            switch (j % 4) {
+                case 0:
+                    message = new JSONObject()
+                            .put("type", "ticker")
+                            .put("sequence", sequence++)
+                            .put("product_id", PRODUCT_ID)
+                            .put("price", decimal(price))
+                            .put("open_24h", decimal(29_500))
+                            .put("volume_24h", decimal(random.nextInt(2_000_000) / 100.0))
+                            .put("best_bid", decimal(price - 0.01))
+                            .put("best_ask", decimal(price))
+                            .put("side", "buy")
+                            .put("time", TIME)
+                            .put("trade_id", 74_000_000L + j)
+                            .put("last_size", decimal(random.nextInt(100_000) / 1e5));
+                    break;
+                case 1:
+                    message = new JSONObject()
+                            .put("type", "match")
+                            .put("trade_id", 74_000_000L + j)
+                            .put("maker_order_id", uuid(random))
+                            .put("taker_order_id", uuid(random))
+                            .put("side", random.nextBoolean() ? "buy" : "sell")
+                            .put("size", decimal(random.nextInt(100_000) / 1e5))
+                            .put("price", decimal(price))
+                            .put("product_id", PRODUCT_ID)
+                            .put("sequence", sequence++)
+                            .put("time", TIME);
+                    break;
+                default:
+                    message = new JSONObject()
+                            .put("type", "l2update")
+                            .put("product_id", PRODUCT_ID)
+                            .put("changes", new JSONArray().put(new JSONArray()
+                                    .put(random.nextBoolean() ? "buy" : "sell")
+                                    .put(decimal(price))
+                                    .put(decimal(random.nextInt(200_000) / 1e5))))
+                            .put("time", TIME);
+            }
+            messages[j] = message.toString();
+        }
+        return messages;
+    }
+
+    /**
+     * Method to generate query params
+     *
+     * @param size: number of the params
+     * @return query params as {@link Params}
+     */
+    public static Params params(int size) {
+        Params params = new Params();
+        for (int j = 0; j < size; j++)
+            params.addParam("param_" + j, j % 2 == 0 ? "value-" + j : j * 1000.5);
+        return params;
+    }
+
+    /**
+     * Method to create a successful record
+     *
+     * @param endpoint: endpoint of the record
+     * @param body:     body of the response
+     * @return record as {@link TrafficRecord}
+     */
+    private static TrafficRecord record(String endpoint, String body) {
+        return new TrafficRecord(0, GET, endpoint, null, 200, body, 0, body.length(), null);
+    }
+
+    /**
+     * Method to generate a random identifier
+     *
+     * @param random: generator of the random values
+     * @return identifier as {@link String}
+     */
+    private static String uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    /**
+     * Method to format a decimal value as {@code "Coinbase"} does
+     *
+     * @param value: value to format
+     * @return value formatted as {@link String}
+     */
+    private static String decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_EVEN).toPlainString();
+    }
+
+}
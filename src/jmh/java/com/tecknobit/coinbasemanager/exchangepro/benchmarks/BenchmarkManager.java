@@ -0,0 +1,48 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.*;
+
+/**
+ * The {@code BenchmarkManager} class is useful to expose to the benchmarks the signing and the query params
+ * assembling of the {@link CoinbaseManager}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class BenchmarkManager extends CoinbaseManager {
+
+    /**
+     * Constructor to init a {@link BenchmarkManager} <br>
+     * No-any params required
+     */
+    public BenchmarkManager() {
+        super(API_KEY, API_SECRET, PASSPHRASE);
+    }
+
+    /**
+     * Method to create a signed request
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request with its query params
+     * @param body:     body params of the request, can be {@code null}
+     * @return signed request as {@link CoinbaseRequest}
+     */
+    public CoinbaseRequest sign(RequestMethod method, String endpoint, Params body) throws Exception {
+        return signRequest(method, endpoint, body);
+    }
+
+    /**
+     * Method to assemble query params
+     *
+     * @param defParams:   default params of the query
+     * @param queryParams: value and key of query params to assemble
+     * @return query params as {@link String}
+     */
+    public String assemble(String defParams, Params queryParams) {
+        return assembleQueryParams(defParams, queryParams);
+    }
+
+}
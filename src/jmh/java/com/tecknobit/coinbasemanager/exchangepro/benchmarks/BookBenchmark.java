@@ -0,0 +1,97 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.PRODUCT_ID;
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.book;
+
+/**
+ * The {@code BookBenchmark} class is useful to measure the parsing of the books, from their text as received and from
+ * their {@link JSONObject} already parsed, as {@link Book} and as {@link CompactBook}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see Book
+ * @see CompactBook
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookBenchmark {
+
+    /**
+     * {@code levels} is instance that memorizes the number of levels of each side of the book
+     */
+    @Param({"50", "1000", "10000"})
+    public int levels;
+
+    /**
+     * {@code jBook} is instance that memorizes the book as {@link JSONObject}
+     */
+    private JSONObject jBook;
+
+    /**
+     * {@code textBook} is instance that memorizes the book as received
+     */
+    private String textBook;
+
+    /**
+     * Method to prepare the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        jBook = book(levels);
+        textBook = jBook.toString();
+    }
+
+    /**
+     * Method to create a {@link Book} from its {@link JSONObject} <br>
+     * No-any params required
+     *
+     * @return book as {@link Book}
+     */
+    @Benchmark
+    public Book fromJSON() {
+        return new Book(jBook);
+    }
+
+    /**
+     * Method to create a {@link Book} from its text, as done when a book is requested <br>
+     * No-any params required
+     *
+     * @return book as {@link Book}
+     */
+    @Benchmark
+    public Book fromText() {
+        return new Book(new JSONObject(textBook));
+    }
+
+    /**
+     * Method to parse only the text of the book, to separate the cost of the JSON parsing from the cost of the
+     * {@link Book} creation <br>
+     * No-any params required
+     *
+     * @return book as {@link JSONObject}
+     */
+    @Benchmark
+    public JSONObject parseText() {
+        return new JSONObject(textBook);
+    }
+
+    /**
+     * Method to create a {@link CompactBook} from its text, as done when a compact book is requested <br>
+     * No-any params required
+     *
+     * @return book as {@link CompactBook}
+     */
+    @Benchmark
+    public CompactBook compactFromText() {
+        return CompactBook.parse(PRODUCT_ID, textBook);
+    }
+
+}
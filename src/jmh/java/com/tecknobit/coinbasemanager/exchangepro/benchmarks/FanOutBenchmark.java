@@ -0,0 +1,104 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeCoinbaseExchange;
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Stat;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.*;
+
+/**
+ * The {@code FanOutBenchmark} class is useful to measure the bulk requests sent for each product against the
+ * {@link FakeCoinbaseExchange}, with a fixed latency for each response, comparing the max number of concurrent
+ * requests and the rate limiter used
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote with the {@code "unlimited"} limiter the time of a bulk request is about the latency multiplied by the
+ * products and divided by the concurrency. With the {@code "default"} one the public requests are paced at
+ * {@link CoinbaseRateLimiter#DEFAULT_PUBLIC_RATE} per second after a burst of
+ * {@link CoinbaseRateLimiter#DEFAULT_PUBLIC_BURST}: once the burst is spent, each bulk request waits about a tenth of
+ * second for each product whatever the concurrency, so the fan-out speeds up only the first bulk requests, while the
+ * burst is available
+ * @see CoinbaseProductsManager#setFanOutConcurrency(int)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FanOutBenchmark {
+
+    /**
+     * {@code PRODUCTS} is constant for the number of the products added to the default ones of the exchange, each one
+     * requested by the bulk requests
+     */
+    private static final int PRODUCTS = 32;
+
+    /**
+     * {@code LATENCY} is constant for the latency in millis of each response of the exchange
+     */
+    private static final long LATENCY = 20;
+
+    /**
+     * {@code concurrency} is instance that memorizes the max number of concurrent requests of the bulk requests
+     */
+    @Param({"1", "4", "16"})
+    public int concurrency;
+
+    /**
+     * {@code limiter} is instance that memorizes the rate limiter used, {@code "default"} with the {@code "Coinbase"}
+     * limits or {@code "unlimited"}
+     */
+    @Param({"unlimited", "default"})
+    public String limiter;
+
+    /**
+     * {@code exchange} is instance that memorizes the exchange requested
+     */
+    private FakeCoinbaseExchange exchange;
+
+    /**
+     * {@code productsManager} is instance that memorizes the manager that sends the bulk requests
+     */
+    private CoinbaseProductsManager productsManager;
+
+    /**
+     * Method to prepare the benchmark <br>
+     * No-any params required
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        exchange = new FakeCoinbaseExchange().start();
+        for (int j = 0; j < PRODUCTS; j++)
+            exchange.getState().addProduct("P" + j + "-USD", 100 + j, 0.01, 0.00000001, 1);
+        exchange.setLatency(LATENCY, LATENCY);
+        productsManager = new CoinbaseProductsManager(API_KEY, API_SECRET, PASSPHRASE);
+        productsManager.setTransport(exchange.createTransport());
+        productsManager.setRateLimiter(limiter.equals("unlimited") ? CoinbaseRateLimiter.unlimited() :
+                new CoinbaseRateLimiter());
+        productsManager.setFanOutConcurrency(concurrency);
+    }
+
+    /**
+     * Method to stop the exchange <br>
+     * No-any params required
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        exchange.close();
+    }
+
+    /**
+     * Method to request the stats of all the products <br>
+     * No-any params required
+     *
+     * @return stats of the products as {@link ArrayList} of {@link Stat}
+     */
+    @Benchmark
+    public ArrayList<Stat> getAllProductsStats() throws Exception {
+        return productsManager.getAllProductsStats();
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Ticker;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Trade;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.FeedListener;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.FeedMessageParser;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L2Update;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.PRODUCT_ID;
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.book;
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.feedMessages;
+
+/**
+ * The {@code FeedBenchmark} class is useful to measure the parsing and the dispatching of the messages of the feed,
+ * the cost paid for each update instead of a request
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see FeedMessageParser
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FeedBenchmark {
+
+    /**
+     * {@code MESSAGES} is constant for the number of the messages dispatched for each invocation
+     */
+    private static final int MESSAGES = 1024;
+
+    /**
+     * {@code messages} is instance that memorizes the messages of the feed
+     */
+    private String[] messages;
+
+    /**
+     * {@code snapshot} is instance that memorizes the snapshot of a book with 1000 levels of each side
+     */
+    private String snapshot;
+
+    /**
+     * {@code listener} is instance that memorizes the listener which consumes the messages
+     */
+    private FeedListener listener;
+
+    /**
+     * Method to prepare the benchmark
+     *
+     * @param blackhole: blackhole which consumes the messages parsed
+     */
+    @Setup
+    public void setup(Blackhole blackhole) {
+        messages = feedMessages(MESSAGES);
+        snapshot = book(1000).put("type", "snapshot").put("product_id", PRODUCT_ID).toString();
+        listener = new FeedListener() {
+
+            @Override
+            public void onTicker(Ticker ticker, long sequence) {
+                blackhole.consume(ticker);
+            }
+
+            @Override
+            public void onMatch(String productId, Trade trade, long sequence) {
+                blackhole.consume(trade);
+            }
+
+            @Override
+            public void onSnapshot(Book book) {
+                blackhole.consume(book);
+            }
+
+            @Override
+            public void onL2Update(L2Update update) {
+                blackhole.consume(update);
+            }
+
+            @Override
+            public void onMessage(JSONObject message) {
+                blackhole.consume(message);
+            }
+
+        };
+    }
+
+    /**
+     * Method to dispatch a mix of ticker, match and l2update messages, the time reported is for each message <br>
+     * No-any params required
+     */
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void dispatch() {
+        for (String message : messages)
+            FeedMessageParser.dispatch(message, listener);
+    }
+
+    /**
+     * Method to dispatch the snapshot of a book <br>
+     * No-any params required
+     *
+     * @return type of the message as {@link String}
+     */
+    @Benchmark
+    public String dispatchSnapshot() {
+        return FeedMessageParser.dispatch(snapshot, listener);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.params;
+
+/**
+ * The {@code QueryParamsBenchmark} class is useful to measure the building of the query params of the requests
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryParamsBenchmark {
+
+    /**
+     * {@code size} is instance that memorizes the number of the query params
+     */
+    @Param({"2", "8", "32"})
+    public int size;
+
+    /**
+     * {@code queryParams} is instance that memorizes the query params to build
+     */
+    private Params queryParams;
+
+    /**
+     * {@code manager} is instance that memorizes the manager that assembles the query params
+     */
+    private BenchmarkManager manager;
+
+    /**
+     * Method to prepare the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        queryParams = params(size);
+        manager = new BenchmarkManager();
+    }
+
+    /**
+     * Method to build the query params with {@link Params#createQueryString()} <br>
+     * No-any params required
+     *
+     * @return query params as {@link String}
+     */
+    @Benchmark
+    public String createQueryString() {
+        return queryParams.createQueryString();
+    }
+
+    /**
+     * Method to append the query params to default ones, as the managers do with the optional params <br>
+     * No-any params required
+     *
+     * @return query params as {@link String}
+     */
+    @Benchmark
+    public String assembleQueryParams() {
+        return manager.assemble("?product_id=BTC-USD", queryParams);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.ReturnFormat;
+import com.tecknobit.coinbasemanager.exchangepro.account.CoinbaseAccountManager;
+import com.tecknobit.coinbasemanager.exchangepro.orders.CoinbaseOrdersManager;
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.recording.TrafficRecording;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.*;
+import static com.tecknobit.coinbasemanager.exchangepro.orders.records.Order.*;
+
+/**
+ * The {@code ReturnFormatBenchmark} class is useful to measure the requests of the managers with each
+ * {@link ReturnFormat}, so the conversions of the lists of orders, fills and ledgers and of the books are measured
+ * together with the signing and the pipeline of the requests
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the responses are served by a {@link com.tecknobit.coinbasemanager.exchangepro.recording.ReplayTransport}
+ * without any delay and the requests are not paced, so no request is sent on the network
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReturnFormatBenchmark {
+
+    /**
+     * {@code format} is instance that memorizes the format of the responses
+     */
+    @Param({"STRING", "JSON", "LIBRARY_OBJECT"})
+    public ReturnFormat format;
+
+    /**
+     * {@code size} is instance that memorizes the number of items of the lists and of levels of the books
+     */
+    @Param({"100", "1000"})
+    public int size;
+
+    /**
+     * {@code productsManager} is instance that memorizes the manager of the books
+     */
+    private CoinbaseProductsManager productsManager;
+
+    /**
+     * {@code ordersManager} is instance that memorizes the manager of the orders and of the fills
+     */
+    private CoinbaseOrdersManager ordersManager;
+
+    /**
+     * {@code accountManager} is instance that memorizes the manager of the ledgers
+     */
+    private CoinbaseAccountManager accountManager;
+
+    /**
+     * Method to prepare the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        TrafficRecording recording = recording(size);
+        productsManager = prepare(new CoinbaseProductsManager(API_KEY, API_SECRET, PASSPHRASE), recording);
+        ordersManager = prepare(new CoinbaseOrdersManager(API_KEY, API_SECRET, PASSPHRASE), recording);
+        accountManager = prepare(new CoinbaseAccountManager(API_KEY, API_SECRET, PASSPHRASE), recording);
+    }
+
+    /**
+     * Method to request a book <br>
+     * No-any params required
+     *
+     * @return book as {@link #format} defines
+     */
+    @Benchmark
+    public Object book() throws Exception {
+        return productsManager.getProductBook(PRODUCT_ID, 2, format);
+    }
+
+    /**
+     * Method to request a list of orders <br>
+     * No-any params required
+     *
+     * @return orders as {@link #format} defines
+     */
+    @Benchmark
+    public Object orders() throws Exception {
+        return ordersManager.getAllOrders(size, Sorter.created_at, SortingOrder.desc, Status.all, format);
+    }
+
+    /**
+     * Method to request a list of fills <br>
+     * No-any params required
+     *
+     * @return fills as {@link #format} defines
+     */
+    @Benchmark
+    public Object fills() throws Exception {
+        return ordersManager.getAllFillsByProductId(PRODUCT_ID, format);
+    }
+
+    /**
+     * Method to request a list of ledgers <br>
+     * No-any params required
+     *
+     * @return ledgers as {@link #format} defines
+     */
+    @Benchmark
+    public Object ledgers() throws Exception {
+        return accountManager.getAccountProfileLedgers(ACCOUNT_ID, new Params(), format);
+    }
+
+}
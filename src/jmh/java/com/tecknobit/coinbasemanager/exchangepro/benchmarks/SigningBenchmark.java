@@ -0,0 +1,128 @@
+package com.tecknobit.coinbasemanager.exchangepro.benchmarks;
+
+import com.tecknobit.apimanager.apis.APIRequest;
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseSigner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.apimanager.apis.APIRequest.HMAC_SHA256_ALGORITHM;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+import static com.tecknobit.coinbasemanager.exchangepro.benchmarks.BenchmarkData.*;
+
+/**
+ * The {@code SigningBenchmark} class is useful to measure the signing of the requests, from the bare signature to the
+ * complete signed request with its headers
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see CoinbaseSigner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SigningBenchmark {
+
+    /**
+     * {@code ENDPOINT} is constant for the endpoint of the requests signed
+     */
+    private static final String ENDPOINT = "/orders?status=open&product_id=BTC-USD&limit=100";
+
+    /**
+     * {@code BODY} is constant for the body of the requests signed
+     */
+    private static final String BODY = "{\"product_id\":\"BTC-USD\",\"side\":\"buy\",\"type\":\"limit\"," +
+            "\"price\":\"29500.01\",\"size\":\"0.125\",\"time_in_force\":\"GTC\",\"post_only\":true}";
+
+    /**
+     * {@code signer} is instance that memorizes the signer of the requests
+     */
+    private CoinbaseSigner signer;
+
+    /**
+     * {@code manager} is instance that memorizes the manager that creates the signed requests
+     */
+    private BenchmarkManager manager;
+
+    /**
+     * {@code payload} is instance that memorizes the body params of the requests signed
+     */
+    private Params payload;
+
+    /**
+     * {@code timestamp} is instance that memorizes the timestamp of the requests signed
+     */
+    private String timestamp;
+
+    /**
+     * Method to prepare the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        signer = new CoinbaseSigner(API_SECRET);
+        manager = new BenchmarkManager();
+        payload = params(7);
+        timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * Method to sign a {@code "GET"} request with the {@link CoinbaseSigner} <br>
+     * No-any params required
+     *
+     * @return signature of the request as {@link String}
+     */
+    @Benchmark
+    public String signerGET() {
+        return signer.sign(timestamp, "GET", ENDPOINT, null);
+    }
+
+    /**
+     * Method to sign a {@code "POST"} request with the {@link CoinbaseSigner} <br>
+     * No-any params required
+     *
+     * @return signature of the request as {@link String}
+     */
+    @Benchmark
+    public String signerPOST() {
+        return signer.sign(timestamp, "POST", "/orders", BODY);
+    }
+
+    /**
+     * Method to sign a {@code "POST"} request with {@link APIRequest#getBase64Signature(String, String, String)}, the
+     * way the requests were signed before the {@link CoinbaseSigner} <br>
+     * No-any params required
+     *
+     * @return signature of the request as {@link String}
+     */
+    @Benchmark
+    public String base64SignaturePOST() throws Exception {
+        return APIRequest.getBase64Signature(API_SECRET, timestamp + "POST" + "/orders" + BODY,
+                HMAC_SHA256_ALGORITHM);
+    }
+
+    /**
+     * Method to create a complete signed {@code "GET"} request with its headers <br>
+     * No-any params required
+     *
+     * @return signed request as {@link CoinbaseRequest}
+     */
+    @Benchmark
+    public CoinbaseRequest signRequestGET() throws Exception {
+        return manager.sign(GET, ENDPOINT, null);
+    }
+
+    /**
+     * Method to create a complete signed {@code "POST"} request with its headers and its body serialized <br>
+     * No-any params required
+     *
+     * @return signed request as {@link CoinbaseRequest}
+     */
+    @Benchmark
+    public CoinbaseRequest signRequestPOST() throws Exception {
+        return manager.sign(POST, "/orders", payload);
+    }
+
+}
@@ -6,8 +6,46 @@ import com.tecknobit.apimanager.apis.APIRequest;
 import com.tecknobit.apimanager.formatters.TimeFormatter;
 import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.apimanager.trading.TradingTools;
+import com.tecknobit.coinbasemanager.exchangepro.cache.CachePolicy;
+import com.tecknobit.coinbasemanager.exchangepro.cache.LRUResponseCache;
+import com.tecknobit.coinbasemanager.exchangepro.cache.ResponseCache;
+import com.tecknobit.coinbasemanager.exchangepro.clock.ClockSkewEstimator;
+import com.tecknobit.coinbasemanager.exchangepro.credentials.CoinbaseCredentials;
+import com.tecknobit.coinbasemanager.exchangepro.credentials.CredentialsPool;
+import com.tecknobit.coinbasemanager.exchangepro.interceptors.CoinbaseInterceptor;
+import com.tecknobit.coinbasemanager.exchangepro.interceptors.InterceptedRequest;
+import com.tecknobit.coinbasemanager.exchangepro.jfr.CoinbaseParseEvent;
+import com.tecknobit.coinbasemanager.exchangepro.jfr.CoinbaseRequestEvent;
+import com.tecknobit.coinbasemanager.exchangepro.jfr.CoinbaseSigningEvent;
+import com.tecknobit.coinbasemanager.exchangepro.metrics.CoinbaseMetrics;
+import com.tecknobit.coinbasemanager.exchangepro.metrics.EndpointMetrics;
+import com.tecknobit.coinbasemanager.exchangepro.metrics.EndpointTemplates;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.TokenBucket;
+import com.tecknobit.coinbasemanager.exchangepro.resilience.EndpointIsolation;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequestException;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseSigner;
+import com.tecknobit.coinbasemanager.exchangepro.requests.RequestCoalescer;
+import com.tecknobit.coinbasemanager.exchangepro.retry.RetryPolicy;
 
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.tecknobit.apimanager.apis.APIRequest.*;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
@@ -48,6 +86,22 @@ public class CoinbaseManager implements Manager {
      */
     protected static final String CB_ACCESS_PASSPHRASE = "cb-access-passphrase";
 
+    /**
+     * {@code NO_INTERCEPTORS} is constant for the interceptors of a manager without interceptors
+     */
+    private static final CoinbaseInterceptor[] NO_INTERCEPTORS = new CoinbaseInterceptor[0];
+
+    /**
+     * {@code TOO_MANY_REQUESTS_STATUS_CODE} is constant for the status code of the responses when the rate limits
+     * have been exceeded
+     */
+    public static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+
+    /**
+     * {@code DEFAULT_ERROR_MESSAGE} is constant for the error message to show when is not a request error
+     */
+    public static final String DEFAULT_ERROR_MESSAGE = "Error is not in api request, check out your code";
+
     /**
      * {@code properties} is a local instance used to instantiate a new {@link CoinbaseManager}'s manager without
      * re-insert credentials
@@ -55,16 +109,35 @@ public class CoinbaseManager implements Manager {
     protected static final Properties properties = new Properties();
 
     /**
-     * {@code headers} is instance that memorizes headers values
+     * {@code defaultTransports} is instance that memorizes the default transports shared between the managers,
+     * one for each timeout value
+     */
+    private static final ConcurrentHashMap<Integer, CoinbaseTransport> defaultTransports = new ConcurrentHashMap<>();
+
+    /**
+     * {@code publicBucket} is instance used to pace the requests to the public endpoints of all the default limiters,
+     * because the public rate limits are applied for each IP address
+     */
+    private static final TokenBucket publicBucket = new TokenBucket(CoinbaseRateLimiter.DEFAULT_PUBLIC_RATE,
+            CoinbaseRateLimiter.DEFAULT_PUBLIC_BURST);
+
+    /**
+     * {@code defaultRateLimiters} is instance that memorizes the default limiters shared between the managers,
+     * one for each api key, until no manager uses them
      */
-    protected static final Headers headers = new Headers();
+    private static final ConcurrentHashMap<String, LimiterReference> defaultRateLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * {@code releasedRateLimiters} is instance that memorizes the default limiters no longer used by any manager
+     */
+    private static final ReferenceQueue<CoinbaseRateLimiter> releasedRateLimiters = new ReferenceQueue<>();
 
     static {
         TimeFormatter.changeDefaultPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
     }
 
     /**
-     * {@code apiRequest} is instance to use to make API requests
+     * {@code apiRequest} is instance used to assemble the params of the requests
      */
     protected final APIRequest apiRequest;
 
@@ -83,6 +156,98 @@ public class CoinbaseManager implements Manager {
      */
     protected final String apiKey;
 
+    /**
+     * {@code defaultErrorMessage} is instance that memorizes the error message to show when is not a request error
+     */
+    protected final String defaultErrorMessage;
+
+    /**
+     * {@code timeout} is instance that memorizes the timeout in millis for the requests, -1 if not set
+     */
+    protected final int timeout;
+
+    /**
+     * {@code signer} is instance used to sign the requests, created at the first signed request
+     */
+    private volatile CoinbaseSigner signer;
+
+    /**
+     * {@code transport} is instance used to send the requests
+     */
+    private volatile CoinbaseTransport transport;
+
+    /**
+     * {@code rateLimiter} is instance used to pace the requests
+     */
+    private volatile CoinbaseRateLimiter rateLimiter;
+
+    /**
+     * {@code retryPolicy} is instance used to retry the requests failed for a transient error
+     */
+    private volatile RetryPolicy retryPolicy = new RetryPolicy();
+
+    /**
+     * {@code requestCoalescer} is instance used to share the identical {@code "GET"} requests sent at the same time,
+     * {@code null} if the requests are not coalesced
+     */
+    private volatile RequestCoalescer requestCoalescer;
+
+    /**
+     * {@code metrics} is instance used to record the metrics of the requests for each endpoint template
+     */
+    private volatile CoinbaseMetrics metrics = new CoinbaseMetrics();
+
+    /**
+     * {@code responseCache} is instance used to cache the responses of the slow-changing endpoints, {@code null} if
+     * the responses are not cached
+     */
+    private volatile ResponseCache responseCache;
+
+    /**
+     * {@code cachePolicy} is instance used to define the time to live of the responses cached for each endpoint
+     */
+    private volatile CachePolicy cachePolicy = new CachePolicy();
+
+    /**
+     * {@code clockSkewEstimator} is instance used to align the timestamp of the requests to the {@code "Coinbase"}
+     * clock, {@code null} if the local clock is used
+     */
+    private volatile ClockSkewEstimator clockSkewEstimator;
+
+    /**
+     * {@code credentialsPool} is instance used to spread the requests between different api keys, {@code null} if
+     * the credentials of the manager are used
+     */
+    private volatile CredentialsPool credentialsPool;
+
+    /**
+     * {@code profileId} is instance that memorizes the identifier of the profile to which route the requests with
+     * the {@link CredentialsPool.Routing#PROFILE_AFFINITY} routing, {@code null} to use the {@code "profile_id"} param
+     * of each request
+     */
+    private volatile String profileId;
+
+    /**
+     * {@code endpointIsolation} is instance used to isolate the endpoints families with bulkheads and circuit
+     * breakers, {@code null} if the families are not isolated
+     */
+    private volatile EndpointIsolation endpointIsolation;
+
+    /**
+     * {@code interceptors} is instance that memorizes the interceptors of the requests in order of registration
+     */
+    private volatile CoinbaseInterceptor[] interceptors = NO_INTERCEPTORS;
+
+    /**
+     * {@code lastResponse} is instance that memorizes the last response received by the current thread
+     */
+    private final ThreadLocal<CoinbaseResponse> lastResponse = new ThreadLocal<>();
+
+    /**
+     * {@code asyncExecutor} is instance used to complete the asynchronous requests and to format their responses
+     */
+    private volatile Executor asyncExecutor = ForkJoinPool.commonPool();
+
     /**
      * Constructor to init a {@link CoinbaseManager}
      *
@@ -97,6 +262,10 @@ public class CoinbaseManager implements Manager {
         this.apiKey = apiKey;
         this.apiSecret = apiSecret;
         this.passphrase = passphrase;
+        this.defaultErrorMessage = defaultErrorMessage != null ? defaultErrorMessage : DEFAULT_ERROR_MESSAGE;
+        this.timeout = timeout;
+        transport = getDefaultTransport(timeout);
+        rateLimiter = getDefaultRateLimiter(apiKey);
         storeProperties(apiKey, apiSecret, passphrase, defaultErrorMessage, timeout);
     }
 
@@ -113,6 +282,10 @@ public class CoinbaseManager implements Manager {
         this.apiKey = apiKey;
         this.apiSecret = apiSecret;
         this.passphrase = passphrase;
+        this.defaultErrorMessage = DEFAULT_ERROR_MESSAGE;
+        this.timeout = timeout;
+        transport = getDefaultTransport(timeout);
+        rateLimiter = getDefaultRateLimiter(apiKey);
         storeProperties(apiKey, apiSecret, passphrase, null, timeout);
     }
 
@@ -127,6 +300,10 @@ public class CoinbaseManager implements Manager {
         this.apiKey = apiKey;
         this.apiSecret = apiSecret;
         this.passphrase = passphrase;
+        this.defaultErrorMessage = defaultErrorMessage != null ? defaultErrorMessage : DEFAULT_ERROR_MESSAGE;
+        this.timeout = -1;
+        transport = getDefaultTransport(-1);
+        rateLimiter = getDefaultRateLimiter(apiKey);
         storeProperties(apiKey, apiSecret, passphrase, defaultErrorMessage, -1);
     }
 
@@ -142,6 +319,10 @@ public class CoinbaseManager implements Manager {
         this.apiKey = apiKey;
         this.apiSecret = apiSecret;
         this.passphrase = passphrase;
+        this.defaultErrorMessage = DEFAULT_ERROR_MESSAGE;
+        this.timeout = -1;
+        transport = getDefaultTransport(-1);
+        rateLimiter = getDefaultRateLimiter(apiKey);
         storeProperties(apiKey, apiSecret, passphrase, null, -1);
     }
 
@@ -182,6 +363,49 @@ public class CoinbaseManager implements Manager {
             apiRequest = new APIRequest(timeout);
         else
             apiRequest = new APIRequest();
+        this.defaultErrorMessage = defaultErrorMessage != null ? defaultErrorMessage : DEFAULT_ERROR_MESSAGE;
+        this.timeout = timeout;
+        transport = getDefaultTransport(timeout);
+        rateLimiter = getDefaultRateLimiter(apiKey);
+    }
+
+    /**
+     * Method to get the default transport to use to send the requests
+     *
+     * @param timeout: custom timeout for request, -1 to use the {@link HttpClientTransport#DEFAULT_TIMEOUT}
+     * @return default transport as {@link CoinbaseTransport}
+     * @implNote the managers created with the same timeout share the same transport and so its connections
+     */
+    private static CoinbaseTransport getDefaultTransport(int timeout) {
+        if (timeout <= 0)
+            timeout = HttpClientTransport.DEFAULT_TIMEOUT;
+        return defaultTransports.computeIfAbsent(timeout, HttpClientTransport::new);
+    }
+
+    /**
+     * Method to get the default limiter to use to pace the requests
+     *
+     * @param apiKey: {@code "Coinbase"} api key
+     * @return default limiter as {@link CoinbaseRateLimiter}
+     * @implNote the managers created with the same api key share the same limiter, the limiters are only weakly
+     * referenced so the limiter of an api key is dropped when no manager uses it
+     */
+    public static CoinbaseRateLimiter getDefaultRateLimiter(String apiKey) {
+        Reference<? extends CoinbaseRateLimiter> released;
+        while ((released = releasedRateLimiters.poll()) != null)
+            defaultRateLimiters.remove(((LimiterReference) released).apiKey, released);
+        String key = String.valueOf(apiKey);
+        while (true) {
+            LimiterReference reference = defaultRateLimiters.get(key);
+            CoinbaseRateLimiter rateLimiter = reference != null ? reference.get() : null;
+            if (rateLimiter != null)
+                return rateLimiter;
+            rateLimiter = new CoinbaseRateLimiter(publicBucket);
+            LimiterReference created = new LimiterReference(key, rateLimiter);
+            if (reference == null ? defaultRateLimiters.putIfAbsent(key, created) == null
+                    : defaultRateLimiters.replace(key, reference, created))
+                return rateLimiter;
+        }
     }
 
     /**
@@ -257,11 +481,8 @@ public class CoinbaseManager implements Manager {
      * @return response as {@link String}
      */
     private String sendRequest(String endpoint, Params query, RequestMethod method) throws Exception {
-        setRequestHeaders(method, endpoint, null);
-        if (query == null)
-            query = new Params();
-        apiRequest.sendAPIRequest(BASE_ENDPOINT + endpoint + query.createQueryString(), method, headers);
-        return apiRequest.getResponse();
+        lastResponse.remove();
+        return returnResponse(execute(method, endpoint, query));
     }
 
     /**
@@ -272,7 +493,7 @@ public class CoinbaseManager implements Manager {
      * @return response as {@link String}
      */
     public String sendPostRequest(String endpoint, Params payload) throws Exception {
-        return sendRequest(endpoint, POST, payload, false);
+        return sendRequest(endpoint, POST, payload);
     }
 
     /**
@@ -283,7 +504,7 @@ public class CoinbaseManager implements Manager {
      * @return response as {@link String}
      */
     public String sendJSONPostRequestRequest(String endpoint, Params payload) throws Exception {
-        return sendRequest(endpoint, POST, payload, true);
+        return sendRequest(endpoint, POST, payload);
     }
 
     /**
@@ -294,46 +515,1101 @@ public class CoinbaseManager implements Manager {
      * @return response as {@link String}
      */
     public String sendPutRequest(String endpoint, Params payload) throws Exception {
-        return sendRequest(endpoint, PUT, payload, false);
+        return sendRequest(endpoint, PUT, payload);
     }
 
     /**
-     * Method to execute and get response of a POST http request
+     * Method to execute and get response of a request with a body
      *
-     * @param endpoint:      endpoint for the request and its query params es endpoint?param=paramValue
-     * @param payload:       params to insert in the http body post request
-     * @param isJSONPayload: whether the payload is in {@code "JSON"}
+     * @param endpoint: endpoint for the request and its query params es endpoint?param=paramValue
+     * @param payload:  params to insert in the http body request
      * @return response as {@link String}
      */
-    private String sendRequest(String endpoint, RequestMethod method, Params payload, boolean isJSONPayload) throws Exception {
-        setRequestHeaders(method, endpoint, payload);
-        if (isJSONPayload)
-            apiRequest.sendJSONPayloadedAPIRequest(BASE_ENDPOINT + endpoint, method, headers, payload);
+    private String sendRequest(String endpoint, RequestMethod method, Params payload) throws Exception {
+        lastResponse.remove();
+        return returnResponse(execute(method, endpoint, payload));
+    }
+
+    /**
+     * Method to store the response for the current thread and get its body
+     *
+     * @param response: response to return
+     * @return body of the response as {@link String}
+     * @throws CoinbaseRequestException when the response has not a {@code "2xx"} status code
+     */
+    @Returner
+    private String returnResponse(CoinbaseResponse response) throws CoinbaseRequestException {
+        lastResponse.set(response);
+        if (!response.isSuccessful())
+            throw new CoinbaseRequestException(response);
+        return response.getBody();
+    }
+
+    /**
+     * Method to format a response in the {@link ReturnFormat} requested, recording the time spent in the
+     * {@link #metrics} and the conversion with a {@link CoinbaseParseEvent}
+     *
+     * @param target:    method which converts the response es. CoinbaseProductsManager.returnBook
+     * @param response:  response to format
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @param formatter: conversion of the response as {@code "format"} defines
+     * @return response as {@code "format"} defines
+     */
+    @Returner
+    protected <T> T returnFormatted(String target, String response, ReturnFormat format, Supplier<T> formatter) {
+        CoinbaseMetrics metrics = this.metrics;
+        boolean timed = metrics.isEnabled();
+        CoinbaseParseEvent parseEvent = CoinbaseParseEvent.start();
+        if (!timed && parseEvent == null)
+            return formatter.get();
+        long start = System.nanoTime();
+        try {
+            return formatter.get();
+        } finally {
+            if (timed)
+                metrics.recordParse(target, System.nanoTime() - start);
+            if (parseEvent != null)
+                parseEvent.finish(format, target, response);
+        }
+    }
+
+    /**
+     * Method to execute a request and get its response
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request
+     * @param params:   query params for {@code "GET"} and {@code "DELETE"} requests, body params otherwise,
+     *                  can be {@code null}
+     * @return response of the request as {@link CoinbaseResponse}
+     * @implNote this method does not throw when the response has an error status code, the returned
+     * {@link CoinbaseResponse} must be checked instead
+     */
+    public CoinbaseResponse execute(RequestMethod method, String endpoint, Params params) throws Exception {
+        if (method == GET || method == DELETE) {
+            if (params != null)
+                endpoint += params.createQueryString();
+            params = null;
+        }
+        if (method == GET)
+            return executeGET(endpoint);
+        return send(method, endpoint, params, null);
+    }
+
+    /**
+     * Method to execute a {@code "GET"} request, serving it from the {@link #responseCache} or sharing the same
+     * request in flight when they are enabled
+     *
+     * @param endpoint: endpoint for the request with its query params
+     * @return response of the request as {@link CoinbaseResponse}
+     */
+    private CoinbaseResponse executeGET(String endpoint) throws Exception {
+        ResponseCache responseCache = this.responseCache;
+        long ttl = responseCache != null ? cachePolicy.getTtl(endpoint) : 0;
+        String cacheKey = ttl > 0 ? getCacheKey(endpoint) : null;
+        if (cacheKey != null) {
+            CoinbaseResponse response = responseCache.get(cacheKey);
+            if (response != null)
+                return response;
+        }
+        CoinbaseResponse response;
+        RequestCoalescer requestCoalescer = this.requestCoalescer;
+        if (requestCoalescer != null)
+            response = requestCoalescer.execute(endpoint, () -> send(GET, endpoint, null, null));
         else
-            apiRequest.sendPayloadedAPIRequest(BASE_ENDPOINT + endpoint, method, headers, payload);
-        return apiRequest.getResponse();
+            response = send(GET, endpoint, null, null);
+        if (cacheKey != null && response.isSuccessful())
+            responseCache.put(cacheKey, response, ttl);
+        return response;
+    }
+
+    /**
+     * Method to get the key of the responses of an endpoint in the {@link #responseCache}
+     *
+     * @param endpoint: endpoint for the request with its query params
+     * @return key of the responses as {@link String}, {@code null} if the responses cannot be cached
+     * @implNote the responses of the private endpoints are cached with the api key of the manager, so a cache shared
+     * between managers never serves them to another key, and they are not cached when the requests are spread by a
+     * {@link #credentialsPool}, because the api key is chosen only when each request is sent
+     */
+    private String getCacheKey(String endpoint) {
+        if (!cachePolicy.isPrivate(endpoint))
+            return endpoint;
+        if (credentialsPool != null)
+            return null;
+        return apiKey + " " + endpoint;
+    }
+
+    /**
+     * Method to execute a signed request and get its response
+     *
+     * @param request: signed request to execute
+     * @return response of the request as {@link CoinbaseResponse}
+     * @implNote this method does not throw when the response has an error status code, the returned
+     * {@link CoinbaseResponse} must be checked instead
+     */
+    public CoinbaseResponse execute(CoinbaseRequest request) throws Exception {
+        return send(request.getMethod(), request.getEndpoint(), null, request);
+    }
+
+    /**
+     * Method to send a request through the {@link #interceptors}
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request with its query params
+     * @param body:     body params of the request, can be {@code null}
+     * @param request:  signed request to send, {@code null} to sign the request at each attempt
+     * @return response of the request as {@link CoinbaseResponse}
+     */
+    private CoinbaseResponse send(RequestMethod method, String endpoint, Params body,
+                                  CoinbaseRequest request) throws Exception {
+        CoinbaseInterceptor[] interceptors = this.interceptors;
+        if (interceptors.length == 0)
+            return dispatch(method, endpoint, body, request);
+        InterceptedRequest interceptedRequest = new InterceptedRequest(method, endpoint, body, request);
+        int invoked = 0;
+        CoinbaseResponse response = null;
+        try {
+            while (response == null && invoked < interceptors.length)
+                response = interceptors[invoked++].beforeRequest(interceptedRequest);
+            if (response == null)
+                response = dispatch(method, endpoint, body, request);
+        } catch (Exception e) {
+            for (int j = invoked - 1; j >= 0; j--)
+                interceptors[j].onFailure(interceptedRequest, e);
+            throw e;
+        }
+        for (int j = invoked - 1; j >= 0; j--)
+            interceptors[j].afterResponse(interceptedRequest, response);
+        return response;
+    }
+
+    /**
+     * Method to dispatch a request, retrying it when has been failed for a transient error as the
+     * {@link #retryPolicy} defines
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request with its query params
+     * @param body:     body params of the request, can be {@code null}
+     * @param request:  signed request to send, {@code null} to sign the request at each attempt
+     * @return response of the request as {@link CoinbaseResponse}
+     * @implNote the credentials are chosen once, so all the attempts are sent with the same api key
+     */
+    private CoinbaseResponse dispatch(RequestMethod method, String endpoint, Params body,
+                                      CoinbaseRequest request) throws Exception {
+        RetryPolicy retryPolicy = this.retryPolicy;
+        CoinbaseCredentials credentials = selectCredentials(endpoint, body, request);
+        CoinbaseRateLimiter rateLimiter = credentials != null ? credentials.getRateLimiter() : this.rateLimiter;
+        EndpointMetrics endpointMetrics = metrics.getEndpointMetrics(method, endpoint);
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                rateLimiter.acquire(method, endpoint);
+                CoinbaseRequest signedRequest = request;
+                EndpointIsolation endpointIsolation = this.endpointIsolation;
+                EndpointIsolation.Family family = null;
+                long permit = 0;
+                try {
+                    if (signedRequest == null) {
+                        long signingStart = System.nanoTime();
+                        signedRequest = signRequest(method, endpoint, body, credentials);
+                        if (endpointMetrics != null)
+                            endpointMetrics.recordSigning(System.nanoTime() - signingStart);
+                    }
+                    if (endpointIsolation != null) {
+                        family = endpointIsolation.getFamily(endpoint);
+                        permit = family.acquire();
+                    }
+                } catch (Exception e) {
+                    // the request is not sent, so its token serves the next one
+                    rateLimiter.release(method, endpoint);
+                    throw e;
+                }
+                CoinbaseResponse response = null;
+                IOException error = null;
+                Boolean failed = null;
+                CoinbaseRequestEvent requestEvent = CoinbaseRequestEvent.start();
+                try {
+                    response = transport.send(signedRequest);
+                    failed = isFailure(response);
+                } catch (IOException e) {
+                    error = e;
+                    failed = true;
+                } finally {
+                    if (requestEvent != null)
+                        requestEvent.finish(method, endpoint, attempt, signedRequest, response, error);
+                    if (family != null)
+                        family.release(permit, failed);
+                }
+                if (error != null) {
+                    if (endpointMetrics != null)
+                        endpointMetrics.recordFailure();
+                    long backoff = -1;
+                    if (retryPolicy.isRetryable(error))
+                        backoff = getRetryBackoff(retryPolicy, signedRequest, attempt);
+                    if (backoff < 0)
+                        throw error;
+                    TimeUnit.MILLISECONDS.sleep(backoff);
+                    continue;
+                }
+                if (endpointMetrics != null)
+                    endpointMetrics.recordResponse(response);
+                if (!retryPolicy.isRetryable(response))
+                    return response;
+                long backoff = getRetryBackoff(retryPolicy, signedRequest, attempt);
+                if (backoff < 0)
+                    return response;
+                TimeUnit.MILLISECONDS.sleep(backoff);
+            }
+        } finally {
+            if (endpointMetrics != null)
+                endpointMetrics.recordTotal(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Method to execute a request asynchronously
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request
+     * @param params:   query params for {@code "GET"} and {@code "DELETE"} requests, body params otherwise,
+     *                  can be {@code null}
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     * @implNote the returned future is not completed exceptionally when the response has an error status code,
+     * the {@link CoinbaseResponse} must be checked instead
+     */
+    public CompletableFuture<CoinbaseResponse> executeAsync(RequestMethod method, String endpoint, Params params) {
+        if (method == GET || method == DELETE) {
+            if (params != null)
+                endpoint += params.createQueryString();
+            params = null;
+        }
+        if (method == GET)
+            return executeGETAsync(endpoint);
+        return sendAsync(method, endpoint, params, null);
+    }
+
+    /**
+     * Method to execute asynchronously a {@code "GET"} request, serving it from the {@link #responseCache} or sharing
+     * the same request in flight when they are enabled
+     *
+     * @param endpoint: endpoint for the request with its query params
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    private CompletableFuture<CoinbaseResponse> executeGETAsync(String endpoint) {
+        ResponseCache responseCache = this.responseCache;
+        long ttl = responseCache != null ? cachePolicy.getTtl(endpoint) : 0;
+        String cacheKey = ttl > 0 ? getCacheKey(endpoint) : null;
+        if (cacheKey != null) {
+            CoinbaseResponse response = responseCache.get(cacheKey);
+            if (response != null)
+                return CompletableFuture.completedFuture(response);
+        }
+        CompletableFuture<CoinbaseResponse> response;
+        RequestCoalescer requestCoalescer = this.requestCoalescer;
+        if (requestCoalescer != null)
+            response = requestCoalescer.executeAsync(endpoint, () -> sendAsync(GET, endpoint, null, null));
+        else
+            response = sendAsync(GET, endpoint, null, null);
+        if (cacheKey == null)
+            return response;
+        return response.thenApply(result -> {
+            if (result.isSuccessful())
+                responseCache.put(cacheKey, result, ttl);
+            return result;
+        });
+    }
+
+    /**
+     * Method to execute a signed request asynchronously
+     *
+     * @param request: signed request to execute
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     * @implNote the returned future is not completed exceptionally when the response has an error status code,
+     * the {@link CoinbaseResponse} must be checked instead
+     */
+    public CompletableFuture<CoinbaseResponse> executeAsync(CoinbaseRequest request) {
+        return sendAsync(request.getMethod(), request.getEndpoint(), null, request);
+    }
+
+    /**
+     * Method to send a request asynchronously through the {@link #interceptors}
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request with its query params
+     * @param body:     body params of the request, can be {@code null}
+     * @param request:  signed request to send, {@code null} to sign the request at each attempt
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    private CompletableFuture<CoinbaseResponse> sendAsync(RequestMethod method, String endpoint, Params body,
+                                                          CoinbaseRequest request) {
+        CoinbaseInterceptor[] interceptors = this.interceptors;
+        if (interceptors.length == 0)
+            return dispatchAsync(method, endpoint, body, request);
+        InterceptedRequest interceptedRequest = new InterceptedRequest(method, endpoint, body, request);
+        int invoked = 0;
+        CoinbaseResponse interceptedResponse = null;
+        CompletableFuture<CoinbaseResponse> response;
+        try {
+            while (interceptedResponse == null && invoked < interceptors.length)
+                interceptedResponse = interceptors[invoked++].beforeRequest(interceptedRequest);
+            if (interceptedResponse != null)
+                response = CompletableFuture.completedFuture(interceptedResponse);
+            else
+                response = dispatchAsync(method, endpoint, body, request);
+        } catch (Exception e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        int intercepted = invoked;
+        return response.whenComplete((result, error) -> {
+            if (error != null) {
+                while (error instanceof CompletionException && error.getCause() != null)
+                    error = error.getCause();
+                for (int j = intercepted - 1; j >= 0; j--)
+                    interceptors[j].onFailure(interceptedRequest, error);
+            } else {
+                for (int j = intercepted - 1; j >= 0; j--)
+                    interceptors[j].afterResponse(interceptedRequest, result);
+            }
+        });
+    }
+
+    /**
+     * Method to dispatch a request asynchronously, retrying it when has been failed for a transient error as the
+     * {@link #retryPolicy} defines
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request with its query params
+     * @param body:     body params of the request, can be {@code null}
+     * @param request:  signed request to send, {@code null} to sign the request at each attempt
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     * @implNote the credentials are chosen once, so all the attempts are sent with the same api key
+     */
+    private CompletableFuture<CoinbaseResponse> dispatchAsync(RequestMethod method, String endpoint, Params body,
+                                                              CoinbaseRequest request) {
+        CoinbaseCredentials credentials;
+        try {
+            credentials = selectCredentials(endpoint, body, request);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        EndpointMetrics endpointMetrics = metrics.getEndpointMetrics(method, endpoint);
+        long start = System.nanoTime();
+        CompletableFuture<CoinbaseResponse> response = sendAsync(method, endpoint, body, request, credentials,
+                retryPolicy, endpointMetrics, 0);
+        if (endpointMetrics == null)
+            return response;
+        return response.whenComplete((result, error) -> endpointMetrics.recordTotal(System.nanoTime() - start));
+    }
+
+    /**
+     * Method to send an attempt of a request asynchronously
+     *
+     * @param method:          method HTTP for the request
+     * @param endpoint:        endpoint for the request with its query params
+     * @param body:            body params of the request, can be {@code null}
+     * @param request:         signed request to send, {@code null} to sign the request at each attempt
+     * @param credentials:     credentials to use for the request, {@code null} to use the credentials of the manager
+     * @param retryPolicy:     policy used to retry the request
+     * @param endpointMetrics: metrics of the endpoint of the request, {@code null} if the metrics are not enabled
+     * @param attempt:         number of the current attempt, starting from zero
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    private CompletableFuture<CoinbaseResponse> sendAsync(RequestMethod method, String endpoint, Params body,
+                                                          CoinbaseRequest request, CoinbaseCredentials credentials,
+                                                          RetryPolicy retryPolicy, EndpointMetrics endpointMetrics,
+                                                          int attempt) {
+        CoinbaseRateLimiter rateLimiter = credentials != null ? credentials.getRateLimiter() : this.rateLimiter;
+        return delay(rateLimiter.reserve(method, endpoint), TimeUnit.NANOSECONDS).thenCompose(ignored -> {
+            CoinbaseRequest signedRequest = request;
+            EndpointIsolation endpointIsolation = this.endpointIsolation;
+            EndpointIsolation.Family family = null;
+            long permit = 0;
+            try {
+                if (signedRequest == null) {
+                    long signingStart = System.nanoTime();
+                    signedRequest = signRequest(method, endpoint, body, credentials);
+                    if (endpointMetrics != null)
+                        endpointMetrics.recordSigning(System.nanoTime() - signingStart);
+                }
+                if (endpointIsolation != null) {
+                    family = endpointIsolation.getFamily(endpoint);
+                    permit = family.tryAcquire();
+                }
+            } catch (Exception e) {
+                // the request is not sent, so its token serves the next one
+                rateLimiter.release(method, endpoint);
+                return CompletableFuture.failedFuture(e);
+            }
+            EndpointIsolation.Family isolatedFamily = family;
+            long isolatedPermit = permit;
+            CoinbaseRequest sentRequest = signedRequest;
+            CoinbaseRequestEvent requestEvent = CoinbaseRequestEvent.start();
+            return transport.sendAsync(sentRequest).handle((response, error) -> {
+                if (requestEvent != null)
+                    requestEvent.finish(method, endpoint, attempt, sentRequest, response, error);
+                if (isolatedFamily != null)
+                    isolatedFamily.release(isolatedPermit, error != null || isFailure(response));
+                long backoff = -1;
+                if (error != null) {
+                    while (error instanceof CompletionException && error.getCause() != null)
+                        error = error.getCause();
+                    if (endpointMetrics != null)
+                        endpointMetrics.recordFailure();
+                    if (retryPolicy.isRetryable(error))
+                        backoff = getRetryBackoff(retryPolicy, sentRequest, attempt);
+                    if (backoff < 0)
+                        return CompletableFuture.<CoinbaseResponse>failedFuture(error);
+                } else {
+                    if (endpointMetrics != null)
+                        endpointMetrics.recordResponse(response);
+                    if (retryPolicy.isRetryable(response))
+                        backoff = getRetryBackoff(retryPolicy, sentRequest, attempt);
+                    if (backoff < 0)
+                        return CompletableFuture.completedFuture(response);
+                }
+                return delay(backoff, TimeUnit.MILLISECONDS).thenCompose(retry -> sendAsync(method, endpoint, body,
+                        request, credentials, retryPolicy, endpointMetrics, attempt + 1));
+            }).thenCompose(Function.identity());
+        });
+    }
+
+    /**
+     * Method to get whether a response reports a failure of {@code "Coinbase"}, used to open the circuits of the
+     * {@link #endpointIsolation}
+     *
+     * @param response: response to check
+     * @return whether the response has a {@code "5xx"} status code as boolean
+     */
+    private static boolean isFailure(CoinbaseResponse response) {
+        return response.getStatusCode() >= 500;
+    }
+
+    /**
+     * Method to get the backoff to wait before retrying a failed request
+     *
+     * @param retryPolicy: policy used to retry the request
+     * @param request:     request which has been failed
+     * @param attempt:     number of the attempt which has been failed, starting from zero
+     * @return backoff in millis to wait before retrying the request, -1 if the request cannot be retried
+     */
+    private long getRetryBackoff(RetryPolicy retryPolicy, CoinbaseRequest request, int attempt) {
+        if (!retryPolicy.isIdempotent(request))
+            return -1;
+        String endpoint = request.getMethod() + " " + EndpointTemplates.resolve(request.getPath());
+        long backoff = retryPolicy.getBackoff(attempt);
+        if (backoff < 0)
+            retryPolicy.recordExhausted(endpoint);
+        else
+            retryPolicy.recordRetry(endpoint);
+        return backoff;
+    }
+
+    /**
+     * Method to create a future completed after a delay
+     *
+     * @param delay: delay after which complete the future, zero or less to complete it immediately
+     * @param unit:  unit of the delay
+     * @return future completed after the delay as {@link CompletableFuture}
+     */
+    private CompletableFuture<Void> delay(long delay, TimeUnit unit) {
+        if (delay <= 0)
+            return CompletableFuture.completedFuture(null);
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(delay, unit, asyncExecutor));
+    }
+
+    /**
+     * Method to execute asynchronously and get response of a GET request
+     *
+     * @param endpoint : endpoint for the request and its query params es endpoint?param=paramValue
+     * @return response as {@link CompletableFuture} of {@link String}
+     */
+    @Wrapper
+    public CompletableFuture<String> sendGETRequestAsync(String endpoint) {
+        return sendGETRequestAsync(endpoint, null);
+    }
+
+    /**
+     * Method to execute asynchronously and get response of a GET request
+     *
+     * @param endpoint : endpoint for the request
+     * @param query:   query of the request
+     * @return response as {@link CompletableFuture} of {@link String}
+     */
+    public CompletableFuture<String> sendGETRequestAsync(String endpoint, Params query) {
+        return sendRequestAsync(GET, endpoint, query);
+    }
+
+    /**
+     * Method to execute asynchronously and get response of a DELETE request
+     *
+     * @param endpoint : endpoint for the request and its query params es endpoint?param=paramValue
+     * @return response as {@link CompletableFuture} of {@link String}
+     */
+    @Wrapper
+    public CompletableFuture<String> sendDELETERequestAsync(String endpoint) {
+        return sendDELETERequestAsync(endpoint, null);
+    }
+
+    /**
+     * Method to execute asynchronously and get response of a DELETE request
+     *
+     * @param endpoint : endpoint for the request
+     * @param query:   query of the request
+     * @return response as {@link CompletableFuture} of {@link String}
+     */
+    public CompletableFuture<String> sendDELETERequestAsync(String endpoint, Params query) {
+        return sendRequestAsync(DELETE, endpoint, query);
+    }
+
+    /**
+     * Method to execute asynchronously and get response of a POST http request
+     *
+     * @param endpoint : endpoint for the request and its query params es endpoint?param=paramValue
+     * @param payload  :  params to insert in the http body post request
+     * @return response as {@link CompletableFuture} of {@link String}
+     */
+    public CompletableFuture<String> sendPostRequestAsync(String endpoint, Params payload) {
+        return sendRequestAsync(POST, endpoint, payload);
+    }
+
+    /**
+     * Method to execute asynchronously and get response of a PUT http request
+     *
+     * @param endpoint: endpoint for the request and its query params es endpoint?param=paramValue
+     * @param payload:  params to insert in the http body post request
+     * @return response as {@link CompletableFuture} of {@link String}
+     */
+    public CompletableFuture<String> sendPutRequestAsync(String endpoint, Params payload) {
+        return sendRequestAsync(PUT, endpoint, payload);
     }
 
     /**
-     * Method to set {@code "Coinbase"} request headers
+     * Method to execute asynchronously and get response of a request
+     *
+     * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request
+     * @param params:   query params for {@code "GET"} and {@code "DELETE"} requests, body params otherwise
+     * @return response as {@link CompletableFuture} of {@link String}, completed exceptionally with a
+     * {@link CoinbaseRequestException} when the response has not a {@code "2xx"} status code
+     * @implNote the response is completed on the {@link #asyncExecutor}, so also the next stages which format the
+     * response run on it
+     */
+    private CompletableFuture<String> sendRequestAsync(RequestMethod method, String endpoint, Params params) {
+        return executeAsync(method, endpoint, params).thenApplyAsync(response -> {
+            if (!response.isSuccessful())
+                throw new CompletionException(new CoinbaseRequestException(response));
+            return response.getBody();
+        }, asyncExecutor);
+    }
+
+    /**
+     * Method to set {@link #asyncExecutor} instance
+     *
+     * @param asyncExecutor: executor used to complete the asynchronous requests and to format their responses
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        if (asyncExecutor == null)
+            throw new IllegalArgumentException("The executor cannot be null");
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Method to get {@link #asyncExecutor} instance <br>
+     * No-any params required
+     *
+     * @return {@link #asyncExecutor} instance as {@link Executor}
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Method to set the transport used to send the requests
+     *
+     * @param transport: transport used to send the requests, es. a {@link HttpClientTransport} with a different
+     *                   base url to send the requests to a local server
+     * @throws IllegalArgumentException when the transport is null
+     */
+    public void setTransport(CoinbaseTransport transport) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        this.transport = transport;
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link CoinbaseTransport}
+     */
+    public CoinbaseTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to set the limiter used to pace the requests
+     *
+     * @param rateLimiter: limiter used to pace the requests, {@link CoinbaseRateLimiter#unlimited()} to not pace them
+     * @throws IllegalArgumentException when the limiter is null
+     */
+    public void setRateLimiter(CoinbaseRateLimiter rateLimiter) {
+        if (rateLimiter == null)
+            throw new IllegalArgumentException("The rate limiter cannot be null");
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Method to get {@link #rateLimiter} instance <br>
+     * No-any params required
+     *
+     * @return {@link #rateLimiter} instance as {@link CoinbaseRateLimiter}
+     */
+    public CoinbaseRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Method to set the policy used to retry the requests failed for a transient error
+     *
+     * @param retryPolicy: policy used to retry the requests, {@link RetryPolicy#noRetries()} to not retry them
+     * @throws IllegalArgumentException when the policy is null
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        if (retryPolicy == null)
+            throw new IllegalArgumentException("The retry policy cannot be null");
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Method to get {@link #retryPolicy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #retryPolicy} instance as {@link RetryPolicy}
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Method to set whether the identical {@code "GET"} requests sent at the same time share a single request
+     *
+     * @param coalesceRequests: whether the identical {@code "GET"} requests sent at the same time, with the same
+     *                          endpoint and query params, share a single request
+     * @implNote this is disabled by default, when enabled the threads that send a request already in flight wait its
+     * response instead of sending the request again, so the number of requests sent is reduced under bursty load
+     */
+    public void setRequestsCoalescing(boolean coalesceRequests) {
+        if (coalesceRequests) {
+            if (requestCoalescer == null)
+                requestCoalescer = new RequestCoalescer();
+        } else
+            requestCoalescer = null;
+    }
+
+    /**
+     * Method to get whether the identical {@code "GET"} requests sent at the same time share a single request <br>
+     * No-any params required
+     *
+     * @return whether the identical {@code "GET"} requests sent at the same time share a single request as boolean
+     */
+    public boolean isRequestsCoalescing() {
+        return requestCoalescer != null;
+    }
+
+    /**
+     * Method to get {@link #requestCoalescer} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestCoalescer} instance as {@link RequestCoalescer}, {@code null} if the requests are not
+     * coalesced
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Method to set the metrics used to record the requests
+     *
+     * @param metrics: metrics used to record the requests, es. the same metrics of another manager to share them
+     * @throws IllegalArgumentException when the metrics are null
+     */
+    public void setMetrics(CoinbaseMetrics metrics) {
+        if (metrics == null)
+            throw new IllegalArgumentException("The metrics cannot be null");
+        this.metrics = metrics;
+    }
+
+    /**
+     * Method to get {@link #metrics} instance <br>
+     * No-any params required
+     *
+     * @return {@link #metrics} instance as {@link CoinbaseMetrics}
+     * @apiNote use {@link CoinbaseMetrics#snapshot()} to read the latencies, the errors and the bytes sent and
+     * received for each endpoint template and {@link CoinbaseMetrics#reset()} to reset them
+     */
+    public CoinbaseMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Method to set whether the responses of the slow-changing endpoints are cached
+     *
+     * @param cacheResponses: whether the responses of the slow-changing endpoints are cached
+     * @implNote this is disabled by default, when enabled a {@link LRUResponseCache} is used and the responses of the
+     * endpoints with a time to live in the {@link #cachePolicy} are served without a request until they expire
+     */
+    public void setResponsesCaching(boolean cacheResponses) {
+        if (cacheResponses) {
+            if (responseCache == null)
+                responseCache = new LRUResponseCache();
+        } else
+            responseCache = null;
+    }
+
+    /**
+     * Method to set the cache used to cache the responses of the slow-changing endpoints
+     *
+     * @param responseCache: cache used to cache the responses
+     * @throws IllegalArgumentException when the cache is null
+     * @apiNote the same cache can be shared between the managers with the same credentials, don't share it between
+     * managers with different credentials because the responses of the private endpoints, as the fees, depend on them
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        if (responseCache == null)
+            throw new IllegalArgumentException("The response cache cannot be null, use setResponsesCaching(false) " +
+                    "to disable it");
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Method to get {@link #responseCache} instance <br>
+     * No-any params required
+     *
+     * @return {@link #responseCache} instance as {@link ResponseCache}, {@code null} if the responses are not cached
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Method to set the policy used to define the time to live of the responses cached
+     *
+     * @param cachePolicy: policy used to define the time to live of the responses cached
+     * @throws IllegalArgumentException when the policy is null
+     */
+    public void setCachePolicy(CachePolicy cachePolicy) {
+        if (cachePolicy == null)
+            throw new IllegalArgumentException("The cache policy cannot be null");
+        this.cachePolicy = cachePolicy;
+    }
+
+    /**
+     * Method to get {@link #cachePolicy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #cachePolicy} instance as {@link CachePolicy}
+     */
+    public CachePolicy getCachePolicy() {
+        return cachePolicy;
+    }
+
+    /**
+     * Method to invalidate all the responses cached <br>
+     * No-any params required
+     */
+    public void invalidateCachedResponses() {
+        ResponseCache responseCache = this.responseCache;
+        if (responseCache != null)
+            responseCache.invalidateAll();
+    }
+
+    /**
+     * Method to set whether the timestamp of the requests is aligned to the {@code "Coinbase"} clock
+     *
+     * @param trackClockSkew: whether the timestamp of the requests is aligned to the {@code "Coinbase"} clock
+     * @implNote this is disabled by default, when enabled a {@link ClockSkewEstimator} samples the {@code "/time"}
+     * endpoint in background, through the current transport, every {@link ClockSkewEstimator#DEFAULT_SAMPLING_PERIOD}
+     * millis and its offset is added to the local clock to create the {@code "CB-ACCESS-TIMESTAMP"} header. When
+     * disabled the manager releases its estimator, whose sampling is stopped only if no other manager uses it
+     */
+    public synchronized void setClockSkewTracking(boolean trackClockSkew) {
+        ClockSkewEstimator clockSkewEstimator = this.clockSkewEstimator;
+        if (trackClockSkew) {
+            if (clockSkewEstimator == null) {
+                clockSkewEstimator = new ClockSkewEstimator(this::getTransport,
+                        ClockSkewEstimator.DEFAULT_SAMPLE_TIMEOUT);
+                clockSkewEstimator.retain();
+                clockSkewEstimator.start();
+                this.clockSkewEstimator = clockSkewEstimator;
+            }
+        } else if (clockSkewEstimator != null) {
+            this.clockSkewEstimator = null;
+            clockSkewEstimator.release();
+        }
+    }
+
+    /**
+     * Method to set the estimator used to align the timestamp of the requests to the {@code "Coinbase"} clock
+     *
+     * @param clockSkewEstimator: estimator used to align the timestamp of the requests
+     * @throws IllegalArgumentException when the estimator is null
+     * @apiNote the same estimator can be shared between different managers, its sampling is not started by this
+     * method and is stopped when the last manager which uses it releases it
+     */
+    public synchronized void setClockSkewEstimator(ClockSkewEstimator clockSkewEstimator) {
+        if (clockSkewEstimator == null)
+            throw new IllegalArgumentException("The clock skew estimator cannot be null, use " +
+                    "setClockSkewTracking(false) to disable it");
+        ClockSkewEstimator previousEstimator = this.clockSkewEstimator;
+        if (previousEstimator == clockSkewEstimator)
+            return;
+        clockSkewEstimator.retain();
+        this.clockSkewEstimator = clockSkewEstimator;
+        if (previousEstimator != null)
+            previousEstimator.release();
+    }
+
+    /**
+     * Method to get {@link #clockSkewEstimator} instance <br>
+     * No-any params required
+     *
+     * @return {@link #clockSkewEstimator} instance as {@link ClockSkewEstimator}, {@code null} if the local clock is
+     * used
+     */
+    public ClockSkewEstimator getClockSkewEstimator() {
+        return clockSkewEstimator;
+    }
+
+    /**
+     * Method to add an interceptor of the requests
+     *
+     * @param interceptor: interceptor to add, invoked after the interceptors already added
+     * @throws IllegalArgumentException when the interceptor is null
+     */
+    public synchronized void addInterceptor(CoinbaseInterceptor interceptor) {
+        if (interceptor == null)
+            throw new IllegalArgumentException("The interceptor cannot be null");
+        CoinbaseInterceptor[] interceptors = Arrays.copyOf(this.interceptors, this.interceptors.length + 1);
+        interceptors[interceptors.length - 1] = interceptor;
+        this.interceptors = interceptors;
+    }
+
+    /**
+     * Method to remove an interceptor of the requests
+     *
+     * @param interceptor: interceptor to remove
+     * @return whether the interceptor has been removed as boolean
+     */
+    public synchronized boolean removeInterceptor(CoinbaseInterceptor interceptor) {
+        CoinbaseInterceptor[] interceptors = this.interceptors;
+        for (int j = 0; j < interceptors.length; j++) {
+            if (interceptors[j] == interceptor) {
+                CoinbaseInterceptor[] remaining = new CoinbaseInterceptor[interceptors.length - 1];
+                System.arraycopy(interceptors, 0, remaining, 0, j);
+                System.arraycopy(interceptors, j + 1, remaining, j, remaining.length - j);
+                this.interceptors = remaining.length == 0 ? NO_INTERCEPTORS : remaining;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method to get {@link #interceptors} instance <br>
+     * No-any params required
+     *
+     * @return {@link #interceptors} instance as {@link List} of {@link CoinbaseInterceptor}
+     */
+    public List<CoinbaseInterceptor> getInterceptors() {
+        return List.of(interceptors);
+    }
+
+    /**
+     * Method to set whether the endpoints families are isolated with bulkheads and circuit breakers
+     *
+     * @param isolateEndpoints: whether the endpoints families are isolated
+     * @implNote this is disabled by default, when enabled an {@link EndpointIsolation} with the default values is used:
+     * the requests of a family, as {@code "/reports"}, are rejected with a
+     * {@link com.tecknobit.coinbasemanager.exchangepro.resilience.RejectedCallException} when too many of them are in
+     * flight or when the family is failing, so they cannot slow down the requests of the other families. Each
+     * attempt takes the permission of its family after the wait of the {@link #rateLimiter}, only to be sent
+     */
+    public void setEndpointsIsolation(boolean isolateEndpoints) {
+        if (isolateEndpoints) {
+            if (endpointIsolation == null)
+                endpointIsolation = new EndpointIsolation();
+        } else
+            endpointIsolation = null;
+    }
+
+    /**
+     * Method to set the isolation of the endpoints families
+     *
+     * @param endpointIsolation: isolation of the endpoints families
+     * @throws IllegalArgumentException when the isolation is null
+     * @apiNote share the same isolation between the managers to bound the concurrent requests of all of them
+     */
+    public void setEndpointIsolation(EndpointIsolation endpointIsolation) {
+        if (endpointIsolation == null)
+            throw new IllegalArgumentException("The endpoint isolation cannot be null, use " +
+                    "setEndpointsIsolation(false) to disable it");
+        this.endpointIsolation = endpointIsolation;
+    }
+
+    /**
+     * Method to get {@link #endpointIsolation} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpointIsolation} instance as {@link EndpointIsolation}, {@code null} if the families are not
+     * isolated
+     */
+    public EndpointIsolation getEndpointIsolation() {
+        return endpointIsolation;
+    }
+
+    /**
+     * Method to set the pool used to spread the requests between different api keys
+     *
+     * @param credentialsPool: pool used to spread the requests, {@code null} to use the credentials of the manager
+     * @implNote each api key of the pool has its own limiter, so the requests are paced by the limits of the api key
+     * chosen and no more by the {@link #rateLimiter} of the manager
+     */
+    public void setCredentialsPool(CredentialsPool credentialsPool) {
+        this.credentialsPool = credentialsPool;
+    }
+
+    /**
+     * Method to get {@link #credentialsPool} instance <br>
+     * No-any params required
+     *
+     * @return {@link #credentialsPool} instance as {@link CredentialsPool}, {@code null} if the credentials of the
+     * manager are used
+     */
+    public CredentialsPool getCredentialsPool() {
+        return credentialsPool;
+    }
+
+    /**
+     * Method to set the identifier of the profile to which route the requests with the
+     * {@link CredentialsPool.Routing#PROFILE_AFFINITY} routing
+     *
+     * @param profileId: identifier of the profile, {@code null} to use the {@code "profile_id"} param of each request
+     */
+    public void setProfileId(String profileId) {
+        this.profileId = profileId;
+    }
+
+    /**
+     * Method to get {@link #profileId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #profileId} instance as {@link String}, {@code null} if the {@code "profile_id"} param of each
+     * request is used
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Method to choose the credentials to use for a request from the {@link #credentialsPool}
      *
      * @param endpoint: endpoint for the request and its query params es endpoint?param=paramValue
+     * @param body:     body params of the request, can be {@code null}
+     * @param request:  signed request to send, {@code null} if the request has not been signed yet
+     * @return credentials to use for the request as {@link CoinbaseCredentials}, {@code null} to use the credentials
+     * of the manager
+     */
+    private CoinbaseCredentials selectCredentials(String endpoint, Params body,
+                                                  CoinbaseRequest request) throws Exception {
+        CredentialsPool credentialsPool = this.credentialsPool;
+        if (credentialsPool == null)
+            return null;
+        if (request != null)
+            return credentialsPool.getCredentials(request.getHeaders().get(CB_ACCESS_KEY));
+        String profileId = null;
+        if (credentialsPool.getRouting() == CredentialsPool.Routing.PROFILE_AFFINITY) {
+            profileId = this.profileId;
+            if (profileId == null) {
+                String payload = null;
+                if (body != null)
+                    payload = String.valueOf(body.createJSONPayload());
+                profileId = CredentialsPool.getProfileId(endpoint, payload);
+            }
+        }
+        return credentialsPool.select(profileId);
+    }
+
+    /**
+     * Method to create a new signed {@code "Coinbase"} request
+     *
      * @param method:   method HTTP for the request
+     * @param endpoint: endpoint for the request and its query params es endpoint?param=paramValue
      * @param body:     only if request has a body params (generally POST request)
-     *                  any return
+     * @return signed request as {@link CoinbaseRequest}
+     * @implNote the headers are created for each request and never shared, so concurrent requests, also from
+     * different managers, cannot swap their signatures
      */
-    private void setRequestHeaders(RequestMethod method, String endpoint, Params body) throws Exception {
-        if (headers.getAllHeaders().isEmpty()) {
-            headers.addHeader("Accept", "application/json");
-            headers.addHeader(CB_ACCESS_KEY, apiKey);
-            headers.addHeader(CB_ACCESS_PASSPHRASE, passphrase);
-        }
-        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
-        String stringToSign = timestamp + method + endpoint;
+    protected CoinbaseRequest signRequest(RequestMethod method, String endpoint, Params body) throws Exception {
+        return signRequest(method, endpoint, body, selectCredentials(endpoint, body, null));
+    }
+
+    /**
+     * Method to create a new signed {@code "Coinbase"} request
+     *
+     * @param method:      method HTTP for the request
+     * @param endpoint:    endpoint for the request and its query params es endpoint?param=paramValue
+     * @param body:        only if request has a body params (generally POST request)
+     * @param credentials: credentials used to sign the request, {@code null} to use the credentials of the manager
+     * @return signed request as {@link CoinbaseRequest}
+     * @implNote the headers are created for each request and never shared, so concurrent requests, also from
+     * different managers, cannot swap their signatures
+     */
+    private CoinbaseRequest signRequest(RequestMethod method, String endpoint, Params body,
+                                        CoinbaseCredentials credentials) throws Exception {
+        CoinbaseSigningEvent signingEvent = CoinbaseSigningEvent.start();
+        ClockSkewEstimator clockSkewEstimator = this.clockSkewEstimator;
+        long currentTime;
+        if (clockSkewEstimator != null)
+            currentTime = clockSkewEstimator.currentTimeMillis();
+        else
+            currentTime = System.currentTimeMillis();
+        String timestamp = String.valueOf(currentTime / 1000);
+        String payload = null;
         if (body != null)
-            stringToSign += body.createJSONPayload();
-        headers.addHeader(CB_ACCESS_SIGN, getBase64Signature(apiSecret, stringToSign, HMAC_SHA256_ALGORITHM));
-        headers.addHeader(CB_ACCESS_TIMESTAMP, timestamp);
+            payload = String.valueOf(body.createJSONPayload());
+        LinkedHashMap<String, String> requestHeaders = new LinkedHashMap<>();
+        requestHeaders.put("Accept", "application/json");
+        CoinbaseSigner signer;
+        if (credentials != null) {
+            requestHeaders.put(CB_ACCESS_KEY, credentials.getApiKey());
+            requestHeaders.put(CB_ACCESS_PASSPHRASE, credentials.getPassphrase());
+            signer = credentials.getSigner();
+        } else {
+            requestHeaders.put(CB_ACCESS_KEY, apiKey);
+            requestHeaders.put(CB_ACCESS_PASSPHRASE, passphrase);
+            signer = getSigner();
+        }
+        requestHeaders.put(CB_ACCESS_SIGN, signer.sign(timestamp, method.name(), endpoint, payload));
+        requestHeaders.put(CB_ACCESS_TIMESTAMP, timestamp);
+        CoinbaseRequest request = new CoinbaseRequest(method, endpoint, payload, timestamp, requestHeaders);
+        if (signingEvent != null)
+            signingEvent.finish(method, endpoint);
+        return request;
+    }
+
+    /**
+     * Method to get the signer of the requests <br>
+     * No-any params required
+     *
+     * @return signer of the requests as {@link CoinbaseSigner}
+     * @implNote the signer is created at the first signed request, so the api secret is decoded only once
+     */
+    protected CoinbaseSigner getSigner() {
+        CoinbaseSigner signer = this.signer;
+        if (signer == null)
+            this.signer = signer = new CoinbaseSigner(apiSecret);
+        return signer;
     }
 
     /**
@@ -440,15 +1716,30 @@ public class CoinbaseManager implements Manager {
         return passphrase;
     }
 
+    /**
+     * Method to get the last response received by the current thread <br>
+     * No-any params required
+     *
+     * @return last response received by the current thread as {@link CoinbaseResponse}, {@code null} if the
+     * current thread has not received any response yet
+     */
+    public CoinbaseResponse getLastResponse() {
+        return lastResponse.get();
+    }
+
     /**
      * Method to get the status code of a request <br>
      * No-any params required
      *
-     * @return status code of a request as int
+     * @return status code of a request as int, -1 if the current thread has not received any response
+     * @implNote refers to the last request sent by the current thread
      */
     @Override
     public int getStatusResponse() {
-        return apiRequest.getResponseStatusCode();
+        CoinbaseResponse response = lastResponse.get();
+        if (response == null)
+            return -1;
+        return response.getStatusCode();
     }
 
     /**
@@ -456,10 +1747,14 @@ public class CoinbaseManager implements Manager {
      * No-any params required
      *
      * @return response of a request as {@link String}
+     * @implNote refers to the last request sent by the current thread
      */
     @Override
     public String getResponse() {
-        return apiRequest.getResponse();
+        CoinbaseResponse response = lastResponse.get();
+        if (response == null)
+            return null;
+        return response.getBody();
     }
 
     /**
@@ -467,10 +1762,14 @@ public class CoinbaseManager implements Manager {
      * No-any params required
      *
      * @return error response of a request as {@link String}
+     * @implNote refers to the last request sent by the current thread
      */
     @Override
     public String getErrorResponse() {
-        return apiRequest.getErrorResponse();
+        CoinbaseResponse response = lastResponse.get();
+        if (response == null || response.isSuccessful())
+            return defaultErrorMessage;
+        return response.getErrorResponse();
     }
 
     /**
@@ -478,19 +1777,25 @@ public class CoinbaseManager implements Manager {
      * No-any params required
      *
      * @return error response of a request formatted in JSON as {@link T}
+     * @implNote refers to the last request sent by the current thread
      */
     @Override
     public <T> T getJSONErrorResponse() {
-        return apiRequest.getJSONErrorResponse();
+        CoinbaseResponse response = lastResponse.get();
+        if (response == null)
+            return null;
+        return response.getJSONErrorResponse();
     }
 
     /**
      * Method to print the error response of a request <br>
      * No-any params required
+     *
+     * @implNote refers to the last request sent by the current thread
      */
     @Override
     public void printErrorResponse() {
-        apiRequest.printErrorResponse();
+        System.out.println(getErrorResponse());
     }
 
     /**
@@ -527,4 +1832,29 @@ public class CoinbaseManager implements Manager {
      */
     public static class Params extends APIRequest.Params {}
 
+    /**
+     * The {@code LimiterReference} class is useful to weakly reference a default limiter with its api key
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class LimiterReference extends WeakReference<CoinbaseRateLimiter> {
+
+        /**
+         * {@code apiKey} is instance that memorizes the api key of the limiter
+         */
+        private final String apiKey;
+
+        /**
+         * Constructor to init a {@link LimiterReference}
+         *
+         * @param apiKey:      api key of the limiter
+         * @param rateLimiter: limiter to reference
+         */
+        private LimiterReference(String apiKey, CoinbaseRateLimiter rateLimiter) {
+            super(rateLimiter, releasedRateLimiters);
+            this.apiKey = apiKey;
+        }
+
+    }
+
 }
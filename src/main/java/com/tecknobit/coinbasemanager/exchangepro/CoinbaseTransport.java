@@ -0,0 +1,47 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@code CoinbaseTransport} interface is useful to define how the signed requests are sent to {@code "Coinbase"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the implementations must be thread-safe because the same transport can be shared between different
+ * managers and threads
+ * @see HttpClientTransport
+ */
+public interface CoinbaseTransport {
+
+    /**
+     * Method to send a signed request and get its response
+     *
+     * @param request: signed request to send
+     * @return response of the request as {@link CoinbaseResponse}
+     * @throws IOException          when the request cannot be sent or its response cannot be read
+     * @throws InterruptedException when the current thread is interrupted while waiting the response
+     * @implNote this method must not throw when the response has an error status code
+     */
+    CoinbaseResponse send(CoinbaseRequest request) throws IOException, InterruptedException;
+
+    /**
+     * Method to send asynchronously a signed request
+     *
+     * @param request: signed request to send
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     * @implNote the returned future must not be completed exceptionally when the response has an error status code
+     */
+    CompletableFuture<CoinbaseResponse> sendAsync(CoinbaseRequest request);
+
+    /**
+     * Method to get the base url where the requests are sent <br>
+     * No-any params required
+     *
+     * @return base url where the requests are sent as {@link String}
+     */
+    String getBaseUrl();
+
+}
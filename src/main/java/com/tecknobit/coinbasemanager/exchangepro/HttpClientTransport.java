@@ -0,0 +1,436 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.BASE_ENDPOINT;
+
+/**
+ * The {@code HttpClientTransport} class is the default {@link CoinbaseTransport} and sends the requests with a
+ * {@link HttpClient}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the connections are kept alive and reused between the requests, when the server supports {@code "HTTP/2"}
+ * the concurrent requests are multiplexed on the same connection, otherwise {@code "HTTP/1.1"} is used, so share the
+ * same instance between the managers to share also its connections. The responses are requested compressed with
+ * {@code "gzip"} or {@code "deflate"} and decompressed while they are read, so the large lists, as the trading pairs, the
+ * level 3 books, the fills and the ledgers, use a fraction of the bandwidth. The asynchronous responses are
+ * decompressed on the {@link #decodingExecutor}, so the decompression of a large body never runs on the threads of
+ * the client
+ * @see CoinbaseTransport
+ */
+public class HttpClientTransport implements CoinbaseTransport {
+
+    /**
+     * {@code ACCEPTED_ENCODINGS} is constant for the encodings of the responses accepted
+     */
+    public static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+    /**
+     * {@code DEFAULT_TIMEOUT} is constant for the timeout in millis used when a custom timeout is not set, so a
+     * request never waits a stalled connection forever
+     */
+    public static final int DEFAULT_TIMEOUT = 10000;
+
+    /**
+     * {@code BUFFER_SIZE} is constant for the size of the buffer used to decompress the responses
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * {@code baseUrl} is instance that memorizes the base url where the requests are sent
+     */
+    private final String baseUrl;
+
+    /**
+     * {@code timeout} is instance that memorizes the timeout in millis to connect and to receive each response
+     */
+    private final int timeout;
+
+    /**
+     * {@code httpClient} is instance used to send the requests
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * {@code compression} is instance that memorizes whether the responses are requested compressed
+     */
+    private final boolean compression;
+
+    /**
+     * {@code decodingExecutor} is instance used to decompress the bodies of the asynchronous responses
+     */
+    private final Executor decodingExecutor;
+
+    /**
+     * Constructor to init a {@link HttpClientTransport}
+     *
+     * @param baseUrl: base url where send the requests es. http://localhost:8080
+     * @param timeout: custom timeout in millis for request, -1 to use the {@link #DEFAULT_TIMEOUT}
+     */
+    public HttpClientTransport(String baseUrl, int timeout) {
+        this(baseUrl, timeout, HttpClient.Version.HTTP_2);
+    }
+
+    /**
+     * Constructor to init a {@link HttpClientTransport}
+     *
+     * @param baseUrl: base url where send the requests es. http://localhost:8080
+     * @param timeout: custom timeout in millis for request, -1 to use the {@link #DEFAULT_TIMEOUT}
+     * @param version: preferred version of the {@code "HTTP"} protocol
+     */
+    public HttpClientTransport(String baseUrl, int timeout, HttpClient.Version version) {
+        this(baseUrl, timeout, version, true);
+    }
+
+    /**
+     * Constructor to init a {@link HttpClientTransport}
+     *
+     * @param baseUrl:     base url where send the requests es. http://localhost:8080
+     * @param timeout:     custom timeout in millis for request, -1 to use the {@link #DEFAULT_TIMEOUT}
+     * @param version:     preferred version of the {@code "HTTP"} protocol
+     * @param compression: whether the responses are requested compressed
+     * @implNote the compressed responses are always decompressed, also when they have not been requested compressed,
+     * the asynchronous responses on the {@link ForkJoinPool#commonPool()}
+     */
+    public HttpClientTransport(String baseUrl, int timeout, HttpClient.Version version, boolean compression) {
+        this(baseUrl, timeout, version, compression, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor to init a {@link HttpClientTransport}
+     *
+     * @param baseUrl:          base url where send the requests es. http://localhost:8080
+     * @param timeout:          custom timeout in millis for request, -1 to use the {@link #DEFAULT_TIMEOUT}
+     * @param version:          preferred version of the {@code "HTTP"} protocol
+     * @param compression:      whether the responses are requested compressed
+     * @param decodingExecutor: executor used to decompress the bodies of the asynchronous responses
+     * @implNote the compressed responses are always decompressed, also when they have not been requested compressed
+     */
+    public HttpClientTransport(String baseUrl, int timeout, HttpClient.Version version, boolean compression,
+                               Executor decodingExecutor) {
+        if (decodingExecutor == null)
+            throw new IllegalArgumentException("The decoding executor cannot be null");
+        if (baseUrl == null || baseUrl.isEmpty())
+            throw new IllegalArgumentException("The base url cannot be null or empty");
+        if (baseUrl.endsWith("/"))
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        this.baseUrl = baseUrl;
+        if (timeout <= 0)
+            timeout = DEFAULT_TIMEOUT;
+        this.timeout = timeout;
+        this.compression = compression;
+        this.decodingExecutor = decodingExecutor;
+        httpClient = HttpClient.newBuilder()
+                .version(version)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(timeout))
+                .build();
+    }
+
+    /**
+     * Constructor to init a {@link HttpClientTransport}
+     *
+     * @param baseUrl: base url where send the requests es. http://localhost:8080
+     */
+    public HttpClientTransport(String baseUrl) {
+        this(baseUrl, -1);
+    }
+
+    /**
+     * Constructor to init a {@link HttpClientTransport}
+     *
+     * @param timeout: custom timeout in millis for request, -1 to use the {@link #DEFAULT_TIMEOUT}
+     * @apiNote the requests will be sent to {@link CoinbaseManager#BASE_ENDPOINT}
+     */
+    public HttpClientTransport(int timeout) {
+        this(BASE_ENDPOINT, timeout);
+    }
+
+    /**
+     * Constructor to init a {@link HttpClientTransport} <br>
+     * No-any params required
+     *
+     * @apiNote the requests will be sent to {@link CoinbaseManager#BASE_ENDPOINT}
+     */
+    public HttpClientTransport() {
+        this(BASE_ENDPOINT, -1);
+    }
+
+    /**
+     * Method to send a signed request and get its response
+     *
+     * @param request: signed request to send
+     * @return response of the request as {@link CoinbaseResponse}
+     * @throws IOException          when the request cannot be sent or its response cannot be read
+     * @throws InterruptedException when the current thread is interrupted while waiting the response
+     */
+    @Override
+    public CoinbaseResponse send(CoinbaseRequest request) throws IOException, InterruptedException {
+        HttpRequest httpRequest = createHttpRequest(request);
+        long sentAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient.send(httpRequest, BodyHandlers.ofInputStream());
+        return readResponse(request, response, response.body(), sentAt, start);
+    }
+
+    /**
+     * Method to send asynchronously a signed request
+     *
+     * @param request: signed request to send
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    @Override
+    public CompletableFuture<CoinbaseResponse> sendAsync(CoinbaseRequest request) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = createHttpRequest(request);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long sentAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        // the body is buffered compressed and decompressed on the decoding executor, not on the threads of the client
+        return httpClient.sendAsync(httpRequest, BodyHandlers.ofByteArray())
+                .thenComposeAsync(response -> {
+                    try {
+                        return CompletableFuture.completedFuture(readResponse(request, response,
+                                new ByteArrayInputStream(response.body()), sentAt, start));
+                    } catch (IOException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                }, decodingExecutor);
+    }
+
+    /**
+     * Method to read the body of a response and create the {@link CoinbaseResponse}
+     *
+     * @param request:  signed request sent
+     * @param response: HTTP response received
+     * @param body:     body of the response as received on the network
+     * @param sentAt:   timestamp in millis when the request has been sent
+     * @param start:    time in nanos when the request has been sent
+     * @return response of the request as {@link CoinbaseResponse}
+     * @throws IOException when the body cannot be read or its encoding is not supported
+     */
+    private static CoinbaseResponse readResponse(CoinbaseRequest request, HttpResponse<?> response, InputStream body,
+                                                 long sentAt, long start) throws IOException {
+        String contentEncoding = response.headers().firstValue("Content-Encoding").orElse(null);
+        if (contentEncoding != null) {
+            contentEncoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+            if (contentEncoding.isEmpty() || contentEncoding.equals("identity"))
+                contentEncoding = null;
+        }
+        // the body is closed also when it cannot be decoded, so its connection or stream is always released
+        try (CountingInputStream wire = new CountingInputStream(body);
+             InputStream decoded = decode(wire, contentEncoding)) {
+            String content = new String(decoded.readAllBytes(), UTF_8);
+            return new CoinbaseResponse(request, response.statusCode(), content, sentAt, System.nanoTime() - start,
+                    wire.count, contentEncoding);
+        }
+    }
+
+    /**
+     * Method to decode the body of a response while it is read
+     *
+     * @param body:            body of the response as received on the network
+     * @param contentEncoding: encoding of the body, {@code null} if not encoded
+     * @return body decoded as {@link InputStream}
+     * @throws IOException when the encoding is not supported
+     */
+    private static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null)
+            return body;
+        PushbackInputStream stream = new PushbackInputStream(body, 2);
+        byte[] header = new byte[2];
+        int read = stream.readNBytes(header, 0, 2);
+        if (read == 0)
+            return stream;
+        stream.unread(header, 0, read);
+        switch (contentEncoding) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(stream, BUFFER_SIZE);
+            case "deflate":
+                // some servers send the raw deflate data without the zlib wrapper required by the RFC
+                int cmf = header[0] & 0xFF;
+                boolean zlib = read == 2 && (cmf & 0x0F) == 8 && ((cmf << 8) | (header[1] & 0xFF)) % 31 == 0;
+                Inflater inflater = new Inflater(!zlib);
+                return new InflaterInputStream(stream, inflater, BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        super.close();
+                        inflater.end();
+                    }
+                };
+            default:
+                throw new IOException("Unsupported content encoding: " + contentEncoding);
+        }
+    }
+
+    /**
+     * Method to create the {@link HttpRequest} to send for a signed request
+     *
+     * @param request: signed request to send
+     * @return HTTP request as {@link HttpRequest}
+     */
+    private HttpRequest createHttpRequest(CoinbaseRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.getEndpoint()))
+                .timeout(Duration.ofMillis(timeout));
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet())
+            builder.header(header.getKey(), header.getValue());
+        if (compression && !request.getHeaders().containsKey("Accept-Encoding"))
+            builder.header("Accept-Encoding", ACCEPTED_ENCODINGS);
+        String body = request.getBody();
+        if (body != null) {
+            builder.header("Content-Type", "application/json");
+            builder.method(request.getMethod().name(), BodyPublishers.ofString(body));
+        } else
+            builder.method(request.getMethod().name(), BodyPublishers.noBody());
+        return builder.build();
+    }
+
+    /**
+     * Method to get {@link #baseUrl} instance <br>
+     * No-any params required
+     *
+     * @return {@link #baseUrl} instance as {@link String}
+     */
+    @Override
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Method to get {@link #timeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #timeout} instance as int
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Method to get {@link #httpClient} instance <br>
+     * No-any params required
+     *
+     * @return {@link #httpClient} instance as {@link HttpClient}
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Method to get {@link #compression} instance <br>
+     * No-any params required
+     *
+     * @return {@link #compression} instance as boolean
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * Method to get {@link #decodingExecutor} instance <br>
+     * No-any params required
+     *
+     * @return {@link #decodingExecutor} instance as {@link Executor}
+     */
+    public Executor getDecodingExecutor() {
+        return decodingExecutor;
+    }
+
+    /**
+     * The {@code CountingInputStream} class is useful to count the bytes of a body received on the network
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        /**
+         * {@code count} is instance that memorizes the number of bytes read
+         */
+        private long count;
+
+        /**
+         * Constructor to init a {@link CountingInputStream}
+         *
+         * @param in: stream of which count the bytes
+         */
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        /**
+         * Method to read a byte <br>
+         * No-any params required
+         *
+         * @return byte read as int, -1 at the end of the stream
+         * @throws IOException when the byte cannot be read
+         */
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1)
+                count++;
+            return value;
+        }
+
+        /**
+         * Method to read some bytes
+         *
+         * @param buffer: buffer where read the bytes
+         * @param offset: offset in the buffer where start to write
+         * @param length: max number of bytes to read
+         * @return number of bytes read as int, -1 at the end of the stream
+         * @throws IOException when the bytes cannot be read
+         */
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0)
+                count += read;
+            return read;
+        }
+
+        /**
+         * Method to skip some bytes
+         *
+         * @param n: number of bytes to skip
+         * @return number of bytes skipped as long
+         * @throws IOException when the bytes cannot be skipped
+         */
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+    }
+
+}
@@ -15,10 +15,10 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
-import static com.tecknobit.coinbasemanager.exchangepro.account.records.details.Transfer.returnTransfersList;
 
 /**
  * The {@code CoinbaseAccountManager} class is useful to manage all {@code "Coinbase"} account endpoints
@@ -164,22 +164,9 @@ public class CoinbaseAccountManager extends CoinbaseManager {
      * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccounts">
      * Get all accounts for a profile</a>
      */
-    @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts")
     public <T> T getAccountsForProfile(ReturnFormat format) throws Exception {
-        String accountsResponse = sendGETRequest(ACCOUNT_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(accountsResponse);
-            case LIBRARY_OBJECT:
-                JSONArray jAccounts = new JSONArray(accountsResponse);
-                ArrayList<Account> accounts = new ArrayList<>();
-                for (int j = 0; j < jAccounts.length(); j++)
-                    accounts.add(new Account(jAccounts.getJSONObject(j)));
-                return (T) accounts;
-            default:
-                return (T) accountsResponse;
-        }
+        return returnAccountsList(sendGETRequest(ACCOUNT_ENDPOINT), format);
     }
 
     /**
@@ -229,18 +216,9 @@ public class CoinbaseAccountManager extends CoinbaseManager {
      * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccount">
      * Get a single account by id</a>
      */
-    @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/{account_id}")
     public <T> T getAccountProfile(String accountId, ReturnFormat format) throws Exception {
-        String accountResponse = sendGETRequest(ACCOUNT_ENDPOINT + "/" + accountId);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(accountResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Account(new JSONObject(accountResponse));
-            default:
-                return (T) accountResponse;
-        }
+        return returnAccount(sendGETRequest(ACCOUNT_ENDPOINT + "/" + accountId), format);
     }
 
     /**
@@ -381,18 +359,20 @@ public class CoinbaseAccountManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnHoldsList(String holdsListResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(holdsListResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Hold> holds = new ArrayList<>();
-                JSONArray jHolds = new JSONArray(holdsListResponse);
-                for (int j = 0; j < jHolds.length(); j++)
-                    holds.add(new Hold(jHolds.getJSONObject(j)));
-                return (T) holds;
-            default:
-                return (T) holdsListResponse;
-        }
+        return returnFormatted("CoinbaseAccountManager.returnHoldsList", holdsListResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(holdsListResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Hold> holds = new ArrayList<>();
+                    JSONArray jHolds = new JSONArray(holdsListResponse);
+                    for (int j = 0; j < jHolds.length(); j++)
+                        holds.add(new Hold(jHolds.getJSONObject(j)));
+                    return (T) holds;
+                default:
+                    return (T) holdsListResponse;
+            }
+        });
     }
 
     /**
@@ -552,18 +532,20 @@ public class CoinbaseAccountManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnLedgersList(String holdsLedgersResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(holdsLedgersResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Ledger> ledgers = new ArrayList<>();
-                JSONArray jLedgers = new JSONArray(holdsLedgersResponse);
-                for (int j = 0; j < jLedgers.length(); j++)
-                    ledgers.add(new Ledger(jLedgers.getJSONObject(j)));
-                return (T) ledgers;
-            default:
-                return (T) holdsLedgersResponse;
-        }
+        return returnFormatted("CoinbaseAccountManager.returnLedgersList", holdsLedgersResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(holdsLedgersResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Ledger> ledgers = new ArrayList<>();
+                    JSONArray jLedgers = new JSONArray(holdsLedgersResponse);
+                    for (int j = 0; j < jLedgers.length(); j++)
+                        ledgers.add(new Ledger(jLedgers.getJSONObject(j)));
+                    return (T) ledgers;
+                default:
+                    return (T) holdsLedgersResponse;
+            }
+        });
     }
 
     /**
@@ -615,10 +597,23 @@ public class CoinbaseAccountManager extends CoinbaseManager {
      */
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/transfers")
     public <T> T getAccountProfileTransfers(String accountId, ReturnFormat format) throws Exception {
-        return returnTransfersList(sendGETRequest(ACCOUNT_ENDPOINT + "/" + accountId + "/transfers"),
+        return returnTransfers(sendGETRequest(ACCOUNT_ENDPOINT + "/" + accountId + "/transfers"),
                 format);
     }
 
+    /**
+     * Method to assemble a transfers list
+     *
+     * @param transfersResponse: transfers list response to format
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return transfers list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnTransfers(String transfersResponse, ReturnFormat format) {
+        return returnFormatted("Transfer.returnTransfersList", transfersResponse, format,
+                () -> Transfer.returnTransfersList(transfersResponse, format));
+    }
+
     /**
      * Request to get transfer information from one profile
      *
@@ -698,7 +693,7 @@ public class CoinbaseAccountManager extends CoinbaseManager {
      */
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/transfers")
     public <T> T getAccountProfileTransfers(String accountId, Params queryParams, ReturnFormat format) throws Exception {
-        return returnTransfersList(sendGETRequest(ACCOUNT_ENDPOINT + "/" + accountId + "/transfers" +
+        return returnTransfers(sendGETRequest(ACCOUNT_ENDPOINT + "/" + accountId + "/transfers" +
                 queryParams.createQueryString()), format);
     }
 
@@ -751,19 +746,7 @@ public class CoinbaseAccountManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/coinbase-accounts")
     public <T> T getCoinbaseWallets(ReturnFormat format) throws Exception {
-        String walletsResponse = sendGETRequest(COINBASE_ACCOUNT_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(walletsResponse);
-            case LIBRARY_OBJECT:
-                JSONArray jWallets = new JSONArray(walletsResponse);
-                ArrayList<CoinbaseAccount> wallets = new ArrayList<>();
-                for (int j = 0; j < jWallets.length(); j++)
-                    wallets.add(new CoinbaseAccount(jWallets.getJSONObject(j)));
-                return (T) wallets;
-            default:
-                return (T) walletsResponse;
-        }
+        return returnCoinbaseAccountsList(sendGETRequest(COINBASE_ACCOUNT_ENDPOINT), format);
     }
 
     /**
@@ -816,15 +799,468 @@ public class CoinbaseAccountManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/coinbase-accounts/{account_id}/addresses")
     public <T> T generateCryptoAddress(String accountId, ReturnFormat format) throws Exception {
-        String cryptoResponse = sendGETRequest(COINBASE_ACCOUNT_ENDPOINT + "/" + accountId + "/addresses");
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(cryptoResponse);
-            case LIBRARY_OBJECT:
-                return (T) new CryptoAddress(new JSONObject(cryptoResponse));
-            default:
-                return (T) cryptoResponse;
-        }
+        return returnCryptoAddress(sendGETRequest(COINBASE_ACCOUNT_ENDPOINT + "/" + accountId + "/addresses"), format);
+    }
+
+    /**
+     * Request to get all accounts for a profile asynchronously
+     *
+     * @return all accounts for a profile as {@link CompletableFuture} of {@link ArrayList} of {@link Account},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccounts">
+     * Get all accounts for a profile</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts")
+    public CompletableFuture<ArrayList<Account>> getAccountsForProfileAsync() {
+        return getAccountsForProfileAsync(ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all accounts for a profile asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return all accounts for a profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccounts">
+     * Get all accounts for a profile</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts")
+    public <T> CompletableFuture<T> getAccountsForProfileAsync(ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT).thenApply(accountsResponse ->
+                returnAccountsList(accountsResponse, format));
+    }
+
+    /**
+     * Method to assemble an accounts list
+     *
+     * @param accountsResponse: accounts list response to format
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @return accounts list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnAccountsList(String accountsResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseAccountManager.returnAccountsList", accountsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(accountsResponse);
+                case LIBRARY_OBJECT:
+                    JSONArray jAccounts = new JSONArray(accountsResponse);
+                    ArrayList<Account> accounts = new ArrayList<>();
+                    for (int j = 0; j < jAccounts.length(); j++)
+                        accounts.add(new Account(jAccounts.getJSONObject(j)));
+                    return (T) accounts;
+                default:
+                    return (T) accountsResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get one account from a profile asynchronously
+     *
+     * @param accountId: account id to fetch from profile
+     * @return one account from a profile as {@link CompletableFuture} of {@link Account},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccount">
+     * Get a single account by id</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/{account_id}")
+    public CompletableFuture<Account> getAccountProfileAsync(String accountId) {
+        return getAccountProfileAsync(accountId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get one account from a profile asynchronously
+     *
+     * @param accountId: account id to fetch from profile
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return one account from a profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccount">
+     * Get a single account by id</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/{account_id}")
+    public <T> CompletableFuture<T> getAccountProfileAsync(String accountId, ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT + "/" + accountId).thenApply(accountResponse ->
+                returnAccount(accountResponse, format));
+    }
+
+    /**
+     * Method to assemble an account object
+     *
+     * @param accountResponse: account response to format
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return account response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnAccount(String accountResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseAccountManager.returnAccount", accountResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(accountResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Account(new JSONObject(accountResponse));
+                default:
+                    return (T) accountResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get hold information from one profile asynchronously
+     *
+     * @param accountId: account id to fetch hold information
+     * @return hold information from one profile as {@link CompletableFuture} of {@link ArrayList} of {@link Hold},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountholds">
+     * Get a single account's holds</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/{account_id}/holds")
+    public CompletableFuture<ArrayList<Hold>> getAccountProfileHoldsAsync(String accountId) {
+        return getAccountProfileHoldsAsync(accountId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get hold information from one profile asynchronously
+     *
+     * @param accountId: account id to fetch hold information
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return hold information from one profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountholds">
+     * Get a single account's holds</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/{account_id}/holds")
+    public <T> CompletableFuture<T> getAccountProfileHoldsAsync(String accountId, ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT + "/" + accountId + "/holds").thenApply(holdsListResponse ->
+                returnHoldsList(holdsListResponse, format));
+    }
+
+    /**
+     * Request to get hold information from one profile asynchronously
+     *
+     * @param accountId:   account id to fetch hold information
+     * @param queryParams: extra query params, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                     </ul>
+     * @return hold information from one profile as {@link CompletableFuture} of {@link ArrayList} of {@link Hold},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountholds">
+     * Get a single account's holds</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/{account_id}/holds")
+    public CompletableFuture<ArrayList<Hold>> getAccountProfileHoldsAsync(String accountId, Params queryParams) {
+        return getAccountProfileHoldsAsync(accountId, queryParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get hold information from one profile asynchronously
+     *
+     * @param accountId:   account id to fetch hold information
+     * @param queryParams: extra query params, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                     </ul>
+     * @return hold information from one profile as {@link CompletableFuture} of {@link ArrayList} of {@link Hold},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountholds">
+     * Get a single account's holds</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/{account_id}/holds")
+    public <T> CompletableFuture<T> getAccountProfileHoldsAsync(String accountId, Params queryParams,
+                                                                ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT + "/" + accountId + "/holds" + queryParams.createQueryString())
+                .thenApply(holdsListResponse -> returnHoldsList(holdsListResponse, format));
+    }
+
+    /**
+     * Request to get ledger information from one profile asynchronously
+     *
+     * @param accountId: account id to fetch ledger information
+     * @return ledger information from one profile as {@link CompletableFuture} of {@link ArrayList} of {@link Ledger},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountledger">
+     * Get a single account's ledger</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/ledger")
+    public CompletableFuture<ArrayList<Ledger>> getAccountProfileLedgersAsync(String accountId) {
+        return getAccountProfileLedgersAsync(accountId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get ledger information from one profile asynchronously
+     *
+     * @param accountId: account id to fetch ledger information
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return ledger information from one profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountledger">
+     * Get a single account's ledger</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/ledger")
+    public <T> CompletableFuture<T> getAccountProfileLedgersAsync(String accountId, ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT + "/" + accountId + "/ledger").thenApply(ledgersResponse ->
+                returnLedgersList(ledgersResponse, format));
+    }
+
+    /**
+     * Request to get ledger information from one profile asynchronously
+     *
+     * @param accountId:   account id to fetch ledger information
+     * @param queryParams: extra query params, keys accepted are the same of
+     *                     {@link #getAccountProfileLedgers(String, Params)}
+     * @return ledger information from one profile as {@link CompletableFuture} of {@link ArrayList} of {@link Ledger},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountledger">
+     * Get a single account's ledger</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/ledger")
+    public CompletableFuture<ArrayList<Ledger>> getAccountProfileLedgersAsync(String accountId, Params queryParams) {
+        return getAccountProfileLedgersAsync(accountId, queryParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get ledger information from one profile asynchronously
+     *
+     * @param accountId:   account id to fetch ledger information
+     * @param queryParams: extra query params, keys accepted are the same of
+     *                     {@link #getAccountProfileLedgers(String, Params)}
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return ledger information from one profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccountledger">
+     * Get a single account's ledger</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/ledger")
+    public <T> CompletableFuture<T> getAccountProfileLedgersAsync(String accountId, Params queryParams, ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT + "/" + accountId + "/ledger", queryParams).thenApply(ledgersResponse ->
+                returnLedgersList(ledgersResponse, format));
+    }
+
+    /**
+     * Request to get transfers information from one profile asynchronously
+     *
+     * @param accountId: account id to fetch transfers information
+     * @return transfers information from one profile as {@link CompletableFuture} of {@link ArrayList} of {@link Transfer},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccounttransfers">
+     * Get a single account's transfers</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/transfers")
+    public CompletableFuture<ArrayList<Transfer>> getAccountProfileTransfersAsync(String accountId) {
+        return getAccountProfileTransfersAsync(accountId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get transfers information from one profile asynchronously
+     *
+     * @param accountId: account id to fetch transfers information
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return transfers information from one profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccounttransfers">
+     * Get a single account's transfers</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/transfers")
+    public <T> CompletableFuture<T> getAccountProfileTransfersAsync(String accountId, ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT + "/" + accountId + "/transfers").thenApply(transfersResponse ->
+                returnTransfers(transfersResponse, format));
+    }
+
+    /**
+     * Request to get transfer information from one profile asynchronously
+     *
+     * @param accountId:   account id to fetch transfer information
+     * @param queryParams: extra query params, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "type"} -> type - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                     </ul>
+     * @return transfer information from one profile as {@link CompletableFuture} of {@link ArrayList} of
+     * {@link Transfer}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccounttransfers">
+     * Get a single account's transfers</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/transfers")
+    public CompletableFuture<ArrayList<Transfer>> getAccountProfileTransfersAsync(String accountId,
+                                                                                  Params queryParams) {
+        return getAccountProfileTransfersAsync(accountId, queryParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get transfer information from one profile asynchronously
+     *
+     * @param accountId:   account id to fetch transfer information
+     * @param queryParams: extra query params, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "type"} -> type - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return transfer information from one profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaccounttransfers">
+     * Get a single account's transfers</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/accounts/account_id/transfers")
+    public <T> CompletableFuture<T> getAccountProfileTransfersAsync(String accountId, Params queryParams,
+                                                                    ReturnFormat format) {
+        return sendGETRequestAsync(ACCOUNT_ENDPOINT + "/" + accountId + "/transfers" + queryParams.createQueryString())
+                .thenApply(transfersResponse -> returnTransfers(transfersResponse, format));
+    }
+
+    /**
+     * Request to get all {@code "Coinbase"}'s users wallets available asynchronously
+     * No-any params required
+     *
+     * @return all {@code "Coinbase"}'s users wallets available as {@link CompletableFuture} of {@link ArrayList} of
+     * {@link CoinbaseAccount}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcoinbaseaccounts">
+     * Get all Coinbase wallets</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/coinbase-accounts")
+    public CompletableFuture<ArrayList<CoinbaseAccount>> getCoinbaseWalletsAsync() {
+        return getCoinbaseWalletsAsync(ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all {@code "Coinbase"}'s users wallets available asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return all {@code "Coinbase"}'s users wallets available as {@link CompletableFuture} of {@code "format"}
+     * defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcoinbaseaccounts">
+     * Get all Coinbase wallets</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/coinbase-accounts")
+    public <T> CompletableFuture<T> getCoinbaseWalletsAsync(ReturnFormat format) {
+        return sendGETRequestAsync(COINBASE_ACCOUNT_ENDPOINT)
+                .thenApply(walletsResponse -> returnCoinbaseAccountsList(walletsResponse, format));
+    }
+
+    /**
+     * Method to assemble a coinbase wallets list
+     *
+     * @param walletsResponse: coinbase wallets list response to format
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return coinbase wallets list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnCoinbaseAccountsList(String walletsResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseAccountManager.returnCoinbaseAccountsList", walletsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(walletsResponse);
+                case LIBRARY_OBJECT:
+                    JSONArray jWallets = new JSONArray(walletsResponse);
+                    ArrayList<CoinbaseAccount> wallets = new ArrayList<>();
+                    for (int j = 0; j < jWallets.length(); j++)
+                        wallets.add(new CoinbaseAccount(jWallets.getJSONObject(j)));
+                    return (T) wallets;
+                default:
+                    return (T) walletsResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to generate one time crypto address for a deposit asynchronously
+     *
+     * @param accountId: account id used to create crypto address
+     * @return response of generation one time crypto address for a deposit as {@link CompletableFuture} of
+     * {@link CryptoAddress}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postcoinbaseaccountaddresses">
+     * Generate crypto address</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/coinbase-accounts/{account_id}/addresses")
+    public CompletableFuture<CryptoAddress> generateCryptoAddressAsync(String accountId) {
+        return generateCryptoAddressAsync(accountId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to generate one time crypto address for a deposit asynchronously
+     *
+     * @param accountId: account id used to create crypto address
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return response of generation one time crypto address for a deposit as {@link CompletableFuture} of
+     * {@code "format"} defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postcoinbaseaccountaddresses">
+     * Generate crypto address</a>
+     */
+    @Returner
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/coinbase-accounts/{account_id}/addresses")
+    public <T> CompletableFuture<T> generateCryptoAddressAsync(String accountId, ReturnFormat format) {
+        return sendGETRequestAsync(COINBASE_ACCOUNT_ENDPOINT + "/" + accountId + "/addresses")
+                .thenApply(cryptoResponse -> returnCryptoAddress(cryptoResponse, format));
+    }
+
+    /**
+     * Method to assemble a crypto address object
+     *
+     * @param cryptoResponse: crypto address response to format
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return crypto address response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnCryptoAddress(String cryptoResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseAccountManager.returnCryptoAddress", cryptoResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(cryptoResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new CryptoAddress(new JSONObject(cryptoResponse));
+                default:
+                    return (T) cryptoResponse;
+            }
+        });
     }
 
 }
@@ -12,6 +12,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.ReturnFormat.LIBRARY_OBJECT;
@@ -150,17 +151,7 @@ public class CoinbaseAddressBookManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/address-book")
     public <T> T getAddressBook(ReturnFormat format) throws Exception {
-        JSONArray addressBookResponse = new JSONArray(sendGETRequest(ADDRESS_BOOK_ENDPOINT));
-        return switch (format) {
-            case JSON -> (T) addressBookResponse;
-            case LIBRARY_OBJECT -> {
-                ArrayList<AddressBookItem> addressBook = new ArrayList<>();
-                for (int j = 0; j < addressBookResponse.length(); j++)
-                    addressBook.add(new AddressBookItem(addressBookResponse.getJSONObject(j)));
-                yield (T) addressBook;
-            }
-            default -> (T) addressBookResponse.toString();
-        };
+        return returnAddressBook(sendGETRequest(ADDRESS_BOOK_ENDPOINT), format);
     }
 
     /**
@@ -286,12 +277,7 @@ public class CoinbaseAddressBookManager extends CoinbaseManager {
         if (payload == null)
             payload = new Params();
         payload.addParam("to", to);
-        JSONObject addressBookResponse = new JSONObject(sendPostRequest(ADDRESS_BOOK_ENDPOINT, payload));
-        return switch (format) {
-            case JSON -> (T) addressBookResponse;
-            case LIBRARY_OBJECT -> (T) new AddressBookAdded(addressBookResponse);
-            default -> (T) addressBookResponse.toString();
-        };
+        return returnAddressBookAdded(sendPostRequest(ADDRESS_BOOK_ENDPOINT, payload), format);
     }
 
     /**
@@ -345,4 +331,189 @@ public class CoinbaseAddressBookManager extends CoinbaseManager {
         return sendDELETERequest(ADDRESS_BOOK_ENDPOINT + "/" + id).equals("{}");
     }
 
+    /**
+     * Request to get all addresses stored in the address book asynchronously <br>
+     * No-any params required
+     *
+     * @return addresses stored in the address book as {@link CompletableFuture} of {@link ArrayList} of
+     * {@link AddressBookItem}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaddressbook">
+     * Get address book</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/address-book")
+    public CompletableFuture<ArrayList<AddressBookItem>> getAddressBookAsync() {
+        return getAddressBookAsync(LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all addresses stored in the address book asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return addresses stored in the address book as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getaddressbook">
+     * Get address book</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/address-book")
+    public <T> CompletableFuture<T> getAddressBookAsync(ReturnFormat format) {
+        return sendGETRequestAsync(ADDRESS_BOOK_ENDPOINT)
+                .thenApply(addressBookResponse -> returnAddressBook(addressBookResponse, format));
+    }
+
+    /**
+     * Method to assemble an address book
+     *
+     * @param addressBookResponse: address book response to format
+     * @param format:              return type formatter -> {@link ReturnFormat}
+     * @return address book response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnAddressBook(String addressBookResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseAddressBookManager.returnAddressBook", addressBookResponse, format, () -> {
+            return switch (format) {
+                case JSON -> (T) new JSONArray(addressBookResponse);
+                case LIBRARY_OBJECT -> {
+                    JSONArray jAddressBook = new JSONArray(addressBookResponse);
+                    ArrayList<AddressBookItem> addressBook = new ArrayList<>();
+                    for (int j = 0; j < jAddressBook.length(); j++)
+                        addressBook.add(new AddressBookItem(jAddressBook.getJSONObject(j)));
+                    yield (T) addressBook;
+                }
+                default -> (T) addressBookResponse;
+            };
+        });
+    }
+
+    /**
+     * Request to add new addresses to address book asynchronously
+     *
+     * @param to: address to add
+     * @return new addresses as {@link CompletableFuture} of {@link AddressBookAdded},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postaddressbook">
+     * Add address</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/address-book")
+    public CompletableFuture<AddressBookAdded> addAddressAsync(AddressBookItem to) {
+        return addAddressAsync(to, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to add new addresses to address book asynchronously
+     *
+     * @param to:     address to add
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return new addresses as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postaddressbook">
+     * Add address</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/address-book")
+    public <T> CompletableFuture<T> addAddressAsync(AddressBookItem to, ReturnFormat format) {
+        return addAddressAsync(to, null, format);
+    }
+
+    /**
+     * Request to add new addresses to address book asynchronously
+     *
+     * @param to:      address to add
+     * @param payload: extra query params, keys accepted are:
+     *                 <ul>
+     *                      <li>
+     *                          {@code "currency"} -> currency symbol - [string]
+     *                      </li>
+     *                      <li>
+     *                          {@code "label"} -> label/nickname for address book entry - [string]
+     *                      </li>
+     *                 </ul>
+     * @return new addresses as {@link CompletableFuture} of {@link AddressBookAdded},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postaddressbook">
+     * Add address</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/address-book")
+    public CompletableFuture<AddressBookAdded> addAddressAsync(AddressBookItem to, Params payload) {
+        return addAddressAsync(to, payload, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to add new addresses to address book asynchronously
+     *
+     * @param to:      address to add
+     * @param payload: extra query params, keys accepted are:
+     *                 <ul>
+     *                      <li>
+     *                          {@code "currency"} -> currency symbol - [string]
+     *                      </li>
+     *                      <li>
+     *                          {@code "label"} -> label/nickname for address book entry - [string]
+     *                      </li>
+     *                 </ul>
+     * @param format:  return type formatter -> {@link ReturnFormat}
+     * @return new addresses as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postaddressbook">
+     * Add address</a>
+     */
+    @Returner
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/address-book")
+    public <T> CompletableFuture<T> addAddressAsync(AddressBookItem to, Params payload, ReturnFormat format) {
+        if (payload == null)
+            payload = new Params();
+        payload.addParam("to", to);
+        return sendPostRequestAsync(ADDRESS_BOOK_ENDPOINT, payload)
+                .thenApply(addressBookResponse -> returnAddressBookAdded(addressBookResponse, format));
+    }
+
+    /**
+     * Method to assemble an address book added object
+     *
+     * @param addressBookResponse: address book added response to format
+     * @param format:              return type formatter -> {@link ReturnFormat}
+     * @return address book added response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnAddressBookAdded(String addressBookResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseAddressBookManager.returnAddressBookAdded", addressBookResponse, format, () -> {
+            return switch (format) {
+                case JSON -> (T) new JSONObject(addressBookResponse);
+                case LIBRARY_OBJECT -> (T) new AddressBookAdded(new JSONObject(addressBookResponse));
+                default -> (T) addressBookResponse;
+            };
+        });
+    }
+
+    /**
+     * Request to delete address from address book asynchronously
+     *
+     * @param address: the address to delete
+     * @return result of deletion or not as {@link CompletableFuture} of {@link Boolean},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteaddressbookentry">
+     * Delete address</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/address-book/{id}")
+    public CompletableFuture<Boolean> deleteAddressAsync(AddressBookItem address) {
+        return deleteAddressAsync(address.getId());
+    }
+
+    /**
+     * Request to delete address from address book asynchronously
+     *
+     * @param id: address book identifier
+     * @return result of deletion or not as {@link CompletableFuture} of {@link Boolean},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteaddressbookentry">
+     * Delete address</a>
+     */
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/address-book/{id}")
+    public CompletableFuture<Boolean> deleteAddressAsync(String id) {
+        return sendDELETERequestAsync(ADDRESS_BOOK_ENDPOINT + "/" + id).thenApply(response -> response.equals("{}"));
+    }
+
 }
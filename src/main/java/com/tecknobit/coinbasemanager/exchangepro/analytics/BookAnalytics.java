@@ -0,0 +1,225 @@
+package com.tecknobit.coinbasemanager.exchangepro.analytics;
+
+/**
+ * The {@code BookAnalytics} class is useful to compute the costs and the liquidity of a book: the average price to
+ * buy or sell a size or a notional, its slippage, the depth near the mid price and the imbalance between the sides
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote each value is computed in a single pass over the levels of the {@link BookDepth}, reading the levels
+ * needed only, without creating any object, so it can be computed many times a second for each product. The pass
+ * is made holding the lock of the book, so the live books are not changed by the feed during it
+ * @see BookDepth
+ */
+public final class BookAnalytics {
+
+    /**
+     * {@code BPS} is constant for the basis points in a unit
+     */
+    private static final double BPS = 10_000;
+
+    /**
+     * Constructor to init a {@link BookAnalytics} <br>
+     * No-any params required
+     */
+    private BookAnalytics() {
+    }
+
+    /**
+     * Method to get the volume weighted average price to fill a size with the levels of the book
+     *
+     * @param book: book to use
+     * @param buy:  whether the size is bought, filled with the asks, or sold, filled with the bids
+     * @param size: size to fill
+     * @return average price as double, {@link Double#NaN} if the levels are not enough to fill the size
+     * @throws IllegalArgumentException when the size is not positive
+     */
+    public static double getVwap(BookDepth book, boolean buy, double size) {
+        checkPositive(size, "size");
+        synchronized (book) {
+            return computeVwap(book, buy, size);
+        }
+    }
+
+    /**
+     * Method to get the volume weighted average price to spend or receive a notional with the levels of the book
+     *
+     * @param book:     book to use
+     * @param buy:      whether the notional is spent buying with the asks, or received selling with the bids
+     * @param notional: notional to spend or to receive, in the quote currency
+     * @return average price as double, {@link Double#NaN} if the levels are not enough for the notional
+     * @throws IllegalArgumentException when the notional is not positive
+     */
+    public static double getVwapForNotional(BookDepth book, boolean buy, double notional) {
+        checkPositive(notional, "notional");
+        synchronized (book) {
+            int levels = buy ? book.getAskLevels() : book.getBidLevels();
+            double filledSize = 0;
+            double remainingNotional = notional;
+            for (int j = 0; j < levels; j++) {
+                double price = buy ? book.getAskPrice(j) : book.getBidPrice(j);
+                double levelNotional = price * (buy ? book.getAskSize(j) : book.getBidSize(j));
+                if (levelNotional >= remainingNotional)
+                    return notional / (filledSize + remainingNotional / price);
+                filledSize += levelNotional / price;
+                remainingNotional -= levelNotional;
+            }
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Method to get the slippage to fill a size, as the distance in basis points between its volume weighted average
+     * price and the mid price
+     *
+     * @param book: book to use
+     * @param buy:  whether the size is bought, filled with the asks, or sold, filled with the bids
+     * @param size: size to fill
+     * @return slippage in basis points as double, positive when the average price is worse than the mid price,
+     * {@link Double#NaN} if a side is empty or the levels are not enough to fill the size
+     * @throws IllegalArgumentException when the size is not positive
+     */
+    public static double getSlippageBps(BookDepth book, boolean buy, double size) {
+        checkPositive(size, "size");
+        synchronized (book) {
+            double midPrice = computeMidPrice(book);
+            double vwap = computeVwap(book, buy, size);
+            return (buy ? vwap - midPrice : midPrice - vwap) / midPrice * BPS;
+        }
+    }
+
+    /**
+     * Method to get the cumulative size of a side within a distance from the mid price
+     *
+     * @param book: book to use
+     * @param bids: whether the size is of the bids side or of the asks side
+     * @param bps:  max distance from the mid price of the levels counted, in basis points
+     * @return cumulative size as double, zero if a side is empty
+     * @throws IllegalArgumentException when the distance is negative
+     */
+    public static double getDepth(BookDepth book, boolean bids, double bps) {
+        checkDistance(bps);
+        synchronized (book) {
+            double midPrice = computeMidPrice(book);
+            if (Double.isNaN(midPrice))
+                return 0;
+            return computeDepth(book, bids, midPrice, bps);
+        }
+    }
+
+    /**
+     * Method to get the imbalance between the sides within a distance from the mid price
+     *
+     * @param book: book to use
+     * @param bps:  max distance from the mid price of the levels counted, in basis points
+     * @return imbalance as double, from -1 when there are only asks to 1 when there are only bids,
+     * {@link Double#NaN} if a side is empty or there are no levels within the distance
+     * @throws IllegalArgumentException when the distance is negative
+     */
+    public static double getImbalance(BookDepth book, double bps) {
+        checkDistance(bps);
+        synchronized (book) {
+            double midPrice = computeMidPrice(book);
+            if (Double.isNaN(midPrice))
+                return Double.NaN;
+            double bidsDepth = computeDepth(book, true, midPrice, bps);
+            double asksDepth = computeDepth(book, false, midPrice, bps);
+            double depth = bidsDepth + asksDepth;
+            return depth > 0 ? (bidsDepth - asksDepth) / depth : Double.NaN;
+        }
+    }
+
+    /**
+     * Method to get the mid price of a book
+     *
+     * @param book: book to use
+     * @return mid price as double, {@link Double#NaN} if a side is empty
+     */
+    public static double getMidPrice(BookDepth book) {
+        synchronized (book) {
+            return computeMidPrice(book);
+        }
+    }
+
+    /**
+     * Method to compute the volume weighted average price to fill a size
+     *
+     * @param book: book to use
+     * @param buy:  whether the size is filled with the asks or with the bids
+     * @param size: size to fill
+     * @return average price as double, {@link Double#NaN} if the levels are not enough to fill the size
+     */
+    private static double computeVwap(BookDepth book, boolean buy, double size) {
+        int levels = buy ? book.getAskLevels() : book.getBidLevels();
+        double notional = 0;
+        double remainingSize = size;
+        for (int j = 0; j < levels; j++) {
+            double price = buy ? book.getAskPrice(j) : book.getBidPrice(j);
+            double levelSize = buy ? book.getAskSize(j) : book.getBidSize(j);
+            if (levelSize >= remainingSize)
+                return (notional + remainingSize * price) / size;
+            notional += levelSize * price;
+            remainingSize -= levelSize;
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Method to compute the mid price of a book
+     *
+     * @param book: book to use
+     * @return mid price as double, {@link Double#NaN} if a side is empty
+     */
+    private static double computeMidPrice(BookDepth book) {
+        if (book.getBidLevels() == 0 || book.getAskLevels() == 0)
+            return Double.NaN;
+        return (book.getBidPrice(0) + book.getAskPrice(0)) / 2;
+    }
+
+    /**
+     * Method to compute the cumulative size of a side within a distance from the mid price
+     *
+     * @param book:     book to use
+     * @param bids:     whether the size is of the bids side or of the asks side
+     * @param midPrice: mid price of the book
+     * @param bps:      max distance from the mid price of the levels counted, in basis points
+     * @return cumulative size as double
+     */
+    private static double computeDepth(BookDepth book, boolean bids, double midPrice, double bps) {
+        double distance = midPrice * bps / BPS;
+        double depth = 0;
+        if (bids) {
+            double minPrice = midPrice - distance;
+            for (int j = 0; j < book.getBidLevels() && book.getBidPrice(j) >= minPrice; j++)
+                depth += book.getBidSize(j);
+        } else {
+            double maxPrice = midPrice + distance;
+            for (int j = 0; j < book.getAskLevels() && book.getAskPrice(j) <= maxPrice; j++)
+                depth += book.getAskSize(j);
+        }
+        return depth;
+    }
+
+    /**
+     * Method to check that a value is positive
+     *
+     * @param value: value to check
+     * @param name:  name of the value
+     * @throws IllegalArgumentException when the value is not positive
+     */
+    private static void checkPositive(double value, String name) {
+        if (!(value > 0))
+            throw new IllegalArgumentException("The " + name + " must be positive");
+    }
+
+    /**
+     * Method to check a distance from the mid price
+     *
+     * @param bps: distance to check, in basis points
+     * @throws IllegalArgumentException when the distance is negative
+     */
+    private static void checkDistance(double bps) {
+        if (!(bps >= 0))
+            throw new IllegalArgumentException("The distance from the mid price cannot be negative");
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.tecknobit.coinbasemanager.exchangepro.analytics;
+
+/**
+ * The {@code BookDepth} interface is useful to read the levels of both the sides of a book, from the best level to the
+ * worst one, without creating any object
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see BookAnalytics
+ * @see com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook
+ * @see com.tecknobit.coinbasemanager.exchangepro.books.LiveOrderBook
+ */
+public interface BookDepth {
+
+    /**
+     * Method to get the number of the bids levels <br>
+     * No-any params required
+     *
+     * @return number of the bids levels as int
+     */
+    int getBidLevels();
+
+    /**
+     * Method to get the price of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    double getBidPrice(int level);
+
+    /**
+     * Method to get the size of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    double getBidSize(int level);
+
+    /**
+     * Method to get the number of the asks levels <br>
+     * No-any params required
+     *
+     * @return number of the asks levels as int
+     */
+    int getAskLevels();
+
+    /**
+     * Method to get the price of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    double getAskPrice(int level);
+
+    /**
+     * Method to get the size of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    double getAskSize(int level);
+
+}
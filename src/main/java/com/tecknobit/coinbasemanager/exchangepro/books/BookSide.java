@@ -0,0 +1,132 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BookSide} class is useful to memorize the levels of a side of a book in primitive arrays sorted by price
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the prices are memorized as keys sorted in ascending order with the best level at the end, the keys of the
+ * asks are their prices negated, so the best level is read in O(1) and a level is found with a binary search in
+ * O(log n). Adding or removing a level moves only the levels between it and the best one, which for the changes near
+ * the top of the book, the most of them, are a few
+ */
+final class BookSide {
+
+    /**
+     * {@code INITIAL_CAPACITY} is constant for the initial number of levels memorized without growing the arrays
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * {@code bids} is instance that memorizes whether the side is the bids one
+     */
+    private final boolean bids;
+
+    /**
+     * {@code keys} is instance that memorizes the keys of the levels, from the worst to the best one
+     */
+    private double[] keys = new double[INITIAL_CAPACITY];
+
+    /**
+     * {@code sizes} is instance that memorizes the sizes of the levels, from the worst to the best one
+     */
+    private double[] sizes = new double[INITIAL_CAPACITY];
+
+    /**
+     * {@code count} is instance that memorizes the number of the levels
+     */
+    private int count;
+
+    /**
+     * Constructor to init a {@link BookSide}
+     *
+     * @param bids: whether the side is the bids one
+     */
+    BookSide(boolean bids) {
+        this.bids = bids;
+    }
+
+    /**
+     * Method to set the size of a level
+     *
+     * @param price: price of the level
+     * @param size:  new size of the level, zero to remove it
+     */
+    void set(double price, double size) {
+        double key = bids ? price : -price;
+        int index = Arrays.binarySearch(keys, 0, count, key);
+        if (index >= 0) {
+            if (size > 0)
+                sizes[index] = size;
+            else {
+                System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+                System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+                count--;
+            }
+        } else if (size > 0) {
+            index = -index - 1;
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(sizes, index, sizes, index + 1, count - index);
+            keys[index] = key;
+            sizes[index] = size;
+            count++;
+        }
+    }
+
+    /**
+     * Method to remove all the levels <br>
+     * No-any params required
+     */
+    void clear() {
+        count = 0;
+    }
+
+    /**
+     * Method to get the number of the levels <br>
+     * No-any params required
+     *
+     * @return number of the levels as int
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Method to get the price of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    double getPrice(int level) {
+        double key = keys[index(level)];
+        return bids ? key : -key;
+    }
+
+    /**
+     * Method to get the size of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    double getSize(int level) {
+        return sizes[index(level)];
+    }
+
+    /**
+     * Method to get the index in the arrays of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return index of the level as int
+     */
+    private int index(int level) {
+        if (level < 0 || level >= count)
+            throw new IndexOutOfBoundsException("Level " + level + " out of " + count + " levels");
+        return count - 1 - level;
+    }
+
+}
@@ -0,0 +1,377 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Ticker;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Trade;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.CoinbaseFeed;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.FeedListener;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L2Update;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L3Update;
+import org.json.JSONObject;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code BookTracker} class is useful to keep updated the {@link LiveOrderBook} of some products with the messages
+ * of a {@link CoinbaseFeed}, so their books can be read at any time without any request
+ *
+ * @param <B>: type of the books tracked
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the tracker is the {@link FeedListener} of the feed and forwards all the messages to its own listener. Each
+ * book is seeded with the snapshot of the {@link SnapshotSource} and then updated with the messages of the feed; when a
+ * book loses the sync, for a gap of the sequences or a lost connection, a new snapshot is requested, at most once every
+ * {@link #resyncInterval}
+ * @see L2BookTracker
+ * @see L3BookTracker
+ */
+public abstract class BookTracker<B extends LiveOrderBook> implements FeedListener {
+
+    /**
+     * {@code DEFAULT_RESYNC_INTERVAL} is constant for the default min time in millis between two snapshots requested
+     * for the same product
+     */
+    public static final long DEFAULT_RESYNC_INTERVAL = 1000;
+
+    /**
+     * {@code SnapshotSource} interface is useful to request the snapshot of a book
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    @FunctionalInterface
+    public interface SnapshotSource {
+
+        /**
+         * Method to request the snapshot of a book
+         *
+         * @param productId: product identifier value
+         * @return snapshot of the book as {@link CompletableFuture} of {@link CompactBook}
+         */
+        CompletableFuture<CompactBook> getSnapshot(String productId);
+
+    }
+
+    /**
+     * {@code books} is instance that memorizes the books tracked
+     */
+    private final ConcurrentHashMap<String, B> books = new ConcurrentHashMap<>();
+
+    /**
+     * {@code resyncing} is instance that memorizes the products whose snapshot has been requested
+     */
+    private final Set<String> resyncing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * {@code lastResyncs} is instance that memorizes the time in nanos of the last snapshot requested for each product
+     */
+    private final ConcurrentHashMap<String, Long> lastResyncs = new ConcurrentHashMap<>();
+
+    /**
+     * {@code snapshotSource} is instance that memorizes the source of the snapshots
+     */
+    private final SnapshotSource snapshotSource;
+
+    /**
+     * {@code listener} is instance that memorizes the listener which receives all the messages of the feed
+     */
+    private final FeedListener listener;
+
+    /**
+     * {@code resyncs} is instance that memorizes the number of the snapshots requested
+     */
+    private final LongAdder resyncs = new LongAdder();
+
+    /**
+     * {@code failedResyncs} is instance that memorizes the number of the snapshots failed
+     */
+    private final LongAdder failedResyncs = new LongAdder();
+
+    /**
+     * {@code resyncInterval} is instance that memorizes the min time in millis between two snapshots requested for the
+     * same product
+     */
+    private volatile long resyncInterval = DEFAULT_RESYNC_INTERVAL;
+
+    /**
+     * Constructor to init a {@link BookTracker}
+     *
+     * @param snapshotSource: source of the snapshots
+     * @param listener:       listener which receives all the messages of the feed, {@code null} if not needed
+     */
+    public BookTracker(SnapshotSource snapshotSource, FeedListener listener) {
+        if (snapshotSource == null)
+            throw new IllegalArgumentException("The snapshot source cannot be null");
+        this.snapshotSource = snapshotSource;
+        this.listener = listener != null ? listener : new FeedListener() {
+        };
+    }
+
+    /**
+     * Method to create the book of a product not synced yet
+     *
+     * @param productId: product identifier value
+     * @return book of the product
+     */
+    protected abstract B createBook(String productId);
+
+    /**
+     * Method to track the book of a product, its snapshot is requested immediately
+     *
+     * @param productId: product identifier value
+     * @return book of the product
+     * @implNote the channel of the updates of the books must be subscribed on the feed for the product
+     */
+    public B track(String productId) {
+        B book = books.computeIfAbsent(productId, this::createBook);
+        if (!book.isSynced())
+            resync(productId);
+        return book;
+    }
+
+    /**
+     * Method to track the books of some products, their snapshots are requested immediately
+     *
+     * @param productIds: products identifiers
+     */
+    public void track(Collection<String> productIds) {
+        for (String productId : productIds)
+            track(productId);
+    }
+
+    /**
+     * Method to stop tracking the book of a product
+     *
+     * @param productId: product identifier value
+     */
+    public void untrack(String productId) {
+        books.remove(productId);
+        lastResyncs.remove(productId);
+    }
+
+    /**
+     * Method to get the book of a product
+     *
+     * @param productId: product identifier value
+     * @return book of the product, {@code null} if it is not tracked
+     */
+    public B getBook(String productId) {
+        return books.get(productId);
+    }
+
+    /**
+     * Method to get the products tracked <br>
+     * No-any params required
+     *
+     * @return products identifiers as {@link Set} of {@link String}
+     */
+    public Set<String> getProductIds() {
+        return Set.copyOf(books.keySet());
+    }
+
+    /**
+     * Method to request the snapshot of a book, if it has not been already requested
+     *
+     * @param productId: product identifier value
+     */
+    public void resync(String productId) {
+        B book = books.get(productId);
+        if (book == null || !resyncing.add(productId))
+            return;
+        lastResyncs.put(productId, System.nanoTime());
+        resyncs.increment();
+        CompletableFuture<CompactBook> snapshot;
+        try {
+            snapshot = snapshotSource.getSnapshot(productId);
+        } catch (RuntimeException e) {
+            snapshot = CompletableFuture.failedFuture(e);
+        }
+        snapshot.whenComplete((compactBook, error) -> {
+            resyncing.remove(productId);
+            if (error != null)
+                failedResyncs.increment();
+            else if (books.get(productId) == book && !book.isSynced())
+                book.load(compactBook);
+        });
+    }
+
+    /**
+     * Method to request the snapshot of a not synced book, unless one has been requested within the
+     * {@link #resyncInterval}
+     *
+     * @param productId: product identifier value
+     */
+    protected void resyncLater(String productId) {
+        Long lastResync = lastResyncs.get(productId);
+        if (lastResync == null
+                || System.nanoTime() - lastResync >= TimeUnit.MILLISECONDS.toNanos(resyncInterval)) {
+            resync(productId);
+        }
+    }
+
+    /**
+     * Method invoked when the feed has been connected, also after a reconnection, before the subscriptions <br>
+     * No-any params required
+     */
+    @Override
+    public void onConnected() {
+        listener.onConnected();
+    }
+
+    /**
+     * Method invoked when the feed has been disconnected, all the books are marked as not synced
+     *
+     * @param reconnecting: whether the feed will reconnect
+     * @param error:        error which disconnected the feed, {@code null} if has been closed
+     */
+    @Override
+    public void onDisconnected(boolean reconnecting, Throwable error) {
+        for (B book : books.values())
+            book.invalidate();
+        listener.onDisconnected(reconnecting, error);
+    }
+
+    /**
+     * Method invoked when the feed confirms the current subscriptions
+     *
+     * @param subscriptions: subscriptions message as {@link JSONObject}
+     */
+    @Override
+    public void onSubscriptions(JSONObject subscriptions) {
+        listener.onSubscriptions(subscriptions);
+    }
+
+    /**
+     * Method invoked for each message of the ticker channel
+     *
+     * @param ticker:   ticker received
+     * @param sequence: sequence of the message
+     */
+    @Override
+    public void onTicker(Ticker ticker, long sequence) {
+        listener.onTicker(ticker, sequence);
+    }
+
+    /**
+     * Method invoked for each message of the matches channel
+     *
+     * @param productId: product identifier value
+     * @param trade:     trade received
+     * @param sequence:  sequence of the message
+     */
+    @Override
+    public void onMatch(String productId, Trade trade, long sequence) {
+        listener.onMatch(productId, trade, sequence);
+    }
+
+    /**
+     * Method invoked for the snapshot of the book sent by the feed
+     *
+     * @param book: snapshot of the book, its asks and bids are flattened as price, size of each level
+     */
+    @Override
+    public void onSnapshot(Book book) {
+        listener.onSnapshot(book);
+    }
+
+    /**
+     * Method invoked for each update of the level2 channels
+     *
+     * @param update: update received
+     */
+    @Override
+    public void onL2Update(L2Update update) {
+        listener.onL2Update(update);
+    }
+
+    /**
+     * Method invoked for each message of the full channel
+     *
+     * @param update: update received
+     */
+    @Override
+    public void onL3Update(L3Update update) {
+        listener.onL3Update(update);
+    }
+
+    /**
+     * Method invoked for each message of the heartbeat channel
+     *
+     * @param productId:   product identifier value
+     * @param sequence:    last sequence of the product
+     * @param lastTradeId: identifier of the last trade of the product
+     * @param time:        time of the heartbeat
+     */
+    @Override
+    public void onHeartbeat(String productId, long sequence, long lastTradeId, String time) {
+        listener.onHeartbeat(productId, sequence, lastTradeId, time);
+    }
+
+    /**
+     * Method invoked when the feed sends an error
+     *
+     * @param message: message of the error
+     * @param reason:  reason of the error, can be {@code null}
+     */
+    @Override
+    public void onError(String message, String reason) {
+        listener.onError(message, reason);
+    }
+
+    /**
+     * Method invoked for the messages of the other types
+     *
+     * @param message: message received
+     */
+    @Override
+    public void onMessage(JSONObject message) {
+        listener.onMessage(message);
+    }
+
+    /**
+     * Method to set {@link #resyncInterval} instance
+     *
+     * @param resyncInterval: min time in millis between two snapshots requested for the same product
+     * @throws IllegalArgumentException when the interval is negative
+     */
+    public void setResyncInterval(long resyncInterval) {
+        if (resyncInterval < 0)
+            throw new IllegalArgumentException("The resync interval cannot be negative");
+        this.resyncInterval = resyncInterval;
+    }
+
+    /**
+     * Method to get {@link #resyncInterval} instance <br>
+     * No-any params required
+     *
+     * @return {@link #resyncInterval} instance as long
+     */
+    public long getResyncInterval() {
+        return resyncInterval;
+    }
+
+    /**
+     * Method to get {@link #resyncs} instance <br>
+     * No-any params required
+     *
+     * @return {@link #resyncs} instance as long
+     */
+    public long getResyncs() {
+        return resyncs.sum();
+    }
+
+    /**
+     * Method to get {@link #failedResyncs} instance <br>
+     * No-any params required
+     *
+     * @return {@link #failedResyncs} instance as long
+     */
+    public long getFailedResyncs() {
+        return failedResyncs.sum();
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.CoinbaseFeed;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.FeedListener;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L2Update;
+
+/**
+ * The {@code L2BookTracker} class is useful to keep updated the {@link L2OrderBook} of some products with the messages
+ * of a {@link CoinbaseFeed}, so their top of the book can be read at any time without any request
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote each book is seeded with the level-2 snapshot of the {@link SnapshotSource} and with the
+ * {@code "snapshot"} messages of the feed, then it is updated with the {@code "l2update"} messages
+ * @see L2OrderBook
+ * @see BookTracker
+ */
+public class L2BookTracker extends BookTracker<L2OrderBook> {
+
+    /**
+     * Constructor to init a {@link L2BookTracker}
+     *
+     * @param snapshotSource: source of the snapshots
+     * @param listener:       listener which receives all the messages of the feed, {@code null} if not needed
+     */
+    public L2BookTracker(SnapshotSource snapshotSource, FeedListener listener) {
+        super(snapshotSource, listener);
+    }
+
+    /**
+     * Constructor to init a {@link L2BookTracker} which requests the snapshots to the
+     * {@code "/products/{product_id}/book"} endpoint
+     *
+     * @param productsManager: manager used to request the snapshots
+     * @param listener:        listener which receives all the messages of the feed, {@code null} if not needed
+     */
+    public L2BookTracker(CoinbaseProductsManager productsManager, FeedListener listener) {
+        this(productId -> productsManager.getCompactProductBookAsync(productId, 2), listener);
+    }
+
+    /**
+     * Constructor to init a {@link L2BookTracker} which requests the snapshots to the
+     * {@code "/products/{product_id}/book"} endpoint
+     *
+     * @param productsManager: manager used to request the snapshots
+     */
+    public L2BookTracker(CoinbaseProductsManager productsManager) {
+        this(productsManager, null);
+    }
+
+    /**
+     * Method to create the book of a product not synced yet
+     *
+     * @param productId: product identifier value
+     * @return book of the product as {@link L2OrderBook}
+     * @implNote the {@link com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel#level2} channel of the
+     * product must be subscribed on the feed to receive its updates
+     */
+    @Override
+    protected L2OrderBook createBook(String productId) {
+        return new L2OrderBook(productId);
+    }
+
+    /**
+     * Method invoked for the snapshot of the book sent by the feed, it is loaded in the book of the product
+     *
+     * @param book: snapshot of the book, its asks and bids are flattened as price, size of each level
+     */
+    @Override
+    public void onSnapshot(Book book) {
+        L2OrderBook l2Book = getBook(book.getProductId());
+        if (l2Book != null && !l2Book.load(book, 2))
+            resyncLater(book.getProductId());
+        super.onSnapshot(book);
+    }
+
+    /**
+     * Method invoked for each update of the level2 channels, it is applied to the book of the product
+     *
+     * @param update: update received
+     */
+    @Override
+    public void onL2Update(L2Update update) {
+        L2OrderBook book = getBook(update.getProductId());
+        if (book != null && !book.apply(update))
+            resyncLater(update.getProductId());
+        super.onL2Update(update);
+    }
+
+}
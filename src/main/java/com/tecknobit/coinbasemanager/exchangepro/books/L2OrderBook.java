@@ -0,0 +1,523 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.BookLevels;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L2Update;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code L2OrderBook} class is useful to keep updated in memory the level-2 book of a product, loading a snapshot
+ * and then applying the {@link L2Update} received from the feed, instead of requesting the whole book each time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote when the updates contain their sequence, the updates already included in the snapshot are skipped and a
+ * missing sequence marks the book as not synced: the next updates are kept until a new snapshot is loaded and then the
+ * ones following it are applied. A level is updated in O(log n) and the best bid and ask are read in O(1) without
+ * locking, the other reads and the updates are synchronized on the book
+ * @see L2BookTracker
+ * @see LiveOrderBook
+ */
+public class L2OrderBook implements LiveOrderBook {
+
+    /**
+     * {@code DEFAULT_MAX_PENDING_UPDATES} is constant for the default max number of the updates kept while the book is
+     * not synced
+     */
+    public static final int DEFAULT_MAX_PENDING_UPDATES = 10_000;
+
+    /**
+     * {@code productId} is instance that memorizes product identifier value
+     */
+    private final String productId;
+
+    /**
+     * {@code bids} is instance that memorizes the bids of the book
+     */
+    private final BookSide bids = new BookSide(true);
+
+    /**
+     * {@code asks} is instance that memorizes the asks of the book
+     */
+    private final BookSide asks = new BookSide(false);
+
+    /**
+     * {@code pendingUpdates} is instance that memorizes the updates received while the book is not synced
+     */
+    private final ArrayDeque<L2Update> pendingUpdates = new ArrayDeque<>();
+
+    /**
+     * {@code maxPendingUpdates} is instance that memorizes the max number of the updates kept while the book is not
+     * synced, the oldest ones are discarded
+     */
+    private int maxPendingUpdates = DEFAULT_MAX_PENDING_UPDATES;
+
+    /**
+     * {@code sequence} is instance that memorizes the sequence of the book, -1 if it is not known
+     */
+    private long sequence = -1;
+
+    /**
+     * {@code synced} is flag that checks if the book is synced with the updates received
+     */
+    private volatile boolean synced;
+
+    /**
+     * {@code bestBid} is instance that memorizes the price of the best bid, {@link Double#NaN} if there are no bids
+     */
+    private volatile double bestBid = Double.NaN;
+
+    /**
+     * {@code bestBidSize} is instance that memorizes the size of the best bid
+     */
+    private volatile double bestBidSize;
+
+    /**
+     * {@code bestAsk} is instance that memorizes the price of the best ask, {@link Double#NaN} if there are no asks
+     */
+    private volatile double bestAsk = Double.NaN;
+
+    /**
+     * {@code bestAskSize} is instance that memorizes the size of the best ask
+     */
+    private volatile double bestAskSize;
+
+    /**
+     * {@code appliedUpdates} is instance that memorizes the number of the updates applied
+     */
+    private long appliedUpdates;
+
+    /**
+     * {@code gaps} is instance that memorizes the number of the gaps of the sequences detected
+     */
+    private long gaps;
+
+    /**
+     * Constructor to init a {@link L2OrderBook} not synced yet
+     *
+     * @param productId: product identifier value
+     */
+    public L2OrderBook(String productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * Method to load a snapshot of the book
+     *
+     * @param book: snapshot as {@link JSONObject}, the level-1 or level-2 book of the
+     *              {@code "/products/{product_id}/book"} endpoint or the {@code "snapshot"} message of the feed, its
+     *              {@code "sequence"} is optional
+     * @return whether the book is synced after the updates kept have been applied as boolean
+     */
+    public synchronized boolean load(JSONObject book) {
+        loadLevels(bids, book.optJSONArray("bids"));
+        loadLevels(asks, book.optJSONArray("asks"));
+        return completeLoad(book.optLong("sequence", -1));
+    }
+
+    /**
+     * Method to load a snapshot of the book
+     *
+     * @param book: snapshot as {@link CompactBook}, its {@code "sequence"} is optional
+     * @return whether the book is synced after the updates kept have been applied as boolean
+     */
+    @Override
+    public synchronized boolean load(CompactBook book) {
+        loadLevels(bids, book.getBids());
+        loadLevels(asks, book.getAsks());
+        return completeLoad(book.getSequence());
+    }
+
+    /**
+     * Method to load a snapshot of the book
+     *
+     * @param book:      snapshot as {@link Book}
+     * @param levelSize: number of the values of each level in the lists of the snapshot, 2 for the snapshots of the
+     *                   feed and 3 for the level-2 books of the {@code "/products/{product_id}/book"} endpoint
+     * @return whether the book is synced after the updates kept have been applied as boolean
+     */
+    public synchronized boolean load(Book book, int levelSize) {
+        if (levelSize < 2)
+            throw new IllegalArgumentException("Each level must have at least the price and the size");
+        loadLevels(bids, book.getBids(), levelSize);
+        loadLevels(asks, book.getAsks(), levelSize);
+        return completeLoad(book.getSequence());
+    }
+
+    /**
+     * Method to load the levels of a side of the book
+     *
+     * @param side:   side to load
+     * @param levels: levels to load
+     * @implNote the levels are loaded from the worst one, so with the levels sorted as sent each level is appended
+     * to the side without moving the others
+     */
+    private void loadLevels(BookSide side, JSONArray levels) {
+        side.clear();
+        if (levels != null) {
+            for (int j = levels.length() - 1; j >= 0; j--) {
+                JSONArray level = levels.getJSONArray(j);
+                side.set(level.getDouble(0), level.getDouble(1));
+            }
+        }
+    }
+
+    /**
+     * Method to load the levels of a side of the book
+     *
+     * @param side:   side to load
+     * @param levels: levels to load
+     */
+    private void loadLevels(BookSide side, BookLevels levels) {
+        side.clear();
+        for (int j = levels.size() - 1; j >= 0; j--)
+            side.set(levels.getPrice(j), levels.getSize(j));
+    }
+
+    /**
+     * Method to load the levels of a side of the book
+     *
+     * @param side:      side to load
+     * @param levels:    levels to load, flattened
+     * @param levelSize: number of the values of each level
+     */
+    private void loadLevels(BookSide side, List<Double> levels, int levelSize) {
+        side.clear();
+        if (levels != null)
+            for (int j = (levels.size() / levelSize - 1) * levelSize; j >= 0; j -= levelSize)
+                side.set(levels.get(j), levels.get(j + 1));
+    }
+
+    /**
+     * Method to complete the load of a snapshot applying the updates kept
+     *
+     * @param sequence: sequence of the snapshot, -1 if it is not known
+     * @return whether the book is synced after the updates kept have been applied as boolean
+     */
+    private boolean completeLoad(long sequence) {
+        this.sequence = sequence;
+        synced = true;
+        if (sequence < 0) {
+            // without the sequence the snapshot follows all the updates kept
+            pendingUpdates.clear();
+        } else {
+            L2Update update;
+            while (synced && (update = pendingUpdates.pollFirst()) != null)
+                applyUpdate(update);
+        }
+        refreshBest();
+        return synced;
+    }
+
+    /**
+     * Method to apply an update to the book
+     *
+     * @param update: update to apply
+     * @return whether the book is synced after the update as boolean, when {@code false} a new snapshot must be loaded
+     * @implNote while the book is not synced the update is kept to be applied after the next snapshot
+     */
+    public synchronized boolean apply(L2Update update) {
+        if (!synced) {
+            keepUpdate(update);
+            return false;
+        }
+        applyUpdate(update);
+        refreshBest();
+        return synced;
+    }
+
+    /**
+     * Method to apply an update to the synced book
+     *
+     * @param update: update to apply
+     */
+    private void applyUpdate(L2Update update) {
+        long updateSequence = update.getSequence();
+        if (updateSequence >= 0 && sequence >= 0) {
+            if (updateSequence <= sequence)
+                return;
+            if (updateSequence != sequence + 1) {
+                gaps++;
+                synced = false;
+                // kept before the updates not applied yet, the book waits a snapshot which includes it
+                pendingUpdates.addFirst(update);
+                return;
+            }
+        }
+        for (int j = 0; j < update.size(); j++)
+            (update.isBid(j) ? bids : asks).set(update.getPrice(j), update.getSize(j));
+        if (updateSequence >= 0)
+            sequence = updateSequence;
+        appliedUpdates++;
+    }
+
+    /**
+     * Method to keep an update while the book is not synced
+     *
+     * @param update: update to keep
+     */
+    private void keepUpdate(L2Update update) {
+        if (pendingUpdates.size() >= maxPendingUpdates)
+            pendingUpdates.pollFirst();
+        pendingUpdates.addLast(update);
+    }
+
+    /**
+     * Method to refresh the best levels read without locking <br>
+     * No-any params required
+     */
+    private void refreshBest() {
+        if (bids.size() > 0) {
+            bestBidSize = bids.getSize(0);
+            bestBid = bids.getPrice(0);
+        } else {
+            bestBidSize = 0;
+            bestBid = Double.NaN;
+        }
+        if (asks.size() > 0) {
+            bestAskSize = asks.getSize(0);
+            bestAsk = asks.getPrice(0);
+        } else {
+            bestAskSize = 0;
+            bestAsk = Double.NaN;
+        }
+    }
+
+    /**
+     * Method to mark the book as not synced, es. when the connection of the feed has been lost, the levels are kept
+     * until the next snapshot <br>
+     * No-any params required
+     */
+    @Override
+    public synchronized void invalidate() {
+        synced = false;
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Method to get {@link #productId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #productId} instance as {@link String}
+     */
+    @Override
+    public String getProductId() {
+        return productId;
+    }
+
+    /**
+     * Method to get {@link #sequence} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sequence} instance as long
+     */
+    @Override
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Method to get {@link #synced} instance <br>
+     * No-any params required
+     *
+     * @return {@link #synced} instance as boolean
+     */
+    @Override
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Method to get {@link #bestBid} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestBid} instance as double
+     */
+    @Override
+    public double getBestBid() {
+        return bestBid;
+    }
+
+    /**
+     * Method to get {@link #bestBidSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestBidSize} instance as double
+     */
+    @Override
+    public double getBestBidSize() {
+        return bestBidSize;
+    }
+
+    /**
+     * Method to get {@link #bestAsk} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestAsk} instance as double
+     */
+    @Override
+    public double getBestAsk() {
+        return bestAsk;
+    }
+
+    /**
+     * Method to get {@link #bestAskSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestAskSize} instance as double
+     */
+    @Override
+    public double getBestAskSize() {
+        return bestAskSize;
+    }
+
+    /**
+     * Method to get the number of the bids levels <br>
+     * No-any params required
+     *
+     * @return number of the bids levels as int
+     */
+    @Override
+    public synchronized int getBidLevels() {
+        return bids.size();
+    }
+
+    /**
+     * Method to get the price of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    @Override
+    public synchronized double getBidPrice(int level) {
+        return bids.getPrice(level);
+    }
+
+    /**
+     * Method to get the size of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    @Override
+    public synchronized double getBidSize(int level) {
+        return bids.getSize(level);
+    }
+
+    /**
+     * Method to get the number of the asks levels <br>
+     * No-any params required
+     *
+     * @return number of the asks levels as int
+     */
+    @Override
+    public synchronized int getAskLevels() {
+        return asks.size();
+    }
+
+    /**
+     * Method to get the price of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    @Override
+    public synchronized double getAskPrice(int level) {
+        return asks.getPrice(level);
+    }
+
+    /**
+     * Method to get the size of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    @Override
+    public synchronized double getAskSize(int level) {
+        return asks.getSize(level);
+    }
+
+    /**
+     * Method to set {@link #maxPendingUpdates} instance
+     *
+     * @param maxPendingUpdates: max number of the updates kept while the book is not synced
+     * @throws IllegalArgumentException when the max number is not positive
+     */
+    public synchronized void setMaxPendingUpdates(int maxPendingUpdates) {
+        if (maxPendingUpdates <= 0)
+            throw new IllegalArgumentException("The max pending updates must be positive");
+        this.maxPendingUpdates = maxPendingUpdates;
+    }
+
+    /**
+     * Method to get the number of the updates kept while the book is not synced <br>
+     * No-any params required
+     *
+     * @return number of the updates kept as int
+     */
+    public synchronized int getPendingUpdates() {
+        return pendingUpdates.size();
+    }
+
+    /**
+     * Method to get {@link #appliedUpdates} instance <br>
+     * No-any params required
+     *
+     * @return {@link #appliedUpdates} instance as long
+     */
+    public synchronized long getAppliedUpdates() {
+        return appliedUpdates;
+    }
+
+    /**
+     * Method to get {@link #gaps} instance <br>
+     * No-any params required
+     *
+     * @return {@link #gaps} instance as long
+     */
+    public synchronized long getGaps() {
+        return gaps;
+    }
+
+    /**
+     * Method to create a snapshot of the book <br>
+     * No-any params required
+     *
+     * @return snapshot as {@link Book}, its asks and bids are flattened as price, size of each level
+     */
+    public synchronized Book toBook() {
+        return new Book(productId, sequence, false, null, assembleLevels(asks), assembleLevels(bids));
+    }
+
+    /**
+     * Method to flatten the levels of a side of the book
+     *
+     * @param side: side to flatten
+     * @return levels flattened as {@link ArrayList} of {@link Double}
+     */
+    private static ArrayList<Double> assembleLevels(BookSide side) {
+        ArrayList<Double> levels = new ArrayList<>(side.size() * 2);
+        for (int j = 0; j < side.size(); j++) {
+            levels.add(side.getPrice(j));
+            levels.add(side.getSize(j));
+        }
+        return levels;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toBook().toString();
+    }
+
+}
@@ -0,0 +1,283 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import java.util.Arrays;
+
+import static com.tecknobit.coinbasemanager.exchangepro.books.OrderPool.NONE;
+
+/**
+ * The {@code L3BookSide} class is useful to memorize the levels of a side of a level-3 book in primitive arrays sorted
+ * by price, each level with the queue of its orders
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the levels are sorted as the ones of {@link BookSide}, with the best level at the end and the keys of the
+ * asks negated. Each level memorizes its total size, its number of orders and the first and the last order of its queue
+ * in the {@link OrderPool}, so an order is added or removed in O(log n) for its level plus O(1) for its queue
+ */
+final class L3BookSide {
+
+    /**
+     * {@code INITIAL_CAPACITY} is constant for the initial number of levels memorized without growing the arrays
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * {@code bids} is instance that memorizes whether the side is the bids one
+     */
+    private final boolean bids;
+
+    /**
+     * {@code pool} is instance that memorizes the orders of the book
+     */
+    private final OrderPool pool;
+
+    /**
+     * {@code keys} is instance that memorizes the keys of the levels, from the worst to the best one
+     */
+    private double[] keys = new double[INITIAL_CAPACITY];
+
+    /**
+     * {@code sizes} is instance that memorizes the total size of the levels, from the worst to the best one
+     */
+    private double[] sizes = new double[INITIAL_CAPACITY];
+
+    /**
+     * {@code orders} is instance that memorizes the number of orders of the levels, from the worst to the best one
+     */
+    private int[] orders = new int[INITIAL_CAPACITY];
+
+    /**
+     * {@code heads} is instance that memorizes the slot of the first order of the queue of the levels
+     */
+    private int[] heads = new int[INITIAL_CAPACITY];
+
+    /**
+     * {@code tails} is instance that memorizes the slot of the last order of the queue of the levels
+     */
+    private int[] tails = new int[INITIAL_CAPACITY];
+
+    /**
+     * {@code count} is instance that memorizes the number of the levels
+     */
+    private int count;
+
+    /**
+     * Constructor to init a {@link L3BookSide}
+     *
+     * @param bids: whether the side is the bids one
+     * @param pool: orders of the book
+     */
+    L3BookSide(boolean bids, OrderPool pool) {
+        this.bids = bids;
+        this.pool = pool;
+    }
+
+    /**
+     * Method to add an order at the end of the queue of its level
+     *
+     * @param slot: slot of the order
+     */
+    void add(int slot) {
+        double key = key(pool.prices[slot]);
+        int index = Arrays.binarySearch(keys, 0, count, key);
+        if (index < 0) {
+            index = -index - 1;
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+                orders = Arrays.copyOf(orders, count * 2);
+                heads = Arrays.copyOf(heads, count * 2);
+                tails = Arrays.copyOf(tails, count * 2);
+            }
+            shift(index, index + 1, count - index);
+            keys[index] = key;
+            sizes[index] = 0;
+            orders[index] = 0;
+            heads[index] = NONE;
+            tails[index] = NONE;
+            count++;
+        }
+        int tail = tails[index];
+        pool.prevs[slot] = tail;
+        pool.nexts[slot] = NONE;
+        if (tail == NONE)
+            heads[index] = slot;
+        else
+            pool.nexts[tail] = slot;
+        tails[index] = slot;
+        sizes[index] += pool.sizes[slot];
+        orders[index]++;
+    }
+
+    /**
+     * Method to remove an order from the queue of its level, the level is removed with its last order
+     *
+     * @param slot: slot of the order
+     */
+    void remove(int slot) {
+        int index = Arrays.binarySearch(keys, 0, count, key(pool.prices[slot]));
+        if (index < 0)
+            return;
+        int prev = pool.prevs[slot];
+        int next = pool.nexts[slot];
+        if (prev == NONE)
+            heads[index] = next;
+        else
+            pool.nexts[prev] = next;
+        if (next == NONE)
+            tails[index] = prev;
+        else
+            pool.prevs[next] = prev;
+        if (--orders[index] == 0) {
+            shift(index + 1, index, count - index - 1);
+            count--;
+        } else
+            sizes[index] -= pool.sizes[slot];
+    }
+
+    /**
+     * Method to change the remaining size of an order keeping its place in the queue
+     *
+     * @param slot: slot of the order
+     * @param size: new remaining size of the order
+     */
+    void resize(int slot, double size) {
+        int index = Arrays.binarySearch(keys, 0, count, key(pool.prices[slot]));
+        if (index >= 0)
+            sizes[index] += size - pool.sizes[slot];
+        pool.sizes[slot] = size;
+    }
+
+    /**
+     * Method to move a range of levels in the arrays
+     *
+     * @param from:   first level to move
+     * @param to:     new index of the first level
+     * @param length: number of levels to move
+     */
+    private void shift(int from, int to, int length) {
+        System.arraycopy(keys, from, keys, to, length);
+        System.arraycopy(sizes, from, sizes, to, length);
+        System.arraycopy(orders, from, orders, to, length);
+        System.arraycopy(heads, from, heads, to, length);
+        System.arraycopy(tails, from, tails, to, length);
+    }
+
+    /**
+     * Method to remove all the levels <br>
+     * No-any params required
+     */
+    void clear() {
+        count = 0;
+    }
+
+    /**
+     * Method to get the number of the levels <br>
+     * No-any params required
+     *
+     * @return number of the levels as int
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Method to get the price of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    double getPrice(int level) {
+        double key = keys[index(level)];
+        return bids ? key : -key;
+    }
+
+    /**
+     * Method to get the total size of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return total size of the level as double
+     */
+    double getSize(int level) {
+        return sizes[index(level)];
+    }
+
+    /**
+     * Method to get the number of orders of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return number of orders of the level as int
+     */
+    int getOrders(int level) {
+        return orders[index(level)];
+    }
+
+    /**
+     * Method to get the total size of the level of a price
+     *
+     * @param price: price of the level
+     * @return total size of the level as double, zero if there are no orders at the price
+     */
+    double getSizeAt(double price) {
+        int index = Arrays.binarySearch(keys, 0, count, key(price));
+        return index >= 0 ? sizes[index] : 0;
+    }
+
+    /**
+     * Method to get the first order of the queue of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return slot of the first order as int, the next ones are linked with {@link OrderPool#nexts}
+     */
+    int getHead(int level) {
+        return heads[index(level)];
+    }
+
+    /**
+     * Method to get the size of the orders before an order in the queue of its level
+     *
+     * @param slot: slot of the order
+     * @return size of the orders before as double
+     */
+    double getSizeAhead(int slot) {
+        double sizeAhead = 0;
+        for (int prev = pool.prevs[slot]; prev != NONE; prev = pool.prevs[prev])
+            sizeAhead += pool.sizes[prev];
+        return sizeAhead;
+    }
+
+    /**
+     * Method to get the number of the orders before an order in the queue of its level
+     *
+     * @param slot: slot of the order
+     * @return number of the orders before as int
+     */
+    int getOrdersAhead(int slot) {
+        int ordersAhead = 0;
+        for (int prev = pool.prevs[slot]; prev != NONE; prev = pool.prevs[prev])
+            ordersAhead++;
+        return ordersAhead;
+    }
+
+    /**
+     * Method to get the key of a price
+     *
+     * @param price: price of the level
+     * @return key of the level as double
+     */
+    private double key(double price) {
+        return bids ? price : -price;
+    }
+
+    /**
+     * Method to get the index in the arrays of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return index of the level as int
+     */
+    private int index(int level) {
+        if (level < 0 || level >= count)
+            throw new IndexOutOfBoundsException("Level " + level + " out of " + count + " levels");
+        return count - 1 - level;
+    }
+
+}
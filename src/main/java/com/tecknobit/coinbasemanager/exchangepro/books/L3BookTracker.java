@@ -0,0 +1,78 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.CoinbaseFeed;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.FeedListener;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L3Update;
+
+/**
+ * The {@code L3BookTracker} class is useful to keep updated the {@link L3OrderBook} of some products with the messages
+ * of a {@link CoinbaseFeed}, so each order resting in their books and its queue position can be read at any time
+ * without any request
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote each book is seeded with the level-3 snapshot of the {@link SnapshotSource} and then updated with the
+ * messages of the {@link com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel#full} channel
+ * @see L3OrderBook
+ * @see BookTracker
+ */
+public class L3BookTracker extends BookTracker<L3OrderBook> {
+
+    /**
+     * Constructor to init a {@link L3BookTracker}
+     *
+     * @param snapshotSource: source of the snapshots, they must be level-3 books
+     * @param listener:       listener which receives all the messages of the feed, {@code null} if not needed
+     */
+    public L3BookTracker(SnapshotSource snapshotSource, FeedListener listener) {
+        super(snapshotSource, listener);
+    }
+
+    /**
+     * Constructor to init a {@link L3BookTracker} which requests the snapshots to the
+     * {@code "/products/{product_id}/book"} endpoint
+     *
+     * @param productsManager: manager used to request the snapshots
+     * @param listener:        listener which receives all the messages of the feed, {@code null} if not needed
+     */
+    public L3BookTracker(CoinbaseProductsManager productsManager, FeedListener listener) {
+        this(productId -> productsManager.getCompactProductBookAsync(productId, 3), listener);
+    }
+
+    /**
+     * Constructor to init a {@link L3BookTracker} which requests the snapshots to the
+     * {@code "/products/{product_id}/book"} endpoint
+     *
+     * @param productsManager: manager used to request the snapshots
+     */
+    public L3BookTracker(CoinbaseProductsManager productsManager) {
+        this(productsManager, null);
+    }
+
+    /**
+     * Method to create the book of a product not synced yet
+     *
+     * @param productId: product identifier value
+     * @return book of the product as {@link L3OrderBook}
+     * @implNote the {@link com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel#full} channel of the
+     * product must be subscribed on the feed to receive its updates
+     */
+    @Override
+    protected L3OrderBook createBook(String productId) {
+        return new L3OrderBook(productId);
+    }
+
+    /**
+     * Method invoked for each message of the full channel, it is applied to the book of the product
+     *
+     * @param update: update received
+     */
+    @Override
+    public void onL3Update(L3Update update) {
+        L3OrderBook book = getBook(update.getProductId());
+        if (book != null && !book.apply(update))
+            resyncLater(update.getProductId());
+        super.onL3Update(update);
+    }
+
+}
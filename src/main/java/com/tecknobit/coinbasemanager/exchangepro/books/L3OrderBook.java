@@ -0,0 +1,688 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.BookLevels;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L3Update;
+
+import java.util.ArrayDeque;
+import java.util.UUID;
+
+import static com.tecknobit.coinbasemanager.exchangepro.books.OrderPool.NONE;
+
+/**
+ * The {@code L3OrderBook} class is useful to keep updated in memory the level-3 book of a product, with each single
+ * order resting in the book, loading a snapshot and then applying the {@link L3Update} received from the feed
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the orders are indexed by their identifier in an {@link OrderIdIndex} and by price level in the queue of
+ * their level, in the order of arrival, all in primitive arrays: an order costs about 80 bytes and no object is created
+ * for each order or update applied. The updates are synced with the sequences as for {@link L2OrderBook}; an order is
+ * added, changed or removed in O(log n) and the queue position of an order is computed walking the orders before it.
+ * The best bid and ask are read in O(1) without locking, the other reads and the updates are synchronized on the book
+ * @apiNote the orders identifiers must be UUIDs, as the ones of {@code "Coinbase"}
+ * @see L3BookTracker
+ * @see LiveOrderBook
+ */
+public class L3OrderBook implements LiveOrderBook {
+
+    /**
+     * {@code DEFAULT_MAX_PENDING_UPDATES} is constant for the default max number of the updates kept while the book is
+     * not synced
+     */
+    public static final int DEFAULT_MAX_PENDING_UPDATES = 100_000;
+
+    /**
+     * {@code productId} is instance that memorizes product identifier value
+     */
+    private final String productId;
+
+    /**
+     * {@code pool} is instance that memorizes the orders of the book
+     */
+    private final OrderPool pool = new OrderPool();
+
+    /**
+     * {@code index} is instance that memorizes the slot of each order by its identifier
+     */
+    private final OrderIdIndex index = new OrderIdIndex();
+
+    /**
+     * {@code bids} is instance that memorizes the bids of the book
+     */
+    private final L3BookSide bids = new L3BookSide(true, pool);
+
+    /**
+     * {@code asks} is instance that memorizes the asks of the book
+     */
+    private final L3BookSide asks = new L3BookSide(false, pool);
+
+    /**
+     * {@code pendingUpdates} is instance that memorizes the updates received while the book is not synced
+     */
+    private final ArrayDeque<L3Update> pendingUpdates = new ArrayDeque<>();
+
+    /**
+     * {@code maxPendingUpdates} is instance that memorizes the max number of the updates kept while the book is not
+     * synced, the oldest ones are discarded
+     */
+    private int maxPendingUpdates = DEFAULT_MAX_PENDING_UPDATES;
+
+    /**
+     * {@code sequence} is instance that memorizes the sequence of the book, -1 if it is not known
+     */
+    private long sequence = -1;
+
+    /**
+     * {@code synced} is flag that checks if the book is synced with the updates received
+     */
+    private volatile boolean synced;
+
+    /**
+     * {@code bestBid} is instance that memorizes the price of the best bid, {@link Double#NaN} if there are no bids
+     */
+    private volatile double bestBid = Double.NaN;
+
+    /**
+     * {@code bestBidSize} is instance that memorizes the size of the best bid
+     */
+    private volatile double bestBidSize;
+
+    /**
+     * {@code bestAsk} is instance that memorizes the price of the best ask, {@link Double#NaN} if there are no asks
+     */
+    private volatile double bestAsk = Double.NaN;
+
+    /**
+     * {@code bestAskSize} is instance that memorizes the size of the best ask
+     */
+    private volatile double bestAskSize;
+
+    /**
+     * {@code appliedUpdates} is instance that memorizes the number of the updates applied
+     */
+    private long appliedUpdates;
+
+    /**
+     * {@code gaps} is instance that memorizes the number of the gaps of the sequences detected
+     */
+    private long gaps;
+
+    /**
+     * Constructor to init a {@link L3OrderBook} not synced yet
+     *
+     * @param productId: product identifier value
+     */
+    public L3OrderBook(String productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * Method to load a snapshot of the book
+     *
+     * @param book: snapshot as {@link CompactBook}, the level-3 book of the {@code "/products/{product_id}/book"}
+     *              endpoint, its {@code "sequence"} is optional
+     * @return whether the book is synced after the updates kept have been applied as boolean
+     * @throws IllegalArgumentException when the snapshot is not a level-3 book
+     */
+    @Override
+    public synchronized boolean load(CompactBook book) {
+        BookLevels bidLevels = book.getBids();
+        BookLevels askLevels = book.getAsks();
+        if ((bidLevels.size() > 0 && !bidLevels.hasOrderIds()) || (askLevels.size() > 0 && !askLevels.hasOrderIds()))
+            throw new IllegalArgumentException("The snapshot must be a level-3 book");
+        int orders = bidLevels.size() + askLevels.size();
+        pool.clear(orders);
+        index.clear(orders);
+        bids.clear();
+        asks.clear();
+        loadOrders(bidLevels, true);
+        loadOrders(askLevels, false);
+        this.sequence = book.getSequence();
+        synced = true;
+        if (sequence < 0) {
+            // without the sequence the snapshot follows all the updates kept
+            pendingUpdates.clear();
+        } else {
+            L3Update update;
+            while (synced && (update = pendingUpdates.pollFirst()) != null)
+                applyUpdate(update);
+        }
+        refreshBest();
+        return synced;
+    }
+
+    /**
+     * Method to load the orders of a side of the book
+     *
+     * @param levels: orders to load, from the best level to the worst one
+     * @param bid:    whether the orders are on the bids side
+     * @implNote the levels are loaded from the worst one, so each level is appended to the side without moving the
+     * others, and the orders of each level are loaded in the order sent, which is their order in the queue
+     */
+    private void loadOrders(BookLevels levels, boolean bid) {
+        int end = levels.size();
+        while (end > 0) {
+            double price = levels.getPrice(end - 1);
+            int start = end - 1;
+            while (start > 0 && levels.getPrice(start - 1) == price)
+                start--;
+            for (int j = start; j < end; j++)
+                addOrder(levels.getOrderId(j), bid, price, levels.getSize(j));
+            end = start;
+        }
+    }
+
+    /**
+     * Method to apply an update to the book
+     *
+     * @param update: update to apply
+     * @return whether the book is synced after the update as boolean, when {@code false} a new snapshot must be loaded
+     * @implNote while the book is not synced the update is kept to be applied after the next snapshot
+     */
+    public synchronized boolean apply(L3Update update) {
+        if (!synced) {
+            if (pendingUpdates.size() >= maxPendingUpdates)
+                pendingUpdates.pollFirst();
+            pendingUpdates.addLast(update);
+            return false;
+        }
+        applyUpdate(update);
+        refreshBest();
+        return synced;
+    }
+
+    /**
+     * Method to apply an update to the synced book
+     *
+     * @param update: update to apply
+     */
+    private void applyUpdate(L3Update update) {
+        long updateSequence = update.getSequence();
+        if (updateSequence >= 0 && sequence >= 0) {
+            if (updateSequence <= sequence)
+                return;
+            if (updateSequence != sequence + 1) {
+                gaps++;
+                synced = false;
+                // kept before the updates not applied yet, the book waits a snapshot which includes it
+                pendingUpdates.addFirst(update);
+                return;
+            }
+        }
+        switch (update.getType()) {
+            case open:
+                if (!Double.isNaN(update.getPrice()) && update.getSize() > 0)
+                    addOrder(update.getOrderId(), update.isBid(), update.getPrice(), update.getSize());
+                break;
+            case done:
+                removeOrder(update.getOrderId());
+                break;
+            case change:
+                changeOrder(update.getOrderId(), update.getPrice(), update.getSize());
+                break;
+            case match:
+                matchOrder(update.getOrderId(), update.getSize());
+                break;
+            default:
+                // received and activate do not change the orders resting in the book
+        }
+        if (updateSequence >= 0)
+            sequence = updateSequence;
+        appliedUpdates++;
+    }
+
+    /**
+     * Method to add an order at the end of the queue of its level
+     *
+     * @param orderId: identifier of the order
+     * @param bid:     whether the order is on the bids side
+     * @param price:   price of the order
+     * @param size:    remaining size of the order
+     */
+    private void addOrder(String orderId, boolean bid, double price, double size) {
+        long high = OrderIdIndex.high(orderId);
+        long low = OrderIdIndex.low(orderId);
+        int slot = index.remove(high, low);
+        if (slot != NONE)
+            releaseOrder(slot);
+        slot = pool.allocate(high, low, bid, price, size);
+        index.put(high, low, slot);
+        (bid ? bids : asks).add(slot);
+    }
+
+    /**
+     * Method to remove an order
+     *
+     * @param orderId: identifier of the order
+     */
+    private void removeOrder(String orderId) {
+        int slot = index.remove(OrderIdIndex.high(orderId), OrderIdIndex.low(orderId));
+        if (slot != NONE)
+            releaseOrder(slot);
+    }
+
+    /**
+     * Method to remove an order already removed from the index
+     *
+     * @param slot: slot of the order
+     */
+    private void releaseOrder(int slot) {
+        (pool.bids[slot] ? bids : asks).remove(slot);
+        pool.release(slot);
+    }
+
+    /**
+     * Method to change an order
+     *
+     * @param orderId: identifier of the order
+     * @param price:   price of the order, {@link Double#NaN} if not sent
+     * @param size:    new remaining size of the order, {@link Double#NaN} if not sent
+     * @implNote the order keeps its place in the queue, unless its price has been changed
+     */
+    private void changeOrder(String orderId, double price, double size) {
+        int slot = slot(orderId);
+        if (slot == NONE || Double.isNaN(size))
+            return;
+        if (size <= 0)
+            removeOrder(orderId);
+        else if (!Double.isNaN(price) && price != pool.prices[slot]) {
+            boolean bid = pool.bids[slot];
+            removeOrder(orderId);
+            addOrder(orderId, bid, price, size);
+        } else
+            (pool.bids[slot] ? bids : asks).resize(slot, size);
+    }
+
+    /**
+     * Method to fill a part of an order
+     *
+     * @param orderId: identifier of the maker order
+     * @param size:    size matched
+     * @implNote the order is removed when filled, the {@code "done"} message which follows is ignored
+     */
+    private void matchOrder(String orderId, double size) {
+        int slot = slot(orderId);
+        if (slot == NONE)
+            return;
+        double remainingSize = pool.sizes[slot] - size;
+        if (remainingSize <= 0)
+            removeOrder(orderId);
+        else
+            (pool.bids[slot] ? bids : asks).resize(slot, remainingSize);
+    }
+
+    /**
+     * Method to get the slot of an order
+     *
+     * @param orderId: identifier of the order
+     * @return slot of the order as int, {@link OrderPool#NONE} if it is not in the book
+     */
+    private int slot(String orderId) {
+        return index.get(OrderIdIndex.high(orderId), OrderIdIndex.low(orderId));
+    }
+
+    /**
+     * Method to refresh the best levels read without locking <br>
+     * No-any params required
+     */
+    private void refreshBest() {
+        if (bids.size() > 0) {
+            bestBidSize = bids.getSize(0);
+            bestBid = bids.getPrice(0);
+        } else {
+            bestBidSize = 0;
+            bestBid = Double.NaN;
+        }
+        if (asks.size() > 0) {
+            bestAskSize = asks.getSize(0);
+            bestAsk = asks.getPrice(0);
+        } else {
+            bestAskSize = 0;
+            bestAsk = Double.NaN;
+        }
+    }
+
+    /**
+     * Method to mark the book as not synced, es. when the connection of the feed has been lost, the orders are kept
+     * until the next snapshot <br>
+     * No-any params required
+     */
+    @Override
+    public synchronized void invalidate() {
+        synced = false;
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Method to get whether an order is resting in the book
+     *
+     * @param orderId: identifier of the order
+     * @return whether the order is resting in the book as boolean
+     */
+    public synchronized boolean contains(String orderId) {
+        return slot(orderId) != NONE;
+    }
+
+    /**
+     * Method to get the price of an order
+     *
+     * @param orderId: identifier of the order
+     * @return price of the order as double, {@link Double#NaN} if it is not in the book
+     */
+    public synchronized double getOrderPrice(String orderId) {
+        int slot = slot(orderId);
+        return slot != NONE ? pool.prices[slot] : Double.NaN;
+    }
+
+    /**
+     * Method to get the remaining size of an order
+     *
+     * @param orderId: identifier of the order
+     * @return remaining size of the order as double, {@link Double#NaN} if it is not in the book
+     */
+    public synchronized double getOrderSize(String orderId) {
+        int slot = slot(orderId);
+        return slot != NONE ? pool.sizes[slot] : Double.NaN;
+    }
+
+    /**
+     * Method to get the queue position of an order as the size of the orders before it at its price, that is the size
+     * which must be filled or canceled before the order starts to be filled
+     *
+     * @param orderId: identifier of the order
+     * @return size of the orders before as double, {@link Double#NaN} if it is not in the book
+     */
+    public synchronized double getSizeAhead(String orderId) {
+        int slot = slot(orderId);
+        if (slot == NONE)
+            return Double.NaN;
+        return (pool.bids[slot] ? bids : asks).getSizeAhead(slot);
+    }
+
+    /**
+     * Method to get the queue position of a new order, es. before sending it, as the size of the orders resting at its
+     * price, which all come before it
+     *
+     * @param bid:   whether the order is on the bids side
+     * @param price: price of the order
+     * @return size of the orders before as double
+     */
+    public synchronized double getSizeAhead(boolean bid, double price) {
+        return (bid ? bids : asks).getSizeAt(price);
+    }
+
+    /**
+     * Method to get the queue position of an order as the number of the orders before it at its price
+     *
+     * @param orderId: identifier of the order
+     * @return number of the orders before as int, -1 if it is not in the book
+     */
+    public synchronized int getOrdersAhead(String orderId) {
+        int slot = slot(orderId);
+        if (slot == NONE)
+            return -1;
+        return (pool.bids[slot] ? bids : asks).getOrdersAhead(slot);
+    }
+
+    /**
+     * Method to get the number of the orders resting in the book <br>
+     * No-any params required
+     *
+     * @return number of the orders as int
+     */
+    public synchronized int getOrders() {
+        return pool.size();
+    }
+
+    /**
+     * Method to get {@link #productId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #productId} instance as {@link String}
+     */
+    @Override
+    public String getProductId() {
+        return productId;
+    }
+
+    /**
+     * Method to get {@link #sequence} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sequence} instance as long
+     */
+    @Override
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Method to get {@link #synced} instance <br>
+     * No-any params required
+     *
+     * @return {@link #synced} instance as boolean
+     */
+    @Override
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Method to get {@link #bestBid} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestBid} instance as double
+     */
+    @Override
+    public double getBestBid() {
+        return bestBid;
+    }
+
+    /**
+     * Method to get {@link #bestBidSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestBidSize} instance as double
+     */
+    @Override
+    public double getBestBidSize() {
+        return bestBidSize;
+    }
+
+    /**
+     * Method to get {@link #bestAsk} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestAsk} instance as double
+     */
+    @Override
+    public double getBestAsk() {
+        return bestAsk;
+    }
+
+    /**
+     * Method to get {@link #bestAskSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestAskSize} instance as double
+     */
+    @Override
+    public double getBestAskSize() {
+        return bestAskSize;
+    }
+
+    /**
+     * Method to get the number of the bids levels <br>
+     * No-any params required
+     *
+     * @return number of the bids levels as int
+     */
+    @Override
+    public synchronized int getBidLevels() {
+        return bids.size();
+    }
+
+    /**
+     * Method to get the price of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    @Override
+    public synchronized double getBidPrice(int level) {
+        return bids.getPrice(level);
+    }
+
+    /**
+     * Method to get the total size of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return total size of the level as double
+     */
+    @Override
+    public synchronized double getBidSize(int level) {
+        return bids.getSize(level);
+    }
+
+    /**
+     * Method to get the number of orders of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return number of orders of the level as int
+     */
+    public synchronized int getBidOrders(int level) {
+        return bids.getOrders(level);
+    }
+
+    /**
+     * Method to get the number of the asks levels <br>
+     * No-any params required
+     *
+     * @return number of the asks levels as int
+     */
+    @Override
+    public synchronized int getAskLevels() {
+        return asks.size();
+    }
+
+    /**
+     * Method to get the price of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    @Override
+    public synchronized double getAskPrice(int level) {
+        return asks.getPrice(level);
+    }
+
+    /**
+     * Method to get the total size of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return total size of the level as double
+     */
+    @Override
+    public synchronized double getAskSize(int level) {
+        return asks.getSize(level);
+    }
+
+    /**
+     * Method to get the number of orders of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return number of orders of the level as int
+     */
+    public synchronized int getAskOrders(int level) {
+        return asks.getOrders(level);
+    }
+
+    /**
+     * Method to set {@link #maxPendingUpdates} instance
+     *
+     * @param maxPendingUpdates: max number of the updates kept while the book is not synced
+     * @throws IllegalArgumentException when the max number is not positive
+     */
+    public synchronized void setMaxPendingUpdates(int maxPendingUpdates) {
+        if (maxPendingUpdates <= 0)
+            throw new IllegalArgumentException("The max pending updates must be positive");
+        this.maxPendingUpdates = maxPendingUpdates;
+    }
+
+    /**
+     * Method to get the number of the updates kept while the book is not synced <br>
+     * No-any params required
+     *
+     * @return number of the updates kept as int
+     */
+    public synchronized int getPendingUpdates() {
+        return pendingUpdates.size();
+    }
+
+    /**
+     * Method to get {@link #appliedUpdates} instance <br>
+     * No-any params required
+     *
+     * @return {@link #appliedUpdates} instance as long
+     */
+    public synchronized long getAppliedUpdates() {
+        return appliedUpdates;
+    }
+
+    /**
+     * Method to get {@link #gaps} instance <br>
+     * No-any params required
+     *
+     * @return {@link #gaps} instance as long
+     */
+    public synchronized long getGaps() {
+        return gaps;
+    }
+
+    /**
+     * Method to create a snapshot of the book with all its orders <br>
+     * No-any params required
+     *
+     * @return snapshot as {@link CompactBook}, with the same shape of the level-3 book of the
+     * {@code "/products/{product_id}/book"} endpoint
+     */
+    public synchronized CompactBook toCompactBook() {
+        return new CompactBook(productId, sequence, false, null, null, assembleOrders(asks), assembleOrders(bids));
+    }
+
+    /**
+     * Method to assemble the orders of a side of the book
+     *
+     * @param side: side to assemble
+     * @return orders from the best level to the worst one, each level in the order of its queue, as {@link BookLevels}
+     */
+    private BookLevels assembleOrders(L3BookSide side) {
+        int orders = 0;
+        for (int j = 0; j < side.size(); j++)
+            orders += side.getOrders(j);
+        double[] prices = new double[orders];
+        double[] sizes = new double[orders];
+        String[] orderIds = new String[orders];
+        int order = 0;
+        for (int j = 0; j < side.size(); j++) {
+            for (int slot = side.getHead(j); slot != NONE; slot = pool.nexts[slot]) {
+                prices[order] = pool.prices[slot];
+                sizes[order] = pool.sizes[slot];
+                orderIds[order++] = new UUID(pool.highs[slot], pool.lows[slot]).toString();
+            }
+        }
+        return new BookLevels(prices, sizes, null, orderIds);
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toCompactBook().toString();
+    }
+
+}
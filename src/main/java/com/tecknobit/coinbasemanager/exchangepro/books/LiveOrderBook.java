@@ -0,0 +1,111 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.analytics.BookAnalytics;
+import com.tecknobit.coinbasemanager.exchangepro.analytics.BookDepth;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+
+/**
+ * The {@code LiveOrderBook} interface is useful to read the levels of a book kept updated in memory with the messages
+ * of the feed, whatever the level of its details
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the best bid and ask are read without locking, the levels are read each one atomically but the book can
+ * change between two reads, unless they are made synchronizing on the book as does {@link BookAnalytics}
+ * @see L2OrderBook
+ * @see L3OrderBook
+ * @see BookTracker
+ */
+public interface LiveOrderBook extends BookDepth {
+
+    /**
+     * Method to get the product identifier value of the book <br>
+     * No-any params required
+     *
+     * @return product identifier value as {@link String}
+     */
+    String getProductId();
+
+    /**
+     * Method to get the sequence of the book <br>
+     * No-any params required
+     *
+     * @return sequence as long, -1 if it is not known
+     */
+    long getSequence();
+
+    /**
+     * Method to get whether the book is synced with the updates received <br>
+     * No-any params required
+     *
+     * @return whether the book is synced as boolean
+     */
+    boolean isSynced();
+
+    /**
+     * Method to load a snapshot of the book
+     *
+     * @param book: snapshot as {@link CompactBook}, its {@code "sequence"} is optional
+     * @return whether the book is synced after the updates kept have been applied as boolean
+     */
+    boolean load(CompactBook book);
+
+    /**
+     * Method to mark the book as not synced, es. when the connection of the feed has been lost, the levels are kept
+     * until the next snapshot <br>
+     * No-any params required
+     */
+    void invalidate();
+
+    /**
+     * Method to get the price of the best bid <br>
+     * No-any params required
+     *
+     * @return price of the best bid as double, {@link Double#NaN} if there are no bids
+     */
+    double getBestBid();
+
+    /**
+     * Method to get the size of the best bid <br>
+     * No-any params required
+     *
+     * @return size of the best bid as double
+     */
+    double getBestBidSize();
+
+    /**
+     * Method to get the price of the best ask <br>
+     * No-any params required
+     *
+     * @return price of the best ask as double, {@link Double#NaN} if there are no asks
+     */
+    double getBestAsk();
+
+    /**
+     * Method to get the size of the best ask <br>
+     * No-any params required
+     *
+     * @return size of the best ask as double
+     */
+    double getBestAskSize();
+
+    /**
+     * Method to get the mid price of the book <br>
+     * No-any params required
+     *
+     * @return mid price as double, {@link Double#NaN} if a side is empty
+     */
+    default double getMidPrice() {
+        return (getBestBid() + getBestAsk()) / 2;
+    }
+
+    /**
+     * Method to get the spread of the book <br>
+     * No-any params required
+     *
+     * @return spread as double, {@link Double#NaN} if a side is empty
+     */
+    default double getSpread() {
+        return getBestAsk() - getBestBid();
+    }
+
+}
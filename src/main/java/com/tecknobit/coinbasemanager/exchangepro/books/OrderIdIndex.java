@@ -0,0 +1,247 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+/**
+ * The {@code OrderIdIndex} class is useful to index the orders of a book by their identifier in primitive arrays
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the identifiers of the orders are UUIDs and are memorized as their two halves of 64 bits in an open
+ * addressing table with linear probing, so each order costs about 40 bytes at the max load and no object is created
+ * for each order. The table is sized again at each {@link #clear(int)}, so its memory follows the orders resting in the
+ * book and not the ones seen since the start
+ */
+final class OrderIdIndex {
+
+    /**
+     * {@code MIN_CAPACITY} is constant for the min number of the entries of the table
+     */
+    private static final int MIN_CAPACITY = 1024;
+
+    /**
+     * {@code highs} is instance that memorizes the most significant half of the identifier of each entry
+     */
+    private long[] highs;
+
+    /**
+     * {@code lows} is instance that memorizes the least significant half of the identifier of each entry
+     */
+    private long[] lows;
+
+    /**
+     * {@code slots} is instance that memorizes the slot of the order of each entry plus one, zero for the empty entries
+     */
+    private int[] slots;
+
+    /**
+     * {@code mask} is instance that memorizes the mask to get an entry from a hash
+     */
+    private int mask;
+
+    /**
+     * {@code count} is instance that memorizes the number of the orders indexed
+     */
+    private int count;
+
+    /**
+     * Constructor to init an empty {@link OrderIdIndex} <br>
+     * No-any params required
+     */
+    OrderIdIndex() {
+        clear(0);
+    }
+
+    /**
+     * Method to get the most significant half of an identifier
+     *
+     * @param orderId: identifier of the order
+     * @return most significant half of the identifier as long
+     * @throws IllegalArgumentException when the identifier is not a UUID
+     */
+    static long high(String orderId) {
+        checkOrderId(orderId);
+        return parseHex(orderId, 0, 18);
+    }
+
+    /**
+     * Method to get the least significant half of an identifier
+     *
+     * @param orderId: identifier of the order
+     * @return least significant half of the identifier as long
+     * @throws IllegalArgumentException when the identifier is not a UUID
+     */
+    static long low(String orderId) {
+        checkOrderId(orderId);
+        return parseHex(orderId, 19, 36);
+    }
+
+    /**
+     * Method to check that an identifier is a UUID
+     *
+     * @param orderId: identifier to check
+     * @throws IllegalArgumentException when the identifier is not a UUID
+     */
+    private static void checkOrderId(String orderId) {
+        if (orderId == null || orderId.length() != 36 || orderId.charAt(8) != '-' || orderId.charAt(13) != '-'
+                || orderId.charAt(18) != '-' || orderId.charAt(23) != '-') {
+            throw new IllegalArgumentException("The order identifier must be a UUID: " + orderId);
+        }
+    }
+
+    /**
+     * Method to parse the hex digits of a part of an identifier, skipping the dashes
+     *
+     * @param orderId: identifier to parse
+     * @param start:   index of the first char
+     * @param end:     index after the last char
+     * @return value of the digits as long
+     * @throws IllegalArgumentException when a char is not a hex digit
+     */
+    private static long parseHex(String orderId, int start, int end) {
+        long value = 0;
+        for (int j = start; j < end; j++) {
+            char c = orderId.charAt(j);
+            if (c == '-')
+                continue;
+            int digit = Character.digit(c, 16);
+            if (digit < 0)
+                throw new IllegalArgumentException("The order identifier must be a UUID: " + orderId);
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    /**
+     * Method to get the slot of an order
+     *
+     * @param high: most significant half of the identifier
+     * @param low:  least significant half of the identifier
+     * @return slot of the order as int, -1 if it is not indexed
+     */
+    int get(long high, long low) {
+        for (int j = hash(high, low); slots[j] != 0; j = (j + 1) & mask)
+            if (highs[j] == high && lows[j] == low)
+                return slots[j] - 1;
+        return -1;
+    }
+
+    /**
+     * Method to index the slot of an order, replacing the previous one
+     *
+     * @param high: most significant half of the identifier
+     * @param low:  least significant half of the identifier
+     * @param slot: slot of the order
+     */
+    void put(long high, long low, int slot) {
+        if ((count + 1) * 2 > slots.length)
+            rehash(slots.length * 2);
+        int j = hash(high, low);
+        while (slots[j] != 0) {
+            if (highs[j] == high && lows[j] == low) {
+                slots[j] = slot + 1;
+                return;
+            }
+            j = (j + 1) & mask;
+        }
+        highs[j] = high;
+        lows[j] = low;
+        slots[j] = slot + 1;
+        count++;
+    }
+
+    /**
+     * Method to remove an order
+     *
+     * @param high: most significant half of the identifier
+     * @param low:  least significant half of the identifier
+     * @return slot of the order removed as int, -1 if it was not indexed
+     * @implNote the entries following the one removed are shifted back, so the table never contains deleted entries
+     */
+    int remove(long high, long low) {
+        int j = hash(high, low);
+        while (slots[j] != 0 && (highs[j] != high || lows[j] != low))
+            j = (j + 1) & mask;
+        if (slots[j] == 0)
+            return -1;
+        int slot = slots[j] - 1;
+        int free = j;
+        while (true) {
+            j = (j + 1) & mask;
+            if (slots[j] == 0)
+                break;
+            int home = hash(highs[j], lows[j]);
+            // the entry is moved back only when its home is not between the free entry and itself
+            if (((j - home) & mask) >= ((j - free) & mask)) {
+                highs[free] = highs[j];
+                lows[free] = lows[j];
+                slots[free] = slots[j];
+                free = j;
+            }
+        }
+        slots[free] = 0;
+        count--;
+        return slot;
+    }
+
+    /**
+     * Method to remove all the orders and size the table for a number of orders
+     *
+     * @param orders: number of the orders which will be indexed
+     */
+    void clear(int orders) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < orders * 2)
+            capacity <<= 1;
+        highs = new long[capacity];
+        lows = new long[capacity];
+        slots = new int[capacity];
+        mask = capacity - 1;
+        count = 0;
+    }
+
+    /**
+     * Method to get the number of the orders indexed <br>
+     * No-any params required
+     *
+     * @return number of the orders indexed as int
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Method to move the entries in a table with a new capacity
+     *
+     * @param capacity: new capacity of the table
+     */
+    private void rehash(int capacity) {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        int[] oldSlots = slots;
+        highs = new long[capacity];
+        lows = new long[capacity];
+        slots = new int[capacity];
+        mask = capacity - 1;
+        for (int j = 0; j < oldSlots.length; j++) {
+            if (oldSlots[j] != 0) {
+                int k = hash(oldHighs[j], oldLows[j]);
+                while (slots[k] != 0)
+                    k = (k + 1) & mask;
+                highs[k] = oldHighs[j];
+                lows[k] = oldLows[j];
+                slots[k] = oldSlots[j];
+            }
+        }
+    }
+
+    /**
+     * Method to get the home entry of an identifier
+     *
+     * @param high: most significant half of the identifier
+     * @param low:  least significant half of the identifier
+     * @return home entry as int
+     */
+    private int hash(long high, long low) {
+        long hash = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import java.util.Arrays;
+
+/**
+ * The {@code OrderPool} class is useful to memorize the orders resting in a book in parallel primitive arrays, where
+ * each order is a slot of the arrays
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the slots of the orders removed are reused by the next ones, so the arrays grow only up to the max number
+ * of the orders resting at the same time. The orders of the same level are linked in the order of arrival with the
+ * {@link #prevs} and {@link #nexts} slots
+ */
+final class OrderPool {
+
+    /**
+     * {@code NONE} is constant for a missing slot
+     */
+    static final int NONE = -1;
+
+    /**
+     * {@code MIN_CAPACITY} is constant for the min number of the slots of the arrays
+     */
+    private static final int MIN_CAPACITY = 1024;
+
+    /**
+     * {@code highs} is instance that memorizes the most significant half of the identifier of each order
+     */
+    long[] highs;
+
+    /**
+     * {@code lows} is instance that memorizes the least significant half of the identifier of each order
+     */
+    long[] lows;
+
+    /**
+     * {@code prices} is instance that memorizes the price of each order
+     */
+    double[] prices;
+
+    /**
+     * {@code sizes} is instance that memorizes the remaining size of each order
+     */
+    double[] sizes;
+
+    /**
+     * {@code prevs} is instance that memorizes the slot of the previous order of the same level of each order
+     */
+    int[] prevs;
+
+    /**
+     * {@code nexts} is instance that memorizes the slot of the next order of the same level of each order, or the next
+     * free slot for the free ones
+     */
+    int[] nexts;
+
+    /**
+     * {@code bids} is instance that memorizes whether each order is on the bids side
+     */
+    boolean[] bids;
+
+    /**
+     * {@code used} is instance that memorizes the number of the slots used at least once
+     */
+    private int used;
+
+    /**
+     * {@code free} is instance that memorizes the first free slot, {@link #NONE} if there are no free slots
+     */
+    private int free;
+
+    /**
+     * {@code count} is instance that memorizes the number of the orders
+     */
+    private int count;
+
+    /**
+     * Constructor to init an empty {@link OrderPool} <br>
+     * No-any params required
+     */
+    OrderPool() {
+        clear(0);
+    }
+
+    /**
+     * Method to add an order
+     *
+     * @param high:  most significant half of the identifier
+     * @param low:   least significant half of the identifier
+     * @param bid:   whether the order is on the bids side
+     * @param price: price of the order
+     * @param size:  remaining size of the order
+     * @return slot of the order as int
+     */
+    int allocate(long high, long low, boolean bid, double price, double size) {
+        int slot;
+        if (free != NONE) {
+            slot = free;
+            free = nexts[slot];
+        } else {
+            if (used == prices.length)
+                grow(used * 2);
+            slot = used++;
+        }
+        highs[slot] = high;
+        lows[slot] = low;
+        bids[slot] = bid;
+        prices[slot] = price;
+        sizes[slot] = size;
+        prevs[slot] = NONE;
+        nexts[slot] = NONE;
+        count++;
+        return slot;
+    }
+
+    /**
+     * Method to remove an order, its slot is reused by the next orders
+     *
+     * @param slot: slot of the order
+     */
+    void release(int slot) {
+        nexts[slot] = free;
+        free = slot;
+        count--;
+    }
+
+    /**
+     * Method to remove all the orders and size the arrays for a number of orders
+     *
+     * @param orders: number of the orders which will be added
+     */
+    void clear(int orders) {
+        int capacity = Math.max(MIN_CAPACITY, orders);
+        highs = new long[capacity];
+        lows = new long[capacity];
+        prices = new double[capacity];
+        sizes = new double[capacity];
+        prevs = new int[capacity];
+        nexts = new int[capacity];
+        bids = new boolean[capacity];
+        used = 0;
+        free = NONE;
+        count = 0;
+    }
+
+    /**
+     * Method to get the number of the orders <br>
+     * No-any params required
+     *
+     * @return number of the orders as int
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Method to grow the arrays
+     *
+     * @param capacity: new number of the slots
+     */
+    private void grow(int capacity) {
+        highs = Arrays.copyOf(highs, capacity);
+        lows = Arrays.copyOf(lows, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        prevs = Arrays.copyOf(prevs, capacity);
+        nexts = Arrays.copyOf(nexts, capacity);
+        bids = Arrays.copyOf(bids, capacity);
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.tecknobit.coinbasemanager.exchangepro.cache;
+
+import com.tecknobit.coinbasemanager.exchangepro.metrics.EndpointTemplates;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code CachePolicy} class is useful to define the time to live of the responses of each endpoint template
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the responses of the endpoints without a time to live are never cached, by default only the slow-changing
+ * reference endpoints have a time to live. The responses of the private endpoints, which depend on the api key that
+ * signs the request as the fees, are cached for each api key, so they are never served to a manager with another key
+ * @see ResponseCache
+ */
+public class CachePolicy {
+
+    /**
+     * {@code DEFAULT_TTL} is constant for the default time to live in millis of the reference endpoints
+     */
+    public static final long DEFAULT_TTL = 60_000;
+
+    /**
+     * {@code ttls} is instance that memorizes the time to live in millis of the responses of each endpoint template
+     */
+    private final ConcurrentHashMap<String, Long> ttls = new ConcurrentHashMap<>();
+
+    /**
+     * {@code privateTemplates} is instance that memorizes the endpoint templates whose responses depend on the api key
+     * that signs the request
+     */
+    private final Set<String> privateTemplates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor to init a {@link CachePolicy}
+     *
+     * @param referenceTtl: time to live in millis of the responses of the reference endpoints, as the trading pairs,
+     *                      the currencies, the fees, the wrapped assets and the payment methods
+     */
+    public CachePolicy(long referenceTtl) {
+        setTtl("/products", referenceTtl);
+        setTtl("/products/{product_id}", referenceTtl);
+        setTtl("/currencies", referenceTtl);
+        setTtl("/currencies/{currency_id}", referenceTtl);
+        setTtl("/fees", referenceTtl, true);
+        setTtl("/wrapped-assets", referenceTtl);
+        setTtl("/wrapped-assets/{wrapped_asset_id}", referenceTtl);
+        setTtl("/payment-methods", referenceTtl, true);
+    }
+
+    /**
+     * Constructor to init a {@link CachePolicy} with {@link #DEFAULT_TTL} for the reference endpoints <br>
+     * No-any params required
+     */
+    public CachePolicy() {
+        this(DEFAULT_TTL);
+    }
+
+    /**
+     * Method to set the time to live of the responses of an endpoint template
+     *
+     * @param template: endpoint template es. /products/{product_id}/stats
+     * @param ttl:      time to live in millis of the responses, zero or less to not cache them
+     * @apiNote whether the endpoint template is private is not changed
+     */
+    public void setTtl(String template, long ttl) {
+        if (ttl > 0)
+            ttls.put(template, ttl);
+        else
+            ttls.remove(template);
+    }
+
+    /**
+     * Method to set the time to live of the responses of an endpoint template
+     *
+     * @param template:  endpoint template es. /fees
+     * @param ttl:       time to live in millis of the responses, zero or less to not cache them
+     * @param isPrivate: whether the responses depend on the api key that signs the request, so they are cached for
+     *                   each api key
+     */
+    public void setTtl(String template, long ttl, boolean isPrivate) {
+        if (isPrivate)
+            privateTemplates.add(template);
+        else
+            privateTemplates.remove(template);
+        setTtl(template, ttl);
+    }
+
+    /**
+     * Method to get the time to live of the responses of an endpoint
+     *
+     * @param endpoint: endpoint with or without its query params es. /products/BTC-USD
+     * @return time to live in millis of the responses of the endpoint as long, 0 if they are not cached
+     */
+    public long getTtl(String endpoint) {
+        if (ttls.isEmpty())
+            return 0;
+        Long ttl = ttls.get(EndpointTemplates.resolve(endpoint));
+        if (ttl == null)
+            return 0;
+        return ttl;
+    }
+
+    /**
+     * Method to get whether the responses of an endpoint depend on the api key that signs the request
+     *
+     * @param endpoint: endpoint with or without its query params es. /fees
+     * @return whether the responses of the endpoint depend on the api key as boolean
+     */
+    public boolean isPrivate(String endpoint) {
+        if (privateTemplates.isEmpty())
+            return false;
+        return privateTemplates.contains(EndpointTemplates.resolve(endpoint));
+    }
+
+    /**
+     * Method to get the time to live of the responses of each endpoint template <br>
+     * No-any params required
+     *
+     * @return time to live in millis of the responses of each endpoint template as {@link Map} of {@link String}
+     * and {@link Long}
+     */
+    public Map<String, Long> getTtls() {
+        return new HashMap<>(ttls);
+    }
+
+}
@@ -0,0 +1,279 @@
+package com.tecknobit.coinbasemanager.exchangepro.cache;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code LRUResponseCache} class is the default {@link ResponseCache}, when the max number of entries is reached
+ * the least recently used response is evicted
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ResponseCache
+ */
+public class LRUResponseCache implements ResponseCache {
+
+    /**
+     * {@code DEFAULT_MAX_ENTRIES} is constant for the default max number of responses cached
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    /**
+     * {@code maxEntries} is instance that memorizes the max number of responses cached
+     */
+    private final int maxEntries;
+
+    /**
+     * {@code entries} is instance that memorizes the responses cached in order of access
+     */
+    private final LinkedHashMap<String, CacheEntry> entries;
+
+    /**
+     * {@code hits} is instance that memorizes the number of responses served by the cache
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * {@code misses} is instance that memorizes the number of responses not found in the cache
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * {@code evictions} is instance that memorizes the number of responses evicted to respect the max number of
+     * entries
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * {@code expirations} is instance that memorizes the number of responses removed because expired
+     */
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * Constructor to init a {@link LRUResponseCache}
+     *
+     * @param maxEntries: max number of responses cached
+     */
+    public LRUResponseCache(int maxEntries) {
+        if (maxEntries < 1)
+            throw new IllegalArgumentException("The max entries value must be at least 1");
+        this.maxEntries = maxEntries;
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > LRUResponseCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Constructor to init a {@link LRUResponseCache} with {@link #DEFAULT_MAX_ENTRIES} <br>
+     * No-any params required
+     */
+    public LRUResponseCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Method to get a response cached
+     *
+     * @param key: key of the response es. /products?type=online
+     * @return response cached as {@link CoinbaseResponse}, {@code null} if the response is not cached or has expired
+     */
+    @Override
+    public CoinbaseResponse get(String key) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - System.nanoTime() > 0) {
+                    hits.increment();
+                    return entry.response;
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Method to cache a response
+     *
+     * @param key:      key of the response es. /products?type=online
+     * @param response: response to cache
+     * @param ttl:      time to live in millis of the response
+     */
+    @Override
+    public void put(String key, CoinbaseResponse response, long ttl) {
+        if (ttl <= 0)
+            return;
+        CacheEntry entry = new CacheEntry(response, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Method to invalidate a response cached
+     *
+     * @param key: key of the response to invalidate es. /products?type=online
+     */
+    @Override
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Method to invalidate all the responses cached whose key starts with a prefix
+     *
+     * @param prefix: prefix of the keys to invalidate es. /products
+     */
+    public void invalidatePrefix(String prefix) {
+        synchronized (entries) {
+            Iterator<String> keys = entries.keySet().iterator();
+            while (keys.hasNext())
+                if (keys.next().startsWith(prefix))
+                    keys.remove();
+        }
+    }
+
+    /**
+     * Method to invalidate all the responses cached <br>
+     * No-any params required
+     */
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Method to get the number of responses cached, including the expired ones not removed yet <br>
+     * No-any params required
+     *
+     * @return number of responses cached as int
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Method to get {@link #maxEntries} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxEntries} instance as int
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Method to get {@link #hits} instance <br>
+     * No-any params required
+     *
+     * @return {@link #hits} instance as long
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Method to get {@link #misses} instance <br>
+     * No-any params required
+     *
+     * @return {@link #misses} instance as long
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Method to get the ratio of the responses served by the cache <br>
+     * No-any params required
+     *
+     * @return ratio of the responses served by the cache as double, from 0 to 1
+     */
+    public double getHitRatio() {
+        long hits = this.hits.sum();
+        long requests = hits + misses.sum();
+        if (requests == 0)
+            return 0;
+        return (double) hits / requests;
+    }
+
+    /**
+     * Method to get {@link #evictions} instance <br>
+     * No-any params required
+     *
+     * @return {@link #evictions} instance as long
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Method to get {@link #expirations} instance <br>
+     * No-any params required
+     *
+     * @return {@link #expirations} instance as long
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * Method to reset the counters of the cache <br>
+     * No-any params required
+     */
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        expirations.reset();
+    }
+
+    /**
+     * The {@code CacheEntry} class is useful to memorize a response cached with its expiration
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class CacheEntry {
+
+        /**
+         * {@code response} is instance that memorizes the response cached
+         */
+        private final CoinbaseResponse response;
+
+        /**
+         * {@code expiresAt} is instance that memorizes the time in nanos when the response expires
+         */
+        private final long expiresAt;
+
+        /**
+         * Constructor to init a {@link CacheEntry}
+         *
+         * @param response:  response cached
+         * @param expiresAt: time in nanos when the response expires
+         */
+        private CacheEntry(CoinbaseResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.tecknobit.coinbasemanager.exchangepro.cache;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+/**
+ * The {@code ResponseCache} interface is useful to define a cache of the responses of the {@code "GET"} requests
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the implementations must be thread-safe because the same cache can be shared between different managers
+ * and threads
+ * @see LRUResponseCache
+ */
+public interface ResponseCache {
+
+    /**
+     * Method to get a response cached
+     *
+     * @param key: key of the response es. /products?type=online
+     * @return response cached as {@link CoinbaseResponse}, {@code null} if the response is not cached or has expired
+     */
+    CoinbaseResponse get(String key);
+
+    /**
+     * Method to cache a response
+     *
+     * @param key:      key of the response es. /products?type=online
+     * @param response: response to cache
+     * @param ttl:      time to live in millis of the response
+     */
+    void put(String key, CoinbaseResponse response, long ttl);
+
+    /**
+     * Method to invalidate a response cached
+     *
+     * @param key: key of the response to invalidate es. /products?type=online
+     */
+    void invalidate(String key);
+
+    /**
+     * Method to invalidate all the responses cached <br>
+     * No-any params required
+     */
+    void invalidateAll();
+
+}
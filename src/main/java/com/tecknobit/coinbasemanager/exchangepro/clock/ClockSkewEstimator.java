@@ -0,0 +1,486 @@
+package com.tecknobit.coinbasemanager.exchangepro.clock;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseTransport;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequestException;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+
+/**
+ * The {@code ClockSkewEstimator} class is useful to estimate the offset between the local clock and the
+ * {@code "Coinbase"} clock, sampling the {@code "/time"} endpoint, so the requests are signed with a timestamp
+ * accepted by {@code "Coinbase"} also when the local clock drifts
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote each sample estimates the offset at the middle of its round-trip, the samples are smoothed with an
+ * exponentially weighted moving average and the samples with a round-trip much slower than the best one seen are
+ * discarded, because their offset is less accurate. The samples are sent asynchronously and bounded by a timeout, so
+ * the thread shared by all the estimators only schedules them and a stalled sample never delays the other estimators.
+ * An estimator can be shared between different managers: each manager retains it while uses it and the sampling in
+ * background is stopped when the last manager releases it
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_gettime">
+ * Get the API server time</a>
+ */
+public class ClockSkewEstimator implements AutoCloseable {
+
+    /**
+     * {@code TIME_ENDPOINT} is constant for TIME_ENDPOINT's endpoint
+     */
+    public static final String TIME_ENDPOINT = "/time";
+
+    /**
+     * {@code DEFAULT_SAMPLING_PERIOD} is constant for the default period in millis between two samples
+     */
+    public static final long DEFAULT_SAMPLING_PERIOD = 60_000;
+
+    /**
+     * {@code DEFAULT_SAMPLE_TIMEOUT} is constant for the default max time in millis to wait the response of a sample
+     */
+    public static final long DEFAULT_SAMPLE_TIMEOUT = 5_000;
+
+    /**
+     * {@code SMOOTHING_FACTOR} is constant for the weight of a new sample in the moving averages
+     */
+    private static final double SMOOTHING_FACTOR = 0.25;
+
+    /**
+     * {@code MAX_ROUND_TRIP_RATIO} is constant for the max ratio between the round-trip of a sample and the best
+     * round-trip seen to use the sample
+     */
+    private static final double MAX_ROUND_TRIP_RATIO = 3;
+
+    /**
+     * {@code ROUND_TRIP_TOLERANCE} is constant for the round-trip in millis over the best one seen always accepted
+     */
+    private static final long ROUND_TRIP_TOLERANCE = 50;
+
+    /**
+     * {@code SAMPLER} is instance used to schedule the samples of the {@code "/time"} endpoint in background
+     */
+    private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coinbase-clock-skew");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code transport} is instance used to get the transport which sends each request to the {@code "/time"}
+     * endpoint
+     */
+    private final Supplier<CoinbaseTransport> transport;
+
+    /**
+     * {@code sampleTimeout} is instance that memorizes the max time in millis to wait the response of a sample
+     */
+    private final long sampleTimeout;
+
+    /**
+     * {@code offset} is instance that memorizes the smoothed offset in millis to add to the local clock
+     */
+    private volatile long offset;
+
+    /**
+     * {@code jitter} is instance that memorizes the smoothed deviation in millis of the samples from the offset
+     */
+    private volatile double jitter;
+
+    /**
+     * {@code bestRoundTrip} is instance that memorizes the fastest round-trip in millis of the samples
+     */
+    private long bestRoundTrip = Long.MAX_VALUE;
+
+    /**
+     * {@code samples} is instance that memorizes the number of samples used
+     */
+    private final AtomicLong samples = new AtomicLong();
+
+    /**
+     * {@code failedSamples} is instance that memorizes the number of samples failed
+     */
+    private final AtomicLong failedSamples = new AtomicLong();
+
+    /**
+     * {@code discardedSamples} is instance that memorizes the number of samples discarded because their round-trip
+     * was too slow
+     */
+    private final AtomicLong discardedSamples = new AtomicLong();
+
+    /**
+     * {@code lastSampleTime} is instance that memorizes the local timestamp in millis of the last sample used
+     */
+    private volatile long lastSampleTime;
+
+    /**
+     * {@code sampling} is instance used to sample periodically, {@code null} if not started
+     */
+    private ScheduledFuture<?> sampling;
+
+    /**
+     * {@code pendingSample} is instance that memorizes the last sample sent in background, {@code null} if no sample
+     * has been sent yet
+     */
+    private CompletableFuture<Boolean> pendingSample;
+
+    /**
+     * {@code users} is instance that memorizes the number of managers which use the estimator
+     */
+    private int users;
+
+    /**
+     * Constructor to init a {@link ClockSkewEstimator}
+     *
+     * @param transport: transport used to send the requests to the {@code "/time"} endpoint
+     */
+    public ClockSkewEstimator(CoinbaseTransport transport) {
+        this(transport, DEFAULT_SAMPLE_TIMEOUT);
+    }
+
+    /**
+     * Constructor to init a {@link ClockSkewEstimator}
+     *
+     * @param transport:     transport used to send the requests to the {@code "/time"} endpoint
+     * @param sampleTimeout: max time in millis to wait the response of a sample
+     */
+    public ClockSkewEstimator(CoinbaseTransport transport, long sampleTimeout) {
+        this(checkTransport(transport), sampleTimeout);
+    }
+
+    /**
+     * Constructor to init a {@link ClockSkewEstimator}
+     *
+     * @param transport:     supplier of the transport used to send each request to the {@code "/time"} endpoint,
+     *                       es. the current transport of a manager
+     * @param sampleTimeout: max time in millis to wait the response of a sample
+     */
+    public ClockSkewEstimator(Supplier<CoinbaseTransport> transport, long sampleTimeout) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        if (sampleTimeout <= 0)
+            throw new IllegalArgumentException("The sample timeout must be positive");
+        this.transport = transport;
+        this.sampleTimeout = sampleTimeout;
+    }
+
+    /**
+     * Method to check the transport of an estimator
+     *
+     * @param transport: transport used to send the requests to the {@code "/time"} endpoint
+     * @return supplier of the transport as {@link Supplier} of {@link CoinbaseTransport}
+     */
+    private static Supplier<CoinbaseTransport> checkTransport(CoinbaseTransport transport) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        return () -> transport;
+    }
+
+    /**
+     * Method to start sampling periodically in background
+     *
+     * @param period: period in millis between two samples
+     * @implNote the first sample is taken immediately, a sample is skipped while the previous one is still waiting its
+     * response; the failed samples are counted by {@link #failedSamples} and the next one is taken at the next period
+     */
+    public synchronized void start(long period) {
+        if (period <= 0)
+            throw new IllegalArgumentException("The sampling period must be positive");
+        stop();
+        sampling = SAMPLER.scheduleAtFixedRate(() -> {
+            CompletableFuture<Boolean> pendingSample = this.pendingSample;
+            if (pendingSample == null || pendingSample.isDone())
+                this.pendingSample = sampleAsync();
+        }, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Method to start sampling periodically in background every {@link #DEFAULT_SAMPLING_PERIOD} <br>
+     * No-any params required
+     */
+    public void start() {
+        start(DEFAULT_SAMPLING_PERIOD);
+    }
+
+    /**
+     * Method to stop sampling in background <br>
+     * No-any params required
+     */
+    public synchronized void stop() {
+        if (sampling != null) {
+            sampling.cancel(false);
+            sampling = null;
+        }
+    }
+
+    /**
+     * Method to stop sampling in background <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * Method to register a manager which uses the estimator <br>
+     * No-any params required
+     *
+     * @implNote each invocation must be followed by a {@link #release()} when the manager stops to use the estimator
+     */
+    public synchronized void retain() {
+        users++;
+    }
+
+    /**
+     * Method to unregister a manager which used the estimator, stopping the sampling in background when no manager
+     * uses it anymore <br>
+     * No-any params required
+     */
+    public synchronized void release() {
+        if (users > 0 && --users == 0)
+            stop();
+    }
+
+    /**
+     * Method to take a sample of the offset
+     *
+     * @return whether the sample has been used as boolean, {@code false} if it has been discarded because its
+     * round-trip was too slow
+     * @throws IOException          when the request to the {@code "/time"} endpoint has been go wrong, its response
+     *                              is not valid or has not been received within the {@link #sampleTimeout}
+     * @throws InterruptedException when the current thread is interrupted while waiting the response
+     */
+    public boolean sample() throws IOException, InterruptedException {
+        try {
+            return sampleAsync().get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Method to take a sample of the offset asynchronously <br>
+     * No-any params required
+     *
+     * @return whether the sample has been used as {@link CompletableFuture} of {@link Boolean}, completed
+     * exceptionally with an {@link IOException} when the request to the {@code "/time"} endpoint has been go wrong,
+     * its response is not valid or has not been received within the {@link #sampleTimeout}
+     */
+    public CompletableFuture<Boolean> sampleAsync() {
+        CoinbaseRequest request = new CoinbaseRequest(GET, TIME_ENDPOINT, null, null,
+                Map.of("Accept", "application/json"));
+        long sentAt = System.currentTimeMillis();
+        CompletableFuture<CoinbaseResponse> response;
+        try {
+            response = transport.get().sendAsync(request);
+        } catch (RuntimeException e) {
+            failedSamples.incrementAndGet();
+            return CompletableFuture.failedFuture(e);
+        }
+        return response.orTimeout(sampleTimeout, TimeUnit.MILLISECONDS).handle((result, error) -> {
+            long receivedAt = System.currentTimeMillis();
+            try {
+                if (error != null) {
+                    while (error instanceof CompletionException && error.getCause() != null)
+                        error = error.getCause();
+                    if (error instanceof TimeoutException)
+                        throw new HttpTimeoutException("No response from " + TIME_ENDPOINT + " in " + sampleTimeout
+                                + " ms");
+                    if (error instanceof IOException)
+                        throw (IOException) error;
+                    throw new IOException(error);
+                }
+                return addSample(readServerTime(result), sentAt, receivedAt);
+            } catch (IOException e) {
+                failedSamples.incrementAndGet();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Method to read the timestamp of the {@code "Coinbase"} clock from a response of the {@code "/time"} endpoint
+     *
+     * @param response: response of the {@code "/time"} endpoint
+     * @return timestamp in millis of the {@code "Coinbase"} clock as long
+     * @throws IOException when the response has an error status code or its body is not valid
+     */
+    private static long readServerTime(CoinbaseResponse response) throws IOException {
+        if (!response.isSuccessful())
+            throw new CoinbaseRequestException(response);
+        String body = response.getBody();
+        if (body == null)
+            throw new IOException("Empty response from " + TIME_ENDPOINT);
+        try {
+            return Math.round(new JSONObject(body).getDouble("epoch") * 1000);
+        } catch (JSONException e) {
+            throw new IOException("Invalid response from " + TIME_ENDPOINT + ": " + body, e);
+        }
+    }
+
+    /**
+     * Method to add a sample of the offset
+     *
+     * @param serverTime: timestamp in millis of the {@code "Coinbase"} clock
+     * @param sentAt:     local timestamp in millis when the request has been sent
+     * @param receivedAt: local timestamp in millis when the response has been received
+     * @return whether the sample has been used as boolean, {@code false} if it has been discarded because its
+     * round-trip was too slow
+     */
+    public synchronized boolean addSample(long serverTime, long sentAt, long receivedAt) {
+        long roundTrip = Math.max(0, receivedAt - sentAt);
+        if (roundTrip < bestRoundTrip)
+            bestRoundTrip = roundTrip;
+        else if (samples.get() > 0 && roundTrip > Math.max(bestRoundTrip * MAX_ROUND_TRIP_RATIO,
+                bestRoundTrip + ROUND_TRIP_TOLERANCE)) {
+            // the best round-trip ages, so the samples are used again if the network becomes slower
+            bestRoundTrip += (bestRoundTrip >> 2) + 1;
+            discardedSamples.incrementAndGet();
+            return false;
+        }
+        long sampleOffset = serverTime - (sentAt + roundTrip / 2);
+        if (samples.getAndIncrement() == 0) {
+            offset = sampleOffset;
+            jitter = 0;
+        } else {
+            double deviation = Math.abs(sampleOffset - offset);
+            jitter += SMOOTHING_FACTOR * (deviation - jitter);
+            offset = Math.round(offset + SMOOTHING_FACTOR * (sampleOffset - offset));
+        }
+        lastSampleTime = receivedAt;
+        return true;
+    }
+
+    /**
+     * Method to get the current timestamp of the {@code "Coinbase"} clock <br>
+     * No-any params required
+     *
+     * @return current timestamp in millis of the {@code "Coinbase"} clock as long
+     */
+    public long currentTimeMillis() {
+        return System.currentTimeMillis() + offset;
+    }
+
+    /**
+     * Method to get {@link #sampleTimeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sampleTimeout} instance as long
+     */
+    public long getSampleTimeout() {
+        return sampleTimeout;
+    }
+
+    /**
+     * Method to get {@link #offset} instance <br>
+     * No-any params required
+     *
+     * @return {@link #offset} instance as long, positive when the local clock is behind the {@code "Coinbase"} clock
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Method to get {@link #jitter} instance <br>
+     * No-any params required
+     *
+     * @return {@link #jitter} instance as double
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Method to get {@link #bestRoundTrip} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bestRoundTrip} instance as long, -1 if no sample has been taken
+     */
+    public synchronized long getBestRoundTrip() {
+        if (bestRoundTrip == Long.MAX_VALUE)
+            return -1;
+        return bestRoundTrip;
+    }
+
+    /**
+     * Method to get {@link #samples} instance <br>
+     * No-any params required
+     *
+     * @return {@link #samples} instance as long
+     */
+    public long getSamples() {
+        return samples.get();
+    }
+
+    /**
+     * Method to get {@link #failedSamples} instance <br>
+     * No-any params required
+     *
+     * @return {@link #failedSamples} instance as long
+     */
+    public long getFailedSamples() {
+        return failedSamples.get();
+    }
+
+    /**
+     * Method to get {@link #discardedSamples} instance <br>
+     * No-any params required
+     *
+     * @return {@link #discardedSamples} instance as long
+     */
+    public long getDiscardedSamples() {
+        return discardedSamples.get();
+    }
+
+    /**
+     * Method to get {@link #users} instance <br>
+     * No-any params required
+     *
+     * @return {@link #users} instance as int
+     */
+    public synchronized int getUsers() {
+        return users;
+    }
+
+    /**
+     * Method to get {@link #lastSampleTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #lastSampleTime} instance as long, 0 if no sample has been used
+     */
+    public long getLastSampleTime() {
+        return lastSampleTime;
+    }
+
+    /**
+     * Method to get whether the estimator is sampling in background <br>
+     * No-any params required
+     *
+     * @return whether the estimator is sampling in background as boolean
+     */
+    public synchronized boolean isStarted() {
+        return sampling != null;
+    }
+
+}
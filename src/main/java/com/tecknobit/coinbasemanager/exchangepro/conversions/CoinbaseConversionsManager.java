@@ -8,6 +8,8 @@ import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
 import com.tecknobit.coinbasemanager.exchangepro.conversions.records.CurrencyConversion;
 import org.json.JSONObject;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
 
@@ -353,14 +355,173 @@ public class CoinbaseConversionsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnCurrencyConversion(String conversionResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(conversionResponse);
-            case LIBRARY_OBJECT:
-                return (T) new CurrencyConversion(new JSONObject(conversionResponse));
-            default:
-                return (T) conversionResponse;
-        }
+        return returnFormatted("CoinbaseConversionsManager.returnCurrencyConversion", conversionResponse, format,
+                () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(conversionResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new CurrencyConversion(new JSONObject(conversionResponse));
+                default:
+                    return (T) conversionResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to convert one currency into another one asynchronously
+     *
+     * @param from:   currency to convert
+     * @param to:     final currency to convert
+     * @param amount: amount value to convert
+     * @return result of conversion as {@link CompletableFuture} of {@link CurrencyConversion},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postconversion">
+     * Convert currency</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/conversions")
+    public CompletableFuture<CurrencyConversion> convertCurrencyAsync(String from, String to, double amount) {
+        return convertCurrencyAsync(from, to, amount, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to convert one currency into another one asynchronously
+     *
+     * @param from:   currency to convert
+     * @param to:     final currency to convert
+     * @param amount: amount value to convert
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return result of conversion as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postconversion">
+     * Convert currency</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/conversions")
+    public <T> CompletableFuture<T> convertCurrencyAsync(String from, String to, double amount, ReturnFormat format) {
+        return sendPostRequestAsync(CONVERSIONS_ENDPOINT, getConversionPayload(from, to, amount))
+                .thenApply(conversionResponse -> returnCurrencyConversion(conversionResponse, format));
+    }
+
+    /**
+     * Request to convert one currency into another one asynchronously
+     *
+     * @param from:        currency to convert
+     * @param to:          final currency to convert
+     * @param amount:      amount value to convert
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "nonce"} -> nonce value - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of conversion as {@link CompletableFuture} of {@link CurrencyConversion},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postconversion">
+     * Convert currency</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/conversions")
+    public CompletableFuture<CurrencyConversion> convertCurrencyAsync(String from, String to, double amount,
+                                                                      Params extraParams) {
+        return convertCurrencyAsync(from, to, amount, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to convert one currency into another one asynchronously
+     *
+     * @param from:        currency to convert
+     * @param to:          final currency to convert
+     * @param amount:      amount value to convert
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "nonce"} -> nonce value - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of conversion as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postconversion">
+     * Convert currency</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/conversions")
+    public <T> CompletableFuture<T> convertCurrencyAsync(String from, String to, double amount, Params extraParams,
+                                                         ReturnFormat format) {
+        extraParams.mergeParams(getConversionPayload(from, to, amount));
+        return sendPostRequestAsync(CONVERSIONS_ENDPOINT, extraParams)
+                .thenApply(conversionResponse -> returnCurrencyConversion(conversionResponse, format));
+    }
+
+    /**
+     * Request to get information about one conversion asynchronously
+     *
+     * @param conversionId: identifier of conversion to fetch details
+     * @return information about one conversion as {@link CompletableFuture} of {@link CurrencyConversion},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getconversion">
+     *     Get a conversion</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/conversions/{conversion_id}")
+    public CompletableFuture<CurrencyConversion> getCurrencyConversionAsync(String conversionId) {
+        return getCurrencyConversionAsync(conversionId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get information about one conversion asynchronously
+     *
+     * @param conversionId: identifier of conversion to fetch details
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return information about one conversion as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getconversion">
+     *     Get a conversion</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/conversions/{conversion_id}")
+    public <T> CompletableFuture<T> getCurrencyConversionAsync(String conversionId, ReturnFormat format) {
+        return sendGETRequestAsync(CONVERSIONS_ENDPOINT + "/" + conversionId)
+                .thenApply(conversionResponse -> returnCurrencyConversion(conversionResponse, format));
+    }
+
+    /**
+     * Request to get information about one conversion asynchronously
+     *
+     * @param conversionId: identifier of conversion to fetch details
+     * @param profileId: identifier of account to fetch details
+     * @return information about one conversion as {@link CompletableFuture} of {@link CurrencyConversion},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getconversion">
+     *     Get a conversion</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/conversions/{conversion_id}")
+    public CompletableFuture<CurrencyConversion> getCurrencyConversionAsync(String conversionId, String profileId) {
+        return getCurrencyConversionAsync(conversionId, profileId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get information about one conversion asynchronously
+     *
+     * @param conversionId: identifier of conversion to fetch details
+     * @param profileId: identifier of account to fetch details
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return information about one conversion as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getconversion">
+     *     Get a conversion</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/conversions/{conversion_id}")
+    public <T> CompletableFuture<T> getCurrencyConversionAsync(String conversionId, String profileId,
+                                                               ReturnFormat format) {
+        return sendGETRequestAsync(CONVERSIONS_ENDPOINT + "/" + conversionId + "?profile_id=" + profileId)
+                .thenApply(conversionResponse -> returnCurrencyConversion(conversionResponse, format));
     }
 
 }
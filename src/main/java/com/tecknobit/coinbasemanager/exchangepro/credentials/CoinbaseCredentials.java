@@ -0,0 +1,161 @@
+package com.tecknobit.coinbasemanager.exchangepro.credentials;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseSigner;
+
+/**
+ * The {@code CoinbaseCredentials} class is useful to memorize the credentials of an api key of {@code "Coinbase"}
+ * with its own limiter, so the requests sent with different api keys have different rate limits budgets
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each api key of {@code "Coinbase"} is bound to a single profile, use the {@link #profileId} to route the
+ * requests of a profile to its api keys with a {@link CredentialsPool}
+ * @see CredentialsPool
+ */
+public class CoinbaseCredentials {
+
+    /**
+     * {@code apiKey} is instance that memorizes api key user value
+     */
+    private final String apiKey;
+
+    /**
+     * {@code apiSecret} is instance that memorizes api secret user value
+     */
+    private final String apiSecret;
+
+    /**
+     * {@code passphrase} is instance that memorizes pass phrase user value
+     */
+    private final String passphrase;
+
+    /**
+     * {@code profileId} is instance that memorizes the identifier of the profile of the api key, {@code null} if
+     * not specified
+     */
+    private final String profileId;
+
+    /**
+     * {@code rateLimiter} is instance used to pace the requests sent with the api key
+     */
+    private final CoinbaseRateLimiter rateLimiter;
+
+    /**
+     * {@code signer} is instance used to sign the requests sent with the api key
+     */
+    private volatile CoinbaseSigner signer;
+
+    /**
+     * Constructor to init a {@link CoinbaseCredentials}
+     *
+     * @param apiKey:      your {@code "Coinbase"} api key
+     * @param apiSecret:   your {@code "Coinbase"} api secret
+     * @param passphrase:  your {@code "Coinbase"} api passphrase
+     * @param profileId:   identifier of the profile of the api key, {@code null} if not specified
+     * @param rateLimiter: limiter used to pace the requests sent with the api key
+     */
+    public CoinbaseCredentials(String apiKey, String apiSecret, String passphrase, String profileId,
+                               CoinbaseRateLimiter rateLimiter) {
+        if (apiKey == null || apiSecret == null || passphrase == null)
+            throw new IllegalArgumentException("The api key, the api secret and the passphrase cannot be null");
+        if (rateLimiter == null)
+            throw new IllegalArgumentException("The rate limiter cannot be null");
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.passphrase = passphrase;
+        this.profileId = profileId;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Constructor to init a {@link CoinbaseCredentials}
+     *
+     * @param apiKey:     your {@code "Coinbase"} api key
+     * @param apiSecret:  your {@code "Coinbase"} api secret
+     * @param passphrase: your {@code "Coinbase"} api passphrase
+     * @param profileId:  identifier of the profile of the api key, {@code null} if not specified
+     * @apiNote the default limiter of the api key is used, the same used by the managers created with it
+     */
+    public CoinbaseCredentials(String apiKey, String apiSecret, String passphrase, String profileId) {
+        this(apiKey, apiSecret, passphrase, profileId, CoinbaseManager.getDefaultRateLimiter(apiKey));
+    }
+
+    /**
+     * Constructor to init a {@link CoinbaseCredentials}
+     *
+     * @param apiKey:     your {@code "Coinbase"} api key
+     * @param apiSecret:  your {@code "Coinbase"} api secret
+     * @param passphrase: your {@code "Coinbase"} api passphrase
+     * @apiNote the default limiter of the api key is used, the same used by the managers created with it
+     */
+    public CoinbaseCredentials(String apiKey, String apiSecret, String passphrase) {
+        this(apiKey, apiSecret, passphrase, null);
+    }
+
+    /**
+     * Method to get {@link #apiKey} instance <br>
+     * No-any params required
+     *
+     * @return {@link #apiKey} instance as {@link String}
+     */
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    /**
+     * Method to get {@link #passphrase} instance <br>
+     * No-any params required
+     *
+     * @return {@link #passphrase} instance as {@link String}
+     */
+    public String getPassphrase() {
+        return passphrase;
+    }
+
+    /**
+     * Method to get {@link #profileId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #profileId} instance as {@link String}, {@code null} if not specified
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Method to get {@link #rateLimiter} instance <br>
+     * No-any params required
+     *
+     * @return {@link #rateLimiter} instance as {@link CoinbaseRateLimiter}
+     */
+    public CoinbaseRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Method to get {@link #signer} instance <br>
+     * No-any params required
+     *
+     * @return {@link #signer} instance as {@link CoinbaseSigner}
+     * @implNote the signer is created at the first signed request, so the api secret is decoded only once
+     */
+    public CoinbaseSigner getSigner() {
+        CoinbaseSigner signer = this.signer;
+        if (signer == null)
+            this.signer = signer = new CoinbaseSigner(apiSecret);
+        return signer;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}, without the secrets
+     */
+    @Override
+    public String toString() {
+        return "CoinbaseCredentials{apiKey=" + apiKey + ", profileId=" + profileId + "}";
+    }
+
+}
@@ -0,0 +1,243 @@
+package com.tecknobit.coinbasemanager.exchangepro.credentials;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code CredentialsPool} class is useful to spread the private requests between different api keys, so the
+ * aggregate throughput is not bounded by the rate limits of a single api key
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote each request is routed once before its first attempt, so all the attempts of a request retried are sent
+ * with the same api key and paced by its limiter. The requests are never routed to api keys of different profiles,
+ * because each api key reads and trades only in its own profile
+ * @see CoinbaseCredentials
+ */
+public class CredentialsPool {
+
+    /**
+     * {@code PROFILE_ID_PARAM} is constant for the param with the identifier of the profile of a request
+     */
+    public static final String PROFILE_ID_PARAM = "profile_id";
+
+    /**
+     * {@code Routing} list of available routings of the requests
+     */
+    public enum Routing {
+
+        /**
+         * {@code ROUND_ROBIN} the requests are routed to each api key in turn
+         *
+         * @apiNote all the api keys must be of the same profile
+         */
+        ROUND_ROBIN,
+
+        /**
+         * {@code PROFILE_AFFINITY} the requests of a profile are routed in turn to the api keys of that profile, the
+         * requests without a profile are routed to the first api key of the pool and the requests of a profile
+         * without api keys are rejected
+         */
+        PROFILE_AFFINITY
+
+    }
+
+    /**
+     * {@code routing} is instance that memorizes the routing of the requests
+     */
+    private final Routing routing;
+
+    /**
+     * {@code credentials} is instance that memorizes the credentials of the pool
+     */
+    private final List<CoinbaseCredentials> credentials;
+
+    /**
+     * {@code profiles} is instance that memorizes the indexes of the credentials of each profile
+     */
+    private final HashMap<String, int[]> profiles = new HashMap<>();
+
+    /**
+     * {@code profileTurns} is instance used to route in turn the requests of each profile
+     */
+    private final HashMap<String, AtomicInteger> profileTurns = new HashMap<>();
+
+    /**
+     * {@code apiKeys} is instance that memorizes the index of the credentials of each api key
+     */
+    private final HashMap<String, Integer> apiKeys = new HashMap<>();
+
+    /**
+     * {@code turn} is instance used to route the requests in turn
+     */
+    private final AtomicInteger turn = new AtomicInteger();
+
+    /**
+     * {@code routedRequests} is instance that memorizes the number of requests routed to each api key
+     */
+    private final AtomicLongArray routedRequests;
+
+    /**
+     * Constructor to init a {@link CredentialsPool}
+     *
+     * @param routing:     routing of the requests
+     * @param credentials: credentials of the pool
+     * @throws IllegalArgumentException when the routing is {@link Routing#ROUND_ROBIN} and the credentials are not
+     * of the same profile
+     */
+    public CredentialsPool(Routing routing, List<CoinbaseCredentials> credentials) {
+        if (routing == null)
+            throw new IllegalArgumentException("The routing cannot be null");
+        if (credentials == null || credentials.isEmpty())
+            throw new IllegalArgumentException("The pool must contain at least one credentials");
+        this.routing = routing;
+        this.credentials = List.copyOf(credentials);
+        String firstProfileId = this.credentials.get(0).getProfileId();
+        HashMap<String, ArrayList<Integer>> profiles = new HashMap<>();
+        for (int j = 0; j < this.credentials.size(); j++) {
+            CoinbaseCredentials current = this.credentials.get(j);
+            if (apiKeys.putIfAbsent(current.getApiKey(), j) != null)
+                throw new IllegalArgumentException("The api key " + current.getApiKey() + " is duplicated");
+            if (routing == Routing.ROUND_ROBIN && !Objects.equals(firstProfileId, current.getProfileId()))
+                throw new IllegalArgumentException("The api keys routed in turn must be of the same profile");
+            if (current.getProfileId() != null)
+                profiles.computeIfAbsent(current.getProfileId(), profile -> new ArrayList<>()).add(j);
+        }
+        profiles.forEach((profile, indexes) -> {
+            this.profiles.put(profile, indexes.stream().mapToInt(Integer::intValue).toArray());
+            profileTurns.put(profile, new AtomicInteger());
+        });
+        routedRequests = new AtomicLongArray(this.credentials.size());
+    }
+
+    /**
+     * Constructor to init a {@link CredentialsPool}
+     *
+     * @param routing:     routing of the requests
+     * @param credentials: credentials of the pool
+     * @throws IllegalArgumentException when the routing is {@link Routing#ROUND_ROBIN} and the credentials are not
+     * of the same profile
+     */
+    public CredentialsPool(Routing routing, CoinbaseCredentials... credentials) {
+        this(routing, List.of(credentials));
+    }
+
+    /**
+     * Method to choose the credentials to use for a request
+     *
+     * @param profileId: identifier of the profile of the request, {@code null} if not specified
+     * @return credentials to use for the request as {@link CoinbaseCredentials}
+     * @throws IllegalArgumentException when the routing is {@link Routing#PROFILE_AFFINITY} and the pool has not
+     * api keys of the profile of the request
+     * @implNote the profile is used only with the {@link Routing#PROFILE_AFFINITY} routing
+     */
+    public CoinbaseCredentials select(String profileId) {
+        int index;
+        if (routing == Routing.ROUND_ROBIN)
+            index = Math.floorMod(turn.getAndIncrement(), credentials.size());
+        else if (profileId == null)
+            index = 0;
+        else {
+            int[] indexes = profiles.get(profileId);
+            if (indexes == null)
+                throw new IllegalArgumentException("The pool has not api keys of the profile " + profileId);
+            index = indexes[Math.floorMod(profileTurns.get(profileId).getAndIncrement(), indexes.length)];
+        }
+        routedRequests.incrementAndGet(index);
+        return credentials.get(index);
+    }
+
+    /**
+     * Method to get the credentials of an api key
+     *
+     * @param apiKey: api key of the credentials
+     * @return credentials of the api key as {@link CoinbaseCredentials}, {@code null} if the api key is not in the pool
+     */
+    public CoinbaseCredentials getCredentials(String apiKey) {
+        Integer index = apiKeys.get(apiKey);
+        if (index == null)
+            return null;
+        return credentials.get(index);
+    }
+
+    /**
+     * Method to get {@link #credentials} instance <br>
+     * No-any params required
+     *
+     * @return {@link #credentials} instance as {@link List} of {@link CoinbaseCredentials}
+     */
+    public List<CoinbaseCredentials> getCredentials() {
+        return credentials;
+    }
+
+    /**
+     * Method to get {@link #routing} instance <br>
+     * No-any params required
+     *
+     * @return {@link #routing} instance as {@link Routing}
+     */
+    public Routing getRouting() {
+        return routing;
+    }
+
+    /**
+     * Method to get the number of requests routed to an api key
+     *
+     * @param apiKey: api key of which get the number of requests routed
+     * @return number of requests routed to the api key as long, 0 if the api key is not in the pool
+     */
+    public long getRoutedRequests(String apiKey) {
+        Integer index = apiKeys.get(apiKey);
+        if (index == null)
+            return 0;
+        return routedRequests.get(index);
+    }
+
+    /**
+     * Method to get the profiles with at least an api key in the pool <br>
+     * No-any params required
+     *
+     * @return profiles with at least an api key as {@link List} of {@link String}
+     */
+    public List<String> getProfiles() {
+        return Collections.unmodifiableList(new ArrayList<>(profiles.keySet()));
+    }
+
+    /**
+     * Method to get the identifier of the profile of a request from its params
+     *
+     * @param endpoint: endpoint for the request and its query params es endpoint?profile_id=profileId
+     * @param payload:  body of the request in {@code "JSON"} format, can be {@code null}
+     * @return identifier of the profile of the request as {@link String}, {@code null} if not specified
+     */
+    public static String getProfileId(String endpoint, String payload) {
+        int query = endpoint.indexOf('?');
+        if (query != -1) {
+            int start = query;
+            while ((start = endpoint.indexOf(PROFILE_ID_PARAM + "=", start + 1)) != -1) {
+                char previous = endpoint.charAt(start - 1);
+                if (previous == '?' || previous == '&') {
+                    start += PROFILE_ID_PARAM.length() + 1;
+                    int end = endpoint.indexOf('&', start);
+                    return endpoint.substring(start, end == -1 ? endpoint.length() : end);
+                }
+            }
+        }
+        if (payload != null && payload.contains(PROFILE_ID_PARAM)) {
+            try {
+                return new JSONObject(payload).optString(PROFILE_ID_PARAM, null);
+            } catch (JSONException ignored) {
+                // the payload is not a JSON object, so it has not a profile
+            }
+        }
+        return null;
+    }
+
+}
@@ -10,6 +10,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 
@@ -146,19 +147,7 @@ public class CoinbaseCurrenciesManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/currencies")
     public <T> T getAllKnownCurrencies(ReturnFormat format) throws Exception {
-        String currenciesResponse = sendGETRequest(CURRENCIES_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(currenciesResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Currency> currencies = new ArrayList<>();
-                JSONArray jCurrencies = new JSONArray(currenciesResponse);
-                for (int j = 0; j < jCurrencies.length(); j++)
-                    currencies.add(new Currency(jCurrencies.getJSONObject(j)));
-                return (T) currencies;
-            default:
-                return (T) currenciesResponse;
-        }
+        return returnCurrenciesList(sendGETRequest(CURRENCIES_ENDPOINT), format);
     }
 
     /** Request to get one currency
@@ -207,15 +196,116 @@ public class CoinbaseCurrenciesManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/currencies/{currency_id}")
     public <T> T getCurrency(String currencyId, ReturnFormat format) throws Exception {
-        String currencyResponse = sendGETRequest(CURRENCIES_ENDPOINT + "/" + currencyId);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(currencyResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Currency(new JSONObject(currencyResponse));
-            default:
-                return (T) currencyResponse;
-        }
+        return returnCurrency(sendGETRequest(CURRENCIES_ENDPOINT + "/" + currencyId), format);
+    }
+
+    /**
+     * Request to get list of all currencies<br> asynchronously
+     * No-any params required
+     *
+     * @return list of all currencies as {@link CompletableFuture} of {@link ArrayList} of {@link Currency},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcurrencies">
+     * Get all known currencies</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/currencies")
+    public CompletableFuture<ArrayList<Currency>> getAllKnownCurrenciesAsync() {
+        return getAllKnownCurrenciesAsync(ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get list of all currencies asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return list of all currencies as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcurrencies">
+     * Get all known currencies</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/currencies")
+    public <T> CompletableFuture<T> getAllKnownCurrenciesAsync(ReturnFormat format) {
+        return sendGETRequestAsync(CURRENCIES_ENDPOINT)
+                .thenApply(currenciesResponse -> returnCurrenciesList(currenciesResponse, format));
+    }
+
+    /**
+     * Method to assemble a currencies list
+     *
+     * @param currenciesResponse: currencies list response to format
+     * @param format:             return type formatter -> {@link ReturnFormat}
+     * @return currencies list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnCurrenciesList(String currenciesResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseCurrenciesManager.returnCurrenciesList", currenciesResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(currenciesResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Currency> currencies = new ArrayList<>();
+                    JSONArray jCurrencies = new JSONArray(currenciesResponse);
+                    for (int j = 0; j < jCurrencies.length(); j++)
+                        currencies.add(new Currency(jCurrencies.getJSONObject(j)));
+                    return (T) currencies;
+                default:
+                    return (T) currenciesResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get one currency asynchronously
+     *
+     * @param currencyId: identifier of a currency es. BTC
+     * @return currency as {@link CompletableFuture} of {@link Currency},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcurrency">
+     *     Get a currency</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/currencies/{currency_id}")
+    public CompletableFuture<Currency> getCurrencyAsync(String currencyId) {
+        return getCurrencyAsync(currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get one currency asynchronously
+     *
+     * @param currencyId: identifier of a currency es. BTC
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return currency as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcurrency">
+     *     Get a currency</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/currencies/{currency_id}")
+    public <T> CompletableFuture<T> getCurrencyAsync(String currencyId, ReturnFormat format) {
+        return sendGETRequestAsync(CURRENCIES_ENDPOINT + "/" + currencyId)
+                .thenApply(currencyResponse -> returnCurrency(currencyResponse, format));
+    }
+
+    /**
+     * Method to assemble a currency object
+     *
+     * @param currencyResponse: currency response to format
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @return currency response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnCurrency(String currencyResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseCurrenciesManager.returnCurrency", currencyResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(currencyResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Currency(new JSONObject(currencyResponse));
+                default:
+                    return (T) currencyResponse;
+            }
+        });
     }
 
 }
@@ -8,6 +8,8 @@ import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
 import com.tecknobit.coinbasemanager.exchangepro.fees.records.Fee;
 import org.json.JSONObject;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.ReturnFormat.LIBRARY_OBJECT;
 
@@ -144,15 +146,58 @@ public class CoinbaseFeesManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fees")
     public <T> T getFees(ReturnFormat format) throws Exception {
-        String feeResponse = sendGETRequest(FEES_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(feeResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Fee(new JSONObject(feeResponse));
-            default:
-                return (T) feeResponse;
-        }
+        return returnFee(sendGETRequest(FEES_ENDPOINT), format);
+    }
+
+    /**
+     * Request to get fees rates and 30 days trailing volume asynchronously <br>
+     * No-any params required
+     *
+     * @return fees rates and 30 days trailing volume as {@link CompletableFuture} of {@link Fee}ì,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfees">
+     * Get fees</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fees")
+    public CompletableFuture<Fee> getFeesAsync() {
+        return getFeesAsync(LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get fees rates and 30 days trailing volume asynchronously
+     * No-any params required
+     *
+     * @return fees rates and 30 days trailing volume as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfees">
+     * Get fees</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fees")
+    public <T> CompletableFuture<T> getFeesAsync(ReturnFormat format) {
+        return sendGETRequestAsync(FEES_ENDPOINT).thenApply(feeResponse -> returnFee(feeResponse, format));
+    }
+
+    /**
+     * Method to assemble a fee object
+     *
+     * @param feeResponse: fee response to format
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return fee response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnFee(String feeResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseFeesManager.returnFee", feeResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(feeResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Fee(new JSONObject(feeResponse));
+                default:
+                    return (T) feeResponse;
+            }
+        });
     }
 
 }
@@ -0,0 +1,49 @@
+package com.tecknobit.coinbasemanager.exchangepro.interceptors;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+/**
+ * The {@code CoinbaseInterceptor} interface is useful to add a cross-cutting behaviour, as logging, tracing, metrics,
+ * caching or fault injection, to all the requests of a manager without subclassing it
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the interceptors are invoked in order of registration before a request and in the reverse order after it,
+ * once for each request, also when it is retried; the requests served by the cache or shared by the coalescing are
+ * not intercepted again. The callbacks are invoked on the thread which sends or completes the request, so they must
+ * be fast and thread-safe
+ * @see InterceptedRequest
+ */
+public interface CoinbaseInterceptor {
+
+    /**
+     * Method invoked before a request is sent
+     *
+     * @param request: request intercepted
+     * @return response to use without sending the request as {@link CoinbaseResponse}, {@code null} to send the
+     * request
+     * @throws Exception to fail the request without sending it, es. to inject a fault
+     * @implNote when a response is returned the next interceptors are skipped
+     */
+    default CoinbaseResponse beforeRequest(InterceptedRequest request) throws Exception {
+        return null;
+    }
+
+    /**
+     * Method invoked after a response has been received
+     *
+     * @param request:  request intercepted
+     * @param response: response received, also with an error status code
+     */
+    default void afterResponse(InterceptedRequest request, CoinbaseResponse response) {
+    }
+
+    /**
+     * Method invoked after a request has been failed without a response
+     *
+     * @param request: request intercepted
+     * @param error:   error which failed the request
+     */
+    default void onFailure(InterceptedRequest request, Throwable error) {
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.tecknobit.coinbasemanager.exchangepro.interceptors;
+
+import com.tecknobit.apimanager.apis.APIRequest.Params;
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.metrics.EndpointTemplates;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+
+import java.util.HashMap;
+
+/**
+ * The {@code InterceptedRequest} class is useful to describe a request to the {@link CoinbaseInterceptor}s
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote an instance is created for each request only when at least an interceptor is registered, the interceptors
+ * can share their state, es. a tracing span, with the attributes of the request
+ * @see CoinbaseInterceptor
+ */
+public class InterceptedRequest {
+
+    /**
+     * {@code method} is instance that memorizes the method HTTP of the request
+     */
+    private final RequestMethod method;
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint of the request with its query params
+     */
+    private final String endpoint;
+
+    /**
+     * {@code params} is instance that memorizes the body params of the request, {@code null} if it has not a body
+     */
+    private final Params params;
+
+    /**
+     * {@code signedRequest} is instance that memorizes the request signed before its sending, {@code null} if it is
+     * signed at each attempt
+     */
+    private final CoinbaseRequest signedRequest;
+
+    /**
+     * {@code startTime} is instance that memorizes the time in nanos when the request has been started
+     */
+    private final long startTime;
+
+    /**
+     * {@code endpointTemplate} is instance that memorizes the template of the endpoint, resolved when requested
+     */
+    private String endpointTemplate;
+
+    /**
+     * {@code attributes} is instance that memorizes the attributes shared by the interceptors, created when requested
+     */
+    private HashMap<String, Object> attributes;
+
+    /**
+     * Constructor to init a {@link InterceptedRequest}
+     *
+     * @param method:        method HTTP of the request
+     * @param endpoint:      endpoint of the request with its query params
+     * @param params:        body params of the request, {@code null} if it has not a body
+     * @param signedRequest: request signed before its sending, {@code null} if it is signed at each attempt
+     */
+    public InterceptedRequest(RequestMethod method, String endpoint, Params params, CoinbaseRequest signedRequest) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.params = params;
+        this.signedRequest = signedRequest;
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     */
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #endpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpoint} instance as {@link String}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Method to get {@link #endpointTemplate} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpointTemplate} instance as {@link String} es. /products/{product_id}/book
+     */
+    public String getEndpointTemplate() {
+        if (endpointTemplate == null)
+            endpointTemplate = EndpointTemplates.resolve(endpoint);
+        return endpointTemplate;
+    }
+
+    /**
+     * Method to get {@link #params} instance <br>
+     * No-any params required
+     *
+     * @return {@link #params} instance as {@link Params}, {@code null} if the request has not a body or has been
+     * signed before its sending
+     * @apiNote the query params are already included in the {@link #endpoint}, use {@link #getBody()} to read the
+     * body of any request
+     */
+    public Params getParams() {
+        return params;
+    }
+
+    /**
+     * Method to get the body of the request <br>
+     * No-any params required
+     *
+     * @return body of the request as {@link String}, {@code null} if the request has not a body
+     * @apiNote the body is available also when the request has been signed before its sending and so the
+     * {@link #params} are not
+     */
+    public String getBody() {
+        if (params != null)
+            return String.valueOf(params.createJSONPayload());
+        if (signedRequest != null)
+            return signedRequest.getBody();
+        return null;
+    }
+
+    /**
+     * Method to get {@link #signedRequest} instance <br>
+     * No-any params required
+     *
+     * @return {@link #signedRequest} instance as {@link CoinbaseRequest}, {@code null} if the request is signed at
+     * each attempt
+     */
+    public CoinbaseRequest getSignedRequest() {
+        return signedRequest;
+    }
+
+    /**
+     * Method to get {@link #startTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #startTime} instance as long
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Method to get the time elapsed since the request has been started <br>
+     * No-any params required
+     *
+     * @return time in nanos elapsed since the request has been started as long, including the rate limits waits and
+     * the retries
+     */
+    public long getElapsedTime() {
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Method to set an attribute of the request
+     *
+     * @param name:  name of the attribute
+     * @param value: value of the attribute, {@code null} to remove it
+     */
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            if (attributes != null)
+                attributes.remove(name);
+        } else {
+            if (attributes == null)
+                attributes = new HashMap<>();
+            attributes.put(name, value);
+        }
+    }
+
+    /**
+     * Method to get an attribute of the request
+     *
+     * @param name: name of the attribute
+     * @return value of the attribute as {@link T}, {@code null} if not set
+     */
+    public <T> T getAttribute(String name) {
+        if (attributes == null)
+            return null;
+        return (T) attributes.get(name);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.tecknobit.coinbasemanager.exchangepro.jfr;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.ReturnFormat;
+import jdk.jfr.*;
+
+/**
+ * The {@code CoinbaseParseEvent} class is useful to record with {@code "JFR"} the conversion of each response in the
+ * {@link ReturnFormat} requested, es. the creation of the {@code "JSON"} objects or of the library objects
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the event is disabled by default, it can be enabled with the {@code "com.tecknobit.coinbasemanager.Parse"}
+ * name in a {@code "JFR"} configuration; while disabled its cost is a check of the state of the event,
+ * no event is created
+ * @see CoinbaseRequestEvent
+ */
+@Name("com.tecknobit.coinbasemanager.Parse")
+@Label("Coinbase Parse")
+@Category({"Coinbase", "Parsing"})
+@Description("Conversion of a response in the format requested")
+@Enabled(false)
+@StackTrace(false)
+public class CoinbaseParseEvent extends Event {
+
+    /**
+     * {@code EVENT_TYPE} is constant for the type of the event, used to check its state before creating it
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(CoinbaseParseEvent.class);
+
+    /**
+     * {@code format} is instance that memorizes the format requested
+     */
+    @Label("Format")
+    private String format;
+
+    /**
+     * {@code target} is instance that memorizes the method which converts the response es.
+     * CoinbaseProductsManager.returnBook
+     */
+    @Label("Target")
+    private String target;
+
+    /**
+     * {@code bodyLength} is instance that memorizes the number of characters of the response converted, -1 if it
+     * is not available
+     */
+    @Label("Body Length")
+    private long bodyLength;
+
+    /**
+     * Method to start the event of a conversion <br>
+     * No-any params required
+     *
+     * @return event started as {@link CoinbaseParseEvent}, {@code null} if the event is not enabled
+     */
+    public static CoinbaseParseEvent start() {
+        if (!EVENT_TYPE.isEnabled())
+            return null;
+        CoinbaseParseEvent event = new CoinbaseParseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Method to end the event and to commit it when enabled
+     *
+     * @param format:   format requested
+     * @param target:   method which converts the response es. CoinbaseProductsManager.returnBook
+     * @param response: response converted, {@code null} if it is not available
+     */
+    public void finish(ReturnFormat format, String target, String response) {
+        end();
+        if (shouldCommit()) {
+            this.format = String.valueOf(format);
+            this.target = target;
+            bodyLength = response != null ? response.length() : -1;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.tecknobit.coinbasemanager.exchangepro.jfr;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.metrics.EndpointMetrics;
+import com.tecknobit.coinbasemanager.exchangepro.metrics.EndpointTemplates;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import jdk.jfr.*;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * The {@code CoinbaseRequestEvent} class is useful to record with {@code "JFR"} each attempt of a request on the
+ * network, from its sending to the reading of its response
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the event is disabled by default, it can be enabled with the {@code "com.tecknobit.coinbasemanager.Request"}
+ * name in a {@code "JFR"} configuration; while disabled its cost is a check of the state of the event,
+ * no event is created
+ * @see CoinbaseSigningEvent
+ * @see CoinbaseParseEvent
+ */
+@Name("com.tecknobit.coinbasemanager.Request")
+@Label("Coinbase Request")
+@Category({"Coinbase", "Requests"})
+@Description("Attempt of a request on the network, from its sending to the reading of its response")
+@Enabled(false)
+@StackTrace(false)
+public class CoinbaseRequestEvent extends Event {
+
+    /**
+     * {@code EVENT_TYPE} is constant for the type of the event, used to check its state before creating it
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(CoinbaseRequestEvent.class);
+
+    /**
+     * {@code method} is instance that memorizes the method HTTP of the request
+     */
+    @Label("Method")
+    private String method;
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint template of the request es. /products/{product_id}/book
+     */
+    @Label("Endpoint")
+    private String endpoint;
+
+    /**
+     * {@code attempt} is instance that memorizes the number of the attempt, starting from zero
+     */
+    @Label("Attempt")
+    private int attempt;
+
+    /**
+     * {@code statusCode} is instance that memorizes the status code of the response, -1 if it has not been received
+     */
+    @Label("Status Code")
+    private int statusCode;
+
+    /**
+     * {@code bytesSent} is instance that memorizes the number of bytes of the body sent
+     */
+    @Label("Bytes Sent")
+    @DataAmount
+    private long bytesSent;
+
+    /**
+     * {@code bytesReceived} is instance that memorizes the number of bytes of the body received
+     */
+    @Label("Bytes Received")
+    @DataAmount
+    private long bytesReceived;
+
+    /**
+     * {@code wireBytesReceived} is instance that memorizes the number of bytes of the body received on the network,
+     * before its decompression
+     */
+    @Label("Wire Bytes Received")
+    @DataAmount
+    private long wireBytesReceived;
+
+    /**
+     * {@code contentEncoding} is instance that memorizes the encoding of the body received, {@code null} if it was
+     * not compressed
+     */
+    @Label("Content Encoding")
+    private String contentEncoding;
+
+    /**
+     * {@code error} is instance that memorizes the class of the error which failed the attempt, {@code null} if the
+     * response has been received
+     */
+    @Label("Error")
+    private String error;
+
+    /**
+     * Method to start the event of an attempt <br>
+     * No-any params required
+     *
+     * @return event started as {@link CoinbaseRequestEvent}, {@code null} if the event is not enabled
+     */
+    public static CoinbaseRequestEvent start() {
+        if (!EVENT_TYPE.isEnabled())
+            return null;
+        CoinbaseRequestEvent event = new CoinbaseRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Method to end the event and to commit it when enabled
+     *
+     * @param method:   method HTTP of the request
+     * @param endpoint: endpoint of the request with its query params
+     * @param attempt:  number of the attempt, starting from zero
+     * @param request:  request sent
+     * @param response: response received, {@code null} if the attempt has been failed
+     * @param error:    error which failed the attempt, {@code null} if the response has been received
+     * @implNote the values of the event are computed only when it is committed
+     */
+    public void finish(RequestMethod method, String endpoint, int attempt, CoinbaseRequest request,
+                       CoinbaseResponse response, Throwable error) {
+        end();
+        if (shouldCommit()) {
+            this.method = method.name();
+            this.endpoint = EndpointTemplates.resolve(endpoint);
+            this.attempt = attempt;
+            if (request != null && request.getBody() != null)
+                bytesSent = EndpointMetrics.utf8Length(request.getBody());
+            if (response != null) {
+                statusCode = response.getStatusCode();
+                if (response.getBody() != null)
+                    bytesReceived = EndpointMetrics.utf8Length(response.getBody());
+                wireBytesReceived = response.getWireLength();
+                if (wireBytesReceived < 0)
+                    wireBytesReceived = bytesReceived;
+                contentEncoding = response.getContentEncoding();
+            } else
+                statusCode = -1;
+            if (error != null) {
+                while (error instanceof CompletionException && error.getCause() != null)
+                    error = error.getCause();
+                this.error = error.getClass().getName();
+            }
+            commit();
+        }
+    }
+
+}
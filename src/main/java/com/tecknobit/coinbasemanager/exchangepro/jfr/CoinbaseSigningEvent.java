@@ -0,0 +1,71 @@
+package com.tecknobit.coinbasemanager.exchangepro.jfr;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.metrics.EndpointTemplates;
+import jdk.jfr.*;
+
+/**
+ * The {@code CoinbaseSigningEvent} class is useful to record with {@code "JFR"} the signing of each request, including
+ * the creation of its payload and of its headers
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the event is disabled by default, it can be enabled with the {@code "com.tecknobit.coinbasemanager.Signing"}
+ * name in a {@code "JFR"} configuration; while disabled its cost is a check of the state of the event,
+ * no event is created
+ * @see CoinbaseRequestEvent
+ */
+@Name("com.tecknobit.coinbasemanager.Signing")
+@Label("Coinbase Signing")
+@Category({"Coinbase", "Requests"})
+@Description("Signing of a request, including the creation of its payload and of its headers")
+@Enabled(false)
+@StackTrace(false)
+public class CoinbaseSigningEvent extends Event {
+
+    /**
+     * {@code EVENT_TYPE} is constant for the type of the event, used to check its state before creating it
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(CoinbaseSigningEvent.class);
+
+    /**
+     * {@code method} is instance that memorizes the method HTTP of the request
+     */
+    @Label("Method")
+    private String method;
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint template of the request es. /products/{product_id}/book
+     */
+    @Label("Endpoint")
+    private String endpoint;
+
+    /**
+     * Method to start the event of a signing <br>
+     * No-any params required
+     *
+     * @return event started as {@link CoinbaseSigningEvent}, {@code null} if the event is not enabled
+     */
+    public static CoinbaseSigningEvent start() {
+        if (!EVENT_TYPE.isEnabled())
+            return null;
+        CoinbaseSigningEvent event = new CoinbaseSigningEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Method to end the event and to commit it when enabled
+     *
+     * @param method:   method HTTP of the request
+     * @param endpoint: endpoint of the request with its query params
+     */
+    public void finish(RequestMethod method, String endpoint) {
+        end();
+        if (shouldCommit()) {
+            this.method = method.name();
+            this.endpoint = EndpointTemplates.resolve(endpoint);
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.tecknobit.coinbasemanager.exchangepro.metrics;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code CoinbaseMetrics} class is useful to record the metrics of the requests for each endpoint template,
+ * es. GET /products/{product_id}/book, and the time spent to convert their responses
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see EndpointMetrics
+ * @see EndpointTemplates
+ */
+public class CoinbaseMetrics {
+
+    /**
+     * {@code endpointsMetrics} is instance that memorizes the metrics of each endpoint template
+     */
+    private final ConcurrentHashMap<String, EndpointMetrics> endpointsMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * {@code parseLatencies} is instance that memorizes the time spent to convert the responses for each method which
+     * converts them es. CoinbaseProductsManager.returnBook
+     */
+    private final ConcurrentHashMap<String, LatencyHistogram> parseLatencies = new ConcurrentHashMap<>();
+
+    /**
+     * {@code enabled} is instance that memorizes whether the metrics are recorded
+     */
+    private volatile boolean enabled = true;
+
+    /**
+     * Method to get the metrics of the endpoint of a request
+     *
+     * @param method:   method HTTP of the request
+     * @param endpoint: endpoint of the request, with or without its query params
+     * @return metrics of the endpoint of the request as {@link EndpointMetrics}, {@code null} if the metrics are
+     * not enabled
+     */
+    public EndpointMetrics getEndpointMetrics(RequestMethod method, String endpoint) {
+        if (!enabled)
+            return null;
+        String template = method + " " + EndpointTemplates.resolve(endpoint);
+        EndpointMetrics endpointMetrics = endpointsMetrics.get(template);
+        if (endpointMetrics == null)
+            endpointMetrics = endpointsMetrics.computeIfAbsent(template, EndpointMetrics::new);
+        return endpointMetrics;
+    }
+
+    /**
+     * Method to record the time spent to convert a response in the format requested
+     *
+     * @param target: method which converts the response es. CoinbaseProductsManager.returnBook
+     * @param nanos:  time in nanos spent to convert the response
+     * @implNote the conversions are recorded by method and not by endpoint template because a response can be
+     * converted when it is not bound to a single request anymore, es. when it is served by the cache or shared by
+     * coalesced requests, and a method converts the responses of one endpoint or of a few similar ones
+     */
+    public void recordParse(String target, long nanos) {
+        if (!enabled)
+            return;
+        LatencyHistogram parseLatency = parseLatencies.get(target);
+        if (parseLatency == null)
+            parseLatency = parseLatencies.computeIfAbsent(target, key -> new LatencyHistogram());
+        parseLatency.record(nanos);
+    }
+
+    /**
+     * Method to get a snapshot of the time spent to convert the responses for each method which converts them <br>
+     * No-any params required
+     *
+     * @return snapshot of the time spent to convert the responses as {@link TreeMap} of {@link String} and
+     * {@link HistogramSnapshot}, sorted by method es. CoinbaseProductsManager.returnBook
+     */
+    public TreeMap<String, HistogramSnapshot> parseSnapshot() {
+        TreeMap<String, HistogramSnapshot> snapshot = new TreeMap<>();
+        parseLatencies.forEach((target, parseLatency) -> snapshot.put(target, parseLatency.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Method to get a snapshot of the metrics of each endpoint template <br>
+     * No-any params required
+     *
+     * @return snapshot of the metrics of each endpoint template as {@link TreeMap} of {@link String} and
+     * {@link EndpointSnapshot}, sorted by endpoint template
+     */
+    public TreeMap<String, EndpointSnapshot> snapshot() {
+        TreeMap<String, EndpointSnapshot> snapshot = new TreeMap<>();
+        endpointsMetrics.forEach((endpoint, endpointMetrics) -> snapshot.put(endpoint, endpointMetrics.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Method to reset the metrics of all the endpoint templates <br>
+     * No-any params required
+     */
+    public void reset() {
+        for (EndpointMetrics endpointMetrics : endpointsMetrics.values())
+            endpointMetrics.reset();
+        for (LatencyHistogram parseLatency : parseLatencies.values())
+            parseLatency.reset();
+    }
+
+    /**
+     * Method to set {@link #enabled} instance
+     *
+     * @param enabled: whether the metrics are recorded
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Method to get {@link #enabled} instance <br>
+     * No-any params required
+     *
+     * @return {@link #enabled} instance as boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+}
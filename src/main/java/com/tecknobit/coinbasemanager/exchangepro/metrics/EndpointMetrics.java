@@ -0,0 +1,195 @@
+package com.tecknobit.coinbasemanager.exchangepro.metrics;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code EndpointMetrics} class is useful to record the metrics of the requests sent to an endpoint template
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see CoinbaseMetrics
+ */
+public class EndpointMetrics {
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint template es. GET /products/{product_id}/book
+     */
+    private final String endpoint;
+
+    /**
+     * {@code totalLatency} is instance that memorizes the latencies of the requests, including the rate limits waits
+     * and the retries
+     */
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+
+    /**
+     * {@code networkLatency} is instance that memorizes the latencies of each attempt on the network
+     */
+    private final LatencyHistogram networkLatency = new LatencyHistogram();
+
+    /**
+     * {@code signingLatency} is instance that memorizes the time spent to sign each attempt
+     */
+    private final LatencyHistogram signingLatency = new LatencyHistogram();
+
+    /**
+     * {@code responses} is instance that memorizes the number of responses received
+     */
+    private final LongAdder responses = new LongAdder();
+
+    /**
+     * {@code errorResponses} is instance that memorizes the number of responses received with an error status code
+     */
+    private final LongAdder errorResponses = new LongAdder();
+
+    /**
+     * {@code failures} is instance that memorizes the number of attempts failed without a response, es. a timeout
+     */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * {@code bytesSent} is instance that memorizes the number of bytes of the bodies sent
+     */
+    private final LongAdder bytesSent = new LongAdder();
+
+    /**
+     * {@code bytesReceived} is instance that memorizes the number of bytes of the bodies received
+     */
+    private final LongAdder bytesReceived = new LongAdder();
+
+    /**
+     * {@code wireBytesReceived} is instance that memorizes the number of bytes of the bodies received on the network,
+     * before their decompression
+     */
+    private final LongAdder wireBytesReceived = new LongAdder();
+
+    /**
+     * {@code compressedResponses} is instance that memorizes the number of responses received compressed
+     */
+    private final LongAdder compressedResponses = new LongAdder();
+
+    /**
+     * Constructor to init a {@link EndpointMetrics}
+     *
+     * @param endpoint: endpoint template es. GET /products/{product_id}/book
+     */
+    public EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Method to record the time spent to sign a request
+     *
+     * @param nanos: time in nanos spent to sign the request
+     */
+    public void recordSigning(long nanos) {
+        signingLatency.record(nanos);
+    }
+
+    /**
+     * Method to record a response received
+     *
+     * @param response: response received
+     */
+    public void recordResponse(CoinbaseResponse response) {
+        responses.increment();
+        if (!response.isSuccessful())
+            errorResponses.increment();
+        networkLatency.record(response.getLatency());
+        String body = response.getRequest().getBody();
+        if (body != null)
+            bytesSent.add(utf8Length(body));
+        long received = 0;
+        if (response.getBody() != null)
+            received = utf8Length(response.getBody());
+        bytesReceived.add(received);
+        long wireLength = response.getWireLength();
+        if (wireLength < 0)
+            wireLength = received;
+        wireBytesReceived.add(wireLength);
+        if (response.getContentEncoding() != null)
+            compressedResponses.increment();
+    }
+
+    /**
+     * Method to record an attempt failed without a response <br>
+     * No-any params required
+     */
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Method to record the total latency of a request
+     *
+     * @param nanos: latency in nanos of the request, including the rate limits waits and the retries
+     */
+    public void recordTotal(long nanos) {
+        totalLatency.record(nanos);
+    }
+
+    /**
+     * Method to get the number of bytes of a value encoded in {@code "UTF-8"}
+     *
+     * @param value: value of which get the number of bytes
+     * @return number of bytes of the value as long
+     */
+    public static long utf8Length(String value) {
+        int length = value.length();
+        long bytes = length;
+        for (int j = 0; j < length; j++) {
+            char c = value.charAt(j);
+            if (c >= 0x80) {
+                if (c < 0x800)
+                    bytes++;
+                else if (Character.isHighSurrogate(c)) {
+                    bytes += 2;
+                    j++;
+                } else
+                    bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Method to get a snapshot of the metrics recorded <br>
+     * No-any params required
+     *
+     * @return snapshot of the metrics recorded as {@link EndpointSnapshot}
+     */
+    public EndpointSnapshot snapshot() {
+        return new EndpointSnapshot(endpoint, totalLatency.snapshot(), networkLatency.snapshot(),
+                signingLatency.snapshot(), responses.sum(), errorResponses.sum(), failures.sum(), bytesSent.sum(),
+                bytesReceived.sum(), wireBytesReceived.sum(), compressedResponses.sum());
+    }
+
+    /**
+     * Method to reset the metrics recorded <br>
+     * No-any params required
+     */
+    public void reset() {
+        totalLatency.reset();
+        networkLatency.reset();
+        signingLatency.reset();
+        responses.reset();
+        errorResponses.reset();
+        failures.reset();
+        bytesSent.reset();
+        bytesReceived.reset();
+        wireBytesReceived.reset();
+        compressedResponses.reset();
+    }
+
+    /**
+     * Method to get {@link #endpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpoint} instance as {@link String}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+}
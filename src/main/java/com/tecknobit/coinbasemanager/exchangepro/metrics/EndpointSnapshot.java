@@ -0,0 +1,247 @@
+package com.tecknobit.coinbasemanager.exchangepro.metrics;
+
+/**
+ * The {@code EndpointSnapshot} class is useful to read the metrics recorded by an {@link EndpointMetrics}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote any instance is immutable
+ * @see EndpointMetrics
+ */
+public class EndpointSnapshot {
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint template es. GET /products/{product_id}/book
+     */
+    private final String endpoint;
+
+    /**
+     * {@code totalLatency} is instance that memorizes the latencies of the requests, including the rate limits waits
+     * and the retries
+     */
+    private final HistogramSnapshot totalLatency;
+
+    /**
+     * {@code networkLatency} is instance that memorizes the latencies of each attempt on the network
+     */
+    private final HistogramSnapshot networkLatency;
+
+    /**
+     * {@code signingLatency} is instance that memorizes the time spent to sign each attempt
+     */
+    private final HistogramSnapshot signingLatency;
+
+    /**
+     * {@code responses} is instance that memorizes the number of responses received
+     */
+    private final long responses;
+
+    /**
+     * {@code errorResponses} is instance that memorizes the number of responses received with an error status code
+     */
+    private final long errorResponses;
+
+    /**
+     * {@code failures} is instance that memorizes the number of attempts failed without a response, es. a timeout
+     */
+    private final long failures;
+
+    /**
+     * {@code bytesSent} is instance that memorizes the number of bytes of the bodies sent
+     */
+    private final long bytesSent;
+
+    /**
+     * {@code bytesReceived} is instance that memorizes the number of bytes of the bodies received
+     */
+    private final long bytesReceived;
+
+    /**
+     * {@code wireBytesReceived} is instance that memorizes the number of bytes of the bodies received on the network,
+     * before their decompression
+     */
+    private final long wireBytesReceived;
+
+    /**
+     * {@code compressedResponses} is instance that memorizes the number of responses received compressed
+     */
+    private final long compressedResponses;
+
+    /**
+     * Constructor to init a {@link EndpointSnapshot}
+     *
+     * @param endpoint:            endpoint template es. GET /products/{product_id}/book
+     * @param totalLatency:        latencies of the requests, including the rate limits waits and the retries
+     * @param networkLatency:      latencies of each attempt on the network
+     * @param signingLatency:      time spent to sign each attempt
+     * @param responses:           number of responses received
+     * @param errorResponses:      number of responses received with an error status code
+     * @param failures:            number of attempts failed without a response
+     * @param bytesSent:           number of bytes of the bodies sent
+     * @param bytesReceived:       number of bytes of the bodies received
+     * @param wireBytesReceived:   number of bytes of the bodies received on the network, before their decompression
+     * @param compressedResponses: number of responses received compressed
+     */
+    public EndpointSnapshot(String endpoint, HistogramSnapshot totalLatency, HistogramSnapshot networkLatency,
+                            HistogramSnapshot signingLatency, long responses, long errorResponses, long failures,
+                            long bytesSent, long bytesReceived, long wireBytesReceived, long compressedResponses) {
+        this.endpoint = endpoint;
+        this.totalLatency = totalLatency;
+        this.networkLatency = networkLatency;
+        this.signingLatency = signingLatency;
+        this.responses = responses;
+        this.errorResponses = errorResponses;
+        this.failures = failures;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.wireBytesReceived = wireBytesReceived;
+        this.compressedResponses = compressedResponses;
+    }
+
+    /**
+     * Method to get {@link #endpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpoint} instance as {@link String}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Method to get {@link #totalLatency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #totalLatency} instance as {@link HistogramSnapshot}
+     */
+    public HistogramSnapshot getTotalLatency() {
+        return totalLatency;
+    }
+
+    /**
+     * Method to get {@link #networkLatency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #networkLatency} instance as {@link HistogramSnapshot}
+     */
+    public HistogramSnapshot getNetworkLatency() {
+        return networkLatency;
+    }
+
+    /**
+     * Method to get {@link #signingLatency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #signingLatency} instance as {@link HistogramSnapshot}
+     */
+    public HistogramSnapshot getSigningLatency() {
+        return signingLatency;
+    }
+
+    /**
+     * Method to get {@link #responses} instance <br>
+     * No-any params required
+     *
+     * @return {@link #responses} instance as long
+     */
+    public long getResponses() {
+        return responses;
+    }
+
+    /**
+     * Method to get {@link #errorResponses} instance <br>
+     * No-any params required
+     *
+     * @return {@link #errorResponses} instance as long
+     */
+    public long getErrorResponses() {
+        return errorResponses;
+    }
+
+    /**
+     * Method to get {@link #failures} instance <br>
+     * No-any params required
+     *
+     * @return {@link #failures} instance as long
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Method to get {@link #bytesSent} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bytesSent} instance as long
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Method to get {@link #bytesReceived} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bytesReceived} instance as long
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Method to get {@link #wireBytesReceived} instance <br>
+     * No-any params required
+     *
+     * @return {@link #wireBytesReceived} instance as long
+     */
+    public long getWireBytesReceived() {
+        return wireBytesReceived;
+    }
+
+    /**
+     * Method to get {@link #compressedResponses} instance <br>
+     * No-any params required
+     *
+     * @return {@link #compressedResponses} instance as long
+     */
+    public long getCompressedResponses() {
+        return compressedResponses;
+    }
+
+    /**
+     * Method to get the number of bytes saved by the compression of the responses <br>
+     * No-any params required
+     *
+     * @return number of bytes saved by the compression of the responses as long
+     */
+    public long getBytesSaved() {
+        return bytesReceived - wireBytesReceived;
+    }
+
+    /**
+     * Method to get the ratio between the bytes received on the network and the bytes of the bodies decompressed <br>
+     * No-any params required
+     *
+     * @return ratio between the bytes received on the network and the bytes of the bodies decompressed as double,
+     * 1 if no byte has been received
+     */
+    public double getCompressionRatio() {
+        if (bytesReceived == 0)
+            return 1;
+        return (double) wireBytesReceived / bytesReceived;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return endpoint + " -> responses=" + responses + " errors=" + errorResponses + " failures=" + failures
+                + " bytesSent=" + bytesSent + " bytesReceived=" + bytesReceived + " wireBytesReceived="
+                + wireBytesReceived + " compressed=" + compressedResponses + " total[" + totalLatency
+                + "] network[" + networkLatency + "] signing[" + signingLatency + "]";
+    }
+
+}
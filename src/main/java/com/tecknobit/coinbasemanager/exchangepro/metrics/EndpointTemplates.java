@@ -0,0 +1,216 @@
+package com.tecknobit.coinbasemanager.exchangepro.metrics;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code EndpointTemplates} class is useful to resolve the template of an endpoint, as documented by the
+ * {@code "RequestPath"} annotations of the managers, es. /products/BTC-USD/book -> /products/{product_id}/book
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the endpoints which do not match any template have their identifiers, the segments with digits or
+ * uppercase letters, replaced by {@code "{id}"}, so the number of different templates is always bounded
+ */
+public final class EndpointTemplates {
+
+    /**
+     * {@code TEMPLATES} is constant for the templates of the {@code "Coinbase"} endpoints
+     */
+    private static final String[] TEMPLATES = {
+            "/accounts",
+            "/accounts/{account_id}",
+            "/accounts/{account_id}/holds",
+            "/accounts/{account_id}/ledger",
+            "/accounts/{account_id}/transfers",
+            "/address-book",
+            "/address-book/{id}",
+            "/coinbase-accounts",
+            "/coinbase-accounts/{account_id}/addresses",
+            "/conversions",
+            "/conversions/{conversion_id}",
+            "/currencies",
+            "/currencies/{currency_id}",
+            "/deposits/coinbase-account",
+            "/deposits/payment-method",
+            "/fees",
+            "/fills",
+            "/oracle",
+            "/orders",
+            "/orders/{order_id}",
+            "/payment-methods",
+            "/products",
+            "/products/{product_id}",
+            "/products/{product_id}/book",
+            "/products/{product_id}/candles",
+            "/products/{product_id}/stats",
+            "/products/{product_id}/ticker",
+            "/products/{product_id}/trades",
+            "/profiles",
+            "/profiles/transfer",
+            "/profiles/{profile_id}",
+            "/profiles/{profile_id}/deactivate",
+            "/reports",
+            "/reports/{report_id}",
+            "/time",
+            "/transfers",
+            "/transfers/{transfer_id}",
+            "/users/{user_id}/exchange-limits",
+            "/users/{user_id}/settlement-preferences",
+            "/withdrawals/coinbase-account",
+            "/withdrawals/crypto",
+            "/withdrawals/fee-estimate",
+            "/withdrawals/payment-method",
+            "/wrapped-assets",
+            "/wrapped-assets/stake-wrap",
+            "/wrapped-assets/stake-wrap/{stake_wrap_id}",
+            "/wrapped-assets/{wrapped_asset_id}",
+            "/wrapped-assets/{wrapped_asset_id}/conversion-rate"
+    };
+
+    /**
+     * {@code MAX_CACHED_PATHS} is constant for the max number of paths whose template is cached
+     */
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    /**
+     * {@code ROOT} is constant for the root node of the tree of the templates
+     */
+    private static final Node ROOT = new Node();
+
+    /**
+     * {@code resolvedPaths} is instance that memorizes the templates already resolved for each path
+     */
+    private static final ConcurrentHashMap<String, String> resolvedPaths = new ConcurrentHashMap<>();
+
+    static {
+        for (String template : TEMPLATES) {
+            Node node = ROOT;
+            for (String segment : template.substring(1).split("/")) {
+                if (segment.startsWith("{")) {
+                    if (node.parameter == null)
+                        node.parameter = new Node();
+                    node = node.parameter;
+                } else
+                    node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            node.template = template;
+        }
+    }
+
+    /**
+     * Constructor to init a {@link EndpointTemplates}
+     *
+     * @apiNote this class cannot be instantiated
+     */
+    private EndpointTemplates() {
+    }
+
+    /**
+     * Method to resolve the template of an endpoint
+     *
+     * @param endpoint: endpoint of which resolve the template, with or without its query params
+     * @return template of the endpoint as {@link String} es. /products/{product_id}/book
+     */
+    public static String resolve(String endpoint) {
+        int queryIndex = endpoint.indexOf('?');
+        String path = queryIndex == -1 ? endpoint : endpoint.substring(0, queryIndex);
+        String template = resolvedPaths.get(path);
+        if (template == null) {
+            String[] segments = path.split("/");
+            template = match(ROOT, segments, 1);
+            if (template == null)
+                template = normalize(segments);
+            if (resolvedPaths.size() < MAX_CACHED_PATHS)
+                resolvedPaths.put(path, template);
+        }
+        return template;
+    }
+
+    /**
+     * Method to match some segments with the tree of the templates
+     *
+     * @param node:     current node of the tree
+     * @param segments: segments of the path to match
+     * @param index:    index of the current segment
+     * @return template matched as {@link String}, {@code null} if no template has been matched
+     * @implNote the fixed segments are preferred to the parameters, es. /profiles/transfer is not matched as
+     * /profiles/{profile_id}
+     */
+    private static String match(Node node, String[] segments, int index) {
+        while (index < segments.length && segments[index].isEmpty())
+            index++;
+        if (index == segments.length)
+            return node.template;
+        Node child = node.children.get(segments[index]);
+        if (child != null) {
+            String template = match(child, segments, index + 1);
+            if (template != null)
+                return template;
+        }
+        if (node.parameter != null)
+            return match(node.parameter, segments, index + 1);
+        return null;
+    }
+
+    /**
+     * Method to normalize a path which does not match any template
+     *
+     * @param segments: segments of the path
+     * @return normalized path as {@link String}
+     */
+    private static String normalize(String[] segments) {
+        StringBuilder template = new StringBuilder();
+        for (String segment : segments) {
+            if (segment.isEmpty())
+                continue;
+            template.append('/');
+            if (isIdentifier(segment))
+                template.append("{id}");
+            else
+                template.append(segment);
+        }
+        if (template.length() == 0)
+            return "/";
+        return template.toString();
+    }
+
+    /**
+     * Method to get whether a segment is an identifier
+     *
+     * @param segment: segment to check
+     * @return whether the segment contains digits or uppercase letters as boolean
+     */
+    private static boolean isIdentifier(String segment) {
+        for (int j = 0; j < segment.length(); j++) {
+            char c = segment.charAt(j);
+            if (Character.isDigit(c) || Character.isUpperCase(c) || c == '=')
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * The {@code Node} class is useful to create the tree of the templates
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class Node {
+
+        /**
+         * {@code children} is instance that memorizes the children of the node with a fixed segment
+         */
+        private final HashMap<String, Node> children = new HashMap<>();
+
+        /**
+         * {@code parameter} is instance that memorizes the child of the node with a parameter segment
+         */
+        private Node parameter;
+
+        /**
+         * {@code template} is instance that memorizes the template which ends in this node, {@code null} if no one
+         */
+        private String template;
+
+    }
+
+}
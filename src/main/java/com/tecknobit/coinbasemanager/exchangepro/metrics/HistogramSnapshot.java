@@ -0,0 +1,153 @@
+package com.tecknobit.coinbasemanager.exchangepro.metrics;
+
+/**
+ * The {@code HistogramSnapshot} class is useful to read the values recorded by a {@link LatencyHistogram}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote any instance is immutable, the percentiles are computed with the same relative error of the
+ * {@link LatencyHistogram}
+ * @see LatencyHistogram
+ */
+public class HistogramSnapshot {
+
+    /**
+     * {@code counts} is instance that memorizes the number of values recorded in each bucket
+     */
+    private final long[] counts;
+
+    /**
+     * {@code count} is instance that memorizes the number of values recorded
+     */
+    private final long count;
+
+    /**
+     * {@code sum} is instance that memorizes the sum of the values recorded
+     */
+    private final long sum;
+
+    /**
+     * {@code max} is instance that memorizes the max value recorded
+     */
+    private final long max;
+
+    /**
+     * Constructor to init a {@link HistogramSnapshot}
+     *
+     * @param counts: number of values recorded in each bucket
+     * @param count:  number of values recorded
+     * @param sum:    sum of the values recorded
+     * @param max:    max value recorded
+     */
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Method to get {@link #count} instance <br>
+     * No-any params required
+     *
+     * @return {@link #count} instance as long
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Method to get {@link #max} instance <br>
+     * No-any params required
+     *
+     * @return {@link #max} instance as long
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Method to get the mean of the values recorded <br>
+     * No-any params required
+     *
+     * @return mean of the values recorded as double
+     */
+    public double getMean() {
+        if (count == 0)
+            return 0;
+        return (double) sum / count;
+    }
+
+    /**
+     * Method to get the value at a percentile
+     *
+     * @param percentile: percentile of which get the value, from 0 to 100 es. 99.9
+     * @return value at the percentile as long, 0 if no value has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0)
+            return 0;
+        long rank = (long) Math.ceil(Math.max(0, Math.min(100, percentile)) / 100 * count);
+        if (rank == 0)
+            rank = 1;
+        long seen = 0;
+        for (int j = 0; j < counts.length; j++) {
+            seen += counts[j];
+            if (seen >= rank)
+                return Math.min(LatencyHistogram.getBucketValue(j), max);
+        }
+        return max;
+    }
+
+    /**
+     * Method to get the median of the values recorded <br>
+     * No-any params required
+     *
+     * @return median of the values recorded as long
+     */
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    /**
+     * Method to get the 90th percentile of the values recorded <br>
+     * No-any params required
+     *
+     * @return 90th percentile of the values recorded as long
+     */
+    public long getP90() {
+        return getValueAtPercentile(90);
+    }
+
+    /**
+     * Method to get the 99th percentile of the values recorded <br>
+     * No-any params required
+     *
+     * @return 99th percentile of the values recorded as long
+     */
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    /**
+     * Method to get the 99.9th percentile of the values recorded <br>
+     * No-any params required
+     *
+     * @return 99.9th percentile of the values recorded as long
+     */
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String} with the values in millis
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms p999=%.3fms max=%.3fms", count,
+                getMean() / 1e6, getP50() / 1e6, getP90() / 1e6, getP99() / 1e6, getP999() / 1e6, max / 1e6);
+    }
+
+}
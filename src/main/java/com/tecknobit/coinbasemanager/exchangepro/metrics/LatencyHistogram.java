@@ -0,0 +1,144 @@
+package com.tecknobit.coinbasemanager.exchangepro.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code LatencyHistogram} class is useful to record the latencies in a log-linear histogram, as the
+ * {@code "HDR"} histograms do, with a bounded relative error and without allocations on each record
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote each power of two is divided in {@link #SUB_BUCKETS} buckets, so the values are recorded with a relative
+ * error lower than 3.2%, the values bigger than {@link #MAX_VALUE} are recorded as {@link #MAX_VALUE}
+ */
+public class LatencyHistogram {
+
+    /**
+     * {@code SUB_BUCKET_BITS} is constant for the number of bits used for the buckets of each power of two
+     */
+    static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * {@code SUB_BUCKETS} is constant for the number of buckets of each power of two
+     */
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * {@code MAX_VALUE_BITS} is constant for the number of bits of the max value recorded
+     */
+    private static final int MAX_VALUE_BITS = 40;
+
+    /**
+     * {@code MAX_VALUE} is constant for the max value recorded, about 18 minutes in nanos
+     */
+    public static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    /**
+     * {@code BUCKETS} is constant for the total number of buckets
+     */
+    static final int BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /**
+     * {@code counts} is instance that memorizes the number of values recorded in each bucket
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * {@code count} is instance that memorizes the number of values recorded
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * {@code sum} is instance that memorizes the sum of the values recorded
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * {@code max} is instance that memorizes the max value recorded
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Method to record a value
+     *
+     * @param value: value to record, es. a latency in nanos
+     */
+    public void record(long value) {
+        if (value < 0)
+            value = 0;
+        else if (value > MAX_VALUE)
+            value = MAX_VALUE;
+        counts.incrementAndGet(getBucketIndex(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get())
+            max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Method to get the index of the bucket of a value
+     *
+     * @param value: value of which get the bucket
+     * @return index of the bucket as int
+     */
+    static int getBucketIndex(long value) {
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        if (shift < 0)
+            return (int) value;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Method to get the highest value of a bucket
+     *
+     * @param index: index of the bucket
+     * @return highest value of the bucket as long
+     */
+    static long getBucketValue(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Method to get a snapshot of the values recorded <br>
+     * No-any params required
+     *
+     * @return snapshot of the values recorded as {@link HistogramSnapshot}
+     */
+    public HistogramSnapshot snapshot() {
+        long[] snapshotCounts = new long[BUCKETS];
+        long snapshotCount = 0;
+        for (int j = 0; j < BUCKETS; j++) {
+            snapshotCounts[j] = counts.get(j);
+            snapshotCount += snapshotCounts[j];
+        }
+        return new HistogramSnapshot(snapshotCounts, snapshotCount, sum.sum(), max.get());
+    }
+
+    /**
+     * Method to reset the values recorded <br>
+     * No-any params required
+     */
+    public void reset() {
+        for (int j = 0; j < BUCKETS; j++)
+            counts.set(j, 0);
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Method to get the number of values recorded <br>
+     * No-any params required
+     *
+     * @return number of values recorded as long
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+}
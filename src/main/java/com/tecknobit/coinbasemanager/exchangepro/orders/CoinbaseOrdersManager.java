@@ -15,6 +15,7 @@ import org.json.JSONObject;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.apimanager.formatters.ScientificNotationParser.sNotationParse;
@@ -29,6 +30,8 @@ import static java.util.Arrays.asList;
  * @author N7ghtm4r3 - Tecknobit
  * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
  * Orders manager</a>
+ * @implNote the orders creation requests are retried after a transient error only when a {@code "client_oid"} is set
+ * in their extra params, so an order cannot be placed twice
  * @see CoinbaseManager
  * @see Manager
  */
@@ -551,18 +554,20 @@ public class CoinbaseOrdersManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnFillsList(String fillsResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(fillsResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Fill> fills = new ArrayList<>();
-                JSONArray jFills = new JSONArray(fillsResponse);
-                for (int j = 0; j < jFills.length(); j++)
-                    fills.add(new Fill(jFills.getJSONObject(j)));
-                return (T) fills;
-            default:
-                return (T) fillsResponse;
-        }
+        return returnFormatted("CoinbaseOrdersManager.returnFillsList", fillsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(fillsResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Fill> fills = new ArrayList<>();
+                    JSONArray jFills = new JSONArray(fillsResponse);
+                    for (int j = 0; j < jFills.length(); j++)
+                        fills.add(new Fill(jFills.getJSONObject(j)));
+                    return (T) fills;
+                default:
+                    return (T) fillsResponse;
+            }
+        });
     }
 
     /**
@@ -794,7 +799,7 @@ public class CoinbaseOrdersManager extends CoinbaseManager {
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
     public <T> T getAllOrders(int limit, Sorter sortedBy, SortingOrder sorting, Status[] statuses,
                               Params queryParams, ReturnFormat format) throws Exception {
-        return getAllOrders(limit, sortedBy, sorting, Arrays.stream(statuses).toList(), queryParams, LIBRARY_OBJECT);
+        return getAllOrders(limit, sortedBy, sorting, Arrays.stream(statuses).toList(), queryParams, format);
     }
 
     /**
@@ -1426,18 +1431,20 @@ public class CoinbaseOrdersManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnOrdersList(String ordersResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(ordersResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Order> orders = new ArrayList<>();
-                JSONArray jOrders = new JSONArray(ordersResponse);
-                for (int j = 0; j < jOrders.length(); j++)
-                    orders.add(new Order(jOrders.getJSONObject(j)));
-                return (T) orders;
-            default:
-                return (T) ordersResponse;
-        }
+        return returnFormatted("CoinbaseOrdersManager.returnOrdersList", ordersResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(ordersResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Order> orders = new ArrayList<>();
+                    JSONArray jOrders = new JSONArray(ordersResponse);
+                    for (int j = 0; j < jOrders.length(); j++)
+                        orders.add(new Order(jOrders.getJSONObject(j)));
+                    return (T) orders;
+                default:
+                    return (T) ordersResponse;
+            }
+        });
     }
 
     /**
@@ -1565,18 +1572,20 @@ public class CoinbaseOrdersManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnCanceledOrdersList(String ordersResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(ordersResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<String> ordersId = new ArrayList<>();
-                JSONArray jOrders = new JSONArray(ordersResponse);
-                for (int j = 0; j < jOrders.length(); j++)
-                    ordersId.add(jOrders.getString(j));
-                return (T) ordersId;
-            default:
-                return (T) ordersResponse;
-        }
+        return returnFormatted("CoinbaseOrdersManager.returnCanceledOrdersList", ordersResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(ordersResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<String> ordersId = new ArrayList<>();
+                    JSONArray jOrders = new JSONArray(ordersResponse);
+                    for (int j = 0; j < jOrders.length(); j++)
+                        ordersId.add(jOrders.getString(j));
+                    return (T) ordersId;
+                default:
+                    return (T) ordersResponse;
+            }
+        });
     }
 
     /**
@@ -2139,9 +2148,8 @@ public class CoinbaseOrdersManager extends CoinbaseManager {
     @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
     public <T> T createStopOrder(Side side, String productId, double price, double size, double stopPrice,
                                  ReturnFormat format) throws Exception {
-        Params payload = createOrderPayload(side, productId, price, size, stop);
-        payload.addParam("stop_price", stopPrice);
-        return returnOrder(sendPostRequest(ORDERS_ENDPOINT, payload), format);
+        return returnOrder(sendPostRequest(ORDERS_ENDPOINT, createStopOrderPayload(side, productId, price, size,
+                stopPrice)), format);
     }
 
     /** Request to create new stop order
@@ -2334,14 +2342,16 @@ public class CoinbaseOrdersManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnOrder(String orderResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(orderResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Order(new JSONObject(orderResponse));
-            default:
-                return (T) orderResponse;
-        }
+        return returnFormatted("CoinbaseOrdersManager.returnOrder", orderResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(orderResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Order(new JSONObject(orderResponse));
+                default:
+                    return (T) orderResponse;
+            }
+        });
     }
 
     /**
@@ -2449,4 +2459,1599 @@ public class CoinbaseOrdersManager extends CoinbaseManager {
                 "&product_id=" + productId);
     }
 
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param order: order from get fill details
+     * @return all filled orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Fill},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public CompletableFuture<ArrayList<Fill>> getAllFillsByOrderIdAsync(Order order) {
+        return getAllFillsByOrderIdAsync(order.getId(), LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param order:  order from get fill details
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return all filled orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public <T> CompletableFuture<T> getAllFillsByOrderIdAsync(Order order, ReturnFormat format) {
+        return getAllFillsByOrderIdAsync(order.getId(), format);
+    }
+
+    /**
+     * Request to get all filled orders list asynchronously
+     *
+     * @param orderId: identifier of order to get details
+     * @return all filled orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Fill},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public CompletableFuture<ArrayList<Fill>> getAllFillsByOrderIdAsync(String orderId) {
+        return getAllFillsByOrderIdAsync(orderId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all filled orders list asynchronously
+     *
+     * @param orderId: identifier of order to get details
+     * @param format:  return type formatter -> {@link ReturnFormat}
+     * @return all filled orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public <T> CompletableFuture<T> getAllFillsByOrderIdAsync(String orderId, ReturnFormat format) {
+        return sendGETRequestAsync(GET_ALL_FILLS_ENDPOINT + "?order_id=" + orderId)
+                .thenApply(fillsResponse -> returnFillsList(fillsResponse, format));
+    }
+
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param order:       order from get fill details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> get results for a specific profile - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "market_type"} -> market type which the order was filled in - [string, default spot]
+     *                          </li>
+     *                     </ul>
+     * @return all filled orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Fill},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public CompletableFuture<ArrayList<Fill>> getAllFillsByOrderIdAsync(Order order, Params queryParams) {
+        return getAllFillsByOrderIdAsync(order.getId(), queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param order:       order from get fill details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> get results for a specific profile - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "market_type"} -> market type which the order was filled in - [string, default spot]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all filled orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public <T> CompletableFuture<T> getAllFillsByOrderIdAsync(Order order, Params queryParams, ReturnFormat format) {
+        return getAllFillsByOrderIdAsync(order.getId(), queryParams, format);
+    }
+
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param orderId:     identifier of order from get fill details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> get results for a specific profile - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "market_type"} -> market type which the order was filled in - [string, default spot]
+     *                          </li>
+     *                     </ul>
+     * @return all filled orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Fill},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public CompletableFuture<ArrayList<Fill>> getAllFillsByOrderIdAsync(String orderId, Params queryParams) {
+        return getAllFillsByOrderIdAsync(orderId, queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param orderId:     identifier of order from get fill details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> get results for a specific profile - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "market_type"} -> market type which the order was filled in - [string, default spot]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all filled orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public <T> CompletableFuture<T> getAllFillsByOrderIdAsync(String orderId, Params queryParams, ReturnFormat format) {
+        queryParams.addParam("order_id", orderId);
+        return sendGETRequestAsync(GET_ALL_FILLS_ENDPOINT + queryParams.createQueryString())
+                .thenApply(fillsResponse -> returnFillsList(fillsResponse, format));
+    }
+
+    /**
+     * Request to get all filled orders list asynchronously
+     *
+     * @param productId: identifier of product to get details
+     * @return all filled orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Fill},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public CompletableFuture<ArrayList<Fill>> getAllFillsByProductIdAsync(String productId) {
+        return getAllFillsByProductIdAsync(productId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all filled orders list asynchronously
+     *
+     * @param productId: identifier of product to get details
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return all filled orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public <T> CompletableFuture<T> getAllFillsByProductIdAsync(String productId, ReturnFormat format) {
+        return sendGETRequestAsync(GET_ALL_FILLS_ENDPOINT + "?product_id=" + productId)
+                .thenApply(fillsResponse -> returnFillsList(fillsResponse, format));
+    }
+
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param productId:   identifier of product to get details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> get results for a specific profile - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "market_type"} -> market type which the order was filled in - [string, default spot]
+     *                          </li>
+     *                     </ul>
+     * @return all filled orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Fill},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public CompletableFuture<ArrayList<Fill>> getAllFillsByProductIdAsync(String productId, Params queryParams) {
+        return getAllFillsByProductIdAsync(productId, queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all filled orders asynchronously
+     *
+     * @param productId:   identifier of product to get details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> get results for a specific profile - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "market_type"} -> market type which the order was filled in - [string, default spot]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all filled orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getfills">
+     * Get all fills</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/fills")
+    public <T> CompletableFuture<T> getAllFillsByProductIdAsync(String productId, Params queryParams,
+                                                                ReturnFormat format) {
+        queryParams.addParam("product_id", productId);
+        return sendGETRequestAsync(GET_ALL_FILLS_ENDPOINT + queryParams.createQueryString())
+                .thenApply(fillsResponse -> returnFillsList(fillsResponse, format));
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:    number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:  ascending or descending order criteria (asc or desc)
+     * @param statuses: orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status[]}
+     * @return all orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Status[] statuses) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.stream(statuses).toList(), LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:    number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:  ascending or descending order criteria (asc or desc)
+     * @param statuses: orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status[]}
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return all orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                      Status[] statuses, ReturnFormat format) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.stream(statuses).toList(), format);
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:    number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:  ascending or descending order criteria (asc or desc)
+     * @param statuses: orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Collection}
+     * @return all orders list as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Collection<Status> statuses) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, statuses, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:    number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:  ascending or descending order criteria (asc or desc)
+     * @param statuses: orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Collection}
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return all orders list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                      Collection<Status> statuses, ReturnFormat format) {
+        String params = assembleQueryParams("?limit=" + limit, assembleSortCriteria(sortedBy, sorting));
+        params += apiRequest.concatenateParamsList("&", "status", new ArrayList<>(statuses));
+        return sendGETRequestAsync(ORDERS_ENDPOINT + params)
+                .thenApply(ordersResponse -> returnOrdersList(ordersResponse, format));
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param statuses:    orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status} array
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @return all orders as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @implSpec (keys accepted are profile_id, before, after, start_date, end_date, product_id)
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Status[] statuses, Params queryParams) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.stream(statuses).toList(), queryParams,
+                LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param statuses:    orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status} array
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @implSpec (keys accepted are profile_id, before, after, start_date, end_date, product_id)
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                      Status[] statuses, Params queryParams, ReturnFormat format) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.stream(statuses).toList(), queryParams, format);
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param statuses:    orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Collection}
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @return all orders as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Collection<Status> statuses, Params queryParams) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, statuses, queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all open orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param statuses:    orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Collection}
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                      Collection<Status> statuses, Params queryParams,
+                                                      ReturnFormat format) {
+        String params = assembleQueryParams("?limit=" + limit, assembleSortCriteria(sortedBy, sorting));
+        params += apiRequest.concatenateParamsList("&", "status", new ArrayList<>(statuses));
+        return sendGETRequestAsync(ORDERS_ENDPOINT + assembleQueryParams(params, queryParams))
+                .thenApply(ordersResponse -> returnOrdersList(ordersResponse, format));
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:    number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:  ascending or descending order criteria (asc or desc)
+     * @param status:   orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link String}
+     * @return all orders as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Status status) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.asList(status), LIBRARY_OBJECT);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:    number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:  ascending or descending order criteria (asc or desc)
+     * @param status:   orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status}
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of as {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting, Status status,
+                                                      ReturnFormat format) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.asList(status), format);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param status:      orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status}
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Status status, Params queryParams) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.asList(status), queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param status:      orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status}
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting, Status status,
+                                                      Params queryParams, ReturnFormat format) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, Arrays.asList(status), queryParams, format);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:     number of returns
+     * @param sortedBy:  sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:   ascending or descending order criteria (asc or desc)
+     * @param statuses:  orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link String}
+     * @param productId: identifier of product from fetch details es. BTC-ETH
+     * @return all orders as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Collection<Status> statuses, String productId) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, statuses, productId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:     number of returns
+     * @param sortedBy:  sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:   ascending or descending order criteria (asc or desc)
+     * @param statuses:  orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link String}
+     * @param productId: identifier of product from fetch details es. BTC-ETH
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                      Collection<Status> statuses, String productId,
+                                                      ReturnFormat format) {
+        Params productIdPayload = new Params();
+        productIdPayload.addParam("product_id", productId);
+        return getAllOrdersAsync(limit, sortedBy, sorting, statuses, productIdPayload, format);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param statuses:    orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link String}
+     * @param productId:   identifier of product from fetch details es. BTC-ETH
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                     </ul>
+     * @return all orders as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Collection<Status> statuses, String productId,
+                                                                 Params queryParams) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, statuses, productId, queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param statuses:    orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link String}
+     * @param productId:   identifier of product from fetch details es. BTC-ETH
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                      Collection<Status> statuses, String productId, Params queryParams,
+                                                      ReturnFormat format) {
+        Params productIdPayload = new Params();
+        productIdPayload.addParam("product_id", productId);
+        queryParams.mergeParams(productIdPayload);
+        return getAllOrdersAsync(limit, sortedBy, sorting, statuses, queryParams, format);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit: number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting: ascending or descending order criteria (asc or desc)
+     * @param status: orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link String}
+     * @param productId: identifier of product from fetch details es. BTC-ETH
+     * @return all orders as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     *     Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrderAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                Status status, String productId) {
+        return getAllOrderAsync(limit, sortedBy, sorting, status, productId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit: number of returns
+     * @param sortedBy: sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting: ascending or descending order criteria (asc or desc)
+     * @param status: orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link String}
+     * @param productId: identifier of product from fetch details es. BTC-ETH
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     *     Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrderAsync(int limit, Sorter sortedBy, SortingOrder sorting, Status status,
+                                                     String productId, ReturnFormat format) {
+        Params productIdPayload = new Params();
+        productIdPayload.addParam("product_id", productId);
+        return getAllOrdersAsync(limit, sortedBy, sorting, new ArrayList<>(asList(status)), productIdPayload, format);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param status:      orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status}
+     * @param productId:   identifier of product from fetch details es. BTC-ETH
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                     </ul>
+     * @return all orders as {@link CompletableFuture} of {@link ArrayList} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<Order>> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting,
+                                                                 Status status, String productId, Params queryParams) {
+        return getAllOrdersAsync(limit, sortedBy, sorting, status, productId, queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Custom request to get all orders asynchronously
+     *
+     * @param limit:       number of returns
+     * @param sortedBy:    sort criteria for results (created_at, price, size, order_id, side or type)
+     * @param sorting:     ascending or descending order criteria (asc or desc)
+     * @param status:      orders status to fetch (open, pending, rejected, done, active, received, or all) as {@link Status}
+     * @param productId:   identifier of product from fetch details es. BTC-ETH
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> filter results by minimum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> filter results by maximum posted date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorders">
+     * Get all orders</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> getAllOrdersAsync(int limit, Sorter sortedBy, SortingOrder sorting, Status status,
+                                                      String productId, Params queryParams, ReturnFormat format) {
+        Params payload = new Params();
+        payload.addParam("product_id", productId);
+        queryParams.mergeParams(payload);
+        return getAllOrdersAsync(limit, sortedBy, sorting, new ArrayList<>(asList(status)), queryParams, format);
+    }
+
+    /**
+     * Request to cancel all orders asynchronously <br>
+     * No-any params required
+     *
+     * @return result list of cancelled id orders as {@link CompletableFuture} of {@link ArrayList} of {@link String},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorders">
+     * Cancel all orders</a>
+     */
+    @Wrapper
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<String>> cancelAllOpenOrdersAsync() {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT)
+                .thenApply(ordersResponse -> returnCanceledOrdersList(ordersResponse, LIBRARY_OBJECT));
+    }
+
+    /**
+     * Request to cancel all orders asynchronously
+     *
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return result list of cancelled id orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorders">
+     *     Cancel all orders</a>
+     */
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> cancelAllOpenOrdersAsync(ReturnFormat format) {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT)
+                .thenApply(ordersResponse -> returnCanceledOrdersList(ordersResponse, format));
+    }
+
+    /**
+     * Request to cancel all orders asynchronously
+     *
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result list of cancelled id orders as {@link CompletableFuture} of {@link ArrayList} of {@link String},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorders">
+     *     Cancel all orders</a>
+     */
+    @Wrapper
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<ArrayList<String>> cancelAllOpenOrdersAsync(Params queryParams) {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT + queryParams.createQueryString())
+                .thenApply(ordersResponse -> returnCanceledOrdersList(ordersResponse, LIBRARY_OBJECT));
+    }
+
+    /**
+     * Request to cancel all orders asynchronously
+     *
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "product_id"} -> product identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return result list of cancelled id orders as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorders">
+     *     Cancel all orders</a>
+     */
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> cancelAllOpenOrdersAsync(Params queryParams, ReturnFormat format) {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT + queryParams.createQueryString())
+                .thenApply(ordersResponse -> returnCanceledOrdersList(ordersResponse, format));
+    }
+
+    /**
+     * Request to create new limit order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param price:     price per unit of product es. price for one unit of BTC in USD base
+     * @param size:      amount of base currency used in the order
+     * @return result of creation a new limit order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createNewLimitOrderAsync(Side side, String productId, double price, double size) {
+        return createNewLimitOrderAsync(side, productId, price, size, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new limit order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param price:     price per unit of product es. price for one unit of BTC in USD base
+     * @param size:      amount of base currency used in the order
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new limit order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createNewLimitOrderAsync(Side side, String productId, double price, double size, ReturnFormat format) {
+        return sendPostRequestAsync(ORDERS_ENDPOINT, createOrderPayload(side, productId, price, size, limit))
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to create new limit order asynchronously
+     *
+     * @param side:        side of the order (buy or sell)
+     * @param productId:   identifier of product to buy or sell es. BTC-USD
+     * @param price:       price per unit of product es. price for one unit of BTC in USD base
+     * @param size:        amount of base currency used in the order
+     * @param extraParams: extra params of the request, keys accepted are the same of
+     *                     {@link #createNewLimitOrder(Side, String, double, double, Params)}
+     * @return result of creation a new limit order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createNewLimitOrderAsync(Side side, String productId, double price, double size,
+                                                              Params extraParams) {
+        return createNewLimitOrderAsync(side, productId, price, size, extraParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new limit order asynchronously
+     *
+     * @param side:        side of the order (buy or sell)
+     * @param productId:   identifier of product to buy or sell es. BTC-USD
+     * @param price:       price per unit of product es. price for one unit of BTC in USD base
+     * @param size:        amount of base currency used in the order
+     * @param extraParams: extra params of the request, keys accepted are the same of
+     *                     {@link #createNewLimitOrder(Side, String, double, double, Params)}
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new limit order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createNewLimitOrderAsync(Side side, String productId, double price, double size,
+                                                              Params extraParams, ReturnFormat format) {
+        return sendPostRequestAsync(ORDERS_ENDPOINT, mergePayload(createOrderPayload(side, productId, price, size, limit),
+                extraParams)).thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param size:      amount of base currency used in the order
+     * @return result of creation a new market order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createMarketOrderSizeAsync(Side side, String productId, double size) {
+        return createMarketOrderSizeAsync(side, productId, size, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param size:      amount of base currency used in the order
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new market order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createMarketOrderSizeAsync(Side side, String productId, double size, ReturnFormat format) {
+        return sendPostRequestAsync(ORDERS_ENDPOINT, createMarketOrderPayload(side, productId, "size", size))
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side: side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param size: amount of base currency used in the order
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "time_in_force"} -> time in force, constant available: {@link TimeInForce} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "cancel_after"} -> cancel after, constant available: {@link CancelAfter} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stp"} -> stp, constant available: {@link STP} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stop"} -> stop, constant available: {@link StopType} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "post_only"} -> if {@code "true"}, order will only execute as a
+     *                              {@code "maker"} order - [boolean, default false]
+     *                          </li>
+     *                          <li>
+     *                              {@code "client_oid"} -> optional Order ID selected by the user or the frontend
+     *                              client to identify their order - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of creation a new market order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     *     Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createMarketOrderSizeAsync(Side side, String productId, double size,
+                                                               Params extraParams) {
+        return createMarketOrderSizeAsync(side, productId, size, extraParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side: side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param size: amount of base currency used in the order
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "time_in_force"} -> time in force, constant available: {@link TimeInForce} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "cancel_after"} -> cancel after, constant available: {@link CancelAfter} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stp"} -> stp, constant available: {@link STP} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stop"} -> stop, constant available: {@link StopType} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "post_only"} -> if {@code "true"}, order will only execute as a
+     *                              {@code "maker"} order - [boolean, default false]
+     *                          </li>
+     *                          <li>
+     *                              {@code "client_oid"} -> optional Order ID selected by the user or the frontend
+     *                              client to identify their order - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new market order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     *     Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createMarketOrderSizeAsync(Side side, String productId, double size,
+                                                               Params extraParams, ReturnFormat format) {
+        Params payload = createMarketOrderPayload(side, productId, "size", size);
+        payload.mergeParams(extraParams);
+        return sendPostRequestAsync(ORDERS_ENDPOINT, payload)
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param founds:    amount of quote currency to use in the order
+     * @return result of creation a new market order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createMarketOrderFoundsAsync(Side side, String productId, double founds) {
+        return createMarketOrderFoundsAsync(side, productId, founds, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param founds:    amount of quote currency to use in the order
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new market order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createMarketOrderFoundsAsync(Side side, String productId, double founds, ReturnFormat format) {
+        return sendPostRequestAsync(ORDERS_ENDPOINT, createMarketOrderPayload(side, productId, "founds", founds))
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side: side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param founds: amount of quote currency used in the order
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "time_in_force"} -> time in force, constant available: {@link TimeInForce} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "cancel_after"} -> cancel after, constant available: {@link CancelAfter} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stp"} -> stp, constant available: {@link STP} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stop"} -> stop, constant available: {@link StopType} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "post_only"} -> if {@code "true"}, order will only execute as a
+     *                              {@code "maker"} order - [boolean, default false]
+     *                          </li>
+     *                          <li>
+     *                              {@code "client_oid"} -> optional Order ID selected by the user or the frontend
+     *                              client to identify their order - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of creation a new market order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     *     Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createMarketOrderFoundsAsync(Side side, String productId, double founds,
+                                                                 Params extraParams) {
+        return createMarketOrderFoundsAsync(side, productId, founds, extraParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new market order asynchronously
+     *
+     * @param side: side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param founds: amount of quote currency used in the order
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "time_in_force"} -> time in force, constant available: {@link TimeInForce} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "cancel_after"} -> cancel after, constant available: {@link CancelAfter} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stp"} -> stp, constant available: {@link STP} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stop"} -> stop, constant available: {@link StopType} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "post_only"} -> if {@code "true"}, order will only execute as a
+     *                              {@code "maker"} order - [boolean, default false]
+     *                          </li>
+     *                          <li>
+     *                              {@code "client_oid"} -> optional Order ID selected by the user or the frontend
+     *                              client to identify their order - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new market order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     *     Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createMarketOrderFoundsAsync(Side side, String productId, double founds,
+                                                                 Params extraParams, ReturnFormat format) {
+        Params payload = createMarketOrderPayload(side, productId, "founds", founds);
+        payload.mergeParams(extraParams);
+        return sendPostRequestAsync(ORDERS_ENDPOINT, payload)
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to create new stop order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param price:     price per unit of product es. price for one unit of BTC in USD base
+     * @param size:      amount of base currency used in the order
+     * @param stopPrice: price when stop order will be placed on the book
+     * @return result of creation a new stop order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createStopOrderAsync(Side side, String productId, double price, double size,
+                                                          double stopPrice) {
+        return createStopOrderAsync(side, productId, price, size, stopPrice, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new stop order asynchronously
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param price:     price per unit of product es. price for one unit of BTC in USD base
+     * @param size:      amount of base currency used in the order
+     * @param stopPrice: price when stop order will be placed on the book
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new stop order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     * Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createStopOrderAsync(Side side, String productId, double price, double size,
+                                                          double stopPrice, ReturnFormat format) {
+        return sendPostRequestAsync(ORDERS_ENDPOINT, createStopOrderPayload(side, productId, price, size, stopPrice))
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to create new stop order asynchronously
+     *
+     * @param side: side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param price: price per unit of product es. price for one unit of BTC in USD base
+     * @param size: amount of base currency used in the order
+     * @param stopPrice: price when stop order will be placed on the book
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "time_in_force"} -> time in force, constant available: {@link TimeInForce} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "cancel_after"} -> cancel after, constant available: {@link CancelAfter} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stp"} -> stp, constant available: {@link STP} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stop"} -> stop, constant available: {@link StopType} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "post_only"} -> if {@code "true"}, order will only execute as a
+     *                              {@code "maker"} order - [boolean, default false]
+     *                          </li>
+     *                          <li>
+     *                              {@code "client_oid"} -> optional Order ID selected by the user or the frontend
+     *                              client to identify their order - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of creation a new limit order as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     *     Create a new order</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public CompletableFuture<Order> createStopOrderAsync(Side side, String productId, double price, double size,
+                                                         double stopPrice, Params extraParams) {
+        return createStopOrderAsync(side, productId, price, size, stopPrice, extraParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create new stop order asynchronously
+     *
+     * @param side: side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param price: price per unit of product es. price for one unit of BTC in USD base
+     * @param size: amount of base currency used in the order
+     * @param stopPrice: price when stop order will be placed on the book
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "time_in_force"} -> time in force, constant available: {@link TimeInForce} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "cancel_after"} -> cancel after, constant available: {@link CancelAfter} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stp"} -> stp, constant available: {@link STP} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "stop"} -> stop, constant available: {@link StopType} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "post_only"} -> if {@code "true"}, order will only execute as a
+     *                              {@code "maker"} order - [boolean, default false]
+     *                          </li>
+     *                          <li>
+     *                              {@code "client_oid"} -> optional Order ID selected by the user or the frontend
+     *                              client to identify their order - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return result of creation a new limit order as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postorders">
+     *     Create a new order</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/orders")
+    public <T> CompletableFuture<T> createStopOrderAsync(Side side, String productId, double price, double size,
+                                                         double stopPrice, Params extraParams, ReturnFormat format) {
+        Params payload = createOrderPayload(side, productId, price, size, stop);
+        payload.addParam("stop_price", stopPrice);
+        payload.mergeParams(extraParams);
+        return sendPostRequestAsync(ORDERS_ENDPOINT, payload)
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Method to assemble a payload for stop order
+     *
+     * @param side:      side of the order (buy or sell)
+     * @param productId: identifier of product to buy or sell es. BTC-USD
+     * @param price:     price per unit of product es. price for one unit of BTC in USD base
+     * @param size:      amount of base currency used in the order
+     * @param stopPrice: price when stop order will be placed on the book
+     * @return payload for a new stop order as {@link Params}
+     */
+    private Params createStopOrderPayload(Side side, String productId, double price, double size, double stopPrice) {
+        Params payload = createOrderPayload(side, productId, price, size, stop);
+        payload.addParam("stop_price", stopPrice);
+        return payload;
+    }
+
+    /**
+     * Method to merge the extra params in a payload
+     *
+     * @param payload:     payload where merge the extra params
+     * @param extraParams: extra params to merge
+     * @return payload with the extra params merged as {@link Params}
+     */
+    private Params mergePayload(Params payload, Params extraParams) {
+        payload.mergeParams(extraParams);
+        return payload;
+    }
+
+    /**
+     * Request to get single order information asynchronously
+     *
+     * @param orderId: identifier of order from fetch details
+     * @return single order information as {@link CompletableFuture} of {@link Order},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorder">
+     * Get single order</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders/{order_id}")
+    public CompletableFuture<Order> getSingleOrderAsync(String orderId) {
+        return getSingleOrderAsync(orderId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get single order information asynchronously
+     *
+     * @param orderId: identifier of order from fetch details
+     * @param format:  return type formatter -> {@link ReturnFormat}
+     * @return single order information as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getorder">
+     * Get single order</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/orders/{order_id}")
+    public <T> CompletableFuture<T> getSingleOrderAsync(String orderId, ReturnFormat format) {
+        return sendGETRequestAsync(ORDERS_ENDPOINT + "/order_id=" + orderId)
+                .thenApply(orderResponse -> returnOrder(orderResponse, format));
+    }
+
+    /**
+     * Request to cancel an order asynchronously
+     *
+     * @param orderId: identifier of order to cancel
+     * @return result of order cancellation as {@link CompletableFuture} of {@link String},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorder">
+     * Cancel an order</a>
+     */
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders/{order_id}")
+    public CompletableFuture<String> cancelOrderAsync(String orderId) {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT + "/order_id=" + orderId);
+    }
+
+    /**
+     * Request to get an order asynchronously
+     *
+     * @param orderId:   identifier of order to cancel
+     * @param profileId: identifier of account where delete an order
+     * @return result of order cancellation as {@link CompletableFuture} of {@link String},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorder">
+     * Cancel an order</a>
+     */
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders/{order_id}")
+    public CompletableFuture<String> cancelOrderByProfileAsync(String orderId, String profileId) {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT + "/order_id=" + orderId + "?profile_id=" + profileId);
+    }
+
+    /**
+     * Request to get an order asynchronously
+     *
+     * @param orderId:   identifier of order to cancel
+     * @param productId: identifier of product from delete an order
+     * @return result of order cancellation as {@link CompletableFuture} of {@link String},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorder">
+     * Cancel an order</a>
+     */
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders/{order_id}")
+    public CompletableFuture<String> cancelOrderByProductAsync(String orderId, String productId) {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT + "/order_id=" + orderId + "?product_id=" + productId);
+    }
+
+    /**
+     * Request to cancel an order asynchronously
+     *
+     * @param orderId:   identifier of order to cancel
+     * @param profileId: identifier of account where delete an order
+     * @param productId: identifier of product from delete an order
+     * @return result of order cancellation as {@link CompletableFuture} of {@link String},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_deleteorder">
+     * Cancel an order</a>
+     */
+    @RequestPath(method = DELETE, path = "https://api.exchange.coinbase.com/orders/{order_id}")
+    public CompletableFuture<String> cancelOrderAsync(String orderId, String profileId, String productId) {
+        return sendDELETERequestAsync(ORDERS_ENDPOINT + "/order_id=" + orderId + "?profile_id=" + profileId + "&product_id=" + productId);
+    }
+
 }
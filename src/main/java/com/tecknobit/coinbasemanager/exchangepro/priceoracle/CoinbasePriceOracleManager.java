@@ -7,6 +7,8 @@ import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
 import com.tecknobit.coinbasemanager.exchangepro.priceoracle.records.PriceOracle;
 import org.json.JSONObject;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 
 /**
@@ -142,15 +144,59 @@ public class CoinbasePriceOracleManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/oracle")
     public <T> T getSignedPrices(ReturnFormat format) throws Exception {
-        String signedPricesResponse = sendGETRequest(PRICE_ORACLE_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(signedPricesResponse);
-            case LIBRARY_OBJECT:
-                return (T) new PriceOracle(new JSONObject(signedPricesResponse));
-            default:
-                return (T) signedPricesResponse;
-        }
+        return returnPriceOracle(sendGETRequest(PRICE_ORACLE_ENDPOINT), format);
+    }
+
+    /**
+     * Request to get signed prices asynchronously <br>
+     * No-any params required
+     *
+     * @return signed prices as {@link CompletableFuture} of {@link PriceOracle},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcoinbasepriceoracle">
+     * Get signed prices</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/oracle")
+    public CompletableFuture<PriceOracle> getSignedPricesAsync() {
+        return getSignedPricesAsync(ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get signed prices asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return signed prices as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getcoinbasepriceoracle">
+     * Get signed prices</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/oracle")
+    public <T> CompletableFuture<T> getSignedPricesAsync(ReturnFormat format) {
+        return sendGETRequestAsync(PRICE_ORACLE_ENDPOINT)
+                .thenApply(signedPricesResponse -> returnPriceOracle(signedPricesResponse, format));
+    }
+
+    /**
+     * Method to assemble a price oracle object
+     *
+     * @param signedPricesResponse: price oracle response to format
+     * @param format:               return type formatter -> {@link ReturnFormat}
+     * @return price oracle response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnPriceOracle(String signedPricesResponse, ReturnFormat format) {
+        return returnFormatted("CoinbasePriceOracleManager.returnPriceOracle", signedPricesResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(signedPricesResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new PriceOracle(new JSONObject(signedPricesResponse));
+                default:
+                    return (T) signedPricesResponse;
+            }
+        });
     }
 
 }
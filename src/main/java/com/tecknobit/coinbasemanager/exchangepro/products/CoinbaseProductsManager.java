@@ -8,11 +8,18 @@ import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
 import com.tecknobit.coinbasemanager.exchangepro.products.records.*;
 import com.tecknobit.coinbasemanager.exchangepro.products.records.Candle.Granularity;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequestException;
+import com.tecknobit.coinbasemanager.exchangepro.requests.FanOutExecutor;
+import com.tecknobit.coinbasemanager.exchangepro.requests.FanOutExecutor.KeyedRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.FanOutResult;
+import com.tecknobit.coinbasemanager.exchangepro.resilience.RejectedCallException;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.trading.TradingTools.computeTPTOPIndex;
@@ -59,6 +66,12 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      */
     public static final String GET_PRODUCT_TRADE_ENDPOINT = "/trades";
 
+    /**
+     * {@code fanOutExecutor} is instance used to execute the requests of the bulk methods, for each product, as
+     * {@link #getAllProductsBooks()}, {@link #getAllProductsStats()} and {@link #getAllTickers()}
+     */
+    private volatile FanOutExecutor fanOutExecutor = new FanOutExecutor(FanOutExecutor.SEQUENTIAL);
+
     /**
      * Constructor to init a {@link CoinbaseProductsManager}
      *
@@ -127,6 +140,75 @@ public class CoinbaseProductsManager extends CoinbaseManager {
         super();
     }
 
+    /**
+     * Method to set the max number of concurrent requests sent by the bulk methods, for each product, as
+     * {@link #getAllProductsBooks()}, {@link #getAllProductsStats()} and {@link #getAllTickers()}
+     *
+     * @param concurrency: max number of concurrent requests, {@link FanOutExecutor#SEQUENTIAL} to send them one after
+     *                     another as by default
+     * @throws IllegalArgumentException when the concurrency value is lower than one
+     * @implNote the results keep the same order of the products list also when the requests are concurrent
+     * @apiNote the concurrent requests are still paced by the {@link #getRateLimiter()}: with the default limits,
+     * {@link CoinbaseRateLimiter#DEFAULT_PUBLIC_RATE} requests per second after a burst of
+     * {@link CoinbaseRateLimiter#DEFAULT_PUBLIC_BURST}, a bulk request waits about a tenth of second for each product
+     * once the burst is spent, whatever the concurrency, so the speedup is capped by the public bucket of the limiter
+     */
+    public void setFanOutConcurrency(int concurrency) {
+        fanOutExecutor = new FanOutExecutor(concurrency);
+    }
+
+    /**
+     * Method to get the max number of concurrent requests sent by the bulk methods <br>
+     * No-any params required
+     *
+     * @return max number of concurrent requests sent by the bulk methods as int
+     */
+    public int getFanOutConcurrency() {
+        return fanOutExecutor.getConcurrency();
+    }
+
+    /**
+     * Method to execute a request for each trading pair
+     *
+     * @param request: request to execute for each trading pair
+     * @return results of the requests as {@link ArrayList} of {@link FanOutResult}, in the same order of the trading pairs
+     */
+    private <T> ArrayList<FanOutResult<T>> fanOutProducts(KeyedRequest<T> request) throws Exception {
+        JSONArray tradingPairs = getAllTradingPairs(JSON);
+        ArrayList<String> productIds = new ArrayList<>();
+        for (int j = 0; j < tradingPairs.length(); j++)
+            productIds.add(tradingPairs.getJSONObject(j).getString("id"));
+        return fanOutExecutor.execute(productIds, request);
+    }
+
+    /**
+     * Method to assemble the values of the successful results of a fan-out
+     *
+     * @param results: results of the fan-out
+     * @return values of the successful results as {@link ArrayList} of {@link T}
+     * @throws Exception when a request failed with an error different from an {@link IOException} or a
+     * {@link RejectedCallException}, or because the rate limits have been exceeded
+     * @implNote the products whose request failed with an {@link IOException} or has been rejected by the isolation
+     * of the endpoints are skipped, use the {@code "Results"} methods, as {@link #getAllProductsBooksResults()}, to
+     * get the error of each product
+     */
+    @Returner
+    private <T> ArrayList<T> returnFanOutValues(ArrayList<FanOutResult<T>> results) throws Exception {
+        ArrayList<T> values = new ArrayList<>();
+        for (FanOutResult<T> result : results) {
+            if (result.isSuccessful())
+                values.add(result.getValue());
+            else {
+                Exception error = result.getError();
+                boolean productFailure = error instanceof IOException || error instanceof RejectedCallException;
+                if (!productFailure || (error instanceof CoinbaseRequestException
+                        && ((CoinbaseRequestException) error).getStatusCode() == TOO_MANY_REQUESTS_STATUS_CODE))
+                    throw error;
+            }
+        }
+        return values;
+    }
+
     /**
      * Request to get all trading pairs <br>
      * No-any params required
@@ -239,18 +321,20 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnTradingPairsList(String tradingPairsResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(tradingPairsResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<TradingPair> tradingPairs = new ArrayList<>();
-                JSONArray jTradings = new JSONArray(tradingPairsResponse);
-                for (int j = 0; j < jTradings.length(); j++)
-                    tradingPairs.add(new TradingPair(jTradings.getJSONObject(j)));
-                return (T) tradingPairs;
-            default:
-                return (T) tradingPairsResponse;
-        }
+        return returnFormatted("CoinbaseProductsManager.returnTradingPairsList", tradingPairsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(tradingPairsResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<TradingPair> tradingPairs = new ArrayList<>();
+                    JSONArray jTradings = new JSONArray(tradingPairsResponse);
+                    for (int j = 0; j < jTradings.length(); j++)
+                        tradingPairs.add(new TradingPair(jTradings.getJSONObject(j)));
+                    return (T) tradingPairs;
+                default:
+                    return (T) tradingPairsResponse;
+            }
+        });
     }
 
     /**
@@ -300,18 +384,9 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproduct">
      * Get single product</a>
      */
-    @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}")
     public <T> T getSingleTradingPair(String productId, ReturnFormat format) throws Exception {
-        String tradingPairResponse = sendGETRequest(PRODUCTS_ENDPOINT + "/" + productId);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(tradingPairResponse);
-            case LIBRARY_OBJECT:
-                return (T) new TradingPair(new JSONObject(tradingPairResponse));
-            default:
-                return (T) tradingPairResponse;
-        }
+        return returnTradingPair(sendGETRequest(PRODUCTS_ENDPOINT + "/" + productId), format);
     }
 
     /**
@@ -422,6 +497,64 @@ public class CoinbaseProductsManager extends CoinbaseManager {
                 + "?level=" + level), format);
     }
 
+    /**
+     * Request to get book details with its levels in primitive arrays
+     *
+     * @param productId: identifier of book es. BTC-USD
+     * @param level:     type of format for result
+     * @return book details as {@link CompactBook} custom object
+     * @throws Exception when request has been go wrong -> you can use these methods to get more details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @implNote the book is parsed straight from the text of the response, prefer it to {@link Book} for the
+     * level-2 and level-3 books
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/book")
+    public CompactBook getCompactProductBook(String productId, int level) throws Exception {
+        return returnCompactBook(productId, sendGETRequest(PRODUCTS_ENDPOINT + "/" + productId
+                + GET_PRODUCT_BOOK_ENDPOINT + "?level=" + level));
+    }
+
+    /**
+     * Request to get book details with its levels in primitive arrays asynchronously
+     *
+     * @param productId: identifier of book es. BTC-USD
+     * @param level:     type of format for result
+     * @return book details as {@link CompletableFuture} of {@link CompactBook},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/book")
+    public CompletableFuture<CompactBook> getCompactProductBookAsync(String productId, int level) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_BOOK_ENDPOINT + "?level=" + level)
+                .thenApply(bookResponse -> returnCompactBook(productId, bookResponse));
+    }
+
+    /**
+     * Method to assemble a compact book object
+     *
+     * @param productId:    identifier of book es. BTC-USD
+     * @param bookResponse: book response to format
+     * @return book response as {@link CompactBook}
+     */
+    @Returner
+    private CompactBook returnCompactBook(String productId, String bookResponse) {
+        return returnFormatted("CoinbaseProductsManager.returnCompactBook", bookResponse, ReturnFormat.LIBRARY_OBJECT,
+                () -> CompactBook.parse(productId, bookResponse));
+    }
+
     /**
      * Method to assemble a book object
      *
@@ -432,14 +565,16 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnBook(String productId, String bookResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(bookResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Book(new JSONObject(bookResponse).put("productId", productId));
-            default:
-                return (T) bookResponse;
-        }
+        return returnFormatted("CoinbaseProductsManager.returnBook", bookResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(bookResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Book(new JSONObject(bookResponse).put("productId", productId));
+                default:
+                    return (T) bookResponse;
+            }
+        });
     }
 
     /**
@@ -552,30 +687,71 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnAllBooks(int level, ReturnFormat format) throws Exception {
-        JSONArray tradingPairs = getAllTradingPairs(JSON);
+        ArrayList<Book> books = returnFanOutValues(getAllProductsBooksResults(level));
+        if (format == ReturnFormat.LIBRARY_OBJECT)
+            return (T) books;
         JSONArray jBooks = new JSONArray();
-        boolean insertLevel = level != -1;
-        for (int j = 0; j < tradingPairs.length(); j++) {
-            String productId = tradingPairs.getJSONObject(j).getString("id");
-            try {
-                if (insertLevel)
-                    jBooks.put(getProductBook(productId, level));
-                else
-                    jBooks.put(getProductBook(productId));
-            } catch (IOException ignore) {
-            }
-        }
-        switch (format) {
-            case JSON:
-                return (T) jBooks;
-            case LIBRARY_OBJECT:
-                ArrayList<Book> books = new ArrayList<>();
-                for (int j = 0; j < jBooks.length(); j++)
-                    books.add(new Book(jBooks.getJSONObject(j)));
-                return (T) books;
-            default:
-                return (T) jBooks.toString();
-        }
+        for (Book book : books)
+            jBooks.put(book);
+        if (format == JSON)
+            return (T) jBooks;
+        return (T) jBooks.toString();
+    }
+
+    /**
+     * Custom request to get all products book details, reporting the result of each product <br>
+     * No-any params required
+     *
+     * @return all products book details as {@link ArrayList} of {@link FanOutResult} of {@link Book}, in the same
+     * order of the trading pairs
+     * @throws Exception when the trading pairs request has been go wrong -> you can use these methods to get more
+     *                   details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @WrappedRequest
+    public ArrayList<FanOutResult<Book>> getAllProductsBooksResults() throws Exception {
+        return getAllProductsBooksResults(-1);
+    }
+
+    /**
+     * Custom request to get all products book details, reporting the result of each product
+     *
+     * @param level: type of format for result
+     * @return all products book details as {@link ArrayList} of {@link FanOutResult} of {@link Book}, in the same
+     * order of the trading pairs
+     * @throws Exception when the trading pairs request has been go wrong -> you can use these methods to get more
+     *                   details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @WrappedRequest
+    public ArrayList<FanOutResult<Book>> getAllProductsBooksResults(int level) throws Exception {
+        if (level != -1)
+            return fanOutProducts(productId -> getProductBook(productId, level));
+        return fanOutProducts(this::getProductBook);
     }
 
     /**
@@ -716,18 +892,20 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnCandlesList(String candlesListResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(candlesListResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Candle> candles = new ArrayList<>();
-                JSONArray jCandles = new JSONArray(candlesListResponse);
-                for (int j = 0; j < jCandles.length(); j++)
-                    candles.add(new Candle(jCandles.getJSONArray(j)));
-                return (T) candles;
-            default:
-                return (T) candlesListResponse;
-        }
+        return returnFormatted("CoinbaseProductsManager.returnCandlesList", candlesListResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(candlesListResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Candle> candles = new ArrayList<>();
+                    JSONArray jCandles = new JSONArray(candlesListResponse);
+                    for (int j = 0; j < jCandles.length(); j++)
+                        candles.add(new Candle(jCandles.getJSONArray(j)));
+                    return (T) candles;
+                default:
+                    return (T) candlesListResponse;
+            }
+        });
     }
 
     /**
@@ -777,19 +955,10 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductstats">
      * Get product stats</a>
      */
-    @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/stats")
     public <T> T getProductStats(String productId, ReturnFormat format) throws Exception {
-        String productResponse = sendGETRequest(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_STAT_ENDPOINT
-        );
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(productResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Stat(new JSONObject(productResponse).put("productId", productId));
-            default:
-                return (T) productResponse;
-        }
+        return returnStat(productId, sendGETRequest(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_STAT_ENDPOINT),
+                format);
     }
 
     /**
@@ -840,27 +1009,45 @@ public class CoinbaseProductsManager extends CoinbaseManager {
     @Returner
     @WrappedRequest
     public <T> T getAllProductsStats(ReturnFormat format) throws Exception {
-        JSONArray tradingPairs = getAllTradingPairs(JSON);
+        ArrayList<Stat> stats = returnFanOutValues(getAllProductsStatsResults());
+        if (format == ReturnFormat.LIBRARY_OBJECT)
+            return (T) stats;
         JSONArray jStats = new JSONArray();
-        for (int j = 0; j < tradingPairs.length(); j++) {
-            try {
-                jStats.put(getProductStats(tradingPairs.getJSONObject(j).getString("id")));
-            } catch (IOException ignore) {
-            }
-        }
-        switch (format) {
-            case JSON:
-                return (T) jStats;
-            case LIBRARY_OBJECT:
-                ArrayList<Stat> stats = new ArrayList<>();
-                for (int j = 0; j < jStats.length(); j++)
-                    stats.add(new Stat(jStats.getJSONObject(j)));
-                return (T) stats;
-            default:
-                return (T) jStats.toString();
-        }
+        for (Stat stat : stats)
+            jStats.put(stat);
+        if (format == JSON)
+            return (T) jStats;
+        return (T) jStats.toString();
+    }
+
+    /**
+     * Custom request to get all products stats, reporting the result of each product <br>
+     * No-any params required
+     *
+     * @return all products stats as {@link ArrayList} of {@link FanOutResult} of {@link Stat}, in the same
+     * order of the trading pairs
+     * @throws Exception when the trading pairs request has been go wrong -> you can use these methods to get more
+     *                   details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductstats">
+     * Get product stats</a>
+     */
+    @WrappedRequest
+    public ArrayList<FanOutResult<Stat>> getAllProductsStatsResults() throws Exception {
+        return fanOutProducts(this::getProductStats);
     }
 
+
     /**
      * Request to get product ticker
      *
@@ -912,36 +1099,10 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductticker">
      * Get product ticker</a>
      */
-    @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/ticker")
     public <T> T getProductTicker(String productId, ReturnFormat format) throws Exception {
-        JSONObject ticker = new JSONObject(sendGETRequest(PRODUCTS_ENDPOINT + "/" + productId +
-                GET_PRODUCT_TICKER_ENDPOINT));
-        ticker.put("productId", productId);
-        String[] details = productId.split("-");
-        ticker.put("baseAsset", details[0]);
-        ticker.put("quoteAsset", details[1]);
-        ticker.put("priceChangePercent", getPriceChangePercent(productId, ticker.getDouble("price")));
-        switch (format) {
-            case JSON:
-                return (T) ticker;
-            case LIBRARY_OBJECT:
-                return (T) new Ticker(ticker);
-            default:
-                return (T) ticker.toString();
-        }
-    }
-
-    /**
-     * Method to get price change percent
-     *
-     * @param productId: product identifier value
-     * @param price:     price value for product
-     * @return price change percent as double
-     */
-    private double getPriceChangePercent(String productId, double price) throws Exception {
-        JSONArray candles = getProductCandles(productId, JSON);
-        return getTrendPercent(new Candle(candles.getJSONArray(candles.length() - 1)).getClose(), price);
+        String tickerResponse = sendGETRequest(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_TICKER_ENDPOINT);
+        return returnTicker(productId, tickerResponse, getProductCandles(productId, JSON), format);
     }
 
     /**
@@ -992,27 +1153,45 @@ public class CoinbaseProductsManager extends CoinbaseManager {
     @Returner
     @WrappedRequest
     public <T> T getAllTickers(ReturnFormat format) throws Exception {
-        JSONArray tradingPairs = getAllTradingPairs(JSON);
+        ArrayList<Ticker> tickers = returnFanOutValues(getAllTickersResults());
+        if (format == ReturnFormat.LIBRARY_OBJECT)
+            return (T) tickers;
         JSONArray jTickers = new JSONArray();
-        for (int j = 0; j < tradingPairs.length(); j++) {
-            try {
-                jTickers.put(getProductTicker(tradingPairs.getJSONObject(j).getString("id")));
-            } catch (IOException ignored) {
-            }
-        }
-        switch (format) {
-            case JSON:
-                return (T) jTickers;
-            case LIBRARY_OBJECT:
-                ArrayList<Ticker> tickers = new ArrayList<>();
-                for (int j = 0; j < jTickers.length(); j++)
-                    tickers.add(new Ticker(jTickers.getJSONObject(j)));
-                return (T) tickers;
-            default:
-                return (T) jTickers.toString();
-        }
+        for (Ticker ticker : tickers)
+            jTickers.put(ticker);
+        if (format == JSON)
+            return (T) jTickers;
+        return (T) jTickers.toString();
+    }
+
+    /**
+     * Custom request to get all products tickers, reporting the result of each product <br>
+     * No-any params required
+     *
+     * @return all products tickers as {@link ArrayList} of {@link FanOutResult} of {@link Ticker}, in the same
+     * order of the trading pairs
+     * @throws Exception when the trading pairs request has been go wrong -> you can use these methods to get more
+     *                   details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductticker">
+     * Get product ticker</a>
+     */
+    @WrappedRequest
+    public ArrayList<FanOutResult<Ticker>> getAllTickersResults() throws Exception {
+        return fanOutProducts(this::getProductTicker);
     }
 
+
     /**
      * Request to get product trades
      *
@@ -1152,18 +1331,20 @@ public class CoinbaseProductsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnTradesList(String tradesResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(tradesResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Trade> trades = new ArrayList<>();
-                JSONArray jTrades = new JSONArray(tradesResponse);
-                for (int j = 0; j < jTrades.length(); j++)
-                    trades.add(new Trade(jTrades.getJSONObject(j)));
-                return (T) trades;
-            default:
-                return (T) tradesResponse;
-        }
+        return returnFormatted("CoinbaseProductsManager.returnTradesList", tradesResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(tradesResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Trade> trades = new ArrayList<>();
+                    JSONArray jTrades = new JSONArray(tradesResponse);
+                    for (int j = 0; j < jTrades.length(); j++)
+                        trades.add(new Trade(jTrades.getJSONObject(j)));
+                    return (T) trades;
+                default:
+                    return (T) tradesResponse;
+            }
+        });
     }
 
     /**
@@ -1225,4 +1406,489 @@ public class CoinbaseProductsManager extends CoinbaseManager {
         return computeTPTOPIndex(historicalValues, getProductStats(productId).getLast(), intervalDays, toleranceValue);
     }
 
+    /**
+     * Request to get all trading pairs list asynchronously
+     *
+     * @return all trading pairs list as {@link CompletableFuture} of {@link ArrayList} of {@link TradingPair},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducts">
+     * Get all known trading pairs</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products")
+    public CompletableFuture<ArrayList<TradingPair>> getAllTradingPairsAsync() {
+        return getAllTradingPairsAsync(ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all trading pairs list asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return all trading pairs list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducts">
+     * Get all known trading pairs</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products")
+    public <T> CompletableFuture<T> getAllTradingPairsAsync(ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT).thenApply(tradingPairsResponse ->
+                returnTradingPairsList(tradingPairsResponse, format));
+    }
+
+    /**
+     * Request to get all trading pairs asynchronously
+     *
+     * @param type: type of trading pairs to fetch details
+     * @return all trading pairs as {@link CompletableFuture} of {@link ArrayList} of {@link TradingPair},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducts">
+     * https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducts-1</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products")
+    public CompletableFuture<ArrayList<TradingPair>> getAllTradingPairsAsync(String type) {
+        return getAllTradingPairsAsync(type, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all trading pairs asynchronously
+     *
+     * @param type:   type of trading pairs to fetch details
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return all trading pairs as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducts">
+     * https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducts-1</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products")
+    public <T> CompletableFuture<T> getAllTradingPairsAsync(String type, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "?type=" + type)
+                .thenApply(tradingPairsResponse -> returnTradingPairsList(tradingPairsResponse, format));
+    }
+
+    /**
+     * Request to get single trading pair asynchronously
+     *
+     * @param productId: identifier of trading pair es. BTC-USD
+     * @return single trading pair as {@link CompletableFuture} of {@link TradingPair},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproduct">
+     * Get single product</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}")
+    public CompletableFuture<TradingPair> getSingleTradingPairAsync(String productId) {
+        return getSingleTradingPairAsync(productId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get single trading pair asynchronously
+     *
+     * @param productId: identifier of trading pair es. BTC-USD
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return single trading pair as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproduct">
+     * Get single product</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}")
+    public <T> CompletableFuture<T> getSingleTradingPairAsync(String productId, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId).thenApply(tradingPairResponse ->
+                returnTradingPair(tradingPairResponse, format));
+    }
+
+    /**
+     * Method to assemble a trading pair object
+     *
+     * @param tradingPairResponse: trading pair response to format
+     * @param format:              return type formatter -> {@link ReturnFormat}
+     * @return trading pair response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnTradingPair(String tradingPairResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseProductsManager.returnTradingPair", tradingPairResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(tradingPairResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new TradingPair(new JSONObject(tradingPairResponse));
+                default:
+                    return (T) tradingPairResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get book details asynchronously
+     *
+     * @param productId: identifier of book es. BTC-USD
+     * @return book details as {@link CompletableFuture} of {@link Book},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/book")
+    public CompletableFuture<Book> getProductBookAsync(String productId) {
+        return getProductBookAsync(productId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get book details asynchronously
+     *
+     * @param productId: identifier of book es. BTC-USD
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return book details as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/book")
+    public <T> CompletableFuture<T> getProductBookAsync(String productId, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_BOOK_ENDPOINT)
+                .thenApply(bookResponse -> returnBook(productId, bookResponse, format));
+    }
+
+    /**
+     * Request to get book details asynchronously
+     *
+     * @param productId: identifier of book es. BTC-USD
+     * @param level:     type of format for result
+     * @return book details as {@link CompletableFuture} of {@link Book},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/book")
+    public CompletableFuture<Book> getProductBookAsync(String productId, int level) {
+        return getProductBookAsync(productId, level, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get book details asynchronously
+     *
+     * @param productId: identifier of book es. BTC-USD
+     * @param level:     type of format for result
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return book details as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+     * Get product book</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/book")
+    public <T> CompletableFuture<T> getProductBookAsync(String productId, int level, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_BOOK_ENDPOINT + "?level=" + level)
+                .thenApply(bookResponse -> returnBook(productId, bookResponse, format));
+    }
+
+    /**
+     * Request to get candles list asynchronously
+     *
+     * @param productId: identifier of candle es. BTC-USD
+     * @return candles list as {@link CompletableFuture} of {@link ArrayList} of {@link Candle},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductcandles">
+     * Get product candles</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/candles")
+    public CompletableFuture<ArrayList<Candle>> getProductCandlesAsync(String productId) {
+        return getProductCandlesAsync(productId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get candles list asynchronously
+     *
+     * @param productId: identifier of candle es. BTC-USD
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return candles list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductcandles">
+     * Get product candles</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/candles")
+    public <T> CompletableFuture<T> getProductCandlesAsync(String productId, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_CANDLE_ENDPOINT)
+                .thenApply(candlesListResponse -> returnCandlesList(candlesListResponse, format));
+    }
+
+    /**
+     * Request to get candles list asynchronously
+     *
+     * @param productId:   identifier of candle es. BTC-USD
+     * @param queryParams: extra query params of request, keys accepted are:
+     *                              {@code "granularity"} -> granularity value, constant available: {@link Granularity} - [string]
+     *                              {@code "start"} -> timestamp for starting range of aggregations - [long]
+     *                              {@code "end"} -> timestamp for ending range of aggregations - [long]
+     * @return candles list as {@link CompletableFuture} of {@link ArrayList} of {@link Candle},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductcandles">
+     * Get product candles</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/candles")
+    public CompletableFuture<ArrayList<Candle>> getProductCandlesAsync(String productId, Params queryParams) {
+        return getProductCandlesAsync(productId, queryParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get candles list asynchronously
+     *
+     * @param productId:   identifier of candle es. BTC-USD
+     * @param queryParams: extra query params of request, keys accepted are:
+     *                              {@code "granularity"} -> granularity value, constant available: {@link Granularity} - [string]
+     *                              {@code "start"} -> timestamp for starting range of aggregations - [long]
+     *                              {@code "end"} -> timestamp for ending range of aggregations - [long]
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return candles list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductcandles">
+     * Get product candles</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/candles")
+    public <T> CompletableFuture<T> getProductCandlesAsync(String productId, Params queryParams, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_CANDLE_ENDPOINT, queryParams)
+                .thenApply(candlesListResponse -> returnCandlesList(candlesListResponse, format));
+    }
+
+    /**
+     * Request to get product stats asynchronously
+     *
+     * @param productId: identifier of product stats es. BTC-USD
+     * @return product stats as {@link CompletableFuture} of {@link Stat},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductstats">
+     * Get product stats</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/stats")
+    public CompletableFuture<Stat> getProductStatsAsync(String productId) {
+        return getProductStatsAsync(productId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get product stats asynchronously
+     *
+     * @param productId: identifier of product stats es. BTC-USD
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return product stats as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductstats">
+     * Get product stats</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/stats")
+    public <T> CompletableFuture<T> getProductStatsAsync(String productId, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_STAT_ENDPOINT)
+                .thenApply(productResponse -> returnStat(productId, productResponse, format));
+    }
+
+    /**
+     * Method to assemble a stat object
+     *
+     * @param productId:       identifier of product stats es. BTC-USD
+     * @param productResponse: product stats response to format
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return product stats response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnStat(String productId, String productResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseProductsManager.returnStat", productResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(productResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Stat(new JSONObject(productResponse).put("productId", productId));
+                default:
+                    return (T) productResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get product ticker asynchronously
+     *
+     * @param productId: identifier of product ticker es. BTC-USD
+     * @return product ticker as {@link CompletableFuture} of {@link Ticker},
+     * completed exceptionally when request has been go wrong
+     * @implNote the ticker and the candles used to compute the price change percent are requested concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductticker">
+     * Get product ticker</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/ticker")
+    public CompletableFuture<Ticker> getProductTickerAsync(String productId) {
+        return getProductTickerAsync(productId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get product ticker asynchronously
+     *
+     * @param productId: identifier of product ticker es. BTC-USD
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return product ticker as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @implNote the ticker and the candles used to compute the price change percent are requested concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductticker">
+     * Get product ticker</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/ticker")
+    public <T> CompletableFuture<T> getProductTickerAsync(String productId, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_TICKER_ENDPOINT)
+                .thenCombine(this.<JSONArray>getProductCandlesAsync(productId, JSON), (tickerResponse, candles) ->
+                        returnTicker(productId, tickerResponse, candles, format));
+    }
+
+    /**
+     * Method to assemble a ticker object
+     *
+     * @param productId:      identifier of product ticker es. BTC-USD
+     * @param tickerResponse: ticker response to format
+     * @param candles:        candles of the product used to compute the price change percent
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return ticker response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnTicker(String productId, String tickerResponse, JSONArray candles, ReturnFormat format) {
+        JSONObject ticker = new JSONObject(tickerResponse);
+        ticker.put("productId", productId);
+        String[] details = productId.split("-");
+        ticker.put("baseAsset", details[0]);
+        ticker.put("quoteAsset", details[1]);
+        ticker.put("priceChangePercent", getPriceChangePercent(candles, ticker.getDouble("price")));
+        return returnFormatted("CoinbaseProductsManager.returnTicker", tickerResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) ticker;
+                case LIBRARY_OBJECT:
+                    return (T) new Ticker(ticker);
+                default:
+                    return (T) ticker.toString();
+            }
+        });
+    }
+
+    /**
+     * Method to get price change percent
+     *
+     * @param candles: candles of the product
+     * @param price:   price value for product
+     * @return price change percent as double
+     */
+    private double getPriceChangePercent(JSONArray candles, double price) {
+        return getTrendPercent(new Candle(candles.getJSONArray(candles.length() - 1)).getClose(), price);
+    }
+
+    /**
+     * Request to get product trades list asynchronously
+     *
+     * @param productId: identifier of product trades es. BTC-USD
+     * @return product trades list as {@link CompletableFuture} of {@link ArrayList} of {@link Trade},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducttrades">
+     * Get product trades</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/trades")
+    public CompletableFuture<ArrayList<Trade>> getProductTradesAsync(String productId) {
+        return getProductTradesAsync(productId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get product trades list asynchronously
+     *
+     * @param productId: identifier of product trades es. BTC-USD
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return product trades list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducttrades">
+     * Get product trades</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/trades")
+    public <T> CompletableFuture<T> getProductTradesAsync(String productId, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_TRADE_ENDPOINT)
+                .thenApply(tradesResponse -> returnTradesList(tradesResponse, format));
+    }
+
+    /**
+     * Request to get product trades list asynchronously
+     *
+     * @param productId:   identifier of product trades es. BTC-USD
+     * @param queryParams: extra query params of request, keys accepted are:
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     * @return product trades list as {@link CompletableFuture} of {@link ArrayList} of {@link Trade},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducttrades">
+     * Get product trades</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/trades")
+    public CompletableFuture<ArrayList<Trade>> getProductTradesAsync(String productId, Params queryParams) {
+        return getProductTradesAsync(productId, queryParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get product trades list asynchronously
+     *
+     * @param productId:   identifier of product trades es. BTC-USD
+     * @param queryParams: extra query params of request, keys accepted are:
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return product trades list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproducttrades">
+     * Get product trades</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/products/{product_id}/trades")
+    public <T> CompletableFuture<T> getProductTradesAsync(String productId, Params queryParams, ReturnFormat format) {
+        return sendGETRequestAsync(PRODUCTS_ENDPOINT + "/" + productId + GET_PRODUCT_TRADE_ENDPOINT, queryParams)
+                .thenApply(tradesResponse -> returnTradesList(tradesResponse, format));
+    }
+
+    /**
+     * Method to get forecast of a cryptocurrency in base of days's gap inserted asynchronously
+     *
+     * @param productId:      productId to calculate forecast es. BTC-USD
+     * @param intervalDays:   days gap for the prevision range
+     * @param granularity:    interval for candles
+     * @param toleranceValue: tolerance for select similar value compared to lastValue inserted
+     * @param decimalDigits:  number of digits to round final forecast value
+     * @return forecast value as {@link CompletableFuture} of {@link Double} es. 8 or -8,
+     * completed exceptionally when request has been go wrong
+     */
+    @Wrapper
+    public CompletableFuture<Double> getSymbolForecastAsync(String productId, int intervalDays, Granularity granularity,
+                                                            double toleranceValue, int decimalDigits) {
+        return getSymbolForecastAsync(productId, intervalDays, granularity, toleranceValue)
+                .thenApply(forecast -> roundValue(forecast, decimalDigits));
+    }
+
+    /**
+     * Method to get forecast of a cryptocurrency in base of days's gap inserted asynchronously
+     *
+     * @param productId:      productId to calculate forecast es. BTC-USD
+     * @param intervalDays:   days gap for the prevision range
+     * @param granularity:    interval for candles
+     * @param toleranceValue: tolerance for select similar value compared to lastValue inserted
+     * @return forecast value as {@link CompletableFuture} of {@link Double} es. 8 or -8,
+     * completed exceptionally when request has been go wrong
+     * @implNote the candles and the stats of the product are requested concurrently
+     */
+    public CompletableFuture<Double> getSymbolForecastAsync(String productId, int intervalDays, Granularity granularity,
+                                                            double toleranceValue) {
+        Params intervalMap = new Params();
+        intervalMap.addParam("granularity", granularity);
+        return getProductCandlesAsync(productId, intervalMap).thenCombine(getProductStatsAsync(productId),
+                (candles, stats) -> {
+                    ArrayList<Double> historicalValues = new ArrayList<>();
+                    for (Candle candle : candles)
+                        historicalValues.add(candle.getHigh());
+                    return computeTPTOPIndex(historicalValues, stats.getLast(), intervalDays, toleranceValue);
+                });
+    }
+
 }
@@ -0,0 +1,251 @@
+package com.tecknobit.coinbasemanager.exchangepro.products.records;
+
+import org.json.JSONArray;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BookLevels} class is useful to format the levels of a side of a {@link CompactBook} in parallel primitive
+ * arrays, from the best level to the worst one
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the number of orders of each level is memorized for the level-1 and level-2 books and the identifier of
+ * each order for the level-3 books, where each level is a single order
+ */
+public class BookLevels {
+
+    /**
+     * {@code NO_ORDERS} is constant for the number of orders of a level when it is not known
+     */
+    public static final long NO_ORDERS = -1;
+
+    /**
+     * {@code INITIAL_CAPACITY} is constant for the initial number of levels memorized without growing the arrays
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * {@code prices} is instance that memorizes the price of each level
+     */
+    private double[] prices;
+
+    /**
+     * {@code sizes} is instance that memorizes the size of each level
+     */
+    private double[] sizes;
+
+    /**
+     * {@code orders} is instance that memorizes the number of orders of each level
+     */
+    private long[] orders;
+
+    /**
+     * {@code orderIds} is instance that memorizes the identifier of the order of each level, {@code null} if the book
+     * is not a level-3 book
+     */
+    private String[] orderIds;
+
+    /**
+     * {@code count} is instance that memorizes the number of the levels
+     */
+    private int count;
+
+    /**
+     * Constructor to init a {@link BookLevels} custom object
+     *
+     * @param prices:   price of each level
+     * @param sizes:    size of each level
+     * @param orders:   number of orders of each level, {@code null} if not known
+     * @param orderIds: identifier of the order of each level, {@code null} if the book is not a level-3 book
+     */
+    public BookLevels(double[] prices, double[] sizes, long[] orders, String[] orderIds) {
+        if (prices.length != sizes.length || (orders != null && orders.length != prices.length)
+                || (orderIds != null && orderIds.length != prices.length)) {
+            throw new IllegalArgumentException("The levels must have the same length");
+        }
+        this.prices = prices;
+        this.sizes = sizes;
+        this.orders = orders;
+        this.orderIds = orderIds;
+        count = prices.length;
+    }
+
+    /**
+     * Constructor to init an empty {@link BookLevels} custom object to fill with {@link #add(double, double, long)} or
+     * {@link #add(double, double, String)} <br>
+     * No-any params required
+     */
+    BookLevels() {
+        prices = new double[INITIAL_CAPACITY];
+        sizes = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Method to add a level with its number of orders
+     *
+     * @param price:  price of the level
+     * @param size:   size of the level
+     * @param orders: number of orders of the level, {@link #NO_ORDERS} if not known
+     */
+    void add(double price, double size, long orders) {
+        ensureCapacity();
+        if (this.orders == null && orders != NO_ORDERS) {
+            this.orders = new long[prices.length];
+            Arrays.fill(this.orders, 0, count, NO_ORDERS);
+        }
+        if (this.orders != null)
+            this.orders[count] = orders;
+        prices[count] = price;
+        sizes[count++] = size;
+    }
+
+    /**
+     * Method to add a level of a level-3 book
+     *
+     * @param price:   price of the level
+     * @param size:    size of the level
+     * @param orderId: identifier of the order of the level
+     */
+    void add(double price, double size, String orderId) {
+        ensureCapacity();
+        if (orderIds == null)
+            orderIds = new String[prices.length];
+        orderIds[count] = orderId;
+        prices[count] = price;
+        sizes[count++] = size;
+    }
+
+    /**
+     * Method to grow the arrays when they are full <br>
+     * No-any params required
+     */
+    private void ensureCapacity() {
+        if (count < prices.length)
+            return;
+        int capacity = Math.max(INITIAL_CAPACITY, count * 2);
+        prices = Arrays.copyOf(prices, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        if (orders != null)
+            orders = Arrays.copyOf(orders, capacity);
+        if (orderIds != null)
+            orderIds = Arrays.copyOf(orderIds, capacity);
+    }
+
+    /**
+     * Method to get the number of the levels <br>
+     * No-any params required
+     *
+     * @return number of the levels as int
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Method to get the price of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    public double getPrice(int level) {
+        return prices[checkLevel(level)];
+    }
+
+    /**
+     * Method to get the size of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    public double getSize(int level) {
+        return sizes[checkLevel(level)];
+    }
+
+    /**
+     * Method to get the number of orders of a level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return number of orders of the level as long, {@link #NO_ORDERS} if not known
+     */
+    public long getOrders(int level) {
+        checkLevel(level);
+        return orders != null ? orders[level] : NO_ORDERS;
+    }
+
+    /**
+     * Method to get the identifier of the order of a level of a level-3 book
+     *
+     * @param level: level from the best one, zero is the best
+     * @return identifier of the order as {@link String}, {@code null} if the book is not a level-3 book
+     */
+    public String getOrderId(int level) {
+        checkLevel(level);
+        return orderIds != null ? orderIds[level] : null;
+    }
+
+    /**
+     * Method to get whether the levels are the orders of a level-3 book <br>
+     * No-any params required
+     *
+     * @return whether the levels are the orders of a level-3 book as boolean
+     */
+    public boolean hasOrderIds() {
+        return orderIds != null;
+    }
+
+    /**
+     * Method to get the total size of the levels <br>
+     * No-any params required
+     *
+     * @return total size of the levels as double
+     */
+    public double getTotalSize() {
+        double totalSize = 0;
+        for (int j = 0; j < count; j++)
+            totalSize += sizes[j];
+        return totalSize;
+    }
+
+    /**
+     * Method to check a level
+     *
+     * @param level: level to check
+     * @return the level checked as int
+     */
+    private int checkLevel(int level) {
+        if (level < 0 || level >= count)
+            throw new IndexOutOfBoundsException("Level " + level + " out of " + count + " levels");
+        return level;
+    }
+
+    /**
+     * Method to assemble the levels with the same shape of the {@code "/products/{product_id}/book"} endpoint <br>
+     * No-any params required
+     *
+     * @return levels as {@link JSONArray}
+     */
+    JSONArray toJSONArray() {
+        JSONArray levels = new JSONArray();
+        for (int j = 0; j < count; j++) {
+            JSONArray level = new JSONArray().put(prices[j]).put(sizes[j]);
+            if (orderIds != null)
+                level.put(orderIds[j]);
+            else if (orders != null)
+                level.put(orders[j]);
+            levels.put(level);
+        }
+        return levels;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toJSONArray().toString();
+    }
+
+}
@@ -0,0 +1,681 @@
+package com.tecknobit.coinbasemanager.exchangepro.products.records;
+
+import com.tecknobit.coinbasemanager.exchangepro.analytics.BookDepth;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+
+/**
+ * The {@code CompactBook} class is useful to format a Book object with its levels in parallel primitive arrays, parsed
+ * straight from the text of the response
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote unlike {@link Book}, which memorizes each value of the levels as a {@link Double} in a single flattened
+ * list, the levels are memorized by {@link BookLevels} and the text is scanned once without creating the intermediate
+ * {@link JSONObject}, so a deep level-2 or level-3 book is parsed with a few arrays instead of tens of thousands of
+ * objects
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getproductbook">
+ * Get product book</a>
+ */
+public class CompactBook implements BookDepth {
+
+    /**
+     * {@code productId} is instance that memorizes product identifier value
+     */
+    private final String productId;
+
+    /**
+     * {@code sequence} is instance that memorizes sequence value, -1 if not known
+     */
+    private final long sequence;
+
+    /**
+     * {@code auctionMode} is flag that checks if book is in auction mode
+     */
+    private final boolean auctionMode;
+
+    /**
+     * {@code auction} is instance that memorizes auction value
+     */
+    private final String auction;
+
+    /**
+     * {@code time} is instance that memorizes time of the book
+     */
+    private final String time;
+
+    /**
+     * {@code asks} is instance that memorizes the asks levels
+     */
+    private final BookLevels asks;
+
+    /**
+     * {@code bids} is instance that memorizes the bids levels
+     */
+    private final BookLevels bids;
+
+    /**
+     * Constructor to init a {@link CompactBook} custom object
+     *
+     * @param productId:   book identifier value
+     * @param sequence:    sequence value, -1 if not known
+     * @param auctionMode: flag that checks if book is in auction mode
+     * @param auction:     auction value
+     * @param time:        time of the book
+     * @param asks:        asks levels
+     * @param bids:        bids levels
+     */
+    public CompactBook(String productId, long sequence, boolean auctionMode, String auction, String time,
+                       BookLevels asks, BookLevels bids) {
+        this.productId = productId;
+        this.sequence = sequence;
+        this.auctionMode = auctionMode;
+        this.auction = auction;
+        this.time = time;
+        this.asks = asks;
+        this.bids = bids;
+    }
+
+    /**
+     * Method to parse a book from the text of the response
+     *
+     * @param productId: book identifier value, {@code null} to read it from the {@code "product_id"} of the text
+     * @param book:      text of the book, as returned by the {@code "/products/{product_id}/book"} endpoint or sent
+     *                   by the feed as {@code "snapshot"}
+     * @return book as {@link CompactBook}
+     * @throws JSONException when the text is not a valid book
+     */
+    public static CompactBook parse(String productId, String book) {
+        return new BookParser(book).parse(productId);
+    }
+
+    /**
+     * Method to get {@link #productId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #productId} instance as {@link String}
+     */
+    public String getProductId() {
+        return productId;
+    }
+
+    /**
+     * Method to get {@link #sequence} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sequence} instance as long
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Method to get {@link #auctionMode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #auctionMode} instance as boolean
+     */
+    public boolean isAuctionMode() {
+        return auctionMode;
+    }
+
+    /**
+     * Method to get {@link #auction} instance <br>
+     * No-any params required
+     *
+     * @return {@link #auction} instance as {@link String}
+     */
+    public String getAuction() {
+        return auction;
+    }
+
+    /**
+     * Method to get {@link #time} instance <br>
+     * No-any params required
+     *
+     * @return {@link #time} instance as {@link String}
+     */
+    public String getTime() {
+        return time;
+    }
+
+    /**
+     * Method to get {@link #asks} instance <br>
+     * No-any params required
+     *
+     * @return {@link #asks} instance as {@link BookLevels}
+     */
+    public BookLevels getAsks() {
+        return asks;
+    }
+
+    /**
+     * Method to get {@link #bids} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bids} instance as {@link BookLevels}
+     */
+    public BookLevels getBids() {
+        return bids;
+    }
+
+    /**
+     * Method to get the number of the bids levels <br>
+     * No-any params required
+     *
+     * @return number of the bids levels as int
+     */
+    @Override
+    public int getBidLevels() {
+        return bids.size();
+    }
+
+    /**
+     * Method to get the price of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    @Override
+    public double getBidPrice(int level) {
+        return bids.getPrice(level);
+    }
+
+    /**
+     * Method to get the size of a bids level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    @Override
+    public double getBidSize(int level) {
+        return bids.getSize(level);
+    }
+
+    /**
+     * Method to get the number of the asks levels <br>
+     * No-any params required
+     *
+     * @return number of the asks levels as int
+     */
+    @Override
+    public int getAskLevels() {
+        return asks.size();
+    }
+
+    /**
+     * Method to get the price of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return price of the level as double
+     */
+    @Override
+    public double getAskPrice(int level) {
+        return asks.getPrice(level);
+    }
+
+    /**
+     * Method to get the size of an asks level
+     *
+     * @param level: level from the best one, zero is the best
+     * @return size of the level as double
+     */
+    @Override
+    public double getAskSize(int level) {
+        return asks.getSize(level);
+    }
+
+    /**
+     * Method to convert the book in a {@link Book} <br>
+     * No-any params required
+     *
+     * @return book as {@link Book}, its lists are flattened as price, size and number of orders of each level, or as
+     * price and size of each order for the level-3 books
+     */
+    public Book toBook() {
+        return new Book(productId, sequence, auctionMode, auction, flatten(asks), flatten(bids));
+    }
+
+    /**
+     * Method to flatten the levels as done by {@link Book}
+     *
+     * @param levels: levels to flatten
+     * @return levels flattened as {@link ArrayList} of {@link Double}
+     */
+    private static ArrayList<Double> flatten(BookLevels levels) {
+        boolean orders = !levels.hasOrderIds() && levels.size() > 0 && levels.getOrders(0) != BookLevels.NO_ORDERS;
+        ArrayList<Double> values = new ArrayList<>(levels.size() * (orders ? 3 : 2));
+        for (int j = 0; j < levels.size(); j++) {
+            values.add(levels.getPrice(j));
+            values.add(levels.getSize(j));
+            if (orders)
+                values.add((double) levels.getOrders(j));
+        }
+        return values;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("productId", productId)
+                .put("sequence", sequence)
+                .put("auction_mode", auctionMode)
+                .put("auction", auction)
+                .put("time", time)
+                .put("asks", asks.toJSONArray())
+                .put("bids", bids.toJSONArray())
+                .toString();
+    }
+
+    /**
+     * The {@code BookParser} class is useful to scan the text of a book once, reading the numbers without creating
+     * any intermediate object
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @implNote the decimals with up to 15 significant digits, as the prices and the sizes of {@code "Coinbase"},
+     * are converted with a single exact operation, the others with {@link Double#parseDouble(String)}
+     */
+    private static final class BookParser {
+
+        /**
+         * {@code POWERS_OF_TEN} is constant for the powers of ten exactly representable as double
+         */
+        private static final double[] POWERS_OF_TEN = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+        };
+
+        /**
+         * {@code MAX_EXACT_MANTISSA} is constant for the max mantissa exactly representable as double
+         */
+        private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+        /**
+         * {@code text} is instance that memorizes the text to parse
+         */
+        private final String text;
+
+        /**
+         * {@code position} is instance that memorizes the position of the next char to read
+         */
+        private int position;
+
+        /**
+         * Constructor to init a {@link BookParser}
+         *
+         * @param text: text to parse
+         */
+        private BookParser(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Method to parse the book
+         *
+         * @param productId: book identifier value, {@code null} to read it from the text
+         * @return book as {@link CompactBook}
+         */
+        private CompactBook parse(String productId) {
+            long sequence = -1;
+            boolean auctionMode = false;
+            String auction = null;
+            String time = null;
+            BookLevels asks = new BookLevels();
+            BookLevels bids = new BookLevels();
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    String key = readString();
+                    expect(':');
+                    switch (key) {
+                        case "bids":
+                            readLevels(bids);
+                            break;
+                        case "asks":
+                            readLevels(asks);
+                            break;
+                        case "sequence":
+                            sequence = consumeNull() ? -1 : readLong();
+                            break;
+                        case "auction_mode":
+                            auctionMode = readBoolean();
+                            break;
+                        case "auction":
+                            auction = readRaw();
+                            break;
+                        case "time":
+                            time = consumeNull() ? null : readString();
+                            break;
+                        case "product_id":
+                            if (productId == null)
+                                productId = readString();
+                            else
+                                skipValue();
+                            break;
+                        default:
+                            skipValue();
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+            return new CompactBook(productId, sequence, auctionMode, auction, time, asks, bids);
+        }
+
+        /**
+         * Method to read the levels of a side of the book
+         *
+         * @param levels: levels where add the levels read
+         */
+        private void readLevels(BookLevels levels) {
+            if (consumeNull())
+                return;
+            expect('[');
+            if (consume(']'))
+                return;
+            do {
+                expect('[');
+                double price = readNumber();
+                expect(',');
+                double size = readNumber();
+                if (consume(',')) {
+                    skipWhitespaces();
+                    if (peek() == '"' && !isQuotedInteger())
+                        levels.add(price, size, readString());
+                    else
+                        levels.add(price, size, (long) readNumber());
+                    while (consume(','))
+                        skipValue();
+                } else
+                    levels.add(price, size, BookLevels.NO_ORDERS);
+                expect(']');
+            } while (consume(','));
+            expect(']');
+        }
+
+        /**
+         * Method to check whether the string at the current position contains only an integer number, as the number of
+         * orders of a level, instead of an order identifier <br>
+         * No-any params required
+         *
+         * @return whether the string contains only an integer number as boolean
+         */
+        private boolean isQuotedInteger() {
+            int index = position + 1;
+            boolean digits = false;
+            char character;
+            while (index < text.length() && (character = text.charAt(index)) != '"') {
+                if (character < '0' || character > '9')
+                    return false;
+                digits = true;
+                index++;
+            }
+            return digits;
+        }
+
+        /**
+         * Method to read a number, also when it is sent as a string <br>
+         * No-any params required
+         *
+         * @return number as double
+         */
+        private double readNumber() {
+            skipWhitespaces();
+            boolean quoted = consume('"');
+            int start = position;
+            boolean negative = false;
+            if (position < text.length() && text.charAt(position) == '-') {
+                negative = true;
+                position++;
+            }
+            long mantissa = 0;
+            int exponent = 0;
+            int digits = 0;
+            boolean exact = true;
+            boolean fraction = false;
+            char character;
+            while (position < text.length()) {
+                character = text.charAt(position);
+                if (character >= '0' && character <= '9') {
+                    if (mantissa < MAX_EXACT_MANTISSA / 10) {
+                        mantissa = mantissa * 10 + (character - '0');
+                        if (fraction)
+                            exponent--;
+                    } else {
+                        exact = false;
+                        if (!fraction)
+                            exponent++;
+                    }
+                    digits++;
+                } else if (character == '.' && !fraction)
+                    fraction = true;
+                else
+                    break;
+                position++;
+            }
+            if (digits == 0)
+                throw error("Expected a number");
+            if (position < text.length() && ((character = text.charAt(position)) == 'e' || character == 'E')) {
+                exact = false;
+                position++;
+                while (position < text.length() && ((character = text.charAt(position)) == '+' || character == '-'
+                        || (character >= '0' && character <= '9'))) {
+                    position++;
+                }
+            }
+            int end = position;
+            if (quoted)
+                expect('"');
+            if (exact && exponent >= -22 && exponent <= 22) {
+                double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent]
+                        : mantissa * POWERS_OF_TEN[exponent];
+                return negative ? -value : value;
+            }
+            try {
+                return Double.parseDouble(text.substring(start, end));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number " + text.substring(start, end));
+            }
+        }
+
+        /**
+         * Method to read an integer number, also when it is sent as a string <br>
+         * No-any params required
+         *
+         * @return number as long
+         */
+        private long readLong() {
+            skipWhitespaces();
+            boolean quoted = consume('"');
+            int start = position;
+            if (position < text.length() && text.charAt(position) == '-')
+                position++;
+            while (position < text.length() && text.charAt(position) >= '0' && text.charAt(position) <= '9')
+                position++;
+            int end = position;
+            if (quoted)
+                expect('"');
+            try {
+                return Long.parseLong(text, start, end, 10);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number " + text.substring(start, end));
+            }
+        }
+
+        /**
+         * Method to read a boolean, {@code null} is read as {@code false} <br>
+         * No-any params required
+         *
+         * @return boolean read as boolean
+         */
+        private boolean readBoolean() {
+            skipWhitespaces();
+            if (text.startsWith("true", position)) {
+                position += 4;
+                return true;
+            }
+            if (text.startsWith("false", position))
+                position += 5;
+            else if (!consumeNull())
+                throw error("Expected a boolean");
+            return false;
+        }
+
+        /**
+         * Method to read a string, only the escapes of the quotes and of the backslashes are supported as the keys and
+         * the values of a book do not contain others <br>
+         * No-any params required
+         *
+         * @return string read as {@link String}
+         */
+        private String readString() {
+            expect('"');
+            int start = position;
+            int end = text.indexOf('"', position);
+            while (end > 0 && text.charAt(end - 1) == '\\' && !isEscaped(end - 1))
+                end = text.indexOf('"', end + 1);
+            if (end < 0)
+                throw error("Unterminated string");
+            position = end + 1;
+            String value = text.substring(start, end);
+            return value.indexOf('\\') < 0 ? value : value.replace("\\\"", "\"").replace("\\\\", "\\");
+        }
+
+        /**
+         * Method to check whether a backslash is escaped by the previous ones
+         *
+         * @param index: index of the backslash
+         * @return whether the backslash is escaped as boolean
+         */
+        private boolean isEscaped(int index) {
+            int backslashes = 0;
+            while (index - backslashes - 1 >= 0 && text.charAt(index - backslashes - 1) == '\\')
+                backslashes++;
+            return backslashes % 2 == 1;
+        }
+
+        /**
+         * Method to read the raw text of a value <br>
+         * No-any params required
+         *
+         * @return raw text of the value as {@link String}, {@code null} if the value is null
+         */
+        private String readRaw() {
+            if (consumeNull())
+                return null;
+            skipWhitespaces();
+            int start = position;
+            skipValue();
+            return text.substring(start, position);
+        }
+
+        /**
+         * Method to skip a value <br>
+         * No-any params required
+         */
+        private void skipValue() {
+            skipWhitespaces();
+            char character = peek();
+            if (character == '"')
+                readString();
+            else if (character == '{' || character == '[') {
+                char close = character == '{' ? '}' : ']';
+                position++;
+                if (!consume(close)) {
+                    do {
+                        if (close == '}') {
+                            readString();
+                            expect(':');
+                        }
+                        skipValue();
+                    } while (consume(','));
+                    expect(close);
+                }
+            } else {
+                while (position < text.length() && (character = text.charAt(position)) != ','
+                        && character != '}' && character != ']' && !Character.isWhitespace(character)) {
+                    position++;
+                }
+            }
+        }
+
+        /**
+         * Method to consume a {@code null} value <br>
+         * No-any params required
+         *
+         * @return whether the value was null as boolean
+         */
+        private boolean consumeNull() {
+            skipWhitespaces();
+            if (text.startsWith("null", position)) {
+                position += 4;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Method to consume a char if it is the next one
+         *
+         * @param expected: char to consume
+         * @return whether the char has been consumed as boolean
+         */
+        private boolean consume(char expected) {
+            skipWhitespaces();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Method to consume a char which must be the next one
+         *
+         * @param expected: char to consume
+         */
+        private void expect(char expected) {
+            if (!consume(expected))
+                throw error("Expected '" + expected + "'");
+        }
+
+        /**
+         * Method to get the next char without consuming it <br>
+         * No-any params required
+         *
+         * @return next char as char
+         */
+        private char peek() {
+            if (position >= text.length())
+                throw error("Unexpected end of the text");
+            return text.charAt(position);
+        }
+
+        /**
+         * Method to skip the whitespaces <br>
+         * No-any params required
+         */
+        private void skipWhitespaces() {
+            while (position < text.length() && text.charAt(position) <= ' ')
+                position++;
+        }
+
+        /**
+         * Method to create a parsing error
+         *
+         * @param message: message of the error
+         * @return error as {@link JSONException}
+         */
+        private JSONException error(String message) {
+            return new JSONException(message + " at " + position);
+        }
+
+    }
+
+}
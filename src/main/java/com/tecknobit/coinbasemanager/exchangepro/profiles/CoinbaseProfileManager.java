@@ -11,6 +11,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 
@@ -220,18 +221,20 @@ public class CoinbaseProfileManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnProfilesList(String profilesResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(profilesResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Profile> profiles = new ArrayList<>();
-                JSONArray jProfiles = new JSONArray(profilesResponse);
-                for (int j = 0; j < jProfiles.length(); j++)
-                    profiles.add(new Profile(jProfiles.getJSONObject(j)));
-                return (T) profiles;
-            default:
-                return (T) profilesResponse;
-        }
+        return returnFormatted("CoinbaseProfileManager.returnProfilesList", profilesResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(profilesResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Profile> profiles = new ArrayList<>();
+                    JSONArray jProfiles = new JSONArray(profilesResponse);
+                    for (int j = 0; j < jProfiles.length(); j++)
+                        profiles.add(new Profile(jProfiles.getJSONObject(j)));
+                    return (T) profiles;
+                default:
+                    return (T) profilesResponse;
+            }
+        });
     }
 
     /**
@@ -536,14 +539,16 @@ public class CoinbaseProfileManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnProfile(String profileResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(profileResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Profile(new JSONObject(profileResponse));
-            default:
-                return (T) profileResponse;
-        }
+        return returnFormatted("CoinbaseProfileManager.returnProfile", profileResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(profileResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Profile(new JSONObject(profileResponse));
+                default:
+                    return (T) profileResponse;
+            }
+        });
     }
 
     /**
@@ -603,4 +608,292 @@ public class CoinbaseProfileManager extends CoinbaseManager {
         return sendPutRequest(PROFILES_ENDPOINT + "/" + profileId + DELETE_PROFILE_ENDPOINT, payload).equals("{}");
     }
 
+    /**
+     * Request to get profiles of a {@code "Coinbase"}'s account asynchronously <br>
+     * No-any params required
+     *
+     * @return profiles of a {@code "Coinbase"}'s account list as {@link CompletableFuture} of {@link ArrayList} of
+     * {@link Profile}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofiles">
+     * Get profiles</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles")
+    public CompletableFuture<ArrayList<Profile>> getProfilesAsync() {
+        return getProfilesAsync(ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get profiles of a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param format :                 return type formatter -> {@link ReturnFormat}
+     * @return profiles of a {@code "Coinbase"}'s account list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofiles">
+     * Get profiles</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles")
+    public <T> CompletableFuture<T> getProfilesAsync(ReturnFormat format) {
+        return sendGETRequestAsync(PROFILES_ENDPOINT)
+                .thenApply(profilesResponse -> returnProfilesList(profilesResponse, format));
+    }
+
+    /**
+     * Request to get profiles of a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param active: flag if profile is active or not
+     * @return profiles of a {@code "Coinbase"}'s account list as {@link CompletableFuture} of {@link ArrayList} of
+     * {@link Profile}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofiles">
+     * Get profiles</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles")
+    public CompletableFuture<ArrayList<Profile>> getProfilesAsync(boolean active) {
+        return getProfilesAsync(active, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get profiles of a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param active: flag if profile is active or not
+     * @param format  :                 return type formatter -> {@link ReturnFormat}
+     * @return profiles of a {@code "Coinbase"}'s account list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofiles">
+     * Get profiles</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles")
+    public <T> CompletableFuture<T> getProfilesAsync(boolean active, ReturnFormat format) {
+        return sendGETRequestAsync(PROFILES_ENDPOINT + "?active=" + active)
+                .thenApply(profilesResponse -> returnProfilesList(profilesResponse, format));
+    }
+
+    /**
+     * Request to create a profile asynchronously
+     *
+     * @param name: name of profile to create
+     * @return result of creation profile as {@link CompletableFuture} of {@link Profile},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postprofile">
+     * Create a profile</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/profiles")
+    public CompletableFuture<Profile> createProfileAsync(String name) {
+        return createProfileAsync(name, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a profile asynchronously
+     *
+     * @param name: name of profile to create
+     * @param format           :                 return type formatter -> {@link ReturnFormat}
+     * @return result of creation profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postprofile">
+     *     Create a profile</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/profiles")
+    public <T> CompletableFuture<T> createProfileAsync(String name, ReturnFormat format) {
+        Params bodyParams = new Params();
+        bodyParams.addParam("name", name);
+        return sendPostRequestAsync(PROFILES_ENDPOINT, bodyParams)
+                .thenApply(profileResponse -> returnProfile(profileResponse, format));
+    }
+
+    /**
+     * Request to transfer funds between profiles asynchronously
+     *
+     * @param from: identifier of profile where starts funds
+     * @param to: identifier of profile where arrive funds
+     * @param currency: currency to be transferred
+     * @param amount: amount to be transferred
+     * @return result of successful transfer or not as {@link CompletableFuture} of {@link Boolean},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postprofiletransfer">
+     *     Transfer funds between profiles</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/profiles/transfer")
+    public CompletableFuture<Boolean> transferFundsBetweenProfilesAsync(String from, String to, String currency,
+                                                                        double amount) {
+        Params payload = new Params();
+        payload.addParam("from", from);
+        payload.addParam("to", to);
+        payload.addParam("currency", currency);
+        payload.addParam("amount", amount);
+        return sendPostRequestAsync(TRANSFER_BETWEEN_PROFILES_ENDPOINT, payload)
+                .thenApply(response -> response.equals("{}"));
+    }
+
+    /**
+     * Request to get a single {@code "Coinbase"}'s profile asynchronously
+     *
+     * @param profileId: identifier of profile from fetch details
+     * @return single profile as {@link CompletableFuture} of {@link Profile},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofile">
+     *     Get profile by id</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public CompletableFuture<Profile> getProfileByIdAsync(String profileId) {
+        return getProfileByIdAsync(profileId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get a single {@code "Coinbase"}'s profile asynchronously
+     *
+     * @param profileId: identifier of profile from fetch details
+     * @param format           :                 return type formatter -> {@link ReturnFormat}
+     * @return single profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofile">
+     *     Get profile by id</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public <T> CompletableFuture<T> getProfileByIdAsync(String profileId, ReturnFormat format) {
+        return sendGETRequestAsync(PROFILES_ENDPOINT + "/" + profileId)
+                .thenApply(profileResponse -> returnProfile(profileResponse, format));
+    }
+
+    /**
+     * Request to get a single {@code "Coinbase"}'s profile asynchronously
+     *
+     * @param profileId: identifier of profile from fetch details
+     * @param active: flag if profile is active or not
+     * @return single profile as {@link CompletableFuture} of {@link Profile},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofile">
+     *     Get profile by id</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public CompletableFuture<Profile> getProfileByIdAsync(String profileId, boolean active) {
+        return getProfileByIdAsync(profileId, active, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get a single {@code "Coinbase"}'s profile asynchronously
+     *
+     * @param profileId: identifier of profile from fetch details
+     * @param active: flag if profile is active or not
+     * @param format           :                 return type formatter -> {@link ReturnFormat}
+     * @return single profile as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getprofile">
+     *     Get profile by id</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public <T> CompletableFuture<T> getProfileByIdAsync(String profileId, boolean active, ReturnFormat format) {
+        return sendGETRequestAsync(PROFILES_ENDPOINT + "/" + profileId + "?active=" + active)
+                .thenApply(profileResponse -> returnProfile(profileResponse, format));
+    }
+
+    /**
+     * Request to rename a profile asynchronously
+     *
+     * @param profile: profile to change the name
+     * @param name:    name to assign at profile to change
+     * @return result of renaming as {@link CompletableFuture} of {@link Profile},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_putprofile">
+     * Rename a profile</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = PUT, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public CompletableFuture<Profile> renameProfileAsync(Profile profile, String name) {
+        return renameProfileAsync(profile.getId(), name, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to rename a profile asynchronously
+     *
+     * @param profile: profile to change the name
+     * @param name:    name to assign at profile to change
+     * @param format:  return type formatter -> {@link ReturnFormat}
+     * @return result of renaming as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_putprofile">
+     * Rename a profile</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = PUT, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public <T> CompletableFuture<T> renameProfileAsync(Profile profile, String name, ReturnFormat format) {
+        return renameProfileAsync(profile.getId(), name, format);
+    }
+
+    /**
+     * Request to rename a profile asynchronously
+     *
+     * @param profileId: identifier of profile to change
+     * @param name: name to assign at profile to change
+     * @return result of renaming as {@link CompletableFuture} of {@link Profile},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_putprofile">
+     *     Rename a profile</a>
+     */
+    @Wrapper
+    @RequestPath(method = PUT, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public CompletableFuture<Profile> renameProfileAsync(String profileId, String name) {
+        return renameProfileAsync(profileId, name, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to rename a profile asynchronously
+     *
+     * @param profileId: identifier of profile to change
+     * @param name:      name to assign at profile to change
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return result of renaming as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_putprofile">
+     * Rename a profile</a>
+     */
+    @RequestPath(method = PUT, path = "https://api.exchange.coinbase.com/profiles/{profile_id}")
+    public <T> CompletableFuture<T> renameProfileAsync(String profileId, String name, ReturnFormat format) {
+        Params payload = new Params();
+        payload.addParam("profileId", profileId);
+        payload.addParam("name", name);
+        return sendPutRequestAsync(PROFILES_ENDPOINT + "/" + profileId, payload)
+                .thenApply(profileResponse -> returnProfile(profileResponse, format));
+    }
+
+    /**
+     * Request to delete a profile asynchronously
+     *
+     * @param profile: buck profile to delete
+     * @param to:      identifier of profile do delete
+     * @return result of deletion or not as {@link CompletableFuture} of {@link Boolean},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_putprofiledeactivate">
+     * Delete a profile</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = PUT, path = "https://api.exchange.coinbase.com/profiles/{profile_id}/deactivate")
+    public CompletableFuture<Boolean> deleteProfileAsync(Profile profile, String to) {
+        return deleteProfileAsync(profile.getId(), to);
+    }
+
+    /**
+     * Request to delete a profile asynchronously
+     *
+     * @param profileId: identifier of buck profile to delete
+     * @param to:        identifier of profile do delete
+     * @return result of deletion or not as {@link CompletableFuture} of {@link Boolean},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_putprofiledeactivate">
+     * Delete a profile</a>
+     */
+    @RequestPath(method = PUT, path = "https://api.exchange.coinbase.com/profiles/{profile_id}/deactivate")
+    public CompletableFuture<Boolean> deleteProfileAsync(String profileId, String to) {
+        Params payload = new Params();
+        payload.addParam("profileId", profileId);
+        payload.addParam("to", to);
+        return sendPutRequestAsync(PROFILES_ENDPOINT + "/" + profileId + DELETE_PROFILE_ENDPOINT, payload)
+                .thenApply(response -> response.equals("{}"));
+    }
+
 }
@@ -0,0 +1,214 @@
+package com.tecknobit.coinbasemanager.exchangepro.ratelimit;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+
+import java.util.EnumMap;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.DELETE;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+
+/**
+ * The {@code CoinbaseRateLimiter} class is useful to pace the requests to respect the {@code "Coinbase"} rate limits,
+ * each {@link Budget} has its own {@link TokenBucket}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/rate-limits-overview">
+ * Rate limits</a>
+ * @see TokenBucket
+ */
+public class CoinbaseRateLimiter {
+
+    /**
+     * {@code DEFAULT_PUBLIC_RATE} is constant for the default requests per second of the public endpoints
+     */
+    public static final double DEFAULT_PUBLIC_RATE = 10;
+
+    /**
+     * {@code DEFAULT_PUBLIC_BURST} is constant for the default burst of the public endpoints
+     */
+    public static final int DEFAULT_PUBLIC_BURST = 15;
+
+    /**
+     * {@code DEFAULT_PRIVATE_RATE} is constant for the default requests per second of the private endpoints
+     */
+    public static final double DEFAULT_PRIVATE_RATE = 15;
+
+    /**
+     * {@code DEFAULT_PRIVATE_BURST} is constant for the default burst of the private endpoints
+     */
+    public static final int DEFAULT_PRIVATE_BURST = 30;
+
+    /**
+     * {@code DEFAULT_ORDERS_RATE} is constant for the default requests per second of the orders placement
+     */
+    public static final double DEFAULT_ORDERS_RATE = 15;
+
+    /**
+     * {@code DEFAULT_ORDERS_BURST} is constant for the default burst of the orders placement
+     */
+    public static final int DEFAULT_ORDERS_BURST = 30;
+
+    /**
+     * {@code PUBLIC_ENDPOINTS} is constant for the prefixes of the public endpoints
+     */
+    private static final String[] PUBLIC_ENDPOINTS = {"/products", "/currencies", "/wrapped-assets", "/time"};
+
+    /**
+     * {@code ORDERS_ENDPOINT} is constant for the prefix of the orders endpoints
+     */
+    private static final String ORDERS_ENDPOINT = "/orders";
+
+    /**
+     * {@code buckets} is instance that memorizes the bucket of each budget
+     */
+    private final EnumMap<Budget, TokenBucket> buckets = new EnumMap<>(Budget.class);
+
+    /**
+     * Constructor to init a {@link CoinbaseRateLimiter}
+     *
+     * @param publicBucket:  bucket of the public endpoints
+     * @param privateBucket: bucket of the private endpoints
+     * @param ordersBucket:  bucket of the orders placement and cancellation
+     * @apiNote the same bucket can be shared between different limiters, es. the public bucket because the public
+     * limits are applied for each IP address, while the private ones are applied for each api key
+     */
+    public CoinbaseRateLimiter(TokenBucket publicBucket, TokenBucket privateBucket, TokenBucket ordersBucket) {
+        if (publicBucket == null || privateBucket == null || ordersBucket == null)
+            throw new IllegalArgumentException("The buckets cannot be null");
+        buckets.put(Budget.PUBLIC, publicBucket);
+        buckets.put(Budget.PRIVATE, privateBucket);
+        buckets.put(Budget.ORDERS, ordersBucket);
+    }
+
+    /**
+     * Constructor to init a {@link CoinbaseRateLimiter}
+     *
+     * @param publicBucket: bucket of the public endpoints
+     * @apiNote the private endpoints and the orders use the default {@code "Coinbase"} limits
+     */
+    public CoinbaseRateLimiter(TokenBucket publicBucket) {
+        this(publicBucket, new TokenBucket(DEFAULT_PRIVATE_RATE, DEFAULT_PRIVATE_BURST),
+                new TokenBucket(DEFAULT_ORDERS_RATE, DEFAULT_ORDERS_BURST));
+    }
+
+    /**
+     * Constructor to init a {@link CoinbaseRateLimiter} with the default {@code "Coinbase"} limits <br>
+     * No-any params required
+     */
+    public CoinbaseRateLimiter() {
+        this(new TokenBucket(DEFAULT_PUBLIC_RATE, DEFAULT_PUBLIC_BURST));
+    }
+
+    /**
+     * Method to create a limiter which does not limit the requests <br>
+     * No-any params required
+     *
+     * @return limiter which does not limit the requests as {@link CoinbaseRateLimiter}
+     */
+    public static CoinbaseRateLimiter unlimited() {
+        return new CoinbaseRateLimiter(new TokenBucket(0, 0), new TokenBucket(0, 0), new TokenBucket(0, 0));
+    }
+
+    /**
+     * Method to acquire a token for a request waiting until it is available
+     *
+     * @param method:   method HTTP of the request
+     * @param endpoint: endpoint of the request
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    public void acquire(RequestMethod method, String endpoint) throws InterruptedException {
+        getBucket(Budget.of(method, endpoint)).acquire();
+    }
+
+    /**
+     * Method to reserve a token for a request without waiting
+     *
+     * @param method:   method HTTP of the request
+     * @param endpoint: endpoint of the request
+     * @return time in nanos to wait before sending the request, zero if it can be sent immediately
+     */
+    public long reserve(RequestMethod method, String endpoint) {
+        return getBucket(Budget.of(method, endpoint)).reserve();
+    }
+
+    /**
+     * Method to give back the token of a request which has not been sent
+     *
+     * @param method:   method HTTP of the request
+     * @param endpoint: endpoint of the request
+     */
+    public void release(RequestMethod method, String endpoint) {
+        getBucket(Budget.of(method, endpoint)).release();
+    }
+
+    /**
+     * Method to get the bucket of a budget
+     *
+     * @param budget: budget of which get the bucket
+     * @return bucket of the budget as {@link TokenBucket}
+     */
+    public TokenBucket getBucket(Budget budget) {
+        return buckets.get(budget);
+    }
+
+    /**
+     * Method to get the total time waited by the requests of all the budgets <br>
+     * No-any params required
+     *
+     * @return total time in nanos waited by the requests as long
+     */
+    public long getTotalWaitTime() {
+        long totalWaitTime = 0;
+        for (TokenBucket bucket : buckets.values())
+            totalWaitTime += bucket.getTotalWaitTime();
+        return totalWaitTime;
+    }
+
+    /**
+     * Method to reset the metrics of all the buckets <br>
+     * No-any params required
+     */
+    public void resetMetrics() {
+        for (TokenBucket bucket : buckets.values())
+            bucket.resetMetrics();
+    }
+
+    /**
+     * {@code Budget} list of available rate limit budgets
+     */
+    public enum Budget {
+
+        /**
+         * {@code "PUBLIC"} budget of the public endpoints, es. the market data
+         */
+        PUBLIC,
+
+        /**
+         * {@code "PRIVATE"} budget of the private endpoints
+         */
+        PRIVATE,
+
+        /**
+         * {@code "ORDERS"} budget of the orders placement and cancellation
+         */
+        ORDERS;
+
+        /**
+         * Method to get the budget of a request
+         *
+         * @param method:   method HTTP of the request
+         * @param endpoint: endpoint of the request
+         * @return budget of the request as {@link Budget}
+         */
+        public static Budget of(RequestMethod method, String endpoint) {
+            if ((method == POST || method == DELETE) && endpoint.startsWith(ORDERS_ENDPOINT))
+                return ORDERS;
+            for (String publicEndpoint : PUBLIC_ENDPOINTS)
+                if (endpoint.startsWith(publicEndpoint))
+                    return PUBLIC;
+            return PRIVATE;
+        }
+
+    }
+
+}
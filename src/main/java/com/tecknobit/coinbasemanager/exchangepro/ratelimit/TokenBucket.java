@@ -0,0 +1,241 @@
+package com.tecknobit.coinbasemanager.exchangepro.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code TokenBucket} class is useful to pace the requests of a budget with the token bucket algorithm
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote each request reserves a token in order of arrival, when no token is available the request waits the
+ * time needed to refill its token, so the threads are served in a first-in first-out order and a thread cannot
+ * starve the others
+ */
+public class TokenBucket {
+
+    /**
+     * {@code NANOS_PER_SECOND} is constant for the number of nanos in a second
+     */
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * {@code rate} is instance that memorizes the number of tokens refilled each second, zero or less if unlimited
+     */
+    private final double rate;
+
+    /**
+     * {@code burst} is instance that memorizes the max number of tokens that can be stored
+     */
+    private final double burst;
+
+    /**
+     * {@code lock} is instance used to reserve the tokens in order of arrival
+     */
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    /**
+     * {@code tokens} is instance that memorizes the tokens available, negative when some requests are waiting
+     */
+    private double tokens;
+
+    /**
+     * {@code lastRefill} is instance that memorizes the time in nanos of the last refill
+     */
+    private long lastRefill;
+
+    /**
+     * {@code acquiredCount} is instance that memorizes the number of tokens acquired
+     */
+    private final AtomicLong acquiredCount = new AtomicLong();
+
+    /**
+     * {@code throttledCount} is instance that memorizes the number of tokens acquired after a wait
+     */
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    /**
+     * {@code totalWaitTime} is instance that memorizes the total time in nanos waited to acquire the tokens
+     */
+    private final AtomicLong totalWaitTime = new AtomicLong();
+
+    /**
+     * {@code maxWaitTime} is instance that memorizes the max time in nanos waited to acquire a token
+     */
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Constructor to init a {@link TokenBucket}
+     *
+     * @param rate:  number of tokens refilled each second, zero or less if unlimited
+     * @param burst: max number of tokens that can be stored
+     */
+    public TokenBucket(double rate, int burst) {
+        if (rate > 0 && burst < 1)
+            throw new IllegalArgumentException("The burst value must be at least 1");
+        this.rate = rate;
+        this.burst = burst;
+        tokens = burst;
+        lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Method to acquire a token waiting until it is available
+     *
+     * @throws InterruptedException when the current thread is interrupted while waiting, the token is given back
+     */
+    public void acquire() throws InterruptedException {
+        long waitTime = reserve();
+        if (waitTime > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitTime);
+            } catch (InterruptedException e) {
+                release();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Method to reserve a token without waiting
+     *
+     * @return time in nanos to wait before using the reserved token, zero if it can be used immediately
+     * @implNote the caller must wait the returned time before sending its request, or give back the token with
+     * {@link #release()} if the request is not sent
+     */
+    public long reserve() {
+        acquiredCount.incrementAndGet();
+        if (rate <= 0)
+            return 0;
+        long waitTime;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+            lastRefill = now;
+            tokens -= 1;
+            if (tokens >= 0)
+                return 0;
+            waitTime = (long) Math.ceil(-tokens * NANOS_PER_SECOND / rate);
+        } finally {
+            lock.unlock();
+        }
+        throttledCount.incrementAndGet();
+        totalWaitTime.addAndGet(waitTime);
+        maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        return waitTime;
+    }
+
+    /**
+     * Method to give back a token acquired or reserved for a request which has not been sent <br>
+     * No-any params required
+     *
+     * @implNote the requests already waiting keep their wait, the token given back serves the next request
+     */
+    public void release() {
+        acquiredCount.decrementAndGet();
+        if (rate <= 0)
+            return;
+        lock.lock();
+        try {
+            tokens = Math.min(burst, tokens + 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to get {@link #rate} instance <br>
+     * No-any params required
+     *
+     * @return {@link #rate} instance as double
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Method to get {@link #burst} instance <br>
+     * No-any params required
+     *
+     * @return {@link #burst} instance as int
+     */
+    public int getBurst() {
+        return (int) burst;
+    }
+
+    /**
+     * Method to get whether the bucket does not limit the requests <br>
+     * No-any params required
+     *
+     * @return whether the bucket does not limit the requests as boolean
+     */
+    public boolean isUnlimited() {
+        return rate <= 0;
+    }
+
+    /**
+     * Method to get {@link #acquiredCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #acquiredCount} instance as long
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.get();
+    }
+
+    /**
+     * Method to get {@link #throttledCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #throttledCount} instance as long
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    /**
+     * Method to get {@link #totalWaitTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #totalWaitTime} instance as long
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.get();
+    }
+
+    /**
+     * Method to get {@link #maxWaitTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxWaitTime} instance as long
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    /**
+     * Method to get the average time waited by the requests which have been throttled <br>
+     * No-any params required
+     *
+     * @return average time in millis waited by the requests which have been throttled as double
+     */
+    public double getAverageWaitMillis() {
+        long throttled = throttledCount.get();
+        if (throttled == 0)
+            return 0;
+        return totalWaitTime.get() / 1_000_000.0 / throttled;
+    }
+
+    /**
+     * Method to reset the metrics of the bucket <br>
+     * No-any params required
+     */
+    public void resetMetrics() {
+        acquiredCount.set(0);
+        throttledCount.set(0);
+        totalWaitTime.set(0);
+        maxWaitTime.set(0);
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.tecknobit.coinbasemanager.exchangepro.recording;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseTransport;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@code RecordingTransport} class is useful to record in a file the requests sent by another
+ * {@link CoinbaseTransport} and the responses received, so they can be served back by a {@link ReplayTransport}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the recording must be closed with {@link #close()} to complete its file, the requests sent after are not
+ * recorded anymore. When the file cannot be written the recording is stopped and the error is available with
+ * {@link #getRecordingError()}, the requests are never failed by the recording
+ * @see TrafficRecording
+ * @see ReplayTransport
+ */
+public class RecordingTransport implements CoinbaseTransport, Closeable {
+
+    /**
+     * {@code transport} is instance that memorizes the transport used to send the requests
+     */
+    private final CoinbaseTransport transport;
+
+    /**
+     * {@code file} is instance that memorizes the file where the recording is written
+     */
+    private final Path file;
+
+    /**
+     * {@code start} is instance that memorizes the time in nanos when the recording has been started
+     */
+    private final long start;
+
+    /**
+     * {@code writer} is instance that memorizes the writer of the records, {@code null} when the recording is stopped
+     */
+    private TrafficRecording.Writer writer;
+
+    /**
+     * {@code recordedRequests} is instance that memorizes the number of the requests recorded
+     */
+    private long recordedRequests;
+
+    /**
+     * {@code recordingError} is instance that memorizes the error that has stopped the recording
+     */
+    private volatile IOException recordingError;
+
+    /**
+     * Constructor to init a {@link RecordingTransport}
+     *
+     * @param transport: transport used to send the requests
+     * @param file:      file where write the recording, it is replaced if already exists
+     * @throws IOException when the file cannot be created
+     */
+    public RecordingTransport(CoinbaseTransport transport, Path file) throws IOException {
+        if (transport == null)
+            throw new IllegalArgumentException("Transport cannot be null");
+        this.transport = transport;
+        this.file = file;
+        writer = new TrafficRecording.Writer(Files.newOutputStream(file));
+        start = System.nanoTime();
+    }
+
+    /**
+     * Method to send a signed request and record it with its response
+     *
+     * @param request: signed request to send
+     * @return response of the request as {@link CoinbaseResponse}
+     * @throws IOException          when the request cannot be sent or its response cannot be read
+     * @throws InterruptedException when the current thread is interrupted while waiting the response
+     */
+    @Override
+    public CoinbaseResponse send(CoinbaseRequest request) throws IOException, InterruptedException {
+        long offset = System.nanoTime() - start;
+        CoinbaseResponse response = transport.send(request);
+        record(offset, response);
+        return response;
+    }
+
+    /**
+     * Method to send asynchronously a signed request and record it with its response
+     *
+     * @param request: signed request to send
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    @Override
+    public CompletableFuture<CoinbaseResponse> sendAsync(CoinbaseRequest request) {
+        long offset = System.nanoTime() - start;
+        return transport.sendAsync(request).thenApply(response -> {
+            record(offset, response);
+            return response;
+        });
+    }
+
+    /**
+     * Method to record a response with its request
+     *
+     * @param offset:   time in nanos elapsed from the start of the recording when the request has been sent
+     * @param response: response to record
+     */
+    private synchronized void record(long offset, CoinbaseResponse response) {
+        if (writer == null)
+            return;
+        try {
+            writer.write(new TrafficRecord(offset, response));
+            recordedRequests++;
+        } catch (IOException e) {
+            recordingError = e;
+            stop();
+        }
+    }
+
+    /**
+     * Method to flush the records, so the file can be read also if the recording is still running <br>
+     * No-any params required
+     *
+     * @throws IOException when the records cannot be flushed
+     */
+    public synchronized void flush() throws IOException {
+        if (writer != null)
+            writer.flush();
+    }
+
+    /**
+     * Method to stop the recording and complete its file <br>
+     * No-any params required
+     *
+     * @throws IOException when the file cannot be completed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer == null)
+            return;
+        TrafficRecording.Writer writer = this.writer;
+        this.writer = null;
+        writer.close();
+    }
+
+    /**
+     * Method to stop the recording after an error, the file is completed when possible <br>
+     * No-any params required
+     */
+    private void stop() {
+        try {
+            close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Method to get whether the requests are still recorded <br>
+     * No-any params required
+     *
+     * @return whether the requests are still recorded as boolean
+     */
+    public synchronized boolean isRecording() {
+        return writer != null;
+    }
+
+    /**
+     * Method to get {@link #recordedRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #recordedRequests} instance as long
+     */
+    public synchronized long getRecordedRequests() {
+        return recordedRequests;
+    }
+
+    /**
+     * Method to get {@link #recordingError} instance <br>
+     * No-any params required
+     *
+     * @return {@link #recordingError} instance as {@link IOException}, {@code null} if the recording has not failed
+     */
+    public IOException getRecordingError() {
+        return recordingError;
+    }
+
+    /**
+     * Method to get {@link #file} instance <br>
+     * No-any params required
+     *
+     * @return {@link #file} instance as {@link Path}
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link CoinbaseTransport}
+     */
+    public CoinbaseTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to get the base url where the requests are sent <br>
+     * No-any params required
+     *
+     * @return base url where the requests are sent as {@link String}
+     */
+    @Override
+    public String getBaseUrl() {
+        return transport.getBaseUrl();
+    }
+
+}
@@ -0,0 +1,301 @@
+package com.tecknobit.coinbasemanager.exchangepro.recording;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseTransport;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.BASE_ENDPOINT;
+
+/**
+ * The {@code ReplayTransport} class is useful to serve the responses of a {@link TrafficRecording} without sending any
+ * request, so the parsing and the signing of the managers can be measured with a real traffic in a deterministic way
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote a request is matched with the records with the same method and endpoint, or with the same method and path
+ * when its query params are different, and its responses are served in the order they have been recorded, starting
+ * again from the first when all of them have been served. The requests without any record are responded with the
+ * {@link #NOT_RECORDED_STATUS_CODE}
+ * @see RecordingTransport
+ * @see TrafficReplayer
+ */
+public class ReplayTransport implements CoinbaseTransport {
+
+    /**
+     * {@code ORIGINAL_TIMING} is constant for the time scale that waits the latencies recorded
+     */
+    public static final double ORIGINAL_TIMING = 1;
+
+    /**
+     * {@code NO_DELAY} is constant for the time scale that serves the responses immediately
+     */
+    public static final double NO_DELAY = 0;
+
+    /**
+     * {@code NOT_RECORDED_STATUS_CODE} is constant for the status code of the responses to the requests not recorded
+     */
+    public static final int NOT_RECORDED_STATUS_CODE = 404;
+
+    /**
+     * {@code NOT_RECORDED_RESPONSE} is constant for the body of the responses to the requests not recorded
+     */
+    private static final String NOT_RECORDED_RESPONSE = new JSONObject().put("message", "NotRecorded").toString();
+
+    /**
+     * {@code recording} is instance that memorizes the recording served
+     */
+    private final TrafficRecording recording;
+
+    /**
+     * {@code timeScale} is instance that memorizes the scale applied to the latencies recorded
+     */
+    private final double timeScale;
+
+    /**
+     * {@code baseUrl} is instance that memorizes the base url returned as where the requests are sent
+     */
+    private final String baseUrl;
+
+    /**
+     * {@code byEndpoint} is instance that memorizes the records grouped by method and endpoint
+     */
+    private final Map<String, Records> byEndpoint = new HashMap<>();
+
+    /**
+     * {@code byPath} is instance that memorizes the records grouped by method and path
+     */
+    private final Map<String, Records> byPath = new HashMap<>();
+
+    /**
+     * {@code servedResponses} is instance that memorizes the number of the responses served from the recording
+     */
+    private final LongAdder servedResponses = new LongAdder();
+
+    /**
+     * {@code missedRequests} is instance that memorizes the number of the requests without any record
+     */
+    private final LongAdder missedRequests = new LongAdder();
+
+    /**
+     * Constructor to init a {@link ReplayTransport}
+     *
+     * @param recording: recording to serve
+     * @param timeScale: scale applied to the latencies recorded es. {@link #ORIGINAL_TIMING}, 0.5 to wait half of them,
+     *                   {@link #NO_DELAY} to serve the responses immediately
+     * @param baseUrl:   base url returned as where the requests are sent
+     */
+    public ReplayTransport(TrafficRecording recording, double timeScale, String baseUrl) {
+        if (timeScale < 0 || Double.isNaN(timeScale))
+            throw new IllegalArgumentException("Time scale value cannot be negative");
+        this.recording = recording;
+        this.timeScale = timeScale;
+        this.baseUrl = baseUrl;
+        HashMap<String, List<TrafficRecord>> endpoints = new HashMap<>();
+        HashMap<String, List<TrafficRecord>> paths = new HashMap<>();
+        for (TrafficRecord record : recording.getRecords()) {
+            endpoints.computeIfAbsent(record.getMethod() + " " + record.getEndpoint(), k -> new ArrayList<>())
+                    .add(record);
+            paths.computeIfAbsent(record.getMethod() + " " + record.getPath(), k -> new ArrayList<>()).add(record);
+        }
+        endpoints.forEach((key, records) -> byEndpoint.put(key, new Records(records)));
+        paths.forEach((key, records) -> byPath.put(key, new Records(records)));
+    }
+
+    /**
+     * Constructor to init a {@link ReplayTransport} with {@code BASE_ENDPOINT} as base url
+     *
+     * @param recording: recording to serve
+     * @param timeScale: scale applied to the latencies recorded es. {@link #ORIGINAL_TIMING}, 0.5 to wait half of them,
+     *                   {@link #NO_DELAY} to serve the responses immediately
+     */
+    public ReplayTransport(TrafficRecording recording, double timeScale) {
+        this(recording, timeScale, BASE_ENDPOINT);
+    }
+
+    /**
+     * Constructor to init a {@link ReplayTransport} with {@link #ORIGINAL_TIMING}
+     *
+     * @param recording: recording to serve
+     */
+    public ReplayTransport(TrafficRecording recording) {
+        this(recording, ORIGINAL_TIMING);
+    }
+
+    /**
+     * Method to serve the response recorded for a request
+     *
+     * @param request: signed request to respond
+     * @return response of the request as {@link CoinbaseResponse}
+     * @throws InterruptedException when the current thread is interrupted while waiting the latency recorded
+     */
+    @Override
+    public CoinbaseResponse send(CoinbaseRequest request) throws InterruptedException {
+        long sentAt = System.currentTimeMillis();
+        TrafficRecord record = findRecord(request);
+        long latency = getLatency(record);
+        if (latency > 0)
+            TimeUnit.NANOSECONDS.sleep(latency);
+        return respond(request, record, sentAt, latency);
+    }
+
+    /**
+     * Method to serve asynchronously the response recorded for a request
+     *
+     * @param request: signed request to respond
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    @Override
+    public CompletableFuture<CoinbaseResponse> sendAsync(CoinbaseRequest request) {
+        long sentAt = System.currentTimeMillis();
+        TrafficRecord record = findRecord(request);
+        long latency = getLatency(record);
+        if (latency <= 0)
+            return CompletableFuture.completedFuture(respond(request, record, sentAt, latency));
+        return CompletableFuture.supplyAsync(() -> respond(request, record, sentAt, latency),
+                CompletableFuture.delayedExecutor(latency, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Method to find the record to serve for a request
+     *
+     * @param request: request to respond
+     * @return record to serve as {@link TrafficRecord}, {@code null} if the request has not been recorded
+     */
+    private TrafficRecord findRecord(CoinbaseRequest request) {
+        Records records = byEndpoint.get(request.getMethod() + " " + request.getEndpoint());
+        if (records == null)
+            records = byPath.get(request.getMethod() + " " + request.getPath());
+        if (records == null) {
+            missedRequests.increment();
+            return null;
+        }
+        servedResponses.increment();
+        return records.next();
+    }
+
+    /**
+     * Method to get the latency to wait for a record
+     *
+     * @param record: record to serve, can be {@code null}
+     * @return latency to wait in nanos as long
+     */
+    private long getLatency(TrafficRecord record) {
+        if (record == null || timeScale == NO_DELAY)
+            return 0;
+        return (long) (record.getLatency() * timeScale);
+    }
+
+    /**
+     * Method to create the response for a request
+     *
+     * @param request: request to respond
+     * @param record:  record to serve, {@code null} if the request has not been recorded
+     * @param sentAt:  timestamp in millis when the request has been sent
+     * @param latency: time in nanos waited for the response
+     * @return response of the request as {@link CoinbaseResponse}
+     */
+    private static CoinbaseResponse respond(CoinbaseRequest request, TrafficRecord record, long sentAt, long latency) {
+        if (record == null)
+            return new CoinbaseResponse(request, NOT_RECORDED_STATUS_CODE, NOT_RECORDED_RESPONSE, sentAt, latency);
+        return record.toResponse(request, sentAt, latency);
+    }
+
+    /**
+     * Method to get {@link #recording} instance <br>
+     * No-any params required
+     *
+     * @return {@link #recording} instance as {@link TrafficRecording}
+     */
+    public TrafficRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Method to get {@link #timeScale} instance <br>
+     * No-any params required
+     *
+     * @return {@link #timeScale} instance as double
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Method to get {@link #servedResponses} instance <br>
+     * No-any params required
+     *
+     * @return {@link #servedResponses} instance as long
+     */
+    public long getServedResponses() {
+        return servedResponses.sum();
+    }
+
+    /**
+     * Method to get {@link #missedRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #missedRequests} instance as long
+     */
+    public long getMissedRequests() {
+        return missedRequests.sum();
+    }
+
+    /**
+     * Method to get the base url where the requests are sent <br>
+     * No-any params required
+     *
+     * @return base url where the requests are sent as {@link String}
+     */
+    @Override
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * The {@code Records} class is useful to serve in order the records of the same request
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class Records {
+
+        /**
+         * {@code records} is instance that memorizes the records in order of sending
+         */
+        private final TrafficRecord[] records;
+
+        /**
+         * {@code cursor} is instance that memorizes the number of the records served
+         */
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        /**
+         * Constructor to init a {@link Records}
+         *
+         * @param records: records in order of sending
+         */
+        private Records(List<TrafficRecord> records) {
+            this.records = records.toArray(new TrafficRecord[0]);
+        }
+
+        /**
+         * Method to get the next record to serve <br>
+         * No-any params required
+         *
+         * @return record to serve as {@link TrafficRecord}
+         */
+        private TrafficRecord next() {
+            return records[Math.floorMod(cursor.getAndIncrement(), records.length)];
+        }
+
+    }
+
+}
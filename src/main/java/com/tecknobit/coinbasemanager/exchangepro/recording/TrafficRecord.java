@@ -0,0 +1,218 @@
+package com.tecknobit.coinbasemanager.exchangepro.recording;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+
+/**
+ * The {@code TrafficRecord} class is useful to memorize a request sent to {@code "Coinbase"} and the response received
+ * during a recording
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the headers of the request are never recorded, so the recordings do not contain the credentials or the
+ * signatures used
+ * @see TrafficRecording
+ */
+public class TrafficRecord {
+
+    /**
+     * {@code offset} is instance that memorizes the time in nanos elapsed from the start of the recording when the
+     * request has been sent
+     */
+    private final long offset;
+
+    /**
+     * {@code method} is instance that memorizes the method HTTP of the request
+     */
+    private final RequestMethod method;
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint of the request with its query params
+     */
+    private final String endpoint;
+
+    /**
+     * {@code requestBody} is instance that memorizes the body of the request, {@code null} if it has not a body
+     */
+    private final String requestBody;
+
+    /**
+     * {@code statusCode} is instance that memorizes the status code of the response
+     */
+    private final int statusCode;
+
+    /**
+     * {@code responseBody} is instance that memorizes the body of the response
+     */
+    private final String responseBody;
+
+    /**
+     * {@code latency} is instance that memorizes the time in nanos waited for the response
+     */
+    private final long latency;
+
+    /**
+     * {@code wireLength} is instance that memorizes the bytes of the body received on the network, -1 if unknown
+     */
+    private final long wireLength;
+
+    /**
+     * {@code contentEncoding} is instance that memorizes the encoding of the body received on the network,
+     * {@code null} if was not encoded
+     */
+    private final String contentEncoding;
+
+    /**
+     * Constructor to init a {@link TrafficRecord}
+     *
+     * @param offset:          time in nanos elapsed from the start of the recording when the request has been sent
+     * @param method:          method HTTP of the request
+     * @param endpoint:        endpoint of the request with its query params
+     * @param requestBody:     body of the request, {@code null} if it has not a body
+     * @param statusCode:      status code of the response
+     * @param responseBody:    body of the response
+     * @param latency:         time in nanos waited for the response
+     * @param wireLength:      bytes of the body received on the network, -1 if unknown
+     * @param contentEncoding: encoding of the body received on the network, {@code null} if was not encoded
+     */
+    public TrafficRecord(long offset, RequestMethod method, String endpoint, String requestBody, int statusCode,
+                         String responseBody, long latency, long wireLength, String contentEncoding) {
+        this.offset = offset;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.requestBody = requestBody;
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+        this.latency = latency;
+        this.wireLength = wireLength;
+        this.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * Constructor to init a {@link TrafficRecord}
+     *
+     * @param offset:   time in nanos elapsed from the start of the recording when the request has been sent
+     * @param response: response to record with its request
+     */
+    public TrafficRecord(long offset, CoinbaseResponse response) {
+        this(offset, response.getRequest().getMethod(), response.getRequest().getEndpoint(),
+                response.getRequest().getBody(), response.getStatusCode(), response.getBody(), response.getLatency(),
+                response.getWireLength(), response.getContentEncoding());
+    }
+
+    /**
+     * Method to create the {@link CoinbaseResponse} recorded for a request
+     *
+     * @param request: request to respond
+     * @param sentAt:  timestamp in millis when the request has been sent
+     * @param latency: time in nanos waited for the response
+     * @return response recorded as {@link CoinbaseResponse}
+     */
+    public CoinbaseResponse toResponse(CoinbaseRequest request, long sentAt, long latency) {
+        return new CoinbaseResponse(request, statusCode, responseBody, sentAt, latency, wireLength, contentEncoding);
+    }
+
+    /**
+     * Method to get {@link #offset} instance <br>
+     * No-any params required
+     *
+     * @return {@link #offset} instance as long
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     */
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #endpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpoint} instance as {@link String}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Method to get the path of the {@link #endpoint} without its query params <br>
+     * No-any params required
+     *
+     * @return path of the endpoint as {@link String}
+     */
+    public String getPath() {
+        int queryIndex = endpoint.indexOf('?');
+        if (queryIndex == -1)
+            return endpoint;
+        return endpoint.substring(0, queryIndex);
+    }
+
+    /**
+     * Method to get {@link #requestBody} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestBody} instance as {@link String}
+     */
+    public String getRequestBody() {
+        return requestBody;
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get {@link #responseBody} instance <br>
+     * No-any params required
+     *
+     * @return {@link #responseBody} instance as {@link String}
+     */
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    /**
+     * Method to get {@link #latency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #latency} instance as long
+     */
+    public long getLatency() {
+        return latency;
+    }
+
+    /**
+     * Method to get {@link #wireLength} instance <br>
+     * No-any params required
+     *
+     * @return {@link #wireLength} instance as long
+     */
+    public long getWireLength() {
+        return wireLength;
+    }
+
+    /**
+     * Method to get {@link #contentEncoding} instance <br>
+     * No-any params required
+     *
+     * @return {@link #contentEncoding} instance as {@link String}
+     */
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+}
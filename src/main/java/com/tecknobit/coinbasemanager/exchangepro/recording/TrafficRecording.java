@@ -0,0 +1,352 @@
+package com.tecknobit.coinbasemanager.exchangepro.recording;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code TrafficRecording} class is useful to store the {@link TrafficRecord} captured by a
+ * {@link RecordingTransport} and to read them back from their file
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the file is compressed with {@code "gzip"} and each record is written with variable length numbers and
+ * the offset relative to the previous record, so a day of traffic takes a fraction of its size on the network.
+ * The records of a file truncated, because the process has been killed while recording, are read until the last
+ * complete one
+ * @see TrafficRecord
+ * @see RecordingTransport
+ * @see ReplayTransport
+ */
+public class TrafficRecording {
+
+    /**
+     * {@code MAGIC} is constant for the header that identifies the files of the recordings
+     */
+    public static final int MAGIC = 0x43425254;
+
+    /**
+     * {@code VERSION} is constant for the version of the format of the files of the recordings
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * {@code BUFFER_SIZE} is constant for the size of the buffers used to read and write the files
+     */
+    private static final int BUFFER_SIZE = 65536;
+
+    /**
+     * {@code records} is instance that memorizes the records of the recording in order of sending
+     */
+    private final List<TrafficRecord> records;
+
+    /**
+     * Constructor to init a {@link TrafficRecording}
+     *
+     * @param records: records of the recording
+     */
+    public TrafficRecording(List<TrafficRecord> records) {
+        ArrayList<TrafficRecord> sorted = new ArrayList<>(records);
+        sorted.sort((first, second) -> Long.compare(first.getOffset(), second.getOffset()));
+        this.records = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Method to read a recording from its file
+     *
+     * @param file: file of the recording
+     * @return recording read as {@link TrafficRecording}
+     * @throws IOException when the file cannot be read or is not a recording
+     */
+    public static TrafficRecording read(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Method to read a recording from a stream
+     *
+     * @param input: stream where read the recording, it is not closed by this method
+     * @return recording read as {@link TrafficRecording}
+     * @throws IOException when the stream cannot be read or is not a recording
+     */
+    public static TrafficRecording read(InputStream input) throws IOException {
+        Reader reader = new Reader(input);
+        ArrayList<TrafficRecord> records = new ArrayList<>();
+        TrafficRecord record;
+        while ((record = reader.read()) != null)
+            records.add(record);
+        return new TrafficRecording(records);
+    }
+
+    /**
+     * Method to write the recording in a file
+     *
+     * @param file: file where write the recording, it is replaced if already exists
+     * @throws IOException when the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        try (Writer writer = new Writer(Files.newOutputStream(file))) {
+            for (TrafficRecord record : records)
+                writer.write(record);
+        }
+    }
+
+    /**
+     * Method to get {@link #records} instance <br>
+     * No-any params required
+     *
+     * @return {@link #records} instance as {@link List} of {@link TrafficRecord}
+     */
+    public List<TrafficRecord> getRecords() {
+        return records;
+    }
+
+    /**
+     * Method to get the number of the records <br>
+     * No-any params required
+     *
+     * @return number of the records as int
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Method to get the duration of the recording, from the first request sent to the last response received <br>
+     * No-any params required
+     *
+     * @return duration of the recording in nanos as long
+     */
+    public long getDuration() {
+        long duration = 0;
+        for (TrafficRecord record : records)
+            duration = Math.max(duration, record.getOffset() + record.getLatency());
+        return records.isEmpty() ? 0 : duration - records.get(0).getOffset();
+    }
+
+    /**
+     * The {@code Writer} class is useful to write the records in the format of the recordings
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @implNote this class is not thread-safe, the {@link RecordingTransport} serializes its writes
+     */
+    static final class Writer implements Closeable {
+
+        /**
+         * {@code output} is instance that memorizes the stream where the records are written
+         */
+        private final DataOutputStream output;
+
+        /**
+         * {@code lastOffset} is instance that memorizes the offset of the last record written
+         */
+        private long lastOffset;
+
+        /**
+         * Constructor to init a {@link Writer}
+         *
+         * @param output: stream where write the records
+         * @throws IOException when the header cannot be written
+         */
+        Writer(OutputStream output) throws IOException {
+            this.output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(output, BUFFER_SIZE,
+                    true), BUFFER_SIZE));
+            this.output.writeInt(MAGIC);
+            this.output.writeByte(VERSION);
+        }
+
+        /**
+         * Method to write a record
+         *
+         * @param record: record to write
+         * @throws IOException when the record cannot be written
+         */
+        void write(TrafficRecord record) throws IOException {
+            output.writeByte(1);
+            // the async responses can complete out of order, so the delta can be negative
+            long delta = record.getOffset() - lastOffset;
+            writeVarLong((delta << 1) ^ (delta >> 63));
+            lastOffset = record.getOffset();
+            writeString(record.getMethod().name());
+            writeString(record.getEndpoint());
+            writeString(record.getRequestBody());
+            writeVarLong(record.getStatusCode());
+            writeString(record.getResponseBody());
+            writeVarLong(record.getLatency());
+            writeVarLong(record.getWireLength() + 1);
+            writeString(record.getContentEncoding());
+        }
+
+        /**
+         * Method to write a number with a variable length
+         *
+         * @param value: value to write, must be positive
+         * @throws IOException when the value cannot be written
+         */
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                output.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            output.writeByte((int) value);
+        }
+
+        /**
+         * Method to write a string encoded in {@code "UTF-8"}
+         *
+         * @param value: value to write, can be {@code null}
+         * @throws IOException when the value cannot be written
+         */
+        private void writeString(String value) throws IOException {
+            if (value == null)
+                writeVarLong(0);
+            else {
+                byte[] bytes = value.getBytes(UTF_8);
+                writeVarLong(bytes.length + 1);
+                output.write(bytes);
+            }
+        }
+
+        /**
+         * Method to flush the records written, so they can be read also if the recording is not closed <br>
+         * No-any params required
+         *
+         * @throws IOException when the records cannot be flushed
+         */
+        void flush() throws IOException {
+            output.flush();
+        }
+
+        /**
+         * Method to close the writer writing the end of the recording <br>
+         * No-any params required
+         *
+         * @throws IOException when the recording cannot be completed
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                output.writeByte(0);
+            } finally {
+                output.close();
+            }
+        }
+
+    }
+
+    /**
+     * The {@code Reader} class is useful to read the records from the format of the recordings
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class Reader {
+
+        /**
+         * {@code input} is instance that memorizes the stream where the records are read
+         */
+        private final DataInputStream input;
+
+        /**
+         * {@code lastOffset} is instance that memorizes the offset of the last record read
+         */
+        private long lastOffset;
+
+        /**
+         * Constructor to init a {@link Reader}
+         *
+         * @param input: stream where read the records
+         * @throws IOException when the header cannot be read or is not valid
+         */
+        private Reader(InputStream input) throws IOException {
+            this.input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(input, BUFFER_SIZE),
+                    BUFFER_SIZE));
+            if (this.input.readInt() != MAGIC)
+                throw new IOException("The file is not a traffic recording");
+            int version = this.input.readUnsignedByte();
+            if (version != VERSION)
+                throw new IOException("Traffic recording version not supported: " + version);
+        }
+
+        /**
+         * Method to read the next record <br>
+         * No-any params required
+         *
+         * @return record read as {@link TrafficRecord}, {@code null} when the recording is ended
+         * @throws IOException when the record cannot be read
+         */
+        private TrafficRecord read() throws IOException {
+            try {
+                if (input.readUnsignedByte() == 0)
+                    return null;
+                long delta = readVarLong();
+                long offset = lastOffset + ((delta >>> 1) ^ -(delta & 1));
+                TrafficRecord record = new TrafficRecord(offset, RequestMethod.valueOf(readString()), readString(),
+                        readString(), (int) readVarLong(), readString(), readVarLong(), readVarLong() - 1,
+                        readString());
+                lastOffset = offset;
+                return record;
+            } catch (EOFException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Method to read a number with a variable length <br>
+         * No-any params required
+         *
+         * @return value read as long
+         * @throws IOException when the value cannot be read
+         */
+        private long readVarLong() throws IOException {
+            long value = 0;
+            int shift = 0;
+            int current;
+            do {
+                if (shift > 63)
+                    throw new IOException("Malformed traffic recording");
+                current = input.readUnsignedByte();
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+
+        /**
+         * Method to read a string encoded in {@code "UTF-8"} <br>
+         * No-any params required
+         *
+         * @return value read as {@link String}, can be {@code null}
+         * @throws IOException when the value cannot be read
+         */
+        private String readString() throws IOException {
+            long length = readVarLong();
+            if (length == 0)
+                return null;
+            if (length - 1 > Integer.MAX_VALUE)
+                throw new IOException("Malformed traffic recording");
+            byte[] bytes = new byte[(int) (length - 1)];
+            input.readFully(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+    }
+
+}
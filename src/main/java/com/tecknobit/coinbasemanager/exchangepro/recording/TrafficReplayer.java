@@ -0,0 +1,181 @@
+package com.tecknobit.coinbasemanager.exchangepro.recording;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import org.json.JSONObject;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.DELETE;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+
+/**
+ * The {@code TrafficReplayer} class is useful to send again the requests of a {@link TrafficRecording} through a
+ * {@link CoinbaseManager}, with the same pace they have been recorded or with a scaled one, so the signing and the
+ * pipeline of the manager are exercised with a real traffic
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the requests are sent asynchronously as they have been recorded, also when the previous ones are still
+ * waiting their responses, so the manager should use a {@link ReplayTransport} of the same recording to not send them
+ * to {@code "Coinbase"}
+ * @see ReplayTransport
+ */
+public class TrafficReplayer {
+
+    /**
+     * {@code manager} is instance that memorizes the manager used to send the requests
+     */
+    private final CoinbaseManager manager;
+
+    /**
+     * {@code recording} is instance that memorizes the recording to replay
+     */
+    private final TrafficRecording recording;
+
+    /**
+     * {@code replayedRequests} is instance that memorizes the number of the requests replayed
+     */
+    private final LongAdder replayedRequests = new LongAdder();
+
+    /**
+     * {@code failedRequests} is instance that memorizes the number of the requests failed with an exception
+     */
+    private final LongAdder failedRequests = new LongAdder();
+
+    /**
+     * {@code mismatchedResponses} is instance that memorizes the number of the responses with a status code different
+     * from the recorded one
+     */
+    private final LongAdder mismatchedResponses = new LongAdder();
+
+    /**
+     * Constructor to init a {@link TrafficReplayer}
+     *
+     * @param manager:   manager used to send the requests
+     * @param recording: recording to replay
+     */
+    public TrafficReplayer(CoinbaseManager manager, TrafficRecording recording) {
+        if (manager == null)
+            throw new IllegalArgumentException("Manager cannot be null");
+        this.manager = manager;
+        this.recording = recording;
+    }
+
+    /**
+     * Method to replay the recording waiting between the requests the same time waited while recording <br>
+     * No-any params required
+     *
+     * @return time in nanos taken by the replay as long
+     * @throws InterruptedException when the current thread is interrupted while replaying
+     */
+    public long replay() throws InterruptedException {
+        return replay(ReplayTransport.ORIGINAL_TIMING);
+    }
+
+    /**
+     * Method to replay the recording
+     *
+     * @param timeScale: scale applied to the time waited between the requests es.
+     *                   {@link ReplayTransport#ORIGINAL_TIMING}, 0.5 to replay twice faster,
+     *                   {@link ReplayTransport#NO_DELAY} to send all the requests without waiting
+     * @return time in nanos taken by the replay, until the last response has been received, as long
+     * @throws InterruptedException when the current thread is interrupted while replaying
+     */
+    public long replay(double timeScale) throws InterruptedException {
+        if (timeScale < 0 || Double.isNaN(timeScale))
+            throw new IllegalArgumentException("Time scale value cannot be negative");
+        List<TrafficRecord> records = recording.getRecords();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[records.size()];
+        long start = System.nanoTime();
+        long firstOffset = records.isEmpty() ? 0 : records.get(0).getOffset();
+        for (int j = 0; j < responses.length; j++) {
+            TrafficRecord record = records.get(j);
+            if (timeScale != ReplayTransport.NO_DELAY) {
+                long wait = start + (long) ((record.getOffset() - firstOffset) * timeScale) - System.nanoTime();
+                if (wait > 0)
+                    LockSupport.parkNanos(wait);
+                if (Thread.interrupted())
+                    throw new InterruptedException();
+            }
+            responses[j] = replay(record);
+        }
+        try {
+            CompletableFuture.allOf(responses).join();
+        } catch (CompletionException ignored) {
+            // already counted by each request
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Method to replay a record
+     *
+     * @param record: record to replay
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    private CompletableFuture<CoinbaseResponse> replay(TrafficRecord record) {
+        RequestMethod method = record.getMethod();
+        Params params = null;
+        if (method != GET && method != DELETE && record.getRequestBody() != null
+                && !record.getRequestBody().isEmpty()) {
+            JSONObject body = new JSONObject(record.getRequestBody());
+            params = new Params();
+            for (String key : body.keySet())
+                params.addParam(key, body.get(key));
+        }
+        return manager.executeAsync(method, record.getEndpoint(), params).whenComplete((response, error) -> {
+            replayedRequests.increment();
+            if (error != null)
+                failedRequests.increment();
+            else if (response.getStatusCode() != record.getStatusCode())
+                mismatchedResponses.increment();
+        });
+    }
+
+    /**
+     * Method to get {@link #recording} instance <br>
+     * No-any params required
+     *
+     * @return {@link #recording} instance as {@link TrafficRecording}
+     */
+    public TrafficRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Method to get {@link #replayedRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #replayedRequests} instance as long
+     */
+    public long getReplayedRequests() {
+        return replayedRequests.sum();
+    }
+
+    /**
+     * Method to get {@link #failedRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #failedRequests} instance as long
+     */
+    public long getFailedRequests() {
+        return failedRequests.sum();
+    }
+
+    /**
+     * Method to get {@link #mismatchedResponses} instance <br>
+     * No-any params required
+     *
+     * @return {@link #mismatchedResponses} instance as long
+     */
+    public long getMismatchedResponses() {
+        return mismatchedResponses.sum();
+    }
+
+}
@@ -13,6 +13,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
@@ -247,18 +248,20 @@ public class CoinbaseReportsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnReportsList(String reportsResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(reportsResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Report> reports = new ArrayList<>();
-                JSONArray jReports = new JSONArray(reportsResponse);
-                for (int j = 0; j < jReports.length(); j++)
-                    reports.add(new Report(jReports.getJSONObject(j)));
-                return (T) reports;
-            default:
-                return (T) reportsResponse;
-        }
+        return returnFormatted("CoinbaseReportsManager.returnReportsList", reportsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(reportsResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<Report> reports = new ArrayList<>();
+                    JSONArray jReports = new JSONArray(reportsResponse);
+                    for (int j = 0; j < jReports.length(); j++)
+                        reports.add(new Report(jReports.getJSONObject(j)));
+                    return (T) reports;
+                default:
+                    return (T) reportsResponse;
+            }
+        });
     }
 
     /**
@@ -1012,14 +1015,16 @@ public class CoinbaseReportsManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnReportDetails(String reportDetailsResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(reportDetailsResponse);
-            case LIBRARY_OBJECT:
-                return (T) new ReportDetails(new JSONObject(reportDetailsResponse));
-            default:
-                return (T) reportDetailsResponse;
-        }
+        return returnFormatted("CoinbaseReportsManager.returnReportDetails", reportDetailsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(reportDetailsResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new ReportDetails(new JSONObject(reportDetailsResponse));
+                default:
+                    return (T) reportDetailsResponse;
+            }
+        });
     }
 
     /**
@@ -1072,15 +1077,664 @@ public class CoinbaseReportsManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/reports/{report_id}")
     public <T> T getReport(String reportId, ReturnFormat format) throws Exception {
-        String reportResponse = sendGETRequest(REPORTS_ENDPOINT + "/" + reportId);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(reportResponse);
-            case LIBRARY_OBJECT:
-                return (T) new Report(new JSONObject(reportResponse));
-            default:
-                return (T) reportResponse;
-        }
+        return returnReport(sendGETRequest(REPORTS_ENDPOINT + "/" + reportId), format);
+    }
+
+    /**
+     * Request to get all reports asynchronously
+     *
+     * @param type: type of report from fetch details
+     * @return all reports list as {@link CompletableFuture} of {@link ArrayList} of {@link Report},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getreports">
+     * Get all reports</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ArrayList<Report>> getAllReportsAsync(ReportType type) {
+        return getAllReportsAsync(type, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all reports asynchronously
+     *
+     * @param type:   type of report from fetch details
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return all reports list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getreports">
+     * Get all reports</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> getAllReportsAsync(ReportType type, ReturnFormat format) {
+        return sendGETRequestAsync(REPORTS_ENDPOINT + "?=type" + type)
+                .thenApply(reportsResponse -> returnReportsList(reportsResponse, format));
+    }
+
+    /**
+     * Request to get all reports asynchronously
+     *
+     * @param type:        type of report from fetch details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> filter results by a specific profile_id - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "ignore_expired"} -> ignore expired results - [boolean]
+     *                          </li>
+     *                     </ul>
+     * @return all reports as {@link CompletableFuture} of {@link ArrayList} of {@link Report},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getreports">
+     * Get all reports</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ArrayList<Report>> getAllReportsAsync(ReportType type, Params queryParams) {
+        return getAllReportsAsync(type, queryParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all reports asynchronously
+     *
+     * @param type:        type of report from fetch details
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> filter results by a specific profile_id - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "ignore_expired"} -> ignore expired results - [boolean]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return all reports as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getreports">
+     * Get all reports</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> getAllReportsAsync(ReportType type, Params queryParams, ReturnFormat format) {
+        queryParams.addParam("type", type);
+        return sendGETRequestAsync(REPORTS_ENDPOINT + queryParams.createQueryString())
+                .thenApply(reportsResponse -> returnReportsList(reportsResponse, format));
+    }
+
+    /**
+     * Request to create a general report asynchronously
+     *
+     * @param type:        type of report to create
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product - Which product to generate the report for - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of creation of the general report as {@link CompletableFuture} of {@link ReportDetails},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createGeneralReportAsync(ReportType type, Params extraParams) {
+        return createGeneralReportAsync(type, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a general report asynchronously
+     *
+     * @param type:        type of report to create
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "product_id"} -> product - Which product to generate the report for - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return result of creation of the general report as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> createGeneralReportAsync(ReportType type, Params extraParams, ReturnFormat format) {
+        extraParams.addParam("type", type);
+        return sendPostRequestAsync(REPORTS_ENDPOINT, extraParams)
+                .thenApply(reportDetailsResponse -> returnReportDetails(reportDetailsResponse, format));
+    }
+
+    /**
+     * Request to create a {@link ReportType#_1099k_transaction_history} report asynchronously
+     *
+     * @param year: year to create report
+     * @return result of creation of {@link ReportType#_1099k_transaction_history} report as {@link CompletableFuture}
+     * of {@link ReportDetails}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> create1099KReportAsync(int year) {
+        return create1099KReportAsync(year, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a {@link ReportType#_1099k_transaction_history} report asynchronously
+     *
+     * @param year:   year to create report
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return result of creation of {@link ReportType#_1099k_transaction_history} report as {@link CompletableFuture}
+     * of {@code "format"} defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> create1099KReportAsync(int year, ReturnFormat format) {
+        return sendPostRequestAsync(REPORTS_ENDPOINT, assemble1099KPayload(year))
+                .thenApply(reportDetailsResponse -> returnReportDetails(reportDetailsResponse, format));
+    }
+
+    /**
+     * Request to create a {@link ReportType#_1099k_transaction_history} report asynchronously
+     *
+     * @param year:        year to create report
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of creation of {@link ReportType#_1099k_transaction_history} report as {@link CompletableFuture}
+     * of {@link ReportDetails}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> create1099KReportAsync(int year, Params extraParams) {
+        return create1099KReportAsync(year, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a {@link ReportType#_1099k_transaction_history} report asynchronously
+     *
+     * @param year:        year to create report
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return result of creation of {@link ReportType#_1099k_transaction_history} report as {@link CompletableFuture}
+     * of {@code "format"} defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> create1099KReportAsync(int year, Params extraParams, ReturnFormat format) {
+        Params payload = assemble1099KPayload(year);
+        payload.mergeParams(extraParams);
+        return sendPostRequestAsync(REPORTS_ENDPOINT, payload)
+                .thenApply(reportDetailsResponse -> returnReportDetails(reportDetailsResponse, format));
+    }
+
+    /**
+     * Request to create a {@link ReportType#fills} report asynchronously
+     *
+     * @param productId: product identifier to create report
+     * @return result of creation of {@link ReportType#fills} report as {@link CompletableFuture} of
+     * {@link ReportDetails}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createFillsReportAsync(String productId) {
+        return createFillsReportAsync(productId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a {@link ReportType#fills} report asynchronously
+     *
+     * @param productId: product identifier to create report
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return result of creation of {@link ReportType#fills} report as {@link CompletableFuture} of {@code "format"}
+     * defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> createFillsReportAsync(String productId, ReturnFormat format) {
+        return sendPostRequestAsync(REPORTS_ENDPOINT, assembleFillsPayload(productId))
+                .thenApply(reportDetailsResponse -> returnReportDetails(reportDetailsResponse, format));
+    }
+
+    /**
+     * Request to create a {@link ReportType#fills} report asynchronously
+     *
+     * @param productId:   product identifier to create report
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of creation of {@link ReportType#fills} report as {@link CompletableFuture} of
+     * {@link ReportDetails}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createFillsReportAsync(String productId, Params extraParams) {
+        return createFillsReportAsync(productId, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a {@link ReportType#fills} report asynchronously
+     *
+     * @param productId:   product identifier to create report
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return result of creation of {@link ReportType#fills} report as {@link CompletableFuture} of {@code "format"}
+     * defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> createFillsReportAsync(String productId, Params extraParams, ReturnFormat format) {
+        Params payload = assembleFillsPayload(productId);
+        payload.mergeParams(extraParams);
+        return sendPostRequestAsync(REPORTS_ENDPOINT, payload)
+                .thenApply(reportDetailsResponse -> returnReportDetails(reportDetailsResponse, format));
+    }
+
+    /**
+     * Request to create a {@link ReportType#account} report asynchronously
+     *
+     * @param accountId: account identifier to create report
+     * @return result of creation of {@link ReportType#account} report as {@link CompletableFuture} of
+     * {@link ReportDetails}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createAccountReportAsync(String accountId) {
+        return createAccountReportAsync(accountId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a {@link ReportType#account} report asynchronously
+     *
+     * @param accountId: account identifier to create report
+     * @param format:    return type formatter -> {@link ReturnFormat}
+     * @return result of creation of {@link ReportType#account} report as {@link CompletableFuture} of {@code "format"}
+     * defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> createAccountReportAsync(String accountId, ReturnFormat format) {
+        return sendPostRequestAsync(REPORTS_ENDPOINT, assembleAccountPayload(accountId))
+                .thenApply(reportDetailsResponse -> returnReportDetails(reportDetailsResponse, format));
+    }
+
+    /**
+     * Request to create a {@link ReportType#account} report asynchronously
+     *
+     * @param accountId:   account identifier to create report
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of creation of {@link ReportType#account} report as {@link CompletableFuture} of
+     * {@link ReportDetails}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createAccountReportAsync(String accountId, Params extraParams) {
+        return createAccountReportAsync(accountId, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a {@link ReportType#account} report asynchronously
+     *
+     * @param accountId:   account identifier to create report
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "start_date"} -> start date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "end_date"} -> end date for items to be included in report - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "email"} -> email to send generated report notification to - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                              is linked to the API key - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return result of creation of {@link ReportType#account} report as {@link CompletableFuture} of {@code "format"}
+     * defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createAccountReportAsync(String accountId, Params extraParams,
+                                                                     ReturnFormat format) {
+        Params params = assembleAccountPayload(accountId);
+        params.mergeParams(extraParams);
+        return sendPostRequestAsync(REPORTS_ENDPOINT, params)
+                .thenApply(reportDetailsResponse -> returnReportDetails(reportDetailsResponse, format));
+    }
+
+    /**
+     * Request to create a general report asynchronously
+     *
+     * @param dateTime:       designated date and time of the balance statement. Timezone is always UTC. If this field is empty,
+     *                        a report of the user’s current balance will be generated
+     * @param groupByProfile: not applicable if generating report through an API key; only available through report generation
+     *                        via the Exchange user interface (UI)
+     * @return result of creation of the general report as {@link CompletableFuture} of {@link ReportDetails},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createBalanceReportAsync(String dateTime, boolean groupByProfile) {
+        return createBalanceReportAsync(dateTime, groupByProfile, new Params(), ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a general report asynchronously
+     *
+     * @param dateTime:       designated date and time of the balance statement. Timezone is always UTC. If this field is empty,
+     *                        a report of the user’s current balance will be generated
+     * @param groupByProfile: not applicable if generating report through an API key; only available through report generation
+     *                        via the Exchange user interface (UI)
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return result of creation of the general report as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> createBalanceReportAsync(String dateTime, boolean groupByProfile,
+                                                             ReturnFormat format) {
+        return createBalanceReportAsync(dateTime, groupByProfile, new Params(), format);
+    }
+
+    /**
+     * Request to create a general report asynchronously
+     *
+     * @param dateTime:       designated date and time of the balance statement. Timezone is always UTC. If this field is empty,
+     *                        a report of the user’s current balance will be generated
+     * @param groupByProfile: not applicable if generating report through an API key; only available through report generation
+     *                        via the Exchange user interface (UI)
+     * @param extraParams:    extra params of the request, keys accepted are:
+     *                        <ul>
+     *                             <li>
+     *                                 {@code "start_date"} -> start date for items to be included in report - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "end_date"} -> end date for items to be included in report - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "email"} -> email to send generated report notification to - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                                 is linked to the API key - [string]
+     *                             </li>
+     *                        </ul>
+     * @return result of creation of the general report as {@link CompletableFuture} of {@link ReportDetails},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public CompletableFuture<ReportDetails> createBalanceReportAsync(String dateTime, boolean groupByProfile,
+                                                                     Params extraParams) {
+        return createBalanceReportAsync(dateTime, groupByProfile, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to create a general report asynchronously
+     *
+     * @param dateTime:       designated date and time of the balance statement. Timezone is always UTC. If this field is empty,
+     *                        a report of the user’s current balance will be generated
+     * @param groupByProfile: not applicable if generating report through an API key; only available through report generation
+     *                        via the Exchange user interface (UI)
+     * @param extraParams:    extra params of the request, keys accepted are:
+     *                        <ul>
+     *                             <li>
+     *                                 {@code "start_date"} -> start date for items to be included in report - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "end_date"} -> end date for items to be included in report - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "format"} -> format value, constants available at {@link Format} - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "email"} -> email to send generated report notification to - [string]
+     *                             </li>
+     *                             <li>
+     *                                 {@code "profile_id"} -> if this field is specified, it must be the profile_id that
+     *                                 is linked to the API key - [string]
+     *                             </li>
+     *                        </ul>
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return result of creation of the general report as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postreports">
+     * Create a report</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/reports")
+    public <T> CompletableFuture<T> createBalanceReportAsync(String dateTime, boolean groupByProfile,
+                                                             Params extraParams, ReturnFormat format) {
+        extraParams.addParam(balance.toString(), new JSONObject()
+                .put("datetime", dateTime)
+                .put("group_by_profile", groupByProfile));
+        return createGeneralReportAsync(balance, extraParams, format);
+    }
+
+    /**
+     * Request to get specific report asynchronously
+     *
+     * @param reportId: identifier of report to fetch
+     * @return specific report as {@link CompletableFuture} of {@link Report},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getreport">
+     * Get a report</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/reports/{report_id}")
+    public CompletableFuture<Report> getReportAsync(String reportId) {
+        return getReportAsync(reportId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get specific report asynchronously
+     *
+     * @param reportId: identifier of report to fetch
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return specific report as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getreport">
+     * Get a report</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/reports/{report_id}")
+    public <T> CompletableFuture<T> getReportAsync(String reportId, ReturnFormat format) {
+        return sendGETRequestAsync(REPORTS_ENDPOINT + "/" + reportId)
+                .thenApply(reportResponse -> returnReport(reportResponse, format));
+    }
+
+    /**
+     * Method to assemble a report object
+     *
+     * @param reportResponse: report response to format
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return report response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnReport(String reportResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseReportsManager.returnReport", reportResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(reportResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new Report(new JSONObject(reportResponse));
+                default:
+                    return (T) reportResponse;
+            }
+        });
     }
 
 }
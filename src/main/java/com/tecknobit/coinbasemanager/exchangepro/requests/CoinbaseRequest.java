@@ -0,0 +1,135 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code CoinbaseRequest} class is useful to describe a single signed request to send to {@code "Coinbase"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote any instance is immutable and owns its headers, so the same request can be safely shared
+ * between different threads and it's never influenced by the other requests signed at the same time
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/rest-auth">
+ * Authentication</a>
+ */
+public class CoinbaseRequest {
+
+    /**
+     * {@code method} is instance that memorizes the HTTP method of the request
+     */
+    private final RequestMethod method;
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint of the request with its query params
+     */
+    private final String endpoint;
+
+    /**
+     * {@code body} is instance that memorizes the body of the request, {@code null} if the request has not a body
+     */
+    private final String body;
+
+    /**
+     * {@code timestamp} is instance that memorizes the timestamp used to sign the request
+     */
+    private final String timestamp;
+
+    /**
+     * {@code headers} is instance that memorizes the headers of the request
+     */
+    private final Map<String, String> headers;
+
+    /**
+     * Constructor to init a {@link CoinbaseRequest}
+     *
+     * @param method:      HTTP method of the request
+     * @param endpoint:    endpoint of the request with its query params
+     * @param body:        body of the request, {@code null} if the request has not a body
+     * @param timestamp:   timestamp used to sign the request
+     * @param headers:     headers of the request
+     */
+    public CoinbaseRequest(RequestMethod method, String endpoint, String body, String timestamp, Map<String, String> headers) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.body = body;
+        this.timestamp = timestamp;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     */
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #endpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpoint} instance as {@link String}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Method to get the path of the {@link #endpoint} without its query params <br>
+     * No-any params required
+     *
+     * @return path of the {@link #endpoint} as {@link String} es. /orders
+     */
+    public String getPath() {
+        int queryIndex = endpoint.indexOf('?');
+        if (queryIndex == -1)
+            return endpoint;
+        return endpoint.substring(0, queryIndex);
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as {@link String}
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Method to get {@link #timestamp} instance <br>
+     * No-any params required
+     *
+     * @return {@link #timestamp} instance as {@link String}
+     */
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Method to get {@link #headers} instance <br>
+     * No-any params required
+     *
+     * @return {@link #headers} instance as unmodifiable {@link Map} of {@link String}
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Method to get a header of the request
+     *
+     * @param key: key of the header to get
+     * @return header value as {@link String}, {@code null} if it is not set
+     */
+    public String getHeader(String key) {
+        return headers.get(key);
+    }
+
+}
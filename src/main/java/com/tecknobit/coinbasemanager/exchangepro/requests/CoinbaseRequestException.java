@@ -0,0 +1,71 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import java.io.IOException;
+
+/**
+ * The {@code CoinbaseRequestException} is thrown when {@code "Coinbase"} answers to a request with an error status code
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see IOException
+ */
+public class CoinbaseRequestException extends IOException {
+
+    /**
+     * {@code serialVersionUID} is constant for the version of the serialized form of the exception
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@code response} is instance that memorizes the error response received, not serialized with the exception
+     */
+    private final transient CoinbaseResponse response;
+
+    /**
+     * Constructor to init a {@link CoinbaseRequestException}
+     *
+     * @param response: the error response received
+     */
+    public CoinbaseRequestException(CoinbaseResponse response) {
+        super("Request to " + getEndpoint(response) + " failed with status code " + response.getStatusCode()
+                + ": " + response.getErrorResponse());
+        this.response = response;
+    }
+
+    /**
+     * Method to get the endpoint of the request of an error response
+     *
+     * @param response: the error response received
+     * @return endpoint of the request as {@link String}, {@code "unknown endpoint"} if the response has not the
+     * request
+     */
+    private static String getEndpoint(CoinbaseResponse response) {
+        CoinbaseRequest request = response.getRequest();
+        if (request == null)
+            return "unknown endpoint";
+        return request.getEndpoint();
+    }
+
+    /**
+     * Method to get {@link #response} instance <br>
+     * No-any params required
+     *
+     * @return {@link #response} instance as {@link CoinbaseResponse}, {@code null} if the exception has been
+     * deserialized
+     */
+    public CoinbaseResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Method to get the status code of the error response <br>
+     * No-any params required
+     *
+     * @return status code of the error response as int, -1 if the exception has been deserialized
+     */
+    public int getStatusCode() {
+        if (response == null)
+            return -1;
+        return response.getStatusCode();
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * The {@code CoinbaseResponse} class is useful to format the result of a single request sent to {@code "Coinbase"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote any instance is immutable and is created for each request, so it can be freely shared between
+ * different threads without reading the result of another request
+ * @see CoinbaseRequest
+ */
+public class CoinbaseResponse {
+
+    /**
+     * {@code request} is instance that memorizes the request which produced this response
+     */
+    private final CoinbaseRequest request;
+
+    /**
+     * {@code statusCode} is instance that memorizes the HTTP status code of the response
+     */
+    private final int statusCode;
+
+    /**
+     * {@code body} is instance that memorizes the body of the response
+     */
+    private final String body;
+
+    /**
+     * {@code sentAt} is instance that memorizes the timestamp in millis when the request has been sent
+     */
+    private final long sentAt;
+
+    /**
+     * {@code latency} is instance that memorizes the time in nanos elapsed to get the response
+     */
+    private final long latency;
+
+    /**
+     * {@code wireLength} is instance that memorizes the number of bytes of the body received on the network, before
+     * its decompression
+     */
+    private final long wireLength;
+
+    /**
+     * {@code contentEncoding} is instance that memorizes the encoding of the body received on the network
+     */
+    private final String contentEncoding;
+
+    /**
+     * Constructor to init a {@link CoinbaseResponse}
+     *
+     * @param request:         request which produced this response
+     * @param statusCode:      HTTP status code of the response
+     * @param body:            body of the response
+     * @param sentAt:          timestamp in millis when the request has been sent
+     * @param latency:         time in nanos elapsed to get the response
+     * @param wireLength:      number of bytes of the body received on the network, -1 if unknown
+     * @param contentEncoding: encoding of the body received on the network es. gzip, {@code null} if not encoded
+     */
+    public CoinbaseResponse(CoinbaseRequest request, int statusCode, String body, long sentAt, long latency,
+                            long wireLength, String contentEncoding) {
+        this.request = request;
+        this.statusCode = statusCode;
+        this.body = body;
+        this.sentAt = sentAt;
+        this.latency = latency;
+        this.wireLength = wireLength;
+        this.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * Constructor to init a {@link CoinbaseResponse}
+     *
+     * @param request:    request which produced this response
+     * @param statusCode: HTTP status code of the response
+     * @param body:       body of the response
+     * @param sentAt:     timestamp in millis when the request has been sent
+     * @param latency:    time in nanos elapsed to get the response
+     * @apiNote the number of bytes received on the network will be unknown
+     */
+    public CoinbaseResponse(CoinbaseRequest request, int statusCode, String body, long sentAt, long latency) {
+        this(request, statusCode, body, sentAt, latency, -1, null);
+    }
+
+    /**
+     * Method to get {@link #request} instance <br>
+     * No-any params required
+     *
+     * @return {@link #request} instance as {@link CoinbaseRequest}
+     */
+    public CoinbaseRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get whether the request has been successful <br>
+     * No-any params required
+     *
+     * @return whether the status code of the response is a {@code "2xx"} code as boolean
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as {@link String}
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Method to get the error response <br>
+     * No-any params required
+     *
+     * @return error response as {@link String}, {@code null} if the request has been successful
+     */
+    public String getErrorResponse() {
+        if (isSuccessful())
+            return null;
+        return body;
+    }
+
+    /**
+     * Method to get the error response formatted in {@code "JSON"} <br>
+     * No-any params required
+     *
+     * @return error response as {@link JSONObject} or {@link JSONArray}, {@code null} if the request has been
+     * successful or the error response is not a {@code "JSON"}
+     */
+    public <T> T getJSONErrorResponse() {
+        String errorResponse = getErrorResponse();
+        if (errorResponse == null)
+            return null;
+        try {
+            return (T) new JSONObject(errorResponse);
+        } catch (JSONException e) {
+            try {
+                return (T) new JSONArray(errorResponse);
+            } catch (JSONException ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Method to get {@link #sentAt} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sentAt} instance as long
+     */
+    public long getSentAt() {
+        return sentAt;
+    }
+
+    /**
+     * Method to get {@link #latency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #latency} instance as long
+     */
+    public long getLatency() {
+        return latency;
+    }
+
+    /**
+     * Method to get {@link #latency} instance in millis <br>
+     * No-any params required
+     *
+     * @return {@link #latency} instance in millis as double
+     */
+    public double getLatencyMillis() {
+        return latency / 1_000_000.0;
+    }
+
+    /**
+     * Method to get {@link #wireLength} instance <br>
+     * No-any params required
+     *
+     * @return {@link #wireLength} instance as long, -1 if unknown
+     */
+    public long getWireLength() {
+        return wireLength;
+    }
+
+    /**
+     * Method to get {@link #contentEncoding} instance <br>
+     * No-any params required
+     *
+     * @return {@link #contentEncoding} instance as {@link String}, {@code null} if the body was not encoded
+     */
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static com.tecknobit.apimanager.apis.APIRequest.HMAC_SHA256_ALGORITHM;
+
+/**
+ * The {@code CoinbaseSigner} class is useful to create the {@code "CB-ACCESS-SIGN"} signature of the requests
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the api secret is decoded and the {@link Mac} initialized only once: the signatures borrow the cloned
+ * {@link Mac} and the buffers from a small pool shared by all the threads, so the signature of a request does not
+ * allocate other objects than the returned {@link String}, except when the pool is empty, when the data to sign
+ * contains non-ASCII characters or is bigger than the current buffer. A pool is used instead of a {@link ThreadLocal}
+ * because a thread, as the virtual ones of the fan-out requests, can sign a single request
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/rest-auth">
+ * Authentication</a>
+ */
+public class CoinbaseSigner {
+
+    /**
+     * {@code SIGNATURE_LENGTH} is constant for the length in bytes of a {@code "HmacSHA256"} signature
+     */
+    private static final int SIGNATURE_LENGTH = 32;
+
+    /**
+     * {@code ENCODED_SIGNATURE_LENGTH} is constant for the length in bytes of a base64 encoded signature
+     */
+    private static final int ENCODED_SIGNATURE_LENGTH = 44;
+
+    /**
+     * {@code INITIAL_BUFFER_SIZE} is constant for the initial size of the buffer of the data to sign
+     */
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    /**
+     * {@code MAX_POOLED_STATES} is constant for the max number of signing states kept in the pool
+     */
+    private static final int MAX_POOLED_STATES = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * {@code secretKey} is instance that memorizes the decoded api secret
+     */
+    private final SecretKeySpec secretKey;
+
+    /**
+     * {@code prototype} is instance that memorizes the {@link Mac} initialized with the decoded api secret, it is
+     * never used to sign and only cloned
+     */
+    private final Mac prototype;
+
+    /**
+     * {@code signingStates} is instance that memorizes the {@link Mac} and the buffers not in use
+     */
+    private final ArrayBlockingQueue<SigningState> signingStates = new ArrayBlockingQueue<>(MAX_POOLED_STATES);
+
+    /**
+     * Constructor to init a {@link CoinbaseSigner}
+     *
+     * @param apiSecret: your {@code "Coinbase"} api secret encoded in base64
+     * @throws IllegalArgumentException when the api secret is not a valid base64 value
+     */
+    public CoinbaseSigner(String apiSecret) {
+        secretKey = new SecretKeySpec(Base64.getDecoder().decode(apiSecret), HMAC_SHA256_ALGORITHM);
+        prototype = initMac(secretKey);
+        signingStates.offer(new SigningState(cloneMac()));
+    }
+
+    /**
+     * Method to sign a request
+     *
+     * @param timestamp: timestamp in seconds of the request
+     * @param method:    method HTTP of the request
+     * @param endpoint:  endpoint of the request with its query params es. /orders?product_id=BTC-USD
+     * @param body:      body of the request, can be {@code null}
+     * @return signature of the request encoded in base64 as {@link String}
+     */
+    public String sign(String timestamp, String method, String endpoint, String body) {
+        SigningState state = signingStates.poll();
+        if (state == null)
+            state = new SigningState(cloneMac());
+        try {
+            state.length = 0;
+            state.append(timestamp);
+            state.append(method);
+            state.append(endpoint);
+            if (body != null)
+                state.append(body);
+            return state.sign();
+        } finally {
+            signingStates.offer(state);
+        }
+    }
+
+    /**
+     * Method to get a new {@link Mac} initialized with the decoded api secret, cloning the {@link #prototype} <br>
+     * No-any params required
+     *
+     * @return {@link Mac} initialized as {@link Mac}
+     * @implNote when the provider does not support the clone of the {@link Mac} a new one is initialized
+     */
+    private Mac cloneMac() {
+        try {
+            synchronized (prototype) {
+                return (Mac) prototype.clone();
+            }
+        } catch (CloneNotSupportedException e) {
+            return initMac(secretKey);
+        }
+    }
+
+    /**
+     * Method to init a {@link Mac} with the decoded api secret
+     *
+     * @param secretKey: decoded api secret
+     * @return {@link Mac} initialized as {@link Mac}
+     */
+    private static Mac initMac(SecretKeySpec secretKey) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The {@code SigningState} class is useful to memorize the {@link Mac} and the buffers used by a signature
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class SigningState {
+
+        /**
+         * {@code mac} is instance used to compute the signatures
+         */
+        private final Mac mac;
+
+        /**
+         * {@code signature} is instance used to memorize the raw signature
+         */
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+
+        /**
+         * {@code encodedSignature} is instance used to memorize the base64 encoded signature
+         */
+        private final byte[] encodedSignature = new byte[ENCODED_SIGNATURE_LENGTH];
+
+        /**
+         * {@code data} is instance used to memorize the data to sign
+         */
+        private byte[] data = new byte[INITIAL_BUFFER_SIZE];
+
+        /**
+         * {@code length} is instance that memorizes the number of bytes of the data to sign
+         */
+        private int length;
+
+        /**
+         * Constructor to init a {@link SigningState}
+         *
+         * @param mac: the {@link Mac} initialized with the decoded api secret
+         */
+        private SigningState(Mac mac) {
+            this.mac = mac;
+        }
+
+        /**
+         * Method to append a value to the data to sign
+         *
+         * @param value: value to append
+         */
+        private void append(String value) {
+            int valueLength = value.length();
+            ensureCapacity(valueLength);
+            for (int j = 0; j < valueLength; j++) {
+                char c = value.charAt(j);
+                if (c >= 0x80) {
+                    appendUTF8(value.substring(j));
+                    return;
+                }
+                data[length++] = (byte) c;
+            }
+        }
+
+        /**
+         * Method to append a value with non-ASCII characters to the data to sign
+         *
+         * @param value: value to append
+         */
+        private void appendUTF8(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+        }
+
+        /**
+         * Method to grow the buffer of the data to sign when needed
+         *
+         * @param size: number of bytes to append
+         */
+        private void ensureCapacity(int size) {
+            if (length + size > data.length)
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + size));
+        }
+
+        /**
+         * Method to sign the data appended <br>
+         * No-any params required
+         *
+         * @return signature encoded in base64 as {@link String}
+         */
+        private String sign() {
+            mac.update(data, 0, length);
+            try {
+                mac.doFinal(signature, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+            Base64.getEncoder().encode(signature, encodedSignature);
+            return new String(encodedSignature, StandardCharsets.ISO_8859_1);
+        }
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code FanOutExecutor} class is useful to execute the same request for a list of keys, for example a request
+ * for each product, with a bounded number of concurrent requests
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote when the runtime supports the virtual threads (Java 21+) each request runs on its own virtual thread,
+ * otherwise a shared pool of daemon threads is used, in both cases no more than {@link #concurrency} requests of
+ * the same execution are in flight at the same time
+ */
+public class FanOutExecutor {
+
+    /**
+     * {@code SEQUENTIAL} is constant for the concurrency value that executes the requests one after another
+     */
+    public static final int SEQUENTIAL = 1;
+
+    /**
+     * {@code EXECUTOR} is instance used to run the concurrent requests
+     */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    /**
+     * {@code concurrency} is instance that memorizes the max number of concurrent requests
+     */
+    private final int concurrency;
+
+    /**
+     * Constructor to init a {@link FanOutExecutor}
+     *
+     * @param concurrency: max number of concurrent requests, {@link #SEQUENTIAL} to execute them one after another
+     * @throws IllegalArgumentException when the concurrency value is lower than one
+     */
+    public FanOutExecutor(int concurrency) {
+        if (concurrency < SEQUENTIAL)
+            throw new IllegalArgumentException("The concurrency value must be at least 1");
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Method to create the executor used to run the concurrent requests <br>
+     * No-any params required
+     *
+     * @return executor as {@link ExecutorService}
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threads = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "coinbase-fan-out-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Method to execute a request for each key
+     *
+     * @param keys:    keys for which execute the request
+     * @param request: request to execute for each key
+     * @return results of the requests as {@link ArrayList} of {@link FanOutResult}, in the same order of the keys
+     * @throws InterruptedException when the current thread is interrupted while waiting the results
+     * @implNote a failed request does not stop the others, its error is reported by its {@link FanOutResult}
+     */
+    public <T> ArrayList<FanOutResult<T>> execute(List<String> keys, KeyedRequest<T> request) throws InterruptedException {
+        ArrayList<FanOutResult<T>> results = new ArrayList<>(keys.size());
+        if (concurrency == SEQUENTIAL || keys.size() <= 1) {
+            for (String key : keys)
+                results.add(executeRequest(key, request));
+            return results;
+        }
+        Semaphore permits = new Semaphore(concurrency);
+        ArrayList<Future<FanOutResult<T>>> futures = new ArrayList<>(keys.size());
+        try {
+            for (String key : keys) {
+                permits.acquire();
+                futures.add(EXECUTOR.submit(() -> {
+                    try {
+                        return executeRequest(key, request);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<FanOutResult<T>> future : futures)
+                results.add(future.get());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            for (Future<FanOutResult<T>> future : futures)
+                future.cancel(true);
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Method to execute a request for a key
+     *
+     * @param key:     key for which execute the request
+     * @param request: request to execute
+     * @return result of the request as {@link FanOutResult}
+     */
+    private <T> FanOutResult<T> executeRequest(String key, KeyedRequest<T> request) {
+        try {
+            return new FanOutResult<>(key, request.send(key), null);
+        } catch (Exception e) {
+            return new FanOutResult<>(key, null, e);
+        }
+    }
+
+    /**
+     * Method to get {@link #concurrency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #concurrency} instance as int
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * The {@code KeyedRequest} interface is useful to define the request to execute for each key
+     *
+     * @param <T>: type of the result of the request
+     */
+    @FunctionalInterface
+    public interface KeyedRequest<T> {
+
+        /**
+         * Method to send the request for a key
+         *
+         * @param key: key for which send the request
+         * @return result of the request as {@link T}
+         * @throws Exception when the request has been go wrong
+         */
+        T send(String key) throws Exception;
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+/**
+ * The {@code FanOutResult} class is useful to format the result of a single request executed by a {@link FanOutExecutor}
+ *
+ * @param <T>: type of the value of the result
+ * @author N7ghtm4r3 - Tecknobit
+ * @see FanOutExecutor
+ */
+public class FanOutResult<T> {
+
+    /**
+     * {@code key} is instance that memorizes the key for which the request has been executed es. BTC-USD
+     */
+    private final String key;
+
+    /**
+     * {@code value} is instance that memorizes the value obtained by the request, {@code null} if it failed
+     */
+    private final T value;
+
+    /**
+     * {@code error} is instance that memorizes the error of the request, {@code null} if it has been successful
+     */
+    private final Exception error;
+
+    /**
+     * Constructor to init a {@link FanOutResult}
+     *
+     * @param key:   key for which the request has been executed es. BTC-USD
+     * @param value: value obtained by the request, {@code null} if it failed
+     * @param error: error of the request, {@code null} if it has been successful
+     */
+    public FanOutResult(String key, T value, Exception error) {
+        this.key = key;
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Method to get {@link #key} instance <br>
+     * No-any params required
+     *
+     * @return {@link #key} instance as {@link String}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Method to get {@link #value} instance <br>
+     * No-any params required
+     *
+     * @return {@link #value} instance as {@link T}
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Method to get {@link #error} instance <br>
+     * No-any params required
+     *
+     * @return {@link #error} instance as {@link Exception}
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * Method to get whether the request has been successful <br>
+     * No-any params required
+     *
+     * @return whether the request has been successful as boolean
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+}
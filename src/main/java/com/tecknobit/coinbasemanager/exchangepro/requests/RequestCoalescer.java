@@ -0,0 +1,143 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The {@code RequestCoalescer} class is useful to share a single in-flight request between the threads that send the
+ * same request at the same time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the first thread sends the request and the others wait its {@link CoinbaseResponse}, which is immutable and
+ * so can be shared, the request is removed as soon as it is completed, so the next requests are sent again and the
+ * responses are never cached
+ */
+public class RequestCoalescer {
+
+    /**
+     * {@code inFlightRequests} is instance that memorizes the requests in flight for each key
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<CoinbaseResponse>> inFlightRequests =
+            new ConcurrentHashMap<>();
+
+    /**
+     * {@code sentRequests} is instance that memorizes the number of requests sent
+     */
+    private final LongAdder sentRequests = new LongAdder();
+
+    /**
+     * {@code coalescedRequests} is instance that memorizes the number of requests that shared an in-flight request
+     */
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    /**
+     * Method to execute a request or wait the same request already in flight
+     *
+     * @param key:     key of the request es. /products/BTC-USD/ticker
+     * @param request: request to execute when no same request is in flight
+     * @return response of the request as {@link CoinbaseResponse}
+     * @throws Exception when the request has been go wrong
+     */
+    public CoinbaseResponse execute(String key, Callable<CoinbaseResponse> request) throws Exception {
+        CompletableFuture<CoinbaseResponse> inFlightRequest = new CompletableFuture<>();
+        CompletableFuture<CoinbaseResponse> sharedRequest = inFlightRequests.putIfAbsent(key, inFlightRequest);
+        if (sharedRequest != null) {
+            coalescedRequests.increment();
+            try {
+                return sharedRequest.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception)
+                    throw (Exception) cause;
+                if (cause instanceof Error)
+                    throw (Error) cause;
+                throw e;
+            }
+        }
+        sentRequests.increment();
+        try {
+            CoinbaseResponse response = request.call();
+            inFlightRequest.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // also an error must be shared, or the threads waiting this request would wait forever
+            inFlightRequest.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, inFlightRequest);
+        }
+    }
+
+    /**
+     * Method to execute asynchronously a request or share the same request already in flight
+     *
+     * @param key:     key of the request es. /products/BTC-USD/ticker
+     * @param request: request to execute when no same request is in flight
+     * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+     */
+    public CompletableFuture<CoinbaseResponse> executeAsync(String key,
+                                                            Supplier<CompletableFuture<CoinbaseResponse>> request) {
+        CompletableFuture<CoinbaseResponse> inFlightRequest = new CompletableFuture<>();
+        CompletableFuture<CoinbaseResponse> sharedRequest = inFlightRequests.putIfAbsent(key, inFlightRequest);
+        if (sharedRequest != null) {
+            coalescedRequests.increment();
+            return sharedRequest.thenApply(response -> response);
+        }
+        sentRequests.increment();
+        CompletableFuture<CoinbaseResponse> response;
+        try {
+            response = request.get();
+        } catch (Throwable e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((result, error) -> {
+            inFlightRequests.remove(key, inFlightRequest);
+            if (error != null)
+                inFlightRequest.completeExceptionally(error);
+            else
+                inFlightRequest.complete(result);
+        });
+        return inFlightRequest.thenApply(result -> result);
+    }
+
+    /**
+     * Method to get the number of requests in flight <br>
+     * No-any params required
+     *
+     * @return number of requests in flight as int
+     */
+    public int getInFlightRequests() {
+        return inFlightRequests.size();
+    }
+
+    /**
+     * Method to get {@link #sentRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sentRequests} instance as long
+     */
+    public long getSentRequests() {
+        return sentRequests.sum();
+    }
+
+    /**
+     * Method to get {@link #coalescedRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #coalescedRequests} instance as long
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    /**
+     * Method to reset the counters of the coalescer <br>
+     * No-any params required
+     */
+    public void resetCounters() {
+        sentRequests.reset();
+        coalescedRequests.reset();
+    }
+
+}
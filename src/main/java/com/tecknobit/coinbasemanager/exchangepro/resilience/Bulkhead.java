@@ -0,0 +1,126 @@
+package com.tecknobit.coinbasemanager.exchangepro.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code Bulkhead} class is useful to bound the number of concurrent requests of an endpoints family, so a slow
+ * family cannot hold all the threads of the application
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see EndpointIsolation
+ */
+public class Bulkhead {
+
+    /**
+     * {@code maxConcurrentCalls} is instance that memorizes the max number of concurrent requests
+     */
+    private final int maxConcurrentCalls;
+
+    /**
+     * {@code maxWait} is instance that memorizes the max time in millis to wait for a free slot
+     */
+    private final long maxWait;
+
+    /**
+     * {@code permits} is instance used to bound the concurrent requests
+     */
+    private final Semaphore permits;
+
+    /**
+     * {@code rejectedCalls} is instance that memorizes the number of requests rejected
+     */
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    /**
+     * Constructor to init a {@link Bulkhead}
+     *
+     * @param maxConcurrentCalls: max number of concurrent requests
+     * @param maxWait:            max time in millis to wait for a free slot, zero to reject immediately
+     */
+    public Bulkhead(int maxConcurrentCalls, long maxWait) {
+        if (maxConcurrentCalls < 1)
+            throw new IllegalArgumentException("The max concurrent calls value must be at least 1");
+        if (maxWait < 0)
+            throw new IllegalArgumentException("The max wait value cannot be negative");
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+        permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /**
+     * Method to acquire a slot for a request, waiting at most {@link #maxWait} millis
+     *
+     * @return whether the slot has been acquired as boolean
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    public boolean acquire() throws InterruptedException {
+        if (permits.tryAcquire() || (maxWait > 0 && permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)))
+            return true;
+        rejectedCalls.increment();
+        return false;
+    }
+
+    /**
+     * Method to acquire a slot for a request without waiting <br>
+     * No-any params required
+     *
+     * @return whether the slot has been acquired as boolean
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire())
+            return true;
+        rejectedCalls.increment();
+        return false;
+    }
+
+    /**
+     * Method to release a slot acquired <br>
+     * No-any params required
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Method to get {@link #maxConcurrentCalls} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxConcurrentCalls} instance as int
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * Method to get {@link #maxWait} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxWait} instance as long
+     */
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Method to get the number of requests in flight <br>
+     * No-any params required
+     *
+     * @return number of requests in flight as int
+     */
+    public int getConcurrentCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    /**
+     * Method to get {@link #rejectedCalls} instance <br>
+     * No-any params required
+     *
+     * @return {@link #rejectedCalls} instance as long
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.tecknobit.coinbasemanager.exchangepro.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code CircuitBreaker} class is useful to reject immediately the requests of an endpoints family while it is
+ * failing, so the callers do not wait its timeouts
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the circuit opens after {@link #failureThreshold} consecutive failures, after {@link #openDuration} millis
+ * it becomes half-open and lets {@link #halfOpenProbes} requests probe the family: the circuit closes at the first
+ * successful probe and opens again at the first failed one. Each state of the circuit has its own generation, handed
+ * out as permit by {@link #tryAcquire()}: the results of the requests sent in a previous state are ignored, so a slow
+ * request sent while closed cannot close a half-open circuit in place of its probe
+ * @see EndpointIsolation
+ */
+public class CircuitBreaker {
+
+    /**
+     * {@code State} list of available states of a circuit
+     */
+    public enum State {
+
+        /**
+         * {@code CLOSED} the requests are sent
+         */
+        CLOSED,
+
+        /**
+         * {@code OPEN} the requests are rejected
+         */
+        OPEN,
+
+        /**
+         * {@code HALF_OPEN} only the probe requests are sent
+         */
+        HALF_OPEN
+
+    }
+
+    /**
+     * {@code REJECTED} is constant for the permit returned when a request cannot be sent
+     */
+    public static final long REJECTED = -1;
+
+    /**
+     * {@code failureThreshold} is instance that memorizes the number of consecutive failures that opens the circuit
+     */
+    private final int failureThreshold;
+
+    /**
+     * {@code openDuration} is instance that memorizes the time in millis the circuit stays open before the probes
+     */
+    private final long openDuration;
+
+    /**
+     * {@code halfOpenProbes} is instance that memorizes the max number of concurrent probes while half-open
+     */
+    private final int halfOpenProbes;
+
+    /**
+     * {@code state} is instance that memorizes the current state of the circuit
+     */
+    private volatile State state = State.CLOSED;
+
+    /**
+     * {@code generation} is instance that memorizes the generation of the current state, increased at each transition
+     */
+    private long generation;
+
+    /**
+     * {@code closedGeneration} is instance that memorizes the generation of the current state while closed,
+     * {@link #REJECTED} otherwise
+     */
+    private volatile long closedGeneration;
+
+    /**
+     * {@code consecutiveFailures} is instance that memorizes the number of consecutive failures
+     */
+    private volatile int consecutiveFailures;
+
+    /**
+     * {@code openedAt} is instance that memorizes the time in nanos when the circuit has been opened
+     */
+    private long openedAt;
+
+    /**
+     * {@code probes} is instance that memorizes the number of probes in flight while half-open
+     */
+    private int probes;
+
+    /**
+     * {@code openings} is instance that memorizes the number of times the circuit has been opened
+     */
+    private final LongAdder openings = new LongAdder();
+
+    /**
+     * {@code rejectedCalls} is instance that memorizes the number of requests rejected
+     */
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    /**
+     * Constructor to init a {@link CircuitBreaker}
+     *
+     * @param failureThreshold: number of consecutive failures that opens the circuit
+     * @param openDuration:     time in millis the circuit stays open before the probes
+     * @param halfOpenProbes:   max number of concurrent probes while half-open
+     */
+    public CircuitBreaker(int failureThreshold, long openDuration, int halfOpenProbes) {
+        if (failureThreshold < 1)
+            throw new IllegalArgumentException("The failure threshold value must be at least 1");
+        if (openDuration < 0)
+            throw new IllegalArgumentException("The open duration value cannot be negative");
+        if (halfOpenProbes < 1)
+            throw new IllegalArgumentException("The half-open probes value must be at least 1");
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * Method to get the permission to send a request <br>
+     * No-any params required
+     *
+     * @return permit of the request, {@link #REJECTED} if the request cannot be sent, as long
+     * @implNote when the permission is given the result of the request must be recorded with
+     * {@link #recordResult(long, boolean)}, or the permit given back with {@link #cancel(long)}
+     */
+    public long tryAcquire() {
+        long permit = closedGeneration;
+        if (permit != REJECTED)
+            return permit;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < TimeUnit.MILLISECONDS.toNanos(openDuration)) {
+                    rejectedCalls.increment();
+                    return REJECTED;
+                }
+                moveTo(State.HALF_OPEN);
+                probes = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probes >= halfOpenProbes) {
+                    rejectedCalls.increment();
+                    return REJECTED;
+                }
+                probes++;
+            }
+            return generation;
+        }
+    }
+
+    /**
+     * Method to record the result of a request sent
+     *
+     * @param permit: permit of the request obtained with {@link #tryAcquire()}
+     * @param failed: whether the request has been failed, es. a timeout or a {@code "5xx"} response
+     */
+    public void recordResult(long permit, boolean failed) {
+        if (!failed && permit == closedGeneration) {
+            // avoids the lock on the hot path of a healthy family
+            if (consecutiveFailures != 0) {
+                synchronized (this) {
+                    if (permit == generation)
+                        consecutiveFailures = 0;
+                }
+            }
+            return;
+        }
+        synchronized (this) {
+            // the results of the requests sent in a previous state do not change the state
+            if (permit != generation)
+                return;
+            if (state == State.HALF_OPEN) {
+                probes = Math.max(0, probes - 1);
+                if (failed)
+                    open();
+                else {
+                    moveTo(State.CLOSED);
+                    consecutiveFailures = 0;
+                }
+            } else if (failed && ++consecutiveFailures >= failureThreshold)
+                open();
+            else if (!failed)
+                consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * Method to give back a permit obtained with {@link #tryAcquire()} without sending the request
+     *
+     * @param permit: permit of the request obtained with {@link #tryAcquire()}
+     */
+    public void cancel(long permit) {
+        if (permit == REJECTED || permit == closedGeneration)
+            return;
+        synchronized (this) {
+            if (permit == generation && state == State.HALF_OPEN)
+                probes = Math.max(0, probes - 1);
+        }
+    }
+
+    /**
+     * Method to open the circuit <br>
+     * No-any params required
+     */
+    private void open() {
+        moveTo(State.OPEN);
+        openedAt = System.nanoTime();
+        consecutiveFailures = 0;
+        openings.increment();
+    }
+
+    /**
+     * Method to move the circuit to a new state, starting its generation
+     *
+     * @param next: state to move to
+     */
+    private void moveTo(State next) {
+        state = next;
+        generation++;
+        closedGeneration = next == State.CLOSED ? generation : REJECTED;
+    }
+
+    /**
+     * Method to close the circuit and forget the failures recorded <br>
+     * No-any params required
+     */
+    public synchronized void reset() {
+        moveTo(State.CLOSED);
+        consecutiveFailures = 0;
+        probes = 0;
+    }
+
+    /**
+     * Method to get {@link #state} instance <br>
+     * No-any params required
+     *
+     * @return {@link #state} instance as {@link State}
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Method to get {@link #failureThreshold} instance <br>
+     * No-any params required
+     *
+     * @return {@link #failureThreshold} instance as int
+     */
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Method to get {@link #openDuration} instance <br>
+     * No-any params required
+     *
+     * @return {@link #openDuration} instance as long
+     */
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Method to get {@link #halfOpenProbes} instance <br>
+     * No-any params required
+     *
+     * @return {@link #halfOpenProbes} instance as int
+     */
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    /**
+     * Method to get {@link #openings} instance <br>
+     * No-any params required
+     *
+     * @return {@link #openings} instance as long
+     */
+    public long getOpenings() {
+        return openings.sum();
+    }
+
+    /**
+     * Method to get {@link #rejectedCalls} instance <br>
+     * No-any params required
+     *
+     * @return {@link #rejectedCalls} instance as long
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+}
@@ -0,0 +1,292 @@
+package com.tecknobit.coinbasemanager.exchangepro.resilience;
+
+import com.tecknobit.coinbasemanager.exchangepro.resilience.RejectedCallException.Reason;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code EndpointIsolation} class is useful to isolate the endpoints families, as {@code "/orders"},
+ * {@code "/products"} or {@code "/reports"}, each one with its own {@link Bulkhead} and {@link CircuitBreaker}, so a
+ * degraded family cannot slow down the requests of the others
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the family of an endpoint is its first path segment, the families not configured with
+ * {@link #configure(String, Bulkhead, CircuitBreaker)} are created at their first request with the default values
+ * @see Bulkhead
+ * @see CircuitBreaker
+ */
+public class EndpointIsolation {
+
+    /**
+     * {@code DEFAULT_MAX_CONCURRENT_CALLS} is constant for the default max number of concurrent requests of a family
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_CALLS = 16;
+
+    /**
+     * {@code DEFAULT_MAX_WAIT} is constant for the default max time in millis to wait for a free slot of a family
+     */
+    public static final long DEFAULT_MAX_WAIT = 0;
+
+    /**
+     * {@code DEFAULT_FAILURE_THRESHOLD} is constant for the default number of consecutive failures that opens a
+     * circuit
+     */
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+    /**
+     * {@code DEFAULT_OPEN_DURATION} is constant for the default time in millis a circuit stays open before the probes
+     */
+    public static final long DEFAULT_OPEN_DURATION = 10_000;
+
+    /**
+     * {@code DEFAULT_HALF_OPEN_PROBES} is constant for the default max number of concurrent probes of a circuit
+     * half-open
+     */
+    public static final int DEFAULT_HALF_OPEN_PROBES = 1;
+
+    /**
+     * {@code maxConcurrentCalls} is instance that memorizes the max number of concurrent requests of each family
+     */
+    private final int maxConcurrentCalls;
+
+    /**
+     * {@code maxWait} is instance that memorizes the max time in millis to wait for a free slot of a family
+     */
+    private final long maxWait;
+
+    /**
+     * {@code failureThreshold} is instance that memorizes the number of consecutive failures that opens a circuit
+     */
+    private final int failureThreshold;
+
+    /**
+     * {@code openDuration} is instance that memorizes the time in millis a circuit stays open before the probes
+     */
+    private final long openDuration;
+
+    /**
+     * {@code halfOpenProbes} is instance that memorizes the max number of concurrent probes of a circuit half-open
+     */
+    private final int halfOpenProbes;
+
+    /**
+     * {@code families} is instance that memorizes the isolation of each family
+     */
+    private final ConcurrentHashMap<String, Family> families = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to init a {@link EndpointIsolation}
+     *
+     * @param maxConcurrentCalls: max number of concurrent requests of each family
+     * @param maxWait:            max time in millis to wait for a free slot of a family, zero to reject immediately
+     * @param failureThreshold:   number of consecutive failures that opens a circuit
+     * @param openDuration:       time in millis a circuit stays open before the probes
+     * @param halfOpenProbes:     max number of concurrent probes of a circuit half-open
+     */
+    public EndpointIsolation(int maxConcurrentCalls, long maxWait, int failureThreshold, long openDuration,
+                             int halfOpenProbes) {
+        // validates the values before the first family is created
+        new Bulkhead(maxConcurrentCalls, maxWait);
+        new CircuitBreaker(failureThreshold, openDuration, halfOpenProbes);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * Constructor to init a {@link EndpointIsolation} with the default values <br>
+     * No-any params required
+     */
+    public EndpointIsolation() {
+        this(DEFAULT_MAX_CONCURRENT_CALLS, DEFAULT_MAX_WAIT, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION,
+                DEFAULT_HALF_OPEN_PROBES);
+    }
+
+    /**
+     * Method to configure the isolation of a family
+     *
+     * @param family:         family to configure es. /reports
+     * @param bulkhead:       bulkhead of the family
+     * @param circuitBreaker: circuit breaker of the family
+     */
+    public void configure(String family, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+        if (bulkhead == null || circuitBreaker == null)
+            throw new IllegalArgumentException("The bulkhead and the circuit breaker cannot be null");
+        families.put(family, new Family(family, bulkhead, circuitBreaker));
+    }
+
+    /**
+     * Method to get the isolation of the family of an endpoint
+     *
+     * @param endpoint: endpoint with or without its query params es. /reports/{report_id}
+     * @return isolation of the family of the endpoint as {@link Family}
+     */
+    public Family getFamily(String endpoint) {
+        String family = familyOf(endpoint);
+        Family isolation = families.get(family);
+        if (isolation != null)
+            return isolation;
+        return families.computeIfAbsent(family, name -> new Family(name,
+                new Bulkhead(maxConcurrentCalls, maxWait),
+                new CircuitBreaker(failureThreshold, openDuration, halfOpenProbes)));
+    }
+
+    /**
+     * Method to get the isolation of each family requested or configured <br>
+     * No-any params required
+     *
+     * @return isolation of each family as {@link Map} of {@link String} and {@link Family}
+     */
+    public Map<String, Family> getFamilies() {
+        return new TreeMap<>(families);
+    }
+
+    /**
+     * Method to get the family of an endpoint
+     *
+     * @param endpoint: endpoint with or without its query params es. /reports/{report_id}
+     * @return family of the endpoint as {@link String} es. /reports
+     */
+    public static String familyOf(String endpoint) {
+        int length = endpoint.length();
+        int end = 1;
+        while (end < length) {
+            char c = endpoint.charAt(end);
+            if (c == '/' || c == '?')
+                break;
+            end++;
+        }
+        return endpoint.substring(0, end);
+    }
+
+    /**
+     * The {@code Family} class is useful to isolate the requests of an endpoints family
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static final class Family {
+
+        /**
+         * {@code name} is instance that memorizes the name of the family es. /reports
+         */
+        private final String name;
+
+        /**
+         * {@code bulkhead} is instance used to bound the concurrent requests of the family
+         */
+        private final Bulkhead bulkhead;
+
+        /**
+         * {@code circuitBreaker} is instance used to reject the requests of the family while it is failing
+         */
+        private final CircuitBreaker circuitBreaker;
+
+        /**
+         * Constructor to init a {@link Family}
+         *
+         * @param name:           name of the family es. /reports
+         * @param bulkhead:       bulkhead of the family
+         * @param circuitBreaker: circuit breaker of the family
+         */
+        private Family(String name, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+            this.name = name;
+            this.bulkhead = bulkhead;
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        /**
+         * Method to get the permission to send a request, waiting for a free slot as the {@link #bulkhead} defines
+         * <br>
+         * No-any params required
+         *
+         * @return permit of the request as long
+         * @throws RejectedCallException when the circuit is open or no slot is free
+         * @throws InterruptedException  when the current thread is interrupted while waiting
+         * @implNote when the permission is given {@link #release(long, Boolean)} must be invoked after the request
+         */
+        public long acquire() throws RejectedCallException, InterruptedException {
+            long permit = circuitBreaker.tryAcquire();
+            if (permit == CircuitBreaker.REJECTED)
+                throw new RejectedCallException(name, Reason.CIRCUIT_OPEN);
+            boolean acquired = false;
+            try {
+                acquired = bulkhead.acquire();
+            } finally {
+                if (!acquired)
+                    circuitBreaker.cancel(permit);
+            }
+            if (!acquired)
+                throw new RejectedCallException(name, Reason.BULKHEAD_FULL);
+            return permit;
+        }
+
+        /**
+         * Method to get the permission to send a request without waiting <br>
+         * No-any params required
+         *
+         * @return permit of the request as long
+         * @throws RejectedCallException when the circuit is open or no slot is free
+         * @implNote when the permission is given {@link #release(long, Boolean)} must be invoked after the request
+         */
+        public long tryAcquire() throws RejectedCallException {
+            long permit = circuitBreaker.tryAcquire();
+            if (permit == CircuitBreaker.REJECTED)
+                throw new RejectedCallException(name, Reason.CIRCUIT_OPEN);
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.cancel(permit);
+                throw new RejectedCallException(name, Reason.BULKHEAD_FULL);
+            }
+            return permit;
+        }
+
+        /**
+         * Method to release the permission after a request
+         *
+         * @param permit: permit of the request obtained with {@link #acquire()} or {@link #tryAcquire()}
+         * @param failed: whether the request has been failed, {@code null} if the request has not been sent
+         */
+        public void release(long permit, Boolean failed) {
+            bulkhead.release();
+            if (failed == null)
+                circuitBreaker.cancel(permit);
+            else
+                circuitBreaker.recordResult(permit, failed);
+        }
+
+        /**
+         * Method to get {@link #name} instance <br>
+         * No-any params required
+         *
+         * @return {@link #name} instance as {@link String}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Method to get {@link #bulkhead} instance <br>
+         * No-any params required
+         *
+         * @return {@link #bulkhead} instance as {@link Bulkhead}
+         */
+        public Bulkhead getBulkhead() {
+            return bulkhead;
+        }
+
+        /**
+         * Method to get {@link #circuitBreaker} instance <br>
+         * No-any params required
+         *
+         * @return {@link #circuitBreaker} instance as {@link CircuitBreaker}
+         */
+        public CircuitBreaker getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+    }
+
+}
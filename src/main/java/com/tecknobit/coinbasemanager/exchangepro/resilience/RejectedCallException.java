@@ -0,0 +1,78 @@
+package com.tecknobit.coinbasemanager.exchangepro.resilience;
+
+/**
+ * The {@code RejectedCallException} is thrown when a request is rejected without being sent because the
+ * {@link CircuitBreaker} of its endpoints family is open or its {@link Bulkhead} is full
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote this is not an {@link java.io.IOException}, so the rejected requests are never retried
+ * @see EndpointIsolation
+ */
+public class RejectedCallException extends Exception {
+
+    /**
+     * {@code serialVersionUID} is constant for the version of the serialized form of the exception
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@code Reason} list of available reasons of a rejection
+     */
+    public enum Reason {
+
+        /**
+         * {@code CIRCUIT_OPEN} the circuit breaker of the family is open
+         */
+        CIRCUIT_OPEN,
+
+        /**
+         * {@code BULKHEAD_FULL} the max number of concurrent requests of the family has been reached
+         */
+        BULKHEAD_FULL
+
+    }
+
+    /**
+     * {@code family} is instance that memorizes the endpoints family of the request rejected es. /reports
+     */
+    private final String family;
+
+    /**
+     * {@code reason} is instance that memorizes the reason of the rejection
+     */
+    private final Reason reason;
+
+    /**
+     * Constructor to init a {@link RejectedCallException}
+     *
+     * @param family: endpoints family of the request rejected es. /reports
+     * @param reason: reason of the rejection
+     */
+    public RejectedCallException(String family, Reason reason) {
+        super("Request to " + family + " rejected: " + (reason == Reason.CIRCUIT_OPEN ? "circuit open"
+                : "too many concurrent requests"));
+        this.family = family;
+        this.reason = reason;
+    }
+
+    /**
+     * Method to get {@link #family} instance <br>
+     * No-any params required
+     *
+     * @return {@link #family} instance as {@link String}
+     */
+    public String getFamily() {
+        return family;
+    }
+
+    /**
+     * Method to get {@link #reason} instance <br>
+     * No-any params required
+     *
+     * @return {@link #reason} instance as {@link Reason}
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.tecknobit.coinbasemanager.exchangepro.retry;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequestException;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.DELETE;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+
+/**
+ * The {@code RetryPolicy} class is useful to retry the requests failed for a transient error, as a timeout, a
+ * {@code "429"} or a {@code "5xx"} response, waiting an exponential backoff with jitter between the attempts
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote only the idempotent requests are retried: the {@code "GET"} and {@code "DELETE"} requests and the
+ * requests with a {@code "client_oid"} in their body, as the orders created with a client order id, because
+ * {@code "Coinbase"} does not create twice an order with the same {@code "client_oid"}
+ */
+public class RetryPolicy {
+
+    /**
+     * {@code DEFAULT_MAX_RETRIES} is constant for the default max number of retries for each request
+     */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    /**
+     * {@code DEFAULT_INITIAL_BACKOFF} is constant for the default backoff in millis before the first retry
+     */
+    public static final long DEFAULT_INITIAL_BACKOFF = 100;
+
+    /**
+     * {@code DEFAULT_MAX_BACKOFF} is constant for the default max backoff in millis between two attempts
+     */
+    public static final long DEFAULT_MAX_BACKOFF = 2000;
+
+    /**
+     * {@code DEFAULT_JITTER} is constant for the default fraction of the backoff which is randomized
+     */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    /**
+     * {@code CLIENT_OID_KEY} is constant for the key of the client order id in the body of the requests
+     */
+    public static final String CLIENT_OID_KEY = "client_oid";
+
+    /**
+     * {@code maxRetries} is instance that memorizes the max number of retries for each request
+     */
+    private final int maxRetries;
+
+    /**
+     * {@code initialBackoff} is instance that memorizes the backoff in millis before the first retry
+     */
+    private final long initialBackoff;
+
+    /**
+     * {@code maxBackoff} is instance that memorizes the max backoff in millis between two attempts
+     */
+    private final long maxBackoff;
+
+    /**
+     * {@code jitter} is instance that memorizes the fraction of the backoff which is randomized, from 0 to 1
+     */
+    private final double jitter;
+
+    /**
+     * {@code retries} is instance that memorizes the number of retries spent for each endpoint
+     */
+    private final ConcurrentHashMap<String, LongAdder> retries = new ConcurrentHashMap<>();
+
+    /**
+     * {@code exhaustedRetries} is instance that memorizes the number of requests of each endpoint which failed after
+     * all the retries
+     */
+    private final ConcurrentHashMap<String, LongAdder> exhaustedRetries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to init a {@link RetryPolicy}
+     *
+     * @param maxRetries:     max number of retries for each request, 0 to not retry the requests
+     * @param initialBackoff: backoff in millis before the first retry, doubled at each next retry
+     * @param maxBackoff:     max backoff in millis between two attempts
+     * @param jitter:         fraction of the backoff which is randomized, from 0 to 1
+     */
+    public RetryPolicy(int maxRetries, long initialBackoff, long maxBackoff, double jitter) {
+        if (maxRetries < 0)
+            throw new IllegalArgumentException("The max retries value cannot be negative");
+        if (initialBackoff < 0 || maxBackoff < initialBackoff)
+            throw new IllegalArgumentException("The backoff values must be positive and the max backoff cannot be " +
+                    "lower than the initial backoff");
+        if (jitter < 0 || jitter > 1)
+            throw new IllegalArgumentException("The jitter value must be between 0 and 1");
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Constructor to init a {@link RetryPolicy}
+     *
+     * @param maxRetries: max number of retries for each request, 0 to not retry the requests
+     * @apiNote the default backoff values will be used
+     */
+    public RetryPolicy(int maxRetries) {
+        this(maxRetries, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF, DEFAULT_JITTER);
+    }
+
+    /**
+     * Constructor to init a {@link RetryPolicy} with the default values <br>
+     * No-any params required
+     */
+    public RetryPolicy() {
+        this(DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * Method to create a policy which does not retry the requests <br>
+     * No-any params required
+     *
+     * @return policy which does not retry the requests as {@link RetryPolicy}
+     */
+    public static RetryPolicy noRetries() {
+        return new RetryPolicy(0);
+    }
+
+    /**
+     * Method to get whether a request can be sent again without side effects
+     *
+     * @param request: request to check
+     * @return whether the request can be sent again without side effects as boolean
+     */
+    public boolean isIdempotent(CoinbaseRequest request) {
+        RequestMethod method = request.getMethod();
+        if (method == GET || method == DELETE)
+            return true;
+        String body = request.getBody();
+        if (body == null || !body.contains(CLIENT_OID_KEY))
+            return false;
+        try {
+            return new JSONObject(body).has(CLIENT_OID_KEY);
+        } catch (JSONException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to get whether a response has been failed for a transient error
+     *
+     * @param response: response to check
+     * @return whether the response has been failed for a transient error as boolean
+     */
+    public boolean isRetryable(CoinbaseResponse response) {
+        int statusCode = response.getStatusCode();
+        return statusCode == 429 || statusCode == 500 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    /**
+     * Method to get whether a request has been failed for a transient error, as a timeout or a connection error
+     *
+     * @param error: error of the request
+     * @return whether the request has been failed for a transient error as boolean
+     */
+    public boolean isRetryable(Throwable error) {
+        if (error instanceof CoinbaseRequestException) {
+            CoinbaseResponse response = ((CoinbaseRequestException) error).getResponse();
+            return response != null && isRetryable(response);
+        }
+        return error instanceof IOException;
+    }
+
+    /**
+     * Method to get the backoff to wait before a retry
+     *
+     * @param attempt: number of the attempt which has been failed, starting from zero
+     * @return backoff in millis to wait before the retry, -1 if the retries have been exhausted
+     */
+    public long getBackoff(int attempt) {
+        if (attempt >= maxRetries)
+            return -1;
+        long backoff = maxBackoff;
+        if (attempt < Long.numberOfLeadingZeros(initialBackoff) - 1)
+            backoff = Math.min(maxBackoff, initialBackoff << attempt);
+        long randomized = (long) (backoff * jitter);
+        if (randomized == 0)
+            return backoff;
+        return backoff - randomized + ThreadLocalRandom.current().nextLong(randomized + 1);
+    }
+
+    /**
+     * Method to count a retry of an endpoint
+     *
+     * @param endpoint: endpoint retried
+     */
+    public void recordRetry(String endpoint) {
+        retries.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Method to count a request of an endpoint failed after all the retries
+     *
+     * @param endpoint: endpoint of the request
+     */
+    public void recordExhausted(String endpoint) {
+        exhaustedRetries.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Method to get the number of retries spent for an endpoint
+     *
+     * @param endpoint: endpoint of which get the number of retries es. GET /products/{product_id}/book
+     * @return number of retries spent for the endpoint as long
+     */
+    public long getRetries(String endpoint) {
+        LongAdder counter = retries.get(endpoint);
+        if (counter == null)
+            return 0;
+        return counter.sum();
+    }
+
+    /**
+     * Method to get the number of retries spent for each endpoint <br>
+     * No-any params required
+     *
+     * @return number of retries spent for each endpoint as {@link Map} of {@link String} and {@link Long}
+     */
+    public Map<String, Long> getRetries() {
+        return snapshot(retries);
+    }
+
+    /**
+     * Method to get the number of requests of each endpoint failed after all the retries <br>
+     * No-any params required
+     *
+     * @return number of requests of each endpoint failed after all the retries as {@link Map} of {@link String} and
+     * {@link Long}
+     */
+    public Map<String, Long> getExhaustedRetries() {
+        return snapshot(exhaustedRetries);
+    }
+
+    /**
+     * Method to create a snapshot of some counters
+     *
+     * @param counters: counters of which create the snapshot
+     * @return snapshot of the counters as {@link Map} of {@link String} and {@link Long}
+     */
+    private static Map<String, Long> snapshot(ConcurrentHashMap<String, LongAdder> counters) {
+        HashMap<String, Long> snapshot = new HashMap<>();
+        counters.forEach((endpoint, counter) -> snapshot.put(endpoint, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Method to reset the counters of the policy <br>
+     * No-any params required
+     */
+    public void resetCounters() {
+        retries.clear();
+        exhaustedRetries.clear();
+    }
+
+    /**
+     * Method to get {@link #maxRetries} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxRetries} instance as int
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Method to get {@link #initialBackoff} instance <br>
+     * No-any params required
+     *
+     * @return {@link #initialBackoff} instance as long
+     */
+    public long getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Method to get {@link #maxBackoff} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxBackoff} instance as long
+     */
+    public long getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Method to get {@link #jitter} instance <br>
+     * No-any params required
+     *
+     * @return {@link #jitter} instance as double
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+}
@@ -19,10 +19,10 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
-import static com.tecknobit.coinbasemanager.exchangepro.account.records.details.Transfer.returnTransfersList;
 import static com.tecknobit.coinbasemanager.exchangepro.transfers.CoinbaseTransfersManager.MethodId.*;
 
 /**
@@ -1230,19 +1230,7 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/payment-methods")
     public <T> T getAllPaymentMethods(ReturnFormat format) throws Exception {
-        String paymentResponse = sendGETRequest(PAYMENTS_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(paymentResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<PaymentMethod> payment = new ArrayList<>();
-                JSONArray jPayment = new JSONArray(paymentResponse);
-                for (int j = 0; j < jPayment.length(); j++)
-                    payment.add(new PaymentMethod(jPayment.getJSONObject(j)));
-                return (T) payment;
-            default:
-                return (T) paymentResponse;
-        }
+        return returnPaymentMethodsList(sendGETRequest(PAYMENTS_ENDPOINT), format);
     }
 
     /**
@@ -1268,7 +1256,7 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
     @Wrapper
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
     public ArrayList<Transfer> getAllTransfers() throws Exception {
-        return returnTransfersList(sendGETRequest(TRANSFERS_ENDPOINT), ReturnFormat.LIBRARY_OBJECT);
+        return returnTransfers(sendGETRequest(TRANSFERS_ENDPOINT), ReturnFormat.LIBRARY_OBJECT);
     }
 
     /**
@@ -1293,7 +1281,7 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
      */
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
     public <T> T getAllTransfers(ReturnFormat format) throws Exception {
-        return returnTransfersList(sendGETRequest(TRANSFERS_ENDPOINT), format);
+        return returnTransfers(sendGETRequest(TRANSFERS_ENDPOINT), format);
     }
 
     /**
@@ -1337,7 +1325,7 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
     @Wrapper
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
     public ArrayList<Transfer> getAllTransfers(Params queryParams) throws Exception {
-        return returnTransfersList(sendGETRequest(TRANSFERS_ENDPOINT + queryParams.createQueryString()),
+        return returnTransfers(sendGETRequest(TRANSFERS_ENDPOINT + queryParams.createQueryString()),
                 ReturnFormat.LIBRARY_OBJECT);
     }
 
@@ -1382,10 +1370,23 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
      */
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
     public <T> T getAllTransfers(Params queryParams, ReturnFormat format) throws Exception {
-        return returnTransfersList(sendGETRequest(TRANSFERS_ENDPOINT + queryParams.createQueryString()
+        return returnTransfers(sendGETRequest(TRANSFERS_ENDPOINT + queryParams.createQueryString()
         ), format);
     }
 
+    /**
+     * Method to assemble a transfers list
+     *
+     * @param transfersResponse: transfers list response to format
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return transfers list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnTransfers(String transfersResponse, ReturnFormat format) {
+        return returnFormatted("Transfer.returnTransfersList", transfersResponse, format,
+                () -> Transfer.returnTransfersList(transfersResponse, format));
+    }
+
     /**
      * Request to get a single transfer
      *
@@ -3205,15 +3206,7 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
     public <T> T getFeeForCryptoWithdrawal(String cryptoAddress, String currency, ReturnFormat format) throws Exception {
         String queryParams = "?currency=" + currency + "&crypto_address=" + cryptoAddress;
-        String feeResponse = sendGETRequest(FEE_WITHDRAW_TO_CRYPTO_ENDPOINT + queryParams);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(feeResponse);
-            case LIBRARY_OBJECT:
-                return (T) new JSONObject(feeResponse).getString("fee");
-            default:
-                return (T) feeResponse;
-        }
+        return returnWithdrawalFee(sendGETRequest(FEE_WITHDRAW_TO_CRYPTO_ENDPOINT + queryParams), format);
     }
 
     /**
@@ -3952,14 +3945,16 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnTransferAction(String transferActionResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(transferActionResponse);
-            case LIBRARY_OBJECT:
-                return (T) new TransferAction(new JSONObject(transferActionResponse));
-            default:
-                return (T) transferActionResponse;
-        }
+        return returnFormatted("CoinbaseTransfersManager.returnTransferAction", transferActionResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(transferActionResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new TransferAction(new JSONObject(transferActionResponse));
+                default:
+                    return (T) transferActionResponse;
+            }
+        });
     }
 
     /**
@@ -3984,4 +3979,2616 @@ public class CoinbaseTransfersManager extends CoinbaseManager {
 
     }
 
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currency:          currency used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public CompletableFuture<TransferAction> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                             Currency currency) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currency:          currency used in deposit
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public <T> CompletableFuture<T> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                    Currency currency, ReturnFormat format) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), format);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currencyId:        identifier of currency used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public CompletableFuture<TransferAction> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                             String currencyId) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currencyId:        identifier of currency used in deposit
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public <T> CompletableFuture<T> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                    String currencyId, ReturnFormat format) {
+        return sendPostRequestAsync(DEPOSIT_FROM_COINBASE_ENDPOINT, createTransferPayload(amount, coinbase_account_id,
+                coinbaseAccountId, currencyId, null))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currency:          currency used in deposit
+     * @param profile:           profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public CompletableFuture<TransferAction> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                             Currency currency, Profile profile) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currency:          currency used in deposit
+     * @param profile:           profile used in deposit
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public <T> CompletableFuture<T> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                    Currency currency, Profile profile,
+                                                                    ReturnFormat format) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profile.getId(), format);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currency:          currency used in deposit
+     * @param profileId:         identifier of profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public CompletableFuture<TransferAction> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                             Currency currency, String profileId) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currency:          currency used in deposit
+     * @param profileId:         identifier of profile used in deposit
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public <T> CompletableFuture<T> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                    Currency currency, String profileId,
+                                                                    ReturnFormat format) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profileId, format);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currencyId:        identifier of currency used in deposit
+     * @param profile:           profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public CompletableFuture<TransferAction> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                             String currencyId, Profile profile) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currencyId:        identifier of currency used in deposit
+     * @param profile:           profile used in deposit
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public <T> CompletableFuture<T> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                    String currencyId, Profile profile,
+                                                                    ReturnFormat format) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, profile.getId(), format);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currencyId:        identifier of currency used in deposit
+     * @param profileId:         identifier of profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public CompletableFuture<TransferAction> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                             String currencyId, String profileId) {
+        return depositFromCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit from a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to deposit
+     * @param coinbaseAccountId: identifier of coinbase account from deposit
+     * @param currencyId:        identifier of currency used in deposit
+     * @param profileId:         identifier of profile used in deposit
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositcoinbaseaccount">
+     * Deposit from Coinbase account</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/coinbase-account")
+    public <T> CompletableFuture<T> depositFromCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                    String currencyId, String profileId,
+                                                                    ReturnFormat format) {
+        return sendPostRequestAsync(DEPOSIT_FROM_COINBASE_ENDPOINT, createTransferPayload(amount, coinbase_account_id,
+                coinbaseAccountId, currencyId, profileId))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currency:      currency used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                           Currency currency) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currency:      currency used in deposit
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                  Currency currency, ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currency:        currency used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                           Currency currency) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currency:        currency used in deposit
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                  Currency currency, ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currencyId:    currency used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                           String currencyId) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currencyId:    currency used in deposit
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                  String currencyId, ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currencyId:      currency used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                           String currencyId) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currencyId:      currency used in deposit
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                  String currencyId, ReturnFormat format) {
+        return sendPostRequestAsync(DEPOSIT_FROM_PAYMENT_ENDPOINT, createTransferPayload(amount, payment_id,
+                paymentMethodId, currencyId, null))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currency:      identifier of currency used in deposit
+     * @param profileId:     identifier of profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                           Currency currency, Profile profileId) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profileId.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currency:      identifier of currency used in deposit
+     * @param profile:       profile used in deposit
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                  Currency currency, Profile profile,
+                                                                  ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profile.getId(), format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currency:      identifier of currency used in deposit
+     * @param profileId:     identifier of profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                           Currency currency, String profileId) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currency:      identifier of currency used in deposit
+     * @param profileId:     identifier of profile used in deposit
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                  Currency currency, String profileId,
+                                                                  ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profileId, format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currency:        identifier of currency used in deposit
+     * @param profile:         profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                           Currency currency, Profile profile) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currency:        identifier of currency used in deposit
+     * @param profile:         profile used in deposit
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                  Currency currency, Profile profile,
+                                                                  ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profile.getId(), format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currency:        identifier of currency used in deposit
+     * @param profileId:       identifier of profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                           Currency currency, String profileId) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currency:        identifier of currency used in deposit
+     * @param profileId:       identifier of profile used in deposit
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                  Currency currency, String profileId,
+                                                                  ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profileId, format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currencyId:    currency used in deposit
+     * @param profile:       profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                           String currencyId, Profile profile) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:        amount to deposit
+     * @param paymentMethod: payment method used in deposit
+     * @param currencyId:    currency used in deposit
+     * @param profile:       profile used in deposit
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                  String currencyId, Profile profile,
+                                                                  ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, profile.getId(), format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currencyId:      currency used in deposit
+     * @param profile:         profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                           String currencyId, Profile profile) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currencyId, profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currencyId:      currency used in deposit
+     * @param profile:         profile used in deposit
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                  String currencyId, Profile profile,
+                                                                  ReturnFormat format) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currencyId, profile.getId(), format);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currencyId:      currency used in deposit
+     * @param profileId:       identifier of profile used in deposit
+     * @return result of deposit as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public CompletableFuture<TransferAction> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                           String currencyId, String profileId) {
+        return depositFromPaymentMethodAsync(amount, paymentMethodId, currencyId, profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to deposit using payment method asynchronously
+     *
+     * @param amount:          amount to deposit
+     * @param paymentMethodId: identifier of payment method used in deposit
+     * @param currencyId:      currency used in deposit
+     * @param profileId:       identifier of profile used in deposit
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of deposit as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postdepositpaymentmethod">
+     * Deposit from payment method</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/deposits/payment-method")
+    public <T> CompletableFuture<T> depositFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                  String currencyId, String profileId,
+                                                                  ReturnFormat format) {
+        return sendPostRequestAsync(DEPOSIT_FROM_PAYMENT_ENDPOINT, createTransferPayload(amount, payment_id,
+                paymentMethodId, currencyId, profileId))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to get all payment methods list asynchronously <br>
+     * No-any params required
+     *
+     * @return payment methods list as {@link CompletableFuture} of {@link ArrayList} of {@link PaymentMethod},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getpaymentmethods">
+     * Get all payment methods</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/payment-methods")
+    public CompletableFuture<ArrayList<PaymentMethod>> getAllPaymentMethodsAsync() {
+        return getAllPaymentMethodsAsync(ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get all payment methods asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return payment methods list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getpaymentmethods">
+     * Get all payment methods</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/payment-methods")
+    public <T> CompletableFuture<T> getAllPaymentMethodsAsync(ReturnFormat format) {
+        return sendGETRequestAsync(PAYMENTS_ENDPOINT)
+                .thenApply(paymentResponse -> returnPaymentMethodsList(paymentResponse, format));
+    }
+
+    /**
+     * Method to assemble a payment methods list
+     *
+     * @param paymentResponse: payment methods list response to format
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return payment methods list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnPaymentMethodsList(String paymentResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseTransfersManager.returnPaymentMethodsList", paymentResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(paymentResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<PaymentMethod> payment = new ArrayList<>();
+                    JSONArray jPayment = new JSONArray(paymentResponse);
+                    for (int j = 0; j < jPayment.length(); j++)
+                        payment.add(new PaymentMethod(jPayment.getJSONObject(j)));
+                    return (T) payment;
+                default:
+                    return (T) paymentResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get all transfers list asynchronously <br>
+     * No-any params required
+     *
+     * @return transfers list as {@link CompletableFuture} of {@link ArrayList} of {@link Transfer},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_gettransfers">
+     * Get all transfers</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
+    public CompletableFuture<ArrayList<Transfer>> getAllTransfersAsync() {
+        return sendGETRequestAsync(TRANSFERS_ENDPOINT)
+                .thenApply(transfersResponse -> returnTransfers(transfersResponse, ReturnFormat.LIBRARY_OBJECT));
+    }
+
+    /**
+     * Request to get all transfers list asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return transfers list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_gettransfers">
+     * Get all transfers</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
+    public <T> CompletableFuture<T> getAllTransfersAsync(ReturnFormat format) {
+        return sendGETRequestAsync(TRANSFERS_ENDPOINT)
+                .thenApply(transfersResponse -> returnTransfers(transfersResponse, format));
+    }
+
+    /**
+     * Request to get all transfers list asynchronously
+     *
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "type"} -> specify transfers 'deposit' or 'withdraw', constants available:
+     *                              {@link TransferType} - [string]
+     *                          </li>
+     *                     </ul>
+     * @return transfers list as {@link CompletableFuture} of {@link ArrayList} of {@link Transfer},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_gettransfers">
+     * Get all transfers</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
+    public CompletableFuture<ArrayList<Transfer>> getAllTransfersAsync(Params queryParams) {
+        return sendGETRequestAsync(TRANSFERS_ENDPOINT + queryParams.createQueryString())
+                .thenApply(transfersResponse -> returnTransfers(transfersResponse, ReturnFormat.LIBRARY_OBJECT));
+    }
+
+    /**
+     * Request to get all transfers list asynchronously
+     *
+     * @param queryParams: query params of request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "type"} -> specify transfers 'deposit' or 'withdraw', constants available:
+     *                              {@link TransferType} - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return transfers list as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_gettransfers">
+     * Get all transfers</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers")
+    public <T> CompletableFuture<T> getAllTransfersAsync(Params queryParams, ReturnFormat format) {
+        return sendGETRequestAsync(TRANSFERS_ENDPOINT + queryParams.createQueryString())
+                .thenApply(transfersResponse -> returnTransfers(transfersResponse, format));
+    }
+
+    /**
+     * Request to get a single transfer asynchronously
+     *
+     * @param transferId: identifier used to fetch information
+     * @return single transfer as {@link CompletableFuture} of {@link Transfer},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_gettransfer">
+     * Get a single transfer</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers/{transfer_id}")
+    public CompletableFuture<Transfer> getSingleTransferAsync(String transferId) {
+        return getSingleTransferAsync(transferId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get a single transfer asynchronously
+     *
+     * @param transferId: identifier used to fetch information
+     * @param format:     return type formatter -> {@link ReturnFormat}
+     * @return single transfer as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_gettransfer">
+     * Get a single transfer</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/transfers/{transfer_id}")
+    public <T> CompletableFuture<T> getSingleTransferAsync(String transferId, ReturnFormat format) {
+        return sendGETRequestAsync(TRANSFERS_ENDPOINT + "/" + transferId)
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currency:        currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount,
+                                                                            CoinbaseAccount coinbaseAccount,
+                                                                            Currency currency) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currency.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currency:        currency used in the withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, CoinbaseAccount coinbaseAccount,
+                                                                   Currency currency, ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currency.getId(), format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currency:          currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                            Currency currency) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currency:          currency used in the withdraw
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                   Currency currency, ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount,
+                                                                            CoinbaseAccount coinbaseAccount,
+                                                                            String currencyId) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, CoinbaseAccount coinbaseAccount,
+                                                                   String currencyId, ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currencyId, format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currencyId:        identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                            String currencyId) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currencyId:        identifier of currency used in withdraw
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                   String currencyId, ReturnFormat format) {
+        return sendPostRequestAsync(WITHDRAW_TO_COINBASE_ENDPOINT, createTransferPayload(amount, coinbase_account_id,
+                coinbaseAccountId, currencyId, null))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profile:         profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount,
+                                                                            CoinbaseAccount coinbaseAccount,
+                                                                            Currency currency, Profile profile) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currency.getId(), profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profile:         profile used in the withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, CoinbaseAccount coinbaseAccount,
+                                                                   Currency currency, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currency.getId(), profile.getId(),
+                format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount,
+                                                                            CoinbaseAccount coinbaseAccount,
+                                                                            String currencyId, String profileId) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currencyId, profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, CoinbaseAccount coinbaseAccount,
+                                                                   String currencyId, String profileId,
+                                                                   ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currencyId, profileId, format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount,
+                                                                            CoinbaseAccount coinbaseAccount,
+                                                                            Currency currency, String profileId) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currency.getId(), profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, CoinbaseAccount coinbaseAccount,
+                                                                   Currency currency, String profileId,
+                                                                   ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currency.getId(), profileId, format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currency:          currency used in the withdraw
+     * @param profileId:         identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                            Currency currency, String profileId) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currency:          currency used in the withdraw
+     * @param profileId:         identifier of profile used in withdraw
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                   Currency currency, String profileId,
+                                                                   ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profileId, format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profile:         profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount,
+                                                                            CoinbaseAccount coinbaseAccount,
+                                                                            String currencyId, Profile profile) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currencyId, profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param coinbaseAccount: coinbase account in the withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profile:         profile used in the withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, CoinbaseAccount coinbaseAccount,
+                                                                   String currencyId, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccount.getId(), currencyId, profile.getId(), format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currency:          currency used in the withdraw
+     * @param profile:           profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                            Currency currency, Profile profile) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currency:          currency used in the withdraw
+     * @param profile:           profile used in the withdraw
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                   Currency currency, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currency.getId(), profile.getId(), format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currencyId:        identifier of currency used in withdraw
+     * @param profile:           profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                            String currencyId, Profile profile) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currencyId:        identifier of currency used in withdraw
+     * @param profile:           profile used in the withdraw
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                   String currencyId, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, profile.getId(), format);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currencyId:        identifier of currency used in withdraw
+     * @param profileId:         identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public CompletableFuture<TransferAction> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                            String currencyId, String profileId) {
+        return withdrawToCoinbaseAccountAsync(amount, coinbaseAccountId, currencyId, profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to a {@code "Coinbase"}'s account asynchronously
+     *
+     * @param amount:            amount to withdraw
+     * @param coinbaseAccountId: identifier of coinbase account in withdraw
+     * @param currencyId:        identifier of currency used in withdraw
+     * @param profileId:         identifier of profile used in withdraw
+     * @param format:            return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcoinbaseaccount">
+     * Withdraw to Coinbase account</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/coinbase-account")
+    public <T> CompletableFuture<T> withdrawToCoinbaseAccountAsync(double amount, String coinbaseAccountId,
+                                                                   String currencyId, String profileId,
+                                                                   ReturnFormat format) {
+        return sendPostRequestAsync(WITHDRAW_TO_COINBASE_ENDPOINT, createTransferPayload(amount, coinbase_account_id,
+                coinbaseAccountId, currencyId, profileId))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:   amount to withdraw
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, CryptoAddress crypto,
+                                                                   Currency currency) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currency.getId(), ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:   amount to withdraw
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: currency used in the withdraw
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, CryptoAddress crypto, Currency currency,
+                                                          ReturnFormat format) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currency.getId(), format);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, String cryptoAddress,
+                                                                   Currency currency) {
+        return withdrawToCryptoAsync(amount, cryptoAddress, currency.getId(), ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, String cryptoAddress, Currency currency,
+                                                          ReturnFormat format) {
+        return withdrawToCryptoAsync(amount, cryptoAddress, currency.getId(), format);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:     amount to withdraw
+     * @param crypto:     crypto address used in the withdraw
+     * @param currencyId: identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, CryptoAddress crypto,
+                                                                   String currencyId) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:     amount to withdraw
+     * @param crypto:     crypto address used in the withdraw
+     * @param currencyId: identifier of currency used in withdraw
+     * @param format:     return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, CryptoAddress crypto, String currencyId,
+                                                          ReturnFormat format) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currencyId, format);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, String cryptoAddress,
+                                                                   String currencyId) {
+        return withdrawToCryptoAsync(amount, cryptoAddress, currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, String cryptoAddress, String currencyId,
+                                                          ReturnFormat format) {
+        return sendPostRequestAsync(WITHDRAW_TO_CRYPTO_ENDPOINT, createTransferPayload(amount, crypto_address,
+                cryptoAddress, currencyId, null))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:      amount to withdraw
+     * @param crypto:      crypto address used in the withdraw
+     * @param currency:    currency used in the withdraw
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "destination_tag"} -> destination tag - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                          </li>
+     *                          <li>
+     *                              {@code "two_factor_code"} -> two factor code - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "nonce"} -> nonce - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "fee"} -> fee - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "network"} -> network - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, CryptoAddress crypto,
+                                                                   Currency currency, Params extraParams) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currency.getId(), extraParams,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:      amount to withdraw
+     * @param crypto:      crypto address used in the withdraw
+     * @param currency:    currency used in the withdraw
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "destination_tag"} -> destination tag - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                          </li>
+     *                          <li>
+     *                              {@code "two_factor_code"} -> two factor code - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "nonce"} -> nonce - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "fee"} -> fee - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "network"} -> network - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, CryptoAddress crypto, Currency currency,
+                                                          Params extraParams, ReturnFormat format) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currency.getId(), extraParams, format);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @param extraParams:   extra params of the request, keys accepted are:
+     *                       <ul>
+     *                            <li>
+     *                                {@code "profile_id"} -> profile identifier - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "destination_tag"} -> destination tag - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                            </li>
+     *                            <li>
+     *                                {@code "two_factor_code"} -> two factor code - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "nonce"} -> nonce - [integer]
+     *                            </li>
+     *                            <li>
+     *                                {@code "fee"} -> fee - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "network"} -> network - [string]
+     *                            </li>
+     *                       </ul>
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, String cryptoAddress,
+                                                                   Currency currency, Params extraParams) {
+        return withdrawToCryptoAsync(amount, cryptoAddress, currency.getId(), extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @param extraParams:   extra params of the request, keys accepted are:
+     *                       <ul>
+     *                            <li>
+     *                                {@code "profile_id"} -> profile identifier - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "destination_tag"} -> destination tag - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                            </li>
+     *                            <li>
+     *                                {@code "two_factor_code"} -> two factor code - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "nonce"} -> nonce - [integer]
+     *                            </li>
+     *                            <li>
+     *                                {@code "fee"} -> fee - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "network"} -> network - [string]
+     *                            </li>
+     *                       </ul>
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, String cryptoAddress, Currency currency,
+                                                          Params extraParams, ReturnFormat format) {
+        return withdrawToCryptoAsync(amount, cryptoAddress, currency.getId(), extraParams, format);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:      amount to withdraw
+     * @param crypto:      crypto address used in the withdraw
+     * @param currencyId:  identifier of currency used in withdraw
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "destination_tag"} -> destination tag - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                          </li>
+     *                          <li>
+     *                              {@code "two_factor_code"} -> two factor code - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "nonce"} -> nonce - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "fee"} -> fee - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "network"} -> network - [string]
+     *                          </li>
+     *                     </ul>
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, CryptoAddress crypto,
+                                                                   String currencyId, Params extraParams) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currencyId, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:      amount to withdraw
+     * @param crypto:      crypto address used in the withdraw
+     * @param currencyId:  identifier of currency used in withdraw
+     * @param extraParams: extra params of the request, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "profile_id"} -> profile identifier - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "destination_tag"} -> destination tag - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                          </li>
+     *                          <li>
+     *                              {@code "two_factor_code"} -> two factor code - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "nonce"} -> nonce - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "fee"} -> fee - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "network"} -> network - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, CryptoAddress crypto, String currencyId,
+                                                          Params extraParams, ReturnFormat format) {
+        return withdrawToCryptoAsync(amount, crypto.getAddress(), currencyId, extraParams, format);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @param extraParams:   extra params of the request, keys accepted are:
+     *                       <ul>
+     *                            <li>
+     *                                {@code "profile_id"} -> profile identifier - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "destination_tag"} -> destination tag - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                            </li>
+     *                            <li>
+     *                                {@code "two_factor_code"} -> two factor code - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "nonce"} -> nonce - [integer]
+     *                            </li>
+     *                            <li>
+     *                                {@code "fee"} -> fee - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "network"} -> network - [string]
+     *                            </li>
+     *                       </ul>
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public CompletableFuture<TransferAction> withdrawToCryptoAsync(double amount, String cryptoAddress,
+                                                                   String currencyId, Params extraParams) {
+        return withdrawToCryptoAsync(amount, cryptoAddress, currencyId, extraParams, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw to crypto address asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @param extraParams:   extra params of the request, keys accepted are:
+     *                       <ul>
+     *                            <li>
+     *                                {@code "profile_id"} -> profile identifier - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "destination_tag"} -> destination tag - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "no_destination_tag"} -> no destination tag - [boolean]
+     *                            </li>
+     *                            <li>
+     *                                {@code "two_factor_code"} -> two factor code - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "nonce"} -> nonce - [integer]
+     *                            </li>
+     *                            <li>
+     *                                {@code "fee"} -> fee - [string]
+     *                            </li>
+     *                            <li>
+     *                                {@code "network"} -> network - [string]
+     *                            </li>
+     *                       </ul>
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawcrypto">
+     * Withdraw to crypto address</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/crypto")
+    public <T> CompletableFuture<T> withdrawToCryptoAsync(double amount, String cryptoAddress, String currencyId,
+                                                          Params extraParams, ReturnFormat format) {
+        Params payload = createTransferPayload(amount, crypto_address, cryptoAddress, currencyId, null);
+        payload.mergeParams(extraParams);
+        return sendPostRequestAsync(WITHDRAW_TO_CRYPTO_ENDPOINT, payload)
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: identifier of currency used in withdraw
+     * @param decimals: number of digits to round final value
+     * @return estimate fee of withdraw as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(CryptoAddress crypto, Currency currency,
+                                                                    int decimals) {
+        return getFeeForCryptoWithdrawalAsync(crypto.getAddress(), currency.getId())
+                .thenApply(value -> roundValue(value, decimals));
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(CryptoAddress crypto, Currency currency) {
+        return this.<String>getFeeForCryptoWithdrawalAsync(crypto.getAddress(), currency.getId(),
+                ReturnFormat.LIBRARY_OBJECT)
+                .thenApply(Double::parseDouble);
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     * @implNote in this case {@link ReturnFormat#LIBRARY_OBJECT} will return the {@link String} value of the fee,
+     * with the wrappers methods it will be parsed as double, if you directly access to this method you will need to parse as well
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public <T> CompletableFuture<T> getFeeForCryptoWithdrawalAsync(CryptoAddress crypto, Currency currency,
+                                                                   ReturnFormat format) {
+        return getFeeForCryptoWithdrawalAsync(crypto.getAddress(), currency.getId(), format);
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      identifier of currency used in withdraw
+     * @param decimals:      number of digits to round final value
+     * @return estimate fee of withdraw as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(String cryptoAddress, Currency currency,
+                                                                    int decimals) {
+        return getFeeForCryptoWithdrawalAsync(cryptoAddress, currency.getId())
+                .thenApply(value -> roundValue(value, decimals));
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(String cryptoAddress, Currency currency) {
+        return this.<String>getFeeForCryptoWithdrawalAsync(cryptoAddress, currency.getId(), ReturnFormat.LIBRARY_OBJECT)
+                .thenApply(Double::parseDouble);
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     * @implNote in this case {@link ReturnFormat#LIBRARY_OBJECT} will return the {@link String} value of the fee,
+     * with the wrappers methods it will be parsed as double, if you directly access to this method you will need to parse as well
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public <T> CompletableFuture<T> getFeeForCryptoWithdrawalAsync(String cryptoAddress, Currency currency,
+                                                                   ReturnFormat format) {
+        return getFeeForCryptoWithdrawalAsync(cryptoAddress, currency.getId(), format);
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: identifier of currency used in withdraw
+     * @param decimals: number of digits to round final value
+     * @return estimate fee of withdraw as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(CryptoAddress crypto, String currency,
+                                                                    int decimals) {
+        return getFeeForCryptoWithdrawalAsync(crypto.getAddress(), currency)
+                .thenApply(value -> roundValue(value, decimals));
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(CryptoAddress crypto, String currency) {
+        return this.<String>getFeeForCryptoWithdrawalAsync(crypto.getAddress(), currency, ReturnFormat.LIBRARY_OBJECT)
+                .thenApply(Double::parseDouble);
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param crypto:   crypto address used in the withdraw
+     * @param currency: currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     * @implNote in this case {@link ReturnFormat#LIBRARY_OBJECT} will return the {@link String} value of the fee,
+     * with the wrappers methods it will be parsed as double, if you directly access to this method you will need to parse as well
+     */
+    @WrappedRequest
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public <T> CompletableFuture<T> getFeeForCryptoWithdrawalAsync(CryptoAddress crypto, String currency,
+                                                                   ReturnFormat format) {
+        return getFeeForCryptoWithdrawalAsync(crypto.getAddress(), currency, format);
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      identifier of currency used in withdraw
+     * @param decimals:      number of digits to round final value
+     * @return estimate fee of withdraw as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(String cryptoAddress, String currency,
+                                                                    int decimals) {
+        return getFeeForCryptoWithdrawalAsync(cryptoAddress, currency).thenApply(value -> roundValue(value, decimals));
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@link Double},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public CompletableFuture<Double> getFeeForCryptoWithdrawalAsync(String cryptoAddress, String currency) {
+        return this.<String>getFeeForCryptoWithdrawalAsync(cryptoAddress, currency, ReturnFormat.LIBRARY_OBJECT)
+                .thenApply(Double::parseDouble);
+    }
+
+    /**
+     * Request to get estimated fee of withdraw to crypto address asynchronously
+     *
+     * @param cryptoAddress: identifier of crypto address used in withdraw
+     * @param currency:      currency used in the withdraw
+     * @return estimated fee as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwithdrawfeeestimate">
+     * Get fee estimate for crypto withdrawal</a>
+     * @implNote in this case {@link ReturnFormat#LIBRARY_OBJECT} will return the {@link String} value of the fee,
+     * with the wrappers methods it will be parsed as double, if you directly access to this method you will need to parse as well
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/withdrawals/fee-estimate")
+    public <T> CompletableFuture<T> getFeeForCryptoWithdrawalAsync(String cryptoAddress, String currency,
+                                                                   ReturnFormat format) {
+        String queryParams = "?currency=" + currency + "&crypto_address=" + cryptoAddress;
+        return sendGETRequestAsync(FEE_WITHDRAW_TO_CRYPTO_ENDPOINT + queryParams)
+                .thenApply(feeResponse -> returnWithdrawalFee(feeResponse, format));
+    }
+
+    /**
+     * Method to assemble a crypto withdrawal fee
+     *
+     * @param feeResponse: crypto withdrawal fee response to format
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return crypto withdrawal fee response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnWithdrawalFee(String feeResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseTransfersManager.returnWithdrawalFee", feeResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(feeResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new JSONObject(feeResponse).getString("fee");
+                default:
+                    return (T) feeResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currency:      currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                            Currency currency) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currency:      currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                   Currency currency, ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currency:        currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                            Currency currency) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currency:        currency used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                   Currency currency, ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                            String currencyId) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                   String currencyId, ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                            String currencyId) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currencyId, ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                   String currencyId, ReturnFormat format) {
+        return sendPostRequestAsync(WITHDRAW_TO_PAYMENT_ENDPOINT, createTransferPayload(amount, payment_id,
+                paymentMethodId, currencyId, null))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currency:      currency used in the withdraw
+     * @param profile:       profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                            Currency currency, Profile profile) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currency:      currency used in the withdraw
+     * @param profile:       profile used in the withdraw
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                   Currency currency, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profile.getId(), format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @param profile:       profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                            String currencyId, Profile profile) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @param profile:       profile used in the withdraw
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                   String currencyId, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, profile.getId(), format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @param profileId:     identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                            String currencyId, String profileId) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currencyId:    identifier of currency used in withdraw
+     * @param profileId:     identifier of profile used in withdraw
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                   String currencyId, String profileId,
+                                                                   ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currencyId, profileId, format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currency:      currency used in the withdraw
+     * @param profileId:     identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                            Currency currency, String profileId) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:        amount to withdraw
+     * @param paymentMethod: payment method used in the withdraw
+     * @param currency:      currency used in the withdraw
+     * @param profileId:     identifier of profile used in withdraw
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, PaymentMethod paymentMethod,
+                                                                   Currency currency, String profileId,
+                                                                   ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethod.getId(), currency.getId(), profileId, format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                            Currency currency, String profileId) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                   Currency currency, String profileId,
+                                                                   ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profileId, format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profile:         profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                            Currency currency, Profile profile) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currency:        currency used in the withdraw
+     * @param profile:         profile used in the withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                   Currency currency, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currency.getId(), profile.getId(), format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profile:         profile used in the withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                            String currencyId, Profile profile) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currencyId, profile.getId(),
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profile:         profile used in the withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @WrappedRequest
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                   String currencyId, Profile profile,
+                                                                   ReturnFormat format) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currencyId, profile.getId(), format);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @return result of withdraw as {@link CompletableFuture} of {@link TransferAction},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public CompletableFuture<TransferAction> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                            String currencyId, String profileId) {
+        return withdrawFromPaymentMethodAsync(amount, paymentMethodId, currencyId, profileId,
+                ReturnFormat.LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to withdraw using payment method asynchronously
+     *
+     * @param amount:          amount to withdraw
+     * @param paymentMethodId: identifier of payment method used in withdraw
+     * @param currencyId:      identifier of currency used in withdraw
+     * @param profileId:       identifier of profile used in withdraw
+     * @param format:          return type formatter -> {@link ReturnFormat}
+     * @return result of withdraw as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwithdrawpaymentmethod">
+     * Withdraw to payment method</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/withdrawals/payment-method")
+    public <T> CompletableFuture<T> withdrawFromPaymentMethodAsync(double amount, String paymentMethodId,
+                                                                   String currencyId, String profileId,
+                                                                   ReturnFormat format) {
+        return sendPostRequestAsync(WITHDRAW_TO_PAYMENT_ENDPOINT, createTransferPayload(amount, payment_id,
+                paymentMethodId, currencyId, profileId))
+                .thenApply(transferActionResponse -> returnTransferAction(transferActionResponse, format));
+    }
+
 }
@@ -8,6 +8,8 @@ import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
 import com.tecknobit.coinbasemanager.exchangepro.users.records.ExchangeLimits;
 import org.json.JSONObject;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
 import static com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.ReturnFormat.LIBRARY_OBJECT;
@@ -202,16 +204,7 @@ public class CoinbaseUsersManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/users/{user_id}/exchange-limits")
     public <T> T getUserExchangeLimits(String userId, ReturnFormat format) throws Exception {
-        String exchangeLimitsResponse = sendGETRequest(USERS_ENDPOINT + "/" + userId + EXCHANGE_LIMITS_ENDPOINT
-        );
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(exchangeLimitsResponse);
-            case LIBRARY_OBJECT:
-                return (T) new ExchangeLimits(new JSONObject(exchangeLimitsResponse));
-            default:
-                return (T) exchangeLimitsResponse;
-        }
+        return returnExchangeLimits(sendGETRequest(USERS_ENDPOINT + "/" + userId + EXCHANGE_LIMITS_ENDPOINT), format);
     }
 
     /**
@@ -269,16 +262,119 @@ public class CoinbaseUsersManager extends CoinbaseManager {
                                             ReturnFormat format) throws Exception {
         Params payload = new Params();
         payload.addParam("settlement_preference", preference.getPreference());
-        String preferenceResponse = sendJSONPostRequestRequest(USERS_ENDPOINT + "/" + userId
-                + SETTLEMENT_PREFERENCES_ENDPOINT, payload);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(preferenceResponse);
-            case LIBRARY_OBJECT:
-                return (T) new JSONObject(preferenceResponse).getString("settlement_preference");
-            default:
-                return (T) preferenceResponse;
-        }
+        return returnSettlementPreference(sendJSONPostRequestRequest(USERS_ENDPOINT + "/" + userId
+                + SETTLEMENT_PREFERENCES_ENDPOINT, payload), format);
+    }
+
+    /**
+     * Request to get exchange user limits for a user asynchronously
+     *
+     * @param userId: the ID of the user who owns the account
+     * @return exchange user limits for a user as {@link CompletableFuture} of {@link ExchangeLimits},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getuserexchangelimits">
+     * Get user exchange limits</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/users/{user_id}/exchange-limits")
+    public CompletableFuture<ExchangeLimits> getUserExchangeLimitsAsync(String userId) {
+        return getUserExchangeLimitsAsync(userId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get exchange user limits for a user asynchronously
+     *
+     * @param userId: the ID of the user who owns the account
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return exchange user limits for a user as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getuserexchangelimits">
+     * Get user exchange limits</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/users/{user_id}/exchange-limits")
+    public <T> CompletableFuture<T> getUserExchangeLimitsAsync(String userId, ReturnFormat format) {
+        return sendGETRequestAsync(USERS_ENDPOINT + "/" + userId + EXCHANGE_LIMITS_ENDPOINT)
+                .thenApply(exchangeLimitsResponse -> returnExchangeLimits(exchangeLimitsResponse, format));
+    }
+
+    /**
+     * Method to assemble an exchange limits object
+     *
+     * @param exchangeLimitsResponse: exchange limits response to format
+     * @param format:                 return type formatter -> {@link ReturnFormat}
+     * @return exchange limits response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnExchangeLimits(String exchangeLimitsResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseUsersManager.returnExchangeLimits", exchangeLimitsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(exchangeLimitsResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new ExchangeLimits(new JSONObject(exchangeLimitsResponse));
+                default:
+                    return (T) exchangeLimitsResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to update the settlement preference to hold funds in either USDC or USD asynchronously
+     *
+     * @param userId:     the ID of the user who owns the account
+     * @param preference: settlement preference
+     * @return settlement preference as {@link CompletableFuture} of {@link String},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postuserlevelsettlementpreferences">
+     * Update settlement preference</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/users/{user_id}/settlement-preferences")
+    public CompletableFuture<String> updateSettlementPreferenceAsync(String userId, SettlementPreference preference) {
+        return updateSettlementPreferenceAsync(userId, preference, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to update the settlement preference to hold funds in either USDC or USD asynchronously
+     *
+     * @param userId:     the ID of the user who owns the account
+     * @param preference: settlement preference
+     * @param format:     return type formatter -> {@link ReturnFormat}
+     * @return settlement preference as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postuserlevelsettlementpreferences">
+     * Update settlement preference</a>
+     */
+    @Returner
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/users/{user_id}/settlement-preferences")
+    public <T> CompletableFuture<T> updateSettlementPreferenceAsync(String userId, SettlementPreference preference,
+                                                                    ReturnFormat format) {
+        Params payload = new Params();
+        payload.addParam("settlement_preference", preference.getPreference());
+        return sendPostRequestAsync(USERS_ENDPOINT + "/" + userId + SETTLEMENT_PREFERENCES_ENDPOINT, payload)
+                .thenApply(preferenceResponse -> returnSettlementPreference(preferenceResponse, format));
+    }
+
+    /**
+     * Method to assemble a settlement preference
+     *
+     * @param preferenceResponse: settlement preference response to format
+     * @param format:             return type formatter -> {@link ReturnFormat}
+     * @return settlement preference response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnSettlementPreference(String preferenceResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseUsersManager.returnSettlementPreference", preferenceResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(preferenceResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new JSONObject(preferenceResponse).getString("settlement_preference");
+                default:
+                    return (T) preferenceResponse;
+            }
+        });
     }
 
 }
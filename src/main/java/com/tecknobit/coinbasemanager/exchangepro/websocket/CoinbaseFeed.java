@@ -0,0 +1,674 @@
+package com.tecknobit.coinbasemanager.exchangepro.websocket;
+
+import com.tecknobit.coinbasemanager.exchangepro.credentials.CoinbaseCredentials;
+import com.tecknobit.coinbasemanager.exchangepro.retry.RetryPolicy;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code CoinbaseFeed} class is useful to receive in real-time the market data of the {@code "Coinbase"} feed,
+ * without polling the endpoints with a signed request for each update
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the feed reconnects when the connection is lost or when no message has been received for the
+ * {@link #staleTimeout}, waiting between the attempts as its {@link #reconnectPolicy} defines, then it subscribes again
+ * all the channels, so subscribe also the {@link FeedChannel#heartbeat} channel to keep the connection alive when the
+ * other channels are quiet. The messages are parsed by the {@link FeedMessageParser} and dispatched to the
+ * {@link FeedListener} on the thread which reads them
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/websocket-overview">
+ * Websocket overview</a>
+ * @see FeedListener
+ * @see FeedChannel
+ */
+public class CoinbaseFeed implements Closeable {
+
+    /**
+     * {@code FEED_ENDPOINT} is constant for the endpoint of the {@code "Coinbase"} feed
+     */
+    public static final String FEED_ENDPOINT = "wss://ws-feed.exchange.coinbase.com";
+
+    /**
+     * {@code DEFAULT_STALE_TIMEOUT} is constant for the default time in millis without messages after that the
+     * connection is considered lost
+     */
+    public static final long DEFAULT_STALE_TIMEOUT = 5000;
+
+    /**
+     * {@code DEFAULT_CONNECT_TIMEOUT} is constant for the default timeout in millis to open the connection
+     */
+    public static final long DEFAULT_CONNECT_TIMEOUT = 10000;
+
+    /**
+     * {@code VERIFY_ENDPOINT} is constant for the endpoint signed to authenticate the subscriptions
+     */
+    private static final String VERIFY_ENDPOINT = "/users/self/verify";
+
+    /**
+     * {@code SCHEDULER} is instance used to schedule the reconnections and to check the stale connections
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coinbase-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code url} is instance that memorizes the url of the feed
+     */
+    private final String url;
+
+    /**
+     * {@code credentials} is instance that memorizes the credentials used to authenticate the subscriptions,
+     * {@code null} if they are not authenticated
+     */
+    private final CoinbaseCredentials credentials;
+
+    /**
+     * {@code listener} is instance that memorizes the listener of the messages
+     */
+    private final FeedListener listener;
+
+    /**
+     * {@code httpClient} is instance used to open the connections
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * {@code subscriptions} is instance that memorizes the products subscribed for each channel
+     */
+    private final Map<FeedChannel, Set<String>> subscriptions = new EnumMap<>(FeedChannel.class);
+
+    /**
+     * {@code receivedMessages} is instance that memorizes the number of the messages received
+     */
+    private final LongAdder receivedMessages = new LongAdder();
+
+    /**
+     * {@code reconnectPolicy} is instance that memorizes the policy of the waits between the reconnections
+     */
+    private volatile RetryPolicy reconnectPolicy = new RetryPolicy(Integer.MAX_VALUE, 250, 30000,
+            RetryPolicy.DEFAULT_JITTER);
+
+    /**
+     * {@code staleTimeout} is instance that memorizes the time in millis without messages after that the connection
+     * is considered lost, 0 to never check it
+     */
+    private volatile long staleTimeout = DEFAULT_STALE_TIMEOUT;
+
+    /**
+     * {@code connectTimeout} is instance that memorizes the timeout in millis to open the connection
+     */
+    private volatile long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    /**
+     * {@code webSocket} is instance that memorizes the current connection, {@code null} if not connected
+     */
+    private WebSocket webSocket;
+
+    /**
+     * {@code connecting} is flag that checks if a connection is being opened or scheduled
+     */
+    private boolean connecting;
+
+    /**
+     * {@code closed} is flag that checks if the feed has been closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * {@code attempt} is instance that memorizes the number of the consecutive failed connections
+     */
+    private int attempt;
+
+    /**
+     * {@code reconnections} is instance that memorizes the number of the reconnections
+     */
+    private long reconnections;
+
+    /**
+     * {@code lastMessageAt} is instance that memorizes the time in nanos when the last message has been received
+     */
+    private volatile long lastMessageAt;
+
+    /**
+     * {@code pendingSend} is instance that memorizes the last message sent, the messages must be sent one at a time
+     */
+    private CompletableFuture<?> pendingSend = CompletableFuture.completedFuture(null);
+
+    /**
+     * {@code firstConnection} is instance that memorizes the future completed when the feed is connected the first
+     * time
+     */
+    private CompletableFuture<CoinbaseFeed> firstConnection;
+
+    /**
+     * {@code staleCheck} is instance that memorizes the periodic check of the stale connections
+     */
+    private ScheduledFuture<?> staleCheck;
+
+    /**
+     * Constructor to init a {@link CoinbaseFeed}
+     *
+     * @param url:         url of the feed
+     * @param credentials: credentials used to authenticate the subscriptions, {@code null} to not authenticate them
+     * @param listener:    listener of the messages
+     * @param httpClient:  client used to open the connections
+     */
+    public CoinbaseFeed(String url, CoinbaseCredentials credentials, FeedListener listener, HttpClient httpClient) {
+        if (listener == null)
+            throw new IllegalArgumentException("The listener cannot be null");
+        this.url = url;
+        this.credentials = credentials;
+        this.listener = listener;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Constructor to init a {@link CoinbaseFeed}
+     *
+     * @param url:         url of the feed
+     * @param credentials: credentials used to authenticate the subscriptions, {@code null} to not authenticate them
+     * @param listener:    listener of the messages
+     */
+    public CoinbaseFeed(String url, CoinbaseCredentials credentials, FeedListener listener) {
+        this(url, credentials, listener, HttpClient.newHttpClient());
+    }
+
+    /**
+     * Constructor to init an authenticated {@link CoinbaseFeed} connected to the {@link #FEED_ENDPOINT}
+     *
+     * @param apiKey:     your {@code "Coinbase"} api key
+     * @param apiSecret:  your {@code "Coinbase"} api secret
+     * @param passphrase: your {@code "Coinbase"} api passphrase
+     * @param listener:   listener of the messages
+     */
+    public CoinbaseFeed(String apiKey, String apiSecret, String passphrase, FeedListener listener) {
+        this(FEED_ENDPOINT, new CoinbaseCredentials(apiKey, apiSecret, passphrase), listener);
+    }
+
+    /**
+     * Constructor to init a not authenticated {@link CoinbaseFeed} connected to the {@link #FEED_ENDPOINT}
+     *
+     * @param listener: listener of the messages
+     * @implNote the {@link FeedChannel#level2} channel requires the authentication, use the
+     * {@link FeedChannel#level2_batch} channel instead
+     */
+    public CoinbaseFeed(FeedListener listener) {
+        this(FEED_ENDPOINT, null, listener);
+    }
+
+    /**
+     * Method to connect the feed <br>
+     * No-any params required
+     *
+     * @return future completed when the feed has been connected the first time, or completed exceptionally when the
+     * feed has been closed before, as {@link CompletableFuture} of {@link CoinbaseFeed}
+     * @implNote when the connection fails the feed retries as its {@link #reconnectPolicy} defines
+     */
+    public synchronized CompletableFuture<CoinbaseFeed> connect() {
+        if (closed)
+            return CompletableFuture.failedFuture(new IllegalStateException("The feed has been closed"));
+        if (firstConnection == null) {
+            firstConnection = new CompletableFuture<>();
+            open();
+            long period = Math.max(staleTimeout / 4, 100);
+            staleCheck = SCHEDULER.scheduleAtFixedRate(this::checkStale, period, period, TimeUnit.MILLISECONDS);
+        }
+        return firstConnection;
+    }
+
+    /**
+     * Method to open a new connection <br>
+     * No-any params required
+     */
+    private synchronized void open() {
+        if (closed)
+            return;
+        connecting = true;
+        httpClient.newWebSocketBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .buildAsync(URI.create(url), new FeedSocketListener())
+                .whenComplete((socket, error) -> {
+                    if (error != null)
+                        reconnect(null, error);
+                    else
+                        onOpened(socket);
+                });
+    }
+
+    /**
+     * Method invoked when a connection has been opened
+     *
+     * @param socket: connection opened
+     */
+    private void onOpened(WebSocket socket) {
+        CompletableFuture<CoinbaseFeed> firstConnection;
+        synchronized (this) {
+            if (closed) {
+                socket.abort();
+                return;
+            }
+            webSocket = socket;
+            connecting = false;
+            lastMessageAt = System.nanoTime();
+            pendingSend = CompletableFuture.completedFuture(null);
+            firstConnection = this.firstConnection;
+        }
+        listener.onConnected();
+        synchronized (this) {
+            subscriptions.forEach((channel, productIds) -> {
+                if (!productIds.isEmpty())
+                    send(socket, createSubscription("subscribe", channel, productIds));
+            });
+        }
+        firstConnection.complete(this);
+    }
+
+    /**
+     * Method to handle a lost connection and schedule the reconnection
+     *
+     * @param socket: connection lost, {@code null} if the connection has not been opened
+     * @param error:  error which has closed the connection, {@code null} if has been closed by the feed
+     */
+    private void reconnect(WebSocket socket, Throwable error) {
+        long backoff;
+        synchronized (this) {
+            if (socket != null) {
+                if (socket != webSocket)
+                    return;
+                webSocket = null;
+                socket.abort();
+            }
+            backoff = closed ? -1 : reconnectPolicy.getBackoff(attempt++);
+            connecting = backoff >= 0;
+            if (connecting)
+                reconnections++;
+        }
+        listener.onDisconnected(backoff >= 0, error);
+        if (backoff >= 0)
+            SCHEDULER.schedule(this::open, backoff, TimeUnit.MILLISECONDS);
+        else if (!closed) {
+            synchronized (this) {
+                firstConnection.completeExceptionally(error != null ? error
+                        : new IOException("The feed has been disconnected"));
+            }
+        }
+    }
+
+    /**
+     * Method to close the current connection when no message has been received for the {@link #staleTimeout} <br>
+     * No-any params required
+     */
+    private void checkStale() {
+        WebSocket socket;
+        synchronized (this) {
+            socket = webSocket;
+        }
+        long staleTimeout = this.staleTimeout;
+        if (socket == null || staleTimeout <= 0 || !hasSubscriptions())
+            return;
+        if (System.nanoTime() - lastMessageAt > TimeUnit.MILLISECONDS.toNanos(staleTimeout))
+            reconnect(socket, new IOException("No message received for " + staleTimeout + " ms"));
+    }
+
+    /**
+     * Method to subscribe a channel for some products
+     *
+     * @param channel:    channel to subscribe
+     * @param productIds: identifiers of the products to subscribe
+     */
+    public void subscribe(FeedChannel channel, String... productIds) {
+        subscribe(channel, Arrays.asList(productIds));
+    }
+
+    /**
+     * Method to subscribe a channel for some products
+     *
+     * @param channel:    channel to subscribe
+     * @param productIds: identifiers of the products to subscribe
+     */
+    public synchronized void subscribe(FeedChannel channel, Collection<String> productIds) {
+        if (productIds.isEmpty())
+            throw new IllegalArgumentException("The products to subscribe cannot be empty");
+        subscriptions.computeIfAbsent(channel, k -> new LinkedHashSet<>()).addAll(productIds);
+        if (webSocket != null)
+            send(webSocket, createSubscription("subscribe", channel, productIds));
+    }
+
+    /**
+     * Method to unsubscribe a channel for some products
+     *
+     * @param channel:    channel to unsubscribe
+     * @param productIds: identifiers of the products to unsubscribe
+     */
+    public void unsubscribe(FeedChannel channel, String... productIds) {
+        unsubscribe(channel, Arrays.asList(productIds));
+    }
+
+    /**
+     * Method to unsubscribe a channel for some products
+     *
+     * @param channel:    channel to unsubscribe
+     * @param productIds: identifiers of the products to unsubscribe
+     */
+    public synchronized void unsubscribe(FeedChannel channel, Collection<String> productIds) {
+        Set<String> subscribed = subscriptions.get(channel);
+        if (subscribed == null || !subscribed.removeAll(productIds))
+            return;
+        if (webSocket != null)
+            send(webSocket, createSubscription("unsubscribe", channel, productIds));
+    }
+
+    /**
+     * Method to get whether at least a product has been subscribed <br>
+     * No-any params required
+     *
+     * @return whether at least a product has been subscribed as boolean
+     */
+    private synchronized boolean hasSubscriptions() {
+        for (Set<String> productIds : subscriptions.values())
+            if (!productIds.isEmpty())
+                return true;
+        return false;
+    }
+
+    /**
+     * Method to create a subscription message
+     *
+     * @param type:       type of the message, {@code "subscribe"} or {@code "unsubscribe"}
+     * @param channel:    channel of the subscription
+     * @param productIds: identifiers of the products of the subscription
+     * @return subscription message as {@link String}
+     */
+    private String createSubscription(String type, FeedChannel channel, Collection<String> productIds) {
+        JSONObject subscription = new JSONObject()
+                .put("type", type)
+                .put("channels", new JSONArray().put(new JSONObject()
+                        .put("name", channel.name())
+                        .put("product_ids", new JSONArray(productIds))));
+        if (credentials != null) {
+            String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+            subscription.put("key", credentials.getApiKey())
+                    .put("passphrase", credentials.getPassphrase())
+                    .put("timestamp", timestamp)
+                    .put("signature", credentials.getSigner().sign(timestamp, "GET", VERIFY_ENDPOINT, null));
+        }
+        return subscription.toString();
+    }
+
+    /**
+     * Method to send a message after the previous ones
+     *
+     * @param socket:  connection where send the message
+     * @param message: message to send
+     */
+    private synchronized void send(WebSocket socket, String message) {
+        pendingSend = pendingSend
+                .handle((result, error) -> null)
+                .thenCompose(ignored -> socket.sendText(message, true));
+    }
+
+    /**
+     * Method to close the feed, it is not reconnected anymore <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        WebSocket socket;
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            socket = webSocket;
+            webSocket = null;
+            connecting = false;
+            if (staleCheck != null)
+                staleCheck.cancel(false);
+            if (firstConnection != null)
+                firstConnection.completeExceptionally(new IllegalStateException("The feed has been closed"));
+        }
+        if (socket != null) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "")
+                    .orTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                    .whenComplete((result, error) -> socket.abort());
+            listener.onDisconnected(false, null);
+        }
+    }
+
+    /**
+     * Method to set {@link #reconnectPolicy} instance
+     *
+     * @param reconnectPolicy: policy of the waits between the reconnections, its max retries is the max number of
+     *                         consecutive failed connections
+     * @throws IllegalArgumentException when the policy is null
+     */
+    public void setReconnectPolicy(RetryPolicy reconnectPolicy) {
+        if (reconnectPolicy == null)
+            throw new IllegalArgumentException("The reconnect policy cannot be null");
+        this.reconnectPolicy = reconnectPolicy;
+    }
+
+    /**
+     * Method to get {@link #reconnectPolicy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #reconnectPolicy} instance as {@link RetryPolicy}
+     */
+    public RetryPolicy getReconnectPolicy() {
+        return reconnectPolicy;
+    }
+
+    /**
+     * Method to set {@link #staleTimeout} instance
+     *
+     * @param staleTimeout: time in millis without messages after that the connection is considered lost, 0 to never
+     *                      check it
+     * @throws IllegalArgumentException when the timeout is negative
+     * @implNote the connection is checked with a period of a quarter of the timeout set before {@link #connect()}
+     */
+    public void setStaleTimeout(long staleTimeout) {
+        if (staleTimeout < 0)
+            throw new IllegalArgumentException("The stale timeout cannot be negative");
+        this.staleTimeout = staleTimeout;
+    }
+
+    /**
+     * Method to get {@link #staleTimeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #staleTimeout} instance as long
+     */
+    public long getStaleTimeout() {
+        return staleTimeout;
+    }
+
+    /**
+     * Method to set {@link #connectTimeout} instance
+     *
+     * @param connectTimeout: timeout in millis to open the connection
+     * @throws IllegalArgumentException when the timeout is not positive
+     */
+    public void setConnectTimeout(long connectTimeout) {
+        if (connectTimeout <= 0)
+            throw new IllegalArgumentException("The connect timeout must be positive");
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Method to get {@link #connectTimeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #connectTimeout} instance as long
+     */
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Method to get whether the feed is connected <br>
+     * No-any params required
+     *
+     * @return whether the feed is connected as boolean
+     */
+    public synchronized boolean isConnected() {
+        return webSocket != null;
+    }
+
+    /**
+     * Method to get whether the feed is connecting or waiting to reconnect <br>
+     * No-any params required
+     *
+     * @return whether the feed is connecting or waiting to reconnect as boolean
+     */
+    public synchronized boolean isConnecting() {
+        return connecting;
+    }
+
+    /**
+     * Method to get {@link #closed} instance <br>
+     * No-any params required
+     *
+     * @return {@link #closed} instance as boolean
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Method to get the products subscribed of a channel
+     *
+     * @param channel: channel of the subscriptions
+     * @return identifiers of the products subscribed as {@link Set} of {@link String}
+     */
+    public synchronized Set<String> getSubscriptions(FeedChannel channel) {
+        Set<String> productIds = subscriptions.get(channel);
+        if (productIds == null)
+            return Set.of();
+        return Set.copyOf(productIds);
+    }
+
+    /**
+     * Method to get {@link #receivedMessages} instance <br>
+     * No-any params required
+     *
+     * @return {@link #receivedMessages} instance as long
+     */
+    public long getReceivedMessages() {
+        return receivedMessages.sum();
+    }
+
+    /**
+     * Method to get {@link #reconnections} instance <br>
+     * No-any params required
+     *
+     * @return {@link #reconnections} instance as long
+     */
+    public synchronized long getReconnections() {
+        return reconnections;
+    }
+
+    /**
+     * Method to get {@link #url} instance <br>
+     * No-any params required
+     *
+     * @return {@link #url} instance as {@link String}
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * The {@code FeedSocketListener} class is useful to receive the messages of a connection of the feed
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private final class FeedSocketListener implements WebSocket.Listener {
+
+        /**
+         * {@code message} is instance that memorizes the parts of the message being received
+         */
+        private final StringBuilder message = new StringBuilder();
+
+        /**
+         * Method invoked when a part of a text message has been received
+         *
+         * @param socket: connection of the message
+         * @param data:   part of the message
+         * @param last:   whether is the last part of the message
+         * @return {@code null} as the message is processed synchronously
+         */
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            String text;
+            if (message.length() == 0 && last)
+                text = data.toString();
+            else {
+                message.append(data);
+                text = last ? message.toString() : null;
+                if (last)
+                    message.setLength(0);
+            }
+            if (text != null) {
+                lastMessageAt = System.nanoTime();
+                receivedMessages.increment();
+                synchronized (CoinbaseFeed.this) {
+                    attempt = 0;
+                }
+                try {
+                    FeedMessageParser.dispatch(text, listener);
+                } catch (RuntimeException e) {
+                    listener.onError("Malformed message", e.getMessage());
+                }
+            }
+            socket.request(1);
+            return null;
+        }
+
+        /**
+         * Method invoked when the connection has been closed by the feed
+         *
+         * @param socket:     connection closed
+         * @param statusCode: status code of the closure
+         * @param reason:     reason of the closure
+         * @return {@code null} as no close message is sent back
+         */
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            reconnect(socket, null);
+            return null;
+        }
+
+        /**
+         * Method invoked when the connection has been failed
+         *
+         * @param socket: connection failed
+         * @param error:  error which failed the connection
+         */
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            reconnect(socket, error);
+        }
+
+    }
+
+}
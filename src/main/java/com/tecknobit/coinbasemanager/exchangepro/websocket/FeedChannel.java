@@ -0,0 +1,43 @@
+package com.tecknobit.coinbasemanager.exchangepro.websocket;
+
+/**
+ * {@code FeedChannel} list of the channels of the {@code "Coinbase"} feed available
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/websocket-channels">
+ * Websocket channels</a>
+ */
+public enum FeedChannel {
+
+    /**
+     * {@code "ticker"} channel, real-time price updates every time a match happens
+     */
+    ticker,
+
+    /**
+     * {@code "level2"} channel, snapshot of the book and its updates, requires the authentication
+     */
+    level2,
+
+    /**
+     * {@code "level2_batch"} channel, as {@link #level2} but with the updates batched every 50 milliseconds and without
+     * authentication
+     */
+    level2_batch,
+
+    /**
+     * {@code "matches"} channel, trades of the products
+     */
+    matches,
+
+    /**
+     * {@code "full"} channel, each change of the single orders of the book: received, open, done, match and change
+     */
+    full,
+
+    /**
+     * {@code "heartbeat"} channel, heartbeat every second with the last sequence and trade of the products
+     */
+    heartbeat
+
+}
@@ -0,0 +1,117 @@
+package com.tecknobit.coinbasemanager.exchangepro.websocket;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Ticker;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Trade;
+import org.json.JSONObject;
+
+/**
+ * The {@code FeedListener} interface is useful to receive the messages of a {@link CoinbaseFeed} already parsed
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the callbacks of a feed are invoked one at a time on the thread which reads its messages, in the same order
+ * the messages have been received, so they must be fast: a slow listener delays all the next messages
+ * @see CoinbaseFeed
+ */
+public interface FeedListener {
+
+    /**
+     * Method invoked when the feed has been connected, also after a reconnection, before the subscriptions <br>
+     * No-any params required
+     */
+    default void onConnected() {
+    }
+
+    /**
+     * Method invoked when the feed has been disconnected
+     *
+     * @param reconnecting: whether the feed will reconnect
+     * @param error:        error which disconnected the feed, {@code null} if has been closed
+     */
+    default void onDisconnected(boolean reconnecting, Throwable error) {
+    }
+
+    /**
+     * Method invoked when the feed confirms the current subscriptions
+     *
+     * @param subscriptions: subscriptions message as {@link JSONObject}
+     */
+    default void onSubscriptions(JSONObject subscriptions) {
+    }
+
+    /**
+     * Method invoked for each message of the {@link FeedChannel#ticker} channel
+     *
+     * @param ticker:   ticker received
+     * @param sequence: sequence of the message
+     * @implNote the price change percent is computed from the open price of the last 24 hours
+     */
+    default void onTicker(Ticker ticker, long sequence) {
+    }
+
+    /**
+     * Method invoked for each message of the {@link FeedChannel#matches} channel
+     *
+     * @param productId: product identifier value
+     * @param trade:     trade received
+     * @param sequence:  sequence of the message
+     */
+    default void onMatch(String productId, Trade trade, long sequence) {
+    }
+
+    /**
+     * Method invoked for the snapshot of the book sent when subscribing to the {@link FeedChannel#level2} channels
+     *
+     * @param book: snapshot of the book, its asks and bids are flattened as price, size of each level
+     */
+    default void onSnapshot(Book book) {
+    }
+
+    /**
+     * Method invoked for each update of the {@link FeedChannel#level2} channels
+     *
+     * @param update: update received
+     * @implNote the same instance is never reused, so it can be memorized
+     */
+    default void onL2Update(L2Update update) {
+    }
+
+    /**
+     * Method invoked for each message of the {@link FeedChannel#full} channel
+     *
+     * @param update: update received
+     * @implNote it is invoked also for the messages of the {@link FeedChannel#matches} channel, after
+     * {@link #onMatch(String, Trade, long)}, with the maker order as the order changed
+     */
+    default void onL3Update(L3Update update) {
+    }
+
+    /**
+     * Method invoked for each message of the {@link FeedChannel#heartbeat} channel
+     *
+     * @param productId:   product identifier value
+     * @param sequence:    last sequence of the product
+     * @param lastTradeId: identifier of the last trade of the product
+     * @param time:        time of the heartbeat
+     */
+    default void onHeartbeat(String productId, long sequence, long lastTradeId, String time) {
+    }
+
+    /**
+     * Method invoked when the feed sends an error, es. for an invalid subscription
+     *
+     * @param message: message of the error
+     * @param reason:  reason of the error, can be {@code null}
+     */
+    default void onError(String message, String reason) {
+    }
+
+    /**
+     * Method invoked for the messages of the other types
+     *
+     * @param message: message received
+     */
+    default void onMessage(JSONObject message) {
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.tecknobit.coinbasemanager.exchangepro.websocket;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Ticker;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Trade;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+
+/**
+ * The {@code FeedMessageParser} class is useful to parse the messages of the {@code "Coinbase"} feed in the models of
+ * the library and to dispatch them to a {@link FeedListener}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/websocket-channels">
+ * Websocket channels</a>
+ * @see CoinbaseFeed
+ */
+public final class FeedMessageParser {
+
+    /**
+     * Constructor to init a {@link FeedMessageParser} <br>
+     * No-any params required
+     */
+    private FeedMessageParser() {
+    }
+
+    /**
+     * Method to parse a message and dispatch it to a listener
+     *
+     * @param message:  message received
+     * @param listener: listener of the messages
+     * @return type of the message as {@link String}
+     */
+    public static String dispatch(String message, FeedListener listener) {
+        JSONObject jMessage = new JSONObject(message);
+        String type = jMessage.optString("type");
+        switch (type) {
+            case "ticker":
+                listener.onTicker(parseTicker(jMessage), jMessage.optLong("sequence", -1));
+                break;
+            case "match":
+                listener.onMatch(jMessage.getString("product_id"), parseTrade(jMessage),
+                        jMessage.optLong("sequence", -1));
+                if (jMessage.has("maker_order_id"))
+                    listener.onL3Update(new L3Update(jMessage));
+                break;
+            case "last_match":
+                listener.onMatch(jMessage.getString("product_id"), parseTrade(jMessage),
+                        jMessage.optLong("sequence", -1));
+                break;
+            case "received":
+            case "open":
+            case "done":
+            case "change":
+            case "activate":
+                listener.onL3Update(new L3Update(jMessage));
+                break;
+            case "snapshot":
+                listener.onSnapshot(parseSnapshot(jMessage));
+                break;
+            case "l2update":
+                listener.onL2Update(new L2Update(jMessage));
+                break;
+            case "heartbeat":
+                listener.onHeartbeat(jMessage.getString("product_id"), jMessage.getLong("sequence"),
+                        jMessage.optLong("last_trade_id", -1), jMessage.optString("time", null));
+                break;
+            case "subscriptions":
+                listener.onSubscriptions(jMessage);
+                break;
+            case "error":
+                listener.onError(jMessage.optString("message", null), jMessage.optString("reason", null));
+                break;
+            default:
+                listener.onMessage(jMessage);
+        }
+        return type;
+    }
+
+    /**
+     * Method to parse a message of the {@link FeedChannel#ticker} channel
+     *
+     * @param ticker: message to parse
+     * @return ticker as {@link Ticker}
+     */
+    public static Ticker parseTicker(JSONObject ticker) {
+        String productId = ticker.getString("product_id");
+        int separator = productId.indexOf('-');
+        String baseAsset = separator > 0 ? productId.substring(0, separator) : productId;
+        String quoteAsset = separator > 0 ? productId.substring(separator + 1) : null;
+        double price = ticker.getDouble("price");
+        double open = ticker.optDouble("open_24h", 0);
+        double priceChangePercent = 0;
+        if (open > 0)
+            priceChangePercent = (price - open) / open * 100;
+        return new Ticker(ticker.optLong("trade_id", -1), price, ticker.optDouble("last_size", 0),
+                ticker.optString("time", null), productId, baseAsset, quoteAsset, ticker.optDouble("best_bid", 0),
+                ticker.optDouble("best_ask", 0), ticker.optDouble("volume_24h", 0), priceChangePercent);
+    }
+
+    /**
+     * Method to parse a message of the {@link FeedChannel#matches} channel
+     *
+     * @param match: message to parse
+     * @return trade as {@link Trade}
+     */
+    public static Trade parseTrade(JSONObject match) {
+        return new Trade(match.getLong("trade_id"), match.getDouble("price"), match.getDouble("size"),
+                match.optString("time", null), match.getString("side"));
+    }
+
+    /**
+     * Method to parse the snapshot of a book of the {@link FeedChannel#level2} channels
+     *
+     * @param snapshot: message to parse
+     * @return book as {@link Book}, its asks and bids are flattened as price, size of each level
+     */
+    public static Book parseSnapshot(JSONObject snapshot) {
+        return new Book(snapshot.getString("product_id"), snapshot.optLong("sequence", -1), false, null,
+                assembleLevels(snapshot.getJSONArray("asks")), assembleLevels(snapshot.getJSONArray("bids")));
+    }
+
+    /**
+     * Method to flatten the levels of a side of a book
+     *
+     * @param levels: levels to flatten
+     * @return levels flattened as {@link ArrayList} of {@link Double}
+     */
+    private static ArrayList<Double> assembleLevels(JSONArray levels) {
+        ArrayList<Double> values = new ArrayList<>(levels.length() * 2);
+        for (int j = 0; j < levels.length(); j++) {
+            JSONArray level = levels.getJSONArray(j);
+            values.add(level.getDouble(0));
+            values.add(level.getDouble(1));
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.tecknobit.coinbasemanager.exchangepro.websocket;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * The {@code L2Update} class is useful to format an update of the levels of a book received from the
+ * {@link FeedChannel#level2} channel
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the changes are memorized in primitive arrays, a size of zero means that the level has been removed
+ * from the book
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/websocket-channels#level2-channel">
+ * Level2 channel</a>
+ */
+public class L2Update {
+
+    /**
+     * {@code productId} is instance that memorizes product identifier value
+     */
+    private final String productId;
+
+    /**
+     * {@code time} is instance that memorizes time of the update
+     */
+    private final String time;
+
+    /**
+     * {@code sequence} is instance that memorizes sequence of the update, -1 if the feed has not sent it
+     */
+    private final long sequence;
+
+    /**
+     * {@code bids} is instance that memorizes whether each change is on the bids side
+     */
+    private final boolean[] bids;
+
+    /**
+     * {@code prices} is instance that memorizes the price of each change
+     */
+    private final double[] prices;
+
+    /**
+     * {@code sizes} is instance that memorizes the new size of each change
+     */
+    private final double[] sizes;
+
+    /**
+     * Constructor to init a {@link L2Update} custom object
+     *
+     * @param productId: product identifier value
+     * @param time:      time of the update
+     * @param sequence:  sequence of the update, -1 if the feed has not sent it
+     * @param bids:      whether each change is on the bids side
+     * @param prices:    price of each change
+     * @param sizes:     new size of each change
+     */
+    public L2Update(String productId, String time, long sequence, boolean[] bids, double[] prices, double[] sizes) {
+        if (bids.length != prices.length || prices.length != sizes.length)
+            throw new IllegalArgumentException("The changes must have the same length");
+        this.productId = productId;
+        this.time = time;
+        this.sequence = sequence;
+        this.bids = bids;
+        this.prices = prices;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Constructor to init a {@link L2Update} custom object
+     *
+     * @param update: update details as {@link JSONObject}
+     */
+    public L2Update(JSONObject update) {
+        productId = update.getString("product_id");
+        time = update.optString("time", null);
+        sequence = update.optLong("sequence", -1);
+        JSONArray changes = update.getJSONArray("changes");
+        int length = changes.length();
+        bids = new boolean[length];
+        prices = new double[length];
+        sizes = new double[length];
+        for (int j = 0; j < length; j++) {
+            JSONArray change = changes.getJSONArray(j);
+            bids[j] = change.getString(0).equals("buy");
+            prices[j] = change.getDouble(1);
+            sizes[j] = change.getDouble(2);
+        }
+    }
+
+    /**
+     * Method to get {@link #productId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #productId} instance as {@link String}
+     */
+    public String getProductId() {
+        return productId;
+    }
+
+    /**
+     * Method to get {@link #time} instance <br>
+     * No-any params required
+     *
+     * @return {@link #time} instance as {@link String}
+     */
+    public String getTime() {
+        return time;
+    }
+
+    /**
+     * Method to get {@link #sequence} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sequence} instance as long
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Method to get the number of the changes <br>
+     * No-any params required
+     *
+     * @return number of the changes as int
+     */
+    public int size() {
+        return prices.length;
+    }
+
+    /**
+     * Method to get whether a change is on the bids side
+     *
+     * @param index: index of the change
+     * @return whether the change is on the bids side as boolean
+     */
+    public boolean isBid(int index) {
+        return bids[index];
+    }
+
+    /**
+     * Method to get the price of a change
+     *
+     * @param index: index of the change
+     * @return price of the change as double
+     */
+    public double getPrice(int index) {
+        return prices[index];
+    }
+
+    /**
+     * Method to get the new size of a change
+     *
+     * @param index: index of the change
+     * @return new size of the change as double, zero if the level has been removed
+     */
+    public double getSize(int index) {
+        return sizes[index];
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        JSONArray changes = new JSONArray();
+        for (int j = 0; j < prices.length; j++)
+            changes.put(new JSONArray().put(bids[j] ? "buy" : "sell").put(prices[j]).put(sizes[j]));
+        return new JSONObject().put("product_id", productId).put("time", time).put("sequence", sequence)
+                .put("changes", changes).toString();
+    }
+
+}
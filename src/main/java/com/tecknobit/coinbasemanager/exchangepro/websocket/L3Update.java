@@ -0,0 +1,261 @@
+package com.tecknobit.coinbasemanager.exchangepro.websocket;
+
+import org.json.JSONObject;
+
+/**
+ * The {@code L3Update} class is useful to format a change of a single order of a book received from the
+ * {@link FeedChannel#full} channel
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/docs/websocket-channels#full-channel">
+ * Full channel</a>
+ */
+public class L3Update {
+
+    /**
+     * {@code type} is instance that memorizes type of the update
+     */
+    private final L3UpdateType type;
+
+    /**
+     * {@code productId} is instance that memorizes product identifier value
+     */
+    private final String productId;
+
+    /**
+     * {@code time} is instance that memorizes time of the update
+     */
+    private final String time;
+
+    /**
+     * {@code sequence} is instance that memorizes sequence of the update, -1 if the feed has not sent it
+     */
+    private final long sequence;
+
+    /**
+     * {@code orderId} is instance that memorizes identifier of the order changed, the maker order for the
+     * {@link L3UpdateType#match} updates
+     */
+    private final String orderId;
+
+    /**
+     * {@code bid} is flag that checks if the order is on the bids side
+     */
+    private final boolean bid;
+
+    /**
+     * {@code price} is instance that memorizes price of the order, {@link Double#NaN} for the market orders
+     */
+    private final double price;
+
+    /**
+     * {@code size} is instance that memorizes size of the update: the remaining size for the {@link L3UpdateType#open}
+     * and {@link L3UpdateType#done} updates, the new size for the {@link L3UpdateType#change} ones and the size
+     * matched for the {@link L3UpdateType#match} ones, {@link Double#NaN} if not sent
+     */
+    private final double size;
+
+    /**
+     * {@code reason} is instance that memorizes reason of the {@link L3UpdateType#done} updates es. filled or canceled,
+     * {@code null} for the other types
+     */
+    private final String reason;
+
+    /**
+     * Constructor to init a {@link L3Update} custom object
+     *
+     * @param type:      type of the update
+     * @param productId: product identifier value
+     * @param time:      time of the update
+     * @param sequence:  sequence of the update, -1 if the feed has not sent it
+     * @param orderId:   identifier of the order changed, the maker order for the {@link L3UpdateType#match} updates
+     * @param bid:       whether the order is on the bids side
+     * @param price:     price of the order, {@link Double#NaN} for the market orders
+     * @param size:      size of the update
+     * @param reason:    reason of the {@link L3UpdateType#done} updates
+     */
+    public L3Update(L3UpdateType type, String productId, String time, long sequence, String orderId, boolean bid,
+                    double price, double size, String reason) {
+        this.type = type;
+        this.productId = productId;
+        this.time = time;
+        this.sequence = sequence;
+        this.orderId = orderId;
+        this.bid = bid;
+        this.price = price;
+        this.size = size;
+        this.reason = reason;
+    }
+
+    /**
+     * Constructor to init a {@link L3Update} custom object
+     *
+     * @param update: update details as {@link JSONObject}
+     */
+    public L3Update(JSONObject update) {
+        type = L3UpdateType.valueOf(update.getString("type"));
+        productId = update.getString("product_id");
+        time = update.optString("time", null);
+        sequence = update.optLong("sequence", -1);
+        bid = update.getString("side").equals("buy");
+        price = update.optDouble("price", Double.NaN);
+        reason = update.optString("reason", null);
+        switch (type) {
+            case match:
+                orderId = update.getString("maker_order_id");
+                size = update.getDouble("size");
+                break;
+            case change:
+                orderId = update.getString("order_id");
+                size = update.optDouble("new_size", Double.NaN);
+                break;
+            case open:
+            case done:
+                orderId = update.getString("order_id");
+                size = update.optDouble("remaining_size", Double.NaN);
+                break;
+            default:
+                orderId = update.getString("order_id");
+                size = update.optDouble("size", Double.NaN);
+        }
+    }
+
+    /**
+     * Method to get {@link #type} instance <br>
+     * No-any params required
+     *
+     * @return {@link #type} instance as {@link L3UpdateType}
+     */
+    public L3UpdateType getType() {
+        return type;
+    }
+
+    /**
+     * Method to get {@link #productId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #productId} instance as {@link String}
+     */
+    public String getProductId() {
+        return productId;
+    }
+
+    /**
+     * Method to get {@link #time} instance <br>
+     * No-any params required
+     *
+     * @return {@link #time} instance as {@link String}
+     */
+    public String getTime() {
+        return time;
+    }
+
+    /**
+     * Method to get {@link #sequence} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sequence} instance as long
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Method to get {@link #orderId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #orderId} instance as {@link String}
+     */
+    public String getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * Method to get {@link #bid} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bid} instance as boolean
+     */
+    public boolean isBid() {
+        return bid;
+    }
+
+    /**
+     * Method to get {@link #price} instance <br>
+     * No-any params required
+     *
+     * @return {@link #price} instance as double
+     */
+    public double getPrice() {
+        return price;
+    }
+
+    /**
+     * Method to get {@link #size} instance <br>
+     * No-any params required
+     *
+     * @return {@link #size} instance as double
+     */
+    public double getSize() {
+        return size;
+    }
+
+    /**
+     * Method to get {@link #reason} instance <br>
+     * No-any params required
+     *
+     * @return {@link #reason} instance as {@link String}
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+    /**
+     * {@code L3UpdateType} list of types of the updates of the {@link FeedChannel#full} channel
+     */
+    public enum L3UpdateType {
+
+        /**
+         * {@code "received"} type, the order has been accepted by the matching engine but is not in the book yet
+         */
+        received,
+
+        /**
+         * {@code "open"} type, the remaining size of the order is now resting in the book
+         */
+        open,
+
+        /**
+         * {@code "done"} type, the order is no longer in the book
+         */
+        done,
+
+        /**
+         * {@code "match"} type, a trade between a taker order and a maker order resting in the book
+         */
+        match,
+
+        /**
+         * {@code "change"} type, the size of an order has been changed
+         */
+        change,
+
+        /**
+         * {@code "activate"} type, a stop order has been activated
+         */
+        activate
+
+    }
+
+}
@@ -11,6 +11,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
@@ -159,19 +160,7 @@ public class CoinbaseWrappedManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets")
     public <T> T getAllWrappedAssets(ReturnFormat format) throws Exception {
-        String wrappedAssetsResponse = sendGETRequest(WRAPPED_ASSETS_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(wrappedAssetsResponse).getJSONArray("wrapped_assets");
-            case LIBRARY_OBJECT:
-                JSONArray assetsList = new JSONObject(wrappedAssetsResponse).getJSONArray("wrapped_assets");
-                ArrayList<WrappedAsset> wrappedAssets = new ArrayList<>();
-                for (int j = 0; j < assetsList.length(); j++)
-                    wrappedAssets.add(new WrappedAsset(assetsList.getJSONObject(j)));
-                return (T) wrappedAssets;
-            default:
-                return (T) wrappedAssetsResponse;
-        }
+        return returnWrappedAssetsList(sendGETRequest(WRAPPED_ASSETS_ENDPOINT), format);
     }
 
     /**
@@ -317,19 +306,7 @@ public class CoinbaseWrappedManager extends CoinbaseManager {
     public <T> T getAllStakeWraps(Params queryParams, ReturnFormat format) throws Exception {
         if (queryParams == null)
             queryParams = new Params();
-        String wrapsResponse = sendGETRequest(STAKE_WRAP_ENDPOINT + queryParams.createQueryString());
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(wrapsResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<StakeWrap> stakeWraps = new ArrayList<>();
-                JSONArray jStakeWraps = new JSONArray(wrapsResponse);
-                for (int j = 0; j < jStakeWraps.length(); j++)
-                    stakeWraps.add(new StakeWrap(jStakeWraps.getJSONObject(j)));
-                return (T) stakeWraps;
-            default:
-                return (T) wrapsResponse;
-        }
+        return returnStakeWrapsList(sendGETRequest(STAKE_WRAP_ENDPOINT + queryParams.createQueryString()), format);
     }
 
     /**
@@ -456,14 +433,16 @@ public class CoinbaseWrappedManager extends CoinbaseManager {
      */
     @Returner
     private <T> T returnStakeWrap(String stakeWrapResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(stakeWrapResponse);
-            case LIBRARY_OBJECT:
-                return (T) new StakeWrap(new JSONObject(stakeWrapResponse));
-            default:
-                return (T) stakeWrapResponse;
-        }
+        return returnFormatted("CoinbaseWrappedManager.returnStakeWrap", stakeWrapResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(stakeWrapResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new StakeWrap(new JSONObject(stakeWrapResponse));
+                default:
+                    return (T) stakeWrapResponse;
+            }
+        });
     }
 
     /**
@@ -516,15 +495,7 @@ public class CoinbaseWrappedManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/{wrapped_asset_id}/")
     public <T> T getWrappedAssetDetails(String wrappedAssetId, ReturnFormat format) throws Exception {
-        String wrappedAssetResponse = sendGETRequest(WRAPPED_ASSETS_ENDPOINT + "/" + wrappedAssetId);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(wrappedAssetResponse);
-            case LIBRARY_OBJECT:
-                return (T) new WrappedAsset(new JSONObject(wrappedAssetResponse));
-            default:
-                return (T) wrappedAssetResponse;
-        }
+        return returnWrappedAsset(sendGETRequest(WRAPPED_ASSETS_ENDPOINT + "/" + wrappedAssetId), format);
     }
 
     /**
@@ -605,16 +576,390 @@ public class CoinbaseWrappedManager extends CoinbaseManager {
     @Returner
     @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/{wrapped_asset_id}/conversion-rate")
     public <T> T getWrappedConversionRate(String wrappedAssetId, ReturnFormat format) throws Exception {
-        String conversionRateResponse = sendGETRequest(WRAPPED_ASSETS_ENDPOINT + "/" + wrappedAssetId + "/"
-                + CONVERSION_RATE_ENDPOINT);
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(conversionRateResponse);
-            case LIBRARY_OBJECT:
-                return (T) new JSONObject(conversionRateResponse).getString("amount");
-            default:
-                return (T) conversionRateResponse;
-        }
+        return returnConversionRate(sendGETRequest(WRAPPED_ASSETS_ENDPOINT + "/" + wrappedAssetId + "/"
+                + CONVERSION_RATE_ENDPOINT), format);
+    }
+
+    /**
+     * Request to get a list of all supported wrapped assets asynchronously <br>
+     * No-any params required
+     *
+     * @return list of all supported wrapped assets as {@link CompletableFuture} of {@link ArrayList} of
+     * {@link WrappedAsset}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedassets">
+     * Get all wrapped assets</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets")
+    public CompletableFuture<ArrayList<WrappedAsset>> getAllWrappedAssetsAsync() {
+        return getAllWrappedAssetsAsync(LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get a list of all supported wrapped assets asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return list of all supported wrapped assets as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedassets">
+     * Get all wrapped assets</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets")
+    public <T> CompletableFuture<T> getAllWrappedAssetsAsync(ReturnFormat format) {
+        return sendGETRequestAsync(WRAPPED_ASSETS_ENDPOINT)
+                .thenApply(wrappedAssetsResponse -> returnWrappedAssetsList(wrappedAssetsResponse, format));
+    }
+
+    /**
+     * Method to assemble a wrapped assets list
+     *
+     * @param wrappedAssetsResponse: wrapped assets list response to format
+     * @param format:                return type formatter -> {@link ReturnFormat}
+     * @return wrapped assets list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnWrappedAssetsList(String wrappedAssetsResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseWrappedManager.returnWrappedAssetsList", wrappedAssetsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(wrappedAssetsResponse).getJSONArray("wrapped_assets");
+                case LIBRARY_OBJECT:
+                    JSONArray assetsList = new JSONObject(wrappedAssetsResponse).getJSONArray("wrapped_assets");
+                    ArrayList<WrappedAsset> wrappedAssets = new ArrayList<>();
+                    for (int j = 0; j < assetsList.length(); j++)
+                        wrappedAssets.add(new WrappedAsset(assetsList.getJSONObject(j)));
+                    return (T) wrappedAssets;
+                default:
+                    return (T) wrappedAssetsResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get a list of all stake wraps asynchronously <br>
+     * No-any params required
+     *
+     * @return list of stake wraps as {@link CompletableFuture} of {@link ArrayList} of {@link StakeWrap},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getallwrappedassetstakewraps">
+     * Get all stake-wraps</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap")
+    public CompletableFuture<ArrayList<StakeWrap>> getAllStakeWrapsAsync() {
+        return getAllStakeWrapsAsync(LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get a list of all stake wraps asynchronously
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return list of stake wraps as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getallwrappedassetstakewraps">
+     * Get all stake-wraps</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap")
+    public <T> CompletableFuture<T> getAllStakeWrapsAsync(ReturnFormat format) {
+        return getAllStakeWrapsAsync(null, format);
+    }
+
+    /**
+     * Request to get a list of all stake wraps asynchronously
+     *
+     * @param queryParams: extra query params, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "from"} -> from currency - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "to"} -> to currency - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "status"} -> status of the stake wrap - [string]
+     *                          </li>
+     *                     </ul>
+     * @return list of stake wraps as {@link CompletableFuture} of {@link ArrayList} of {@link StakeWrap},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getallwrappedassetstakewraps">
+     * Get all stake-wraps</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap")
+    public CompletableFuture<ArrayList<StakeWrap>> getAllStakeWrapsAsync(Params queryParams) {
+        return getAllStakeWrapsAsync(queryParams, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get a list of all stake wraps asynchronously
+     *
+     * @param queryParams: extra query params, keys accepted are:
+     *                     <ul>
+     *                          <li>
+     *                              {@code "before"} -> used for pagination. Sets start cursor to before date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "after"} -> used for pagination. Sets end cursor to after date - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "limit"} -> limit on number of results to return - [integer]
+     *                          </li>
+     *                          <li>
+     *                              {@code "from"} -> from currency - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "to"} -> to currency - [string]
+     *                          </li>
+     *                          <li>
+     *                              {@code "status"} -> status of the stake wrap - [string]
+     *                          </li>
+     *                     </ul>
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return list of stake wraps as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getallwrappedassetstakewraps">
+     * Get all stake-wraps</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap")
+    public <T> CompletableFuture<T> getAllStakeWrapsAsync(Params queryParams, ReturnFormat format) {
+        if (queryParams == null)
+            queryParams = new Params();
+        return sendGETRequestAsync(STAKE_WRAP_ENDPOINT + queryParams.createQueryString())
+                .thenApply(wrapsResponse -> returnStakeWrapsList(wrapsResponse, format));
+    }
+
+    /**
+     * Method to assemble a stake wraps list
+     *
+     * @param wrapsResponse: stake wraps list response to format
+     * @param format:        return type formatter -> {@link ReturnFormat}
+     * @return stake wraps list response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnStakeWrapsList(String wrapsResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseWrappedManager.returnStakeWrapsList", wrapsResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONArray(wrapsResponse);
+                case LIBRARY_OBJECT:
+                    ArrayList<StakeWrap> stakeWraps = new ArrayList<>();
+                    JSONArray jStakeWraps = new JSONArray(wrapsResponse);
+                    for (int j = 0; j < jStakeWraps.length(); j++)
+                        stakeWraps.add(new StakeWrap(jStakeWraps.getJSONObject(j)));
+                    return (T) stakeWraps;
+                default:
+                    return (T) wrapsResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to stake and wrap {@code "from_currency"} to {@code "to_currency"} asynchronously. Funds are
+     * stake-wrapped in the profile associated with the API key
+     *
+     * @param fromCurrency: from currency
+     * @param toCurrency:   to currency
+     * @param amount:       amount of the stake wrap
+     * @return stake wrap as {@link CompletableFuture} of {@link StakeWrap},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwrappedassetstakewrap">
+     * Create a new stake-wrap</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap")
+    public CompletableFuture<StakeWrap> createNewStakeWrapAsync(String fromCurrency, String toCurrency, double amount) {
+        return createNewStakeWrapAsync(fromCurrency, toCurrency, amount, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to stake and wrap {@code "from_currency"} to {@code "to_currency"} asynchronously. Funds are
+     * stake-wrapped in the profile associated with the API key
+     *
+     * @param fromCurrency: from currency
+     * @param toCurrency:   to currency
+     * @param amount:       amount of the stake wrap
+     * @param format:       return type formatter -> {@link ReturnFormat}
+     * @return stake wrap as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_postwrappedassetstakewrap">
+     * Create a new stake-wrap</a>
+     */
+    @RequestPath(method = POST, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap")
+    public <T> CompletableFuture<T> createNewStakeWrapAsync(String fromCurrency, String toCurrency, double amount,
+                                                            ReturnFormat format) {
+        Params payload = new Params();
+        payload.addParam("fromCurrency", fromCurrency);
+        payload.addParam("toCurrency", toCurrency);
+        payload.addParam("amount", amount);
+        return sendPostRequestAsync(STAKE_WRAP_ENDPOINT, payload)
+                .thenApply(stakeWrapResponse -> returnStakeWrap(stakeWrapResponse, format));
+    }
+
+    /**
+     * Request to get details for a specific stake-wrap in the profile associated with the API key asynchronously
+     *
+     * @param stakeWrapId: stake wrap identifier to fetch
+     * @return stake wrap as {@link CompletableFuture} of {@link StakeWrap},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedassetstakewrap">
+     * Get a single stake-wrap</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap/{stake_wrap_id}")
+    public CompletableFuture<StakeWrap> getSingleStakeWrapAsync(String stakeWrapId) {
+        return getSingleStakeWrapAsync(stakeWrapId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get details for a specific stake-wrap in the profile associated with the API key asynchronously
+     *
+     * @param stakeWrapId: stake wrap identifier to fetch
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return stake wrap as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedassetstakewrap">
+     * Get a single stake-wrap</a>
+     */
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/stake-wrap/{stake_wrap_id}")
+    public <T> CompletableFuture<T> getSingleStakeWrapAsync(String stakeWrapId, ReturnFormat format) {
+        return sendGETRequestAsync(STAKE_WRAP_ENDPOINT + "/" + stakeWrapId)
+                .thenApply(stakeWrapResponse -> returnStakeWrap(stakeWrapResponse, format));
+    }
+
+    /**
+     * Request to get wrapped asset details asynchronously
+     *
+     * @param wrappedAssetId: id of the wrapped asset to fetch
+     * @return wrapped asset details as {@link CompletableFuture} of {@link WrappedAsset},
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedasset">
+     * Get wrapped asset details</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/{wrapped_asset_id}/")
+    public CompletableFuture<WrappedAsset> getWrappedAssetDetailsAsync(String wrappedAssetId) {
+        return getWrappedAssetDetailsAsync(wrappedAssetId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get wrapped asset details asynchronously
+     *
+     * @param wrappedAssetId: id of the wrapped asset to fetch
+     * @param format:         return type formatter -> {@link ReturnFormat}
+     * @return wrapped asset details as {@link CompletableFuture} of {@code "format"} defines,
+     * completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedasset">
+     * Get wrapped asset details</a>
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/{wrapped_asset_id}/")
+    public <T> CompletableFuture<T> getWrappedAssetDetailsAsync(String wrappedAssetId, ReturnFormat format) {
+        return sendGETRequestAsync(WRAPPED_ASSETS_ENDPOINT + "/" + wrappedAssetId)
+                .thenApply(wrappedAssetResponse -> returnWrappedAsset(wrappedAssetResponse, format));
+    }
+
+    /**
+     * Method to assemble a wrapped asset object
+     *
+     * @param wrappedAssetResponse: wrapped asset response to format
+     * @param format:               return type formatter -> {@link ReturnFormat}
+     * @return wrapped asset response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnWrappedAsset(String wrappedAssetResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseWrappedManager.returnWrappedAsset", wrappedAssetResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(wrappedAssetResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new WrappedAsset(new JSONObject(wrappedAssetResponse));
+                default:
+                    return (T) wrappedAssetResponse;
+            }
+        });
+    }
+
+    /**
+     * Request to get the conversion rate of a wrapped asset to its corresponding staked asset asynchronously
+     *
+     * @param wrappedAssetId: wrapped asset identifier es. CBETH
+     * @return conversion rate of a wrapped asset to its corresponding staked asset as {@link CompletableFuture} of
+     * {@link Double}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedassetconversionrate">
+     * Get conversion rate of wrapped asset</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/{wrapped_asset_id}/conversion-rate")
+    public CompletableFuture<Double> getWrappedConversionRateAsync(String wrappedAssetId) {
+        return this.<String>getWrappedConversionRateAsync(wrappedAssetId, LIBRARY_OBJECT)
+                .thenApply(Double::parseDouble);
+    }
+
+    /**
+     * Request to get the conversion rate of a wrapped asset to its corresponding staked asset asynchronously
+     *
+     * @param wrappedAssetId: wrapped asset identifier es. CBETH
+     * @param decimals:       number of digits to round final value
+     * @return conversion rate of a wrapped asset to its corresponding staked asset as {@link CompletableFuture} of
+     * {@link Double}, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedassetconversionrate">
+     * Get conversion rate of wrapped asset</a>
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/{wrapped_asset_id}/conversion-rate")
+    public CompletableFuture<Double> getWrappedConversionRateAsync(String wrappedAssetId, int decimals) {
+        return this.<String>getWrappedConversionRateAsync(wrappedAssetId, LIBRARY_OBJECT)
+                .thenApply(value -> roundValue(Double.parseDouble(value), decimals));
+    }
+
+    /**
+     * Request to get the conversion rate of a wrapped asset to its corresponding staked asset asynchronously
+     *
+     * @param wrappedAssetId: wrapped asset identifier es. CBETH
+     * @return conversion rate of a wrapped asset to its corresponding staked asset as {@link CompletableFuture} of
+     * {@code "format"} defines, completed exceptionally when request has been go wrong
+     * @apiNote see the official documentation at: <a href="https://docs.cloud.coinbase.com/exchange/reference/exchangerestapi_getwrappedassetconversionrate">
+     * Get conversion rate of wrapped asset</a>
+     * @implNote in this case {@link ReturnFormat#LIBRARY_OBJECT} will return the {@link String} value of the conversion rate,
+     * with the wrappers methods it will be parsed as double, if you directly access to this method you will need to parse as well
+     */
+    @Returner
+    @RequestPath(method = GET, path = "https://api.exchange.coinbase.com/wrapped-assets/{wrapped_asset_id}/conversion-rate")
+    public <T> CompletableFuture<T> getWrappedConversionRateAsync(String wrappedAssetId, ReturnFormat format) {
+        return sendGETRequestAsync(WRAPPED_ASSETS_ENDPOINT + "/" + wrappedAssetId + "/" + CONVERSION_RATE_ENDPOINT)
+                .thenApply(conversionRateResponse -> returnConversionRate(conversionRateResponse, format));
+    }
+
+    /**
+     * Method to assemble a conversion rate
+     *
+     * @param conversionRateResponse: conversion rate response to format
+     * @param format:                 return type formatter -> {@link ReturnFormat}
+     * @return conversion rate response as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnConversionRate(String conversionRateResponse, ReturnFormat format) {
+        return returnFormatted("CoinbaseWrappedManager.returnConversionRate", conversionRateResponse, format, () -> {
+            switch (format) {
+                case JSON:
+                    return (T) new JSONObject(conversionRateResponse);
+                case LIBRARY_OBJECT:
+                    return (T) new JSONObject(conversionRateResponse).getString("amount");
+                default:
+                    return (T) conversionRateResponse;
+            }
+        });
     }
 
 }
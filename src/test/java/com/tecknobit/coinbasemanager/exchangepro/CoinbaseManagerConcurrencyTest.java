@@ -0,0 +1,276 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import com.tecknobit.coinbasemanager.exchangepro.account.CoinbaseAccountManager;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeCoinbaseExchange;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeResponse;
+import com.tecknobit.coinbasemanager.exchangepro.orders.CoinbaseOrdersManager;
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+import static com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CoinbaseManagerConcurrencyTest} class is useful to test that the requests signed at the same time, by
+ * different managers and threads, never send the signature or the body of another request
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CoinbaseManagerConcurrencyTest {
+
+    /**
+     * {@code API_KEY} is constant for the api key of the managers tested
+     */
+    private static final String API_KEY = "concurrency-key";
+
+    /**
+     * {@code API_SECRET} is constant for the api secret of the managers tested
+     */
+    private static final String API_SECRET = Base64.getEncoder()
+            .encodeToString("concurrency-secret".getBytes(StandardCharsets.UTF_8));
+
+    /**
+     * {@code PASSPHRASE} is constant for the passphrase of the managers tested
+     */
+    private static final String PASSPHRASE = "concurrency-passphrase";
+
+    /**
+     * {@code THREADS} is constant for the number of threads which send the requests at the same time
+     */
+    private static final int THREADS = 24;
+
+    /**
+     * {@code REQUESTS} is constant for the number of requests sent by each thread
+     */
+    private static final int REQUESTS = 100;
+
+    /**
+     * {@code exchange} is instance that memorizes the exchange which verifies the signature of each request
+     */
+    private FakeCoinbaseExchange exchange;
+
+    /**
+     * Method to start the exchange with the routes which echo the requests <br>
+     * No-any params required
+     */
+    @BeforeEach
+    public void startExchange() throws Exception {
+        exchange = new FakeCoinbaseExchange().start();
+        exchange.setCredentials(API_KEY, API_SECRET, PASSPHRASE);
+        exchange.addRoute("POST", "/echo", true, request -> new FakeResponse(200, request.getBody()));
+        exchange.addRoute("GET", "/echo/{id}", true, request -> FakeResponse.ok(new JSONObject()
+                .put("id", request.getPathParam("id"))
+                .put("thread", request.getQueryParam("thread"))));
+    }
+
+    /**
+     * Method to stop the exchange <br>
+     * No-any params required
+     */
+    @AfterEach
+    public void stopExchange() {
+        exchange.close();
+    }
+
+    /**
+     * Method to test that the requests signed at the same time by managers with different credentials keep each one
+     * its own headers, signature and body <br>
+     * No-any params required
+     */
+    @Test
+    public void signedRequestsNeverShareHeaders() throws Exception {
+        List<CoinbaseManager> managers = List.of(
+                new CoinbaseOrdersManager(API_KEY + "-0", secret(0), PASSPHRASE),
+                new CoinbaseProductsManager(API_KEY + "-1", secret(1), PASSPHRASE),
+                new CoinbaseAccountManager(API_KEY + "-2", secret(2), PASSPHRASE));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            ArrayList<Future<?>> results = new ArrayList<>();
+            for (int j = 0; j < THREADS; j++) {
+                int thread = j;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int k = 0; k < REQUESTS; k++) {
+                        int manager = (thread + k) % managers.size();
+                        checkRequest(managers.get(manager), manager, thread, k);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results)
+                result.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Method to test that the signatures and the bodies of the requests sent at the same time never cross, each
+     * request is verified by the exchange and echoed back to the thread which sent it <br>
+     * No-any params required
+     */
+    @Test
+    public void signaturesNeverCrossRequests() throws Exception {
+        List<CoinbaseManager> managers = List.of(
+                manager(new CoinbaseOrdersManager(API_KEY, API_SECRET, PASSPHRASE)),
+                manager(new CoinbaseProductsManager(API_KEY, API_SECRET, PASSPHRASE)),
+                manager(new CoinbaseAccountManager(API_KEY, API_SECRET, PASSPHRASE)));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            ArrayList<Future<?>> results = new ArrayList<>();
+            for (int j = 0; j < THREADS; j++) {
+                int thread = j;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int k = 0; k < REQUESTS; k++)
+                        sendRequest(managers.get((thread + k) % managers.size()), thread, k);
+                    return null;
+                }));
+            }
+            for (Future<?> result : results)
+                result.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, exchange.getUnauthorizedRequests());
+        assertEquals(THREADS * REQUESTS, exchange.getRequests());
+    }
+
+    /**
+     * Method to test that the asynchronous requests sent at the same time are signed each one with its own
+     * content <br>
+     * No-any params required
+     */
+    @Test
+    public void asyncSignaturesNeverCrossRequests() throws Exception {
+        CoinbaseManager manager = manager(new CoinbaseOrdersManager(API_KEY, API_SECRET, PASSPHRASE));
+        int requests = THREADS * REQUESTS / 4;
+        ArrayList<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int j = 0; j < requests; j++)
+            responses.add(manager.sendPostRequestAsync("/echo", payload(-1, j)));
+        for (int j = 0; j < requests; j++) {
+            JSONObject echo = new JSONObject(responses.get(j).get(60, TimeUnit.SECONDS));
+            assertEquals("-1/" + j, echo.getString("client_oid"));
+        }
+        assertEquals(0, exchange.getUnauthorizedRequests());
+    }
+
+    /**
+     * Method to sign a request and check its headers
+     *
+     * @param manager:      manager which signs the request
+     * @param managerIndex: index of the credentials of the manager
+     * @param thread:       thread which signs the request
+     * @param request:      number of the request of the thread
+     */
+    private static void checkRequest(CoinbaseManager manager, int managerIndex, int thread,
+                                     int request) throws Exception {
+        String endpoint = "/orders/" + thread + "-" + request;
+        CoinbaseRequest signedRequest;
+        if (request % 2 == 0)
+            signedRequest = manager.signRequest(GET, endpoint, null);
+        else
+            signedRequest = manager.signRequest(POST, endpoint, payload(thread, request));
+        assertEquals(endpoint, signedRequest.getEndpoint());
+        assertEquals(API_KEY + "-" + managerIndex, signedRequest.getHeader(CB_ACCESS_KEY));
+        assertEquals(signedRequest.getTimestamp(), signedRequest.getHeader(CB_ACCESS_TIMESTAMP));
+        String body = signedRequest.getBody();
+        if (request % 2 == 0)
+            assertNull(body);
+        else
+            assertTrue(body.contains(thread + "/" + request), body);
+        String prehash = signedRequest.getTimestamp() + signedRequest.getMethod() + endpoint;
+        if (body != null)
+            prehash += body;
+        assertEquals(sign(secret(managerIndex), prehash), signedRequest.getHeader(CB_ACCESS_SIGN));
+    }
+
+    /**
+     * Method to send a request and check its echo
+     *
+     * @param manager: manager which sends the request
+     * @param thread:  thread which sends the request
+     * @param request: number of the request of the thread
+     */
+    private static void sendRequest(CoinbaseManager manager, int thread, int request) throws Exception {
+        if (request % 2 == 0) {
+            Params query = new Params();
+            query.addParam("thread", thread);
+            JSONObject echo = new JSONObject(manager.sendGETRequest("/echo/" + thread + "-" + request, query));
+            assertEquals(thread + "-" + request, echo.getString("id"));
+            assertEquals(String.valueOf(thread), echo.getString("thread"));
+        } else {
+            JSONObject echo = new JSONObject(manager.sendPostRequest("/echo", payload(thread, request)));
+            assertEquals(thread + "/" + request, echo.getString("client_oid"));
+        }
+    }
+
+    /**
+     * Method to create the body of a request, different for each request
+     *
+     * @param thread:  thread which sends the request
+     * @param request: number of the request of the thread
+     * @return body of the request as {@link Params}
+     */
+    private static Params payload(int thread, int request) {
+        Params payload = new Params();
+        payload.addParam("client_oid", thread + "/" + request);
+        payload.addParam("size", String.valueOf(request + 1));
+        return payload;
+    }
+
+    /**
+     * Method to point a manager to the exchange without pacing its requests
+     *
+     * @param manager: manager to point
+     * @return manager as {@link CoinbaseManager}
+     */
+    private CoinbaseManager manager(CoinbaseManager manager) {
+        manager.setTransport(exchange.createTransport());
+        manager.setRateLimiter(CoinbaseRateLimiter.unlimited());
+        return manager;
+    }
+
+    /**
+     * Method to create the api secret of a manager
+     *
+     * @param managerIndex: index of the credentials of the manager
+     * @return api secret as {@link String}
+     */
+    private static String secret(int managerIndex) {
+        return Base64.getEncoder().encodeToString(("concurrency-secret-" + managerIndex)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to compute the signature expected for a request
+     *
+     * @param secret:  api secret used to sign
+     * @param prehash: text signed
+     * @return signature as {@link String}
+     */
+    private static String sign(String secret, String prehash) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(prehash.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
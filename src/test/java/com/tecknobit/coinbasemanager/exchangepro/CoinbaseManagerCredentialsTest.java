@@ -0,0 +1,176 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.tecknobit.coinbasemanager.exchangepro.account.CoinbaseAccountManager;
+import com.tecknobit.coinbasemanager.exchangepro.credentials.CoinbaseCredentials;
+import com.tecknobit.coinbasemanager.exchangepro.credentials.CredentialsPool;
+import com.tecknobit.coinbasemanager.exchangepro.credentials.CredentialsPool.Routing;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import com.tecknobit.coinbasemanager.exchangepro.retry.RetryPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.CB_ACCESS_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CoinbaseManagerCredentialsTest} class is useful to test the routing of the requests of a manager
+ * between the api keys of its {@link CredentialsPool}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CoinbaseManagerCredentialsTest {
+
+    /**
+     * {@code transport} is instance that memorizes the transport which records the api key of each attempt
+     */
+    private KeysTransport transport;
+
+    /**
+     * {@code manager} is instance that memorizes the manager which routes the requests
+     */
+    private CoinbaseManager manager;
+
+    /**
+     * Method to create the manager with a pool of three api keys <br>
+     * No-any params required
+     */
+    @BeforeEach
+    public void createManager() {
+        transport = new KeysTransport();
+        manager = new CoinbaseAccountManager("manager-key", secret("manager-key"), "passphrase");
+        manager.setTransport(transport);
+        manager.setRetryPolicy(new RetryPolicy(2, 1, 5, 0));
+        manager.setCredentialsPool(new CredentialsPool(Routing.ROUND_ROBIN, credentials("first", "profile"),
+                credentials("second", "profile"), credentials("third", "profile")));
+    }
+
+    /**
+     * Method to test that all the attempts of a request retried are sent with the same api key <br>
+     * No-any params required
+     */
+    @Test
+    public void retriesKeepTheApiKey() throws Exception {
+        transport.failures.set(2);
+        manager.sendGETRequest("/accounts");
+        assertEquals(List.of("first", "first", "first"), transport.keys);
+        manager.sendGETRequest("/accounts");
+        assertEquals("second", transport.keys.get(3));
+    }
+
+    /**
+     * Method to test that all the attempts of an asynchronous request retried are sent with the same api key <br>
+     * No-any params required
+     */
+    @Test
+    public void asyncRetriesKeepTheApiKey() throws Exception {
+        transport.failures.set(2);
+        manager.sendGETRequestAsync("/accounts").get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("first", "first", "first"), transport.keys);
+    }
+
+    /**
+     * Method to test that the requests are routed by their {@code "profile_id"} param to the api keys of that
+     * profile, and that a profile without api keys is rejected before sending the request <br>
+     * No-any params required
+     */
+    @Test
+    public void requestsAreRoutedByProfile() throws Exception {
+        manager.setCredentialsPool(new CredentialsPool(Routing.PROFILE_AFFINITY, credentials("first", "firstProfile"),
+                credentials("second", "secondProfile"), credentials("third", "secondProfile")));
+        manager.sendGETRequest("/accounts?profile_id=secondProfile");
+        manager.sendGETRequest("/accounts?profile_id=secondProfile");
+        manager.sendGETRequest("/accounts");
+        assertEquals(List.of("second", "third", "first"), transport.keys);
+        assertThrows(IllegalArgumentException.class, () -> manager.sendGETRequest("/accounts?profile_id=unknown"));
+        assertThrows(Exception.class, () -> manager.sendGETRequestAsync("/accounts?profile_id=unknown")
+                .get(10, TimeUnit.SECONDS));
+        assertEquals(3, transport.keys.size());
+    }
+
+    /**
+     * Method to create the api secret of an api key
+     *
+     * @param apiKey: api key of which create the api secret
+     * @return api secret as {@link String}
+     */
+    private static String secret(String apiKey) {
+        return Base64.getEncoder().encodeToString(apiKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to create the credentials of an api key
+     *
+     * @param apiKey:    api key of the credentials
+     * @param profileId: identifier of the profile of the api key
+     * @return credentials of the api key as {@link CoinbaseCredentials}
+     */
+    private static CoinbaseCredentials credentials(String apiKey, String profileId) {
+        return new CoinbaseCredentials(apiKey, secret(apiKey), "passphrase", profileId,
+                CoinbaseRateLimiter.unlimited());
+    }
+
+    /**
+     * The {@code KeysTransport} class is useful to record the api key of each attempt and to fail the first ones
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class KeysTransport implements CoinbaseTransport {
+
+        /**
+         * {@code keys} is instance that memorizes the api key of each attempt in order
+         */
+        private final List<String> keys = new CopyOnWriteArrayList<>();
+
+        /**
+         * {@code failures} is instance that memorizes the number of next attempts to fail
+         */
+        private final AtomicInteger failures = new AtomicInteger();
+
+        /**
+         * Method to send a request
+         *
+         * @param request: request to send
+         * @return response of the request as {@link CoinbaseResponse}
+         */
+        @Override
+        public CoinbaseResponse send(CoinbaseRequest request) {
+            keys.add(request.getHeader(CB_ACCESS_KEY));
+            int statusCode = failures.getAndDecrement() > 0 ? 503 : 200;
+            return new CoinbaseResponse(request, statusCode, "[]", System.currentTimeMillis(), 0);
+        }
+
+        /**
+         * Method to send a request asynchronously
+         *
+         * @param request: request to send
+         * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+         */
+        @Override
+        public CompletableFuture<CoinbaseResponse> sendAsync(CoinbaseRequest request) {
+            return CompletableFuture.completedFuture(send(request));
+        }
+
+        /**
+         * Method to get the base url of the requests <br>
+         * No-any params required
+         *
+         * @return base url of the requests as {@link String}
+         */
+        @Override
+        public String getBaseUrl() {
+            return "http://localhost";
+        }
+
+    }
+
+}
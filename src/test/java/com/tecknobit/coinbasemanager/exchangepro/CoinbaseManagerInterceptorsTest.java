@@ -0,0 +1,313 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import com.tecknobit.coinbasemanager.exchangepro.account.CoinbaseAccountManager;
+import com.tecknobit.coinbasemanager.exchangepro.interceptors.CoinbaseInterceptor;
+import com.tecknobit.coinbasemanager.exchangepro.interceptors.InterceptedRequest;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import com.tecknobit.coinbasemanager.exchangepro.retry.RetryPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CoinbaseManagerInterceptorsTest} class is useful to test the invocation of the interceptors of the
+ * requests sent by a manager
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CoinbaseManagerInterceptorsTest {
+
+    /**
+     * {@code events} is instance that memorizes the callbacks of the interceptors in order of invocation
+     */
+    private List<String> events;
+
+    /**
+     * {@code transport} is instance that memorizes the transport which answers to the requests
+     */
+    private StubTransport transport;
+
+    /**
+     * {@code manager} is instance that memorizes the manager which intercepts the requests
+     */
+    private CoinbaseManager manager;
+
+    /**
+     * Method to create the manager with two recording interceptors <br>
+     * No-any params required
+     */
+    @BeforeEach
+    public void createManager() {
+        events = new CopyOnWriteArrayList<>();
+        transport = new StubTransport();
+        manager = new CoinbaseAccountManager("interceptors-key", Base64.getEncoder()
+                .encodeToString("interceptors-secret".getBytes(StandardCharsets.UTF_8)), "interceptors-passphrase");
+        manager.setTransport(transport);
+        manager.setRateLimiter(CoinbaseRateLimiter.unlimited());
+        manager.setRetryPolicy(new RetryPolicy(2, 1, 5, 0));
+        manager.addInterceptor(new RecordingInterceptor("first"));
+        manager.addInterceptor(new RecordingInterceptor("second"));
+    }
+
+    /**
+     * Method to test that the interceptors are invoked in order before a request and in the reverse order after it,
+     * once also when the request is retried <br>
+     * No-any params required
+     */
+    @Test
+    public void interceptorsWrapTheRequest() throws Exception {
+        transport.failures.set(1);
+        assertEquals("[]", manager.sendGETRequest("/accounts"));
+        assertEquals(2, transport.requests.get());
+        assertEquals(List.of("first before GET /accounts", "second before GET /accounts", "second after 200",
+                "first after 200"), events);
+    }
+
+    /**
+     * Method to test that the asynchronous requests are intercepted as the synchronous ones <br>
+     * No-any params required
+     */
+    @Test
+    public void asyncInterceptorsWrapTheRequest() throws Exception {
+        transport.failures.set(1);
+        assertEquals("[]", manager.sendGETRequestAsync("/accounts").get(10, TimeUnit.SECONDS));
+        assertEquals(List.of("first before GET /accounts", "second before GET /accounts", "second after 200",
+                "first after 200"), events);
+    }
+
+    /**
+     * Method to test that the body of a request is available to the interceptors <br>
+     * No-any params required
+     */
+    @Test
+    public void bodyIsIntercepted() throws Exception {
+        manager.addInterceptor(new CoinbaseInterceptor() {
+            @Override
+            public CoinbaseResponse beforeRequest(InterceptedRequest request) {
+                events.add("body " + request.getBody());
+                return null;
+            }
+        });
+        Params body = new Params();
+        body.addParam("profile_id", "profile");
+        manager.sendPostRequest("/profiles/transfer", body);
+        assertTrue(events.contains("body {\"profile_id\":\"profile\"}"), events.toString());
+        assertEquals(POST, transport.lastRequest.getMethod());
+    }
+
+    /**
+     * Method to test that a response returned by an interceptor is used without sending the request and without
+     * invoking the next interceptors <br>
+     * No-any params required
+     */
+    @Test
+    public void interceptorCanAnswerTheRequest() throws Exception {
+        manager = new CoinbaseAccountManager("interceptors-key", Base64.getEncoder()
+                .encodeToString("interceptors-secret".getBytes(StandardCharsets.UTF_8)), "interceptors-passphrase");
+        manager.setTransport(transport);
+        manager.addInterceptor(new RecordingInterceptor("first"));
+        manager.addInterceptor(new CoinbaseInterceptor() {
+            @Override
+            public CoinbaseResponse beforeRequest(InterceptedRequest request) {
+                return new CoinbaseResponse(null, 200, "[\"intercepted\"]", System.currentTimeMillis(), 0);
+            }
+        });
+        manager.addInterceptor(new RecordingInterceptor("third"));
+        assertEquals("[\"intercepted\"]", manager.sendGETRequest("/accounts"));
+        assertEquals("[\"intercepted\"]", manager.sendGETRequestAsync("/accounts").get(10, TimeUnit.SECONDS));
+        assertEquals(0, transport.requests.get());
+        assertEquals(List.of("first before GET /accounts", "first after 200", "first before GET /accounts",
+                "first after 200"), events);
+    }
+
+    /**
+     * Method to test that a request failed without a response is notified to the interceptors already invoked, also
+     * when it has been failed by an interceptor <br>
+     * No-any params required
+     */
+    @Test
+    public void failuresAreNotified() throws Exception {
+        manager.setRetryPolicy(new RetryPolicy(0, 1, 5, 0));
+        transport.error = new IOException("connection reset");
+        assertThrows(IOException.class, () -> manager.sendGETRequest("/accounts"));
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> manager.sendGETRequestAsync("/accounts").get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, error.getCause());
+        assertEquals(List.of("first before GET /accounts", "second before GET /accounts",
+                "second failure connection reset", "first failure connection reset", "first before GET /accounts",
+                "second before GET /accounts", "second failure connection reset", "first failure connection reset"),
+                events);
+        events.clear();
+        manager.addInterceptor(new CoinbaseInterceptor() {
+            @Override
+            public CoinbaseResponse beforeRequest(InterceptedRequest request) {
+                throw new IllegalStateException("fault injected");
+            }
+        });
+        assertThrows(IllegalStateException.class, () -> manager.sendGETRequest("/accounts"));
+        assertEquals(List.of("first before GET /accounts", "second before GET /accounts",
+                "second failure fault injected", "first failure fault injected"), events);
+        assertEquals(2, transport.requests.get());
+    }
+
+    /**
+     * Method to test that a removed interceptor is no more invoked <br>
+     * No-any params required
+     */
+    @Test
+    public void removedInterceptorIsNotInvoked() throws Exception {
+        CoinbaseInterceptor first = manager.getInterceptors().get(0);
+        assertTrue(manager.removeInterceptor(first));
+        assertFalse(manager.removeInterceptor(first));
+        manager.sendGETRequest("/accounts");
+        assertEquals(List.of("second before GET /accounts", "second after 200"), events);
+    }
+
+    /**
+     * The {@code RecordingInterceptor} class is useful to record the callbacks of an interceptor in the
+     * {@link #events}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private final class RecordingInterceptor implements CoinbaseInterceptor {
+
+        /**
+         * {@code name} is instance that memorizes the name of the interceptor
+         */
+        private final String name;
+
+        /**
+         * Constructor to init a {@link RecordingInterceptor}
+         *
+         * @param name: name of the interceptor
+         */
+        private RecordingInterceptor(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Method invoked before a request is sent
+         *
+         * @param request: request intercepted
+         * @return {@code null} to send the request
+         */
+        @Override
+        public CoinbaseResponse beforeRequest(InterceptedRequest request) {
+            request.setAttribute(name, request.getEndpoint());
+            events.add(name + " before " + request.getMethod() + " " + request.getEndpoint());
+            return null;
+        }
+
+        /**
+         * Method invoked after a response has been received
+         *
+         * @param request:  request intercepted
+         * @param response: response received
+         */
+        @Override
+        public void afterResponse(InterceptedRequest request, CoinbaseResponse response) {
+            assertEquals(request.getEndpoint(), request.getAttribute(name));
+            events.add(name + " after " + response.getStatusCode());
+        }
+
+        /**
+         * Method invoked after a request has been failed without a response
+         *
+         * @param request: request intercepted
+         * @param error:   error which failed the request
+         */
+        @Override
+        public void onFailure(InterceptedRequest request, Throwable error) {
+            events.add(name + " failure " + error.getMessage());
+        }
+
+    }
+
+    /**
+     * The {@code StubTransport} class is useful to answer to each request with an empty list, failing the first ones
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class StubTransport implements CoinbaseTransport {
+
+        /**
+         * {@code requests} is instance that memorizes the number of requests received
+         */
+        private final AtomicInteger requests = new AtomicInteger();
+
+        /**
+         * {@code failures} is instance that memorizes the number of next requests to answer with an error status code
+         */
+        private final AtomicInteger failures = new AtomicInteger();
+
+        /**
+         * {@code error} is instance that memorizes the error which fails the requests, {@code null} to answer them
+         */
+        private volatile IOException error;
+
+        /**
+         * {@code lastRequest} is instance that memorizes the last request received
+         */
+        private volatile CoinbaseRequest lastRequest;
+
+        /**
+         * Method to send a request
+         *
+         * @param request: request to send
+         * @return response of the request as {@link CoinbaseResponse}
+         * @throws IOException when the {@link #error} is set
+         */
+        @Override
+        public CoinbaseResponse send(CoinbaseRequest request) throws IOException {
+            requests.incrementAndGet();
+            lastRequest = request;
+            if (error != null)
+                throw error;
+            int statusCode = failures.getAndDecrement() > 0 ? 503 : 200;
+            return new CoinbaseResponse(request, statusCode, "[]", System.currentTimeMillis(), 0);
+        }
+
+        /**
+         * Method to send a request asynchronously
+         *
+         * @param request: request to send
+         * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+         */
+        @Override
+        public CompletableFuture<CoinbaseResponse> sendAsync(CoinbaseRequest request) {
+            try {
+                return CompletableFuture.completedFuture(send(request));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        /**
+         * Method to get the base url of the requests <br>
+         * No-any params required
+         *
+         * @return base url of the requests as {@link String}
+         */
+        @Override
+        public String getBaseUrl() {
+            return "http://localhost";
+        }
+
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.tecknobit.coinbasemanager.exchangepro.account.CoinbaseAccountManager;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeCoinbaseExchange;
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.Book;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.TokenBucket;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import com.tecknobit.coinbasemanager.exchangepro.requests.FanOutResult;
+import com.tecknobit.coinbasemanager.exchangepro.resilience.Bulkhead;
+import com.tecknobit.coinbasemanager.exchangepro.resilience.CircuitBreaker;
+import com.tecknobit.coinbasemanager.exchangepro.resilience.EndpointIsolation;
+import com.tecknobit.coinbasemanager.exchangepro.resilience.RejectedCallException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CoinbaseManagerIsolationTest} class is useful to test the isolation of the endpoints families of the
+ * requests sent by a manager
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CoinbaseManagerIsolationTest {
+
+    /**
+     * {@code REQUESTS} is constant for the number of concurrent requests sent
+     */
+    private static final int REQUESTS = 3;
+
+    /**
+     * {@code manager} is instance that memorizes the manager which sends the requests
+     */
+    private CoinbaseManager manager;
+
+    /**
+     * {@code bulkhead} is instance that memorizes the bulkhead of the {@code "/reports"} family, with a single slot
+     */
+    private Bulkhead bulkhead;
+
+    /**
+     * Method to create the manager, paced at 10 private requests per second without burst <br>
+     * No-any params required
+     */
+    @BeforeEach
+    public void createManager() {
+        manager = new CoinbaseAccountManager("isolation-key", Base64.getEncoder()
+                .encodeToString("isolation-secret".getBytes(StandardCharsets.UTF_8)), "isolation-passphrase");
+        manager.setTransport(new StubTransport());
+        manager.setRateLimiter(new CoinbaseRateLimiter(new TokenBucket(0, 0), new TokenBucket(10, 1),
+                new TokenBucket(0, 0)));
+        EndpointIsolation isolation = new EndpointIsolation();
+        bulkhead = new Bulkhead(1, 0);
+        isolation.configure("/reports", bulkhead, new CircuitBreaker(3, 30_000, 1));
+        manager.setEndpointIsolation(isolation);
+    }
+
+    /**
+     * Method to test that the requests waiting the rate limiter do not hold the slots of their family <br>
+     * No-any params required
+     */
+    @Test
+    public void pacedRequestsDoNotHoldTheSlots() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int j = 0; j < REQUESTS; j++)
+                responses.add(executor.submit(() -> manager.sendGETRequest("/reports")));
+            for (Future<String> response : responses)
+                assertEquals("[]", response.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, bulkhead.getRejectedCalls());
+    }
+
+    /**
+     * Method to test that the asynchronous requests waiting the rate limiter do not hold the slots of their family
+     * <br>
+     * No-any params required
+     */
+    @Test
+    public void pacedAsyncRequestsDoNotHoldTheSlots() throws Exception {
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int j = 0; j < REQUESTS; j++)
+            responses.add(manager.sendGETRequestAsync("/reports"));
+        for (CompletableFuture<String> response : responses)
+            assertEquals("[]", response.get(10, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.getRejectedCalls());
+    }
+
+    /**
+     * Method to test that the tokens of the requests rejected by the isolation serve the next requests <br>
+     * No-any params required
+     */
+    @Test
+    public void rejectedRequestsGiveBackTheirToken() throws Exception {
+        TokenBucket privateBucket = new TokenBucket(1, 1);
+        manager.setRateLimiter(new CoinbaseRateLimiter(new TokenBucket(0, 0), privateBucket, new TokenBucket(0, 0)));
+        EndpointIsolation isolation = new EndpointIsolation();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 30_000, 1);
+        circuitBreaker.recordResult(circuitBreaker.tryAcquire(), true);
+        isolation.configure("/reports", new Bulkhead(1, 0), circuitBreaker);
+        manager.setEndpointIsolation(isolation);
+        assertThrows(RejectedCallException.class, () -> manager.sendGETRequest("/reports"));
+        assertThrows(Exception.class, () -> manager.sendGETRequestAsync("/reports").get(10, TimeUnit.SECONDS));
+        assertEquals(0, privateBucket.reserve());
+    }
+
+    /**
+     * Method to test that the bulk requests skip the products rejected by the isolation of their family, instead of
+     * failing the whole request <br>
+     * No-any params required
+     */
+    @Test
+    public void bulkRequestsSkipTheRejectedProducts() throws Exception {
+        try (FakeCoinbaseExchange exchange = new FakeCoinbaseExchange().start()) {
+            exchange.setLatency(50, 50);
+            CoinbaseProductsManager productsManager = new CoinbaseProductsManager("isolation-key", Base64.getEncoder()
+                    .encodeToString("isolation-secret".getBytes(StandardCharsets.UTF_8)), "isolation-passphrase");
+            productsManager.setTransport(exchange.createTransport());
+            productsManager.setRateLimiter(CoinbaseRateLimiter.unlimited());
+            productsManager.setFanOutConcurrency(4);
+            EndpointIsolation isolation = new EndpointIsolation();
+            isolation.configure("/products", new Bulkhead(1, 0), new CircuitBreaker(100, 30_000, 1));
+            productsManager.setEndpointIsolation(isolation);
+            ArrayList<Book> books = productsManager.getAllProductsBooks();
+            assertFalse(books.isEmpty());
+            ArrayList<FanOutResult<Book>> results = productsManager.getAllProductsBooksResults();
+            assertTrue(books.size() < results.size());
+            boolean rejected = false;
+            for (FanOutResult<Book> result : results)
+                rejected |= result.getError() instanceof RejectedCallException;
+            assertTrue(rejected);
+        }
+    }
+
+    /**
+     * The {@code StubTransport} class is useful to answer to each request with an empty list
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class StubTransport implements CoinbaseTransport {
+
+        /**
+         * Method to send a request
+         *
+         * @param request: request to send
+         * @return response of the request as {@link CoinbaseResponse}
+         */
+        @Override
+        public CoinbaseResponse send(CoinbaseRequest request) {
+            return new CoinbaseResponse(request, 200, "[]", System.currentTimeMillis(), 0);
+        }
+
+        /**
+         * Method to send a request asynchronously
+         *
+         * @param request: request to send
+         * @return response of the request as {@link CompletableFuture} of {@link CoinbaseResponse}
+         */
+        @Override
+        public CompletableFuture<CoinbaseResponse> sendAsync(CoinbaseRequest request) {
+            return CompletableFuture.completedFuture(send(request));
+        }
+
+        /**
+         * Method to get the base url of the requests <br>
+         * No-any params required
+         *
+         * @return base url of the requests as {@link String}
+         */
+        @Override
+        public String getBaseUrl() {
+            return "http://localhost";
+        }
+
+    }
+
+}
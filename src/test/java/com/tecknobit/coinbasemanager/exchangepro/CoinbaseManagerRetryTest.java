@@ -0,0 +1,151 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager.Params;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeCoinbaseExchange;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeResponse;
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequestException;
+import com.tecknobit.coinbasemanager.exchangepro.retry.RetryPolicy;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CoinbaseManagerRetryTest} class is useful to test the retries of the requests failed for a transient
+ * error, with the failures injected by the {@link FakeCoinbaseExchange}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CoinbaseManagerRetryTest {
+
+    /**
+     * {@code API_KEY} is constant for the api key of the manager tested
+     */
+    private static final String API_KEY = "retry-key";
+
+    /**
+     * {@code API_SECRET} is constant for the api secret of the manager tested
+     */
+    private static final String API_SECRET = Base64.getEncoder()
+            .encodeToString("retry-secret".getBytes(StandardCharsets.UTF_8));
+
+    /**
+     * {@code PASSPHRASE} is constant for the passphrase of the manager tested
+     */
+    private static final String PASSPHRASE = "retry-passphrase";
+
+    /**
+     * {@code exchange} is instance that memorizes the exchange which fails the requests
+     */
+    private FakeCoinbaseExchange exchange;
+
+    /**
+     * {@code manager} is instance that memorizes the manager which retries the requests
+     */
+    private CoinbaseManager manager;
+
+    /**
+     * Method to start the exchange and to point the manager to it <br>
+     * No-any params required
+     */
+    @BeforeEach
+    public void startExchange() throws Exception {
+        exchange = new FakeCoinbaseExchange().start();
+        exchange.setCredentials(API_KEY, API_SECRET, PASSPHRASE);
+        exchange.addRoute("POST", "/echo", true, request -> new FakeResponse(200, request.getBody()));
+        manager = new CoinbaseProductsManager(API_KEY, API_SECRET, PASSPHRASE);
+        manager.setTransport(exchange.createTransport());
+        manager.setRateLimiter(CoinbaseRateLimiter.unlimited());
+        manager.setRetryPolicy(new RetryPolicy(2, 5, 20, 0));
+    }
+
+    /**
+     * Method to stop the exchange <br>
+     * No-any params required
+     */
+    @AfterEach
+    public void stopExchange() {
+        exchange.close();
+    }
+
+    /**
+     * Method to test that the transient failures are retried, each attempt signed and verified again <br>
+     * No-any params required
+     */
+    @Test
+    public void transientFailuresAreRetried() throws Exception {
+        exchange.failNextRequests(2, 503);
+        assertFalse(new JSONObject(manager.sendGETRequest("/currencies/BTC")).isEmpty());
+        assertEquals(3, exchange.getRequests());
+        assertEquals(2, exchange.getInjectedErrors());
+        assertEquals(0, exchange.getUnauthorizedRequests());
+        assertEquals(2, sum(manager.getRetryPolicy().getRetries()));
+        assertEquals(0, sum(manager.getRetryPolicy().getExhaustedRetries()));
+    }
+
+    /**
+     * Method to test that the failure is returned when the retries have been exhausted <br>
+     * No-any params required
+     */
+    @Test
+    public void exhaustedRetriesReturnTheFailure() {
+        exchange.failNextRequests(5, 503);
+        CoinbaseRequestException error = assertThrows(CoinbaseRequestException.class,
+                () -> manager.sendGETRequest("/currencies/BTC"));
+        assertEquals(503, error.getResponse().getStatusCode());
+        assertEquals(3, exchange.getRequests());
+        assertEquals(1, sum(manager.getRetryPolicy().getExhaustedRetries()));
+    }
+
+    /**
+     * Method to test that the asynchronous requests are retried as the synchronous ones <br>
+     * No-any params required
+     */
+    @Test
+    public void asyncFailuresAreRetried() throws Exception {
+        exchange.failNextRequests(2, 502);
+        String currency = manager.sendGETRequestAsync("/currencies/BTC").get(10, TimeUnit.SECONDS);
+        assertFalse(new JSONObject(currency).isEmpty());
+        assertEquals(3, exchange.getRequests());
+        assertEquals(0, exchange.getUnauthorizedRequests());
+    }
+
+    /**
+     * Method to test that a request with side effects is sent again only with its {@code "client_oid"} <br>
+     * No-any params required
+     */
+    @Test
+    public void onlyIdempotentPostsAreRetried() throws Exception {
+        exchange.failNextRequests(1, 503);
+        Params payload = new Params();
+        payload.addParam("size", "1");
+        assertThrows(CoinbaseRequestException.class, () -> manager.sendPostRequest("/echo", payload));
+        assertEquals(1, exchange.getRequests());
+        exchange.failNextRequests(1, 503);
+        payload.addParam(RetryPolicy.CLIENT_OID_KEY, "6d4f1b36-4d7f-4a8e-9a3b-1f7f1d2b9c11");
+        JSONObject echo = new JSONObject(manager.sendPostRequest("/echo", payload));
+        assertEquals("6d4f1b36-4d7f-4a8e-9a3b-1f7f1d2b9c11", echo.getString(RetryPolicy.CLIENT_OID_KEY));
+        assertEquals(3, exchange.getRequests());
+        assertEquals(0, exchange.getUnauthorizedRequests());
+    }
+
+    /**
+     * Method to sum the counters of the endpoints
+     *
+     * @param counters: counters to sum
+     * @return sum of the counters as long
+     */
+    private static long sum(Map<String, Long> counters) {
+        return counters.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+}
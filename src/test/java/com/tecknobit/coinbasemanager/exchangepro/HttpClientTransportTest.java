@@ -0,0 +1,135 @@
+package com.tecknobit.coinbasemanager.exchangepro;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeCoinbaseExchange;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeResponse;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code HttpClientTransportTest} class is useful to test the decompression of the responses received by the
+ * {@link HttpClientTransport}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class HttpClientTransportTest {
+
+    /**
+     * {@code BODY} is constant for the body of the responses, big enough to be compressed
+     */
+    private static final String BODY = "[" + "{\"id\":\"BTC-USD\",\"price\":\"27000.00\"},".repeat(200)
+            + "{\"id\":\"ETH-USD\",\"price\":\"1600.00\"}]";
+
+    /**
+     * Method to test that the responses compressed with {@code "gzip"} are decompressed, sync and async, and that
+     * the asynchronous ones are decompressed on the decoding executor <br>
+     * No-any params required
+     */
+    @Test
+    public void gzipResponsesAreDecoded() throws Exception {
+        try (FakeCoinbaseExchange exchange = new FakeCoinbaseExchange().start()) {
+            exchange.setCompression(true);
+            exchange.addRoute("GET", "/big", false, request -> new FakeResponse(200, BODY));
+            AtomicInteger decodings = new AtomicInteger();
+            Executor decodingExecutor = command -> {
+                decodings.incrementAndGet();
+                command.run();
+            };
+            HttpClientTransport transport = new HttpClientTransport(exchange.getBaseUrl(), -1,
+                    HttpClient.Version.HTTP_1_1, true, decodingExecutor);
+            assertDecoded("gzip", transport.send(request("/big")));
+            assertEquals(0, decodings.get());
+            assertDecoded("gzip", transport.sendAsync(request("/big")).get(10, TimeUnit.SECONDS));
+            assertEquals(1, decodings.get());
+        }
+    }
+
+    /**
+     * Method to test that the responses compressed with {@code "deflate"} are decompressed, both with and without
+     * the zlib wrapper <br>
+     * No-any params required
+     */
+    @Test
+    public void deflateResponsesAreDecoded() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/zlib", exchange -> respond(exchange, false));
+        server.createContext("/raw", exchange -> respond(exchange, true));
+        server.start();
+        try {
+            HttpClientTransport transport = new HttpClientTransport("http://localhost:"
+                    + server.getAddress().getPort(), -1, HttpClient.Version.HTTP_1_1);
+            assertDecoded("deflate", transport.send(request("/zlib")));
+            assertDecoded("deflate", transport.send(request("/raw")));
+            assertDecoded("deflate", transport.sendAsync(request("/zlib")).get(10, TimeUnit.SECONDS));
+            assertDecoded("deflate", transport.sendAsync(request("/raw")).get(10, TimeUnit.SECONDS));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Method to answer to a request with the {@link #BODY} compressed with {@code "deflate"}
+     *
+     * @param exchange: exchange of the request
+     * @param raw:      whether the deflate data is sent without the zlib wrapper
+     */
+    private static void respond(HttpExchange exchange, boolean raw) throws IOException {
+        try (exchange) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+            try (DeflaterOutputStream output = new DeflaterOutputStream(compressed, deflater)) {
+                output.write(BODY.getBytes(StandardCharsets.UTF_8));
+            } finally {
+                deflater.end();
+            }
+            byte[] content = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "deflate");
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(content);
+            }
+        }
+    }
+
+    /**
+     * Method to assert that a response has been received compressed and decoded
+     *
+     * @param contentEncoding: expected encoding of the response
+     * @param response:        response to check
+     */
+    private static void assertDecoded(String contentEncoding, CoinbaseResponse response) {
+        assertEquals(200, response.getStatusCode());
+        assertEquals(BODY, response.getBody());
+        assertEquals(contentEncoding, response.getContentEncoding());
+        assertTrue(response.getWireLength() < BODY.length(), "wire length " + response.getWireLength());
+    }
+
+    /**
+     * Method to create an unsigned request
+     *
+     * @param endpoint: endpoint of the request
+     * @return request as {@link CoinbaseRequest}
+     */
+    private static CoinbaseRequest request(String endpoint) {
+        return new CoinbaseRequest(GET, endpoint, null, null, Map.of("Accept", "application/json"));
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.tecknobit.coinbasemanager.exchangepro.analytics;
+
+import com.tecknobit.coinbasemanager.exchangepro.books.L2OrderBook;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code BookAnalyticsTest} class is useful to test the average prices, the slippage and the depth computed by
+ * the {@link BookAnalytics}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class BookAnalyticsTest {
+
+    /**
+     * {@code BOOK} is constant for the book tested, with the mid price at 100
+     */
+    private static final CompactBook BOOK = CompactBook.parse("BTC-USD",
+            "{\"bids\":[[\"99\",\"1\",1],[\"98\",\"2\",1],[\"90\",\"5\",1]]," +
+                    "\"asks\":[[\"101\",\"1\",1],[\"102\",\"3\",1]]}");
+
+    /**
+     * {@code DELTA} is constant for the tolerance of the values computed
+     */
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Method to test the average price to fill a size <br>
+     * No-any params required
+     */
+    @Test
+    public void vwapWalksTheLevels() {
+        assertEquals(101, BookAnalytics.getVwap(BOOK, true, 0.5), DELTA);
+        assertEquals(101.5, BookAnalytics.getVwap(BOOK, true, 2), DELTA);
+        assertEquals((99 + 2 * 98) / 3.0, BookAnalytics.getVwap(BOOK, false, 3), DELTA);
+        assertEquals((99 + 2 * 98 + 90) / 4.0, BookAnalytics.getVwap(BOOK, false, 4), DELTA);
+        assertTrue(Double.isNaN(BookAnalytics.getVwap(BOOK, true, 5)));
+    }
+
+    /**
+     * Method to test the average price to spend or receive a notional <br>
+     * No-any params required
+     */
+    @Test
+    public void vwapForNotionalWalksTheLevels() {
+        assertEquals(101.5, BookAnalytics.getVwapForNotional(BOOK, true, 101 + 102), DELTA);
+        assertEquals(99, BookAnalytics.getVwapForNotional(BOOK, false, 50), DELTA);
+        assertEquals(295 / 3.0, BookAnalytics.getVwapForNotional(BOOK, false, 295), DELTA);
+        assertTrue(Double.isNaN(BookAnalytics.getVwapForNotional(BOOK, true, 1_000)));
+    }
+
+    /**
+     * Method to test the slippage from the mid price <br>
+     * No-any params required
+     */
+    @Test
+    public void slippageIsMeasuredFromTheMidPrice() {
+        assertEquals(100, BookAnalytics.getMidPrice(BOOK), DELTA);
+        assertEquals(150, BookAnalytics.getSlippageBps(BOOK, true, 2), DELTA);
+        assertEquals(100, BookAnalytics.getSlippageBps(BOOK, false, 1), DELTA);
+        assertEquals(100 * (100 - 295 / 3.0), BookAnalytics.getSlippageBps(BOOK, false, 3), DELTA);
+        assertTrue(Double.isNaN(BookAnalytics.getSlippageBps(BOOK, true, 10)));
+    }
+
+    /**
+     * Method to test the depth and the imbalance near the mid price <br>
+     * No-any params required
+     */
+    @Test
+    public void depthCountsTheLevelsWithinTheDistance() {
+        assertEquals(0, BookAnalytics.getDepth(BOOK, true, 50), DELTA);
+        assertEquals(1, BookAnalytics.getDepth(BOOK, true, 100), DELTA);
+        assertEquals(3, BookAnalytics.getDepth(BOOK, true, 200), DELTA);
+        assertEquals(8, BookAnalytics.getDepth(BOOK, true, 1_000), DELTA);
+        assertEquals(1, BookAnalytics.getDepth(BOOK, false, 100), DELTA);
+        assertEquals(4, BookAnalytics.getDepth(BOOK, false, 200), DELTA);
+        assertEquals((3 - 4) / 7.0, BookAnalytics.getImbalance(BOOK, 200), DELTA);
+        assertTrue(Double.isNaN(BookAnalytics.getImbalance(BOOK, 50)));
+    }
+
+    /**
+     * Method to test the values of a book with an empty side <br>
+     * No-any params required
+     */
+    @Test
+    public void emptySideHasNoMidPrice() {
+        CompactBook book = CompactBook.parse("BTC-USD", "{\"bids\":[[\"99\",\"1\",1]],\"asks\":[]}");
+        assertTrue(Double.isNaN(BookAnalytics.getMidPrice(book)));
+        assertTrue(Double.isNaN(BookAnalytics.getSlippageBps(book, false, 1)));
+        assertTrue(Double.isNaN(BookAnalytics.getImbalance(book, 100)));
+        assertEquals(0, BookAnalytics.getDepth(book, true, 100));
+        assertEquals(99, BookAnalytics.getVwap(book, false, 1), DELTA);
+    }
+
+    /**
+     * Method to test that a live book gives the same values of its snapshot <br>
+     * No-any params required
+     */
+    @Test
+    public void liveBookMatchesItsSnapshot() {
+        L2OrderBook book = new L2OrderBook("BTC-USD");
+        book.load(BOOK);
+        assertEquals(BookAnalytics.getVwap(BOOK, true, 3), BookAnalytics.getVwap(book, true, 3), DELTA);
+        assertEquals(BookAnalytics.getSlippageBps(BOOK, false, 3), BookAnalytics.getSlippageBps(book, false, 3),
+                DELTA);
+        assertEquals(BookAnalytics.getImbalance(BOOK, 200), BookAnalytics.getImbalance(book, 200), DELTA);
+    }
+
+    /**
+     * Method to test that the invalid values are rejected <br>
+     * No-any params required
+     */
+    @Test
+    public void invalidValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BookAnalytics.getVwap(BOOK, true, 0));
+        assertThrows(IllegalArgumentException.class, () -> BookAnalytics.getVwapForNotional(BOOK, true, -1));
+        assertThrows(IllegalArgumentException.class, () -> BookAnalytics.getSlippageBps(BOOK, true, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> BookAnalytics.getDepth(BOOK, true, -1));
+        assertThrows(IllegalArgumentException.class, () -> BookAnalytics.getImbalance(BOOK, Double.NaN));
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeCoinbaseFeed;
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import com.tecknobit.coinbasemanager.exchangepro.recording.ReplayTransport;
+import com.tecknobit.coinbasemanager.exchangepro.recording.TrafficRecord;
+import com.tecknobit.coinbasemanager.exchangepro.recording.TrafficRecording;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.CoinbaseFeed;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L2Update;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code L2OrderBookTest} class is useful to test the levels and the sequence of the {@link L2OrderBook}, also
+ * resynced by the {@link L2BookTracker} after a gap
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class L2OrderBookTest {
+
+    /**
+     * {@code PRODUCT_ID} is constant for the product of the books tested
+     */
+    private static final String PRODUCT_ID = "BTC-USD";
+
+    /**
+     * {@code SNAPSHOT} is constant for the snapshot of the books tested
+     */
+    private static final String SNAPSHOT = "{\"sequence\":10,\"bids\":[[\"100\",\"1\",1],[\"99\",\"2\",1]]," +
+            "\"asks\":[[\"101\",\"1\",1],[\"102\",\"3\",1]]}";
+
+    /**
+     * {@code TIMEOUT} is constant for the max time in millis waited for the asynchronous changes of a book
+     */
+    private static final long TIMEOUT = 10_000;
+
+    /**
+     * Method to test the levels changed by the updates <br>
+     * No-any params required
+     */
+    @Test
+    public void updatesChangeTheLevels() {
+        L2OrderBook book = loadedBook();
+        assertTrue(book.apply(update(11, true, 100, 4)));
+        assertEquals(4, book.getBestBidSize());
+        assertTrue(book.apply(update(12, true, 100.5, 1)));
+        assertEquals(100.5, book.getBestBid());
+        assertEquals(3, book.getBidLevels());
+        assertTrue(book.apply(update(13, false, 101, 0)));
+        assertEquals(102, book.getBestAsk());
+        assertEquals(1, book.getAskLevels());
+        assertEquals(1.5, book.getSpread());
+        // an update already included is ignored
+        assertTrue(book.apply(update(12, false, 101, 9)));
+        assertEquals(102, book.getBestAsk());
+        assertEquals(13, book.getSequence());
+        assertEquals(3, book.getAppliedUpdates());
+    }
+
+    /**
+     * Method to test that a gap in the sequence stops the book until a snapshot is loaded, then the updates kept are
+     * applied <br>
+     * No-any params required
+     */
+    @Test
+    public void gapIsResyncedWithSnapshot() {
+        L2OrderBook book = loadedBook();
+        assertTrue(book.apply(update(11, true, 100, 4)));
+        // the update 12 has been lost
+        assertFalse(book.apply(update(13, true, 99, 0)));
+        assertFalse(book.isSynced());
+        assertEquals(1, book.getGaps());
+        assertFalse(book.apply(update(14, false, 101, 7)));
+        assertEquals(2, book.getPendingUpdates());
+        String snapshot = SNAPSHOT.replace("\"sequence\":10", "\"sequence\":12")
+                .replace("[\"100\",\"1\",1]", "[\"100\",\"4\",1]");
+        assertTrue(book.load(CompactBook.parse(PRODUCT_ID, snapshot)));
+        assertEquals(14, book.getSequence());
+        assertEquals(1, book.getBidLevels());
+        assertEquals(4, book.getBestBidSize());
+        assertEquals(7, book.getBestAskSize());
+    }
+
+    /**
+     * Method to test that a snapshot without sequence discards the updates kept <br>
+     * No-any params required
+     */
+    @Test
+    public void snapshotWithoutSequenceDiscardsTheUpdates() {
+        L2OrderBook book = new L2OrderBook(PRODUCT_ID);
+        assertFalse(book.apply(update(11, true, 100, 4)));
+        assertTrue(book.load(CompactBook.parse(PRODUCT_ID, SNAPSHOT.replace("\"sequence\":10,", ""))));
+        assertEquals(-1, book.getSequence());
+        assertEquals(1, book.getBestBidSize());
+        assertEquals(0, book.getPendingUpdates());
+    }
+
+    /**
+     * Method to test that the tracker requests a new snapshot, served by a {@link ReplayTransport}, when a gap is
+     * found <br>
+     * No-any params required
+     */
+    @Test
+    public void trackerResyncsAfterGap() throws Exception {
+        String resyncSnapshot = SNAPSHOT.replace("\"sequence\":10", "\"sequence\":13")
+                .replace("[\"100\",\"1\",1]", "[\"100\",\"4\",1]")
+                .replace("[\"99\",\"2\",1]", "[\"98\",\"6\",1]");
+        String endpoint = "/products/" + PRODUCT_ID + "/book?level=2";
+        TrafficRecording recording = new TrafficRecording(List.of(
+                new TrafficRecord(0, GET, endpoint, null, 200, SNAPSHOT, 0, -1, null),
+                new TrafficRecord(1, GET, endpoint, null, 200, resyncSnapshot, 0, -1, null)));
+        CoinbaseProductsManager productsManager = new CoinbaseProductsManager("replay-key",
+                Base64.getEncoder().encodeToString("replay-secret".getBytes(StandardCharsets.UTF_8)), "passphrase");
+        productsManager.setTransport(new ReplayTransport(recording, ReplayTransport.NO_DELAY));
+        productsManager.setRateLimiter(CoinbaseRateLimiter.unlimited());
+        L2BookTracker tracker = new L2BookTracker(productsManager);
+        tracker.setResyncInterval(0);
+        L2OrderBook book = tracker.track(PRODUCT_ID);
+        await(book::isSynced);
+        assertEquals(10, book.getSequence());
+        tracker.onL2Update(update(11, true, 100, 4));
+        // the updates 12 and 13 have been lost
+        tracker.onL2Update(update(14, false, 101, 7));
+        await(() -> book.isSynced() && book.getSequence() == 14);
+        assertEquals(1, book.getGaps());
+        assertEquals(2, tracker.getResyncs());
+        assertEquals(0, tracker.getFailedResyncs());
+        synchronized (book) {
+            assertEquals(4, book.getBestBidSize());
+            assertEquals(98, book.getBidPrice(1));
+            assertEquals(7, book.getBestAskSize());
+        }
+    }
+
+    /**
+     * Method to test that the books of the tracker stay equal to the ones of the {@link FakeCoinbaseFeed}, when its
+     * updates are lost and its connections are dropped <br>
+     * No-any params required
+     */
+    @Test
+    public void trackerFollowsTheFeed() throws Exception {
+        try (FakeCoinbaseFeed fakeFeed = new FakeCoinbaseFeed().start()) {
+            // the sequences let the book find the updates lost
+            fakeFeed.setL2Sequences(true);
+            fakeFeed.setMessageRate(2000);
+            L2BookTracker tracker = new L2BookTracker(productId -> CompletableFuture.supplyAsync(() ->
+                    CompactBook.parse(productId, fakeFeed.getBook(productId).toString())), null);
+            tracker.setResyncInterval(100);
+            L2OrderBook book = tracker.track(PRODUCT_ID);
+            CoinbaseFeed feed = new CoinbaseFeed(fakeFeed.getUrl(), null, tracker);
+            try {
+                feed.subscribe(FeedChannel.level2_batch, PRODUCT_ID);
+                feed.connect().get(TIMEOUT, TimeUnit.MILLISECONDS);
+                await(() -> book.isSynced() && book.getAppliedUpdates() > 0);
+                fakeFeed.dropNextUpdates(3);
+                await(() -> book.getGaps() > 0 && book.isSynced());
+                fakeFeed.dropConnections();
+                await(() -> feed.getReconnections() > 0 && book.isSynced());
+                fakeFeed.setMessageRate(0);
+                await(() -> book.isSynced() && sameLevels(book, fakeFeed.getBook(PRODUCT_ID)));
+            } finally {
+                feed.close();
+            }
+        }
+    }
+
+    /**
+     * Method to create a book with the {@link #SNAPSHOT} loaded <br>
+     * No-any params required
+     *
+     * @return book as {@link L2OrderBook}
+     */
+    private static L2OrderBook loadedBook() {
+        L2OrderBook book = new L2OrderBook(PRODUCT_ID);
+        assertTrue(book.load(CompactBook.parse(PRODUCT_ID, SNAPSHOT)));
+        return book;
+    }
+
+    /**
+     * Method to create an update of a single level
+     *
+     * @param sequence: sequence of the update
+     * @param bid:      whether the level is a bid
+     * @param price:    price of the level
+     * @param size:     new size of the level, zero to remove it
+     * @return update as {@link L2Update}
+     */
+    private static L2Update update(long sequence, boolean bid, double price, double size) {
+        return new L2Update(PRODUCT_ID, null, sequence, new boolean[]{bid}, new double[]{price}, new double[]{size});
+    }
+
+    /**
+     * Method to get whether a book has the same levels of the book of the fake feed
+     *
+     * @param book:     book to check
+     * @param fakeBook: book of the fake feed
+     * @return whether the books have the same levels as boolean
+     */
+    private static boolean sameLevels(L2OrderBook book, JSONObject fakeBook) {
+        JSONArray bids = fakeBook.getJSONArray("bids");
+        JSONArray asks = fakeBook.getJSONArray("asks");
+        synchronized (book) {
+            if (bids.length() != book.getBidLevels() || asks.length() != book.getAskLevels())
+                return false;
+            for (int j = 0; j < bids.length(); j++) {
+                JSONArray level = bids.getJSONArray(j);
+                if (level.getDouble(0) != book.getBidPrice(j) || level.getDouble(1) != book.getBidSize(j))
+                    return false;
+            }
+            for (int j = 0; j < asks.length(); j++) {
+                JSONArray level = asks.getJSONArray(j);
+                if (level.getDouble(0) != book.getAskPrice(j) || level.getDouble(1) != book.getAskSize(j))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method to wait a condition changed asynchronously
+     *
+     * @param condition: condition to wait
+     */
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0)
+                fail("condition not reached within " + TIMEOUT + " ms");
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+}
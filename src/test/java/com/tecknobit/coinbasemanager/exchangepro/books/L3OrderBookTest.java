@@ -0,0 +1,408 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import com.tecknobit.coinbasemanager.exchangepro.products.records.CompactBook;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L3Update;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.L3Update.L3UpdateType;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.tecknobit.coinbasemanager.exchangepro.websocket.L3Update.L3UpdateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code L3OrderBookTest} class is useful to test the orders, the queues and the sequence of the
+ * {@link L3OrderBook}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class L3OrderBookTest {
+
+    /**
+     * {@code PRODUCT_ID} is constant for the product of the books tested
+     */
+    private static final String PRODUCT_ID = "BTC-USD";
+
+    /**
+     * {@code A}, {@code B}, {@code C}, {@code D}, {@code E} and {@code F} are constants for the orders of the books
+     * tested
+     */
+    private static final String A = "00000000-0000-0000-0000-00000000000a", B = "00000000-0000-0000-0000-00000000000b",
+            C = "00000000-0000-0000-0000-00000000000c", D = "00000000-0000-0000-0000-00000000000d",
+            E = "00000000-0000-0000-0000-00000000000e", F = "00000000-0000-0000-0000-00000000000f";
+
+    /**
+     * {@code SNAPSHOT} is constant for the snapshot of the books tested, with the orders {@code A} and {@code B}
+     * queued in this order at the best bid
+     */
+    private static final String SNAPSHOT = "{\"sequence\":100," +
+            "\"bids\":[[\"100\",\"1\",\"" + A + "\"],[\"100\",\"2\",\"" + B + "\"],[\"99\",\"3\",\"" + C + "\"]]," +
+            "\"asks\":[[\"101\",\"1\",\"" + D + "\"],[\"102\",\"5\",\"" + E + "\"]]}";
+
+    /**
+     * Method to test the levels and the queues loaded from a snapshot <br>
+     * No-any params required
+     */
+    @Test
+    public void snapshotIsLoaded() {
+        L3OrderBook book = loadedBook();
+        assertTrue(book.isSynced());
+        assertEquals(100, book.getSequence());
+        assertEquals(5, book.getOrders());
+        assertEquals(2, book.getBidLevels());
+        assertEquals(100, book.getBestBid());
+        assertEquals(3, book.getBestBidSize());
+        assertEquals(2, book.getBidOrders(0));
+        assertEquals(99, book.getBidPrice(1));
+        assertEquals(101, book.getBestAsk());
+        assertEquals(102, book.getAskPrice(1));
+        assertEquals(0, book.getOrdersAhead(A));
+        assertEquals(1, book.getOrdersAhead(B));
+        assertEquals(1, book.getSizeAhead(B));
+        assertEquals(3, book.getSizeAhead(true, 100));
+        assertEquals(0, book.getSizeAhead(true, 99.5));
+    }
+
+    /**
+     * Method to test the updates applied in sequence <br>
+     * No-any params required
+     */
+    @Test
+    public void updatesAreApplied() {
+        L3OrderBook book = loadedBook();
+        assertTrue(book.apply(update(open, 101, F, true, 100, 0.5)));
+        assertEquals(3.5, book.getBestBidSize(), 1e-12);
+        assertEquals(3, book.getBidOrders(0));
+        assertEquals(3, book.getSizeAhead(F), 1e-12);
+        assertTrue(book.apply(update(match, 102, A, true, 100, 0.4)));
+        assertEquals(0.6, book.getOrderSize(A), 1e-12);
+        assertEquals(3.1, book.getBestBidSize(), 1e-12);
+        assertTrue(book.apply(update(change, 103, B, true, 100, 1)));
+        assertEquals(2.1, book.getBestBidSize(), 1e-12);
+        assertEquals(1, book.getOrdersAhead(B));
+        assertTrue(book.apply(update(done, 104, A, true, 100, 0)));
+        assertFalse(book.contains(A));
+        assertEquals(0, book.getOrdersAhead(B));
+        assertEquals(1, book.getSizeAhead(F), 1e-12);
+        assertTrue(book.apply(update(match, 105, D, false, 101, 1)));
+        assertFalse(book.contains(D));
+        assertEquals(102, book.getBestAsk());
+        assertEquals(1, book.getAskLevels());
+        assertTrue(book.apply(update(received, 106, UUID.randomUUID().toString(), true, 100, 1)));
+        assertEquals(4, book.getOrders());
+        // an update already included is ignored
+        assertTrue(book.apply(update(open, 104, A, true, 100, 1)));
+        assertFalse(book.contains(A));
+        assertEquals(106, book.getSequence());
+        assertEquals(6, book.getAppliedUpdates());
+    }
+
+    /**
+     * Method to test that a gap in the sequence stops the book until a snapshot is loaded, then the updates kept are
+     * applied <br>
+     * No-any params required
+     */
+    @Test
+    public void gapIsResyncedWithSnapshot() {
+        L3OrderBook book = loadedBook();
+        assertTrue(book.apply(update(open, 101, F, true, 100, 0.5)));
+        // the update 102 has been lost
+        assertFalse(book.apply(update(done, 103, B, true, 100, 0)));
+        assertFalse(book.isSynced());
+        assertEquals(1, book.getGaps());
+        assertFalse(book.apply(update(done, 104, F, true, 100, 0)));
+        assertEquals(2, book.getPendingUpdates());
+        // the snapshot includes the update lost, the updates kept after it are applied
+        String snapshot = SNAPSHOT.replace("\"sequence\":100", "\"sequence\":102")
+                .replace("[\"99\",", "[\"100\",\"0.5\",\"" + F + "\"],[\"99\",")
+                .replace("[\"101\",\"1\",\"" + D + "\"],", "");
+        assertTrue(book.load(CompactBook.parse(PRODUCT_ID, snapshot)));
+        assertEquals(104, book.getSequence());
+        assertEquals(0, book.getPendingUpdates());
+        assertFalse(book.contains(B));
+        assertFalse(book.contains(D));
+        assertFalse(book.contains(F));
+        assertEquals(1, book.getBestBidSize());
+        assertEquals(102, book.getBestAsk());
+    }
+
+    /**
+     * Method to test that the updates received before the first snapshot are applied after it <br>
+     * No-any params required
+     */
+    @Test
+    public void updatesBeforeSnapshotAreKept() {
+        L3OrderBook book = new L3OrderBook(PRODUCT_ID);
+        assertFalse(book.isSynced());
+        assertFalse(book.apply(update(open, 99, F, true, 98, 7)));
+        assertFalse(book.apply(update(open, 101, F, true, 100, 0.5)));
+        assertFalse(book.apply(update(done, 102, C, true, 99, 0)));
+        assertTrue(book.load(CompactBook.parse(PRODUCT_ID, SNAPSHOT)));
+        assertEquals(102, book.getSequence());
+        assertEquals(3.5, book.getBestBidSize(), 1e-12);
+        assertEquals(1, book.getBidLevels());
+        assertEquals(2, book.getAppliedUpdates());
+    }
+
+    /**
+     * Method to test that a level-2 snapshot is rejected <br>
+     * No-any params required
+     */
+    @Test
+    public void level2SnapshotIsRejected() {
+        L3OrderBook book = new L3OrderBook(PRODUCT_ID);
+        assertThrows(IllegalArgumentException.class,
+                () -> book.load(CompactBook.parse(PRODUCT_ID, "{\"bids\":[[\"1\",\"2\",3]],\"asks\":[]}")));
+    }
+
+    /**
+     * Method to test the book against a reference book with random updates, lost updates and snapshots <br>
+     * No-any params required
+     */
+    @Test
+    public void matchesReferenceBook() {
+        ReferenceBook reference = new ReferenceBook(new Random(11));
+        for (int j = 0; j < 2000; j++)
+            reference.open();
+        L3OrderBook book = new L3OrderBook(PRODUCT_ID);
+        long sequence = 1000;
+        assertTrue(book.load(reference.snapshot(sequence)));
+        reference.verify(book);
+        for (int j = 0; j < 100_000; j++) {
+            L3Update update = reference.nextUpdate(++sequence);
+            // some updates are lost, the book is resynced with the snapshot of the reference
+            if (j % 25_000 == 12_345)
+                continue;
+            if (!book.apply(update))
+                assertTrue(book.load(reference.snapshot(sequence)));
+            if (j % 10_000 == 0)
+                reference.verify(book);
+        }
+        reference.verify(book);
+        assertEquals(4, book.getGaps());
+        L3OrderBook copy = new L3OrderBook(PRODUCT_ID);
+        copy.load(CompactBook.parse(PRODUCT_ID, book.toCompactBook().toString()));
+        reference.verify(copy);
+    }
+
+    /**
+     * Method to create a book with the {@link #SNAPSHOT} loaded <br>
+     * No-any params required
+     *
+     * @return book as {@link L3OrderBook}
+     */
+    private static L3OrderBook loadedBook() {
+        L3OrderBook book = new L3OrderBook(PRODUCT_ID);
+        assertTrue(book.load(CompactBook.parse(PRODUCT_ID, SNAPSHOT)));
+        return book;
+    }
+
+    /**
+     * Method to create an update
+     *
+     * @param type:     type of the update
+     * @param sequence: sequence of the update
+     * @param orderId:  order of the update
+     * @param bid:      whether the order is a bid
+     * @param price:    price of the order
+     * @param size:     size of the update
+     * @return update as {@link L3Update}
+     */
+    private static L3Update update(L3UpdateType type, long sequence, String orderId, boolean bid, double price,
+                                   double size) {
+        return new L3Update(type, PRODUCT_ID, null, sequence, orderId, bid, price, size,
+                type == done ? "canceled" : null);
+    }
+
+    /**
+     * The {@code ReferenceBook} class is useful to keep the orders of a book with the collections of the JDK, to
+     * generate the updates of the feed and to verify the {@link L3OrderBook}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class ReferenceBook {
+
+        /**
+         * {@code random} is instance used to generate the updates
+         */
+        private final Random random;
+
+        /**
+         * {@code bids} is instance that memorizes the queues of the bids, from the best price
+         */
+        private final TreeMap<Double, LinkedHashMap<String, double[]>> bids = new TreeMap<>(Comparator.reverseOrder());
+
+        /**
+         * {@code asks} is instance that memorizes the queues of the asks, from the best price
+         */
+        private final TreeMap<Double, LinkedHashMap<String, double[]>> asks = new TreeMap<>();
+
+        /**
+         * {@code orders} is instance that memorizes the side, the price and the size of each order
+         */
+        private final LinkedHashMap<String, double[]> orders = new LinkedHashMap<>();
+
+        /**
+         * {@code orderIds} is instance that memorizes the identifiers of the orders, to pick them randomly
+         */
+        private final ArrayList<String> orderIds = new ArrayList<>();
+
+        /**
+         * Constructor to init a {@link ReferenceBook}
+         *
+         * @param random: random used to generate the updates
+         */
+        private ReferenceBook(Random random) {
+            this.random = random;
+        }
+
+        /**
+         * Method to open a random order <br>
+         * No-any params required
+         *
+         * @return identifier of the order as {@link String}
+         */
+        private String open() {
+            boolean bid = random.nextBoolean();
+            double price = bid ? 100 - random.nextInt(200) * 0.5 : 100.5 + random.nextInt(200) * 0.5;
+            String orderId = new UUID(random.nextLong(), random.nextLong()).toString();
+            double[] order = {bid ? 1 : 0, price, (1 + random.nextInt(1000)) / 1000.0};
+            orders.put(orderId, order);
+            orderIds.add(orderId);
+            side(bid).computeIfAbsent(price, key -> new LinkedHashMap<>()).put(orderId, order);
+            return orderId;
+        }
+
+        /**
+         * Method to remove an order
+         *
+         * @param orderId: order to remove
+         */
+        private void remove(String orderId) {
+            double[] order = orders.remove(orderId);
+            orderIds.remove(orderId);
+            TreeMap<Double, LinkedHashMap<String, double[]>> side = side(order[0] == 1);
+            LinkedHashMap<String, double[]> queue = side.get(order[1]);
+            queue.remove(orderId);
+            if (queue.isEmpty())
+                side.remove(order[1]);
+        }
+
+        /**
+         * Method to generate a random update and apply it to the reference
+         *
+         * @param sequence: sequence of the update
+         * @return update as {@link L3Update}
+         */
+        private L3Update nextUpdate(long sequence) {
+            int kind = random.nextInt(10);
+            if (kind < 4 || orders.size() < 100) {
+                String orderId = open();
+                double[] order = orders.get(orderId);
+                return update(open, sequence, orderId, order[0] == 1, order[1], order[2]);
+            }
+            if (kind < 5)
+                return update(received, sequence, new UUID(random.nextLong(), 0).toString(), true, 100, 1);
+            String orderId = orderIds.get(random.nextInt(orderIds.size()));
+            double[] order = orders.get(orderId);
+            boolean bid = order[0] == 1;
+            if (kind < 7) {
+                remove(orderId);
+                return update(done, sequence, orderId, bid, order[1], 0);
+            }
+            if (kind < 8) {
+                order[2] = Math.max(0.001, order[2] / 2);
+                return update(change, sequence, orderId, bid, order[1], order[2]);
+            }
+            // the first order of the best level of the side is matched
+            Map.Entry<String, double[]> maker = side(bid).firstEntry().getValue().entrySet().iterator().next();
+            double[] makerOrder = maker.getValue();
+            double size = random.nextBoolean() ? makerOrder[2] : makerOrder[2] / 3;
+            makerOrder[2] -= size;
+            if (makerOrder[2] <= 0)
+                remove(maker.getKey());
+            return update(match, sequence, maker.getKey(), bid, makerOrder[1], size);
+        }
+
+        /**
+         * Method to create the snapshot of the reference
+         *
+         * @param sequence: sequence of the snapshot
+         * @return snapshot as {@link CompactBook}
+         */
+        private CompactBook snapshot(long sequence) {
+            StringBuilder snapshot = new StringBuilder("{\"sequence\":" + sequence + ",\"bids\":[");
+            appendSide(snapshot, bids);
+            snapshot.append("],\"asks\":[");
+            appendSide(snapshot, asks);
+            return CompactBook.parse(PRODUCT_ID, snapshot.append("]}").toString());
+        }
+
+        /**
+         * Method to append the orders of a side to a snapshot
+         *
+         * @param snapshot: snapshot where append the orders
+         * @param side:     side to append
+         */
+        private void appendSide(StringBuilder snapshot, TreeMap<Double, LinkedHashMap<String, double[]>> side) {
+            boolean first = true;
+            for (LinkedHashMap<String, double[]> queue : side.values()) {
+                for (Map.Entry<String, double[]> order : queue.entrySet()) {
+                    if (!first)
+                        snapshot.append(',');
+                    first = false;
+                    snapshot.append("[\"").append(order.getValue()[1]).append("\",\"").append(order.getValue()[2])
+                            .append("\",\"").append(order.getKey()).append("\"]");
+                }
+            }
+        }
+
+        /**
+         * Method to verify that a book has the same orders, levels and queues of the reference
+         *
+         * @param book: book to verify
+         */
+        private void verify(L3OrderBook book) {
+            assertEquals(orders.size(), book.getOrders());
+            assertEquals(bids.size(), book.getBidLevels());
+            assertEquals(asks.size(), book.getAskLevels());
+            assertEquals(bids.firstKey(), book.getBestBid());
+            assertEquals(asks.firstKey(), book.getBestAsk());
+            int level = 0;
+            for (Map.Entry<Double, LinkedHashMap<String, double[]>> queue : bids.entrySet()) {
+                assertEquals(queue.getKey(), book.getBidPrice(level));
+                assertEquals(queue.getValue().size(), book.getBidOrders(level));
+                double sizeAhead = 0;
+                int ordersAhead = 0;
+                for (Map.Entry<String, double[]> order : queue.getValue().entrySet()) {
+                    assertEquals(order.getValue()[2], book.getOrderSize(order.getKey()));
+                    assertEquals(sizeAhead, book.getSizeAhead(order.getKey()), 1e-9);
+                    assertEquals(ordersAhead++, book.getOrdersAhead(order.getKey()));
+                    sizeAhead += order.getValue()[2];
+                }
+                assertEquals(sizeAhead, book.getBidSize(level++), 1e-9);
+            }
+            level = 0;
+            for (Map.Entry<Double, LinkedHashMap<String, double[]>> queue : asks.entrySet()) {
+                assertEquals(queue.getKey(), book.getAskPrice(level));
+                assertEquals(queue.getValue().size(), book.getAskOrders(level));
+                double size = 0;
+                for (double[] order : queue.getValue().values())
+                    size += order[2];
+                assertEquals(size, book.getAskSize(level++), 1e-9);
+            }
+        }
+
+        /**
+         * Method to get a side of the reference
+         *
+         * @param bid: whether get the bids or the asks
+         * @return side as {@link TreeMap}
+         */
+        private TreeMap<Double, LinkedHashMap<String, double[]>> side(boolean bid) {
+            return bid ? bids : asks;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.tecknobit.coinbasemanager.exchangepro.books;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code OrderIdIndexTest} class is useful to test the open addressing of the {@link OrderIdIndex}, with the
+ * backward-shift deletion of its entries
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class OrderIdIndexTest {
+
+    /**
+     * Method to test that the entries which follow a removed one are still found <br>
+     * No-any params required
+     */
+    @Test
+    public void removeShiftsBackTheCluster() {
+        OrderIdIndex index = new OrderIdIndex();
+        // near the max load, so the entries are in long clusters, also wrapping around the end of the table
+        int orders = 511;
+        for (int j = 0; j < orders; j++)
+            index.put(0, j, j);
+        for (int j = 0; j < orders; j += 3)
+            assertEquals(j, index.remove(0, j));
+        for (int j = 0; j < orders; j++)
+            assertEquals(j % 3 == 0 ? -1 : j, index.get(0, j), "order " + j);
+        assertEquals(orders - (orders + 2) / 3, index.size());
+        for (int j = 0; j < orders; j++)
+            index.remove(0, j);
+        assertEquals(0, index.size());
+        for (int j = 0; j < orders; j++)
+            assertEquals(-1, index.get(0, j));
+    }
+
+    /**
+     * Method to test the index against a {@link HashMap} with random puts and removes <br>
+     * No-any params required
+     */
+    @Test
+    public void matchesHashMap() {
+        OrderIdIndex index = new OrderIdIndex();
+        HashMap<UUID, Integer> reference = new HashMap<>();
+        ArrayList<UUID> keys = new ArrayList<>();
+        Random random = new Random(7);
+        for (int j = 0; j < 300_000; j++) {
+            if (random.nextInt(3) < 2 || keys.isEmpty()) {
+                // few distinct bits, so many identifiers are put again
+                UUID key = new UUID(random.nextLong() & 0xFFFF, random.nextLong() & 0xFF);
+                int slot = random.nextInt(1 << 20);
+                if (reference.put(key, slot) == null)
+                    keys.add(key);
+                index.put(key.getMostSignificantBits(), key.getLeastSignificantBits(), slot);
+            } else {
+                int k = random.nextInt(keys.size());
+                UUID key = keys.get(k);
+                keys.set(k, keys.get(keys.size() - 1));
+                keys.remove(keys.size() - 1);
+                long high = key.getMostSignificantBits();
+                long low = key.getLeastSignificantBits();
+                assertEquals(reference.remove(key), index.remove(high, low));
+                assertEquals(-1, index.remove(high, low));
+            }
+            if (j % 50_000 == 0) {
+                reference.forEach((key, slot) -> assertEquals(slot,
+                        index.get(key.getMostSignificantBits(), key.getLeastSignificantBits())));
+                assertEquals(reference.size(), index.size());
+            }
+        }
+    }
+
+    /**
+     * Method to test that the table grows keeping the entries <br>
+     * No-any params required
+     */
+    @Test
+    public void growsKeepingTheEntries() {
+        OrderIdIndex index = new OrderIdIndex();
+        for (int j = 0; j < 10_000; j++)
+            index.put(j, -j, j);
+        assertEquals(10_000, index.size());
+        for (int j = 0; j < 10_000; j++)
+            assertEquals(j, index.get(j, -j));
+        index.clear(10);
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(1, -1));
+    }
+
+    /**
+     * Method to test the parsing of the identifiers <br>
+     * No-any params required
+     */
+    @Test
+    public void identifiersAreParsed() {
+        UUID orderId = UUID.fromString("d50ec984-77a8-460a-b958-66f114b0de9b");
+        assertEquals(orderId.getMostSignificantBits(), OrderIdIndex.high(orderId.toString()));
+        assertEquals(orderId.getLeastSignificantBits(), OrderIdIndex.low(orderId.toString()));
+        assertEquals(orderId.getMostSignificantBits(), OrderIdIndex.high(orderId.toString().toUpperCase()));
+        assertThrows(IllegalArgumentException.class, () -> OrderIdIndex.high("d50ec984"));
+        assertThrows(IllegalArgumentException.class, () -> OrderIdIndex.high("z50ec984-77a8-460a-b958-66f114b0de9b"));
+    }
+
+}
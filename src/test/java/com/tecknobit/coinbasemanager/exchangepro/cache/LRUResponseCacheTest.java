@@ -0,0 +1,149 @@
+package com.tecknobit.coinbasemanager.exchangepro.cache;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code LRUResponseCacheTest} class is useful to test the expiration and the eviction of the responses of the
+ * {@link LRUResponseCache}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class LRUResponseCacheTest {
+
+    /**
+     * {@code TTL} is constant for the time to live in millis of the responses which do not expire during a test
+     */
+    private static final long TTL = 60_000;
+
+    /**
+     * Method to test that a response is served until it expires <br>
+     * No-any params required
+     */
+    @Test
+    public void responsesExpireAfterTheirTtl() throws InterruptedException {
+        LRUResponseCache cache = new LRUResponseCache();
+        CoinbaseResponse response = response("/products");
+        cache.put("/products", response, 50);
+        assertSame(response, cache.get("/products"));
+        TimeUnit.MILLISECONDS.sleep(80);
+        assertNull(cache.get("/products"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getExpirations());
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Method to test that the responses without a time to live are not cached <br>
+     * No-any params required
+     */
+    @Test
+    public void responsesWithoutTtlAreNotCached() {
+        LRUResponseCache cache = new LRUResponseCache();
+        cache.put("/products", response("/products"), 0);
+        cache.put("/currencies", response("/currencies"), -1);
+        assertEquals(0, cache.size());
+        assertNull(cache.get("/products"));
+    }
+
+    /**
+     * Method to test that the least recently used response is evicted when the cache is full <br>
+     * No-any params required
+     */
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        LRUResponseCache cache = new LRUResponseCache(2);
+        cache.put("/products", response("/products"), TTL);
+        cache.put("/currencies", response("/currencies"), TTL);
+        // the access makes /products the most recently used
+        assertNotNull(cache.get("/products"));
+        cache.put("/fees", response("/fees"), TTL);
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("/products"));
+        assertNull(cache.get("/currencies"));
+        assertNotNull(cache.get("/fees"));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    /**
+     * Method to test that a response cached again replaces the previous one <br>
+     * No-any params required
+     */
+    @Test
+    public void putReplacesTheResponse() {
+        LRUResponseCache cache = new LRUResponseCache(2);
+        cache.put("/products", response("/products"), TTL);
+        CoinbaseResponse response = response("/products");
+        cache.put("/products", response, TTL);
+        assertEquals(1, cache.size());
+        assertSame(response, cache.get("/products"));
+        assertEquals(0, cache.getEvictions());
+    }
+
+    /**
+     * Method to test the invalidation of the responses cached <br>
+     * No-any params required
+     */
+    @Test
+    public void responsesAreInvalidated() {
+        LRUResponseCache cache = new LRUResponseCache();
+        cache.put("/products", response("/products"), TTL);
+        cache.put("/products/BTC-USD", response("/products/BTC-USD"), TTL);
+        cache.put("/currencies", response("/currencies"), TTL);
+        cache.put("/fees", response("/fees"), TTL);
+        cache.invalidate("/fees");
+        assertNull(cache.get("/fees"));
+        cache.invalidatePrefix("/products");
+        assertNull(cache.get("/products"));
+        assertNull(cache.get("/products/BTC-USD"));
+        assertNotNull(cache.get("/currencies"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Method to test the ratio of the responses served by the cache <br>
+     * No-any params required
+     */
+    @Test
+    public void hitRatioIsComputed() {
+        LRUResponseCache cache = new LRUResponseCache();
+        cache.put("/products", response("/products"), TTL);
+        for (int j = 0; j < 3; j++)
+            cache.get("/products");
+        cache.get("/currencies");
+        assertEquals(0.75, cache.getHitRatio(), 1e-9);
+        cache.resetCounters();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    /**
+     * Method to test that a cache needs at least an entry <br>
+     * No-any params required
+     */
+    @Test
+    public void maxEntriesMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new LRUResponseCache(0));
+    }
+
+    /**
+     * Method to create a response
+     *
+     * @param endpoint: endpoint of the response
+     * @return response as {@link CoinbaseResponse}
+     */
+    private static CoinbaseResponse response(String endpoint) {
+        CoinbaseRequest request = new CoinbaseRequest(GET, endpoint, null, "1690000000", Map.of());
+        return new CoinbaseResponse(request, 200, "[]", System.currentTimeMillis(), 0);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.tecknobit.coinbasemanager.exchangepro.clock;
+
+import com.tecknobit.coinbasemanager.exchangepro.CoinbaseManager;
+import com.tecknobit.coinbasemanager.exchangepro.fake.FakeCoinbaseExchange;
+import com.tecknobit.coinbasemanager.exchangepro.products.CoinbaseProductsManager;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code ClockSkewEstimatorTest} class is useful to test the samples of the {@link ClockSkewEstimator} and its
+ * sharing between different managers
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class ClockSkewEstimatorTest {
+
+    /**
+     * {@code CLOCK_OFFSET} is constant for the offset in millis of the clock of the exchange
+     */
+    private static final long CLOCK_OFFSET = 40_000;
+
+    /**
+     * Method to test that the samples discarded for their slow round-trip are not counted as failed <br>
+     * No-any params required
+     */
+    @Test
+    public void slowSamplesAreDiscardedNotFailed() throws Exception {
+        try (FakeCoinbaseExchange exchange = new FakeCoinbaseExchange().start()) {
+            ClockSkewEstimator estimator = new ClockSkewEstimator(exchange.createTransport());
+            assertTrue(estimator.addSample(1_000_020, 1_000_000, 1_000_010));
+            assertFalse(estimator.addSample(2_000_000, 1_000_000, 1_010_000));
+            assertEquals(1, estimator.getSamples());
+            assertEquals(1, estimator.getDiscardedSamples());
+            assertEquals(0, estimator.getFailedSamples());
+            exchange.close();
+            assertThrows(Exception.class, estimator::sample);
+            assertEquals(1, estimator.getFailedSamples());
+            assertEquals(1, estimator.getDiscardedSamples());
+        }
+    }
+
+    /**
+     * Method to test that the estimator of a manager samples through the current transport of the manager <br>
+     * No-any params required
+     */
+    @Test
+    public void samplesFollowTheTransportOfTheManager() throws Exception {
+        try (FakeCoinbaseExchange firstExchange = new FakeCoinbaseExchange().start();
+             FakeCoinbaseExchange secondExchange = new FakeCoinbaseExchange().start()) {
+            secondExchange.setClockOffset(CLOCK_OFFSET);
+            CoinbaseManager manager = manager(firstExchange);
+            manager.setClockSkewTracking(true);
+            ClockSkewEstimator estimator = manager.getClockSkewEstimator();
+            try {
+                manager.setTransport(secondExchange.createTransport());
+                long requests = secondExchange.getRequests();
+                assertTrue(estimator.sample());
+                assertTrue(secondExchange.getRequests() > requests);
+                // the offset is smoothed, so it only moves toward the clock of the second exchange
+                assertTrue(estimator.getOffset() > CLOCK_OFFSET / 10, "offset " + estimator.getOffset());
+            } finally {
+                manager.setClockSkewTracking(false);
+            }
+        }
+    }
+
+    /**
+     * Method to test that an estimator shared between managers keeps sampling until the last manager releases it
+     * <br>
+     * No-any params required
+     */
+    @Test
+    public void sharedEstimatorStopsWithTheLastManager() throws Exception {
+        try (FakeCoinbaseExchange exchange = new FakeCoinbaseExchange().start();
+             ClockSkewEstimator estimator = new ClockSkewEstimator(exchange.createTransport())) {
+            estimator.start();
+            CoinbaseManager firstManager = manager(exchange);
+            CoinbaseManager secondManager = manager(exchange);
+            firstManager.setClockSkewEstimator(estimator);
+            firstManager.setClockSkewEstimator(estimator);
+            secondManager.setClockSkewEstimator(estimator);
+            assertEquals(2, estimator.getUsers());
+            firstManager.setClockSkewTracking(false);
+            assertNull(firstManager.getClockSkewEstimator());
+            assertTrue(estimator.isStarted());
+            secondManager.setClockSkewTracking(true);
+            assertSame(estimator, secondManager.getClockSkewEstimator());
+            secondManager.setClockSkewTracking(false);
+            assertFalse(estimator.isStarted());
+            assertEquals(0, estimator.getUsers());
+        }
+    }
+
+    /**
+     * Method to create a manager which sends its requests to an exchange
+     *
+     * @param exchange: exchange of the requests
+     * @return manager as {@link CoinbaseManager}
+     */
+    private static CoinbaseManager manager(FakeCoinbaseExchange exchange) {
+        CoinbaseManager manager = new CoinbaseProductsManager("clock-key", Base64.getEncoder()
+                .encodeToString("clock-secret".getBytes(StandardCharsets.UTF_8)), "clock-passphrase");
+        manager.setTransport(exchange.createTransport());
+        return manager;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.tecknobit.coinbasemanager.exchangepro.credentials;
+
+import com.tecknobit.coinbasemanager.exchangepro.credentials.CredentialsPool.Routing;
+import com.tecknobit.coinbasemanager.exchangepro.ratelimit.CoinbaseRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CredentialsPoolTest} class is useful to test the routing of the requests between the api keys of a
+ * {@link CredentialsPool}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CredentialsPoolTest {
+
+    /**
+     * Method to test that the requests are routed in turn to the api keys of the same profile <br>
+     * No-any params required
+     */
+    @Test
+    public void roundRobinRoutesEachKeyInTurn() {
+        CredentialsPool pool = new CredentialsPool(Routing.ROUND_ROBIN, credentials("first", "profile"),
+                credentials("second", "profile"), credentials("third", "profile"));
+        for (int j = 0; j < 6; j++)
+            assertEquals(pool.getCredentials().get(j % 3), pool.select("anotherProfile"));
+        assertEquals(2, pool.getRoutedRequests("first"));
+        assertEquals(2, pool.getRoutedRequests("second"));
+        assertEquals(2, pool.getRoutedRequests("third"));
+    }
+
+    /**
+     * Method to test that the api keys of different profiles cannot be routed in turn <br>
+     * No-any params required
+     */
+    @Test
+    public void roundRobinRejectsDifferentProfiles() {
+        assertThrows(IllegalArgumentException.class, () -> new CredentialsPool(Routing.ROUND_ROBIN,
+                credentials("first", "firstProfile"), credentials("second", "secondProfile")));
+        assertThrows(IllegalArgumentException.class, () -> new CredentialsPool(Routing.ROUND_ROBIN,
+                credentials("first", null), credentials("second", "profile")));
+    }
+
+    /**
+     * Method to test that the requests of a profile are routed in turn only to the api keys of that profile <br>
+     * No-any params required
+     */
+    @Test
+    public void profileAffinityStaysInTheProfile() {
+        CredentialsPool pool = new CredentialsPool(Routing.PROFILE_AFFINITY, credentials("first", "firstProfile"),
+                credentials("second", "secondProfile"), credentials("third", "firstProfile"));
+        for (int j = 0; j < 4; j++) {
+            assertEquals("firstProfile", pool.select("firstProfile").getProfileId());
+            assertEquals("second", pool.select("secondProfile").getApiKey());
+        }
+        assertEquals(2, pool.getRoutedRequests("first"));
+        assertEquals(4, pool.getRoutedRequests("second"));
+        assertEquals(2, pool.getRoutedRequests("third"));
+    }
+
+    /**
+     * Method to test that the requests without a profile use the first api key and the requests of a profile
+     * without api keys are rejected <br>
+     * No-any params required
+     */
+    @Test
+    public void profileAffinityNeverSpreadsOverTheProfiles() {
+        CredentialsPool pool = new CredentialsPool(Routing.PROFILE_AFFINITY, credentials("first", "firstProfile"),
+                credentials("second", "secondProfile"));
+        for (int j = 0; j < 3; j++)
+            assertEquals("first", pool.select(null).getApiKey());
+        assertThrows(IllegalArgumentException.class, () -> pool.select("unknownProfile"));
+        assertEquals(3, pool.getRoutedRequests("first"));
+        assertEquals(0, pool.getRoutedRequests("second"));
+    }
+
+    /**
+     * Method to test that the profile of a request is read from its query or from its payload <br>
+     * No-any params required
+     */
+    @Test
+    public void profileIdIsReadFromTheRequest() {
+        assertEquals("profile", CredentialsPool.getProfileId("/orders?product_id=BTC-USD&profile_id=profile", null));
+        assertEquals("profile", CredentialsPool.getProfileId("/orders", "{\"profile_id\":\"profile\"}"));
+        assertNull(CredentialsPool.getProfileId("/orders?not_profile_id=profile", null));
+        assertNull(CredentialsPool.getProfileId("/orders", "[\"profile_id\"]"));
+    }
+
+    /**
+     * Method to create the credentials of an api key
+     *
+     * @param apiKey:    api key of the credentials
+     * @param profileId: identifier of the profile of the api key, {@code null} if not specified
+     * @return credentials of the api key as {@link CoinbaseCredentials}
+     */
+    private static CoinbaseCredentials credentials(String apiKey, String profileId) {
+        String apiSecret = Base64.getEncoder().encodeToString(apiKey.getBytes(StandardCharsets.UTF_8));
+        return new CoinbaseCredentials(apiKey, apiSecret, "passphrase", profileId, CoinbaseRateLimiter.unlimited());
+    }
+
+}
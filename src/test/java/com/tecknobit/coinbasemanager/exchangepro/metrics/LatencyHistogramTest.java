@@ -0,0 +1,124 @@
+package com.tecknobit.coinbasemanager.exchangepro.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.tecknobit.coinbasemanager.exchangepro.metrics.LatencyHistogram.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code LatencyHistogramTest} class is useful to test the buckets and the percentiles of the
+ * {@link LatencyHistogram}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Method to test that the small values have a bucket each one <br>
+     * No-any params required
+     */
+    @Test
+    public void smallValuesAreExact() {
+        for (int value = 0; value < SUB_BUCKETS; value++) {
+            assertEquals(value, getBucketIndex(value));
+            assertEquals(value, getBucketValue(value));
+        }
+    }
+
+    /**
+     * Method to test that the buckets are contiguous, each one starts after the highest value of the previous one <br>
+     * No-any params required
+     */
+    @Test
+    public void bucketsAreContiguous() {
+        for (int index = 0; index < BUCKETS - 1; index++) {
+            long highest = getBucketValue(index);
+            assertEquals(index, getBucketIndex(highest), "highest value of bucket " + index);
+            assertEquals(index + 1, getBucketIndex(highest + 1), "first value after bucket " + index);
+        }
+        assertEquals(BUCKETS - 1, getBucketIndex(MAX_VALUE));
+        assertEquals(MAX_VALUE, getBucketValue(BUCKETS - 1));
+    }
+
+    /**
+     * Method to test that the relative error of a bucket is bounded by its sub-buckets <br>
+     * No-any params required
+     */
+    @Test
+    public void relativeErrorIsBounded() {
+        Random random = new Random(42);
+        for (int j = 0; j < 100_000; j++) {
+            long value = random.nextLong() & MAX_VALUE;
+            long highest = getBucketValue(getBucketIndex(value));
+            assertTrue(highest >= value, "bucket of " + value + " ends at " + highest);
+            assertTrue(highest - value <= value / SUB_BUCKETS, "bucket of " + value + " ends at " + highest);
+        }
+    }
+
+    /**
+     * Method to test the percentiles of the values recorded <br>
+     * No-any params required
+     */
+    @Test
+    public void percentilesAreWithinTheBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++)
+            histogram.record(value * 1000);
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000_000, snapshot.getMax());
+        assertEquals(5_000_500, snapshot.getMean(), 1e-6);
+        assertWithinError(5_000_000, snapshot.getP50());
+        assertWithinError(9_000_000, snapshot.getP90());
+        assertWithinError(9_900_000, snapshot.getP99());
+        assertWithinError(9_990_000, snapshot.getP999());
+        assertEquals(snapshot.getMax(), snapshot.getValueAtPercentile(100));
+        assertWithinError(1000, snapshot.getValueAtPercentile(0));
+    }
+
+    /**
+     * Method to test that the values out of range are clamped <br>
+     * No-any params required
+     */
+    @Test
+    public void valuesOutOfRangeAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(MAX_VALUE, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtPercentile(50));
+        assertEquals(MAX_VALUE, snapshot.getValueAtPercentile(100));
+    }
+
+    /**
+     * Method to test an empty histogram and its reset <br>
+     * No-any params required
+     */
+    @Test
+    public void resetEmptiesTheHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1234);
+        histogram.reset();
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getP99());
+    }
+
+    /**
+     * Method to assert that a value read from a bucket is the expected one within the error of the bucket
+     *
+     * @param expected: expected value
+     * @param actual:   value read from the histogram
+     */
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / SUB_BUCKETS,
+                "expected " + expected + " within the bucket error, was " + actual);
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.tecknobit.coinbasemanager.exchangepro.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TokenBucketTest} class is useful to test the burst and the refill of the {@link TokenBucket}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class TokenBucketTest {
+
+    /**
+     * {@code TOLERANCE} is constant for the tolerance in nanos of the waits computed, for the time elapsed between
+     * the reservations of a test
+     */
+    private static final long TOLERANCE = TimeUnit.MILLISECONDS.toNanos(20);
+
+    /**
+     * Method to test that the burst is served without waiting <br>
+     * No-any params required
+     */
+    @Test
+    public void burstIsServedImmediately() {
+        TokenBucket bucket = new TokenBucket(10, 5);
+        for (int j = 0; j < 5; j++)
+            assertEquals(0, bucket.reserve(), "token " + j);
+        assertEquals(5, bucket.getAcquiredCount());
+        assertEquals(0, bucket.getThrottledCount());
+    }
+
+    /**
+     * Method to test that the tokens after the burst wait the refill, one after another <br>
+     * No-any params required
+     */
+    @Test
+    public void tokensAfterBurstWaitTheRefill() {
+        TokenBucket bucket = new TokenBucket(10, 2);
+        bucket.reserve();
+        bucket.reserve();
+        long firstWait = bucket.reserve();
+        long secondWait = bucket.reserve();
+        assertInRange(TimeUnit.MILLISECONDS.toNanos(100), firstWait);
+        assertInRange(TimeUnit.MILLISECONDS.toNanos(200), secondWait);
+        assertEquals(2, bucket.getThrottledCount());
+        assertEquals(firstWait + secondWait, bucket.getTotalWaitTime());
+        assertEquals(secondWait, bucket.getMaxWaitTime());
+    }
+
+    /**
+     * Method to test that the tokens are refilled with the time <br>
+     * No-any params required
+     */
+    @Test
+    public void tokensAreRefilled() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, 1);
+        assertEquals(0, bucket.reserve());
+        TimeUnit.MILLISECONDS.sleep(30);
+        assertEquals(0, bucket.reserve());
+    }
+
+    /**
+     * Method to test that the refill never stores more tokens than the burst <br>
+     * No-any params required
+     */
+    @Test
+    public void refillIsCappedByBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1000, 3);
+        TimeUnit.MILLISECONDS.sleep(50);
+        for (int j = 0; j < 3; j++)
+            assertEquals(0, bucket.reserve());
+        assertTrue(bucket.reserve() > 0);
+    }
+
+    /**
+     * Method to test that the requests acquired are paced at the rate <br>
+     * No-any params required
+     */
+    @Test
+    public void acquirePacesTheRequests() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(50, 1);
+        long start = System.nanoTime();
+        for (int j = 0; j < 6; j++)
+            bucket.acquire();
+        long elapsed = System.nanoTime() - start;
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(100) - TOLERANCE, "elapsed " + elapsed + " ns");
+    }
+
+    /**
+     * Method to test that a token given back serves the next request <br>
+     * No-any params required
+     */
+    @Test
+    public void releasedTokenServesTheNextRequest() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        assertEquals(0, bucket.reserve());
+        bucket.release();
+        assertEquals(0, bucket.reserve());
+        assertEquals(1, bucket.getAcquiredCount());
+        // a token given back never exceeds the burst
+        bucket.release();
+        bucket.release();
+        assertEquals(0, bucket.reserve());
+        assertTrue(bucket.reserve() > 0);
+    }
+
+    /**
+     * Method to test that the token of a thread interrupted while waiting is given back <br>
+     * No-any params required
+     */
+    @Test
+    public void interruptedAcquireGivesBackTheToken() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        bucket.reserve();
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, bucket::acquire);
+        // only the refill of the first token is waited
+        assertInRange(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve());
+    }
+
+    /**
+     * Method to test that an unlimited bucket never waits <br>
+     * No-any params required
+     */
+    @Test
+    public void unlimitedBucketNeverWaits() {
+        TokenBucket bucket = new TokenBucket(0, 0);
+        assertTrue(bucket.isUnlimited());
+        for (int j = 0; j < 1000; j++)
+            assertEquals(0, bucket.reserve());
+        assertEquals(1000, bucket.getAcquiredCount());
+        assertEquals(0, bucket.getThrottledCount());
+    }
+
+    /**
+     * Method to test that the metrics are reset <br>
+     * No-any params required
+     */
+    @Test
+    public void metricsAreReset() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        bucket.reserve();
+        bucket.reserve();
+        bucket.resetMetrics();
+        assertEquals(0, bucket.getAcquiredCount());
+        assertEquals(0, bucket.getThrottledCount());
+        assertEquals(0, bucket.getTotalWaitTime());
+        assertEquals(0, bucket.getMaxWaitTime());
+    }
+
+    /**
+     * Method to test that a limited bucket needs a burst <br>
+     * No-any params required
+     */
+    @Test
+    public void limitedBucketNeedsBurst() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 0));
+    }
+
+    /**
+     * Method to assert that a wait is the expected one, less the time elapsed during the test
+     *
+     * @param expected: expected wait in nanos
+     * @param actual:   actual wait in nanos
+     */
+    private static void assertInRange(long expected, long actual) {
+        assertTrue(actual <= expected && actual > expected - TOLERANCE,
+                "expected about " + expected + " ns, was " + actual + " ns");
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CoinbaseSignerTest} class is useful to test the signatures of the {@link CoinbaseSigner}, also when
+ * each request is signed by a different thread
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CoinbaseSignerTest {
+
+    /**
+     * {@code API_SECRET} is constant for the api secret of the signer tested
+     */
+    private static final String API_SECRET = Base64.getEncoder()
+            .encodeToString("signer-secret".getBytes(StandardCharsets.UTF_8));
+
+    /**
+     * {@code THREADS} is constant for the number of threads which sign a request each
+     */
+    private static final int THREADS = 200;
+
+    /**
+     * Method to test that the signatures match the ones computed with a new {@link Mac}, also when the data to sign
+     * has non-ASCII characters or is bigger than the initial buffer <br>
+     * No-any params required
+     */
+    @Test
+    public void signaturesMatchTheReference() throws Exception {
+        CoinbaseSigner signer = new CoinbaseSigner(API_SECRET);
+        assertEquals(sign("1700000000", "GET", "/products/BTC-USD/book?level=2", null),
+                signer.sign("1700000000", "GET", "/products/BTC-USD/book?level=2", null));
+        String body = "{\"client_oid\":\"ordine-è\"}";
+        assertEquals(sign("1700000001", "POST", "/orders", body), signer.sign("1700000001", "POST", "/orders", body));
+        String bigBody = "{\"size\":\"" + "1".repeat(4096) + "\"}";
+        assertEquals(sign("1700000002", "POST", "/orders", bigBody),
+                signer.sign("1700000002", "POST", "/orders", bigBody));
+        assertEquals(sign("1700000003", "GET", "/time", null), signer.sign("1700000003", "GET", "/time", null));
+    }
+
+    /**
+     * Method to test that the requests signed at the same time by many threads, each signing a single request,
+     * never share the data to sign <br>
+     * No-any params required
+     */
+    @Test
+    public void concurrentSignaturesNeverCrossRequests() throws Exception {
+        CoinbaseSigner signer = new CoinbaseSigner(API_SECRET);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int j = 0; j < THREADS; j++) {
+            String timestamp = String.valueOf(1700000000 + j);
+            String body = "{\"size\":\"" + j + "\"}";
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    assertEquals(sign(timestamp, "POST", "/orders", body),
+                            signer.sign(timestamp, "POST", "/orders", body));
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+        assertNull(failure.get());
+    }
+
+    /**
+     * Method to sign a request with a new {@link Mac}
+     *
+     * @param timestamp: timestamp in seconds of the request
+     * @param method:    method HTTP of the request
+     * @param endpoint:  endpoint of the request
+     * @param body:      body of the request, can be {@code null}
+     * @return signature of the request encoded in base64 as {@link String}
+     */
+    private static String sign(String timestamp, String method, String endpoint, String body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(API_SECRET), "HmacSHA256"));
+        String prehash = timestamp + method + endpoint + (body != null ? body : "");
+        return Base64.getEncoder().encodeToString(mac.doFinal(prehash.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.tecknobit.coinbasemanager.exchangepro.requests;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code RequestCoalescerTest} class is useful to test the sharing of the requests in flight of the
+ * {@link RequestCoalescer}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class RequestCoalescerTest {
+
+    /**
+     * {@code KEY} is constant for the key of the requests coalesced
+     */
+    private static final String KEY = "/products/BTC-USD/ticker";
+
+    /**
+     * Method to test that the same requests sent at the same time share a single request <br>
+     * No-any params required
+     */
+    @Test
+    public void sameRequestsShareTheRequestInFlight() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch answer = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CoinbaseResponse> first = executor.submit(() -> coalescer.execute(KEY, () -> {
+                calls.incrementAndGet();
+                sent.countDown();
+                answer.await();
+                return response();
+            }));
+            assertTrue(sent.await(10, TimeUnit.SECONDS));
+            Future<CoinbaseResponse> second = executor.submit(() -> coalescer.execute(KEY, () -> {
+                calls.incrementAndGet();
+                return response();
+            }));
+            while (coalescer.getCoalescedRequests() == 0)
+                TimeUnit.MILLISECONDS.sleep(1);
+            answer.countDown();
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.getSentRequests());
+        assertEquals(0, coalescer.getInFlightRequests());
+    }
+
+    /**
+     * Method to test that an error thrown by the request is shared with the threads waiting it and that the request
+     * does not stay in flight <br>
+     * No-any params required
+     */
+    @Test
+    public void errorsAreSharedAndCleared() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch answer = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CoinbaseResponse> first = executor.submit(() -> coalescer.execute(KEY, () -> {
+                sent.countDown();
+                answer.await();
+                throw new StackOverflowError();
+            }));
+            assertTrue(sent.await(10, TimeUnit.SECONDS));
+            Future<CoinbaseResponse> second = executor.submit(() -> coalescer.execute(KEY,
+                    RequestCoalescerTest::response));
+            while (coalescer.getCoalescedRequests() == 0)
+                TimeUnit.MILLISECONDS.sleep(1);
+            answer.countDown();
+            ExecutionException error = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, error.getCause());
+            error = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, error.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, coalescer.getInFlightRequests());
+        assertNotNull(coalescer.execute(KEY, RequestCoalescerTest::response));
+    }
+
+    /**
+     * Method to test that the same asynchronous requests share a single request and that a request which cannot
+     * be started does not stay in flight <br>
+     * No-any params required
+     */
+    @Test
+    public void asyncRequestsShareTheRequestInFlight() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        CompletableFuture<CoinbaseResponse> answer = new CompletableFuture<>();
+        CompletableFuture<CoinbaseResponse> first = coalescer.executeAsync(KEY, () -> answer);
+        CompletableFuture<CoinbaseResponse> second = coalescer.executeAsync(KEY, () -> {
+            throw new IllegalStateException("the request in flight must be shared");
+        });
+        assertEquals(1, coalescer.getInFlightRequests());
+        answer.complete(response());
+        assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        assertEquals(0, coalescer.getInFlightRequests());
+        CompletableFuture<CoinbaseResponse> failed = coalescer.executeAsync(KEY, () -> {
+            throw new StackOverflowError();
+        });
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, error.getCause());
+        assertEquals(0, coalescer.getInFlightRequests());
+    }
+
+    /**
+     * Method to create a successful response <br>
+     * No-any params required
+     *
+     * @return successful response as {@link CoinbaseResponse}
+     */
+    private static CoinbaseResponse response() {
+        return new CoinbaseResponse(null, 200, "{}", System.currentTimeMillis(), 0);
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.tecknobit.coinbasemanager.exchangepro.resilience;
+
+import com.tecknobit.coinbasemanager.exchangepro.resilience.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.coinbasemanager.exchangepro.resilience.CircuitBreaker.REJECTED;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code CircuitBreakerTest} class is useful to test the transitions between the states of the
+ * {@link CircuitBreaker}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class CircuitBreakerTest {
+
+    /**
+     * {@code OPEN_DURATION} is constant for the time in millis the circuits of the tests stay open
+     */
+    private static final long OPEN_DURATION = 50;
+
+    /**
+     * Method to test that the circuit opens after the consecutive failures of the threshold <br>
+     * No-any params required
+     */
+    @Test
+    public void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, OPEN_DURATION, 1);
+        for (int j = 0; j < 2; j++)
+            fail(breaker);
+        assertEquals(State.CLOSED, breaker.getState());
+        fail(breaker);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getOpenings());
+        assertEquals(REJECTED, breaker.tryAcquire());
+        assertEquals(REJECTED, breaker.tryAcquire());
+        assertEquals(2, breaker.getRejectedCalls());
+    }
+
+    /**
+     * Method to test that a success resets the consecutive failures <br>
+     * No-any params required
+     */
+    @Test
+    public void successResetsTheFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, OPEN_DURATION, 1);
+        fail(breaker);
+        fail(breaker);
+        succeed(breaker);
+        fail(breaker);
+        fail(breaker);
+        assertEquals(State.CLOSED, breaker.getState());
+        fail(breaker);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    /**
+     * Method to test that a successful probe closes the circuit <br>
+     * No-any params required
+     */
+    @Test
+    public void successfulProbeCloses() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker(1);
+        TimeUnit.MILLISECONDS.sleep(OPEN_DURATION + 20);
+        long probe = breaker.tryAcquire();
+        assertNotEquals(REJECTED, probe);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        // a single probe at a time
+        assertEquals(REJECTED, breaker.tryAcquire());
+        breaker.recordResult(probe, false);
+        assertEquals(State.CLOSED, breaker.getState());
+        assertNotEquals(REJECTED, breaker.tryAcquire());
+    }
+
+    /**
+     * Method to test that a failed probe opens again the circuit <br>
+     * No-any params required
+     */
+    @Test
+    public void failedProbeOpensAgain() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker(2);
+        TimeUnit.MILLISECONDS.sleep(OPEN_DURATION + 20);
+        long probe = breaker.tryAcquire();
+        long secondProbe = breaker.tryAcquire();
+        assertNotEquals(REJECTED, probe);
+        assertNotEquals(REJECTED, secondProbe);
+        assertEquals(REJECTED, breaker.tryAcquire());
+        breaker.recordResult(probe, true);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenings());
+        // the second probe ends after the opening
+        breaker.recordResult(secondProbe, false);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(REJECTED, breaker.tryAcquire());
+    }
+
+    /**
+     * Method to test that a probe not sent is given back <br>
+     * No-any params required
+     */
+    @Test
+    public void cancelGivesBackTheProbe() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker(1);
+        TimeUnit.MILLISECONDS.sleep(OPEN_DURATION + 20);
+        breaker.cancel(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertNotEquals(REJECTED, breaker.tryAcquire());
+    }
+
+    /**
+     * Method to test that the results of the requests sent before the opening do not change the state <br>
+     * No-any params required
+     */
+    @Test
+    public void lateResultsDoNotCloseTheCircuit() {
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_DURATION, 1);
+        long late = breaker.tryAcquire();
+        fail(breaker);
+        breaker.recordResult(late, false);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(REJECTED, breaker.tryAcquire());
+    }
+
+    /**
+     * Method to test that the results of the requests sent while closed are not taken as the result of the probe
+     * of the half-open circuit <br>
+     * No-any params required
+     */
+    @Test
+    public void lateResultsAreNotTakenAsProbes() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_DURATION, 1);
+        long late = breaker.tryAcquire();
+        fail(breaker);
+        TimeUnit.MILLISECONDS.sleep(OPEN_DURATION + 20);
+        long probe = breaker.tryAcquire();
+        assertNotEquals(REJECTED, probe);
+        breaker.recordResult(late, false);
+        breaker.cancel(late);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        // the probe is still in flight
+        assertEquals(REJECTED, breaker.tryAcquire());
+        breaker.recordResult(probe, false);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * Method to test that a reset closes the circuit <br>
+     * No-any params required
+     */
+    @Test
+    public void resetCloses() {
+        CircuitBreaker breaker = openedBreaker(1);
+        breaker.reset();
+        assertEquals(State.CLOSED, breaker.getState());
+        assertNotEquals(REJECTED, breaker.tryAcquire());
+    }
+
+    /**
+     * Method to test that the invalid values are rejected <br>
+     * No-any params required
+     */
+    @Test
+    public void invalidValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0, OPEN_DURATION, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(1, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(1, OPEN_DURATION, 0));
+    }
+
+    /**
+     * Method to create a circuit already opened
+     *
+     * @param halfOpenProbes: max number of probes while the circuit is half-open
+     * @return circuit opened as {@link CircuitBreaker}
+     */
+    private static CircuitBreaker openedBreaker(int halfOpenProbes) {
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_DURATION, halfOpenProbes);
+        fail(breaker);
+        assertEquals(State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    /**
+     * Method to send a request which fails
+     *
+     * @param breaker: circuit of the request
+     */
+    private static void fail(CircuitBreaker breaker) {
+        long permit = breaker.tryAcquire();
+        assertNotEquals(REJECTED, permit);
+        breaker.recordResult(permit, true);
+    }
+
+    /**
+     * Method to send a request which succeeds
+     *
+     * @param breaker: circuit of the request
+     */
+    private static void succeed(CircuitBreaker breaker) {
+        long permit = breaker.tryAcquire();
+        assertNotEquals(REJECTED, permit);
+        breaker.recordResult(permit, false);
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.tecknobit.coinbasemanager.exchangepro.retry;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequest;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseRequestException;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code RetryPolicyTest} class is useful to test the backoff and the retryable requests of the {@link RetryPolicy}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class RetryPolicyTest {
+
+    /**
+     * Method to test that the backoff doubles at each attempt until the max backoff <br>
+     * No-any params required
+     */
+    @Test
+    public void backoffDoublesUntilMaxBackoff() {
+        RetryPolicy policy = new RetryPolicy(6, 100, 1000, 0);
+        assertEquals(100, policy.getBackoff(0));
+        assertEquals(200, policy.getBackoff(1));
+        assertEquals(400, policy.getBackoff(2));
+        assertEquals(800, policy.getBackoff(3));
+        assertEquals(1000, policy.getBackoff(4));
+        assertEquals(1000, policy.getBackoff(5));
+        assertEquals(-1, policy.getBackoff(6));
+    }
+
+    /**
+     * Method to test that the backoff of the late attempts does not overflow <br>
+     * No-any params required
+     */
+    @Test
+    public void backoffDoesNotOverflow() {
+        RetryPolicy policy = new RetryPolicy(Integer.MAX_VALUE, 100, 2000, 0);
+        for (int attempt : new int[]{57, 58, 63, 64, 100, Integer.MAX_VALUE - 1})
+            assertEquals(2000, policy.getBackoff(attempt), "attempt " + attempt);
+    }
+
+    /**
+     * Method to test that the jitter randomizes only its fraction of the backoff <br>
+     * No-any params required
+     */
+    @Test
+    public void jitterKeepsBackoffInRange() {
+        RetryPolicy policy = new RetryPolicy(3, 100, 2000, 0.5);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int j = 0; j < 10_000; j++) {
+            long backoff = policy.getBackoff(1);
+            min = Math.min(min, backoff);
+            max = Math.max(max, backoff);
+        }
+        assertTrue(min >= 100 && max <= 200, "backoff out of [100, 200]: " + min + ", " + max);
+        assertTrue(max - min > 50, "the backoff has not been randomized");
+    }
+
+    /**
+     * Method to test that no attempt is retried without retries <br>
+     * No-any params required
+     */
+    @Test
+    public void noRetriesExhaustsImmediately() {
+        assertEquals(-1, RetryPolicy.noRetries().getBackoff(0));
+    }
+
+    /**
+     * Method to test that the invalid values are rejected <br>
+     * No-any params required
+     */
+    @Test
+    public void invalidValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(3, 500, 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(3, -1, 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(3, 100, 1000, 1.5));
+    }
+
+    /**
+     * Method to test which requests can be sent again without side effects <br>
+     * No-any params required
+     */
+    @Test
+    public void onlyIdempotentRequestsAreRetried() {
+        RetryPolicy policy = new RetryPolicy();
+        assertTrue(policy.isIdempotent(request(GET, null)));
+        assertTrue(policy.isIdempotent(request(DELETE, null)));
+        assertFalse(policy.isIdempotent(request(POST, "{\"product_id\":\"BTC-USD\"}")));
+        assertTrue(policy.isIdempotent(request(POST, "{\"client_oid\":\"c4a6b2e1\",\"size\":\"1\"}")));
+        assertFalse(policy.isIdempotent(request(POST, "{\"note\":\"client_oid\"}")));
+        assertFalse(policy.isIdempotent(request(PUT, "client_oid")));
+    }
+
+    /**
+     * Method to test which responses and errors are transient <br>
+     * No-any params required
+     */
+    @Test
+    public void onlyTransientFailuresAreRetryable() {
+        RetryPolicy policy = new RetryPolicy();
+        for (int statusCode : new int[]{429, 500, 502, 503, 504})
+            assertTrue(policy.isRetryable(response(statusCode)), "status " + statusCode);
+        for (int statusCode : new int[]{200, 400, 401, 404, 501})
+            assertFalse(policy.isRetryable(response(statusCode)), "status " + statusCode);
+        assertTrue(policy.isRetryable(new IOException("Connection reset")));
+        assertTrue(policy.isRetryable(new HttpTimeoutException("timed out")));
+        assertTrue(policy.isRetryable(new CoinbaseRequestException(response(503))));
+        assertFalse(policy.isRetryable(new CoinbaseRequestException(response(400))));
+        assertFalse(policy.isRetryable(new IllegalStateException()));
+    }
+
+    /**
+     * Method to test the counters of the retries of each endpoint <br>
+     * No-any params required
+     */
+    @Test
+    public void retriesAreCountedForEachEndpoint() {
+        RetryPolicy policy = new RetryPolicy();
+        policy.recordRetry("/products");
+        policy.recordRetry("/products");
+        policy.recordRetry("/orders");
+        policy.recordExhausted("/orders");
+        assertEquals(2, policy.getRetries("/products"));
+        assertEquals(Map.of("/products", 2L, "/orders", 1L), policy.getRetries());
+        assertEquals(Map.of("/orders", 1L), policy.getExhaustedRetries());
+        policy.resetCounters();
+        assertEquals(0, policy.getRetries("/products"));
+    }
+
+    /**
+     * Method to create a request
+     *
+     * @param method: method of the request
+     * @param body:   body of the request
+     * @return request as {@link CoinbaseRequest}
+     */
+    private static CoinbaseRequest request(RequestMethod method, String body) {
+        return new CoinbaseRequest(method, "/orders", body, "1690000000", Map.of());
+    }
+
+    /**
+     * Method to create a response
+     *
+     * @param statusCode: status code of the response
+     * @return response as {@link CoinbaseResponse}
+     */
+    private static CoinbaseResponse response(int statusCode) {
+        return new CoinbaseResponse(request(GET, null), statusCode, "{}", 0, 0);
+    }
+
+}
@@ -0,0 +1,726 @@
+package com.tecknobit.coinbasemanager.exchangepro.fake;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tecknobit.coinbasemanager.exchangepro.HttpClientTransport;
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseSigner;
+import org.json.JSONException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@code FakeCoinbaseExchange} class is useful to run in the same JVM a stand-in of the {@code "Coinbase Exchange"}
+ * api, so the managers can be exercised offline by the integration, throughput and latency tests
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the exchange listens on the loopback address and keeps its data in memory with the
+ * {@link FakeExchangeState}, the latency, the errors, the rate limits and the signatures checks can be configured while
+ * it is running. The {@code "sun.net.httpserver.nodelay"} property is enabled when this class is loaded, because
+ * with the Nagle's algorithm each response on the loopback waits the delayed acknowledgement of the client, about
+ * 40 millis, so it must be loaded before any other {@link HttpServer} of the JVM
+ * @see FakeExchangeState
+ */
+public class FakeCoinbaseExchange implements AutoCloseable {
+
+    static {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null)
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    /**
+     * {@code TIMESTAMP_TOLERANCE} is constant for the max distance in millis between the timestamp of a signed request
+     * and the clock of the exchange
+     */
+    public static final long TIMESTAMP_TOLERANCE = 30_000;
+
+    /**
+     * {@code COMPRESSION_THRESHOLD} is constant for the min number of bytes of a body to compress it
+     */
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    /**
+     * {@code Handler} interface is useful to create the response of a route
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Method to create the response of a request
+         *
+         * @param request: request received
+         * @return response of the request as {@link FakeResponse}
+         * @throws Exception when the request cannot be served, an {@link IllegalArgumentException} is sent as a
+         *                   {@code "400"} response with its message and a {@link NoSuchElementException} as a
+         *                   {@code "404"} response
+         */
+        FakeResponse handle(FakeRequest request) throws Exception;
+
+    }
+
+    /**
+     * {@code server} is instance used to receive the requests
+     */
+    private final HttpServer server;
+
+    /**
+     * {@code executor} is instance used to serve the requests
+     */
+    private final ExecutorService executor;
+
+    /**
+     * {@code routes} is instance that memorizes the routes served, in order of priority
+     */
+    private final CopyOnWriteArrayList<Route> routes = new CopyOnWriteArrayList<>();
+
+    /**
+     * {@code state} is instance that memorizes the data of the exchange
+     */
+    private final FakeExchangeState state;
+
+    /**
+     * {@code minLatency} is instance that memorizes the min latency in millis added to each response
+     */
+    private volatile long minLatency;
+
+    /**
+     * {@code maxLatency} is instance that memorizes the max latency in millis added to each response
+     */
+    private volatile long maxLatency;
+
+    /**
+     * {@code errorRate} is instance that memorizes the probability, from 0 to 1, that a request fails
+     */
+    private volatile double errorRate;
+
+    /**
+     * {@code errorStatusCode} is instance that memorizes the status code of the requests failed by the
+     * {@link #errorRate}
+     */
+    private volatile int errorStatusCode = 503;
+
+    /**
+     * {@code failingRequests} is instance that memorizes the number of next requests to fail
+     */
+    private final AtomicInteger failingRequests = new AtomicInteger();
+
+    /**
+     * {@code failingStatusCode} is instance that memorizes the status code of the next requests to fail
+     */
+    private volatile int failingStatusCode = 500;
+
+    /**
+     * {@code rateLimit} is instance that memorizes the rate limit of the requests, {@code null} if it is not enabled
+     */
+    private volatile RateLimit rateLimit;
+
+    /**
+     * {@code compression} is instance that memorizes whether the responses are compressed when the client accepts it
+     */
+    private volatile boolean compression;
+
+    /**
+     * {@code clockOffset} is instance that memorizes the offset in millis of the clock of the exchange from the
+     * clock of the JVM
+     */
+    private volatile long clockOffset;
+
+    /**
+     * {@code credentials} is instance that memorizes the credentials accepted, {@code null} to accept any signed
+     * request
+     */
+    private volatile Credentials credentials;
+
+    /**
+     * {@code requests} is instance that memorizes the number of requests received
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * {@code throttledRequests} is instance that memorizes the number of requests rejected by the {@link #rateLimit}
+     */
+    private final LongAdder throttledRequests = new LongAdder();
+
+    /**
+     * {@code injectedErrors} is instance that memorizes the number of errors injected
+     */
+    private final LongAdder injectedErrors = new LongAdder();
+
+    /**
+     * {@code unauthorizedRequests} is instance that memorizes the number of requests rejected for their signature
+     */
+    private final LongAdder unauthorizedRequests = new LongAdder();
+
+    /**
+     * Constructor to init a {@link FakeCoinbaseExchange} on a free port with the default data
+     *
+     * @throws IOException when the server cannot be created
+     */
+    public FakeCoinbaseExchange() throws IOException {
+        this(0, new FakeExchangeState());
+    }
+
+    /**
+     * Constructor to init a {@link FakeCoinbaseExchange}
+     *
+     * @param port:  port of the server, zero to use a free port
+     * @param state: data of the exchange
+     * @throws IOException when the server cannot be created
+     */
+    public FakeCoinbaseExchange(int port, FakeExchangeState state) throws IOException {
+        this.state = state;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-coinbase-exchange-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::serve);
+        addRoute("GET", "/time", false, request -> FakeResponse.ok(state.getTime(currentTimeMillis())));
+        state.install(this);
+    }
+
+    /**
+     * Method to start the exchange <br>
+     * No-any params required
+     *
+     * @return the exchange started as {@link FakeCoinbaseExchange}
+     */
+    public FakeCoinbaseExchange start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * Method to stop the exchange <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Method to add a route to the exchange, the routes added later are matched first so the default ones can be
+     * overridden
+     *
+     * @param method:        method HTTP of the route
+     * @param template:      template of the route es. /products/{product_id}/book
+     * @param authenticated: whether the requests must be signed
+     * @param handler:       handler of the requests
+     */
+    public void addRoute(String method, String template, boolean authenticated, Handler handler) {
+        routes.add(0, new Route(method, template, authenticated, handler));
+    }
+
+    /**
+     * Method to get the base url of the exchange <br>
+     * No-any params required
+     *
+     * @return base url of the exchange as {@link String} es. http://127.0.0.1:50123
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + getPort();
+    }
+
+    /**
+     * Method to get the port of the exchange <br>
+     * No-any params required
+     *
+     * @return port of the exchange as int
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Method to create a transport which sends the requests to this exchange <br>
+     * No-any params required
+     *
+     * @return transport as {@link HttpClientTransport}
+     * @implNote the transport uses {@code "HTTP/1.1"}, the {@link HttpServer} does not support the upgrade to
+     * {@code "HTTP/2"}
+     */
+    public HttpClientTransport createTransport() {
+        return new HttpClientTransport(getBaseUrl(), -1, HttpClient.Version.HTTP_1_1, compression);
+    }
+
+    /**
+     * Method to get {@link #state} instance <br>
+     * No-any params required
+     *
+     * @return {@link #state} instance as {@link FakeExchangeState}
+     */
+    public FakeExchangeState getState() {
+        return state;
+    }
+
+    /**
+     * Method to set the latency added to each response
+     *
+     * @param minLatency: min latency in millis
+     * @param maxLatency: max latency in millis, each response waits a random latency between the min and the max
+     */
+    public void setLatency(long minLatency, long maxLatency) {
+        if (minLatency < 0 || maxLatency < minLatency)
+            throw new IllegalArgumentException("The latency must be positive and the max cannot be less than the min");
+        this.minLatency = minLatency;
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * Method to set the probability that a request fails
+     *
+     * @param errorRate:  probability, from 0 to 1, that a request fails, zero to disable it
+     * @param statusCode: status code of the requests failed es. 503
+     */
+    public void setErrorRate(double errorRate, int statusCode) {
+        if (errorRate < 0 || errorRate > 1)
+            throw new IllegalArgumentException("The error rate must be between 0 and 1");
+        this.errorRate = errorRate;
+        errorStatusCode = statusCode;
+    }
+
+    /**
+     * Method to fail the next requests received
+     *
+     * @param requests:   number of next requests to fail
+     * @param statusCode: status code of the requests failed es. 500
+     */
+    public void failNextRequests(int requests, int statusCode) {
+        failingStatusCode = statusCode;
+        failingRequests.set(requests);
+    }
+
+    /**
+     * Method to set the rate limit of the requests, the requests over the limit are rejected with a {@code "429"}
+     * response as the {@code "Coinbase"} ones
+     *
+     * @param rate:  max number of requests per second, zero to disable the rate limit
+     * @param burst: max number of requests in a burst
+     */
+    public void setRateLimit(double rate, int burst) {
+        if (rate <= 0)
+            rateLimit = null;
+        else
+            rateLimit = new RateLimit(rate, burst);
+    }
+
+    /**
+     * Method to set whether the responses are compressed with {@code "gzip"} when the client accepts it
+     *
+     * @param compression: whether the responses are compressed
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Method to set the offset of the clock of the exchange from the clock of the JVM, used by the {@code "/time"}
+     * endpoint and to check the timestamps of the signed requests
+     *
+     * @param clockOffset: offset in millis of the clock of the exchange
+     */
+    public void setClockOffset(long clockOffset) {
+        this.clockOffset = clockOffset;
+    }
+
+    /**
+     * Method to set the credentials accepted, so the signatures of the requests are verified
+     *
+     * @param apiKey:     api key accepted
+     * @param apiSecret:  api secret used to verify the signatures
+     * @param passphrase: passphrase accepted
+     */
+    public void setCredentials(String apiKey, String apiSecret, String passphrase) {
+        credentials = new Credentials(apiKey, new CoinbaseSigner(apiSecret), passphrase);
+    }
+
+    /**
+     * Method to accept any signed request without verifying its signature <br>
+     * No-any params required
+     */
+    public void removeCredentials() {
+        credentials = null;
+    }
+
+    /**
+     * Method to get the current time of the exchange <br>
+     * No-any params required
+     *
+     * @return current time of the exchange in millis as long
+     */
+    public long currentTimeMillis() {
+        return System.currentTimeMillis() + clockOffset;
+    }
+
+    /**
+     * Method to get {@link #requests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requests} instance as long
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Method to get {@link #throttledRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #throttledRequests} instance as long
+     */
+    public long getThrottledRequests() {
+        return throttledRequests.sum();
+    }
+
+    /**
+     * Method to get {@link #injectedErrors} instance <br>
+     * No-any params required
+     *
+     * @return {@link #injectedErrors} instance as long
+     */
+    public long getInjectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    /**
+     * Method to get {@link #unauthorizedRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #unauthorizedRequests} instance as long
+     */
+    public long getUnauthorizedRequests() {
+        return unauthorizedRequests.sum();
+    }
+
+    /**
+     * Method to serve a request
+     *
+     * @param exchange: exchange of the request
+     */
+    private void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            FakeResponse response = process(exchange, body);
+            byte[] content = response.getBody().getBytes(StandardCharsets.UTF_8);
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("Content-Type", "application/json; charset=utf-8");
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (compression && content.length >= COMPRESSION_THRESHOLD && acceptEncoding != null
+                    && acceptEncoding.contains("gzip")) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(content);
+                }
+                content = compressed.toByteArray();
+                headers.set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(response.getStatusCode(), content.length == 0 ? -1 : content.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(content);
+            }
+        }
+    }
+
+    /**
+     * Method to process a request applying the rate limit, the latency, the errors injected and the signatures checks
+     *
+     * @param exchange: exchange of the request
+     * @param body:     body of the request
+     * @return response of the request as {@link FakeResponse}
+     */
+    private FakeResponse process(HttpExchange exchange, String body) {
+        RateLimit rateLimit = this.rateLimit;
+        if (rateLimit != null && !rateLimit.tryAcquire()) {
+            throttledRequests.increment();
+            return FakeResponse.error(429, "Rate limit exceeded");
+        }
+        long latency = minLatency;
+        if (maxLatency > latency)
+            latency = ThreadLocalRandom.current().nextLong(latency, maxLatency + 1);
+        if (latency > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return FakeResponse.error(503, "Service unavailable");
+            }
+        }
+        if (failingRequests.get() > 0 && failingRequests.getAndDecrement() > 0) {
+            injectedErrors.increment();
+            return FakeResponse.error(failingStatusCode, "Internal server error");
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.increment();
+            return FakeResponse.error(errorStatusCode, "Service unavailable");
+        }
+        String method = exchange.getRequestMethod();
+        String rawPath = exchange.getRequestURI().getRawPath();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        String[] segments = rawPath.replaceAll("/{2,}", "/").split("/");
+        for (Route route : routes) {
+            if (!route.method.equals(method))
+                continue;
+            HashMap<String, String> pathParams = route.match(segments);
+            if (pathParams == null)
+                continue;
+            if (route.authenticated) {
+                String requestPath = rawQuery == null ? rawPath : rawPath + "?" + rawQuery;
+                String error = authenticate(exchange.getRequestHeaders(), method, requestPath, body);
+                if (error != null) {
+                    unauthorizedRequests.increment();
+                    return FakeResponse.error(401, error);
+                }
+            }
+            try {
+                return route.handler.handle(new FakeRequest(method, rawPath, rawQuery, pathParams, body));
+            } catch (NoSuchElementException e) {
+                return FakeResponse.error(404, "NotFound");
+            } catch (IllegalArgumentException | JSONException e) {
+                return FakeResponse.error(400, e.getMessage());
+            } catch (Exception e) {
+                return FakeResponse.error(500, "Internal server error");
+            }
+        }
+        return FakeResponse.error(404, "NotFound");
+    }
+
+    /**
+     * Method to check the authentication headers of a request
+     *
+     * @param headers:     headers of the request
+     * @param method:      method HTTP of the request
+     * @param requestPath: path of the request with its query params
+     * @param body:        body of the request
+     * @return message of the authentication error as {@link String}, {@code null} if the request is authenticated
+     */
+    private String authenticate(Headers headers, String method, String requestPath, String body) {
+        String apiKey = headers.getFirst("CB-ACCESS-KEY");
+        String signature = headers.getFirst("CB-ACCESS-SIGN");
+        String timestamp = headers.getFirst("CB-ACCESS-TIMESTAMP");
+        String passphrase = headers.getFirst("CB-ACCESS-PASSPHRASE");
+        if (apiKey == null || apiKey.isEmpty())
+            return "CB-ACCESS-KEY header is required";
+        if (signature == null || signature.isEmpty())
+            return "CB-ACCESS-SIGN header is required";
+        if (timestamp == null || timestamp.isEmpty())
+            return "CB-ACCESS-TIMESTAMP header is required";
+        if (passphrase == null || passphrase.isEmpty())
+            return "CB-ACCESS-PASSPHRASE header is required";
+        Credentials credentials = this.credentials;
+        if (credentials == null)
+            return null;
+        if (!credentials.apiKey.equals(apiKey))
+            return "Invalid API Key";
+        if (!credentials.passphrase.equals(passphrase))
+            return "Invalid Passphrase";
+        try {
+            double seconds = Double.parseDouble(timestamp);
+            if (Math.abs(currentTimeMillis() - (long) (seconds * 1000)) > TIMESTAMP_TOLERANCE)
+                return "request timestamp expired";
+        } catch (NumberFormatException e) {
+            return "invalid timestamp";
+        }
+        String expected = credentials.signer.sign(timestamp, method, requestPath, body.isEmpty() ? null : body);
+        if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                signature.getBytes(StandardCharsets.UTF_8))) {
+            return "invalid signature";
+        }
+        return null;
+    }
+
+    /**
+     * The {@code Route} class is useful to match the requests of a template
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class Route {
+
+        /**
+         * {@code method} is instance that memorizes the method HTTP of the route
+         */
+        private final String method;
+
+        /**
+         * {@code segments} is instance that memorizes the segments of the template of the route
+         */
+        private final String[] segments;
+
+        /**
+         * {@code authenticated} is instance that memorizes whether the requests must be signed
+         */
+        private final boolean authenticated;
+
+        /**
+         * {@code handler} is instance that memorizes the handler of the requests
+         */
+        private final Handler handler;
+
+        /**
+         * Constructor to init a {@link Route}
+         *
+         * @param method:        method HTTP of the route
+         * @param template:      template of the route es. /products/{product_id}/book
+         * @param authenticated: whether the requests must be signed
+         * @param handler:       handler of the requests
+         */
+        private Route(String method, String template, boolean authenticated, Handler handler) {
+            this.method = method;
+            this.authenticated = authenticated;
+            this.handler = handler;
+            segments = template.split("/");
+        }
+
+        /**
+         * Method to match the segments of a path
+         *
+         * @param path: segments of the path to match
+         * @return values of the placeholders as {@link HashMap} of {@link String}, {@code null} if the path does
+         * not match
+         * @implNote a segment as {@code "client:{client_oid}"} matches the segments with the same prefix
+         */
+        private HashMap<String, String> match(String[] path) {
+            if (path.length != segments.length)
+                return null;
+            HashMap<String, String> params = new HashMap<>();
+            for (int j = 0; j < segments.length; j++) {
+                String segment = segments[j];
+                int placeholder = segment.indexOf('{');
+                if (placeholder < 0) {
+                    if (!segment.equals(path[j]))
+                        return null;
+                } else {
+                    String prefix = segment.substring(0, placeholder);
+                    if (!path[j].startsWith(prefix) || path[j].length() == prefix.length())
+                        return null;
+                    params.put(segment.substring(placeholder + 1, segment.length() - 1),
+                            path[j].substring(prefix.length()));
+                }
+            }
+            return params;
+        }
+
+    }
+
+    /**
+     * The {@code RateLimit} class is useful to reject the requests over a rate with a token bucket
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class RateLimit {
+
+        /**
+         * {@code rate} is instance that memorizes the number of tokens refilled per nano
+         */
+        private final double rate;
+
+        /**
+         * {@code burst} is instance that memorizes the max number of tokens
+         */
+        private final int burst;
+
+        /**
+         * {@code tokens} is instance that memorizes the number of tokens available
+         */
+        private double tokens;
+
+        /**
+         * {@code lastRefill} is instance that memorizes the time in nanos of the last refill
+         */
+        private long lastRefill;
+
+        /**
+         * Constructor to init a {@link RateLimit}
+         *
+         * @param rate:  max number of requests per second
+         * @param burst: max number of requests in a burst
+         */
+        private RateLimit(double rate, int burst) {
+            if (burst < 1)
+                throw new IllegalArgumentException("The burst value must be at least 1");
+            this.rate = rate / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            tokens = burst;
+            lastRefill = System.nanoTime();
+        }
+
+        /**
+         * Method to take a token if available <br>
+         * No-any params required
+         *
+         * @return whether the token has been taken as boolean
+         */
+        private synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefill) * rate);
+            lastRefill = now;
+            if (tokens < 1)
+                return false;
+            tokens--;
+            return true;
+        }
+
+    }
+
+    /**
+     * The {@code Credentials} class is useful to memorize the credentials accepted by the exchange
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class Credentials {
+
+        /**
+         * {@code apiKey} is instance that memorizes the api key accepted
+         */
+        private final String apiKey;
+
+        /**
+         * {@code signer} is instance used to verify the signatures
+         */
+        private final CoinbaseSigner signer;
+
+        /**
+         * {@code passphrase} is instance that memorizes the passphrase accepted
+         */
+        private final String passphrase;
+
+        /**
+         * Constructor to init a {@link Credentials}
+         *
+         * @param apiKey:     api key accepted
+         * @param signer:     signer used to verify the signatures
+         * @param passphrase: passphrase accepted
+         */
+        private Credentials(String apiKey, CoinbaseSigner signer, String passphrase) {
+            this.apiKey = apiKey;
+            this.signer = signer;
+            this.passphrase = passphrase;
+        }
+
+    }
+
+}
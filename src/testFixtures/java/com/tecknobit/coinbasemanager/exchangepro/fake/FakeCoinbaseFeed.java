@@ -0,0 +1,1227 @@
+package com.tecknobit.coinbasemanager.exchangepro.fake;
+
+import com.tecknobit.coinbasemanager.exchangepro.requests.CoinbaseSigner;
+import com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel.heartbeat;
+import static com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel.level2;
+import static com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel.level2_batch;
+import static com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel.matches;
+import static com.tecknobit.coinbasemanager.exchangepro.websocket.FeedChannel.ticker;
+
+/**
+ * The {@code FakeCoinbaseFeed} class is useful to run in the same JVM a stand-in of the {@code "Coinbase"} feed, so the
+ * {@link com.tecknobit.coinbasemanager.exchangepro.websocket.CoinbaseFeed} and the books built from its messages can be
+ * exercised offline by the integration tests and the benchmarks
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the feed listens on the loopback address with a minimal websocket server and generates for each product a
+ * random walk of trades and changes of its book at the {@link #messageRate} configured, with the same messages of the
+ * real feed: {@code "snapshot"} when the {@link FeedChannel#level2} channels are subscribed and then {@code "l2update"},
+ * {@code "match"}, {@code "ticker"} and a {@code "heartbeat"} every second. Each event increments the sequence of its
+ * product and sends exactly one {@code "l2update"}, so the updates of a book have consecutive sequences. The connections
+ * can be dropped, silenced and the updates skipped while it is running to test the reconnections and the gaps
+ */
+public class FakeCoinbaseFeed implements AutoCloseable {
+
+    /**
+     * {@code DEFAULT_MESSAGE_RATE} is constant for the default number of the events generated each second for each
+     * product
+     */
+    public static final double DEFAULT_MESSAGE_RATE = 100;
+
+    /**
+     * {@code DEFAULT_BOOK_DEPTH} is constant for the default number of the levels of each side of the books
+     */
+    public static final int DEFAULT_BOOK_DEPTH = 50;
+
+    /**
+     * {@code WEBSOCKET_GUID} is constant for the GUID used to accept the websocket handshakes
+     */
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    /**
+     * {@code TICK_PERIOD} is constant for the period in millis of the generation of the events
+     */
+    private static final long TICK_PERIOD = 10;
+
+    /**
+     * {@code HEARTBEAT_PERIOD} is constant for the period in millis of the heartbeats
+     */
+    private static final long HEARTBEAT_PERIOD = 1000;
+
+    /**
+     * {@code server} is instance used to accept the connections
+     */
+    private final ServerSocket server;
+
+    /**
+     * {@code executor} is instance used to serve the connections
+     */
+    private final ExecutorService executor;
+
+    /**
+     * {@code generator} is instance used to generate the events
+     */
+    private final ScheduledExecutorService generator;
+
+    /**
+     * {@code markets} is instance that memorizes the products of the feed
+     */
+    private final Map<String, Market> markets = Collections.synchronizedMap(new TreeMap<>());
+
+    /**
+     * {@code sessions} is instance that memorizes the connections opened
+     */
+    private final CopyOnWriteArrayList<Session> sessions = new CopyOnWriteArrayList<>();
+
+    /**
+     * {@code droppingUpdates} is instance that memorizes the number of the next {@code "l2update"} messages not to send
+     */
+    private final AtomicInteger droppingUpdates = new AtomicInteger();
+
+    /**
+     * {@code sentMessages} is instance that memorizes the number of the messages sent
+     */
+    private final LongAdder sentMessages = new LongAdder();
+
+    /**
+     * {@code droppedUpdates} is instance that memorizes the number of the {@code "l2update"} messages not sent
+     */
+    private final LongAdder droppedUpdates = new LongAdder();
+
+    /**
+     * {@code connections} is instance that memorizes the number of the connections accepted
+     */
+    private final LongAdder connections = new LongAdder();
+
+    /**
+     * {@code messageRate} is instance that memorizes the number of the events generated each second for each product
+     */
+    private volatile double messageRate = DEFAULT_MESSAGE_RATE;
+
+    /**
+     * {@code bookDepth} is instance that memorizes the number of the levels of each side of the books
+     */
+    private volatile int bookDepth = DEFAULT_BOOK_DEPTH;
+
+    /**
+     * {@code silent} is flag that checks if the feed does not send any message
+     */
+    private volatile boolean silent;
+
+    /**
+     * {@code l2Sequences} is flag that checks if the {@code "l2update"} messages contain their sequence
+     */
+    private volatile boolean l2Sequences;
+
+    /**
+     * {@code credentials} is instance that memorizes the credentials accepted, {@code null} to accept any signed
+     * subscription
+     */
+    private volatile Credentials credentials;
+
+    /**
+     * {@code lastHeartbeat} is instance that memorizes the time in millis of the last heartbeats
+     */
+    private long lastHeartbeat;
+
+    /**
+     * Constructor to init a {@link FakeCoinbaseFeed} on a free port with the {@code "BTC-USD"} and {@code "ETH-USD"}
+     * products
+     *
+     * @throws IOException when the server cannot be created
+     */
+    public FakeCoinbaseFeed() throws IOException {
+        this(0);
+        addProduct("BTC-USD", 25000);
+        addProduct("ETH-USD", 1600);
+    }
+
+    /**
+     * Constructor to init a {@link FakeCoinbaseFeed} without products
+     *
+     * @param port: port of the server, zero to use a free port
+     * @throws IOException when the server cannot be created
+     */
+    public FakeCoinbaseFeed(int port) throws IOException {
+        server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-coinbase-feed-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        generator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fake-coinbase-feed-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Method to start the feed <br>
+     * No-any params required
+     *
+     * @return the feed started as {@link FakeCoinbaseFeed}
+     */
+    public FakeCoinbaseFeed start() {
+        executor.execute(this::accept);
+        generator.scheduleAtFixedRate(this::generate, TICK_PERIOD, TICK_PERIOD, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Method to stop the feed <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        try {
+            server.close();
+        } catch (IOException ignored) {
+        }
+        generator.shutdownNow();
+        dropConnections();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Method to add a product to the feed, or to move the price of a product already added
+     *
+     * @param productId: product identifier value es. BTC-USD
+     * @param price:     price of the product, its book is rebuilt around it
+     */
+    public void addProduct(String productId, double price) {
+        if (price <= 0)
+            throw new IllegalArgumentException("The price must be positive");
+        Market market = markets.computeIfAbsent(productId, Market::new);
+        synchronized (market) {
+            market.reset(price, bookDepth);
+        }
+    }
+
+    /**
+     * Method to move the price of a product, the subscribers of its book receive a new snapshot
+     *
+     * @param productId: product identifier value
+     * @param price:     new price of the product
+     */
+    public void setPrice(String productId, double price) {
+        Market market = getMarket(productId);
+        synchronized (market) {
+            market.reset(price, bookDepth);
+            market.sequence++;
+            String snapshot = market.snapshot(l2Sequences).toString();
+            for (Session session : sessions)
+                if (session.isSubscribed(level2, productId) || session.isSubscribed(level2_batch, productId))
+                    session.send(snapshot);
+        }
+    }
+
+    /**
+     * Method to get the current price of a product
+     *
+     * @param productId: product identifier value
+     * @return price of the last trade of the product as double
+     */
+    public double getPrice(String productId) {
+        Market market = getMarket(productId);
+        synchronized (market) {
+            return market.price;
+        }
+    }
+
+    /**
+     * Method to get the current sequence of a product
+     *
+     * @param productId: product identifier value
+     * @return sequence of the last event of the product as long
+     */
+    public long getSequence(String productId) {
+        Market market = getMarket(productId);
+        synchronized (market) {
+            return market.sequence;
+        }
+    }
+
+    /**
+     * Method to get the current book of a product, as it is sent in the {@code "snapshot"} messages
+     *
+     * @param productId: product identifier value
+     * @return book of the product with its {@code "sequence"} as {@link JSONObject}
+     */
+    public JSONObject getBook(String productId) {
+        Market market = getMarket(productId);
+        synchronized (market) {
+            return market.snapshot(true);
+        }
+    }
+
+    /**
+     * Method to set the number of the events generated each second for each product
+     *
+     * @param messageRate: number of the events, each event sends about two messages, zero to stop the generation
+     */
+    public void setMessageRate(double messageRate) {
+        if (messageRate < 0)
+            throw new IllegalArgumentException("The message rate cannot be negative");
+        this.messageRate = messageRate;
+    }
+
+    /**
+     * Method to set the number of the levels of each side of the books added or moved next
+     *
+     * @param bookDepth: number of the levels
+     */
+    public void setBookDepth(int bookDepth) {
+        if (bookDepth <= 0)
+            throw new IllegalArgumentException("The book depth must be positive");
+        this.bookDepth = bookDepth;
+    }
+
+    /**
+     * Method to set whether the feed does not send any message, the connections stay opened
+     *
+     * @param silent: whether the feed does not send any message
+     */
+    public void setSilent(boolean silent) {
+        this.silent = silent;
+    }
+
+    /**
+     * Method to set whether the {@code "snapshot"} and {@code "l2update"} messages contain their sequence, the real
+     * feed does not send it
+     *
+     * @param l2Sequences: whether the {@code "snapshot"} and {@code "l2update"} messages contain their sequence
+     */
+    public void setL2Sequences(boolean l2Sequences) {
+        this.l2Sequences = l2Sequences;
+    }
+
+    /**
+     * Method to not send the next {@code "l2update"} messages generated, their sequences are skipped to test the gaps
+     *
+     * @param updates: number of the next {@code "l2update"} messages not to send
+     */
+    public void dropNextUpdates(int updates) {
+        droppingUpdates.addAndGet(updates);
+    }
+
+    /**
+     * Method to close abruptly all the connections opened, without a close message <br>
+     * No-any params required
+     */
+    public void dropConnections() {
+        for (Session session : sessions)
+            session.close();
+    }
+
+    /**
+     * Method to send a custom message to all the connections opened
+     *
+     * @param message: message to send
+     */
+    public void publish(JSONObject message) {
+        String text = message.toString();
+        for (Session session : sessions)
+            session.send(text);
+    }
+
+    /**
+     * Method to set the credentials accepted, so the signatures of the subscriptions are verified
+     *
+     * @param apiKey:     api key accepted
+     * @param apiSecret:  api secret used to verify the signatures
+     * @param passphrase: passphrase accepted
+     */
+    public void setCredentials(String apiKey, String apiSecret, String passphrase) {
+        credentials = new Credentials(apiKey, new CoinbaseSigner(apiSecret), passphrase);
+    }
+
+    /**
+     * Method to accept any signed subscription without verifying its signature <br>
+     * No-any params required
+     */
+    public void removeCredentials() {
+        credentials = null;
+    }
+
+    /**
+     * Method to get the url of the feed <br>
+     * No-any params required
+     *
+     * @return url of the feed as {@link String}
+     */
+    public String getUrl() {
+        return "ws://" + server.getInetAddress().getHostAddress() + ":" + server.getLocalPort();
+    }
+
+    /**
+     * Method to get the port of the feed <br>
+     * No-any params required
+     *
+     * @return port of the feed as int
+     */
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Method to get the number of the connections currently opened <br>
+     * No-any params required
+     *
+     * @return number of the connections currently opened as int
+     */
+    public int getOpenConnections() {
+        return sessions.size();
+    }
+
+    /**
+     * Method to get {@link #connections} instance <br>
+     * No-any params required
+     *
+     * @return {@link #connections} instance as long
+     */
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    /**
+     * Method to get {@link #sentMessages} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sentMessages} instance as long
+     */
+    public long getSentMessages() {
+        return sentMessages.sum();
+    }
+
+    /**
+     * Method to get {@link #droppedUpdates} instance <br>
+     * No-any params required
+     *
+     * @return {@link #droppedUpdates} instance as long
+     */
+    public long getDroppedUpdates() {
+        return droppedUpdates.sum();
+    }
+
+    /**
+     * Method to get a product of the feed
+     *
+     * @param productId: product identifier value
+     * @return product as {@link Market}
+     */
+    private Market getMarket(String productId) {
+        Market market = markets.get(productId);
+        if (market == null)
+            throw new IllegalArgumentException(productId + " is not a valid product");
+        return market;
+    }
+
+    /**
+     * Method to accept the connections until the feed is closed <br>
+     * No-any params required
+     */
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                executor.execute(() -> new Session(socket).run());
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Method to generate the events of the products and the heartbeats <br>
+     * No-any params required
+     */
+    private void generate() {
+        double events = messageRate * TICK_PERIOD / 1000;
+        long now = System.currentTimeMillis();
+        boolean heartbeats = now - lastHeartbeat >= HEARTBEAT_PERIOD;
+        if (heartbeats)
+            lastHeartbeat = now;
+        Market[] markets;
+        synchronized (this.markets) {
+            markets = this.markets.values().toArray(new Market[0]);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (Market market : markets) {
+            synchronized (market) {
+                market.pendingEvents += events;
+                while (market.pendingEvents >= 1) {
+                    market.pendingEvents--;
+                    if (random.nextDouble() < 0.3)
+                        match(market, random);
+                    else
+                        changeLevel(market, random);
+                }
+                if (heartbeats) {
+                    broadcast(heartbeat, market.productId, new JSONObject()
+                            .put("type", "heartbeat")
+                            .put("sequence", market.sequence)
+                            .put("last_trade_id", market.tradeId)
+                            .put("product_id", market.productId)
+                            .put("time", Instant.now().toString()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to generate a trade against the best level of a side of a book
+     *
+     * @param market: product of the trade
+     * @param random: random generator to use
+     */
+    private void match(Market market, ThreadLocalRandom random) {
+        boolean buy = random.nextBoolean();
+        TreeMap<Double, Double> levels = buy ? market.asks : market.bids;
+        if (levels.isEmpty())
+            return;
+        Map.Entry<Double, Double> best = levels.firstEntry();
+        double price = best.getKey();
+        double size = round(Math.min(best.getValue(), random.nextDouble(0.0001, 1)), 8);
+        double remaining = round(best.getValue() - size, 8);
+        String time = Instant.now().toString();
+        long tradeId = ++market.tradeId;
+        market.price = price;
+        market.volume += size;
+        long sequence = ++market.sequence;
+        String makerSide = buy ? "sell" : "buy";
+        broadcast(matches, market.productId, new JSONObject()
+                .put("type", "match")
+                .put("trade_id", tradeId)
+                .put("maker_order_id", market.productId + "-maker-" + tradeId)
+                .put("taker_order_id", market.productId + "-taker-" + tradeId)
+                .put("side", makerSide)
+                .put("size", format(size))
+                .put("price", format(price))
+                .put("product_id", market.productId)
+                .put("sequence", sequence)
+                .put("time", time));
+        if (remaining > 0)
+            levels.put(price, remaining);
+        else
+            levels.remove(price);
+        broadcast(ticker, market.productId, new JSONObject()
+                .put("type", "ticker")
+                .put("sequence", sequence)
+                .put("product_id", market.productId)
+                .put("price", format(price))
+                .put("open_24h", format(market.open))
+                .put("volume_24h", format(round(market.volume, 8)))
+                .put("best_bid", format(market.bids.isEmpty() ? 0 : market.bids.firstKey()))
+                .put("best_ask", format(market.asks.isEmpty() ? 0 : market.asks.firstKey()))
+                .put("side", buy ? "buy" : "sell")
+                .put("time", time)
+                .put("trade_id", tradeId)
+                .put("last_size", format(size)));
+        broadcastL2Update(market, sequence, time, new JSONArray().put(change(makerSide, price, remaining)));
+    }
+
+    /**
+     * Method to generate a change of a level of a book
+     *
+     * @param market: product of the change
+     * @param random: random generator to use
+     */
+    private void changeLevel(Market market, ThreadLocalRandom random) {
+        boolean bid = random.nextBoolean();
+        TreeMap<Double, Double> levels = bid ? market.bids : market.asks;
+        TreeMap<Double, Double> opposite = bid ? market.asks : market.bids;
+        double reference = opposite.isEmpty() ? market.price : opposite.firstKey();
+        int offset = random.nextInt(market.depth) + 1;
+        double price = round(bid ? reference - offset * market.tick : reference + offset * market.tick, 2);
+        if (price <= 0)
+            return;
+        double size = 0;
+        if (!levels.containsKey(price) || random.nextDouble() >= 0.25)
+            size = round(random.nextDouble(0.001, 5), 8);
+        if (size > 0)
+            levels.put(price, size);
+        else
+            levels.remove(price);
+        String side = bid ? "buy" : "sell";
+        JSONArray changes = new JSONArray().put(change(side, price, size));
+        if (levels.size() > market.depth * 2)
+            changes.put(change(side, levels.pollLastEntry().getKey(), 0));
+        broadcastL2Update(market, ++market.sequence, Instant.now().toString(), changes);
+    }
+
+    /**
+     * Method to create a change of a level
+     *
+     * @param side:  side of the change
+     * @param price: price of the level
+     * @param size:  new size of the level, zero if it has been removed
+     * @return change as {@link JSONArray}
+     */
+    private static JSONArray change(String side, double price, double size) {
+        return new JSONArray().put(side).put(format(price)).put(format(size));
+    }
+
+    /**
+     * Method to send the changes of an event to the subscribers of the book of a product
+     *
+     * @param market:   product of the changes
+     * @param sequence: sequence of the event
+     * @param time:     time of the changes
+     * @param changes:  changes of the levels
+     */
+    private void broadcastL2Update(Market market, long sequence, String time, JSONArray changes) {
+        if (droppingUpdates.get() > 0 && droppingUpdates.getAndDecrement() > 0) {
+            droppedUpdates.increment();
+            return;
+        }
+        JSONObject update = new JSONObject()
+                .put("type", "l2update")
+                .put("product_id", market.productId)
+                .put("changes", changes)
+                .put("time", time);
+        if (l2Sequences)
+            update.put("sequence", sequence);
+        broadcast(level2, market.productId, update);
+    }
+
+    /**
+     * Method to send a message to the subscribers of a channel
+     *
+     * @param channel:   channel of the message, the {@link FeedChannel#level2} messages are sent also to the
+     *                   {@link FeedChannel#level2_batch} subscribers
+     * @param productId: product identifier value
+     * @param message:   message to send
+     */
+    private void broadcast(FeedChannel channel, String productId, JSONObject message) {
+        String text = null;
+        for (Session session : sessions) {
+            if (session.isSubscribed(channel, productId)
+                    || (channel == level2 && session.isSubscribed(level2_batch, productId))) {
+                if (text == null)
+                    text = message.toString();
+                session.send(text);
+            }
+        }
+    }
+
+    /**
+     * Method to round a value
+     *
+     * @param value:    value to round
+     * @param decimals: number of the decimals
+     * @return value rounded as double
+     */
+    private static double round(double value, int decimals) {
+        double scale = Math.pow(10, decimals);
+        return Math.round(value * scale) / scale;
+    }
+
+    /**
+     * Method to format a value as the feed does
+     *
+     * @param value: value to format
+     * @return value formatted as {@link String}
+     */
+    private static String format(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * The {@code Market} class is useful to memorize the state of a product of the feed
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @implNote the instances must be used only while holding their lock
+     */
+    private static final class Market {
+
+        /**
+         * {@code productId} is instance that memorizes product identifier value
+         */
+        private final String productId;
+
+        /**
+         * {@code bids} is instance that memorizes the bids of the book, from the best one
+         */
+        private final TreeMap<Double, Double> bids = new TreeMap<>(Collections.reverseOrder());
+
+        /**
+         * {@code asks} is instance that memorizes the asks of the book, from the best one
+         */
+        private final TreeMap<Double, Double> asks = new TreeMap<>();
+
+        /**
+         * {@code price} is instance that memorizes the price of the last trade
+         */
+        private double price;
+
+        /**
+         * {@code open} is instance that memorizes the open price of the product
+         */
+        private double open;
+
+        /**
+         * {@code volume} is instance that memorizes the volume traded
+         */
+        private double volume;
+
+        /**
+         * {@code tick} is instance that memorizes the distance between the levels of the book
+         */
+        private double tick;
+
+        /**
+         * {@code depth} is instance that memorizes the number of the levels of each side of the book
+         */
+        private int depth;
+
+        /**
+         * {@code sequence} is instance that memorizes the sequence of the last event
+         */
+        private long sequence;
+
+        /**
+         * {@code tradeId} is instance that memorizes the identifier of the last trade
+         */
+        private long tradeId;
+
+        /**
+         * {@code pendingEvents} is instance that memorizes the fraction of the events not generated yet
+         */
+        private double pendingEvents;
+
+        /**
+         * Constructor to init a {@link Market}
+         *
+         * @param productId: product identifier value
+         */
+        private Market(String productId) {
+            this.productId = productId;
+            sequence = ThreadLocalRandom.current().nextLong(1_000_000, 100_000_000);
+            tradeId = ThreadLocalRandom.current().nextLong(1_000, 1_000_000);
+        }
+
+        /**
+         * Method to rebuild the book around a price
+         *
+         * @param price: price of the product
+         * @param depth: number of the levels of each side of the book
+         */
+        private void reset(double price, int depth) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            this.price = price;
+            this.depth = depth;
+            if (open == 0)
+                open = price;
+            tick = Math.max(0.01, round(price / 10000, 2));
+            bids.clear();
+            asks.clear();
+            for (int j = 1; j <= depth; j++) {
+                double distance = j * tick;
+                if (price - distance > 0)
+                    bids.put(round(price - distance, 2), round(random.nextDouble(0.001, 5), 8));
+                asks.put(round(price + distance, 2), round(random.nextDouble(0.001, 5), 8));
+            }
+        }
+
+        /**
+         * Method to create the snapshot of the book
+         *
+         * @param withSequence: whether the snapshot contains the current sequence
+         * @return snapshot of the book as {@link JSONObject}
+         */
+        private JSONObject snapshot(boolean withSequence) {
+            JSONObject snapshot = new JSONObject()
+                    .put("type", "snapshot")
+                    .put("product_id", productId)
+                    .put("bids", assembleLevels(bids))
+                    .put("asks", assembleLevels(asks));
+            if (withSequence)
+                snapshot.put("sequence", sequence);
+            return snapshot;
+        }
+
+        /**
+         * Method to assemble the levels of a side of the book
+         *
+         * @param levels: levels to assemble
+         * @return levels as {@link JSONArray}
+         */
+        private static JSONArray assembleLevels(TreeMap<Double, Double> levels) {
+            JSONArray jLevels = new JSONArray();
+            levels.forEach((price, size) -> jLevels.put(new JSONArray().put(format(price)).put(format(size))));
+            return jLevels;
+        }
+
+    }
+
+    /**
+     * The {@code Session} class is useful to serve a connection of the feed
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private final class Session {
+
+        /**
+         * {@code socket} is instance that memorizes the socket of the connection
+         */
+        private final Socket socket;
+
+        /**
+         * {@code subscriptions} is instance that memorizes the products subscribed for each channel
+         */
+        private final Map<FeedChannel, Set<String>> subscriptions = new EnumMap<>(FeedChannel.class);
+
+        /**
+         * {@code output} is instance used to send the frames
+         */
+        private OutputStream output;
+
+        /**
+         * Constructor to init a {@link Session}
+         *
+         * @param socket: socket of the connection
+         */
+        private Session(Socket socket) {
+            this.socket = socket;
+        }
+
+        /**
+         * Method to serve the connection until it is closed <br>
+         * No-any params required
+         */
+        private void run() {
+            try (socket) {
+                InputStream input = new BufferedInputStream(socket.getInputStream());
+                output = new BufferedOutputStream(socket.getOutputStream());
+                if (!handshake(input))
+                    return;
+                connections.increment();
+                sessions.add(this);
+                ByteArrayOutputStream message = new ByteArrayOutputStream();
+                while (true) {
+                    int header = input.read();
+                    if (header < 0)
+                        return;
+                    int opcode = header & 0x0F;
+                    byte[] payload = readPayload(input);
+                    switch (opcode) {
+                        case 0x0:
+                        case 0x1:
+                            message.write(payload);
+                            if ((header & 0x80) != 0) {
+                                receive(message.toString(StandardCharsets.UTF_8));
+                                message.reset();
+                            }
+                            break;
+                        case 0x8:
+                            writeFrame(0x8, payload);
+                            return;
+                        case 0x9:
+                            writeFrame(0xA, payload);
+                            break;
+                        default:
+                    }
+                }
+            } catch (IOException ignored) {
+            } finally {
+                sessions.remove(this);
+            }
+        }
+
+        /**
+         * Method to accept the websocket handshake of the connection
+         *
+         * @param input: stream of the connection
+         * @return whether the handshake has been accepted as boolean
+         * @throws IOException when the handshake cannot be read
+         */
+        private boolean handshake(InputStream input) throws IOException {
+            String key = null;
+            String line;
+            while (!(line = readLine(input)).isEmpty()) {
+                int separator = line.indexOf(':');
+                if (separator > 0 && line.substring(0, separator).trim().equalsIgnoreCase("Sec-WebSocket-Key"))
+                    key = line.substring(separator + 1).trim();
+            }
+            if (key == null) {
+                output.write("HTTP/1.1 400 Bad Request\r\nContent-Length: 0\r\n\r\n"
+                        .getBytes(StandardCharsets.US_ASCII));
+                output.flush();
+                return false;
+            }
+            String accept;
+            try {
+                accept = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-1")
+                        .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.US_ASCII)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            output.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                    + "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            return true;
+        }
+
+        /**
+         * Method to read a line of the handshake
+         *
+         * @param input: stream of the connection
+         * @return line without its terminator as {@link String}
+         * @throws IOException when the line cannot be read
+         */
+        private String readLine(InputStream input) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int character;
+            while ((character = input.read()) != '\n') {
+                if (character < 0)
+                    throw new EOFException();
+                if (character != '\r')
+                    line.append((char) character);
+            }
+            return line.toString();
+        }
+
+        /**
+         * Method to read the payload of a frame, its header has been already read
+         *
+         * @param input: stream of the connection
+         * @return payload unmasked as byte[]
+         * @throws IOException when the payload cannot be read
+         */
+        private byte[] readPayload(InputStream input) throws IOException {
+            int second = readByte(input);
+            long length = second & 0x7F;
+            if (length == 126)
+                length = (readByte(input) << 8) | readByte(input);
+            else if (length == 127) {
+                length = 0;
+                for (int j = 0; j < 8; j++)
+                    length = (length << 8) | readByte(input);
+            }
+            if (length > Integer.MAX_VALUE - 8)
+                throw new IOException("Frame too large");
+            byte[] mask = new byte[4];
+            boolean masked = (second & 0x80) != 0;
+            if (masked && input.readNBytes(mask, 0, 4) < 4)
+                throw new EOFException();
+            byte[] payload = input.readNBytes((int) length);
+            if (payload.length < length)
+                throw new EOFException();
+            if (masked)
+                for (int j = 0; j < payload.length; j++)
+                    payload[j] ^= mask[j & 3];
+            return payload;
+        }
+
+        /**
+         * Method to read a byte of a frame
+         *
+         * @param input: stream of the connection
+         * @return byte read as int
+         * @throws IOException when the byte cannot be read
+         */
+        private int readByte(InputStream input) throws IOException {
+            int value = input.read();
+            if (value < 0)
+                throw new EOFException();
+            return value;
+        }
+
+        /**
+         * Method to write a frame not masked
+         *
+         * @param opcode:  opcode of the frame
+         * @param payload: payload of the frame
+         * @throws IOException when the frame cannot be written
+         */
+        private synchronized void writeFrame(int opcode, byte[] payload) throws IOException {
+            output.write(0x80 | opcode);
+            if (payload.length < 126)
+                output.write(payload.length);
+            else if (payload.length <= 0xFFFF) {
+                output.write(126);
+                output.write(payload.length >>> 8);
+                output.write(payload.length);
+            } else {
+                output.write(127);
+                for (int shift = 56; shift >= 0; shift -= 8)
+                    output.write((int) ((long) payload.length >>> shift));
+            }
+            output.write(payload);
+            output.flush();
+        }
+
+        /**
+         * Method to send a text message, the connection is closed when it cannot be sent
+         *
+         * @param message: message to send
+         */
+        private void send(String message) {
+            if (silent)
+                return;
+            try {
+                writeFrame(0x1, message.getBytes(StandardCharsets.UTF_8));
+                sentMessages.increment();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /**
+         * Method to process a message received
+         *
+         * @param message: message received
+         */
+        private void receive(String message) {
+            JSONObject request;
+            try {
+                request = new JSONObject(message);
+            } catch (JSONException e) {
+                sendError("Failed to parse message", e.getMessage());
+                return;
+            }
+            String type = request.optString("type");
+            if (!type.equals("subscribe") && !type.equals("unsubscribe")) {
+                sendError("Failed to subscribe", type + " is not a valid message type");
+                return;
+            }
+            boolean subscribe = type.equals("subscribe");
+            Map<FeedChannel, ArrayList<String>> requested = new EnumMap<>(FeedChannel.class);
+            JSONArray defProductIds = request.optJSONArray("product_ids");
+            JSONArray channels = request.optJSONArray("channels");
+            if (channels == null) {
+                sendError("Failed to subscribe", "channels are required");
+                return;
+            }
+            for (int j = 0; j < channels.length(); j++) {
+                Object jChannel = channels.get(j);
+                String name;
+                JSONArray productIds = defProductIds;
+                if (jChannel instanceof JSONObject) {
+                    name = ((JSONObject) jChannel).optString("name");
+                    if (((JSONObject) jChannel).has("product_ids"))
+                        productIds = ((JSONObject) jChannel).getJSONArray("product_ids");
+                } else
+                    name = jChannel.toString();
+                FeedChannel channel;
+                try {
+                    channel = FeedChannel.valueOf(name);
+                } catch (IllegalArgumentException e) {
+                    sendError("Failed to subscribe", name + " is not a valid channel");
+                    return;
+                }
+                if (productIds == null || productIds.isEmpty()) {
+                    sendError("Failed to subscribe", "No product ids provided for " + name);
+                    return;
+                }
+                ArrayList<String> products = requested.computeIfAbsent(channel, k -> new ArrayList<>());
+                for (int i = 0; i < productIds.length(); i++) {
+                    String productId = productIds.getString(i);
+                    if (!markets.containsKey(productId)) {
+                        sendError("Failed to subscribe", productId + " is not a valid product");
+                        return;
+                    }
+                    products.add(productId);
+                }
+            }
+            if (subscribe && requested.containsKey(level2)) {
+                String error = authenticate(request);
+                if (error != null) {
+                    sendError("Failed to subscribe", error);
+                    return;
+                }
+            }
+            requested.forEach((channel, productIds) -> {
+                for (String productId : productIds) {
+                    if (!subscribe) {
+                        synchronized (this) {
+                            Set<String> subscribed = subscriptions.get(channel);
+                            if (subscribed != null)
+                                subscribed.remove(productId);
+                        }
+                    } else if (channel == level2 || channel == level2_batch) {
+                        Market market = markets.get(productId);
+                        synchronized (market) {
+                            boolean snapshot = !isSubscribed(level2, productId)
+                                    && !isSubscribed(level2_batch, productId);
+                            addSubscription(channel, productId);
+                            if (snapshot)
+                                send(market.snapshot(l2Sequences).toString());
+                        }
+                    } else
+                        addSubscription(channel, productId);
+                }
+            });
+            sendSubscriptions();
+        }
+
+        /**
+         * Method to verify the authentication of a subscription
+         *
+         * @param request: subscription to verify
+         * @return message of the authentication error as {@link String}, {@code null} if the subscription is
+         * authenticated
+         */
+        private String authenticate(JSONObject request) {
+            String apiKey = request.optString("key", null);
+            String signature = request.optString("signature", null);
+            String timestamp = request.optString("timestamp", null);
+            String passphrase = request.optString("passphrase", null);
+            if (apiKey == null || signature == null || timestamp == null || passphrase == null)
+                return "level2 requires authentication";
+            Credentials credentials = FakeCoinbaseFeed.this.credentials;
+            if (credentials == null)
+                return null;
+            if (!credentials.apiKey.equals(apiKey))
+                return "Invalid API Key";
+            if (!credentials.passphrase.equals(passphrase))
+                return "Invalid Passphrase";
+            String expected = credentials.signer.sign(timestamp, "GET", "/users/self/verify", null);
+            if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                    signature.getBytes(StandardCharsets.UTF_8))) {
+                return "invalid signature";
+            }
+            return null;
+        }
+
+        /**
+         * Method to add a subscription
+         *
+         * @param channel:   channel of the subscription
+         * @param productId: product identifier value
+         */
+        private synchronized void addSubscription(FeedChannel channel, String productId) {
+            subscriptions.computeIfAbsent(channel, k -> new LinkedHashSet<>()).add(productId);
+        }
+
+        /**
+         * Method to get whether a channel of a product has been subscribed
+         *
+         * @param channel:   channel of the subscription
+         * @param productId: product identifier value
+         * @return whether the channel of the product has been subscribed as boolean
+         */
+        private synchronized boolean isSubscribed(FeedChannel channel, String productId) {
+            Set<String> productIds = subscriptions.get(channel);
+            return productIds != null && productIds.contains(productId);
+        }
+
+        /**
+         * Method to send the current subscriptions <br>
+         * No-any params required
+         */
+        private void sendSubscriptions() {
+            JSONArray channels = new JSONArray();
+            synchronized (this) {
+                subscriptions.forEach((channel, productIds) -> {
+                    if (!productIds.isEmpty()) {
+                        channels.put(new JSONObject()
+                                .put("name", channel.name())
+                                .put("product_ids", new JSONArray(productIds)));
+                    }
+                });
+            }
+            send(new JSONObject().put("type", "subscriptions").put("channels", channels).toString());
+        }
+
+        /**
+         * Method to send an error
+         *
+         * @param message: message of the error
+         * @param reason:  reason of the error
+         */
+        private void sendError(String message, String reason) {
+            send(new JSONObject().put("type", "error").put("message", message).put("reason", reason).toString());
+        }
+
+        /**
+         * Method to close the connection <br>
+         * No-any params required
+         */
+        private void close() {
+            sessions.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+    }
+
+    /**
+     * The {@code Credentials} class is useful to memorize the credentials accepted by the feed
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class Credentials {
+
+        /**
+         * {@code apiKey} is instance that memorizes the api key accepted
+         */
+        private final String apiKey;
+
+        /**
+         * {@code signer} is instance used to verify the signatures
+         */
+        private final CoinbaseSigner signer;
+
+        /**
+         * {@code passphrase} is instance that memorizes the passphrase accepted
+         */
+        private final String passphrase;
+
+        /**
+         * Constructor to init a {@link Credentials}
+         *
+         * @param apiKey:     api key accepted
+         * @param signer:     signer used to verify the signatures
+         * @param passphrase: passphrase accepted
+         */
+        private Credentials(String apiKey, CoinbaseSigner signer, String passphrase) {
+            this.apiKey = apiKey;
+            this.signer = signer;
+            this.passphrase = passphrase;
+        }
+
+    }
+
+}
@@ -0,0 +1,1694 @@
+package com.tecknobit.coinbasemanager.exchangepro.fake;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code FakeExchangeState} class is useful to memorize in memory the data served by the
+ * {@link FakeCoinbaseExchange}: the products and their market data, the orders and the fills, the accounts, the
+ * transfers, the reports, the currencies, the fees, the price oracle, the profiles and the wrapped assets
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the market data are generated from the price of each product, so they are deterministic between the
+ * runs; the market orders and the limit orders which cross the spread are filled immediately and update the balances
+ * of the accounts, the other limit orders stay open until they are canceled. All the mutations are guarded by the
+ * lock of the state
+ * @see FakeCoinbaseExchange
+ */
+public class FakeExchangeState {
+
+    /**
+     * {@code USER_ID} is constant for the identifier of the user of the exchange
+     */
+    public static final String USER_ID = "5cf6e115aaf44503db300f1e";
+
+    /**
+     * {@code DEFAULT_PROFILE_ID} is constant for the identifier of the default profile
+     */
+    public static final String DEFAULT_PROFILE_ID = "8058d771-2d88-4f0f-ab6e-299c153d4308";
+
+    /**
+     * {@code BOOK_DEPTH} is constant for the number of levels of each side of the books
+     */
+    public static final int BOOK_DEPTH = 50;
+
+    /**
+     * {@code MAX_CANDLES} is constant for the max number of candles of a response
+     */
+    private static final int MAX_CANDLES = 300;
+
+    /**
+     * {@code GRANULARITIES} is constant for the granularities in seconds of the candles supported
+     */
+    private static final long[] GRANULARITIES = {60, 300, 900, 3600, 21600, 86400};
+
+    /**
+     * {@code products} is instance that memorizes the products of the exchange
+     */
+    private final LinkedHashMap<String, Product> products = new LinkedHashMap<>();
+
+    /**
+     * {@code currencies} is instance that memorizes the currencies of the exchange
+     */
+    private final LinkedHashMap<String, JSONObject> currencies = new LinkedHashMap<>();
+
+    /**
+     * {@code orders} is instance that memorizes the orders placed, in order of creation
+     */
+    private final LinkedHashMap<String, JSONObject> orders = new LinkedHashMap<>();
+
+    /**
+     * {@code fills} is instance that memorizes the fills of the orders
+     */
+    private final ArrayList<JSONObject> fills = new ArrayList<>();
+
+    /**
+     * {@code accounts} is instance that memorizes the accounts of each profile
+     */
+    private final LinkedHashMap<String, JSONObject> accounts = new LinkedHashMap<>();
+
+    /**
+     * {@code ledgers} is instance that memorizes the ledger entries of the accounts
+     */
+    private final ArrayList<JSONObject> ledgers = new ArrayList<>();
+
+    /**
+     * {@code transfers} is instance that memorizes the transfers
+     */
+    private final ArrayList<JSONObject> transfers = new ArrayList<>();
+
+    /**
+     * {@code reports} is instance that memorizes the reports requested
+     */
+    private final LinkedHashMap<String, JSONObject> reports = new LinkedHashMap<>();
+
+    /**
+     * {@code profiles} is instance that memorizes the profiles
+     */
+    private final LinkedHashMap<String, JSONObject> profiles = new LinkedHashMap<>();
+
+    /**
+     * {@code wrappedAssets} is instance that memorizes the wrapped assets
+     */
+    private final LinkedHashMap<String, JSONObject> wrappedAssets = new LinkedHashMap<>();
+
+    /**
+     * {@code stakeWraps} is instance that memorizes the stake wraps
+     */
+    private final LinkedHashMap<String, JSONObject> stakeWraps = new LinkedHashMap<>();
+
+    /**
+     * {@code tradeIds} is instance used to assign the identifiers of the trades
+     */
+    private final AtomicLong tradeIds = new AtomicLong(100_000_000);
+
+    /**
+     * {@code makerFeeRate} is instance that memorizes the fee rate of the maker orders
+     */
+    private volatile double makerFeeRate = 0.004;
+
+    /**
+     * {@code takerFeeRate} is instance that memorizes the fee rate of the taker orders
+     */
+    private volatile double takerFeeRate = 0.006;
+
+    /**
+     * {@code usdVolume} is instance that memorizes the volume in {@code "USD"} of the user in the last 30 days
+     */
+    private double usdVolume;
+
+    /**
+     * Constructor to init a {@link FakeExchangeState} with the default products, currencies, balances and wrapped
+     * assets <br>
+     * No-any params required
+     */
+    public FakeExchangeState() {
+        addCurrency("USD", "United States Dollar", "fiat", 0.01);
+        addCurrency("BTC", "Bitcoin", "crypto", 0.00000001);
+        addCurrency("ETH", "Ether", "crypto", 0.00000001);
+        addCurrency("SOL", "Solana", "crypto", 0.00000001);
+        addProduct("BTC-USD", 30000, 0.01, 0.00000001, 1);
+        addProduct("ETH-USD", 1800, 0.01, 0.00000001, 1);
+        addProduct("SOL-USD", 20, 0.01, 0.00000001, 1);
+        addProduct("ETH-BTC", 0.06, 0.00001, 0.00000001, 0.000016);
+        addProfile(DEFAULT_PROFILE_ID, "default", true);
+        setBalance("USD", 100_000);
+        setBalance("BTC", 2);
+        setBalance("ETH", 30);
+        setBalance("SOL", 500);
+        JSONObject cbEth = new JSONObject()
+                .put("id", "cbETH")
+                .put("circulating_supply", "1000000.00000000")
+                .put("total_supply", "1200000.00000000")
+                .put("conversion_rate", "1.03000000")
+                .put("apy", "0.034");
+        wrappedAssets.put("cbETH", cbEth);
+    }
+
+    /**
+     * Method to add a currency
+     *
+     * @param id:      identifier of the currency es. BTC
+     * @param name:    name of the currency
+     * @param type:    type of the currency, {@code "fiat"} or {@code "crypto"}
+     * @param minSize: min size of the currency
+     */
+    public synchronized void addCurrency(String id, String name, String type, double minSize) {
+        JSONObject details = new JSONObject()
+                .put("type", type)
+                .put("symbol", "USD".equals(id) ? "$" : "")
+                .put("network_confirmations", "crypto".equals(type) ? 6 : 0)
+                .put("sort_order", currencies.size() * 10)
+                .put("crypto_address_link", "")
+                .put("crypto_transaction_link", "")
+                .put("push_payment_methods", new JSONArray())
+                .put("group_types", new JSONArray())
+                .put("display_name", name)
+                .put("processing_time_seconds", "0")
+                .put("min_withdrawal_amount", minSize)
+                .put("max_withdrawal_amount", 10_000_000);
+        currencies.put(id, new JSONObject()
+                .put("id", id)
+                .put("name", name)
+                .put("min_size", decimal(minSize))
+                .put("status", "online")
+                .put("message", "")
+                .put("max_precision", decimal(minSize))
+                .put("convertible_to", new JSONArray())
+                .put("details", details)
+                .put("default_network", id.toLowerCase())
+                .put("supported_networks", new JSONArray()));
+    }
+
+    /**
+     * Method to add a product
+     *
+     * @param id:             identifier of the product es. BTC-USD
+     * @param price:          current price of the product
+     * @param quoteIncrement: min increment of the price
+     * @param baseIncrement:  min increment of the size
+     * @param minMarketFunds: min funds of a market order
+     */
+    public synchronized void addProduct(String id, double price, double quoteIncrement, double baseIncrement,
+                                        double minMarketFunds) {
+        String[] currencies = id.split("-");
+        if (currencies.length != 2)
+            throw new IllegalArgumentException("The product identifier must be formatted as BASE-QUOTE");
+        products.put(id, new Product(id, currencies[0], currencies[1], price, quoteIncrement, baseIncrement,
+                minMarketFunds));
+    }
+
+    /**
+     * Method to set the price of a product, so its market data move
+     *
+     * @param productId: identifier of the product
+     * @param price:     price to set
+     */
+    public synchronized void setPrice(String productId, double price) {
+        Product product = getProduct(productId);
+        product.price = price;
+        product.sequence.incrementAndGet();
+    }
+
+    /**
+     * Method to set the balance of the account of a currency in the default profile
+     *
+     * @param currency: currency of the account
+     * @param balance:  balance to set
+     */
+    public synchronized void setBalance(String currency, double balance) {
+        JSONObject account = getAccount(DEFAULT_PROFILE_ID, currency);
+        account.put("balance", decimal(balance));
+        updateAvailable(account);
+    }
+
+    /**
+     * Method to set the fee rates of the user
+     *
+     * @param makerFeeRate: fee rate of the maker orders
+     * @param takerFeeRate: fee rate of the taker orders
+     */
+    public void setFeeRates(double makerFeeRate, double takerFeeRate) {
+        this.makerFeeRate = makerFeeRate;
+        this.takerFeeRate = takerFeeRate;
+    }
+
+    /**
+     * Method to get the orders placed <br>
+     * No-any params required
+     *
+     * @return orders placed as {@link JSONArray}
+     */
+    public synchronized JSONArray getOrders() {
+        return new JSONArray(orders.values());
+    }
+
+    /**
+     * Method to get the fills of the orders <br>
+     * No-any params required
+     *
+     * @return fills of the orders as {@link JSONArray}
+     */
+    public synchronized JSONArray getFills() {
+        return new JSONArray(fills);
+    }
+
+    /**
+     * Method to install the routes of the state in an exchange
+     *
+     * @param exchange: exchange where install the routes
+     */
+    void install(FakeCoinbaseExchange exchange) {
+        // products
+        exchange.addRoute("GET", "/products", false, request -> getProducts());
+        exchange.addRoute("GET", "/products/{product_id}", false,
+                request -> FakeResponse.ok(getProduct(request.getPathParam("product_id")).toJSON()));
+        exchange.addRoute("GET", "/products/{product_id}/book", false, this::getBook);
+        exchange.addRoute("GET", "/products/{product_id}/candles", false, this::getCandles);
+        exchange.addRoute("GET", "/products/{product_id}/stats", false, this::getStats);
+        exchange.addRoute("GET", "/products/{product_id}/ticker", false, this::getTicker);
+        exchange.addRoute("GET", "/products/{product_id}/trades", false, this::getTrades);
+        // currencies
+        exchange.addRoute("GET", "/currencies", false, request -> getCurrencies());
+        exchange.addRoute("GET", "/currencies/{currency_id}", false, this::getCurrency);
+        // orders and fills
+        exchange.addRoute("POST", "/orders", true, this::placeOrder);
+        exchange.addRoute("GET", "/orders", true, this::getOrders);
+        exchange.addRoute("DELETE", "/orders", true, this::cancelOrders);
+        exchange.addRoute("GET", "/orders/{order_id}", true, request -> getOrder(request.getPathParam("order_id")));
+        exchange.addRoute("DELETE", "/orders/{order_id}", true,
+                request -> cancelOrder(request.getPathParam("order_id")));
+        exchange.addRoute("GET", "/orders/client:{client_oid}", true,
+                request -> getOrder(findClientOrder(request.getPathParam("client_oid"))));
+        exchange.addRoute("DELETE", "/orders/client:{client_oid}", true,
+                request -> cancelOrder(findClientOrder(request.getPathParam("client_oid"))));
+        exchange.addRoute("GET", "/fills", true, this::getFills);
+        // accounts
+        exchange.addRoute("GET", "/accounts", true, request -> getAccounts());
+        exchange.addRoute("GET", "/accounts/{account_id}", true,
+                request -> FakeResponse.ok(findAccount(request.getPathParam("account_id"))));
+        exchange.addRoute("GET", "/accounts/{account_id}/holds", true, this::getHolds);
+        exchange.addRoute("GET", "/accounts/{account_id}/ledger", true, this::getLedger);
+        exchange.addRoute("GET", "/accounts/{account_id}/transfers", true, this::getAccountTransfers);
+        exchange.addRoute("GET", "/coinbase-accounts", true, request -> getWallets());
+        // transfers
+        exchange.addRoute("GET", "/transfers", true, this::getTransfers);
+        exchange.addRoute("GET", "/transfers/{transfer_id}", true, this::getTransfer);
+        exchange.addRoute("GET", "/payment-methods", true, request -> getPaymentMethods());
+        exchange.addRoute("GET", "/withdrawals/fee-estimate", true, this::getWithdrawalFee);
+        exchange.addRoute("POST", "/deposits/coinbase-account", true, request -> transfer(request, "deposit"));
+        exchange.addRoute("POST", "/deposits/payment-method", true, request -> transfer(request, "deposit"));
+        exchange.addRoute("POST", "/withdrawals/coinbase-account", true, request -> transfer(request, "withdraw"));
+        exchange.addRoute("POST", "/withdrawals/payment-method", true, request -> transfer(request, "withdraw"));
+        exchange.addRoute("POST", "/withdrawals/crypto", true, request -> transfer(request, "withdraw"));
+        // reports
+        exchange.addRoute("GET", "/reports", true, this::getReports);
+        exchange.addRoute("POST", "/reports", true, this::createReport);
+        exchange.addRoute("GET", "/reports/{report_id}", true, this::getReport);
+        // fees and oracle
+        exchange.addRoute("GET", "/fees", true, request -> getFees());
+        exchange.addRoute("GET", "/oracle", true, request -> getOracle());
+        // profiles
+        exchange.addRoute("GET", "/profiles", true, this::getProfiles);
+        exchange.addRoute("POST", "/profiles", true, this::createProfile);
+        exchange.addRoute("GET", "/profiles/{profile_id}", true,
+                request -> FakeResponse.ok(findProfile(request.getPathParam("profile_id"))));
+        exchange.addRoute("PUT", "/profiles/{profile_id}", true, this::renameProfile);
+        exchange.addRoute("PUT", "/profiles/{profile_id}/deactivate", true, this::deactivateProfile);
+        exchange.addRoute("POST", "/profiles/transfer", true, this::transferBetweenProfiles);
+        // wrapped assets
+        exchange.addRoute("GET", "/wrapped-assets", true, request -> getWrappedAssets());
+        exchange.addRoute("GET", "/wrapped-assets/{wrapped_asset_id}", true,
+                request -> FakeResponse.ok(findWrappedAsset(request.getPathParam("wrapped_asset_id"))));
+        exchange.addRoute("GET", "/wrapped-assets/{wrapped_asset_id}/conversion-rate", true,
+                this::getConversionRate);
+        exchange.addRoute("GET", "/wrapped-assets/stake-wrap", true, request -> getStakeWraps());
+        exchange.addRoute("POST", "/wrapped-assets/stake-wrap", true, this::createStakeWrap);
+        exchange.addRoute("GET", "/wrapped-assets/stake-wrap/{stake_wrap_id}", true, this::getStakeWrap);
+    }
+
+    /**
+     * Method to get the current time of the exchange
+     *
+     * @param currentTime: current time in millis of the exchange
+     * @return current time as {@link JSONObject}
+     */
+    JSONObject getTime(long currentTime) {
+        return new JSONObject()
+                .put("iso", Instant.ofEpochMilli(currentTime).toString())
+                .put("epoch", currentTime / 1000.0);
+    }
+
+    /**
+     * Method to get the products <br>
+     * No-any params required
+     *
+     * @return response with the products as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getProducts() {
+        JSONArray jProducts = new JSONArray();
+        for (Product product : products.values())
+            jProducts.put(product.toJSON());
+        return FakeResponse.ok(jProducts);
+    }
+
+    /**
+     * Method to get a product
+     *
+     * @param productId: identifier of the product
+     * @return product as {@link Product}
+     */
+    private synchronized Product getProduct(String productId) {
+        Product product = products.get(productId);
+        if (product == null)
+            throw new NoSuchElementException("NotFound");
+        return product;
+    }
+
+    /**
+     * Method to find a product by its identifier
+     *
+     * @param productId: identifier of the product
+     * @return product as {@link Product}, {@code null} if not found
+     */
+    private synchronized Product findProduct(String productId) {
+        return products.get(productId);
+    }
+
+    /**
+     * Method to get the book of a product, with the {@code "level"} query param to aggregate it
+     *
+     * @param request: request received
+     * @return response with the book as {@link FakeResponse}
+     */
+    private FakeResponse getBook(FakeRequest request) {
+        Product product = findProduct(request.getPathParam("product_id"));
+        if (product == null)
+            return FakeResponse.error(404, "NotFound");
+        int level = Integer.parseInt(request.getQueryParam("level", "1"));
+        if (level < 1 || level > 3)
+            return FakeResponse.error(400, "Invalid level");
+        int depth = level == 1 ? 1 : BOOK_DEPTH;
+        long sequence = product.sequence.get();
+        double price = product.price;
+        double step = Math.max(product.quoteIncrement, round(price * 0.0001, product.quoteIncrement));
+        double bestBid = round(price - step / 2, product.quoteIncrement);
+        double bestAsk = Math.max(bestBid + product.quoteIncrement, round(price + step / 2, product.quoteIncrement));
+        return FakeResponse.ok(new JSONObject()
+                .put("bids", bookSide(product, bestBid, -step, depth, level, sequence))
+                .put("asks", bookSide(product, bestAsk, step, depth, level, sequence))
+                .put("sequence", sequence)
+                .put("auction_mode", false)
+                .put("auction", JSONObject.NULL)
+                .put("time", Instant.now().toString()));
+    }
+
+    /**
+     * Method to generate a side of a book
+     *
+     * @param product:  product of the book
+     * @param best:     best price of the side
+     * @param step:     step between the levels, negative for the bids
+     * @param depth:    number of levels
+     * @param level:    level of aggregation of the book
+     * @param sequence: sequence of the book
+     * @return side of the book as {@link JSONArray}
+     */
+    private JSONArray bookSide(Product product, double best, double step, int depth, int level, long sequence) {
+        JSONArray side = new JSONArray();
+        for (int j = 0; j < depth; j++) {
+            double price = round(best + step * j, product.quoteIncrement);
+            if (price <= 0)
+                break;
+            int orders = 1 + (int) ((sequence + j) % 5);
+            double size = round(0.05 + ((j * 7919L + sequence * 31) % 97) / 40.0, product.baseIncrement);
+            if (level == 3) {
+                for (int k = 0; k < orders; k++) {
+                    side.put(new JSONArray()
+                            .put(decimal(price))
+                            .put(decimal(round(size / orders, product.baseIncrement)))
+                            .put(UUID.nameUUIDFromBytes((product.id + price + k).getBytes(StandardCharsets.UTF_8))
+                                    .toString()));
+                }
+            } else
+                side.put(new JSONArray().put(decimal(price)).put(decimal(size)).put(orders));
+        }
+        return side;
+    }
+
+    /**
+     * Method to get the candles of a product, with the {@code "granularity"}, {@code "start"} and {@code "end"} query
+     * params
+     *
+     * @param request: request received
+     * @return response with the candles as {@link FakeResponse}
+     */
+    private FakeResponse getCandles(FakeRequest request) {
+        Product product = findProduct(request.getPathParam("product_id"));
+        if (product == null)
+            return FakeResponse.error(404, "NotFound");
+        long granularity = Long.parseLong(request.getQueryParam("granularity", "60"));
+        boolean supported = false;
+        for (long value : GRANULARITIES)
+            supported |= value == granularity;
+        if (!supported)
+            return FakeResponse.error(400, "Unsupported granularity");
+        long end = Instant.now().getEpochSecond();
+        String sEnd = request.getQueryParam("end");
+        if (sEnd != null)
+            end = parseTime(sEnd);
+        long start = end - granularity * (MAX_CANDLES - 1);
+        String sStart = request.getQueryParam("start");
+        if (sStart != null)
+            start = Math.max(start, parseTime(sStart));
+        end -= end % granularity;
+        JSONArray candles = new JSONArray();
+        for (long time = end; time >= start; time -= granularity) {
+            double open = product.price * (1 + noise(product, time) * 0.002);
+            double close = product.price * (1 + noise(product, time + granularity) * 0.002);
+            double high = Math.max(open, close) * (1 + Math.abs(noise(product, time + 1)) * 0.001);
+            double low = Math.min(open, close) * (1 - Math.abs(noise(product, time + 2)) * 0.001);
+            candles.put(new JSONArray()
+                    .put(time)
+                    .put(round(low, product.quoteIncrement))
+                    .put(round(high, product.quoteIncrement))
+                    .put(round(open, product.quoteIncrement))
+                    .put(round(close, product.quoteIncrement))
+                    .put(round(1 + Math.abs(noise(product, time + 3)) * 10, product.baseIncrement)));
+        }
+        return FakeResponse.ok(candles);
+    }
+
+    /**
+     * Method to get the stats of the last 24 hours of a product
+     *
+     * @param request: request received
+     * @return response with the stats as {@link FakeResponse}
+     */
+    private FakeResponse getStats(FakeRequest request) {
+        Product product = findProduct(request.getPathParam("product_id"));
+        if (product == null)
+            return FakeResponse.error(404, "NotFound");
+        double price = product.price;
+        return FakeResponse.ok(new JSONObject()
+                .put("open", decimal(round(price * 0.99, product.quoteIncrement)))
+                .put("high", decimal(round(price * 1.02, product.quoteIncrement)))
+                .put("low", decimal(round(price * 0.97, product.quoteIncrement)))
+                .put("last", decimal(price))
+                .put("volume", decimal(1000))
+                .put("volume_30day", decimal(30000)));
+    }
+
+    /**
+     * Method to get the ticker of a product
+     *
+     * @param request: request received
+     * @return response with the ticker as {@link FakeResponse}
+     */
+    private FakeResponse getTicker(FakeRequest request) {
+        Product product = findProduct(request.getPathParam("product_id"));
+        if (product == null)
+            return FakeResponse.error(404, "NotFound");
+        double price = product.price;
+        return FakeResponse.ok(new JSONObject()
+                .put("ask", decimal(round(price + product.quoteIncrement, product.quoteIncrement)))
+                .put("bid", decimal(round(price - product.quoteIncrement, product.quoteIncrement)))
+                .put("volume", decimal(1000))
+                .put("trade_id", tradeIds.get())
+                .put("price", decimal(price))
+                .put("size", decimal(0.01))
+                .put("time", Instant.now().toString()));
+    }
+
+    /**
+     * Method to get the last trades of a product, with the {@code "limit"} query param
+     *
+     * @param request: request received
+     * @return response with the trades as {@link FakeResponse}
+     */
+    private FakeResponse getTrades(FakeRequest request) {
+        Product product = findProduct(request.getPathParam("product_id"));
+        if (product == null)
+            return FakeResponse.error(404, "NotFound");
+        int limit = Math.min(1000, Integer.parseInt(request.getQueryParam("limit", "100")));
+        long lastTradeId = tradeIds.get();
+        long now = System.currentTimeMillis();
+        JSONArray trades = new JSONArray();
+        for (int j = 0; j < limit; j++) {
+            long tradeId = lastTradeId - j;
+            trades.put(new JSONObject()
+                    .put("time", Instant.ofEpochMilli(now - j * 250L).toString())
+                    .put("trade_id", tradeId)
+                    .put("price", decimal(round(product.price * (1 + noise(product, tradeId) * 0.0005),
+                            product.quoteIncrement)))
+                    .put("size", decimal(round(0.001 + Math.abs(noise(product, tradeId + 1)), product.baseIncrement)))
+                    .put("side", tradeId % 2 == 0 ? "buy" : "sell"));
+        }
+        return FakeResponse.ok(trades);
+    }
+
+    /**
+     * Method to get the currencies <br>
+     * No-any params required
+     *
+     * @return response with the currencies as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getCurrencies() {
+        return FakeResponse.ok(new JSONArray(currencies.values()));
+    }
+
+    /**
+     * Method to get a currency
+     *
+     * @param request: request received
+     * @return response with the currency as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getCurrency(FakeRequest request) {
+        JSONObject currency = currencies.get(request.getPathParam("currency_id"));
+        if (currency == null)
+            return FakeResponse.error(404, "NotFound");
+        return FakeResponse.ok(currency);
+    }
+
+    /**
+     * Method to place an order, the market orders and the limit orders which cross the spread are filled
+     * immediately
+     *
+     * @param request: request received
+     * @return response with the order placed as {@link FakeResponse}
+     */
+    private synchronized FakeResponse placeOrder(FakeRequest request) {
+        JSONObject payload = request.getJSONBody();
+        Product product = products.get(payload.optString("product_id"));
+        if (product == null)
+            return FakeResponse.error(400, "product_id is not a valid product");
+        String side = payload.optString("side");
+        if (!side.equals("buy") && !side.equals("sell"))
+            return FakeResponse.error(400, "side is not valid");
+        String type = payload.optString("type", "limit");
+        String profileId = payload.optString("profile_id", DEFAULT_PROFILE_ID);
+        if (!profiles.containsKey(profileId))
+            return FakeResponse.error(400, "profile_id is not valid");
+        String clientOid = payload.optString("client_oid", null);
+        if (clientOid != null) {
+            for (JSONObject order : orders.values())
+                if (clientOid.equals(order.optString("client_oid", null)))
+                    return FakeResponse.error(400, "client_oid is already in use");
+        }
+        double size = payload.optDouble("size", 0);
+        double price = payload.optDouble("price", 0);
+        double funds = payload.optDouble("funds", 0);
+        double executionPrice;
+        switch (type) {
+            case "limit":
+                if (size <= 0 || price <= 0)
+                    return FakeResponse.error(400, "size and price are required for limit orders");
+                executionPrice = side.equals("buy") ? bestAsk(product) : bestBid(product);
+                boolean crosses = side.equals("buy") ? price >= executionPrice : price <= executionPrice;
+                if (!crosses)
+                    executionPrice = -1;
+                else if (payload.optBoolean("post_only"))
+                    return FakeResponse.error(400, "Post only mode");
+                break;
+            case "market":
+                executionPrice = side.equals("buy") ? bestAsk(product) : bestBid(product);
+                if (size <= 0) {
+                    if (funds <= 0)
+                        return FakeResponse.error(400, "size or funds is required for market orders");
+                    if (funds < product.minMarketFunds)
+                        return FakeResponse.error(400, "funds is too small");
+                    size = round(funds / executionPrice, product.baseIncrement);
+                }
+                break;
+            case "stop":
+                if (size <= 0 || price <= 0)
+                    return FakeResponse.error(400, "size and price are required for stop orders");
+                executionPrice = -1;
+                break;
+            default:
+                return FakeResponse.error(400, "type is not valid");
+        }
+        if (size < product.baseIncrement)
+            return FakeResponse.error(400, "size is too small");
+        JSONObject base = getAccount(profileId, product.base);
+        JSONObject quote = getAccount(profileId, product.quote);
+        double required = side.equals("buy") ? size * (price > 0 ? price : executionPrice) * (1 + takerFeeRate) : size;
+        JSONObject funding = side.equals("buy") ? quote : base;
+        if (Double.parseDouble(funding.getString("available")) < required)
+            return FakeResponse.error(400, "Insufficient funds");
+        String now = Instant.now().toString();
+        JSONObject order = new JSONObject()
+                .put("id", UUID.randomUUID().toString())
+                .put("product_id", product.id)
+                .put("profile_id", profileId)
+                .put("side", side)
+                .put("type", type)
+                .put("size", decimal(size))
+                .put("time_in_force", payload.optString("time_in_force", "GTC"))
+                .put("post_only", payload.optBoolean("post_only"))
+                .put("created_at", now)
+                .put("fill_fees", decimal(0))
+                .put("filled_size", decimal(0))
+                .put("executed_value", decimal(0))
+                .put("settled", false);
+        if (price > 0)
+            order.put("price", decimal(price));
+        if (clientOid != null)
+            order.put("client_oid", clientOid);
+        if (type.equals("stop")) {
+            order.put("stop", payload.optString("stop", side.equals("buy") ? "entry" : "loss"));
+            order.put("stop_price", payload.optString("stop_price", decimal(price)));
+            order.put("status", "active");
+        } else
+            order.put("status", "open");
+        orders.put(order.getString("id"), order);
+        if (executionPrice > 0)
+            fill(product, order, base, quote, size, executionPrice);
+        else
+            updateHolds(profileId);
+        product.sequence.incrementAndGet();
+        return FakeResponse.ok(order);
+    }
+
+    /**
+     * Method to fill an order as taker
+     *
+     * @param product: product of the order
+     * @param order:   order to fill
+     * @param base:    account of the base currency
+     * @param quote:   account of the quote currency
+     * @param size:    size filled
+     * @param price:   price of the fill
+     */
+    private void fill(Product product, JSONObject order, JSONObject base, JSONObject quote, double size,
+                      double price) {
+        boolean buy = order.getString("side").equals("buy");
+        double value = size * price;
+        double fee = round(value * takerFeeRate, 0.0000000001);
+        long tradeId = tradeIds.incrementAndGet();
+        String now = Instant.now().toString();
+        fills.add(new JSONObject()
+                .put("trade_id", tradeId)
+                .put("product_id", product.id)
+                .put("order_id", order.getString("id"))
+                .put("user_id", USER_ID)
+                .put("profile_id", order.getString("profile_id"))
+                .put("liquidity", "T")
+                .put("price", decimal(price))
+                .put("size", decimal(size))
+                .put("fee", decimal(fee))
+                .put("created_at", now)
+                .put("side", order.getString("side"))
+                .put("settled", true)
+                .put("usd_volume", decimal(product.quote.equals("USD") ? value : 0)));
+        if (product.quote.equals("USD"))
+            usdVolume += value;
+        order.put("filled_size", decimal(size))
+                .put("executed_value", decimal(value))
+                .put("fill_fees", decimal(fee))
+                .put("status", "done")
+                .put("done_reason", "filled")
+                .put("done_at", now)
+                .put("settled", true);
+        adjustBalance(base, buy ? size : -size, "match", order, tradeId);
+        adjustBalance(quote, buy ? -(value + fee) : value - fee, "match", order, tradeId);
+    }
+
+    /**
+     * Method to get the orders, with the {@code "status"}, {@code "product_id"}, {@code "profile_id"} and
+     * {@code "limit"} query params
+     *
+     * @param request: request received
+     * @return response with the orders as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getOrders(FakeRequest request) {
+        String status = request.getQueryParam("status");
+        String productId = request.getQueryParam("product_id");
+        String profileId = request.getQueryParam("profile_id");
+        int limit = Math.min(1000, Integer.parseInt(request.getQueryParam("limit", "100")));
+        ArrayList<JSONObject> list = new ArrayList<>(orders.values());
+        Collections.reverse(list);
+        JSONArray jOrders = new JSONArray();
+        for (JSONObject order : list) {
+            String orderStatus = order.getString("status");
+            if (status == null) {
+                if (orderStatus.equals("done"))
+                    continue;
+            } else if (!status.equals("all") && !status.equals(orderStatus))
+                continue;
+            if (productId != null && !productId.equals(order.getString("product_id")))
+                continue;
+            if (profileId != null && !profileId.equals(order.getString("profile_id")))
+                continue;
+            jOrders.put(order);
+            if (jOrders.length() == limit)
+                break;
+        }
+        return FakeResponse.ok(jOrders);
+    }
+
+    /**
+     * Method to get an order
+     *
+     * @param orderId: identifier of the order
+     * @return response with the order as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getOrder(String orderId) {
+        JSONObject order = orderId != null ? orders.get(orderId) : null;
+        if (order == null)
+            return FakeResponse.error(404, "NotFound");
+        return FakeResponse.ok(order);
+    }
+
+    /**
+     * Method to find the identifier of an order from its client identifier
+     *
+     * @param clientOid: client identifier of the order
+     * @return identifier of the order as {@link String}, {@code null} if not found
+     */
+    private synchronized String findClientOrder(String clientOid) {
+        for (JSONObject order : orders.values())
+            if (clientOid.equals(order.optString("client_oid", null)))
+                return order.getString("id");
+        return null;
+    }
+
+    /**
+     * Method to cancel an order
+     *
+     * @param orderId: identifier of the order
+     * @return response with the identifier of the order canceled as {@link FakeResponse}
+     */
+    private synchronized FakeResponse cancelOrder(String orderId) {
+        JSONObject order = orderId != null ? orders.get(orderId) : null;
+        if (order == null)
+            return FakeResponse.error(404, "NotFound");
+        if (order.getString("status").equals("done"))
+            return FakeResponse.error(400, "Order already done");
+        cancel(order);
+        updateHolds(order.getString("profile_id"));
+        return new FakeResponse(200, JSONObject.quote(orderId));
+    }
+
+    /**
+     * Method to cancel the open orders, with the {@code "product_id"} and {@code "profile_id"} query params
+     *
+     * @param request: request received
+     * @return response with the identifiers of the orders canceled as {@link FakeResponse}
+     */
+    private synchronized FakeResponse cancelOrders(FakeRequest request) {
+        String productId = request.getQueryParam("product_id");
+        String profileId = request.getQueryParam("profile_id", DEFAULT_PROFILE_ID);
+        JSONArray canceled = new JSONArray();
+        for (JSONObject order : orders.values()) {
+            if (order.getString("status").equals("done") || !profileId.equals(order.getString("profile_id")))
+                continue;
+            if (productId != null && !productId.equals(order.getString("product_id")))
+                continue;
+            cancel(order);
+            canceled.put(order.getString("id"));
+        }
+        updateHolds(profileId);
+        return FakeResponse.ok(canceled);
+    }
+
+    /**
+     * Method to mark an order as canceled
+     *
+     * @param order: order to cancel
+     */
+    private void cancel(JSONObject order) {
+        order.put("status", "done")
+                .put("done_reason", "canceled")
+                .put("done_at", Instant.now().toString());
+        Product product = products.get(order.getString("product_id"));
+        if (product != null)
+            product.sequence.incrementAndGet();
+    }
+
+    /**
+     * Method to get the fills, with the {@code "order_id"} or {@code "product_id"} query params
+     *
+     * @param request: request received
+     * @return response with the fills as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getFills(FakeRequest request) {
+        String orderId = request.getQueryParam("order_id");
+        String productId = request.getQueryParam("product_id");
+        if (orderId == null && productId == null)
+            return FakeResponse.error(400, "order_id or product_id is required");
+        int limit = Math.min(1000, Integer.parseInt(request.getQueryParam("limit", "100")));
+        JSONArray jFills = new JSONArray();
+        for (int j = fills.size() - 1; j >= 0 && jFills.length() < limit; j--) {
+            JSONObject fill = fills.get(j);
+            if (orderId != null && !orderId.equals(fill.getString("order_id")))
+                continue;
+            if (productId != null && !productId.equals(fill.getString("product_id")))
+                continue;
+            jFills.put(fill);
+        }
+        return FakeResponse.ok(jFills);
+    }
+
+    /**
+     * Method to get the accounts <br>
+     * No-any params required
+     *
+     * @return response with the accounts as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getAccounts() {
+        return FakeResponse.ok(new JSONArray(accounts.values()));
+    }
+
+    /**
+     * Method to get the account of a currency of a profile, creating it when not exists
+     *
+     * @param profileId: identifier of the profile
+     * @param currency:  currency of the account
+     * @return account as {@link JSONObject}
+     */
+    private JSONObject getAccount(String profileId, String currency) {
+        String key = profileId + "/" + currency;
+        JSONObject account = accounts.get(key);
+        if (account == null) {
+            account = new JSONObject()
+                    .put("id", UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString())
+                    .put("currency", currency)
+                    .put("balance", decimal(0))
+                    .put("hold", decimal(0))
+                    .put("available", decimal(0))
+                    .put("profile_id", profileId)
+                    .put("trading_enabled", true);
+            accounts.put(key, account);
+        }
+        return account;
+    }
+
+    /**
+     * Method to find an account by its identifier
+     *
+     * @param accountId: identifier of the account
+     * @return account as {@link JSONObject}
+     */
+    private synchronized JSONObject findAccount(String accountId) {
+        for (JSONObject account : accounts.values())
+            if (account.getString("id").equals(accountId))
+                return account;
+        throw new NoSuchElementException("NotFound");
+    }
+
+    /**
+     * Method to change the balance of an account recording its ledger entry
+     *
+     * @param account: account to change
+     * @param amount:  amount to add, negative to subtract
+     * @param type:    type of the ledger entry es. match
+     * @param order:   order of the change, {@code null} if it is not related to an order
+     * @param tradeId: identifier of the trade of the change, -1 if it is not related to a trade
+     */
+    private void adjustBalance(JSONObject account, double amount, String type, JSONObject order, long tradeId) {
+        double balance = Double.parseDouble(account.getString("balance")) + amount;
+        account.put("balance", decimal(balance));
+        updateAvailable(account);
+        JSONObject details = new JSONObject();
+        if (order != null) {
+            details.put("order_id", order.getString("id"))
+                    .put("product_id", order.getString("product_id"))
+                    .put("trade_id", String.valueOf(tradeId));
+        }
+        ledgers.add(new JSONObject()
+                .put("id", String.valueOf(ledgers.size() + 1))
+                .put("account_id", account.getString("id"))
+                .put("amount", decimal(amount))
+                .put("created_at", Instant.now().toString())
+                .put("balance", decimal(balance))
+                .put("type", type)
+                .put("details", details));
+    }
+
+    /**
+     * Method to recompute the holds of the accounts of a profile from its open orders
+     *
+     * @param profileId: identifier of the profile
+     */
+    private void updateHolds(String profileId) {
+        for (JSONObject account : accounts.values())
+            if (account.getString("profile_id").equals(profileId))
+                account.put("hold", decimal(0));
+        for (JSONObject order : orders.values()) {
+            if (order.getString("status").equals("done") || !order.getString("profile_id").equals(profileId))
+                continue;
+            Product product = products.get(order.getString("product_id"));
+            JSONObject account;
+            double hold;
+            if (order.getString("side").equals("buy")) {
+                account = getAccount(profileId, product.quote);
+                hold = order.getDouble("size") * order.getDouble("price");
+            } else {
+                account = getAccount(profileId, product.base);
+                hold = order.getDouble("size");
+            }
+            account.put("hold", decimal(account.getDouble("hold") + hold));
+        }
+        for (JSONObject account : accounts.values())
+            if (account.getString("profile_id").equals(profileId))
+                updateAvailable(account);
+    }
+
+    /**
+     * Method to recompute the available balance of an account
+     *
+     * @param account: account to update
+     */
+    private static void updateAvailable(JSONObject account) {
+        account.put("available", decimal(account.getDouble("balance") - account.getDouble("hold")));
+    }
+
+    /**
+     * Method to get the holds of an account, one for each open order
+     *
+     * @param request: request received
+     * @return response with the holds as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getHolds(FakeRequest request) {
+        JSONObject account = findAccount(request.getPathParam("account_id"));
+        JSONArray holds = new JSONArray();
+        for (JSONObject order : orders.values()) {
+            if (order.getString("status").equals("done")
+                    || !order.getString("profile_id").equals(account.getString("profile_id")))
+                continue;
+            Product product = products.get(order.getString("product_id"));
+            boolean buy = order.getString("side").equals("buy");
+            if (!(buy ? product.quote : product.base).equals(account.getString("currency")))
+                continue;
+            double amount = buy ? order.getDouble("size") * order.getDouble("price") : order.getDouble("size");
+            holds.put(new JSONObject()
+                    .put("id", UUID.nameUUIDFromBytes(order.getString("id").getBytes(StandardCharsets.UTF_8))
+                            .toString())
+                    .put("created_at", order.getString("created_at"))
+                    .put("amount", decimal(amount))
+                    .put("type", "order")
+                    .put("ref", order.getString("id")));
+        }
+        return FakeResponse.ok(holds);
+    }
+
+    /**
+     * Method to get the ledger of an account
+     *
+     * @param request: request received
+     * @return response with the ledger entries as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getLedger(FakeRequest request) {
+        String accountId = findAccount(request.getPathParam("account_id")).getString("id");
+        JSONArray entries = new JSONArray();
+        for (int j = ledgers.size() - 1; j >= 0; j--)
+            if (ledgers.get(j).getString("account_id").equals(accountId))
+                entries.put(ledgers.get(j));
+        return FakeResponse.ok(entries);
+    }
+
+    /**
+     * Method to get the transfers of an account
+     *
+     * @param request: request received
+     * @return response with the transfers as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getAccountTransfers(FakeRequest request) {
+        String accountId = findAccount(request.getPathParam("account_id")).getString("id");
+        JSONArray jTransfers = new JSONArray();
+        for (JSONObject transfer : transfers)
+            if (transfer.getString("account_id").equals(accountId))
+                jTransfers.put(transfer);
+        return FakeResponse.ok(jTransfers);
+    }
+
+    /**
+     * Method to get the wallets of the {@code "Coinbase"} accounts, one for each currency <br>
+     * No-any params required
+     *
+     * @return response with the wallets as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getWallets() {
+        JSONArray wallets = new JSONArray();
+        for (String currency : currencies.keySet()) {
+            wallets.put(new JSONObject()
+                    .put("id", UUID.nameUUIDFromBytes(("wallet/" + currency).getBytes(StandardCharsets.UTF_8))
+                            .toString())
+                    .put("name", currency + " Wallet")
+                    .put("balance", decimal(0))
+                    .put("currency", currency)
+                    .put("type", currency.equals("USD") ? "fiat" : "wallet")
+                    .put("primary", currency.equals("BTC"))
+                    .put("active", true)
+                    .put("available_on_consumer", true)
+                    .put("hold_balance", decimal(0))
+                    .put("hold_currency", currency));
+        }
+        return FakeResponse.ok(wallets);
+    }
+
+    /**
+     * Method to get the transfers, with the {@code "type"} and {@code "profile_id"} query params
+     *
+     * @param request: request received
+     * @return response with the transfers as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getTransfers(FakeRequest request) {
+        String type = request.getQueryParam("type");
+        JSONArray jTransfers = new JSONArray();
+        for (int j = transfers.size() - 1; j >= 0; j--) {
+            JSONObject transfer = transfers.get(j);
+            if (type == null || type.equals(transfer.getString("type")))
+                jTransfers.put(transfer);
+        }
+        return FakeResponse.ok(jTransfers);
+    }
+
+    /**
+     * Method to get a transfer
+     *
+     * @param request: request received
+     * @return response with the transfer as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getTransfer(FakeRequest request) {
+        String transferId = request.getPathParam("transfer_id");
+        for (JSONObject transfer : transfers)
+            if (transfer.getString("id").equals(transferId))
+                return FakeResponse.ok(transfer);
+        return FakeResponse.error(404, "NotFound");
+    }
+
+    /**
+     * Method to get the payment methods of the user <br>
+     * No-any params required
+     *
+     * @return response with the payment methods as {@link FakeResponse}
+     */
+    private FakeResponse getPaymentMethods() {
+        return FakeResponse.ok(new JSONArray().put(new JSONObject()
+                .put("id", "bc6d7162-d984-5ffa-963c-a493b1c1370b")
+                .put("type", "ach_bank_account")
+                .put("name", "Bank of America - eBan... ********7134")
+                .put("currency", "USD")
+                .put("primary_buy", true)
+                .put("primary_sell", true)
+                .put("allow_buy", true)
+                .put("allow_sell", true)
+                .put("allow_deposit", true)
+                .put("allow_withdraw", true)
+                .put("verified", true)
+                .put("created_at", "2022-01-01T00:00:00Z")
+                .put("updated_at", "2022-01-01T00:00:00Z")));
+    }
+
+    /**
+     * Method to get the fee estimate of a withdrawal, with the {@code "currency"} query param
+     *
+     * @param request: request received
+     * @return response with the fee as {@link FakeResponse}
+     */
+    private FakeResponse getWithdrawalFee(FakeRequest request) {
+        String currency = request.getQueryParam("currency");
+        if (currency == null || !currencies.containsKey(currency))
+            return FakeResponse.error(400, "currency is not valid");
+        return FakeResponse.ok(new JSONObject()
+                .put("fee", decimal(currency.equals("USD") ? 0 : 0.0001))
+                .put("fee_before_subsidy", decimal(currency.equals("USD") ? 0 : 0.0002)));
+    }
+
+    /**
+     * Method to create a deposit or a withdrawal, with the {@code "amount"}, {@code "currency"} and
+     * {@code "profile_id"} body params
+     *
+     * @param request: request received
+     * @param type:    type of the transfer, {@code "deposit"} or {@code "withdraw"}
+     * @return response with the transfer created as {@link FakeResponse}
+     */
+    private synchronized FakeResponse transfer(FakeRequest request, String type) {
+        JSONObject payload = request.getJSONBody();
+        double amount = payload.optDouble("amount", 0);
+        String currency = payload.optString("currency");
+        if (amount <= 0)
+            return FakeResponse.error(400, "amount must be a positive number");
+        if (!currencies.containsKey(currency))
+            return FakeResponse.error(400, "currency is not valid");
+        JSONObject account = getAccount(payload.optString("profile_id", DEFAULT_PROFILE_ID), currency);
+        boolean deposit = type.equals("deposit");
+        if (!deposit && account.getDouble("available") < amount)
+            return FakeResponse.error(400, "Insufficient funds");
+        adjustBalance(account, deposit ? amount : -amount, "transfer", null, -1);
+        String now = Instant.now().toString();
+        JSONObject transfer = new JSONObject()
+                .put("id", UUID.randomUUID().toString())
+                .put("type", type)
+                .put("created_at", now)
+                .put("completed_at", now)
+                .put("canceled_at", JSONObject.NULL)
+                .put("processed_at", now)
+                .put("account_id", account.getString("id"))
+                .put("user_id", USER_ID)
+                .put("user_nonce", JSONObject.NULL)
+                .put("amount", decimal(amount))
+                .put("details", new JSONObject()
+                        .put("coinbase_account_id", payload.optString("coinbase_account_id", ""))
+                        .put("coinbase_transaction_id", UUID.randomUUID().toString())
+                        .put("coinbase_payment_method_id", payload.optString("payment_method_id", "")));
+        transfers.add(transfer);
+        return FakeResponse.ok(new JSONObject()
+                .put("id", transfer.getString("id"))
+                .put("amount", decimal(amount))
+                .put("currency", currency)
+                .put("payout_at", now)
+                .put("fee", decimal(0))
+                .put("subtotal", decimal(amount)));
+    }
+
+    /**
+     * Method to get the reports, with the {@code "type"} and {@code "limit"} query params
+     *
+     * @param request: request received
+     * @return response with the reports as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getReports(FakeRequest request) {
+        String type = request.getQueryParam("type");
+        JSONArray jReports = new JSONArray();
+        for (JSONObject report : reports.values())
+            if (type == null || type.equals(report.getString("type")))
+                jReports.put(report);
+        return FakeResponse.ok(jReports);
+    }
+
+    /**
+     * Method to create a report, it is ready immediately
+     *
+     * @param request: request received
+     * @return response with the report created as {@link FakeResponse}
+     */
+    private synchronized FakeResponse createReport(FakeRequest request) {
+        JSONObject payload = request.getJSONBody();
+        String type = payload.optString("type");
+        if (type.isEmpty())
+            return FakeResponse.error(400, "type is required");
+        String id = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        JSONObject params = new JSONObject()
+                .put("start_date", payload.optString("start_date", Instant.ofEpochMilli(now).toString()))
+                .put("end_date", payload.optString("end_date", Instant.ofEpochMilli(now).toString()))
+                .put("format", payload.optString("format", "pdf"))
+                .put("product_id", payload.optString("product_id", "ALL"))
+                .put("account_id", payload.optString("account_id", "ALL"))
+                .put("profile_id", payload.optString("profile_id", DEFAULT_PROFILE_ID))
+                .put("email", payload.optString("email", ""))
+                .put("new_york_state", false)
+                .put("user", new JSONObject()
+                        .put("id", USER_ID)
+                        .put("created_at", "2022-01-01T00:00:00Z")
+                        .put("active_at", "2022-01-01T00:00:00Z")
+                        .put("name", "Fake User")
+                        .put("email", "fake@user.com")
+                        .put("is_banned", false)
+                        .put("user_type", "individual")
+                        .put("fulfills_new_requirements", true)
+                        .put("has_default", false));
+        reports.put(id, new JSONObject()
+                .put("id", id)
+                .put("type", type)
+                .put("status", "ready")
+                .put("user_id", USER_ID)
+                .put("created_at", Instant.ofEpochMilli(now).toString())
+                .put("completed_at", Instant.ofEpochMilli(now).toString())
+                .put("expires_at", Instant.ofEpochMilli(now + 86_400_000L * 7).toString())
+                .put("file_url", "https://example.com/reports/" + id + "." + params.getString("format"))
+                .put("file_count", "1")
+                .put("params", params));
+        return FakeResponse.ok(new JSONObject()
+                .put("id", id)
+                .put("type", type)
+                .put("status", "pending"));
+    }
+
+    /**
+     * Method to get a report
+     *
+     * @param request: request received
+     * @return response with the report as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getReport(FakeRequest request) {
+        JSONObject report = reports.get(request.getPathParam("report_id"));
+        if (report == null)
+            return FakeResponse.error(404, "NotFound");
+        return FakeResponse.ok(report);
+    }
+
+    /**
+     * Method to get the fees of the user <br>
+     * No-any params required
+     *
+     * @return response with the fees as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getFees() {
+        return FakeResponse.ok(new JSONObject()
+                .put("taker_fee_rate", decimal(takerFeeRate))
+                .put("maker_fee_rate", decimal(makerFeeRate))
+                .put("usd_volume", decimal(usdVolume)));
+    }
+
+    /**
+     * Method to get the signed prices of the price oracle <br>
+     * No-any params required
+     *
+     * @return response with the signed prices as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getOracle() {
+        long timestamp = Instant.now().getEpochSecond();
+        JSONArray messages = new JSONArray();
+        JSONArray signatures = new JSONArray();
+        JSONObject prices = new JSONObject();
+        for (Product product : products.values()) {
+            if (!product.quote.equals("USD"))
+                continue;
+            String message = String.format("%064x%064x", timestamp, (long) (product.price * 1_000_000));
+            messages.put("0x" + message);
+            signatures.put("0x" + UUID.nameUUIDFromBytes(message.getBytes(StandardCharsets.UTF_8))
+                    .toString().replace("-", ""));
+            prices.put(product.base, decimal(product.price));
+        }
+        return FakeResponse.ok(new JSONObject()
+                .put("timestamp", String.valueOf(timestamp))
+                .put("messages", messages)
+                .put("signatures", signatures)
+                .put("prices", prices));
+    }
+
+    /**
+     * Method to add a profile
+     *
+     * @param id:        identifier of the profile
+     * @param name:      name of the profile
+     * @param isDefault: whether the profile is the default one
+     * @return profile as {@link JSONObject}
+     */
+    private JSONObject addProfile(String id, String name, boolean isDefault) {
+        JSONObject profile = new JSONObject()
+                .put("id", id)
+                .put("user_id", USER_ID)
+                .put("name", name)
+                .put("active", true)
+                .put("is_default", isDefault)
+                .put("has_margin", false)
+                .put("created_at", Instant.now().toString());
+        profiles.put(id, profile);
+        return profile;
+    }
+
+    /**
+     * Method to find a profile by its identifier
+     *
+     * @param profileId: identifier of the profile
+     * @return profile as {@link JSONObject}
+     */
+    private synchronized JSONObject findProfile(String profileId) {
+        JSONObject profile = profiles.get(profileId);
+        if (profile == null)
+            throw new NoSuchElementException("NotFound");
+        return profile;
+    }
+
+    /**
+     * Method to get the profiles, with the {@code "active"} query param
+     *
+     * @param request: request received
+     * @return response with the profiles as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getProfiles(FakeRequest request) {
+        String active = request.getQueryParam("active");
+        JSONArray jProfiles = new JSONArray();
+        for (JSONObject profile : profiles.values())
+            if (active == null || Boolean.parseBoolean(active) == profile.getBoolean("active"))
+                jProfiles.put(profile);
+        return FakeResponse.ok(jProfiles);
+    }
+
+    /**
+     * Method to create a profile, with the {@code "name"} body param
+     *
+     * @param request: request received
+     * @return response with the profile created as {@link FakeResponse}
+     */
+    private synchronized FakeResponse createProfile(FakeRequest request) {
+        String name = request.getJSONBody().optString("name");
+        if (name.isEmpty())
+            return FakeResponse.error(400, "name is required");
+        for (JSONObject profile : profiles.values())
+            if (profile.getString("name").equals(name))
+                return FakeResponse.error(400, "name is already in use");
+        return FakeResponse.ok(addProfile(UUID.randomUUID().toString(), name, false));
+    }
+
+    /**
+     * Method to rename a profile, with the {@code "name"} body param
+     *
+     * @param request: request received
+     * @return response with the profile renamed as {@link FakeResponse}
+     */
+    private synchronized FakeResponse renameProfile(FakeRequest request) {
+        JSONObject profile = findProfile(request.getPathParam("profile_id"));
+        String name = request.getJSONBody().optString("name");
+        if (name.isEmpty())
+            return FakeResponse.error(400, "name is required");
+        return FakeResponse.ok(profile.put("name", name));
+    }
+
+    /**
+     * Method to deactivate a profile moving its balances to the profile of the {@code "to"} body param
+     *
+     * @param request: request received
+     * @return response with the profile deactivated as {@link FakeResponse}
+     */
+    private synchronized FakeResponse deactivateProfile(FakeRequest request) {
+        JSONObject profile = findProfile(request.getPathParam("profile_id"));
+        if (profile.getBoolean("is_default"))
+            return FakeResponse.error(400, "The default profile cannot be deactivated");
+        String to = request.getJSONBody().optString("to", DEFAULT_PROFILE_ID);
+        findProfile(to);
+        for (JSONObject account : new ArrayList<>(accounts.values())) {
+            if (!account.getString("profile_id").equals(profile.getString("id")))
+                continue;
+            double balance = account.getDouble("balance");
+            if (balance != 0) {
+                adjustBalance(account, -balance, "transfer", null, -1);
+                adjustBalance(getAccount(to, account.getString("currency")), balance, "transfer", null, -1);
+            }
+        }
+        return FakeResponse.ok(profile.put("active", false));
+    }
+
+    /**
+     * Method to transfer funds between two profiles, with the {@code "from"}, {@code "to"}, {@code "currency"} and
+     * {@code "amount"} body params
+     *
+     * @param request: request received
+     * @return response of the transfer as {@link FakeResponse}
+     */
+    private synchronized FakeResponse transferBetweenProfiles(FakeRequest request) {
+        JSONObject payload = request.getJSONBody();
+        String from = findProfile(payload.optString("from")).getString("id");
+        String to = findProfile(payload.optString("to")).getString("id");
+        String currency = payload.optString("currency");
+        double amount = payload.optDouble("amount", 0);
+        if (!currencies.containsKey(currency))
+            return FakeResponse.error(400, "currency is not valid");
+        if (amount <= 0)
+            return FakeResponse.error(400, "amount must be a positive number");
+        JSONObject source = getAccount(from, currency);
+        if (source.getDouble("available") < amount)
+            return FakeResponse.error(400, "Insufficient funds");
+        adjustBalance(source, -amount, "transfer", null, -1);
+        adjustBalance(getAccount(to, currency), amount, "transfer", null, -1);
+        return new FakeResponse(200, JSONObject.quote("OK"));
+    }
+
+    /**
+     * Method to get the wrapped assets <br>
+     * No-any params required
+     *
+     * @return response with the wrapped assets as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getWrappedAssets() {
+        return FakeResponse.ok(new JSONObject().put("wrapped_assets", new JSONArray(wrappedAssets.values())));
+    }
+
+    /**
+     * Method to find a wrapped asset by its identifier
+     *
+     * @param wrappedAssetId: identifier of the wrapped asset
+     * @return wrapped asset as {@link JSONObject}
+     */
+    private synchronized JSONObject findWrappedAsset(String wrappedAssetId) {
+        JSONObject wrappedAsset = wrappedAssets.get(wrappedAssetId);
+        if (wrappedAsset == null)
+            throw new NoSuchElementException("NotFound");
+        return wrappedAsset;
+    }
+
+    /**
+     * Method to get the conversion rate of a wrapped asset
+     *
+     * @param request: request received
+     * @return response with the conversion rate as {@link FakeResponse}
+     */
+    private FakeResponse getConversionRate(FakeRequest request) {
+        JSONObject wrappedAsset = findWrappedAsset(request.getPathParam("wrapped_asset_id"));
+        return FakeResponse.ok(new JSONObject().put("amount", wrappedAsset.getString("conversion_rate")));
+    }
+
+    /**
+     * Method to get the stake wraps <br>
+     * No-any params required
+     *
+     * @return response with the stake wraps as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getStakeWraps() {
+        ArrayList<JSONObject> list = new ArrayList<>(stakeWraps.values());
+        list.sort(Comparator.comparing((JSONObject stakeWrap) -> stakeWrap.getString("created_at")).reversed());
+        return FakeResponse.ok(new JSONArray(list));
+    }
+
+    /**
+     * Method to create a stake wrap, with the {@code "from_currency"}, {@code "to_currency"} and {@code "amount"} body
+     * params
+     *
+     * @param request: request received
+     * @return response with the stake wrap created as {@link FakeResponse}
+     */
+    private synchronized FakeResponse createStakeWrap(FakeRequest request) {
+        JSONObject payload = request.getJSONBody();
+        String fromCurrency = payload.optString("from_currency");
+        String toCurrency = payload.optString("to_currency");
+        double amount = payload.optDouble("amount", 0);
+        JSONObject wrappedAsset = wrappedAssets.get(toCurrency);
+        if (wrappedAsset == null || !currencies.containsKey(fromCurrency))
+            return FakeResponse.error(400, "The currencies cannot be wrapped");
+        if (amount <= 0)
+            return FakeResponse.error(400, "amount must be a positive number");
+        double conversionRate = wrappedAsset.getDouble("conversion_rate");
+        String id = UUID.randomUUID().toString();
+        JSONObject stakeWrap = new JSONObject()
+                .put("id", id)
+                .put("from_amount", decimal(amount))
+                .put("to_amount", decimal(amount / conversionRate))
+                .put("from_account_id", getAccount(DEFAULT_PROFILE_ID, fromCurrency).getString("id"))
+                .put("to_account_id", getAccount(DEFAULT_PROFILE_ID, toCurrency).getString("id"))
+                .put("from_currency", fromCurrency)
+                .put("to_currency", toCurrency)
+                .put("status", "pending")
+                .put("conversion_rate", decimal(conversionRate))
+                .put("created_at", Instant.now().toString())
+                .put("completed_at", "")
+                .put("canceled_at", "");
+        stakeWraps.put(id, stakeWrap);
+        return FakeResponse.ok(stakeWrap);
+    }
+
+    /**
+     * Method to get a stake wrap
+     *
+     * @param request: request received
+     * @return response with the stake wrap as {@link FakeResponse}
+     */
+    private synchronized FakeResponse getStakeWrap(FakeRequest request) {
+        JSONObject stakeWrap = stakeWraps.get(request.getPathParam("stake_wrap_id"));
+        if (stakeWrap == null)
+            return FakeResponse.error(404, "NotFound");
+        return FakeResponse.ok(stakeWrap);
+    }
+
+    /**
+     * Method to get the best bid of a product
+     *
+     * @param product: product of the book
+     * @return best bid as double
+     */
+    private static double bestBid(Product product) {
+        double step = Math.max(product.quoteIncrement, round(product.price * 0.0001, product.quoteIncrement));
+        return round(product.price - step / 2, product.quoteIncrement);
+    }
+
+    /**
+     * Method to get the best ask of a product
+     *
+     * @param product: product of the book
+     * @return best ask as double
+     */
+    private static double bestAsk(Product product) {
+        double step = Math.max(product.quoteIncrement, round(product.price * 0.0001, product.quoteIncrement));
+        return Math.max(bestBid(product) + product.quoteIncrement,
+                round(product.price + step / 2, product.quoteIncrement));
+    }
+
+    /**
+     * Method to get a deterministic noise between -1 and 1
+     *
+     * @param product: product of the noise
+     * @param seed:    seed of the noise
+     * @return noise as double
+     */
+    private static double noise(Product product, long seed) {
+        long hash = (product.id.hashCode() * 0x9E3779B97F4A7C15L) ^ (seed * 0xC2B2AE3D27D4EB4FL);
+        hash ^= hash >>> 31;
+        hash *= 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 29;
+        return (hash >>> 11) / (double) (1L << 52) - 1;
+    }
+
+    /**
+     * Method to parse a time sent as query param
+     *
+     * @param time: time formatted as ISO-8601 or as seconds
+     * @return time in seconds as long
+     */
+    private static long parseTime(String time) {
+        try {
+            return (long) Double.parseDouble(time);
+        } catch (NumberFormatException e) {
+            return Instant.parse(time).getEpochSecond();
+        }
+    }
+
+    /**
+     * Method to round a value to an increment
+     *
+     * @param value:     value to round
+     * @param increment: increment of the value
+     * @return value rounded as double
+     */
+    private static double round(double value, double increment) {
+        return BigDecimal.valueOf(value)
+                .divide(BigDecimal.valueOf(increment), 0, RoundingMode.HALF_EVEN)
+                .multiply(BigDecimal.valueOf(increment))
+                .doubleValue();
+    }
+
+    /**
+     * Method to format a value as the {@code "Coinbase"} decimals
+     *
+     * @param value: value to format
+     * @return value formatted as {@link String} es. 0.01000000
+     */
+    private static String decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_EVEN).toPlainString();
+    }
+
+    /**
+     * The {@code Product} class is useful to memorize a product of the exchange
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class Product {
+
+        /**
+         * {@code id} is instance that memorizes the identifier of the product
+         */
+        private final String id;
+
+        /**
+         * {@code base} is instance that memorizes the base currency of the product
+         */
+        private final String base;
+
+        /**
+         * {@code quote} is instance that memorizes the quote currency of the product
+         */
+        private final String quote;
+
+        /**
+         * {@code quoteIncrement} is instance that memorizes the min increment of the price
+         */
+        private final double quoteIncrement;
+
+        /**
+         * {@code baseIncrement} is instance that memorizes the min increment of the size
+         */
+        private final double baseIncrement;
+
+        /**
+         * {@code minMarketFunds} is instance that memorizes the min funds of a market order
+         */
+        private final double minMarketFunds;
+
+        /**
+         * {@code sequence} is instance that memorizes the sequence of the book
+         */
+        private final AtomicLong sequence = new AtomicLong(1);
+
+        /**
+         * {@code price} is instance that memorizes the current price
+         */
+        private volatile double price;
+
+        /**
+         * Constructor to init a {@link Product}
+         *
+         * @param id:             identifier of the product
+         * @param base:           base currency of the product
+         * @param quote:          quote currency of the product
+         * @param price:          current price
+         * @param quoteIncrement: min increment of the price
+         * @param baseIncrement:  min increment of the size
+         * @param minMarketFunds: min funds of a market order
+         */
+        private Product(String id, String base, String quote, double price, double quoteIncrement,
+                        double baseIncrement, double minMarketFunds) {
+            this.id = id;
+            this.base = base;
+            this.quote = quote;
+            this.price = price;
+            this.quoteIncrement = quoteIncrement;
+            this.baseIncrement = baseIncrement;
+            this.minMarketFunds = minMarketFunds;
+        }
+
+        /**
+         * Method to get the product formatted as the {@code "Coinbase"} ones <br>
+         * No-any params required
+         *
+         * @return product as {@link JSONObject}
+         */
+        private JSONObject toJSON() {
+            return new JSONObject()
+                    .put("id", id)
+                    .put("base_currency", base)
+                    .put("quote_currency", quote)
+                    .put("quote_increment", decimal(quoteIncrement))
+                    .put("base_increment", decimal(baseIncrement))
+                    .put("display_name", base + "/" + quote)
+                    .put("min_market_funds", decimal(minMarketFunds))
+                    .put("margin_enabled", false)
+                    .put("post_only", false)
+                    .put("limit_only", false)
+                    .put("cancel_only", false)
+                    .put("status", "online")
+                    .put("status_message", "")
+                    .put("trading_disabled", false)
+                    .put("fx_stablecoin", false)
+                    .put("max_slippage_percentage", "0.02000000")
+                    .put("auction_mode", false)
+                    .put("high_bid_limit_percentage", "");
+        }
+
+    }
+
+}
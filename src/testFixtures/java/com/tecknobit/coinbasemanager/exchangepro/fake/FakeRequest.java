@@ -0,0 +1,162 @@
+package com.tecknobit.coinbasemanager.exchangepro.fake;
+
+import org.json.JSONObject;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code FakeRequest} class is useful to describe a request received by the {@link FakeCoinbaseExchange} to its
+ * routes
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see FakeCoinbaseExchange
+ */
+public class FakeRequest {
+
+    /**
+     * {@code method} is instance that memorizes the method HTTP of the request
+     */
+    private final String method;
+
+    /**
+     * {@code path} is instance that memorizes the path of the request without its query params
+     */
+    private final String path;
+
+    /**
+     * {@code queryParams} is instance that memorizes the query params of the request
+     */
+    private final Map<String, String> queryParams;
+
+    /**
+     * {@code pathParams} is instance that memorizes the values of the placeholders of the route matched
+     */
+    private final Map<String, String> pathParams;
+
+    /**
+     * {@code body} is instance that memorizes the body of the request, empty if it has not a body
+     */
+    private final String body;
+
+    /**
+     * {@code jBody} is instance that memorizes the body of the request parsed, created when requested
+     */
+    private JSONObject jBody;
+
+    /**
+     * Constructor to init a {@link FakeRequest}
+     *
+     * @param method:     method HTTP of the request
+     * @param path:       path of the request without its query params
+     * @param query:      raw query of the request, {@code null} if it has not query params
+     * @param pathParams: values of the placeholders of the route matched
+     * @param body:       body of the request, empty if it has not a body
+     */
+    public FakeRequest(String method, String path, String query, Map<String, String> pathParams, String body) {
+        this.method = method;
+        this.path = path;
+        this.pathParams = pathParams;
+        this.body = body;
+        queryParams = parseQuery(query);
+    }
+
+    /**
+     * Method to parse a raw query
+     *
+     * @param query: raw query to parse, can be {@code null}
+     * @return query params as {@link Map} of {@link String}
+     */
+    private static Map<String, String> parseQuery(String query) {
+        if (query == null || query.isEmpty())
+            return Collections.emptyMap();
+        HashMap<String, String> params = new HashMap<>();
+        for (String param : query.split("&")) {
+            int separator = param.indexOf('=');
+            if (separator < 0)
+                params.put(URLDecoder.decode(param, StandardCharsets.UTF_8), "");
+            else {
+                params.put(URLDecoder.decode(param.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(param.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link String}
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #path} instance <br>
+     * No-any params required
+     *
+     * @return {@link #path} instance as {@link String}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Method to get a query param of the request
+     *
+     * @param name: name of the query param
+     * @return value of the query param as {@link String}, {@code null} if not sent
+     */
+    public String getQueryParam(String name) {
+        return queryParams.get(name);
+    }
+
+    /**
+     * Method to get a query param of the request
+     *
+     * @param name:         name of the query param
+     * @param defaultValue: value to return when the query param has not been sent
+     * @return value of the query param as {@link String}
+     */
+    public String getQueryParam(String name, String defaultValue) {
+        return queryParams.getOrDefault(name, defaultValue);
+    }
+
+    /**
+     * Method to get the value of a placeholder of the route matched
+     *
+     * @param name: name of the placeholder es. product_id
+     * @return value of the placeholder as {@link String}
+     */
+    public String getPathParam(String name) {
+        return pathParams.get(name);
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as {@link String}
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Method to get the body of the request parsed <br>
+     * No-any params required
+     *
+     * @return body of the request as {@link JSONObject}, empty if it has not a body
+     */
+    public JSONObject getJSONBody() {
+        if (jBody == null)
+            jBody = body.isEmpty() ? new JSONObject() : new JSONObject(body);
+        return jBody;
+    }
+
+}
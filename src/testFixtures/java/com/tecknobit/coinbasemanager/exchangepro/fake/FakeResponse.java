@@ -0,0 +1,86 @@
+package com.tecknobit.coinbasemanager.exchangepro.fake;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * The {@code FakeResponse} class is useful to describe a response sent by the {@link FakeCoinbaseExchange}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see FakeCoinbaseExchange
+ */
+public class FakeResponse {
+
+    /**
+     * {@code statusCode} is instance that memorizes the status code of the response
+     */
+    private final int statusCode;
+
+    /**
+     * {@code body} is instance that memorizes the body of the response
+     */
+    private final String body;
+
+    /**
+     * Constructor to init a {@link FakeResponse}
+     *
+     * @param statusCode: status code of the response
+     * @param body:       body of the response
+     */
+    public FakeResponse(int statusCode, String body) {
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    /**
+     * Method to create a successful response
+     *
+     * @param body: body of the response
+     * @return response as {@link FakeResponse}
+     */
+    public static FakeResponse ok(JSONObject body) {
+        return new FakeResponse(200, body.toString());
+    }
+
+    /**
+     * Method to create a successful response
+     *
+     * @param body: body of the response
+     * @return response as {@link FakeResponse}
+     */
+    public static FakeResponse ok(JSONArray body) {
+        return new FakeResponse(200, body.toString());
+    }
+
+    /**
+     * Method to create an error response formatted as the {@code "Coinbase"} ones es. {"message": "NotFound"}
+     *
+     * @param statusCode: status code of the response
+     * @param message:    message of the error
+     * @return response as {@link FakeResponse}
+     */
+    public static FakeResponse error(int statusCode, String message) {
+        return new FakeResponse(statusCode, new JSONObject().put("message", message).toString());
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as {@link String}
+     */
+    public String getBody() {
+        return body;
+    }
+
+}